@@ -0,0 +1 @@
+java -classpath "benchmarks\bin;bin;lib\*;benchmarks\lib\*" org.openjdk.jmh.Main %*
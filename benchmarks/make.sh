@@ -0,0 +1 @@
+javac -source 1.8 -d benchmarks/bin -classpath "bin:lib/*:benchmarks/lib/*" benchmarks/src/com/dandymadeproductions/ajqvue/benchmarks/*.java
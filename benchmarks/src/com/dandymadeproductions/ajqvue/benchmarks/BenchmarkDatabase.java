@@ -0,0 +1,582 @@
+//=================================================================
+//                      BenchmarkDatabase
+//=================================================================
+//
+//    This class provides the in-memory H2, HSQL, SQLite, & Derby
+// databases, loaded from the test fixtures, that are used by the
+// Ajqvue benchmarks.
+//
+//                  << BenchmarkDatabase.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial BenchmarkDatabase Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.benchmarks;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Random;
+
+import com.dandymadeproductions.ajqvue.Ajqvue;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionInstance;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionProperties;
+import com.dandymadeproductions.ajqvue.datasource.DatabaseProperties;
+import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel;
+import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_Derby;
+import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_Generic;
+import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_HSQL;
+import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_SQLite;
+import com.dandymadeproductions.ajqvue.io.SQLScriptReader;
+import com.dandymadeproductions.ajqvue.utilities.AResourceBundle;
+import com.dandymadeproductions.ajqvue.utilities.Utils;
+
+/**
+ *    The BenchmarkDatabase class provides the in-memory H2, HSQL, SQLite,
+ * & Derby databases used by the Ajqvue benchmarks. The type fixture of
+ * the database from the test directory is loaded for coverage of its
+ * data types, and a generated table of a given number of rows with the
+ * common numeric, character, & temporal types provides the volume. All
+ * content is generated from a fixed seed so runs are comparable. The
+ * H2 & HSQL file databases of the test directory may also be opened,
+ * from a copy so the fixtures are left as they are.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class BenchmarkDatabase
+{
+   // Class Instances.
+   private String database;
+   private String dataSourceType;
+   private ConnectionInstance connectionInstance;
+   private Connection dbConnection;
+   private boolean fileDatabase;
+
+   public static final String H2 = "h2";
+   public static final String HSQL = "hsql";
+   public static final String SQLITE = "sqlite";
+   public static final String DERBY = "derby";
+
+   public static final String TABLE = "BENCH_ROWS";
+   public static final String SINK_TABLE = "BENCH_SINK";
+   public static final String COLUMNS = "ID, NAME, AMOUNT, COUNTED, CREATED, MODIFIED, NOTE";
+
+   private static final String FIXTURES_DIRECTORY = "test";
+   private static final String FIXTURE_USER = "sa";
+   private static final String LOCALE = "en_US";
+   private static final long SEED = 20181018L;
+   private static final int INSERT_BATCH_SIZE = 1000;
+
+   //==============================================================
+   // BenchmarkDatabase Constructor
+   //==============================================================
+
+   public BenchmarkDatabase(String database) throws SQLException
+   {
+      this.database = database;
+
+      dataSourceType = getDataSourceType(database);
+      fileDatabase = false;
+      connectionInstance = new ConnectionInstance(dataSourceType, false, false);
+      dbConnection = connectionInstance.getConnection("BenchmarkDatabase");
+
+      if (dbConnection == null)
+         throw new SQLException("Unable to Open In-Memory Database: " + database);
+   }
+
+   //==============================================================
+   // BenchmarkDatabase Constructor, the file database fixture of
+   // the test directory copied to the given directory.
+   //==============================================================
+
+   public BenchmarkDatabase(String database, File directory) throws IOException, SQLException
+   {
+      // Constructor Instances.
+      ConnectionProperties connectionProperties;
+      Properties connectProperties;
+      String driver, subProtocol, db;
+
+      this.database = database;
+
+      dataSourceType = getDataSourceType(database);
+      fileDatabase = true;
+
+      if (database.equals(H2))
+      {
+         driver = ConnectionInstance.H2_DRIVER;
+         subProtocol = ConnectionInstance.H2_SUBPROTOCOL;
+         db = copyFixture(database, directory);
+      }
+      else if (database.equals(HSQL))
+      {
+         driver = ConnectionInstance.HSQL2_DRIVER;
+         subProtocol = ConnectionInstance.HSQL2_SUBPROTOCOL;
+         db = "file:" + copyFixture(database, directory);
+      }
+      else
+         throw new IllegalArgumentException("No File Fixture for Benchmark Database: " + database);
+
+      connectProperties = new Properties();
+      connectProperties.setProperty("user", FIXTURE_USER);
+      connectProperties.setProperty("password", "");
+
+      connectionProperties = new ConnectionProperties();
+      connectionProperties.setProperties(connectProperties);
+      connectionProperties.setProperty(ConnectionProperties.DRIVER, driver);
+      connectionProperties.setProperty(ConnectionProperties.PROTOCOL, ConnectionInstance.PROTOCOL);
+      connectionProperties.setProperty(ConnectionProperties.SUBPROTOCOL, subProtocol);
+      connectionProperties.setProperty(ConnectionProperties.HOST, ConnectionInstance.LOCALHOST);
+      connectionProperties.setProperty(ConnectionProperties.PORT, "");
+      connectionProperties.setProperty(ConnectionProperties.DB, db);
+      connectionProperties.setProperty(ConnectionProperties.USER, FIXTURE_USER);
+      connectionProperties.setProperty(ConnectionProperties.PASSWORD, "");
+
+      connectionInstance = new ConnectionInstance(connectionProperties, false, false);
+      dbConnection = connectionInstance.getConnection("BenchmarkDatabase");
+
+      if (dbConnection == null)
+         throw new SQLException("Unable to Open Fixture Database: " + database);
+   }
+
+   //==============================================================
+   // Class methods to map a benchmark database parameter to its
+   // data source type & test fixture script.
+   //==============================================================
+
+   public static String getDataSourceType(String database)
+   {
+      if (database.equals(H2))
+         return ConnectionInstance.H2;
+      else if (database.equals(HSQL))
+         return ConnectionInstance.HSQL2;
+      else if (database.equals(SQLITE))
+         return ConnectionInstance.SQLITE;
+      else if (database.equals(DERBY))
+         return ConnectionInstance.DERBY;
+      else
+         throw new IllegalArgumentException("Unknown Benchmark Database: " + database);
+   }
+
+   public static String getFixtureScript(String database)
+   {
+      if (database.equals(H2))
+         return "h2Types.sql";
+      else if (database.equals(HSQL))
+         return "hsqlTypes_loadTest_2.0.sql";
+      else if (database.equals(SQLITE))
+         return "sqliteTypes_loadTest.sql";
+      else
+         return "derbyTypes_loadTest.sql";
+   }
+
+   //==============================================================
+   // Class methods to map a benchmark database parameter to its
+   // file database fixture, directory & database name, and to copy
+   // the fixture's files to a directory, returning the path of the
+   // copied database.
+   //==============================================================
+
+   public static String[] getFixtureDatabase(String database)
+   {
+      if (database.equals(H2))
+         return new String[] {"h2_db", "h2_datatypes"};
+      else if (database.equals(HSQL))
+         return new String[] {"hsql_db", "sampledata"};
+      else
+         throw new IllegalArgumentException("No File Fixture for Benchmark Database: " + database);
+   }
+
+   private static String copyFixture(String database, File directory) throws IOException
+   {
+      // Method Instances
+      String[] fixtureDatabase;
+      File[] fixtureFiles;
+
+      fixtureDatabase = getFixtureDatabase(database);
+      fixtureFiles = new File(FIXTURES_DIRECTORY + Utils.getFileSeparator()
+                              + fixtureDatabase[0]).listFiles();
+
+      if (fixtureFiles == null)
+         throw new IOException("Fixture Directory Not Found: " + fixtureDatabase[0]);
+
+      for (int i = 0; i < fixtureFiles.length; i++)
+      {
+         if (fixtureFiles[i].getName().startsWith(fixtureDatabase[1] + "."))
+            Files.copy(fixtureFiles[i].toPath(), new File(directory, fixtureFiles[i].getName()).toPath());
+      }
+      return directory.getAbsolutePath() + Utils.getFileSeparator() + fixtureDatabase[1];
+   }
+
+   //==============================================================
+   // Class method to load the database's type fixture from the test
+   // directory. Statements the in-memory database does not accept,
+   // ie. a DROP of a table not yet there, are passed over as an
+   // import would. Returns the number of statements executed.
+   //==============================================================
+
+   public int loadFixture() throws IOException, SQLException
+   {
+      // Method Instances
+      Reader reader;
+      SQLScriptReader scriptReader;
+      Statement sqlStatement;
+      String statement;
+      int executed;
+
+      reader = new InputStreamReader(new FileInputStream(FIXTURES_DIRECTORY + Utils.getFileSeparator()
+                                                         + getFixtureScript(database)),
+                                     StandardCharsets.UTF_8);
+      sqlStatement = null;
+      executed = 0;
+
+      try
+      {
+         scriptReader = new SQLScriptReader(reader, false, false, null);
+         sqlStatement = dbConnection.createStatement();
+
+         while ((statement = scriptReader.nextStatement()) != null)
+         {
+            try
+            {
+               sqlStatement.execute(statement);
+               executed++;
+            }
+            catch (SQLException e)
+            {
+               if (Ajqvue.getDebug())
+                  System.out.println("BenchmarkDatabase loadFixture() " + e.getMessage());
+            }
+         }
+      }
+      finally
+      {
+         if (sqlStatement != null)
+            sqlStatement.close();
+         reader.close();
+      }
+      return executed;
+   }
+
+   //==============================================================
+   // Class method to create, or recreate, a table of the benchmark
+   // columns holding the given number of generated rows.
+   //==============================================================
+
+   public void createTable(String tableName, int rows) throws SQLException
+   {
+      // Method Instances
+      Statement sqlStatement;
+      PreparedStatement insertStatement;
+      Random random;
+      boolean autoCommit;
+      long baseTime;
+
+      sqlStatement = dbConnection.createStatement();
+
+      try
+      {
+         try
+         {
+            sqlStatement.execute("DROP TABLE " + tableName);
+         }
+         catch (SQLException e)
+         {
+            // Not there yet.
+         }
+
+         sqlStatement.execute("CREATE TABLE " + tableName + " (ID INTEGER NOT NULL PRIMARY KEY, "
+                              + "NAME VARCHAR(64), AMOUNT DOUBLE, COUNTED BIGINT, CREATED DATE, "
+                              + "MODIFIED TIMESTAMP, NOTE VARCHAR(255))");
+      }
+      finally
+      {
+         sqlStatement.close();
+      }
+
+      if (rows <= 0)
+         return;
+
+      // Fill with generated rows.
+
+      autoCommit = dbConnection.getAutoCommit();
+      dbConnection.setAutoCommit(false);
+      insertStatement = dbConnection.prepareStatement("INSERT INTO " + tableName + " (" + COLUMNS
+                                                      + ") VALUES (?, ?, ?, ?, ?, ?, ?)");
+      random = new Random(SEED);
+      baseTime = Timestamp.valueOf("2010-01-01 00:00:00").getTime();
+
+      try
+      {
+         for (int i = 0; i < rows; i++)
+         {
+            insertStatement.setInt(1, i);
+            insertStatement.setString(2, "name_" + Integer.toString(random.nextInt(rows), 36));
+            insertStatement.setDouble(3, Math.round(random.nextDouble() * 1000000.0) / 100.0);
+            insertStatement.setLong(4, random.nextLong() >> 16);
+            insertStatement.setDate(5, new Date(baseTime + (random.nextInt(3650) * 86400000L)));
+            insertStatement.setTimestamp(6, new Timestamp(baseTime + (random.nextLong() & 0xFFFFFFFFFL)));
+
+            if (i % 10 == 0)
+               insertStatement.setNull(7, java.sql.Types.VARCHAR);
+            else
+               insertStatement.setString(7, createNote(random, i));
+
+            insertStatement.addBatch();
+
+            if ((i + 1) % INSERT_BATCH_SIZE == 0)
+               insertStatement.executeBatch();
+         }
+         if (rows % INSERT_BATCH_SIZE != 0)
+            insertStatement.executeBatch();
+         dbConnection.commit();
+      }
+      catch (SQLException e)
+      {
+         dbConnection.rollback();
+         throw e;
+      }
+      finally
+      {
+         insertStatement.close();
+         dbConnection.setAutoCommit(autoCommit);
+      }
+   }
+
+   //==============================================================
+   // Class method to create a note of text, with the quotes and the
+   // statement ending, ;\n, a dump must escape.
+   //==============================================================
+
+   private static String createNote(Random random, int row)
+   {
+      // Method Instances
+      StringBuilder note;
+      int words;
+
+      note = new StringBuilder();
+      words = 3 + random.nextInt(12);
+
+      for (int i = 0; i < words; i++)
+      {
+         switch (random.nextInt(8))
+         {
+            case 0:
+               note.append("it's ");
+               break;
+            case 1:
+               note.append("'quoted' ");
+               break;
+            case 2:
+               note.append("end;\n");
+               break;
+            case 3:
+               note.append("\"double\", ");
+               break;
+            default:
+               note.append("word").append(row % 97).append(' ');
+         }
+      }
+      return note.toString();
+   }
+
+   //==============================================================
+   // Class method to select the rows of a query, as the JDBC driver
+   // presents them.
+   //==============================================================
+
+   public ArrayList<Object[]> selectRows(String query) throws SQLException
+   {
+      // Method Instances
+      Statement sqlStatement;
+      ResultSet resultSet;
+      ResultSetMetaData metaData;
+      ArrayList<Object[]> rows;
+      Object[] row;
+
+      rows = new ArrayList <Object[]>();
+      sqlStatement = dbConnection.createStatement();
+
+      try
+      {
+         resultSet = sqlStatement.executeQuery(query);
+         metaData = resultSet.getMetaData();
+
+         while (resultSet.next())
+         {
+            row = new Object[metaData.getColumnCount()];
+
+            for (int i = 0; i < row.length; i++)
+               row[i] = resultSet.getObject(i + 1);
+            rows.add(row);
+         }
+         resultSet.close();
+      }
+      finally
+      {
+         sqlStatement.close();
+      }
+      return rows;
+   }
+
+   //==============================================================
+   // Class method to select the values of a DATE column in the
+   // standard database format, yyyy-MM-dd.
+   //==============================================================
+
+   public ArrayList<String> selectDates(String tableName, String columnName) throws SQLException
+   {
+      // Method Instances
+      Statement sqlStatement;
+      ResultSet resultSet;
+      ArrayList<String> dates;
+      Date date;
+
+      dates = new ArrayList <String>();
+      sqlStatement = dbConnection.createStatement();
+
+      try
+      {
+         resultSet = sqlStatement.executeQuery("SELECT " + columnName + " FROM " + tableName);
+
+         while (resultSet.next())
+         {
+            date = resultSet.getDate(1);
+
+            if (date != null)
+               dates.add(date.toString());
+         }
+         resultSet.close();
+      }
+      finally
+      {
+         sqlStatement.close();
+      }
+      return dates;
+   }
+
+   //==============================================================
+   // Class method to make this database the one the application is
+   // connected to, so its panels & threads may be created as if
+   // logged in. A file database is connected to by the application
+   // as any other, an in-memory one only by this connection.
+   //==============================================================
+
+   public void install() throws SQLException
+   {
+      // Method Instances
+      DatabaseProperties databaseProperties;
+
+      if (Ajqvue.getResourceBundle() == null)
+      {
+         Ajqvue.setResourceBundle(new AResourceBundle("file:" + Utils.getAjqvueDirectory()
+                                                      + Utils.getFileSeparator()), LOCALE);
+      }
+
+      ConnectionManager.setConnectionProperties(connectionInstance.getConnectionProperties());
+
+      databaseProperties = new DatabaseProperties(connectionInstance.getConnectionProperties());
+      databaseProperties.init(dbConnection);
+      ConnectionManager.setDatabaseProperties(databaseProperties);
+      databaseProperties.loadDBTables(dbConnection);
+
+      if (!fileDatabase)
+         ConnectionManager.setMemoryConnection(dbConnection);
+   }
+
+   //==============================================================
+   // Class method to create the summary table panel of the given
+   // table, as the DBTablesPanel would for the installed database.
+   //==============================================================
+
+   public TableTabPanel createTableTabPanel(String tableName)
+   {
+      // Method Instances
+      String sqlTable;
+
+      sqlTable = tableName;
+
+      // The loaded name, possibly schema qualified.
+      for (String name : ConnectionManager.getTableNames())
+      {
+         if (name.toUpperCase(Locale.ENGLISH).endsWith(tableName))
+            sqlTable = name;
+      }
+
+      if (dataSourceType.indexOf(ConnectionInstance.HSQL) != -1)
+         return new TableTabPanel_HSQL(sqlTable, dbConnection, true);
+      else if (dataSourceType.equals(ConnectionInstance.SQLITE))
+         return new TableTabPanel_SQLite(sqlTable, dbConnection, true);
+      else if (dataSourceType.equals(ConnectionInstance.DERBY))
+         return new TableTabPanel_Derby(sqlTable, dbConnection, true);
+      else
+         return new TableTabPanel_Generic(sqlTable, dbConnection, true);
+   }
+
+   //==============================================================
+   // Class method to close the database.
+   //==============================================================
+
+   public void close()
+   {
+      connectionInstance.shutdown("BenchmarkDatabase close()");
+   }
+
+   //==============================================================
+   // Class methods to get the connection instance & connection of
+   // the database.
+   //==============================================================
+
+   public ConnectionInstance getConnectionInstance()
+   {
+      return connectionInstance;
+   }
+
+   public Connection getConnection()
+   {
+      return dbConnection;
+   }
+}
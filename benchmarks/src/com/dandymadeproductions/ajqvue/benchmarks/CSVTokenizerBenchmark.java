@@ -0,0 +1,156 @@
+//=================================================================
+//                    CSVTokenizerBenchmark
+//=================================================================
+//
+//    This class provides the benchmark of the tokenizing of the
+// records of a CSV file as imported by the CSVDataImportThread.
+//
+//                 << CSVTokenizerBenchmark.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial CSVTokenizerBenchmark Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dandymadeproductions.ajqvue.io.CSVTokenizer;
+
+/**
+ *    The CSVTokenizerBenchmark class provides the benchmark of the
+ * CSVTokenizer the CSVDataImportThread reads records with. The CSV
+ * content is that of a table as read from the database, with quoted
+ * fields holding delimiters, quotes, & line breaks.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CSVTokenizerBenchmark
+{
+   // Class Instances.
+   @Param({"h2", "hsql", "sqlite", "derby"})
+   public String database;
+
+   @Param({",", "\t"})
+   public String delimiter;
+
+   @Param({"10000"})
+   public int tableRows;
+
+   private String csvContent;
+
+   //==============================================================
+   // Class method to write the table's rows as CSV content.
+   //==============================================================
+
+   @Setup(Level.Trial)
+   public void setup() throws Exception
+   {
+      // Method Instances
+      BenchmarkDatabase benchmarkDatabase;
+      ArrayList<Object[]> rows;
+      StringBuilder content;
+      String field;
+
+      benchmarkDatabase = new BenchmarkDatabase(database);
+
+      try
+      {
+         benchmarkDatabase.createTable(BenchmarkDatabase.TABLE, tableRows);
+         rows = benchmarkDatabase.selectRows("SELECT " + BenchmarkDatabase.COLUMNS + " FROM "
+                                             + BenchmarkDatabase.TABLE);
+      }
+      finally
+      {
+         benchmarkDatabase.close();
+      }
+
+      content = new StringBuilder(BenchmarkDatabase.COLUMNS.replaceAll(", ", delimiter)).append('\n');
+
+      for (Object[] row : rows)
+      {
+         for (int i = 0; i < row.length; i++)
+         {
+            field = (row[i] == null) ? "" : row[i].toString();
+
+            if (field.indexOf(delimiter) != -1 || field.indexOf('"') != -1 || field.indexOf('\n') != -1)
+               field = "\"" + field.replaceAll("\"", "\"\"") + "\"";
+
+            content.append(i == 0 ? "" : delimiter).append(field);
+         }
+         content.append('\n');
+      }
+      csvContent = content.toString();
+   }
+
+   //==============================================================
+   // Benchmarks
+   //==============================================================
+
+   @Benchmark
+   public int tokenize() throws IOException
+   {
+      // Method Instances
+      CSVTokenizer csvTokenizer;
+      ArrayList<String> fields;
+      int fieldCount;
+
+      csvTokenizer = new CSVTokenizer(new StringReader(csvContent), delimiter);
+      fields = new ArrayList <String>();
+      fieldCount = 0;
+
+      while (csvTokenizer.nextRecord(fields))
+         fieldCount += fields.size();
+
+      return fieldCount;
+   }
+}
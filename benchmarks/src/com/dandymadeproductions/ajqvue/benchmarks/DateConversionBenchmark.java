@@ -0,0 +1,138 @@
+//=================================================================
+//                   DateConversionBenchmark
+//=================================================================
+//
+//    This class provides the benchmark of the Utils conversions of
+// dates between the database & the selected view date formats.
+//
+//                << DateConversionBenchmark.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial DateConversionBenchmark Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.dandymadeproductions.ajqvue.utilities.Utils;
+
+/**
+ *    The DateConversionBenchmark class provides the benchmark of the
+ * Utils conversions of the dates of a table, as read from the database,
+ * to the view date format & back to the database format.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateConversionBenchmark
+{
+   // Class Instances.
+   @Param({"h2", "hsql", "sqlite", "derby"})
+   public String database;
+
+   // Utils MMddyyyy_DASH, ddMMMyyyy_DASH, yyyyMMdd_SLASH.
+   @Param({"MM-dd-yyyy", "dd-MMM-yyyy", "yyyy/MM/dd"})
+   public String dateFormat;
+
+   @Param({"10000"})
+   public int tableRows;
+
+   private String[] dbDates;
+   private String[] viewDates;
+
+   //==============================================================
+   // Class method to collect the dates in both formats.
+   //==============================================================
+
+   @Setup(Level.Trial)
+   public void setup() throws Exception
+   {
+      // Method Instances
+      BenchmarkDatabase benchmarkDatabase;
+      ArrayList<String> dates;
+
+      benchmarkDatabase = new BenchmarkDatabase(database);
+
+      try
+      {
+         benchmarkDatabase.createTable(BenchmarkDatabase.TABLE, tableRows);
+         dates = benchmarkDatabase.selectDates(BenchmarkDatabase.TABLE, "CREATED");
+      }
+      finally
+      {
+         benchmarkDatabase.close();
+      }
+
+      dbDates = dates.toArray(new String[dates.size()]);
+      viewDates = new String[dbDates.length];
+
+      for (int i = 0; i < dbDates.length; i++)
+         viewDates[i] = Utils.convertDBDateString_To_ViewDateString(dbDates[i], dateFormat);
+   }
+
+   //==============================================================
+   // Benchmarks
+   //==============================================================
+
+   @Benchmark
+   public void toViewDate(Blackhole blackhole)
+   {
+      for (int i = 0; i < dbDates.length; i++)
+         blackhole.consume(Utils.convertDBDateString_To_ViewDateString(dbDates[i], dateFormat));
+   }
+
+   @Benchmark
+   public void toDBDate(Blackhole blackhole)
+   {
+      for (int i = 0; i < viewDates.length; i++)
+         blackhole.consume(Utils.convertViewDateString_To_DBDateString(viewDates[i], dateFormat));
+   }
+}
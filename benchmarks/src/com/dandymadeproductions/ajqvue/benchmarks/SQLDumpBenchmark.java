@@ -0,0 +1,247 @@
+//=================================================================
+//                      SQLDumpBenchmark
+//=================================================================
+//
+//    This class provides the benchmark of the SQL database dump of
+// the test file database fixtures by the application's dump thread,
+// SQLDatabaseDumpThread, & its DumpWriter.
+//
+//                  << SQLDumpBenchmark.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial SQLDumpBenchmark Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.benchmarks;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.gui.panels.DBTablesPanel;
+import com.dandymadeproductions.ajqvue.io.SQLDatabaseDumpThread;
+import com.dandymadeproductions.ajqvue.structures.DataExportProperties;
+import com.dandymadeproductions.ajqvue.structures.DataImportProperties;
+import com.dandymadeproductions.ajqvue.structures.GeneralDBProperties;
+import com.dandymadeproductions.ajqvue.utilities.ProgressReporter;
+import com.dandymadeproductions.ajqvue.utilities.Utils;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
+
+/**
+ *    The SQLDumpBenchmark class provides the benchmark of the SQL database
+ * dump of a test directory file database fixture, h2_db or hsql_db, with
+ * the generated table added for volume. The dump is that of the batch
+ * dump, the application's SQLDatabaseDumpThread writing through its
+ * DumpWriter with the default export options, run to completion for
+ * each operation. The rows & encoded bytes of each dump are taken from
+ * the dump's throughput meter counters, reported by the DumpRates as
+ * rows/s & bytes/s and by the DumpSizes as the bytes per row. Run with
+ * -prof gc for the bytes allocated per dump.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SQLDumpBenchmark
+{
+   // Class Instances.
+   @Param({"h2", "hsql"})
+   public String database;
+
+   @Param({"10000"})
+   public int tableRows;
+
+   @Param({"1", "2"})
+   public int dumpWorkers;
+
+   private File dumpDirectory;
+   private BenchmarkDatabase benchmarkDatabase;
+   private String fileName;
+   private LongAdder dumpedRows;
+   private LongAdder dumpedBytes;
+   private long dumpRows;
+
+   //==============================================================
+   // Class methods to open a copy of the fixture with the generated
+   // table as the application's database, & to close & remove it.
+   //==============================================================
+
+   @Setup(Level.Trial)
+   public void setup() throws Exception
+   {
+      // Method Instances
+      GeneralDBProperties generalDBProperties;
+
+      dumpDirectory = Files.createTempDirectory("ajqvue_dump").toFile();
+      fileName = dumpDirectory.getAbsolutePath() + Utils.getFileSeparator() + "dump.sql";
+
+      benchmarkDatabase = new BenchmarkDatabase(database, dumpDirectory);
+      benchmarkDatabase.createTable(BenchmarkDatabase.TABLE, tableRows);
+      benchmarkDatabase.install();
+
+      generalDBProperties = new GeneralDBProperties();
+      generalDBProperties.setDumpWorkers(dumpWorkers);
+
+      DBTablesPanel.setDataExportProperties(new DataExportProperties());
+      DBTablesPanel.setDataImportProperties(new DataImportProperties());
+      DBTablesPanel.setGeneralDBProperties(generalDBProperties);
+      ProgressReporter.setReportMode(ProgressReporter.NONE);
+
+      dumpedRows = MetricsRegistry.getCounter(MetricsRegistry.DUMP_SQL_DATABASE + ".rows");
+      dumpedBytes = MetricsRegistry.getCounter(MetricsRegistry.DUMP_SQL_DATABASE + ".bytes");
+
+      // Each dump must write the rows of the first, & the bytes
+      // counted be those of the file.
+
+      dumpRows = dumpedRows.sum();
+      new SQLDatabaseDumpThread(fileName).run();
+      dumpRows = dumpedRows.sum() - dumpRows;
+
+      if (dumpRows < tableRows)
+         throw new IllegalStateException("Incomplete Dump, Rows: " + dumpRows);
+   }
+
+   @TearDown(Level.Trial)
+   public void tearDown()
+   {
+      // Method Instances
+      File[] dumpFiles;
+
+      ConnectionManager.shutdown("SQLDumpBenchmark tearDown()");
+      benchmarkDatabase.close();
+
+      dumpFiles = dumpDirectory.listFiles();
+
+      if (dumpFiles != null)
+      {
+         for (int i = 0; i < dumpFiles.length; i++)
+            dumpFiles[i].delete();
+      }
+      dumpDirectory.delete();
+   }
+
+   //==============================================================
+   // Benchmarks
+   //==============================================================
+
+   @Benchmark
+   public long dump(DumpRates dumpRates, DumpSizes dumpSizes)
+   {
+      // Method Instances
+      long rows, bytes;
+
+      rows = dumpedRows.sum();
+      bytes = dumpedBytes.sum();
+
+      new SQLDatabaseDumpThread(fileName).run();
+
+      rows = dumpedRows.sum() - rows;
+      bytes = dumpedBytes.sum() - bytes;
+
+      if (rows != dumpRows || bytes != new File(fileName).length())
+         throw new IllegalStateException("Dump Differs, Rows: " + rows + " Bytes: " + bytes);
+
+      dumpRates.rows += rows;
+      dumpRates.bytes += bytes;
+      dumpSizes.add(rows, bytes);
+
+      return bytes;
+   }
+
+   //==============================================================
+   // Class to count the rows & bytes dumped, reported as rates.
+   //==============================================================
+
+   @State(Scope.Thread)
+   @AuxCounters(AuxCounters.Type.OPERATIONS)
+   public static class DumpRates
+   {
+      public long rows;
+      public long bytes;
+
+      @Setup(Level.Iteration)
+      public void clear()
+      {
+         rows = 0;
+         bytes = 0;
+      }
+   }
+
+   //==============================================================
+   // Class to report the bytes of the dump per row of an iteration.
+   //==============================================================
+
+   @State(Scope.Thread)
+   @AuxCounters(AuxCounters.Type.EVENTS)
+   public static class DumpSizes
+   {
+      public double bytesPerRow;
+      private long rows;
+      private long bytes;
+
+      @Setup(Level.Iteration)
+      public void clear()
+      {
+         bytesPerRow = 0;
+         rows = 0;
+         bytes = 0;
+      }
+
+      private void add(long dumpRows, long dumpBytes)
+      {
+         rows += dumpRows;
+         bytes += dumpBytes;
+
+         if (rows > 0)
+            bytesPerRow = (double) bytes / rows;
+      }
+   }
+}
@@ -0,0 +1,130 @@
+//=================================================================
+//                    SQLDumpEscapeBenchmark
+//=================================================================
+//
+//    This class provides the benchmark of the escaping of the
+// character content written by the SQL dumps.
+//
+//                << SQLDumpEscapeBenchmark.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial SQLDumpEscapeBenchmark Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.dandymadeproductions.ajqvue.io.SQLDump;
+
+/**
+ *    The SQLDumpEscapeBenchmark class provides the benchmark of the
+ * SQLDump addEscapes() of the character content of a table, as read
+ * from the database, that the SQL dumps quote.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLDumpEscapeBenchmark
+{
+   // Class Instances.
+   @Param({"h2", "hsql", "sqlite", "derby"})
+   public String database;
+
+   @Param({"10000"})
+   public int tableRows;
+
+   private SQLDump sqlDump;
+   private String[] contents;
+
+   //==============================================================
+   // Class method to collect the content to be escaped.
+   //==============================================================
+
+   @Setup(Level.Trial)
+   public void setup() throws Exception
+   {
+      // Method Instances
+      BenchmarkDatabase benchmarkDatabase;
+      ArrayList<Object[]> rows;
+
+      benchmarkDatabase = new BenchmarkDatabase(database);
+
+      try
+      {
+         benchmarkDatabase.createTable(BenchmarkDatabase.TABLE, tableRows);
+         rows = benchmarkDatabase.selectRows("SELECT NAME, NOTE FROM " + BenchmarkDatabase.TABLE);
+      }
+      finally
+      {
+         benchmarkDatabase.close();
+      }
+
+      contents = new String[rows.size() * 2];
+
+      for (int i = 0; i < rows.size(); i++)
+      {
+         contents[i * 2] = (String) rows.get(i)[0];
+         contents[(i * 2) + 1] = (String) rows.get(i)[1];
+      }
+      sqlDump = new SQLDump();
+   }
+
+   //==============================================================
+   // Benchmarks
+   //==============================================================
+
+   @Benchmark
+   public void addEscapes(Blackhole blackhole)
+   {
+      for (int i = 0; i < contents.length; i++)
+         blackhole.consume(sqlDump.addEscapes(contents[i]));
+   }
+}
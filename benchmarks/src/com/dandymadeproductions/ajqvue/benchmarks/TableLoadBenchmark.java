@@ -0,0 +1,120 @@
+//=================================================================
+//                      TableLoadBenchmark
+//=================================================================
+//
+//    This class provides the benchmark of the loading & decoding
+// of a page of a table into a TableTabPanel summary table.
+//
+//                  << TableLoadBenchmark.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial TableLoadBenchmark Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel;
+
+/**
+ *    The TableLoadBenchmark class provides the benchmark of the loading
+ * of a page of a table by the TableTabPanel of the database, the query,
+ * & the decoding of each column's values into the summary table.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableLoadBenchmark
+{
+   // Class Instances.
+   @Param({"h2", "hsql", "sqlite", "derby"})
+   public String database;
+
+   @Param({"50", "500"})
+   public int pageRows;
+
+   @Param({"10000"})
+   public int tableRows;
+
+   private BenchmarkDatabase benchmarkDatabase;
+   private TableTabPanel tableTabPanel;
+
+   //==============================================================
+   // Class method to create the database & the table's panel.
+   //==============================================================
+
+   @Setup(Level.Trial)
+   public void setup() throws Exception
+   {
+      benchmarkDatabase = new BenchmarkDatabase(database);
+      benchmarkDatabase.loadFixture();
+      benchmarkDatabase.createTable(BenchmarkDatabase.TABLE, tableRows);
+      benchmarkDatabase.install();
+
+      tableTabPanel = benchmarkDatabase.createTableTabPanel(BenchmarkDatabase.TABLE);
+      tableTabPanel.setTableRowSize(pageRows);
+   }
+
+   @TearDown(Level.Trial)
+   public void tearDown()
+   {
+      benchmarkDatabase.close();
+   }
+
+   //==============================================================
+   // Benchmarks
+   //==============================================================
+
+   @Benchmark
+   public boolean loadTable()
+   {
+      return tableTabPanel.loadTable(benchmarkDatabase.getConnection());
+   }
+}
@@ -0,0 +1,217 @@
+//=================================================================
+//                    TableSorterBenchmark
+//=================================================================
+//
+//    This class provides the benchmark of the sorting of the rows
+// of a summary table by the TableSorter.
+//
+//                 << TableSorterBenchmark.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial TableSorterBenchmark Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dandymadeproductions.ajqvue.utilities.ColumnarPage;
+import com.dandymadeproductions.ajqvue.utilities.ColumnarTableModel;
+import com.dandymadeproductions.ajqvue.utilities.TableSorter;
+
+/**
+ *    The TableSorterBenchmark class provides the benchmark of the
+ * TableSorter sorting a table's rows, as read from the database, by
+ * one of its columns. The rows are held either as Objects, as in the
+ * TableTabPanel, or in ColumnarPages, as in the SQLTabPanel.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableSorterBenchmark
+{
+   // Class Instances.
+   @Param({"h2", "hsql", "sqlite", "derby"})
+   public String database;
+
+   @Param({"object", "columnar"})
+   public String model;
+
+   // ID, NAME, AMOUNT, & MODIFIED.
+   @Param({"0", "1", "2", "5"})
+   public int column;
+
+   @Param({"100000"})
+   public int tableRows;
+
+   private TableSorter tableSorter;
+   private int direction;
+
+   //==============================================================
+   // Class method to read the table's rows into the model sorted.
+   //==============================================================
+
+   @Setup(Level.Trial)
+   public void setup() throws Exception
+   {
+      // Method Instances
+      BenchmarkDatabase benchmarkDatabase;
+      ArrayList<Object[]> rows;
+      String[] columnNames;
+
+      benchmarkDatabase = new BenchmarkDatabase(database);
+
+      try
+      {
+         benchmarkDatabase.createTable(BenchmarkDatabase.TABLE, tableRows);
+         rows = benchmarkDatabase.selectRows("SELECT " + BenchmarkDatabase.COLUMNS + " FROM "
+                                             + BenchmarkDatabase.TABLE);
+      }
+      finally
+      {
+         benchmarkDatabase.close();
+      }
+
+      columnNames = BenchmarkDatabase.COLUMNS.split(", ");
+
+      if (model.equals("columnar"))
+         tableSorter = new TableSorter(createColumnarModel(columnNames, rows));
+      else
+         tableSorter = new TableSorter(new DefaultTableModel(rows.toArray(new Object[rows.size()][]),
+                                                            columnNames));
+      direction = TableSorter.ASCENDING;
+   }
+
+   //==============================================================
+   // Class method to create a columnar model of the rows, the
+   // storage of each column given by its first value.
+   //==============================================================
+
+   private static TableModel createColumnarModel(String[] columnNames, ArrayList<Object[]> rows)
+   {
+      // Method Instances
+      ColumnarTableModel columnarTableModel;
+      ColumnarPage page;
+      int[] types;
+      DateTimeFormatter[] formatters;
+      Object value;
+      int row;
+
+      types = new int[columnNames.length];
+      formatters = new DateTimeFormatter[columnNames.length];
+
+      for (int i = 0; i < columnNames.length; i++)
+      {
+         value = null;
+
+         for (int j = 0; j < rows.size() && value == null; j++)
+            value = rows.get(j)[i];
+
+         if (value instanceof Double || value instanceof Float || value instanceof BigDecimal)
+            types[i] = ColumnarPage.DOUBLE;
+         else if (value instanceof Number)
+            types[i] = ColumnarPage.LONG;
+         else if (value instanceof java.util.Date)
+         {
+            types[i] = ColumnarPage.TEMPORAL;
+            formatters[i] = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+         }
+         else
+            types[i] = ColumnarPage.OBJECT;
+      }
+
+      page = new ColumnarPage(types, formatters, rows.size());
+
+      for (Object[] rowValues : rows)
+      {
+         row = page.addRow();
+
+         for (int i = 0; i < rowValues.length; i++)
+         {
+            value = rowValues[i];
+
+            if (value == null)
+               page.setNull(row, i);
+            else if (types[i] == ColumnarPage.LONG)
+               page.setLong(row, i, ((Number) value).longValue());
+            else if (types[i] == ColumnarPage.DOUBLE)
+               page.setDouble(row, i, ((Number) value).doubleValue());
+            else if (types[i] == ColumnarPage.TEMPORAL)
+               page.setLong(row, i, ((java.util.Date) value).getTime());
+            else
+               page.setObject(row, i, value);
+         }
+      }
+
+      columnarTableModel = new ColumnarTableModel("NULL");
+      columnarTableModel.setColumns(columnNames, types, formatters);
+      columnarTableModel.addPage(page);
+
+      return columnarTableModel;
+   }
+
+   //==============================================================
+   // Benchmarks, alternating the direction so every invocation
+   // sorts anew.
+   //==============================================================
+
+   @Benchmark
+   public int sort()
+   {
+      direction = -direction;
+      tableSorter.setSortingStatus(column, direction);
+
+      return tableSorter.modelIndex(0);
+   }
+}
@@ -0,0 +1,177 @@
+//=================================================================
+//                      TransferBenchmark
+//=================================================================
+//
+//    This class provides the benchmark of the transfer of a table
+// from one database to another by the SQLLoadThread feeding the
+// SQLInsertPrepareThread.
+//
+//                  << TransferBenchmark.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial TransferBenchmark Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.benchmarks;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dandymadeproductions.ajqvue.utilities.db.SQLInsertPrepareThread;
+import com.dandymadeproductions.ajqvue.utilities.db.SQLLoadThread;
+import com.dandymadeproductions.ajqvue.utilities.db.SQLQuery;
+import com.dandymadeproductions.ajqvue.utilities.db.TableRowElements;
+
+/**
+ *    The TransferBenchmark class provides the benchmark of the transfer
+ * of a table between two connections of a database, as the DB_To_DBThread
+ * does, a SQLLoadThread reading the source rows into the queue that a
+ * SQLInsertPrepareThread drains into the sink table. For SQLite the
+ * sink is a database of its own, the others share a named in-memory
+ * database.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TransferBenchmark
+{
+   // Class Instances.
+   @Param({"h2", "hsql", "sqlite", "derby"})
+   public String database;
+
+   @Param({"10000"})
+   public int tableRows;
+
+   @Param({"50", "1000"})
+   public int batchSize;
+
+   @Param({"1000"})
+   public int queueCapacity;
+
+   private BenchmarkDatabase sourceDatabase;
+   private BenchmarkDatabase sinkDatabase;
+   private SQLQuery sqlQuerySource;
+   private SQLQuery sqlQuerySink;
+
+   //==============================================================
+   // Class methods to create the source table & the sink table,
+   // emptied for each transfer.
+   //==============================================================
+
+   @Setup(Level.Trial)
+   public void setup() throws Exception
+   {
+      sourceDatabase = new BenchmarkDatabase(database);
+      sourceDatabase.createTable(BenchmarkDatabase.TABLE, tableRows);
+
+      sinkDatabase = new BenchmarkDatabase(database);
+      sinkDatabase.createTable(BenchmarkDatabase.SINK_TABLE, 0);
+
+      sqlQuerySource = new SQLQuery("SELECT " + BenchmarkDatabase.COLUMNS + " FROM "
+                                    + BenchmarkDatabase.TABLE);
+      if (sqlQuerySource.executeSQL(sourceDatabase.getConnection()) == -1)
+         throw new IllegalStateException("Invalid Source Query");
+
+      sqlQuerySink = new SQLQuery("SELECT " + BenchmarkDatabase.COLUMNS + " FROM "
+                                  + BenchmarkDatabase.SINK_TABLE, 1);
+      if (sqlQuerySink.executeSQL(sinkDatabase.getConnection()) == -1)
+         throw new IllegalStateException("Invalid Sink Query");
+   }
+
+   @Setup(Level.Invocation)
+   public void emptySink() throws Exception
+   {
+      sinkDatabase.createTable(BenchmarkDatabase.SINK_TABLE, 0);
+   }
+
+   @TearDown(Level.Trial)
+   public void tearDown()
+   {
+      sinkDatabase.close();
+      sourceDatabase.close();
+   }
+
+   //==============================================================
+   // Benchmarks
+   //==============================================================
+
+   @Benchmark
+   public long transfer() throws InterruptedException
+   {
+      // Method Instances
+      ArrayBlockingQueue<TableRowElements> tableRowDataQueue;
+      SQLLoadThread sqlLoadThread;
+      SQLInsertPrepareThread sqlInsertPrepareThread;
+      Thread loadThread, insertThread;
+
+      tableRowDataQueue = new ArrayBlockingQueue<TableRowElements>(queueCapacity, true);
+
+      sqlLoadThread = new SQLLoadThread(sourceDatabase.getConnectionInstance(), sqlQuerySource,
+                                        tableRowDataQueue, false, 1000, false, false);
+      sqlInsertPrepareThread = new SQLInsertPrepareThread(sqlLoadThread,
+                                                          sinkDatabase.getConnectionInstance(),
+                                                          sinkDatabase.getConnection(), sqlQuerySink,
+                                                          tableRowDataQueue,
+                                                          BenchmarkDatabase.SINK_TABLE, true, batchSize);
+
+      loadThread = new Thread(sqlLoadThread, "sqlLoadThread");
+      insertThread = new Thread(sqlInsertPrepareThread, "insertThread");
+
+      loadThread.start();
+      insertThread.start();
+
+      loadThread.join();
+      insertThread.join();
+
+      if (sqlInsertPrepareThread.getRowsInserted() != tableRows)
+         throw new IllegalStateException("Rows Inserted: " + sqlInsertPrepareThread.getRowsInserted());
+
+      return sqlInsertPrepareThread.getRowsInserted();
+   }
+}
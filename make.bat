@@ -1 +1 @@
-javac -source 1.8 -d bin -verbose -classpath lib\commons-net-ftp-3.6.jar;lib\itextpdf-5.5.12.jar src\com\dandymadeproductions\ajqvue\*.java src\com\dandymadeproductions\ajqvue\datasource\*.java src\com\dandymadeproductions\ajqvue\gui\*.java src\com\dandymadeproductions\ajqvue\gui\forms\*.java src\com\dandymadeproductions\ajqvue\gui\panels\*.java src\com\dandymadeproductions\ajqvue\gui\sprites\*.java src\com\dandymadeproductions\ajqvue\io\*.java src\com\dandymadeproductions\ajqvue\plugin\*.java src\com\dandymadeproductions\ajqvue\structures\*.java src\com\dandymadeproductions\ajqvue\utilities\*.java src\com\dandymadeproductions\ajqvue\utilities\db\*.java
+javac -source 1.8 -d bin -verbose -classpath lib\commons-net-ftp-3.6.jar;lib\itextpdf-5.5.12.jar src\com\dandymadeproductions\ajqvue\*.java src\com\dandymadeproductions\ajqvue\datasource\*.java src\com\dandymadeproductions\ajqvue\gui\*.java src\com\dandymadeproductions\ajqvue\gui\forms\*.java src\com\dandymadeproductions\ajqvue\gui\panels\*.java src\com\dandymadeproductions\ajqvue\gui\sprites\*.java src\com\dandymadeproductions\ajqvue\io\*.java src\com\dandymadeproductions\ajqvue\plugin\*.java src\com\dandymadeproductions\ajqvue\structures\*.java src\com\dandymadeproductions\ajqvue\utilities\*.java src\com\dandymadeproductions\ajqvue\utilities\db\*.java src\com\dandymadeproductions\ajqvue\utilities\metrics\*.java
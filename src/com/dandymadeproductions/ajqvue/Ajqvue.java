@@ -15,7 +15,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 2.0 07/30/2018
+// Version 2.1 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -52,6 +52,9 @@
 //                         Many Core Code Cleanup and Package Changes, utils.db. Updated
 //                         VERSION.
 //         2.00 07/30/2018 Ajqvue Release v2.0. Updated VERSION.
+//         2.1  10/18/2026 Added Class Method setResourceBundle(). Added Arguments -batch
+//                         to main() to Run AjqvueBatch Headless & -jfr to Enable the
+//                         Flight Recorder Events & Optional Recording.
 //                              
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -75,6 +78,7 @@ import com.dandymadeproductions.ajqvue.gui.Main_MouseAdapter;
 import com.dandymadeproductions.ajqvue.structures.GeneralProperties;
 import com.dandymadeproductions.ajqvue.utilities.AResourceBundle;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
+import com.dandymadeproductions.ajqvue.utilities.metrics.FlightRecording;
 
 //=================================================================
 //                      Ajqvue Application
@@ -87,10 +91,13 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * then the main framework for the application will be created through
  * the Main_Frame class to setup the main user interface.
  * 
- * Arguments -debug, -lang='locale'
+ * Arguments -debug, -lang='locale', -batch dump|import|transfer,
+ * the latter running headless with AjqvueBatch, & -jfr or -jfr='file'
+ * enabling the Flight Recorder events, the latter also recording them
+ * to the file.
  * 
  * @author Dana M. Proctor
- * @version 2.0 07/30/2018
+ * @version 2.1 10/18/2026
  */
 
 public class Ajqvue implements ActionListener
@@ -211,14 +218,22 @@ public class Ajqvue implements ActionListener
 
    //============================================================
    // Main public access point method for instantiating the
-   // application. Valid Arguments: -debug, -lang.
+   // application. Valid Arguments: -debug, -lang, -batch, -jfr.
    //
    // Example Startup: java -jar Ajqvue.jar -debug -lang=en_US
+   //                  java -jar Ajqvue.jar -jfr=ajqvue.jfr
+   //                  java -jar Ajqvue.jar -batch dump -site=... -file=...
    //==============================================================
 
    public static void main(String[] args)
    {
+      // Method Instances.
+      boolean batch;
+      String flightRecording;
+      
       debug = false;
+      batch = false;
+      flightRecording = null;
       localeString = "";
       
       // Collect allowed arguments.
@@ -228,6 +243,10 @@ public class Ajqvue implements ActionListener
          {
             if (args[i].equals("-debug"))
                debug = true;
+            if (args[i].equals("-batch"))
+               batch = true;
+            if (args[i].equals("-jfr") || args[i].startsWith("-jfr="))
+               flightRecording = args[i];
             if (args[i].indexOf("-lang") != -1)
             {
                if (args[i].indexOf("=") != -1)
@@ -236,6 +255,20 @@ public class Ajqvue implements ActionListener
          }
       }
 
+      // Flight Recorder events, with a recording to the
+      // given file as desired.
+      if (flightRecording != null && FlightRecording.setEnabled(true)
+          && flightRecording.indexOf("=") != -1)
+         FlightRecording.startRecording(flightRecording.substring(flightRecording.indexOf("=") + 1),
+                                        FlightRecording.DEFAULT_SETTINGS);
+      
+      // Headless batch processing, no Login or GUI.
+      if (batch)
+      {
+         System.setProperty("java.awt.headless", "true");
+         System.exit(new AjqvueBatch(args).execute());
+      }
+      
       // Create the Login and Access.
       java.awt.EventQueue.invokeLater(new Runnable()
       {
@@ -325,6 +358,19 @@ public class Ajqvue implements ActionListener
       return WEBSITE;
    }
    
+   //==============================================================
+   // Class Method to set the resource bundle & its locale, so that
+   // a host other than the login frame, ie. the benchmarks, may
+   // create the application's panels.
+   //==============================================================
+
+   public static void setResourceBundle(AResourceBundle newResourceBundle, String newLocaleString)
+   {
+      localeString = newLocaleString;
+      resourceBundle = newResourceBundle;
+      resourceBundle.setLocaleResource("locale" + Utils.getFileSeparator(), "AjqvueBundle", localeString);
+   }
+   
    //==============================================================
    // Class Method to set the GeneralProperties.
    //==============================================================
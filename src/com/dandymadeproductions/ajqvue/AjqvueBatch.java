@@ -0,0 +1,644 @@
+//=================================================================
+//                      Ajqvue AjqvueBatch
+//=================================================================
+//
+//    This class provides the headless, command line, processing of
+// the database dumps, imports, & database to database transfers
+// without the graphical user interface.
+//
+//                     << AjqvueBatch.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial AjqvueBatch Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import com.dandymadeproductions.ajqvue.datasource.ConnectionInstance;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionProperties;
+import com.dandymadeproductions.ajqvue.datasource.DatabaseProperties;
+import com.dandymadeproductions.ajqvue.gui.SiteParameters;
+import com.dandymadeproductions.ajqvue.gui.XMLTranslator;
+import com.dandymadeproductions.ajqvue.gui.panels.DBTablesPanel;
+import com.dandymadeproductions.ajqvue.io.SQLDataDumpImportThread;
+import com.dandymadeproductions.ajqvue.io.SQLDatabaseDumpThread;
+import com.dandymadeproductions.ajqvue.structures.DataExportProperties;
+import com.dandymadeproductions.ajqvue.structures.DataImportProperties;
+import com.dandymadeproductions.ajqvue.structures.GeneralDBProperties;
+import com.dandymadeproductions.ajqvue.utilities.AResourceBundle;
+import com.dandymadeproductions.ajqvue.utilities.ProgressReporter;
+import com.dandymadeproductions.ajqvue.utilities.Utils;
+import com.dandymadeproductions.ajqvue.utilities.db.DB_To_DBThread;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
+
+/**
+ *    The AjqvueBatch class provides the headless, command line,
+ * processing of the database dumps, imports, & database to database
+ * transfers without the graphical user interface. The same threads as
+ * the application are run in turn, with progress reported to the
+ * console or a logger. The exit status is 0 on success, 1 if any
+ * error was reported, & 2 for invalid arguments.
+ *
+ * Arguments -batch dump|import|transfer, -site='Name#Database' or
+ * -driver, -protocol, -subprotocol, -host, -port, -db, -user,
+ * -password, -ssh, -file, -workers, -progress=console|log|none,
+ * -metrics, with transfers -sinksite or -sink'parameter', -tables,
+ * -query, -sinktable, & -append.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class AjqvueBatch
+{
+   // Class Instances.
+   private String command;
+   private HashMap<String, String> arguments;
+   private HashMap<String, SiteParameters> sites;
+   private int workers;
+
+   public static final String DUMP = "dump";
+   public static final String IMPORT = "import";
+   public static final String TRANSFER = "transfer";
+
+   public static final int EXIT_OK = 0;
+   public static final int EXIT_ERROR = 1;
+   public static final int EXIT_USAGE = 2;
+
+   private static final String SINK = "sink";
+
+   //==============================================================
+   // AjqvueBatch Constructor
+   //==============================================================
+
+   public AjqvueBatch(String[] args)
+   {
+      // Constructor Instances.
+      String argument;
+
+      command = "";
+      arguments = new HashMap <String, String>();
+      workers = 0;
+
+      // Collect the command & -key=value, or -flag, arguments.
+      for (int i = 0; i < args.length; i++)
+      {
+         argument = args[i];
+
+         if (argument.equals("-batch"))
+         {
+            if (i + 1 < args.length && !args[i + 1].startsWith("-"))
+               command = args[++i].toLowerCase(Locale.ENGLISH);
+         }
+         else if (argument.startsWith("-") && argument.indexOf("=") != -1)
+            arguments.put(argument.substring(1, argument.indexOf("=")).toLowerCase(Locale.ENGLISH),
+                          argument.substring(argument.indexOf("=") + 1));
+         else if (argument.startsWith("-"))
+            arguments.put(argument.substring(1).toLowerCase(Locale.ENGLISH), "true");
+      }
+   }
+
+   //==============================================================
+   // Class method to execute the batch command, returning the
+   // exit status.
+   //==============================================================
+
+   public int execute()
+   {
+      // Method Instances.
+      String localeString;
+      int status;
+
+      if (!command.equals(DUMP) && !command.equals(IMPORT) && !command.equals(TRANSFER))
+      {
+         printUsage();
+         return EXIT_USAGE;
+      }
+
+      // Setup the progress reporting, resources, & parallelism
+      // for the threads, the preferences left as they are.
+
+      if (arguments.containsKey("progress"))
+         ProgressReporter.setReportMode(arguments.get("progress").toLowerCase(Locale.ENGLISH));
+
+      localeString = Ajqvue.getLocaleString();
+
+      if (localeString == null || localeString.length() != 5)
+         localeString = "en_US";
+
+      Ajqvue.setResourceBundle(new AResourceBundle("file:" + Utils.getAjqvueDirectory()
+                                                   + Utils.getFileSeparator(), Ajqvue.getDebug()),
+                               localeString);
+
+      if (arguments.containsKey("workers"))
+      {
+         try
+         {
+            workers = Math.max(1, Integer.parseInt(arguments.get("workers")));
+         }
+         catch (NumberFormatException e)
+         {
+            System.err.println("AjqvueBatch Invalid -workers: " + arguments.get("workers"));
+            return EXIT_USAGE;
+         }
+      }
+
+      // Run the command, the threads' properties collected once
+      // connected as the identifier quote string is that of the
+      // database.
+
+      if (command.equals(TRANSFER))
+      {
+         DBTablesPanel.setGeneralDBProperties(new BatchDBProperties(workers));
+         status = transfer();
+      }
+      else
+      {
+         if (!arguments.containsKey("file"))
+         {
+            System.err.println("AjqvueBatch -file Required for " + command + ".");
+            return EXIT_USAGE;
+         }
+
+         if (!openConnection())
+            return EXIT_ERROR;
+
+         DBTablesPanel.setDataExportProperties(new DataExportProperties());
+         DBTablesPanel.setDataImportProperties(new DataImportProperties());
+         DBTablesPanel.setGeneralDBProperties(new BatchDBProperties(workers));
+
+         if (command.equals(DUMP))
+            status = runThread(new SQLDatabaseDumpThread(arguments.get("file")), "SQLDatabaseDumpThread");
+         else
+            status = runThread(new SQLDataDumpImportThread(arguments.get("file"), false),
+                               "SQLDataDumpImportThread");
+
+         ConnectionManager.shutdown("AjqvueBatch execute()");
+      }
+
+      // Export the collected metrics, JSON or CSV by extension.
+
+      if (arguments.containsKey("metrics"))
+      {
+         try
+         {
+            MetricsRegistry.export(new File(arguments.get("metrics")));
+         }
+         catch (IOException e)
+         {
+            System.err.println("AjqvueBatch Unable to Export Metrics: " + e.getMessage());
+            status = EXIT_ERROR;
+         }
+      }
+
+      if (status == EXIT_OK && Utils.getErrorMessageCount() > 0)
+         status = EXIT_ERROR;
+
+      return status;
+   }
+
+   //==============================================================
+   // Class method to run one of the application's threads to its
+   // completion.
+   //==============================================================
+
+   private int runThread(Runnable runnable, String threadName)
+   {
+      // Method Instances.
+      Thread thread;
+
+      thread = new Thread(runnable, threadName);
+      thread.start();
+
+      try
+      {
+         thread.join();
+      }
+      catch (InterruptedException e)
+      {
+         System.err.println("AjqvueBatch " + threadName + " Interrupted.");
+         return EXIT_ERROR;
+      }
+      return EXIT_OK;
+   }
+
+   //==============================================================
+   // Class method to provide the connection to the database, in
+   // the same manner as the LoginFrame, for the dump & import
+   // threads. Memory databases, empty in a new process, are not
+   // given a constant connection.
+   //==============================================================
+
+   private boolean openConnection()
+   {
+      // Method Instances.
+      ConnectionProperties connectionProperties;
+      DatabaseProperties databaseProperties;
+      Connection dbConnection;
+
+      connectionProperties = createConnectionProperties("");
+
+      if (connectionProperties == null)
+         return false;
+
+      ConnectionManager.setConnectionProperties(connectionProperties);
+      dbConnection = ConnectionManager.getConnection("AjqvueBatch openConnection()");
+
+      if (dbConnection == null)
+         return false;
+
+      try
+      {
+         databaseProperties = new DatabaseProperties(connectionProperties);
+         databaseProperties.init(dbConnection);
+         ConnectionManager.setDatabaseProperties(databaseProperties);
+
+         databaseProperties.overideDefaults();
+         databaseProperties.loadDBTables(dbConnection);
+         return true;
+      }
+      catch (SQLException e)
+      {
+         ConnectionManager.displaySQLErrors(e, "AjqvueBatch openConnection()");
+         return false;
+      }
+      finally
+      {
+         ConnectionManager.closeConnection(dbConnection, "AjqvueBatch openConnection()");
+      }
+   }
+
+   //==============================================================
+   // Class method to transfer the source tables, or query, to the
+   // sink database with the DB_To_DBThread.
+   //==============================================================
+
+   private int transfer()
+   {
+      // Method Instances.
+      ConnectionProperties sourceProperties, sinkProperties;
+      ConnectionInstance sourceInstance, sinkInstance;
+      DB_To_DBThread db_To_DBThread;
+      ArrayList<String> queries, sinkTables;
+      String catalogSeparator, tableName;
+
+      sourceProperties = createConnectionProperties("");
+      sinkProperties = createConnectionProperties(SINK);
+
+      if (sourceProperties == null || sinkProperties == null)
+         return EXIT_ERROR;
+
+      sourceInstance = new ConnectionInstance(sourceProperties, Ajqvue.getDebug(), true);
+      sinkInstance = new ConnectionInstance(sinkProperties, Ajqvue.getDebug(), true);
+
+      // Collect the queries & sink tables, a given query or
+      // each of the tables selected, default all.
+
+      queries = new ArrayList <String>();
+      sinkTables = new ArrayList <String>();
+
+      if (arguments.containsKey("query"))
+      {
+         if (!arguments.containsKey("sinktable"))
+         {
+            System.err.println("AjqvueBatch -sinktable Required for -query.");
+            return EXIT_USAGE;
+         }
+         queries.add(arguments.get("query"));
+         sinkTables.add(arguments.get("sinktable"));
+      }
+      else
+      {
+         catalogSeparator = sourceInstance.getCatalogSeparator();
+
+         if (arguments.containsKey("tables"))
+         {
+            for (String table : arguments.get("tables").split(","))
+               if (!table.trim().isEmpty())
+                  queries.add(table.trim());
+         }
+         else
+            queries.addAll(sourceInstance.getTableNames());
+
+         for (int i = 0; i < queries.size(); i++)
+         {
+            tableName = queries.get(i);
+            queries.set(i, "SELECT * FROM "
+                           + Utils.getSchemaTableName(tableName, catalogSeparator,
+                                                      sourceInstance.getIdentifierQuoteString()));
+
+            if (tableName.indexOf(catalogSeparator) != -1)
+               tableName = tableName.substring(tableName.lastIndexOf(catalogSeparator) + 1);
+            sinkTables.add(tableName.replace("\"", "").replace("`", ""));
+         }
+      }
+
+      // Transfer each in turn.
+
+      for (int i = 0; i < queries.size(); i++)
+      {
+         if (!ProgressReporter.getReportMode().equals(ProgressReporter.NONE))
+            System.out.println("AjqvueBatch Transfer: " + queries.get(i) + " -> " + sinkTables.get(i));
+
+         db_To_DBThread = new DB_To_DBThread(sourceInstance, sinkInstance, queries.get(i), sinkTables.get(i),
+                                             !arguments.containsKey("append"));
+
+         if (workers > 0)
+         {
+            db_To_DBThread.setWorkerCount(workers);
+            db_To_DBThread.setLoadPartitions(workers);
+         }
+
+         if (ProgressReporter.getReportMode().equals(ProgressReporter.LOG))
+            db_To_DBThread.setLogger(Logger.getLogger("com.dandymadeproductions.ajqvue"));
+
+         db_To_DBThread.run();
+         db_To_DBThread.closeConnectionSink();
+      }
+
+      sinkInstance.shutdown("AjqvueBatch transfer()");
+      sourceInstance.shutdown("AjqvueBatch transfer()");
+
+      return EXIT_OK;
+   }
+
+   //==============================================================
+   // Class method to create the connection properties, from a site
+   // & or the individual parameters, with the given prefix. As the
+   // LoginFrame, except defaults are provided for the embedded
+   // databases' driver, host, & port.
+   //==============================================================
+
+   private ConnectionProperties createConnectionProperties(String prefix)
+   {
+      // Method Instances.
+      ConnectionProperties connectionProperties;
+      Properties connectProperties;
+      SiteParameters site;
+      String driver, protocol, subProtocol, host, port, db, user, passwordString, ssh;
+
+      driver = "";
+      protocol = ConnectionInstance.PROTOCOL;
+      subProtocol = "";
+      host = ConnectionInstance.LOCALHOST;
+      port = "";
+      db = "";
+      user = "";
+      passwordString = "";
+      ssh = "false";
+
+      // Site from the ajqvue.xml file.
+
+      if (arguments.containsKey(prefix + "site"))
+      {
+         if (sites == null)
+            sites = new XMLTranslator().getSites();
+
+         site = sites.get(arguments.get(prefix + "site"));
+
+         if (site == null)
+         {
+            System.err.println("AjqvueBatch Site Not Found: " + arguments.get(prefix + "site"));
+            return null;
+         }
+
+         driver = site.getDriver();
+         protocol = site.getProtocol();
+         subProtocol = site.getSubProtocol();
+         host = site.getHost();
+         port = site.getPort();
+         db = site.getDatabase();
+         user = site.getUser();
+         passwordString = String.valueOf(XMLTranslator.getSitePassword(site)).trim();
+         ssh = site.getSsh().equals("0") ? "false" : "true";
+      }
+
+      // Individual parameters override.
+
+      driver = getArgument(prefix + "driver", driver);
+      protocol = getArgument(prefix + "protocol", protocol);
+      subProtocol = getArgument(prefix + "subprotocol", subProtocol).toLowerCase(Locale.ENGLISH);
+      host = getArgument(prefix + "host", host);
+      port = getArgument(prefix + "port", port);
+      db = getArgument(prefix + "db", db);
+      user = getArgument(prefix + "user", user);
+      passwordString = getArgument(prefix + "password", passwordString);
+
+      if (arguments.containsKey(prefix + "ssh"))
+         ssh = "true";
+
+      // Embedded database defaults.
+
+      if (subProtocol.equals(ConnectionManager.H2))
+      {
+         driver = driver.isEmpty() ? ConnectionInstance.H2_DRIVER : driver;
+         port = port.isEmpty() ? ConnectionInstance.H2_PORT : port;
+      }
+      else if (subProtocol.indexOf(ConnectionManager.HSQL) != -1)
+      {
+         driver = driver.isEmpty() ? ConnectionInstance.HSQL2_DRIVER : driver;
+         port = port.isEmpty() ? ConnectionInstance.HSQL2_PORT : port;
+      }
+      else if (subProtocol.equals(ConnectionManager.DERBY))
+      {
+         driver = driver.isEmpty() ? ConnectionInstance.DERBY_DRIVER : driver;
+         port = port.isEmpty() ? ConnectionInstance.DERBY_PORT : port;
+      }
+      else if (subProtocol.equals(ConnectionManager.SQLITE))
+      {
+         driver = driver.isEmpty() ? ConnectionInstance.SQLITE_DRIVER : driver;
+         port = port.isEmpty() ? ConnectionInstance.SQLITE_PORT : port;
+      }
+
+      if (driver.isEmpty() || subProtocol.isEmpty() || port.isEmpty() || db.isEmpty())
+      {
+         System.err.println("AjqvueBatch -" + prefix + "site or -" + prefix + "subprotocol, -"
+                            + prefix + "db & for Servers -" + prefix + "driver, -" + prefix
+                            + "port Required.");
+         return null;
+      }
+
+      // Load the driver.
+
+      try
+      {
+         if (subProtocol.indexOf(ConnectionManager.SQLITE) != -1)
+            System.setProperty("sqlite.purejava", "true");
+
+         Class.forName(driver);
+      }
+      catch (ClassNotFoundException e)
+      {
+         Utils.displayErrorMessage("Unable to Find or Load JDBC Driver: " + driver, "Alert");
+         return null;
+      }
+
+      // Store user, password, ssh, other connection properties
+      // as properties.
+
+      connectionProperties = new ConnectionProperties();
+      connectProperties = new Properties();
+
+      connectProperties.setProperty("user", user);
+
+      if (subProtocol.indexOf(ConnectionManager.HSQL) != -1
+          || subProtocol.equals(ConnectionManager.DERBY)
+          || subProtocol.equals(ConnectionManager.POSTGRESQL)
+          || subProtocol.equals(ConnectionManager.MARIADB)
+          || subProtocol.equals(ConnectionManager.MYSQL))
+         passwordString = passwordString.replaceAll("%", "%" + Integer.toHexString(37));
+
+      connectProperties.setProperty("password", passwordString);
+
+      if (ssh.equals("true")
+          && (subProtocol.indexOf(ConnectionManager.HSQL) != -1
+              || subProtocol.equals(ConnectionManager.MARIADB)
+              || subProtocol.equals(ConnectionManager.MYSQL)
+              || subProtocol.equals(ConnectionManager.POSTGRESQL)))
+         connectProperties.setProperty("useSSL", "1");
+
+      // Parse db parameter for additional properties.
+
+      if (db.indexOf(ConnectionProperties.STD_PROPERTY_CHAR) != -1)
+      {
+         String[] splitDB;
+
+         if (ConnectionProperties.STD_PROPERTY_CHAR.equals("?"))
+            splitDB = db.split("\\" + ConnectionProperties.STD_PROPERTY_CHAR);
+         else
+            splitDB = db.split(ConnectionProperties.STD_PROPERTY_CHAR);
+
+         db = splitDB[0];
+
+         String[] dbProperty = splitDB[1].split(ConnectionProperties.STD_PROPERTY_DELIMITER);
+
+         for (int i = 0; i < dbProperty.length; i++)
+         {
+            if (dbProperty[i].indexOf("=") != -1)
+               connectProperties.setProperty(dbProperty[i].substring(0, dbProperty[i].indexOf("=")),
+                                             dbProperty[i].substring(dbProperty[i].indexOf("=") + 1));
+         }
+      }
+
+      // Store parameters.
+      connectionProperties.setProperties(connectProperties);
+      connectionProperties.setProperty(ConnectionProperties.DRIVER, driver);
+      connectionProperties.setProperty(ConnectionProperties.PROTOCOL, protocol);
+      connectionProperties.setProperty(ConnectionProperties.SUBPROTOCOL, subProtocol);
+      connectionProperties.setProperty(ConnectionProperties.HOST, host);
+      connectionProperties.setProperty(ConnectionProperties.PORT, port);
+      connectionProperties.setProperty(ConnectionProperties.DB, db);
+      connectionProperties.setProperty(ConnectionProperties.USER, user);
+      connectionProperties.setProperty(ConnectionProperties.PASSWORD, passwordString);
+      connectionProperties.setProperty(ConnectionProperties.SSH, ssh);
+
+      connectionProperties.setConnectionURLString(
+         ConnectionManager.createConnectionURLString(connectionProperties));
+
+      if (Ajqvue.getDebug())
+         System.out.println("AjqvueBatch createConnectionProperties() "
+                            + connectionProperties.getConnectionURLString());
+
+      return connectionProperties;
+   }
+
+   //==============================================================
+   // Class method to return an argument's value or the given
+   // default.
+   //==============================================================
+
+   private String getArgument(String key, String defaultValue)
+   {
+      if (arguments.containsKey(key))
+         return arguments.get(key);
+      else
+         return defaultValue;
+   }
+
+   //==============================================================
+   // Class method to output the usage of the batch mode.
+   //==============================================================
+
+   private static void printUsage()
+   {
+      System.err.println("Usage: java -jar Ajqvue.jar -batch dump|import|transfer [options]");
+      System.err.println("  -site=Name#Database   Site from ajqvue.xml, or the parameters:");
+      System.err.println("  -driver= -protocol= -subprotocol= -host= -port= -db= -user= -password= -ssh");
+      System.err.println("  -file=File            Dump output, .gz compressed, or import SQL file.");
+      System.err.println("  -workers=N            Parallel dump tables or transfer inserts & loads.");
+      System.err.println("  -progress=console|log|none");
+      System.err.println("  -metrics=File         Export the run's metrics, .json or .csv.");
+      System.err.println("  -jfr[=File]           Flight Recorder events, recorded to the file.");
+      System.err.println("Transfer:");
+      System.err.println("  -sinksite=Name#Database, or -sinksubprotocol= -sinkdb= ... as above");
+      System.err.println("  -tables=T1,T2         Tables, default all, or -query=SQL -sinktable=T");
+      System.err.println("  -append               Insert into the existing sink tables.");
+   }
+
+   //==============================================================
+   // Class to provide the general database properties with the
+   // batch parallelism, without saving it to the preferences.
+   //==============================================================
+
+   private static class BatchDBProperties extends GeneralDBProperties
+   {
+      private int workers;
+
+      BatchDBProperties(int workers)
+      {
+         super();
+         this.workers = workers;
+      }
+
+      public int getDumpWorkers()
+      {
+         return (workers > 0) ? workers : super.getDumpWorkers();
+      }
+
+      public int getTransferWorkers()
+      {
+         return (workers > 0) ? workers : super.getTransferWorkers();
+      }
+
+      public int getLoadPartitions()
+      {
+         return (workers > 0) ? workers : super.getLoadPartitions();
+      }
+   }
+}
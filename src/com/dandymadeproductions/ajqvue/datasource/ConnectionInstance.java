@@ -8,7 +8,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.4 04/05/2018
+// Version 1.5 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -46,6 +46,15 @@
 //                        Combine Two Separate Conditionals to One if/else for All Derby
 //                        Embedded Database Shutdowns. Fixed Error Documented in Comments.
 //                        Corrected Comment in debug.
+//         1.5 10/18/2026 Added Class Instance connectionPool, ConnectionPool, & Methods
+//                        getConnectionPool() & closeConnectionPool(). Methods
+//                        get/closeConnection() Borrow & Release Connections Through
+//                        connectionPool, Timing of Connection Acquire to MetricsRegistry, &
+//                        Flight Recorder ConnectionEvent. Added Method getConnection() With
+//                        Argument background, Skipping an Exhausted Pool Without Error
+//                        Dialogs. Methods shutdown() & setConnectionProperties() Close Pool.
+//                        Methods initConnection() & displaySQLErrors() Alert With
+//                        Utils.displayErrorMessage(), Headless Safe.
 //        
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -64,13 +73,16 @@ import javax.sql.RowSet;
 import javax.sql.rowset.CachedRowSet;
 import javax.sql.rowset.FilteredRowSet;
 import javax.sql.rowset.WebRowSet;
-import javax.swing.JOptionPane;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionProperties;
 import com.dandymadeproductions.ajqvue.datasource.DatabaseProperties;
+import com.dandymadeproductions.ajqvue.structures.GeneralDBProperties;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
+import com.dandymadeproductions.ajqvue.utilities.metrics.ConnectionEvent;
+import com.dandymadeproductions.ajqvue.utilities.metrics.FlightRecording;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
 import com.sun.rowset.CachedRowSetImpl;
 import com.sun.rowset.FilteredRowSetImpl;
 import com.sun.rowset.WebRowSetImpl;
@@ -80,15 +92,17 @@ import com.sun.rowset.WebRowSetImpl;
  * connections to a distinct set of databases.
  * 
  * @author Dana M. Proctor
- * @version 1.4 04/05/2018
+ * @version 1.5 10/18/2026
  */
 
 public class ConnectionInstance
 {
    // Class Instances.
-   private Connection memoryConnection;
-   private ConnectionProperties connectionProperties;
+   private volatile Connection memoryConnection;
+   private volatile ConnectionProperties connectionProperties;
    private DatabaseProperties databaseProperties;
+   private volatile ConnectionPool connectionPool;
+   private final Object poolLock = new Object();
 
    private boolean connectionInitialized, debug;
    
@@ -287,7 +301,7 @@ public class ConnectionInstance
                                          + javaExtDir + Utils.getFileSeparator() + " directory."
                                          + "\n"
                                          + "Exeception: " + exceptionString;
-         JOptionPane.showMessageDialog(null, optionPaneStringErrors, "Alert", JOptionPane.ERROR_MESSAGE);
+         Utils.displayErrorMessage(optionPaneStringErrors, "Alert");
          return false;
       }
 
@@ -341,11 +355,26 @@ public class ConnectionInstance
    //==============================================================
 
    public Connection getConnection(String description)
+   {
+      return getConnection(description, false);
+   }
+
+   //==============================================================
+   // Class method to make a connection for background work, such
+   // as a row count, that may be skipped. Does not wait on an
+   // exhausted pool, returning null, & errors are not displayed.
+   //==============================================================
+
+   public Connection getConnection(String description, boolean background)
    {
       // Method Instances.
       Properties connectProperties;
       String connectionURLString;
       String db, subProtocol;
+      ConnectionPool pool;
+      Connection dbConnection;
+      ConnectionEvent connectionEvent;
+      long acquireStartTime;
       
       // Check for Initialization.
       if (!connectionInitialized)
@@ -380,12 +409,47 @@ public class ConnectionInstance
          // All others
          else
          {
-            return DriverManager.getConnection(connectionURLString, connectProperties);
+            pool = getConnectionPool();
+            connectionEvent = null;
+            
+            if (FlightRecording.isEnabled())
+            {
+               connectionEvent = new ConnectionEvent(ConnectionEvent.GET, description, db);
+               connectionEvent.begin();
+            }
+            acquireStartTime = System.nanoTime();
+            
+            if (pool != null && background)
+               dbConnection = pool.tryBorrowConnection(description);
+            else if (pool != null)
+               dbConnection = pool.borrowConnection(description);
+            else
+               dbConnection = DriverManager.getConnection(connectionURLString, connectProperties);
+            
+            // Pool exhausted, background skipped.
+            if (dbConnection == null)
+               return null;
+            
+            MetricsRegistry.recordTime(MetricsRegistry.CONNECTION_ACQUIRE,
+                                       System.nanoTime() - acquireStartTime);
+            
+            if (connectionEvent != null)
+            {
+               connectionEvent.setPooled(pool != null);
+               connectionEvent.commit();
+            }
+            return dbConnection;
          }
       }
       catch (SQLException e)
       {
-         displaySQLErrors(e, "ConnectionInstance getConnection()", debug);
+         if (background)
+         {
+            if (debug)
+               System.out.println("ConnectionInstance getConnection() " + e.toString());
+         }
+         else
+            displaySQLErrors(e, "ConnectionInstance getConnection()", debug);
          return null;
       }
    }
@@ -400,6 +464,8 @@ public class ConnectionInstance
    {
       // Method Instances.
       String db, subProtocol;
+      ConnectionPool pool;
+      ConnectionEvent connectionEvent;
       
       // Setup.
       db = connectionProperties.getProperty(ConnectionProperties.DB);
@@ -418,7 +484,27 @@ public class ConnectionInstance
                   || (subProtocol.equals(H2) && db.toLowerCase(Locale.ENGLISH).indexOf("mem:") != -1))
             return;
          else
-            dbConnection.close();
+         {
+            pool = connectionPool;
+            connectionEvent = null;
+            
+            if (FlightRecording.isEnabled())
+            {
+               connectionEvent = new ConnectionEvent(ConnectionEvent.CLOSE, description, db);
+               connectionEvent.begin();
+            }
+            
+            if (pool != null)
+               pool.releaseConnection(dbConnection, description);
+            else
+               dbConnection.close();
+            
+            if (connectionEvent != null)
+            {
+               connectionEvent.setPooled(pool != null);
+               connectionEvent.commit();
+            }
+         }
       }
       catch (SQLException e)
       {
@@ -426,6 +512,54 @@ public class ConnectionInstance
       }
    }
    
+   //==============================================================
+   // Class method to return the connection pool for this instance,
+   // created on first use. Returns null if pooling has been
+   // disabled.
+   //==============================================================
+
+   public ConnectionPool getConnectionPool()
+   {
+      // Method Instances.
+      ConnectionPool pool;
+      GeneralDBProperties generalDBProperties;
+      
+      pool = connectionPool;
+      
+      if (pool != null)
+         return pool;
+      
+      synchronized (poolLock)
+      {
+         if (connectionPool == null)
+         {
+            generalDBProperties = new GeneralDBProperties();
+            
+            if (generalDBProperties.getPoolEnabled()
+                && connectionProperties.getConnectionURLString() != null)
+               connectionPool = new ConnectionPool(connectionProperties, generalDBProperties, debug);
+         }
+         return connectionPool;
+      }
+   }
+   
+   //==============================================================
+   // Class method to close the connection pool, idle connections
+   // being closed immediately.
+   //==============================================================
+
+   private void closeConnectionPool(String description)
+   {
+      synchronized (poolLock)
+      {
+         if (connectionPool != null)
+         {
+            connectionPool.close(description);
+            connectionPool = null;
+         }
+      }
+   }
+   
    //==============================================================
    // Class method that provides the ability to attempt to shutdown
    // database activity appropriately. Use this method to close
@@ -434,6 +568,7 @@ public class ConnectionInstance
 
    public void shutdown(String description)
    {
+      closeConnectionPool(description);
       closeMemoryConnection(description);
       shutdownDatabase(description);
    }
@@ -607,7 +742,7 @@ public class ConnectionInstance
       String optionPaneStringErrors = classCaller + "\n" + "SQLException: " + sqlExceptionString + "\n"
                                       + "SQLState: " + e.getSQLState() + ",  " + "VendorError: "
                                       + e.getErrorCode();
-      JOptionPane.showMessageDialog(null, optionPaneStringErrors, "Alert", JOptionPane.ERROR_MESSAGE);
+      Utils.displayErrorMessage(optionPaneStringErrors, "Alert");
    }
    
    //==============================================================
@@ -748,6 +883,7 @@ public class ConnectionInstance
 
    public void setConnectionProperties(ConnectionProperties properties)
    {
+      closeConnectionPool("ConnectionInstance setConnectionProperties()");
       connectionProperties = properties;
    }
    
@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.5 04/07/2018
+// Version 1.6 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -45,6 +45,19 @@
 //         1.5 Method createConnectionURLString() Moved All Aspects of Creating
 //             connectionURLString for Derby to Within Its Own Conditional.
 //             Fixed Handling for Same File Databases.
+//         1.6 Added Class Instance connectionPool, ConnectionPool, & Methods
+//             getConnectionPool() & closeConnectionPool(). Methods
+//             get/closeConnection() No Longer synchronized, Borrow & Release
+//             Connections Through connectionPool, Timing of Connection Acquire
+//             to MetricsRegistry, & Flight Recorder ConnectionEvent. Added
+//             Method getConnection() With Argument background, Skipping an
+//             Exhausted Pool Without Error Dialogs. Class Instances
+//             memoryConnection & connectionProperties volatile. Added Method
+//             getSchemaMetadataCache(), Methods setDatabaseProperties() &
+//             shutdown() Save the SchemaMetadataCache, shutdown() Closes Pool.
+//             Class Instance errorSoundClip Loaded on First Use, Not When
+//             Headless, Added errorSoundLoaded. Method displaySQLErrors()
+//             Alert With Utils.displayErrorMessage().
 //        
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -52,6 +65,7 @@
 
 package com.dandymadeproductions.ajqvue.datasource;
 
+import java.awt.GraphicsEnvironment;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -64,10 +78,13 @@ import javax.sql.RowSet;
 import javax.sql.rowset.CachedRowSet;
 import javax.sql.rowset.FilteredRowSet;
 import javax.sql.rowset.WebRowSet;
-import javax.swing.JOptionPane;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
+import com.dandymadeproductions.ajqvue.structures.GeneralDBProperties;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
+import com.dandymadeproductions.ajqvue.utilities.metrics.ConnectionEvent;
+import com.dandymadeproductions.ajqvue.utilities.metrics.FlightRecording;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
 import com.sun.rowset.CachedRowSetImpl;
 import com.sun.rowset.FilteredRowSetImpl;
 import com.sun.rowset.WebRowSetImpl;
@@ -78,19 +95,20 @@ import com.sun.rowset.WebRowSetImpl;
  * various databases support.   
  * 
  * @author Dana M. Proctor
- * @version 1.5 04/07/2018
+ * @version 1.6 10/18/2026
  */
 
 public class ConnectionManager
 {
    // Class Instances.
-   private static Connection memoryConnection;
-   private static ConnectionProperties connectionProperties = new ConnectionProperties();
+   private static volatile Connection memoryConnection;
+   private static volatile ConnectionProperties connectionProperties = new ConnectionProperties();
+   private static volatile ConnectionPool connectionPool;
+   private static final Object poolLock = new Object();
    private static DatabaseProperties databaseProperties = new DatabaseProperties(connectionProperties);
    
-   private static Clip errorSoundClip = Utils.getAudioClip("sounds"
-                                                           + Utils.getFileSeparator()
-                                                           + "huh.wav");
+   private static Clip errorSoundClip;
+   private static boolean errorSoundLoaded;
    public static final String MYSQL = "mysql";
    public static final String MARIADB = "mariadb";
    public static final String POSTGRESQL = "postgresql";
@@ -125,12 +143,27 @@ public class ConnectionManager
    // accessing this method for a null return, no connection made.
    //==============================================================
 
-   public static synchronized Connection getConnection(String description)
+   public static Connection getConnection(String description)
+   {
+      return getConnection(description, false);
+   }
+
+   //==============================================================
+   // Class method to make a connection for background work, such
+   // as a row count, that may be skipped. Does not wait on an
+   // exhausted pool, returning null, & errors are not displayed.
+   //==============================================================
+
+   public static Connection getConnection(String description, boolean background)
    {
       // Method Instances.
       Properties connectProperties;
       String connectionURLString;
       String db, subProtocol;
+      ConnectionPool pool;
+      Connection dbConnection;
+      ConnectionEvent connectionEvent;
+      long acquireStartTime;
       
       // Setup.
       connectionURLString = connectionProperties.getConnectionURLString();
@@ -161,12 +194,47 @@ public class ConnectionManager
          // All others
          else
          {
-            return DriverManager.getConnection(connectionURLString, connectProperties);
+            pool = getConnectionPool();
+            connectionEvent = null;
+            
+            if (FlightRecording.isEnabled())
+            {
+               connectionEvent = new ConnectionEvent(ConnectionEvent.GET, description, db);
+               connectionEvent.begin();
+            }
+            acquireStartTime = System.nanoTime();
+            
+            if (pool != null && background)
+               dbConnection = pool.tryBorrowConnection(description);
+            else if (pool != null)
+               dbConnection = pool.borrowConnection(description);
+            else
+               dbConnection = DriverManager.getConnection(connectionURLString, connectProperties);
+            
+            // Pool exhausted, background skipped.
+            if (dbConnection == null)
+               return null;
+            
+            MetricsRegistry.recordTime(MetricsRegistry.CONNECTION_ACQUIRE,
+                                       System.nanoTime() - acquireStartTime);
+            
+            if (connectionEvent != null)
+            {
+               connectionEvent.setPooled(pool != null);
+               connectionEvent.commit();
+            }
+            return dbConnection;
          }
       }
       catch (SQLException e)
       {
-         displaySQLErrors(e, "ConnectionManager getConnection()");
+         if (background)
+         {
+            if (Ajqvue.getDebug())
+               System.out.println("ConnectionManager getConnection() " + e.toString());
+         }
+         else
+            displaySQLErrors(e, "ConnectionManager getConnection()");
          return null;
       }
    }
@@ -177,10 +245,12 @@ public class ConnectionManager
    // host, db, user and password.
    //==============================================================
 
-   public static synchronized void closeConnection(Connection dbConnection, String description)
+   public static void closeConnection(Connection dbConnection, String description)
    {
       // Method Instances.
       String db, subProtocol;
+      ConnectionPool pool;
+      ConnectionEvent connectionEvent;
       
       // Setup.
       db = connectionProperties.getProperty(ConnectionProperties.DB);
@@ -199,7 +269,27 @@ public class ConnectionManager
                   || (subProtocol.equals(H2) && db.toLowerCase(Locale.ENGLISH).indexOf("mem:") != -1))
             return;
          else
-            dbConnection.close();
+         {
+            pool = connectionPool;
+            connectionEvent = null;
+            
+            if (FlightRecording.isEnabled())
+            {
+               connectionEvent = new ConnectionEvent(ConnectionEvent.CLOSE, description, db);
+               connectionEvent.begin();
+            }
+            
+            if (pool != null)
+               pool.releaseConnection(dbConnection, description);
+            else
+               dbConnection.close();
+            
+            if (connectionEvent != null)
+            {
+               connectionEvent.setPooled(pool != null);
+               connectionEvent.commit();
+            }
+         }
       }
       catch (SQLException e)
       {
@@ -207,6 +297,55 @@ public class ConnectionManager
       }
    }
    
+   //==============================================================
+   // Class method to return the connection pool for the current
+   // connection properties, created on first use. Returns null
+   // if pooling has been disabled.
+   //==============================================================
+
+   public static ConnectionPool getConnectionPool()
+   {
+      // Method Instances.
+      ConnectionPool pool;
+      GeneralDBProperties generalDBProperties;
+      
+      pool = connectionPool;
+      
+      if (pool != null)
+         return pool;
+      
+      synchronized (poolLock)
+      {
+         if (connectionPool == null)
+         {
+            generalDBProperties = new GeneralDBProperties();
+            
+            if (generalDBProperties.getPoolEnabled()
+                && connectionProperties.getConnectionURLString() != null)
+               connectionPool = new ConnectionPool(connectionProperties, generalDBProperties,
+                                                   Ajqvue.getDebug());
+         }
+         return connectionPool;
+      }
+   }
+   
+   //==============================================================
+   // Class method to close the current connection pool, idle
+   // connections being closed immediately.
+   //==============================================================
+
+   private static void closeConnectionPool(String description)
+   {
+      synchronized (poolLock)
+      {
+         if (connectionPool != null)
+         {
+            connectionPool.close(description);
+            connectionPool = null;
+         }
+      }
+   }
+   
    //==============================================================
    // Class method that provides the ability to attempt to shutdown
    // database activity appropriately.
@@ -214,6 +353,10 @@ public class ConnectionManager
 
    public static void shutdown(String description)
    {
+      if (databaseProperties != null)
+         databaseProperties.getSchemaMetadataCache().save();
+      
+      closeConnectionPool(description);
       closeMemoryConnection(description);
       shutdownDatabase(description);
    }
@@ -364,7 +507,15 @@ public class ConnectionManager
    {
       String sqlExceptionString;
       
-      // Generated a sound warning.
+      // Generated a sound warning, the clip loaded on first
+      // use & never headless.
+      if (!errorSoundLoaded)
+      {
+         if (!GraphicsEnvironment.isHeadless())
+            errorSoundClip = Utils.getAudioClip("sounds" + Utils.getFileSeparator() + "huh.wav");
+         errorSoundLoaded = true;
+      }
+      
       if (errorSoundClip != null)
       {
          errorSoundClip.setFramePosition(0);
@@ -404,7 +555,7 @@ public class ConnectionManager
       String optionPaneStringErrors = classCaller + "\n" + "SQLException: " + sqlExceptionString + "\n"
                                       + "SQLState: " + e.getSQLState() + ",  " + "VendorError: "
                                       + e.getErrorCode();
-      JOptionPane.showMessageDialog(null, optionPaneStringErrors, "Alert", JOptionPane.ERROR_MESSAGE);
+      Utils.displayErrorMessage(optionPaneStringErrors, "Alert");
    }
    
    //==============================================================
@@ -613,6 +764,16 @@ public class ConnectionManager
       return databaseProperties.getTableNames();
    }
    
+   //==============================================================
+   // Class method to return the table schema metadata cache of the
+   // current database connection.
+   //==============================================================
+
+   public static SchemaMetadataCache getSchemaMetadataCache()
+   {
+      return databaseProperties.getSchemaMetadataCache();
+   }
+   
    //==============================================================
    // Class methods to return various rowsets of the current database
    // connection.
@@ -652,11 +813,15 @@ public class ConnectionManager
 
    public static void setConnectionProperties(ConnectionProperties properties)
    {
+      closeConnectionPool("ConnectionManager setConnectionProperties()");
       connectionProperties = properties;
    }
    
    public static void setDatabaseProperties(DatabaseProperties properties)
    {
+      if (databaseProperties != null && databaseProperties != properties)
+         databaseProperties.getSchemaMetadataCache().save();
+      
       databaseProperties = properties;
    }
    
@@ -0,0 +1,623 @@
+//=================================================================
+//                      ConnectionPool
+//=================================================================
+//    This class provides a bounded pool of validated connections
+// to a database that is described by a ConnectionProperties
+// instance. Used by the ConnectionManager & ConnectionInstance
+// classes to avoid re-establishing a connection for each request.
+//
+//                 << ConnectionPool.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial ConnectionPool Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.datasource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.dandymadeproductions.ajqvue.structures.GeneralDBProperties;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsGauge;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
+
+/**
+ *    The ConnectionPool class provides a bounded pool of validated
+ * connections to a database that is described by a ConnectionProperties
+ * instance. Connections are validated on borrow, evicted when idle
+ * too long, and retired once they exceed their maximum lifetime.
+ * The pool's usage is registered as gauges with the MetricsRegistry.<p>
+ * 
+ *    Some work borrows connections while holding one. The database
+ * dump & search hold a connection while each of their workers borrows
+ * its own, so their worker counts are capped at the pool size less one.
+ * Table loads, transfers, & queries started meanwhile compete for the
+ * same permits and wait at most the borrow timeout, then fail. The
+ * maximum size should exceed the configured dump or search workers by
+ * the number of such other concurrent borrowers. Background row counts
+ * use tryBorrowConnection() so are skipped rather than wait on an
+ * exhausted pool.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class ConnectionPool
+{
+   // Class Instances.
+   private ConnectionProperties connectionProperties;
+   private LinkedBlockingDeque<PooledConnection> idleConnections;
+   private Map<Connection, PooledConnection> borrowedConnections;
+   private Semaphore permits;
+   private AtomicInteger openCount;
+   private Timer evictionTimer;
+   private String gaugeName;
+   private PoolGauge[] poolGauges;
+
+   private int maxSize;
+   private long maxIdleTime;
+   private long maxLifetime;
+   private long borrowTimeout;
+   private int validationTimeout;
+   private volatile boolean closed;
+   private boolean debug;
+
+   private static final long EVICTION_INTERVAL = 30000;
+   private static final String[] GAUGE_NAMES = {"max", "open", "idle", "borrowed"};
+
+   //==============================================================
+   // ConnectionPool Constructors
+   //==============================================================
+
+   public ConnectionPool(ConnectionProperties connectionProperties, boolean debug)
+   {
+      this(connectionProperties, new GeneralDBProperties(), debug);
+   }
+
+   public ConnectionPool(ConnectionProperties connectionProperties,
+                         GeneralDBProperties generalDBProperties, boolean debug)
+   {
+      this.connectionProperties = connectionProperties;
+      this.debug = debug;
+
+      // Setup the pool limits.
+      maxSize = Math.max(1, generalDBProperties.getPoolMaxSize());
+      maxIdleTime = generalDBProperties.getPoolMaxIdleTime() * 1000L;
+      maxLifetime = generalDBProperties.getPoolMaxLifetime() * 1000L;
+      borrowTimeout = generalDBProperties.getPoolBorrowTimeout() * 1000L;
+      validationTimeout = generalDBProperties.getPoolValidationTimeout();
+
+      idleConnections = new LinkedBlockingDeque <PooledConnection>();
+      borrowedConnections = new ConcurrentHashMap <Connection, PooledConnection>();
+      permits = new Semaphore(maxSize, true);
+      openCount = new AtomicInteger(0);
+      closed = false;
+
+      // Background idle eviction.
+      evictionTimer = new Timer("ConnectionPool Eviction", true);
+      evictionTimer.schedule(new TimerTask()
+      {
+         public void run()
+         {
+            evictIdleConnections();
+         }
+      }, EVICTION_INTERVAL, EVICTION_INTERVAL);
+      
+      // Usage gauges.
+      gaugeName = MetricsRegistry.CONNECTION_POOL
+                  + connectionProperties.getProperty(ConnectionProperties.DB) + ".";
+      poolGauges = new PoolGauge[GAUGE_NAMES.length];
+      
+      for (int i = 0; i < GAUGE_NAMES.length; i++)
+      {
+         poolGauges[i] = new PoolGauge(i);
+         MetricsRegistry.registerGauge(gaugeName + GAUGE_NAMES[i], poolGauges[i]);
+      }
+   }
+
+   //==============================================================
+   // Class method to borrow a connection from the pool. Idle
+   // connections are validated before being handed out, a new
+   // physical connection created if none are available. Blocks
+   // at most the borrow timeout when the pool is exhausted. A
+   // borrower already holding a connection, nested, may wait on
+   // others doing the same, see the class description.
+   //==============================================================
+
+   public Connection borrowConnection(String description) throws SQLException
+   {
+      if (closed)
+         throw new SQLException("ConnectionPool Closed");
+
+      if (!acquirePermit())
+      {
+         MetricsRegistry.getCounter(MetricsRegistry.CONNECTION_TIMEOUT).increment();
+         throw new SQLException("Timed Out Waiting For Pooled Connection, "
+                                + "Pool Size: " + maxSize, "08001");
+      }
+      return takeConnection(description);
+   }
+
+   //==============================================================
+   // Class method to borrow a connection from the pool only if one
+   // is free now, without waiting. Returns null when the pool is
+   // exhausted, for background work that may be skipped.
+   //==============================================================
+
+   public Connection tryBorrowConnection(String description) throws SQLException
+   {
+      if (closed || !permits.tryAcquire())
+         return null;
+
+      return takeConnection(description);
+   }
+
+   //==============================================================
+   // Class method to hand out an idle or new connection once a
+   // permit is held, the permit released on failure.
+   //==============================================================
+
+   private Connection takeConnection(String description) throws SQLException
+   {
+      // Method Instances.
+      PooledConnection pooledConnection;
+
+      try
+      {
+         // Try to reuse an idle connection, most recently
+         // used first.
+
+         while ((pooledConnection = idleConnections.pollFirst()) != null)
+         {
+            if (isUsable(pooledConnection))
+            {
+               pooledConnection.lastBorrowed = System.currentTimeMillis();
+               borrowedConnections.put(pooledConnection.connection, pooledConnection);
+               MetricsRegistry.getCounter(MetricsRegistry.CONNECTION_REUSED).increment();
+
+               if (debug)
+                  System.out.println(description + " (CP) Connection Reused, Open: " + openCount.get());
+               return pooledConnection.connection;
+            }
+            else
+               discard(pooledConnection);
+         }
+
+         // Nothing available so create.
+         pooledConnection = new PooledConnection(
+            DriverManager.getConnection(connectionProperties.getConnectionURLString(),
+                                        connectionProperties.getConnectionProperties()));
+         openCount.incrementAndGet();
+
+         try
+         {
+            recordState(pooledConnection);
+         }
+         catch (SQLException e)
+         {
+            discard(pooledConnection);
+            throw e;
+         }
+         borrowedConnections.put(pooledConnection.connection, pooledConnection);
+         MetricsRegistry.getCounter(MetricsRegistry.CONNECTION_CREATED).increment();
+
+         if (debug)
+            System.out.println(description + " (CP) Connection Created, Open: " + openCount.get());
+
+         return pooledConnection.connection;
+      }
+      catch (SQLException e)
+      {
+         permits.release();
+         throw e;
+      }
+      catch (RuntimeException e)
+      {
+         permits.release();
+         throw e;
+      }
+   }
+
+   //==============================================================
+   // Class method to return a borrowed connection to the pool.
+   // Any open transaction is rolled back & connection state, read
+   // only, isolation, catalog, & schema, restored to that at
+   // creation before the connection is made available again. The
+   // permit is only released by the call that removed the borrowed
+   // entry.
+   //==============================================================
+
+   public void releaseConnection(Connection connection, String description) throws SQLException
+   {
+      // Method Instances.
+      PooledConnection pooledConnection;
+
+      if (connection == null)
+         return;
+
+      pooledConnection = borrowedConnections.remove(connection);
+
+      // Not one of ours.
+      if (pooledConnection == null)
+      {
+         connection.close();
+         return;
+      }
+
+      try
+      {
+         if (closed || connection.isClosed() || isExpired(pooledConnection, System.currentTimeMillis()))
+            discard(pooledConnection);
+         else
+         {
+            if (!connection.getAutoCommit())
+            {
+               connection.rollback();
+               connection.setAutoCommit(true);
+            }
+            restoreState(pooledConnection);
+            connection.clearWarnings();
+
+            pooledConnection.lastReleased = System.currentTimeMillis();
+            idleConnections.offerFirst(pooledConnection);
+
+            if (debug)
+               System.out.println(description + " (CP) Connection Returned, Idle: "
+                                  + idleConnections.size());
+         }
+      }
+      catch (SQLException e)
+      {
+         discard(pooledConnection);
+         throw e;
+      }
+      finally
+      {
+         permits.release();
+      }
+   }
+
+   //==============================================================
+   // Class method to close the pool. Idle connections are closed
+   // immediately, borrowed ones as they are returned.
+   //==============================================================
+
+   public void close(String description)
+   {
+      // Method Instances.
+      PooledConnection pooledConnection;
+
+      closed = true;
+      evictionTimer.cancel();
+
+      while ((pooledConnection = idleConnections.pollFirst()) != null)
+         discard(pooledConnection);
+      
+      for (int i = 0; i < poolGauges.length; i++)
+         MetricsRegistry.unregisterGauge(gaugeName + GAUGE_NAMES[i], poolGauges[i]);
+
+      if (debug)
+         System.out.println(description + " (CP) Connection Pool Closed");
+   }
+
+   //==============================================================
+   // Class method to acquire a borrow permit. On timeout borrowed
+   // connections that were closed directly, never released, are
+   // reclaimed and one more attempt made.
+   //==============================================================
+
+   private boolean acquirePermit() throws SQLException
+   {
+      try
+      {
+         if (permits.tryAcquire(borrowTimeout, TimeUnit.MILLISECONDS))
+            return true;
+
+         if (reclaimClosedConnections() > 0)
+            return permits.tryAcquire();
+
+         return false;
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+         throw new SQLException("Interrupted Waiting For Pooled Connection");
+      }
+   }
+
+   private int reclaimClosedConnections()
+   {
+      // Method Instances.
+      Iterator<Map.Entry<Connection, PooledConnection>> borrowedIterator;
+      int reclaimed;
+
+      reclaimed = 0;
+      borrowedIterator = borrowedConnections.entrySet().iterator();
+
+      while (borrowedIterator.hasNext())
+      {
+         Map.Entry<Connection, PooledConnection> entry = borrowedIterator.next();
+
+         try
+         {
+            // Only one of the reclaim & a concurrent release may
+            // remove the entry, so its permit is released once.
+            if (entry.getKey().isClosed()
+                && borrowedConnections.remove(entry.getKey(), entry.getValue()))
+            {
+               openCount.decrementAndGet();
+               permits.release();
+               reclaimed++;
+            }
+         }
+         catch (SQLException e)
+         {
+            // Leave it with the borrower.
+         }
+      }
+      return reclaimed;
+   }
+
+   //==============================================================
+   // Class method to close idle connections that have exceeded
+   // either the idle time or lifetime limits.
+   //==============================================================
+
+   private void evictIdleConnections()
+   {
+      // Method Instances.
+      Iterator<PooledConnection> idleIterator;
+      long currentTime;
+
+      currentTime = System.currentTimeMillis();
+      idleIterator = idleConnections.iterator();
+
+      while (idleIterator.hasNext())
+      {
+         PooledConnection pooledConnection = idleIterator.next();
+
+         if (isExpired(pooledConnection, currentTime)
+             || (maxIdleTime > 0 && (currentTime - pooledConnection.lastReleased) > maxIdleTime))
+         {
+            if (idleConnections.remove(pooledConnection))
+               discard(pooledConnection);
+         }
+      }
+   }
+
+   //==============================================================
+   // Class methods to record a new connection's state & restore
+   // it on release so a borrower's changes do not carry over to
+   // the next. The schema is only tracked with JDBC 4.1 drivers.
+   //==============================================================
+
+   private void recordState(PooledConnection pooledConnection) throws SQLException
+   {
+      // Method Instances.
+      Connection connection;
+
+      connection = pooledConnection.connection;
+
+      pooledConnection.readOnly = connection.isReadOnly();
+      pooledConnection.transactionIsolation = connection.getTransactionIsolation();
+      pooledConnection.catalog = connection.getCatalog();
+
+      try
+      {
+         pooledConnection.schema = connection.getSchema();
+         pooledConnection.schemaSupported = true;
+      }
+      catch (SQLException e)
+      {
+         pooledConnection.schemaSupported = false;
+      }
+      catch (AbstractMethodError e)
+      {
+         // Pre JDBC 4.1 driver.
+         pooledConnection.schemaSupported = false;
+      }
+   }
+
+   private void restoreState(PooledConnection pooledConnection) throws SQLException
+   {
+      // Method Instances.
+      Connection connection;
+      String currentValue;
+
+      connection = pooledConnection.connection;
+
+      if (connection.isReadOnly() != pooledConnection.readOnly)
+         connection.setReadOnly(pooledConnection.readOnly);
+
+      if (connection.getTransactionIsolation() != pooledConnection.transactionIsolation)
+         connection.setTransactionIsolation(pooledConnection.transactionIsolation);
+
+      currentValue = connection.getCatalog();
+
+      if (pooledConnection.catalog != null && !pooledConnection.catalog.equals(currentValue))
+         connection.setCatalog(pooledConnection.catalog);
+
+      if (pooledConnection.schemaSupported)
+      {
+         currentValue = connection.getSchema();
+
+         if (pooledConnection.schema != null && !pooledConnection.schema.equals(currentValue))
+            connection.setSchema(pooledConnection.schema);
+      }
+   }
+
+   //==============================================================
+   // Class methods to validate & dispose of pooled connections.
+   //==============================================================
+
+   private boolean isUsable(PooledConnection pooledConnection)
+   {
+      // Method Instances.
+      long currentTime;
+
+      currentTime = System.currentTimeMillis();
+
+      if (isExpired(pooledConnection, currentTime)
+          || (maxIdleTime > 0 && (currentTime - pooledConnection.lastReleased) > maxIdleTime))
+         return false;
+
+      try
+      {
+         return pooledConnection.connection.isValid(validationTimeout);
+      }
+      catch (SQLException e)
+      {
+         return false;
+      }
+      catch (AbstractMethodError e)
+      {
+         // Pre JDBC 4 driver, assume good if open.
+         try
+         {
+            return !pooledConnection.connection.isClosed();
+         }
+         catch (SQLException sqle)
+         {
+            return false;
+         }
+      }
+   }
+
+   private boolean isExpired(PooledConnection pooledConnection, long currentTime)
+   {
+      return (maxLifetime > 0 && (currentTime - pooledConnection.created) > maxLifetime);
+   }
+
+   private void discard(PooledConnection pooledConnection)
+   {
+      openCount.decrementAndGet();
+
+      try
+      {
+         if (!pooledConnection.connection.isClosed())
+            pooledConnection.connection.close();
+      }
+      catch (SQLException e)
+      {
+         if (debug)
+            System.out.println("ConnectionPool discard() " + e.getMessage());
+      }
+   }
+
+   //==============================================================
+   // Class methods to get the current pool usage.
+   //==============================================================
+
+   public int getMaxSize()
+   {
+      return maxSize;
+   }
+
+   public int getOpenCount()
+   {
+      return openCount.get();
+   }
+
+   public int getIdleCount()
+   {
+      return idleConnections.size();
+   }
+
+   public int getBorrowedCount()
+   {
+      return borrowedConnections.size();
+   }
+
+   public boolean isClosed()
+   {
+      return closed;
+   }
+
+   //==============================================================
+   // Class to provide the pool's usage values as gauges.
+   //==============================================================
+
+   private class PoolGauge implements MetricsGauge
+   {
+      private int gaugeIndex;
+
+      PoolGauge(int gaugeIndex)
+      {
+         this.gaugeIndex = gaugeIndex;
+      }
+
+      public long getValue()
+      {
+         if (gaugeIndex == 0)
+            return getMaxSize();
+         else if (gaugeIndex == 1)
+            return getOpenCount();
+         else if (gaugeIndex == 2)
+            return getIdleCount();
+         else
+            return getBorrowedCount();
+      }
+   }
+
+   //==============================================================
+   // Class to hold a physical connection with its time stamps &
+   // state at creation.
+   //==============================================================
+
+   private static class PooledConnection
+   {
+      private Connection connection;
+      private long created;
+      private long lastBorrowed;
+      private long lastReleased;
+
+      private boolean readOnly;
+      private int transactionIsolation;
+      private String catalog;
+      private String schema;
+      private boolean schemaSupported;
+
+      PooledConnection(Connection connection)
+      {
+         this.connection = connection;
+         created = System.currentTimeMillis();
+         lastBorrowed = created;
+         lastReleased = created;
+      }
+   }
+}
@@ -8,7 +8,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.6 06/11/2018
+// Version 1.7 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -39,6 +39,8 @@
 //         1.5 Reverted v1.3 For Just HSQL, Multiple Databases Tag
 //             Properties on URL Connection.
 //         1.6 Updated Copyright.
+//         1.7 Added Class Instance schemaMetadataCache Along With
+//             Method getSchemaMetadataCache().
 //
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -68,7 +70,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * for the storage of database connection properties.
  * 
  * @author Dana M. Proctor
- * @version 1.6 06/11/2018
+ * @version 1.7 10/18/2026
  */
 
 public class DatabaseProperties
@@ -79,6 +81,7 @@ public class DatabaseProperties
    private ArrayList<String> schemas;
    private ArrayList<String> tables;
    private String[] tableTypes;
+   private SchemaMetadataCache schemaMetadataCache;
    
    private String dbType, catalog, schemaPattern, tableNamePattern;
    
@@ -123,6 +126,7 @@ public class DatabaseProperties
       
       schemas = new ArrayList<String>();
       tables = new ArrayList<String>();
+      schemaMetadataCache = new SchemaMetadataCache(connectionProperties);
    }
    
    public void init(Connection dbConnection) throws SQLException
@@ -796,6 +800,16 @@ public class DatabaseProperties
       return schemasList;
    }
    
+   //==============================================================
+   // Class method to return the database's table schema metadata
+   // cache.
+   //==============================================================
+   
+   public SchemaMetadataCache getSchemaMetadataCache()
+   {
+      return schemaMetadataCache;
+   }
+   
    //==============================================================
    // Class method to return a copy of the default database table
    // names.
@@ -0,0 +1,943 @@
+//=================================================================
+//                    SchemaMetadataCache
+//=================================================================
+//    This class provides a cache of the table schema metadata,
+// columns, types, sizes, primary keys, foreign keys, & indexes,
+// for a database connection so that the server is not queried
+// again each time a table is opened or its definition exported.
+//
+//                 << SchemaMetadataCache.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial SchemaMetadataCache Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.datasource;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetProvider;
+
+import com.dandymadeproductions.ajqvue.Ajqvue;
+import com.dandymadeproductions.ajqvue.structures.GeneralDBProperties;
+import com.dandymadeproductions.ajqvue.utilities.Utils;
+
+/**
+ *    The SchemaMetadataCache class provides a cache of the table schema
+ * metadata, columns, types, sizes, primary keys, foreign keys, &amp;
+ * indexes, for a database connection. Results are held per table so
+ * that a table may be invalidated on its own, or all tables at once.
+ * Entries may also expire after a time to live. With a time to live the
+ * cache is saved to the Ajqvue cache directory so that reconnecting to
+ * the same site starts with the metadata already known, the saved file
+ * only read back as the cache's own classes &amp; rowsets. Statements that
+ * change the schema should invalidate the cache.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class SchemaMetadataCache
+{
+   // Class Instances
+   private String siteKey;
+   private File cacheFile;
+   private HashMap<String, TableEntry> tableEntries;
+   private boolean enabled;
+   private long timeToLive;
+   private boolean loaded;
+   private boolean changed;
+
+   private static final String TABLE_METADATA = "TableMetaData:";
+   private static final String COLUMNS = "Columns:";
+   private static final String PRIMARY_KEYS = "PrimaryKeys:";
+   private static final String INDEX_INFO = "IndexInfo:";
+   private static final String IMPORTED_KEYS = "ImportedKeys:";
+   private static final String QUERY = "Query:";
+
+   private static final String CACHE_FILE_PREFIX = "schema_";
+   private static final String CACHE_FILE_EXTENSION = ".cache";
+
+   private static final String[] SCHEMA_STATEMENTS = {"CREATE", "ALTER", "DROP", "RENAME",
+                                                      "TRUNCATE", "COMMENT"};
+
+   private static final HashSet<String> SAVED_CLASSES = new HashSet <String>(Arrays.asList(
+      "java.lang.Object", "java.lang.String", "java.lang.Boolean", "java.lang.Byte",
+      "java.lang.Short", "java.lang.Integer", "java.lang.Long", "java.lang.Float",
+      "java.lang.Double", "java.lang.Character", "java.lang.Number", "java.math.BigDecimal",
+      "java.math.BigInteger",
+      "java.lang.Throwable", "java.lang.Exception", "java.lang.StackTraceElement",
+      "java.sql.SQLException", "java.sql.SQLWarning", "java.sql.Date", "java.sql.Time",
+      "java.sql.Timestamp", "java.util.Date", "java.util.HashMap", "java.util.Hashtable",
+      "java.util.Vector", "java.util.ArrayList", "java.util.BitSet",
+      "java.util.Collections$EmptyList", "java.util.Collections$UnmodifiableRandomAccessList",
+      "java.util.Collections$UnmodifiableList", "java.util.Collections$UnmodifiableCollection"));
+
+   //==============================================================
+   // SchemaMetadataCache Constructor
+   //==============================================================
+
+   public SchemaMetadataCache(ConnectionProperties connectionProperties)
+   {
+      // Constructor Instances
+      GeneralDBProperties generalDBProperties;
+      String connectionURLString;
+      String user;
+
+      generalDBProperties = new GeneralDBProperties();
+      enabled = generalDBProperties.getSchemaCache();
+      timeToLive = generalDBProperties.getSchemaCacheTTL() * 60000L;
+
+      connectionURLString = connectionProperties.getConnectionURLString();
+      user = connectionProperties.getProperty(ConnectionProperties.USER);
+
+      if (connectionURLString == null)
+         connectionURLString = "";
+      if (user == null)
+         user = "";
+
+      siteKey = connectionURLString + " " + user;
+
+      // Memory databases are new each connection.
+      if (isMemoryDatabase(connectionURLString))
+         cacheFile = null;
+      else
+         cacheFile = new File(Utils.getCacheDirectory() + CACHE_FILE_PREFIX
+                              + Integer.toHexString(siteKey.hashCode()) + CACHE_FILE_EXTENSION);
+
+      tableEntries = new HashMap <String, TableEntry>();
+      loaded = false;
+      changed = false;
+   }
+
+   //==============================================================
+   // Class method to obtain the metadata of a table's columns as
+   // given by a probe query on the table.
+   //==============================================================
+
+   public ResultSetMetaData getTableMetaData(String table, Statement sqlStatement,
+                                             String sqlStatementString) throws SQLException
+   {
+      // Method Instances
+      Object cached;
+      ResultSet resultSet;
+      TableMetaData tableMetaData;
+
+      if (!enabled)
+         return sqlStatement.executeQuery(sqlStatementString).getMetaData();
+
+      cached = get(table, TABLE_METADATA + sqlStatementString);
+
+      if (cached != null)
+         return (TableMetaData) cached;
+
+      resultSet = sqlStatement.executeQuery(sqlStatementString);
+
+      try
+      {
+         tableMetaData = new TableMetaData(resultSet.getMetaData());
+      }
+      finally
+      {
+         resultSet.close();
+      }
+
+      put(table, TABLE_METADATA + sqlStatementString, tableMetaData);
+      return tableMetaData;
+   }
+
+   //==============================================================
+   // Class methods to obtain the DatabaseMetaData results for a
+   // table's columns, primary keys, indexes, & foreign keys.
+   //==============================================================
+
+   public ResultSet getColumns(String table, DatabaseMetaData dbMetaData, String catalog,
+                               String schemaPattern, String tableNamePattern,
+                               String columnNamePattern) throws SQLException
+   {
+      // Method Instances
+      String key;
+      CachedRowSet cached;
+
+      if (!enabled)
+         return dbMetaData.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern);
+
+      key = COLUMNS + catalog + " " + schemaPattern + " " + tableNamePattern + " "
+            + columnNamePattern;
+      cached = getRowSet(table, key);
+
+      if (cached != null)
+         return cached;
+
+      return putRowSet(table, key, dbMetaData.getColumns(catalog, schemaPattern, tableNamePattern,
+                                                         columnNamePattern));
+   }
+
+   public ResultSet getPrimaryKeys(String table, DatabaseMetaData dbMetaData, String catalog,
+                                   String schema, String tableName) throws SQLException
+   {
+      // Method Instances
+      String key;
+      CachedRowSet cached;
+
+      if (!enabled)
+         return dbMetaData.getPrimaryKeys(catalog, schema, tableName);
+
+      key = PRIMARY_KEYS + catalog + " " + schema + " " + tableName;
+      cached = getRowSet(table, key);
+
+      if (cached != null)
+         return cached;
+
+      return putRowSet(table, key, dbMetaData.getPrimaryKeys(catalog, schema, tableName));
+   }
+
+   public ResultSet getIndexInfo(String table, DatabaseMetaData dbMetaData, String catalog,
+                                 String schema, String tableName, boolean unique,
+                                 boolean approximate) throws SQLException
+   {
+      // Method Instances
+      String key;
+      CachedRowSet cached;
+
+      if (!enabled)
+         return dbMetaData.getIndexInfo(catalog, schema, tableName, unique, approximate);
+
+      key = INDEX_INFO + catalog + " " + schema + " " + tableName + " " + unique + " " + approximate;
+      cached = getRowSet(table, key);
+
+      if (cached != null)
+         return cached;
+
+      return putRowSet(table, key, dbMetaData.getIndexInfo(catalog, schema, tableName, unique,
+                                                           approximate));
+   }
+
+   public ResultSet getImportedKeys(String table, DatabaseMetaData dbMetaData, String catalog,
+                                    String schema, String tableName) throws SQLException
+   {
+      // Method Instances
+      String key;
+      CachedRowSet cached;
+
+      if (!enabled)
+         return dbMetaData.getImportedKeys(catalog, schema, tableName);
+
+      key = IMPORTED_KEYS + catalog + " " + schema + " " + tableName;
+      cached = getRowSet(table, key);
+
+      if (cached != null)
+         return cached;
+
+      return putRowSet(table, key, dbMetaData.getImportedKeys(catalog, schema, tableName));
+   }
+
+   //==============================================================
+   // Class method to obtain the results of a database specific
+   // query for a table's schema, such as a DESCRIBE or a select
+   // on the database's system catalog tables.
+   //==============================================================
+
+   public ResultSet executeQuery(String table, Statement sqlStatement,
+                                 String sqlStatementString) throws SQLException
+   {
+      // Method Instances
+      CachedRowSet cached;
+
+      if (!enabled)
+         return sqlStatement.executeQuery(sqlStatementString);
+
+      cached = getRowSet(table, QUERY + sqlStatementString);
+
+      if (cached != null)
+         return cached;
+
+      return putRowSet(table, QUERY + sqlStatementString,
+                       sqlStatement.executeQuery(sqlStatementString));
+   }
+
+   //==============================================================
+   // Class methods to store a result set's rows & return a copy
+   // of those stored. Each caller is given its own copy so that it
+   // may be moved through & closed independently.
+   //==============================================================
+
+   private ResultSet putRowSet(String table, String key, ResultSet resultSet) throws SQLException
+   {
+      // Method Instances
+      CachedRowSet cachedRowSet;
+
+      cachedRowSet = RowSetProvider.newFactory().createCachedRowSet();
+
+      try
+      {
+         cachedRowSet.populate(resultSet);
+      }
+      finally
+      {
+         resultSet.close();
+      }
+
+      // The provider's rowset is expected to be serializable.
+      if (cachedRowSet instanceof Serializable)
+         put(table, key, (Serializable) cachedRowSet);
+      return cachedRowSet.createCopy();
+   }
+
+   private CachedRowSet getRowSet(String table, String key) throws SQLException
+   {
+      // Method Instances
+      Object cached;
+
+      cached = get(table, key);
+
+      if (cached == null)
+         return null;
+
+      return ((CachedRowSet) cached).createCopy();
+   }
+
+   //==============================================================
+   // Class methods to get & put a table's cached result, expiring
+   // the table's results once past the time to live.
+   //==============================================================
+
+   private synchronized Object get(String table, String key)
+   {
+      // Method Instances
+      TableEntry tableEntry;
+
+      load();
+      tableEntry = tableEntries.get(getTableKey(table));
+
+      if (tableEntry == null)
+         return null;
+
+      if (timeToLive > 0 && (System.currentTimeMillis() - tableEntry.loadTime) > timeToLive)
+      {
+         tableEntries.remove(getTableKey(table));
+         changed = true;
+         return null;
+      }
+      return tableEntry.results.get(key);
+   }
+
+   private synchronized void put(String table, String key, Serializable result)
+   {
+      // Method Instances
+      TableEntry tableEntry;
+
+      tableEntry = tableEntries.get(getTableKey(table));
+
+      if (tableEntry == null)
+      {
+         tableEntry = new TableEntry();
+         tableEntries.put(getTableKey(table), tableEntry);
+      }
+      tableEntry.results.put(key, result);
+      changed = true;
+   }
+
+   //==============================================================
+   // Class method to return the key for a table, identifiers
+   // being stored without quoting.
+   //==============================================================
+
+   private static String getTableKey(String table)
+   {
+      // Method Instances
+      StringBuilder tableKey;
+      char c;
+
+      tableKey = new StringBuilder(table.length());
+
+      for (int i = 0; i < table.length(); i++)
+      {
+         c = table.charAt(i);
+
+         if (c != '"' && c != '`' && c != '[' && c != ']')
+            tableKey.append(c);
+      }
+      return tableKey.toString();
+   }
+
+   //==============================================================
+   // Class methods to invalidate the cached metadata of a table or
+   // of all tables.
+   //==============================================================
+
+   public synchronized void invalidate(String table)
+   {
+      load();
+
+      if (tableEntries.remove(getTableKey(table)) != null)
+         changed = true;
+   }
+
+   public synchronized void invalidateAll()
+   {
+      loaded = true;
+      tableEntries.clear();
+      changed = true;
+   }
+
+   //==============================================================
+   // Class method to determine if a statement may change the
+   // schema, DDL, so the cache should be invalidated once run.
+   //==============================================================
+
+   public static boolean isSchemaStatement(String sqlStatementString)
+   {
+      // Method Instances
+      String statement;
+
+      statement = sqlStatementString.trim().toUpperCase(Locale.ENGLISH);
+
+      for (int i = 0; i < SCHEMA_STATEMENTS.length; i++)
+      {
+         if (statement.startsWith(SCHEMA_STATEMENTS[i])
+             && (statement.length() == SCHEMA_STATEMENTS[i].length()
+                 || !Character.isLetterOrDigit(statement.charAt(SCHEMA_STATEMENTS[i].length()))))
+            return true;
+      }
+      return false;
+   }
+
+   //==============================================================
+   // Class method to load the cache saved for the site.
+   //==============================================================
+
+   private void load()
+   {
+      // Method Instances
+      ObjectInputStream objectInputStream;
+      Object cacheObject;
+      HashMap<?, ?> savedEntries;
+      TableEntry tableEntry;
+
+      if (loaded)
+         return;
+
+      loaded = true;
+
+      // Without a time to live nothing saved would expire.
+      if (timeToLive <= 0 || cacheFile == null || !cacheFile.isFile())
+         return;
+
+      objectInputStream = null;
+
+      try
+      {
+         objectInputStream = new CacheObjectInputStream(new BufferedInputStream(
+            new FileInputStream(cacheFile)));
+
+         // Different site, same hash.
+         if (!siteKey.equals(objectInputStream.readObject()))
+            return;
+
+         cacheObject = objectInputStream.readObject();
+
+         if (!(cacheObject instanceof HashMap))
+            return;
+
+         savedEntries = (HashMap<?, ?>) cacheObject;
+
+         for (Map.Entry<?, ?> savedEntry : savedEntries.entrySet())
+         {
+            tableEntry = readTableEntry((byte[]) savedEntry.getValue());
+
+            if (tableEntry != null)
+               tableEntries.put((String) savedEntry.getKey(), tableEntry);
+         }
+
+         if (Ajqvue.getDebug())
+            System.out.println("SchemaMetadataCache load() " + tableEntries.size()
+                               + " Tables From " + cacheFile);
+      }
+      catch (IOException e)
+      {
+         if (Ajqvue.getDebug())
+            System.out.println("SchemaMetadataCache load() " + e.toString());
+      }
+      catch (ClassNotFoundException e)
+      {
+         if (Ajqvue.getDebug())
+            System.out.println("SchemaMetadataCache load() " + e.toString());
+      }
+      catch (ClassCastException e)
+      {
+         if (Ajqvue.getDebug())
+            System.out.println("SchemaMetadataCache load() " + e.toString());
+      }
+      finally
+      {
+         try
+         {
+            if (objectInputStream != null)
+               objectInputStream.close();
+         }
+         catch (IOException ioe)
+         {
+            if (Ajqvue.getDebug())
+               System.out.println("SchemaMetadataCache load() Failed to Close. " + ioe.toString());
+         }
+      }
+   }
+
+   //==============================================================
+   // Class method to save the cache for the site, if changed.
+   // Each table is written separately so one that can not be,
+   // perhaps holding a driver specific value, is just skipped.
+   //==============================================================
+
+   public synchronized void save()
+   {
+      // Method Instances
+      HashMap<String, byte[]> savedEntries;
+      Iterator<Map.Entry<String, TableEntry>> tableEntriesIterator;
+      Map.Entry<String, TableEntry> tableEntry;
+      byte[] savedEntry;
+      ObjectOutputStream objectOutputStream;
+
+      if (!changed || cacheFile == null || timeToLive <= 0)
+         return;
+
+      savedEntries = new HashMap <String, byte[]>();
+      tableEntriesIterator = tableEntries.entrySet().iterator();
+
+      while (tableEntriesIterator.hasNext())
+      {
+         tableEntry = tableEntriesIterator.next();
+         savedEntry = writeTableEntry(tableEntry.getValue());
+
+         if (savedEntry != null)
+            savedEntries.put(tableEntry.getKey(), savedEntry);
+      }
+
+      objectOutputStream = null;
+
+      try
+      {
+         objectOutputStream = new ObjectOutputStream(new BufferedOutputStream(
+            new FileOutputStream(cacheFile)));
+         objectOutputStream.writeObject(siteKey);
+         objectOutputStream.writeObject(savedEntries);
+         changed = false;
+      }
+      catch (IOException e)
+      {
+         if (Ajqvue.getDebug())
+            System.out.println("SchemaMetadataCache save() " + e.toString());
+      }
+      finally
+      {
+         try
+         {
+            if (objectOutputStream != null)
+               objectOutputStream.close();
+         }
+         catch (IOException ioe)
+         {
+            if (Ajqvue.getDebug())
+               System.out.println("SchemaMetadataCache save() Failed to Close. " + ioe.toString());
+         }
+      }
+   }
+
+   //==============================================================
+   // Class methods to write & read a table entry's serial form.
+   //==============================================================
+
+   private static byte[] writeTableEntry(TableEntry tableEntry)
+   {
+      // Method Instances
+      ByteArrayOutputStream byteArrayOutputStream;
+      ObjectOutputStream objectOutputStream;
+
+      try
+      {
+         byteArrayOutputStream = new ByteArrayOutputStream();
+         objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+         objectOutputStream.writeObject(tableEntry);
+         objectOutputStream.close();
+         return byteArrayOutputStream.toByteArray();
+      }
+      catch (IOException e)
+      {
+         if (Ajqvue.getDebug())
+            System.out.println("SchemaMetadataCache writeTableEntry() " + e.toString());
+         return null;
+      }
+   }
+
+   private static TableEntry readTableEntry(byte[] savedEntry)
+   {
+      // Method Instances
+      ObjectInputStream objectInputStream;
+
+      try
+      {
+         objectInputStream = new CacheObjectInputStream(new ByteArrayInputStream(savedEntry));
+
+         try
+         {
+            Object tableEntry = objectInputStream.readObject();
+            return (tableEntry instanceof TableEntry) ? (TableEntry) tableEntry : null;
+         }
+         finally
+         {
+            objectInputStream.close();
+         }
+      }
+      catch (IOException e)
+      {
+         if (Ajqvue.getDebug())
+            System.out.println("SchemaMetadataCache readTableEntry() " + e.toString());
+         return null;
+      }
+      catch (ClassNotFoundException e)
+      {
+         if (Ajqvue.getDebug())
+            System.out.println("SchemaMetadataCache readTableEntry() " + e.toString());
+         return null;
+      }
+   }
+
+   //==============================================================
+   // Class method to determine if a connection URL is for a memory
+   // database.
+   //==============================================================
+
+   private static boolean isMemoryDatabase(String connectionURLString)
+   {
+      // Method Instances
+      String url;
+
+      url = connectionURLString.toLowerCase(Locale.ENGLISH);
+
+      return (url.indexOf(":memory:") != -1 || url.indexOf("mem:") != -1
+              || url.indexOf("memory:") != -1);
+   }
+
+   //==============================================================
+   // Inner class to read the saved cache, resolving only the
+   // classes the cache itself writes, so a changed file can not
+   // have any other serializable class created.
+   //==============================================================
+
+   private static class CacheObjectInputStream extends ObjectInputStream
+   {
+      CacheObjectInputStream(InputStream inputStream) throws IOException
+      {
+         super(inputStream);
+      }
+
+      protected Class<?> resolveClass(ObjectStreamClass objectStreamClass)
+                         throws IOException, ClassNotFoundException
+      {
+         // Method Instances
+         String className;
+
+         className = objectStreamClass.getName();
+
+         // Arrays by their component.
+         while (className.startsWith("["))
+            className = className.substring(1);
+
+         if (className.startsWith("L") && className.endsWith(";"))
+            className = className.substring(1, className.length() - 1);
+
+         if (className.length() == 1 || SAVED_CLASSES.contains(className)
+             || className.startsWith(SchemaMetadataCache.class.getName() + "$")
+             || className.startsWith("com.sun.rowset.") || className.startsWith("javax.sql.rowset."))
+            return super.resolveClass(objectStreamClass);
+
+         throw new InvalidClassException(objectStreamClass.getName(), "Not a Schema Cache Class");
+      }
+   }
+
+   //==============================================================
+   // Inner class to hold a table's cached results.
+   //==============================================================
+
+   private static class TableEntry implements Serializable
+   {
+      private static final long serialVersionUID = -6183042955627196342L;
+
+      private long loadTime;
+      private HashMap<String, Serializable> results;
+
+      TableEntry()
+      {
+         loadTime = System.currentTimeMillis();
+         results = new HashMap <String, Serializable>();
+      }
+   }
+
+   //==============================================================
+   // Inner class to hold the metadata of a probe query's columns
+   // after its result set has been closed.
+   //==============================================================
+
+   private static class TableMetaData implements ResultSetMetaData, Serializable
+   {
+      private static final long serialVersionUID = 4301969528816264127L;
+
+      private int columnCount;
+      private String[] catalogName, schemaName, tableName;
+      private String[] columnName, columnLabel, columnClassName, columnTypeName;
+      private int[] columnType, columnDisplaySize, precision, scale, nullable;
+      private boolean[] autoIncrement, caseSensitive, searchable, currency, signed;
+      private boolean[] readOnly, writable, definitelyWritable;
+
+      TableMetaData(ResultSetMetaData metaData) throws SQLException
+      {
+         columnCount = metaData.getColumnCount();
+
+         catalogName = new String[columnCount];
+         schemaName = new String[columnCount];
+         tableName = new String[columnCount];
+         columnName = new String[columnCount];
+         columnLabel = new String[columnCount];
+         columnClassName = new String[columnCount];
+         columnTypeName = new String[columnCount];
+         columnType = new int[columnCount];
+         columnDisplaySize = new int[columnCount];
+         precision = new int[columnCount];
+         scale = new int[columnCount];
+         nullable = new int[columnCount];
+         autoIncrement = new boolean[columnCount];
+         caseSensitive = new boolean[columnCount];
+         searchable = new boolean[columnCount];
+         currency = new boolean[columnCount];
+         signed = new boolean[columnCount];
+         readOnly = new boolean[columnCount];
+         writable = new boolean[columnCount];
+         definitelyWritable = new boolean[columnCount];
+
+         for (int i = 0; i < columnCount; i++)
+         {
+            columnName[i] = metaData.getColumnName(i + 1);
+            columnLabel[i] = metaData.getColumnLabel(i + 1);
+            columnClassName[i] = metaData.getColumnClassName(i + 1);
+            columnType[i] = metaData.getColumnType(i + 1);
+            columnTypeName[i] = metaData.getColumnTypeName(i + 1);
+            columnDisplaySize[i] = metaData.getColumnDisplaySize(i + 1);
+
+            // Not all drivers support the rest for every type.
+            try
+            {
+               catalogName[i] = metaData.getCatalogName(i + 1);
+               schemaName[i] = metaData.getSchemaName(i + 1);
+               tableName[i] = metaData.getTableName(i + 1);
+            }
+            catch (SQLException e)
+            {
+               if (Ajqvue.getDebug())
+                  System.out.println("SchemaMetadataCache TableMetaData() " + e.toString());
+            }
+
+            try
+            {
+               precision[i] = metaData.getPrecision(i + 1);
+               scale[i] = metaData.getScale(i + 1);
+            }
+            catch (SQLException e)
+            {
+               if (Ajqvue.getDebug())
+                  System.out.println("SchemaMetadataCache TableMetaData() " + e.toString());
+            }
+            catch (NumberFormatException e)
+            {
+               if (Ajqvue.getDebug())
+                  System.out.println("SchemaMetadataCache TableMetaData() " + e.toString());
+            }
+
+            try
+            {
+               nullable[i] = metaData.isNullable(i + 1);
+               autoIncrement[i] = metaData.isAutoIncrement(i + 1);
+               caseSensitive[i] = metaData.isCaseSensitive(i + 1);
+               searchable[i] = metaData.isSearchable(i + 1);
+               currency[i] = metaData.isCurrency(i + 1);
+               signed[i] = metaData.isSigned(i + 1);
+               readOnly[i] = metaData.isReadOnly(i + 1);
+               writable[i] = metaData.isWritable(i + 1);
+               definitelyWritable[i] = metaData.isDefinitelyWritable(i + 1);
+            }
+            catch (SQLException e)
+            {
+               if (Ajqvue.getDebug())
+                  System.out.println("SchemaMetadataCache TableMetaData() " + e.toString());
+            }
+         }
+      }
+
+      public int getColumnCount()
+      {
+         return columnCount;
+      }
+
+      public boolean isAutoIncrement(int column)
+      {
+         return autoIncrement[column - 1];
+      }
+
+      public boolean isCaseSensitive(int column)
+      {
+         return caseSensitive[column - 1];
+      }
+
+      public boolean isSearchable(int column)
+      {
+         return searchable[column - 1];
+      }
+
+      public boolean isCurrency(int column)
+      {
+         return currency[column - 1];
+      }
+
+      public int isNullable(int column)
+      {
+         return nullable[column - 1];
+      }
+
+      public boolean isSigned(int column)
+      {
+         return signed[column - 1];
+      }
+
+      public int getColumnDisplaySize(int column)
+      {
+         return columnDisplaySize[column - 1];
+      }
+
+      public String getColumnLabel(int column)
+      {
+         return columnLabel[column - 1];
+      }
+
+      public String getColumnName(int column)
+      {
+         return columnName[column - 1];
+      }
+
+      public String getSchemaName(int column)
+      {
+         return schemaName[column - 1];
+      }
+
+      public int getPrecision(int column)
+      {
+         return precision[column - 1];
+      }
+
+      public int getScale(int column)
+      {
+         return scale[column - 1];
+      }
+
+      public String getTableName(int column)
+      {
+         return tableName[column - 1];
+      }
+
+      public String getCatalogName(int column)
+      {
+         return catalogName[column - 1];
+      }
+
+      public int getColumnType(int column)
+      {
+         return columnType[column - 1];
+      }
+
+      public String getColumnTypeName(int column)
+      {
+         return columnTypeName[column - 1];
+      }
+
+      public boolean isReadOnly(int column)
+      {
+         return readOnly[column - 1];
+      }
+
+      public boolean isWritable(int column)
+      {
+         return writable[column - 1];
+      }
+
+      public boolean isDefinitelyWritable(int column)
+      {
+         return definitelyWritable[column - 1];
+      }
+
+      public String getColumnClassName(int column)
+      {
+         return columnClassName[column - 1];
+      }
+
+      public <T> T unwrap(Class<T> iface) throws SQLException
+      {
+         if (iface.isInstance(this))
+            return iface.cast(this);
+         throw new SQLException("SchemaMetadataCache TableMetaData Not a Wrapper for " + iface);
+      }
+
+      public boolean isWrapperFor(Class<?> iface)
+      {
+         return iface.isInstance(this);
+      }
+   }
+}
@@ -0,0 +1,512 @@
+//=================================================================
+//                        SlowQueryLog
+//=================================================================
+//
+//    This class provides a journal of the queries whose execution
+// exceeds the slow query threshold, kept in a bounded history &
+// written by a background thread to a rotating log file in the
+// Ajqvue configuration directory.
+//
+//                   << SlowQueryLog.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial SlowQueryLog Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.datasource;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import com.dandymadeproductions.ajqvue.Ajqvue;
+import com.dandymadeproductions.ajqvue.structures.GeneralDBProperties;
+import com.dandymadeproductions.ajqvue.utilities.Utils;
+
+/**
+ *    The SlowQueryLog class provides a journal of the queries, table
+ * loads &amp; Query Frame statements, whose execution exceeds the slow
+ * query threshold. Each entry holds the time, elapsed milliseconds, rows
+ * returned, source component, &amp; SQL. The most recent entries are kept
+ * in a bounded history and handed to a background thread which appends
+ * them to the slow_query.log in the Ajqvue configuration directory, the
+ * file rotated once it reaches its size limit. Entries are dropped, not
+ * waited on, if the writer falls behind so a query is never delayed by
+ * the journal. A threshold of zero disables the log.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class SlowQueryLog
+{
+   // Class Instances.
+   private static volatile int threshold = -1;
+   private static LinkedList<Entry> history = new LinkedList <Entry>();
+   private static boolean historyLoaded = false;
+   private static ArrayBlockingQueue<Entry> pendingEntries = new ArrayBlockingQueue <Entry>(256);
+   private static Thread writerThread;
+
+   public static final String FILE_NAME = "slow_query.log";
+   public static final int HISTORY_SIZE = 500;
+   public static final long MAX_FILE_SIZE = 1024 * 1024;
+   public static final int MAX_FILES = 3;
+
+   private static final String DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
+   private static final String DELIMITER = "\t";
+
+   //==============================================================
+   // SlowQueryLog Constructor
+   //==============================================================
+
+   private SlowQueryLog()
+   {
+      // Just a utility class, all methods static.
+   }
+
+   //==============================================================
+   // Class method to record a query, given its elapsed time in
+   // nanoseconds, if it exceeds the threshold. Rows are -1 when
+   // not known.
+   //==============================================================
+
+   public static void record(String sqlString, long elapsedTime, long rows, String source)
+   {
+      // Method Instances
+      long elapsedMillis;
+      Entry entry;
+
+      elapsedMillis = elapsedTime / 1000000;
+
+      if (getThreshold() <= 0 || elapsedMillis < threshold || sqlString == null)
+         return;
+
+      entry = new Entry(System.currentTimeMillis(), elapsedMillis, rows, source, sqlString.trim());
+
+      synchronized (history)
+      {
+         loadHistory();
+         history.addLast(entry);
+         if (history.size() > HISTORY_SIZE)
+            history.removeFirst();
+      }
+
+      if (!pendingEntries.offer(entry))
+      {
+         if (Ajqvue.getDebug())
+            System.out.println("SlowQueryLog record() Writer Behind, Entry Not Written.");
+         return;
+      }
+      startWriter();
+   }
+
+   //==============================================================
+   // Class methods to get & set the threshold in milliseconds, the
+   // latter saved to the general database preferences.
+   //==============================================================
+
+   public static int getThreshold()
+   {
+      if (threshold < 0)
+         threshold = (new GeneralDBProperties()).getSlowQueryThreshold();
+
+      return threshold;
+   }
+
+   public static void setThreshold(int value)
+   {
+      threshold = Math.max(0, value);
+      (new GeneralDBProperties()).setSlowQueryThreshold(threshold);
+   }
+
+   //==============================================================
+   // Class method to return the entries, oldest first.
+   //==============================================================
+
+   public static ArrayList<Entry> getEntries()
+   {
+      synchronized (history)
+      {
+         loadHistory();
+         return new ArrayList <Entry>(history);
+      }
+   }
+
+   //==============================================================
+   // Class method to read the history from the log file, once,
+   // before any entry of this session is added.
+   //==============================================================
+
+   private static void loadHistory()
+   {
+      if (historyLoaded)
+         return;
+
+      historyLoaded = true;
+      history.addAll(readLogFile(getLogFile()));
+   }
+
+   //==============================================================
+   // Class method to clear the history & the log files.
+   //==============================================================
+
+   public static void clear()
+   {
+      synchronized (history)
+      {
+         history.clear();
+         historyLoaded = true;
+      }
+
+      pendingEntries.clear();
+
+      synchronized (SlowQueryLog.class)
+      {
+         for (int i = 0; i <= MAX_FILES; i++)
+         {
+            File logFile = getLogFile(i);
+
+            if (logFile.exists() && !logFile.delete())
+               System.err.println("SlowQueryLog clear() Unable to Delete: " + logFile);
+         }
+      }
+   }
+
+   //==============================================================
+   // Class methods to return the log file & its rotated copies,
+   // slow_query.log.1 the most recent.
+   //==============================================================
+
+   public static File getLogFile()
+   {
+      return getLogFile(0);
+   }
+
+   private static File getLogFile(int index)
+   {
+      return new File(Utils.getAjqvueConfDirectory() + Utils.getFileSeparator() + FILE_NAME
+                      + ((index > 0) ? ("." + index) : ""));
+   }
+
+   //==============================================================
+   // Class method to start the background writer on the first
+   // entry.
+   //==============================================================
+
+   private static synchronized void startWriter()
+   {
+      if (writerThread != null)
+         return;
+
+      writerThread = new Thread(new Runnable()
+      {
+         public void run()
+         {
+            // Method Instances
+            ArrayList<Entry> entries;
+
+            entries = new ArrayList <Entry>();
+
+            while (true)
+            {
+               try
+               {
+                  entries.add(pendingEntries.take());
+               }
+               catch (InterruptedException e)
+               {
+                  return;
+               }
+               pendingEntries.drainTo(entries);
+               writeEntries(entries);
+               entries.clear();
+            }
+         }
+      }, "SlowQueryLog");
+
+      writerThread.setDaemon(true);
+      writerThread.setPriority(Thread.MIN_PRIORITY);
+      writerThread.start();
+   }
+
+   //==============================================================
+   // Class method to append entries to the log file, rotating the
+   // files beforehand if the size limit has been reached.
+   //==============================================================
+
+   private static synchronized void writeEntries(ArrayList<Entry> entries)
+   {
+      // Method Instances
+      File confDirectory, logFile;
+      BufferedWriter logWriter;
+
+      confDirectory = new File(Utils.getAjqvueConfDirectory());
+      logFile = getLogFile();
+      logWriter = null;
+
+      try
+      {
+         if (!confDirectory.isDirectory() && !confDirectory.mkdirs())
+            throw new IOException("Unable to Create: " + confDirectory);
+
+         if (logFile.length() >= MAX_FILE_SIZE)
+            rotateLogFiles();
+
+         logWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(logFile, true),
+                                                               StandardCharsets.UTF_8));
+
+         for (int i = 0; i < entries.size(); i++)
+         {
+            logWriter.write(entries.get(i).toLogString());
+            logWriter.newLine();
+         }
+      }
+      catch (IOException e)
+      {
+         System.err.println("SlowQueryLog writeEntries() " + e.getMessage());
+      }
+      finally
+      {
+         try
+         {
+            if (logWriter != null)
+               logWriter.close();
+         }
+         catch (IOException e)
+         {
+            System.err.println("SlowQueryLog writeEntries() Failed to Close Writer. " + e.getMessage());
+         }
+      }
+   }
+
+   private static void rotateLogFiles()
+   {
+      // Method Instances
+      File rotatedFile;
+
+      rotatedFile = getLogFile(MAX_FILES);
+
+      if (rotatedFile.exists() && !rotatedFile.delete())
+         System.err.println("SlowQueryLog rotateLogFiles() Unable to Delete: " + rotatedFile);
+
+      for (int i = MAX_FILES - 1; i >= 0; i--)
+      {
+         rotatedFile = getLogFile(i);
+
+         if (rotatedFile.exists() && !rotatedFile.renameTo(getLogFile(i + 1)))
+            System.err.println("SlowQueryLog rotateLogFiles() Unable to Rotate: " + rotatedFile);
+      }
+   }
+
+   //==============================================================
+   // Class method to read the entries of the log file, lines that
+   // can not be parsed being skipped.
+   //==============================================================
+
+   private static LinkedList<Entry> readLogFile(File logFile)
+   {
+      // Method Instances
+      LinkedList<Entry> entries;
+      BufferedReader logReader;
+      String currentLine;
+      Entry entry;
+
+      entries = new LinkedList <Entry>();
+
+      if (!logFile.exists())
+         return entries;
+
+      logReader = null;
+
+      synchronized (SlowQueryLog.class)
+      {
+         try
+         {
+            logReader = new BufferedReader(new InputStreamReader(new FileInputStream(logFile),
+                                                                 StandardCharsets.UTF_8));
+
+            while ((currentLine = logReader.readLine()) != null)
+            {
+               entry = Entry.parseLogString(currentLine);
+
+               if (entry != null)
+               {
+                  entries.addLast(entry);
+                  if (entries.size() > HISTORY_SIZE)
+                     entries.removeFirst();
+               }
+            }
+         }
+         catch (IOException e)
+         {
+            System.err.println("SlowQueryLog readLogFile() " + e.getMessage());
+         }
+         finally
+         {
+            try
+            {
+               if (logReader != null)
+                  logReader.close();
+            }
+            catch (IOException e)
+            {
+               System.err.println("SlowQueryLog readLogFile() Failed to Close Reader. "
+                                  + e.getMessage());
+            }
+         }
+      }
+      return entries;
+   }
+
+   //==============================================================
+   // Class to hold a slow query, written one per line, tab
+   // delimited, with the SQL's line breaks & tabs escaped.
+   //==============================================================
+
+   public static class Entry
+   {
+      private long time;
+      private long elapsedTime;
+      private long rows;
+      private String source;
+      private String sqlString;
+
+      protected Entry(long time, long elapsedTime, long rows, String source, String sqlString)
+      {
+         this.time = time;
+         this.elapsedTime = elapsedTime;
+         this.rows = rows;
+         this.source = (source == null) ? "" : source;
+         this.sqlString = sqlString;
+      }
+
+      public Date getTime()
+      {
+         return new Date(time);
+      }
+
+      public long getElapsedTime()
+      {
+         return elapsedTime;
+      }
+
+      public long getRows()
+      {
+         return rows;
+      }
+
+      public String getSource()
+      {
+         return source;
+      }
+
+      public String getSQL()
+      {
+         return sqlString;
+      }
+
+      protected String toLogString()
+      {
+         return new SimpleDateFormat(DATE_FORMAT).format(new Date(time)) + DELIMITER
+                + elapsedTime + DELIMITER + rows + DELIMITER
+                + source.replace(DELIMITER, " ") + DELIMITER + escape(sqlString);
+      }
+
+      protected static Entry parseLogString(String logString)
+      {
+         // Method Instances
+         String[] fields;
+
+         fields = logString.split(DELIMITER, 5);
+
+         if (fields.length != 5)
+            return null;
+
+         try
+         {
+            return new Entry(new SimpleDateFormat(DATE_FORMAT).parse(fields[0]).getTime(),
+                             Long.parseLong(fields[1]), Long.parseLong(fields[2]), fields[3],
+                             unescape(fields[4]));
+         }
+         catch (ParseException e)
+         {
+            return null;
+         }
+         catch (NumberFormatException e)
+         {
+            return null;
+         }
+      }
+
+      private static String escape(String content)
+      {
+         return content.replace("\\", "\\\\").replace("\t", "\\t").replace("\r", "\\r")
+                       .replace("\n", "\\n");
+      }
+
+      private static String unescape(String content)
+      {
+         // Method Instances
+         StringBuilder unescaped;
+         char currentChar;
+
+         unescaped = new StringBuilder(content.length());
+
+         for (int i = 0; i < content.length(); i++)
+         {
+            currentChar = content.charAt(i);
+
+            if (currentChar == '\\' && i + 1 < content.length())
+            {
+               currentChar = content.charAt(++i);
+
+               if (currentChar == 't')
+                  currentChar = '\t';
+               else if (currentChar == 'r')
+                  currentChar = '\r';
+               else if (currentChar == 'n')
+                  currentChar = '\n';
+            }
+            unescaped.append(currentChar);
+         }
+         return unescaped.toString();
+      }
+   }
+}
@@ -11,7 +11,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2017 Dana M. Proctor
-// Version 1.4 06/28/2017
+// Version 1.5 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -40,6 +40,8 @@
 //                        getControlledMenuBar().
 //         1.4 06/28/2017 Removed Class Instances version & webSiteString Along With
 //                        Same Arguments in Constructor.
+//         1.5 10/18/2026 Method reloadDBTables() Invalidate of ConnectionManager
+//                        SchemaMetadataCache.
 //
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -89,7 +91,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * creation and inclusion.
  * 
  * @author Dana M. Proctor
- * @version 1.4 06/28/2017
+ * @version 1.5 10/18/2026
  */
 
 public class Main_Frame extends JFrame implements ActionListener, ChangeListener
@@ -446,7 +448,9 @@ public class Main_Frame extends JFrame implements ActionListener, ChangeListener
          else
             currentSelectedTable = "";
          
-         // Reload Database Tables.
+         // Reload Database Tables, table schemas may
+         // have changed.
+         ConnectionManager.getSchemaMetadataCache().invalidateAll();
          ConnectionManager.loadDBTables(dbConnection);
          
          DBTablesPanel.reloadPanel(dbConnection, ConnectionManager.getTableNames());
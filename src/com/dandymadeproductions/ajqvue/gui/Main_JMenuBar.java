@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2017 Dana M. Proctor
-// Version 1.1 06/08/2017
+// Version 1.2 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -32,6 +32,8 @@
 //=================================================================
 // Version 1.0 Production Main_JMenuBar Class.
 //         1.1 Method createEditMenu() Added Clear History.
+//         1.2 Method createToolsMenu() Added Performance & Slow Query
+//             Log Items.
 //         
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -66,7 +68,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * application frame.
  * 
  * @author Dana M. Proctor
- * @version 1.1 06/08/2017
+ * @version 1.2 10/18/2026
  */
 
 public class Main_JMenuBar extends JMenuBar implements MenuActionCommands
@@ -358,6 +360,14 @@ public class Main_JMenuBar extends JMenuBar implements MenuActionCommands
                                                   "Search Database");
       toolsMenu.add(menuItem(resource, ACTION_SEARCH_DATABASE));
       
+      resource = resourceBundle.getResourceString("Main_JMenuBar.menu.Performance",
+                                                  "Performance");
+      toolsMenu.add(menuItem(resource, ACTION_PERFORMANCE));
+      
+      resource = resourceBundle.getResourceString("Main_JMenuBar.menu.SlowQueryLog",
+                                                  "Slow Query Log");
+      toolsMenu.add(menuItem(resource, ACTION_SLOW_QUERY_LOG));
+      
       add(toolsMenu);
    }
    
@@ -10,7 +10,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.9 06/24/2018
+// Version 2.0 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -48,6 +48,13 @@
 //             SQLite Database Connection.
 //         1.9 Method dataExport() Added tableColumnSQLTypeHashMap as Argument
 //             to SQLDataDumpThread Instantiation.
+//         2.0 Method dataExportAction() Added GzFileFilter to dataFileChooser
+//             for CSV & SQL Exports, Appending the .gz Extension as Needed.
+//             Added Class Instances performanceFrameVisible,
+//             slowQueryFrameVisible, & queryFrame, Processing of
+//             ACTION_PERFORMANCE & ACTION_SLOW_QUERY_LOG, & Methods
+//             showQueryFrame(), setPerformanceFrameNotVisisble(), &
+//             setSlowQueryFrameNotVisisble().
 //             
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -96,6 +103,7 @@ import com.dandymadeproductions.ajqvue.gui.panels.DBTablesPanel;
 import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel;
 import com.dandymadeproductions.ajqvue.io.CSVDataDumpThread;
 import com.dandymadeproductions.ajqvue.io.CSVDataImportThread;
+import com.dandymadeproductions.ajqvue.io.DumpStreams;
 import com.dandymadeproductions.ajqvue.io.LoadTableStateThread;
 import com.dandymadeproductions.ajqvue.io.PDFDataTableDumpThread;
 import com.dandymadeproductions.ajqvue.io.SQLDataDumpImportThread;
@@ -104,6 +112,7 @@ import com.dandymadeproductions.ajqvue.io.SQLDatabaseDumpThread;
 import com.dandymadeproductions.ajqvue.io.SQLDatabaseSchemeDumpThread;
 import com.dandymadeproductions.ajqvue.io.SaveTableStateThread;
 import com.dandymadeproductions.ajqvue.plugin.Plugin_Module;
+import com.dandymadeproductions.ajqvue.utilities.GzFileFilter;
 import com.dandymadeproductions.ajqvue.utilities.InputDialog;
 import com.dandymadeproductions.ajqvue.utilities.MyJFileFilter;
 import com.dandymadeproductions.ajqvue.utilities.AResourceBundle;
@@ -116,7 +125,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * JMenuBar and JToolBar in the application.
  * 
  * @author Dana M. Proctor
- * @version 1.9 06/24/2018
+ * @version 2.0 10/18/2026
  */
 
 class Main_JMenuBarActions extends Ajqvue implements MenuActionCommands
@@ -126,6 +135,9 @@ class Main_JMenuBarActions extends Ajqvue implements MenuActionCommands
    private static boolean sqlQueryBucketFrameVisible = false;
    private static boolean queryFrameVisible = false;
    private static boolean searchFrameVisible = false;
+   private static boolean performanceFrameVisible = false;
+   private static boolean slowQueryFrameVisible = false;
+   private static QueryFrame queryFrame;
    private static boolean pluginFrameVisible = false;
    private static String lastOpenSaveDirectory = "";
    private static String lastImportDirectory = "";
@@ -337,17 +349,7 @@ class Main_JMenuBarActions extends Ajqvue implements MenuActionCommands
       // Query Frame
       if (actionCommand.equals(ACTION_QUERY_FRAME))
       {
-         if (!queryFrameVisible)
-         {
-            QueryFrame queryFrame = new QueryFrame(parent);
-            queryFrame.setSize(Ajqvue.getGeneralProperties().getQueryFrameDimension());
-            queryFrame.setLocation(Ajqvue.getGeneralProperties().getQueryFramePosition());
-            queryFrame.setVisible(true);
-            queryFrameVisible = true;
-         }
-         else
-            Utils.windowToFront("QueryFrame");
-         
+         showQueryFrame(parent);
          return;
       }
       
@@ -393,6 +395,40 @@ class Main_JMenuBarActions extends Ajqvue implements MenuActionCommands
          return;
       }
       
+      // Performance
+      if (actionCommand.equals(ACTION_PERFORMANCE))
+      {
+         if (!performanceFrameVisible)
+         {
+            PerformanceFrame performanceFrame = new PerformanceFrame();
+            performanceFrame.setSize(900, 500);
+            performanceFrame.center();
+            performanceFrame.setVisible(true);
+            performanceFrameVisible = true;
+         }
+         else
+            Utils.windowToFront("PerformanceFrame");
+         
+         return;
+      }
+      
+      // Slow Query Log
+      if (actionCommand.equals(ACTION_SLOW_QUERY_LOG))
+      {
+         if (!slowQueryFrameVisible)
+         {
+            SlowQueryFrame slowQueryFrame = new SlowQueryFrame(parent);
+            slowQueryFrame.setSize(900, 500);
+            slowQueryFrame.center();
+            slowQueryFrame.setVisible(true);
+            slowQueryFrameVisible = true;
+         }
+         else
+            Utils.windowToFront("SlowQueryFrame");
+         
+         return;
+      }
+      
       // ==================================
       // Schemas Menu Item Selection Routing
       // ==================================
@@ -992,6 +1028,10 @@ class Main_JMenuBarActions extends Ajqvue implements MenuActionCommands
          fileName += ".sql";
 
       dataFileChooser.setSelectedFile(new File(fileName));
+      
+      // Gzip compressed output for the CSV & SQL exports.
+      if (actionCommand.indexOf(DATA_EXPORT_PDF) == -1)
+         dataFileChooser.addChoosableFileFilter(new GzFileFilter());
 
       int result = Utils.processFileChooserSelection(parent, dataFileChooser);
 
@@ -1004,6 +1044,10 @@ class Main_JMenuBarActions extends Ajqvue implements MenuActionCommands
          // Set the file name.
          fileName = dataFileChooser.getSelectedFile().getName();
          fileName = dataFileChooser.getCurrentDirectory() + fileSeparator + fileName;
+         
+         if (dataFileChooser.getFileFilter() instanceof GzFileFilter
+             && !DumpStreams.isCompressed(fileName))
+            fileName += DumpStreams.GZIP_EXTENSION;
          // System.out.println(fileName);
 
          if (!fileName.equals(""))
@@ -1233,6 +1277,28 @@ class Main_JMenuBarActions extends Ajqvue implements MenuActionCommands
    protected static void setQueryFrameNotVisisble()
    {
       queryFrameVisible = false;
+      queryFrame = null;
+   }
+   
+   //==============================================================
+   // Class Method to show the QueryFrame, creating it as needed,
+   // so that it may be given a query to execute.
+   //==============================================================
+
+   protected static QueryFrame showQueryFrame(Main_Frame parent)
+   {
+      if (!queryFrameVisible)
+      {
+         queryFrame = new QueryFrame(parent);
+         queryFrame.setSize(Ajqvue.getGeneralProperties().getQueryFrameDimension());
+         queryFrame.setLocation(Ajqvue.getGeneralProperties().getQueryFramePosition());
+         queryFrame.setVisible(true);
+         queryFrameVisible = true;
+      }
+      else
+         Utils.windowToFront("QueryFrame");
+      
+      return queryFrame;
    }
    
    //==============================================================
@@ -1246,6 +1312,28 @@ class Main_JMenuBarActions extends Ajqvue implements MenuActionCommands
       searchFrameVisible = false;
    }
    
+   //==============================================================
+   // Class Method to allow the setting the performanceFrameVisible
+   // instance. Insure not more than one PerformanceFrame will be
+   // created.
+   //==============================================================
+
+   protected static void setPerformanceFrameNotVisisble()
+   {
+      performanceFrameVisible = false;
+   }
+   
+   //==============================================================
+   // Class Method to allow the setting the slowQueryFrameVisible
+   // instance. Insure not more than one SlowQueryFrame will be
+   // created.
+   //==============================================================
+
+   protected static void setSlowQueryFrameNotVisisble()
+   {
+      slowQueryFrameVisible = false;
+   }
+   
    //==============================================================
    // Class Method to allow the setting the pluginFrameVisible
    // instance. Insure not more than one PluginFrame will be
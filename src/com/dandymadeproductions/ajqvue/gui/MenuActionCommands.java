@@ -8,8 +8,8 @@
 //                << MenuActionCommands.java >>
 //
 //=================================================================
-// Copyright (C) 2016-2017 Dana M. Proctor
-// Version 1.1 06/08/2017
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.2 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -32,6 +32,7 @@
 //=================================================================
 // Version 1.0 Production MenuActionCommnds Class.
 //         1.1 Added Class Instance ACTION_CLEAR_HISTORY.
+//         1.2 Added ACTION_PERFORMANCE & ACTION_SLOW_QUERY_LOG.
 //         
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -44,7 +45,7 @@ package com.dandymadeproductions.ajqvue.gui;
  * point for allocation of Action Commands used by the menu system.  
  * 
  * @author Dana M. Proctor
- * @version 1.1 06/08/2017
+ * @version 1.2 10/18/2026
  */
 
 public interface MenuActionCommands
@@ -113,6 +114,12 @@ public interface MenuActionCommands
    // Search Database
    public static final String ACTION_SEARCH_DATABASE = "TSD";
    
+   // Performance
+   public static final String ACTION_PERFORMANCE = "TPF";
+   
+   // Slow Query Log
+   public static final String ACTION_SLOW_QUERY_LOG = "TSL";
+   
    // ===========
    // Help Menu
    
@@ -0,0 +1,137 @@
+//=================================================================
+//                   PerformanceFrame Class
+//=================================================================
+//   This class is used to provide a frame to view the operational
+// metrics, connection, query, & data thread performance, collected
+// while the application is running.
+//
+//                  << PerformanceFrame.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial PerformanceFrame Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.gui;
+
+import java.awt.Dimension;
+import java.awt.Toolkit;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.awt.event.WindowListener;
+
+import javax.swing.JFrame;
+
+import com.dandymadeproductions.ajqvue.Ajqvue;
+import com.dandymadeproductions.ajqvue.gui.panels.PerformancePanel;
+import com.dandymadeproductions.ajqvue.utilities.AResourceBundle;
+import com.dandymadeproductions.ajqvue.utilities.Utils;
+
+//=================================================================
+//                       PerformanceFrame
+//=================================================================
+
+/**
+ *    The PerformanceFrame class is used to provide a frame to view the
+ * operational metrics, connection, query, & data thread performance,
+ * collected while the application is running.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+class PerformanceFrame extends JFrame
+{
+   // =============================================
+   // Creation of the necessary class instance
+   // variables for the PerformanceFrame.
+   // =============================================
+
+   private static final long serialVersionUID = 3529150372118464805L;
+
+   private PerformancePanel performancePanel;
+
+   //==============================================================
+   // PerformanceFrame Constructor
+   //==============================================================
+
+   protected PerformanceFrame()
+   {
+      // Constructor Instances.
+      AResourceBundle resourceBundle;
+      String resource;
+
+      // Setting up the title & other needed instance elements.
+
+      resourceBundle = Ajqvue.getResourceBundle();
+
+      resource = resourceBundle.getResourceString("PerformanceFrame.message.Title", "Performance");
+      setTitle("Ajqvue " + resource);
+      setIconImage(Utils.getFrameIcon());
+
+      // ==================================================
+      // Frame Window Closing Addition. Also method for
+      // reactivating if desired/needed.
+      // ==================================================
+
+      WindowListener performanceFrameListener = new WindowAdapter()
+      {
+         public void windowClosing(WindowEvent e)
+         {
+            performancePanel.stopRefresh();
+            Main_JMenuBarActions.setPerformanceFrameNotVisisble();
+            dispose();
+         }
+
+         public void windowActivated(WindowEvent e)
+         {
+         }
+      };
+
+      addWindowListener(performanceFrameListener);
+
+      // ===============================================
+      // Metrics Panel.
+      // ===============================================
+
+      performancePanel = new PerformancePanel();
+      getContentPane().add(performancePanel);
+   }
+
+   //==============================================================
+   // Class method to center the frame.
+   //==============================================================
+
+   protected void center()
+   {
+      Dimension screen = Toolkit.getDefaultToolkit().getScreenSize();
+      Dimension us = getSize();
+      int x = (screen.width - us.width) / 2;
+      int y = (screen.height - us.height) / 2;
+      setLocation(x, y);
+   }
+}
@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.4 06/23/2018
+// Version 1.5 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -40,6 +40,10 @@
 //         1.3 06/22/2018 Removed QueryTabPanel Option.
 //         1.4 06/23/2018 Method exportData() CSVQueryDataDumpThread Constructor
 //                        Argument queryString Removed Semicolons.
+//         1.5 10/18/2026 Added cancelButton & Methods cancelTabs() &
+//                        executeSQL(String). Method executeSQL() Adds Tab Before
+//                        Execution via SQLTabPanel.execute() so Results Show as
+//                        Fetched.
 //
 //-----------------------------------------------------------------
 //                danap@dandymadeproductions.com
@@ -125,7 +129,7 @@ import com.dandymadeproductions.ajqvue.utilities.TableClearingThread;
  * connection established in the application.
  * 
  * @author Dana M. Proctor
- * @version 1.4 06/23/2018
+ * @version 1.5 10/18/2026
  */
 
 public class QueryFrame extends JFrame implements ActionListener, ChangeListener
@@ -164,7 +168,7 @@ public class QueryFrame extends JFrame implements ActionListener, ChangeListener
    
    private int[] summaryTableRowSize = new int[maxTabs];
    
-   private JButton executeButton, removeTabButton;
+   private JButton executeButton, cancelButton, removeTabButton;
    private JCheckBox newTabCheckBox;
    private static JTextArea queryResultTextArea = new JTextArea(4, 40);
    private AResourceBundle resourceBundle;
@@ -272,6 +276,7 @@ public class QueryFrame extends JFrame implements ActionListener, ChangeListener
 
             // Clear out any query tab panes.
             clearingTabs = true;
+            cancelTabs();
             queryTabsPane.removeAll();
             
             // Clear Feedback Text Area.
@@ -428,6 +433,19 @@ public class QueryFrame extends JFrame implements ActionListener, ChangeListener
       gridbag.setConstraints(executeButton, constraints);
       statusControlPanel.add(executeButton);
       
+      // Cancel Button
+      resource = resourceBundle.getResourceString("QueryFrame.button.Cancel", "Cancel");
+      cancelButton = new JButton(resource);
+      cancelButton.setFocusPainted(false);
+      cancelButton.setEnabled(false);
+      cancelButton.addActionListener(this);
+      
+      buildConstraints(constraints, 5, 0, 1, 1, 10, 100);
+      constraints.fill = GridBagConstraints.NONE;
+      constraints.anchor = GridBagConstraints.CENTER;
+      gridbag.setConstraints(cancelButton, constraints);
+      statusControlPanel.add(cancelButton);
+      
       // Remove Tab Button
       removeTabButton = new JButton(removeTabIcon);
       removeTabButton.setMargin(new Insets(0, 0, 0, 0));
@@ -438,7 +456,7 @@ public class QueryFrame extends JFrame implements ActionListener, ChangeListener
       removeTabButton.setEnabled(false);
       removeTabButton.addActionListener(this);
       
-      buildConstraints(constraints, 5, 0, 1, 1, 1, 100);
+      buildConstraints(constraints, 6, 0, 1, 1, 1, 100);
       constraints.fill = GridBagConstraints.HORIZONTAL;
       constraints.anchor = GridBagConstraints.EAST;
       gridbag.setConstraints(removeTabButton, constraints);
@@ -526,11 +544,23 @@ public class QueryFrame extends JFrame implements ActionListener, ChangeListener
          return;
       }
       
+      // Cancel SQL Action
+      if (panelSource == cancelButton)
+      {
+         if (getSelectedTab() != null)
+            ((SQLTabPanel) getSelectedTab()).cancel();
+         return;
+      }
+      
       // Remove Tab Action
       if (panelSource == removeTabButton)
       {
          if (queryTabsPane.getTabCount() >= 2)
-            queryTabsPane.remove(queryTabsPane.getSelectedIndex()); 
+         {
+            if (getSelectedTab() != null)
+               ((SQLTabPanel) getSelectedTab()).cancel();
+            queryTabsPane.remove(queryTabsPane.getSelectedIndex());
+         }
          return;
       }
 
@@ -594,6 +624,7 @@ public class QueryFrame extends JFrame implements ActionListener, ChangeListener
 
             // Clear out any query tab panes.
             clearingTabs = true;
+            cancelTabs();
             queryTabsPane.removeAll();
             
             // Clear Feedback Text Area.
@@ -657,6 +688,7 @@ public class QueryFrame extends JFrame implements ActionListener, ChangeListener
             statementTypeComboBox.setSelectedIndex(tabStatementType[currentQueryIndex]);
             statusIndicator.setIcon(statusIndicatorIcon[currentQueryIndex]);
             statusLabel.setText(status[currentQueryIndex]);
+            cancelButton.setEnabled("Working".equals(status[currentQueryIndex]));
          }
          // System.out.println("tab changed: " + currentQueryIndex);
       }
@@ -694,33 +726,51 @@ public class QueryFrame extends JFrame implements ActionListener, ChangeListener
          statusIndicatorIcon[currentQueryIndex] = statusWorkingIcon;
          statusLabel.setText("Working");
          status[currentQueryIndex] = "Working";
+         cancelButton.setEnabled(true);
          
          // Create a thread to create the appropriate
-         // panel that will be used to run the SQL.
+         // panel that will be used to run the SQL. The
+         // tab is shown right away with the results then
+         // filled in as fetched.
          
          Thread executeSQLThread = new Thread(new Runnable()
          {
             boolean isNewTab = newTabState;
+            int queryIndex = workingQueryIndex;
+            String queryText = queryTextArea.getText();
             
             public void run()
             {
+               // Method Instances
+               SQLTabPanel sqlTabPanel;
+               
                // SQL Statement
                
-               tabPanel = new SQLTabPanel(queryTextArea.getText(),
-                                          summaryTableRowSize[workingQueryIndex],
-                                          resourceBundle);
+               sqlTabPanel = new SQLTabPanel(queryText, summaryTableRowSize[queryIndex], resourceBundle);
+               tabPanel = sqlTabPanel;
                
                if (isNewTab)
-                  queryTabsPane.addTab(workingQueryIndex + "", tabPanel);
+                  queryTabsPane.addTab(queryIndex + "", tabPanel);
                else
+               {
+                  if (getSelectedTab() != null)
+                     ((SQLTabPanel) getSelectedTab()).cancel();
                   queryTabsPane.setComponentAt(queryTabsPane.getSelectedIndex(), tabPanel);
+               }
+               queryTabsPane.setSelectedIndex(queryTabsPane.indexOfTab(queryIndex + ""));
+               
+               sqlTabPanel.execute();
                
-               // Show tab and return status to idle.
-               queryTabsPane.setSelectedIndex(queryTabsPane.indexOfTab(workingQueryIndex + ""));
-               statusIndicator.setIcon(statusIdleIcon);
-               statusIndicatorIcon[workingQueryIndex] = statusIdleIcon;
-               statusLabel.setText("Idle");
-               status[currentQueryIndex] = "Idle";      
+               // Return status to idle.
+               statusIndicatorIcon[queryIndex] = statusIdleIcon;
+               status[queryIndex] = "Idle";
+               
+               if (currentQueryIndex == queryIndex)
+               {
+                  statusIndicator.setIcon(statusIdleIcon);
+                  statusLabel.setText("Idle");
+                  cancelButton.setEnabled(false);
+               }
             }
          }, "QueryFrame.executeSQLThread");
          executeSQLThread.start();
@@ -1438,6 +1488,19 @@ public class QueryFrame extends JFrame implements ActionListener, ChangeListener
       int y = (screen.height - us.height) / 2;
       setLocation(x, y);
    }
+   
+   //==============================================================
+   // Class method to execute the given SQL in a new tab as though
+   // entered in the query text area by the user.
+   //==============================================================
+
+   public void executeSQL(String sqlString)
+   {
+      queryTextArea.setText(sqlString);
+      statementTypeComboBox.setSelectedIndex(0);
+      newTabCheckBox.setSelected(true);
+      executeButton.doClick();
+   }
 
    //==============================================================
    // Class method to provide a mechanism to clear the
@@ -1449,6 +1512,20 @@ public class QueryFrame extends JFrame implements ActionListener, ChangeListener
       queryResultTextArea.setText("");
    }
 
+   //==============================================================
+   // Class Method to cancel any queries still executing, or
+   // fetching, in the tabs of the main center panel.
+   //==============================================================
+   
+   private void cancelTabs()
+   {
+      for (int i = 0; i < queryTabsPane.getTabCount(); i++)
+      {
+         if (queryTabsPane.getComponentAt(i) instanceof SQLTabPanel)
+            ((SQLTabPanel) queryTabsPane.getComponentAt(i)).cancel();
+      }
+   }
+   
    //==============================================================
    // Class Method to return the current selected tab, in the
    // main center panel.
@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.2 05/29/2018
+// Version 1.3 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -33,6 +33,9 @@
 // Version 1.0 Production SearchFrame Class.
 //         1.1 Minor Code Formatting, Syntax Changes.
 //         1.2 Changed/Updated Import for SearchDatabaseThread Class.
+//         1.3 Added Class Instance searchResultButton & Search Time
+//             Column. Table Results Updated as Each Table Search
+//             Completes in actionPerformed().
 //                            
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -83,7 +86,7 @@ import com.dandymadeproductions.ajqvue.utilities.SearchResultTableCellRenderer;
  * a connection established in the application.
  * 
  * @author Dana M. Proctor
- * @version 1.2 05/29/2018
+ * @version 1.3 10/18/2026
  */
 
 class SearchFrame extends JFrame implements ActionListener, KeyListener, MouseListener
@@ -101,6 +104,7 @@ class SearchFrame extends JFrame implements ActionListener, KeyListener, MouseLi
    private JButton searchButton;
    private JButton clearSearchButton;
    private JButton searchCompleteButton;
+   private JButton searchResultButton;
 
    private AResourceBundle resourceBundle;
    private Object[][] defaultTableData;
@@ -238,10 +242,14 @@ class SearchFrame extends JFrame implements ActionListener, KeyListener, MouseLi
       resource = resourceBundle.getResourceString("SearchFrame.label.SearchResultCount",
                                                   "Search Result Count");
       tableHeadings.add(resource);
+      
+      resource = resourceBundle.getResourceString("SearchFrame.label.SearchTime",
+                                                  "Search Time (ms)");
+      tableHeadings.add(resource);
 
       // Fill the result table structure with default data.
       
-      defaultTableData = new Object[DBTablesPanel.getTableCount()][3];
+      defaultTableData = new Object[DBTablesPanel.getTableCount()][4];
 
       Iterator<String> tableNamesIterator = ConnectionManager.getTableNames().iterator();
       int i = 0;
@@ -250,7 +258,8 @@ class SearchFrame extends JFrame implements ActionListener, KeyListener, MouseLi
       {
          defaultTableData[i][0] = Boolean.valueOf(true);
          defaultTableData[i][1] = "   " + tableNamesIterator.next();
-         defaultTableData[i++][2] = Integer.valueOf(0);
+         defaultTableData[i][2] = Integer.valueOf(0);
+         defaultTableData[i++][3] = Long.valueOf(0);
       }
       
       // Setup the table.
@@ -268,6 +277,7 @@ class SearchFrame extends JFrame implements ActionListener, KeyListener, MouseLi
       column.setPreferredWidth(resourceInclude.length());
       resultTable.getColumnModel().getColumn(1).setCellRenderer(new SearchResultTableCellRenderer());
       resultTable.getColumnModel().getColumn(2).setCellRenderer(new SearchResultTableCellRenderer());
+      resultTable.getColumnModel().getColumn(3).setCellRenderer(new SearchResultTableCellRenderer());
       
       resultTable.addMouseListener(this);
 
@@ -306,6 +316,9 @@ class SearchFrame extends JFrame implements ActionListener, KeyListener, MouseLi
       searchCompleteButton = new JButton();
       searchCompleteButton.addActionListener(this);
       
+      searchResultButton = new JButton();
+      searchResultButton.addActionListener(this);
+      
       searchTextField.grabFocus();
    }
 
@@ -401,10 +414,20 @@ class SearchFrame extends JFrame implements ActionListener, KeyListener, MouseLi
                   searchProgressBar.setMaximum(progressBarMax);
                   searchProgressBar.setValue(0);
                   searchProgressBar.setIndeterminate(false);
+                  
+                  // Results are filled in as each table completes so
+                  // work on a copy of the default data.
+                  
+                  Object[][] searchTableData = new Object[defaultTableData.length][];
+                  for (int i = 0; i < defaultTableData.length; i++)
+                     searchTableData[i] = defaultTableData[i].clone();
+                  tableModel.setValues(searchTableData);
+                  
                   searchDatabase = new SearchDatabaseThread(databaseTables, selectedTables,
                                                             searchTextField.getText(),
                                                             searchProgressBar,
-                                                            searchCompleteButton);
+                                                            searchCompleteButton,
+                                                            searchResultButton);
                   Thread searchDatabaseThread = new Thread(searchDatabase, "SearchDatabase");
                   searchDatabaseThread.start();
                }
@@ -428,6 +451,28 @@ class SearchFrame extends JFrame implements ActionListener, KeyListener, MouseLi
                searchDatabase.cancel();
          }
          
+         // Table search complete action, update its row.
+         if (panelSource == searchResultButton)
+         {
+            if (searchDatabase != null)
+            {
+               Object[] tableResult;
+               
+               while ((tableResult = searchDatabase.pollTableResult()) != null)
+               {
+                  for (int i = 0; i < tableModel.getRowCount(); i++)
+                  {
+                     if (tableModel.getValueAt(i, 1).toString().trim().equals(tableResult[1]))
+                     {
+                        tableModel.setValueAt(tableResult[2], i, 2);
+                        tableModel.setValueAt(tableResult[3], i, 3);
+                        break;
+                     }
+                  }
+               }
+            }
+         }
+         
          // Database search complete action.
          if (panelSource == searchCompleteButton)
          {
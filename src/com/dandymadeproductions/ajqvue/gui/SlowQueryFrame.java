@@ -0,0 +1,325 @@
+//=================================================================
+//                    SlowQueryFrame Class
+//=================================================================
+//   This class is used to provide a frame to view the queries
+// recorded by the SlowQueryLog, sorted as desired, with the
+// ability to run an entry again in the QueryFrame.
+//
+//                  << SlowQueryFrame.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial SlowQueryFrame Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.gui;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Toolkit;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.awt.event.WindowListener;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JSpinner;
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.SpinnerNumberModel;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+
+import com.dandymadeproductions.ajqvue.Ajqvue;
+import com.dandymadeproductions.ajqvue.datasource.SlowQueryLog;
+import com.dandymadeproductions.ajqvue.utilities.AResourceBundle;
+import com.dandymadeproductions.ajqvue.utilities.TableModel;
+import com.dandymadeproductions.ajqvue.utilities.TableSorter;
+import com.dandymadeproductions.ajqvue.utilities.Utils;
+
+//=================================================================
+//                       SlowQueryFrame
+//=================================================================
+
+/**
+ *    The SlowQueryFrame class is used to provide a frame to view the
+ * queries recorded by the SlowQueryLog, table loads &amp; Query Frame
+ * statements that exceeded the threshold. The entries may be sorted by
+ * any column and a selected entry run again in a new tab of the
+ * QueryFrame. The threshold may also be set, zero disabling the log.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+class SlowQueryFrame extends JFrame implements ActionListener, ChangeListener
+{
+   // =============================================
+   // Creation of the necessary class instance
+   // variables for the SlowQueryFrame.
+   // =============================================
+
+   private static final long serialVersionUID = -6138047515218302784L;
+
+   private Main_Frame parent;
+   private TableModel tableModel;
+   private TableSorter tableSorter;
+   private JTable entriesTable;
+   private ArrayList<SlowQueryLog.Entry> entries;
+   private JSpinner thresholdSpinner;
+   private JLabel statusLabel;
+   private JButton refreshButton, clearButton, runQueryButton;
+
+   private AResourceBundle resourceBundle;
+
+   private static final String[] HEADINGS = {"Time", "Elapsed (ms)", "Rows", "Source", "SQL"};
+   private static final int MAX_THRESHOLD = 3600000;
+   private static final int THRESHOLD_STEP = 100;
+
+   //==============================================================
+   // SlowQueryFrame Constructor
+   //==============================================================
+
+   protected SlowQueryFrame(Main_Frame parent)
+   {
+      // Constructor Instances.
+      JPanel actionPanel;
+      JScrollPane tableScrollPane;
+      String resource;
+
+      // Setting up the title & other needed instance elements.
+
+      this.parent = parent;
+      resourceBundle = Ajqvue.getResourceBundle();
+      entries = new ArrayList <SlowQueryLog.Entry>();
+
+      resource = resourceBundle.getResourceString("SlowQueryFrame.message.Title", "Slow Query Log");
+      setTitle("Ajqvue " + resource);
+      setIconImage(Utils.getFrameIcon());
+
+      // ==================================================
+      // Frame Window Closing Addition. Also method for
+      // reactivating if desired/needed.
+      // ==================================================
+
+      WindowListener slowQueryFrameListener = new WindowAdapter()
+      {
+         public void windowClosing(WindowEvent e)
+         {
+            Main_JMenuBarActions.setSlowQueryFrameNotVisisble();
+            dispose();
+         }
+
+         public void windowActivated(WindowEvent e)
+         {
+         }
+      };
+
+      addWindowListener(slowQueryFrameListener);
+
+      // ===============================================
+      // Entries Table.
+      // ===============================================
+
+      tableModel = new TableModel(new ArrayList <String>(Arrays.asList(HEADINGS)),
+                                  new Object[0][HEADINGS.length]);
+
+      tableSorter = new TableSorter(tableModel);
+      entriesTable = new JTable(tableSorter);
+      tableSorter.setTableHeader(entriesTable.getTableHeader());
+      entriesTable.getTableHeader().setFont(entriesTable.getTableHeader().getFont().deriveFont(Font.BOLD));
+      entriesTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+      entriesTable.getColumnModel().getColumn(0).setPreferredWidth(140);
+      entriesTable.getColumnModel().getColumn(3).setPreferredWidth(140);
+      entriesTable.getColumnModel().getColumn(4).setPreferredWidth(500);
+
+      entriesTable.addMouseListener(new MouseAdapter()
+      {
+         public void mouseClicked(MouseEvent evt)
+         {
+            if (evt.getClickCount() == 2)
+               runSelectedQuery();
+         }
+      });
+
+      tableScrollPane = new JScrollPane(entriesTable);
+      getContentPane().add(tableScrollPane, BorderLayout.CENTER);
+
+      // ===============================================
+      // Threshold, Status, & Actions.
+      // ===============================================
+
+      actionPanel = new JPanel();
+      actionPanel.setBorder(BorderFactory.createEtchedBorder());
+
+      resource = resourceBundle.getResourceString("SlowQueryFrame.label.Threshold", "Threshold (ms)");
+      actionPanel.add(new JLabel(resource));
+
+      thresholdSpinner = new JSpinner(new SpinnerNumberModel(SlowQueryLog.getThreshold(), 0,
+                                                             MAX_THRESHOLD, THRESHOLD_STEP));
+      thresholdSpinner.addChangeListener(this);
+      actionPanel.add(thresholdSpinner);
+
+      statusLabel = new JLabel("");
+      actionPanel.add(statusLabel);
+
+      resource = resourceBundle.getResourceString("SlowQueryFrame.button.Refresh", "Refresh");
+      refreshButton = new JButton(resource);
+      refreshButton.setFocusPainted(false);
+      refreshButton.addActionListener(this);
+      actionPanel.add(refreshButton);
+
+      resource = resourceBundle.getResourceString("SlowQueryFrame.button.Clear", "Clear");
+      clearButton = new JButton(resource);
+      clearButton.setFocusPainted(false);
+      clearButton.addActionListener(this);
+      actionPanel.add(clearButton);
+
+      resource = resourceBundle.getResourceString("SlowQueryFrame.button.RunQuery", "Run in Query Frame");
+      runQueryButton = new JButton(resource);
+      runQueryButton.setFocusPainted(false);
+      runQueryButton.addActionListener(this);
+      actionPanel.add(runQueryButton);
+
+      getContentPane().add(actionPanel, BorderLayout.SOUTH);
+
+      refreshEntries();
+   }
+
+   //==============================================================
+   // ActionEvent Listener method for detecting the user's selection
+   // of the buttons.
+   //==============================================================
+
+   public void actionPerformed(ActionEvent evt)
+   {
+      Object frameSource = evt.getSource();
+
+      if (frameSource == refreshButton)
+         refreshEntries();
+      else if (frameSource == clearButton)
+      {
+         SlowQueryLog.clear();
+         refreshEntries();
+      }
+      else if (frameSource == runQueryButton)
+         runSelectedQuery();
+   }
+
+   //==============================================================
+   // ChangeEvent Listener method for detecting the user's change
+   // of the threshold.
+   //==============================================================
+
+   public void stateChanged(ChangeEvent evt)
+   {
+      if (evt.getSource() == thresholdSpinner)
+         SlowQueryLog.setThreshold(((Number) thresholdSpinner.getValue()).intValue());
+   }
+
+   //==============================================================
+   // Class method to load the log's entries into the table, the
+   // most recent first.
+   //==============================================================
+
+   private void refreshEntries()
+   {
+      // Method Instances
+      SimpleDateFormat timeFormat;
+      SlowQueryLog.Entry entry;
+      Object[][] tableData;
+      String resource;
+
+      entries = SlowQueryLog.getEntries();
+      timeFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+      tableData = new Object[entries.size()][HEADINGS.length];
+
+      for (int i = 0; i < entries.size(); i++)
+      {
+         entry = entries.get(entries.size() - 1 - i);
+
+         tableData[i][0] = timeFormat.format(entry.getTime());
+         tableData[i][1] = Long.valueOf(entry.getElapsedTime());
+         tableData[i][2] = Long.valueOf(entry.getRows());
+         tableData[i][3] = entry.getSource();
+         tableData[i][4] = entry.getSQL().replaceAll("\\s+", " ");
+      }
+
+      tableModel.setValues(tableData);
+
+      resource = resourceBundle.getResourceString("SlowQueryFrame.label.Entries", "Entries");
+      statusLabel.setText("   " + resource + ": " + tableData.length + "   ");
+   }
+
+   //==============================================================
+   // Class method to run the selected entry's SQL in a new tab of
+   // the QueryFrame, opening the frame as needed.
+   //==============================================================
+
+   private void runSelectedQuery()
+   {
+      // Method Instances
+      int selectedRow;
+      QueryFrame queryFrame;
+
+      selectedRow = entriesTable.getSelectedRow();
+
+      if (selectedRow == -1)
+         return;
+
+      selectedRow = tableSorter.modelIndex(selectedRow);
+      queryFrame = Main_JMenuBarActions.showQueryFrame(parent);
+
+      if (queryFrame != null)
+         queryFrame.executeSQL(entries.get(entries.size() - 1 - selectedRow).getSQL());
+   }
+
+   //==============================================================
+   // Class method to center the frame.
+   //==============================================================
+
+   protected void center()
+   {
+      Dimension screen = Toolkit.getDefaultToolkit().getScreenSize();
+      Dimension us = getSize();
+      int x = (screen.width - us.width) / 2;
+      int y = (screen.height - us.height) / 2;
+      setLocation(x, y);
+   }
+}
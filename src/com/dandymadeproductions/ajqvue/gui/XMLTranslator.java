@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2017 Dana M. Proctor
-// Version 1.0 09/20/2016
+// Version 1.4 10/18/2026
 // 
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -37,6 +37,9 @@
 //                        by the Task. ajqvue.xml Configuration File. Spec.
 //                        Not Met.
 //         1.3 09/20/2016 Ajqvue Production XMLTranslator Class.
+//         1.4 10/18/2026 Added Method getSitePassword(). Method
+//                        displayErrors() Use of
+//                        Utils.displayErrorMessage().
 //
 //-----------------------------------------------------------------
 //                 nil_lin@users.sourceforge.net
@@ -53,7 +56,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
-import javax.swing.JOptionPane;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -74,6 +76,7 @@ import org.xml.sax.SAXException;
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.io.ReadDataFile;
 import com.dandymadeproductions.ajqvue.io.WriteDataFile;
+import com.dandymadeproductions.ajqvue.utilities.NormalizeString;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 
 /**
@@ -82,7 +85,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * from/to the ajqvue.xml file.
  * 
  * @author Nil, Dana M. Proctor
- * @version 1.0 09/20/2016
+ * @version 1.4 10/18/2026
  */
 
 public class XMLTranslator
@@ -318,7 +321,7 @@ public class XMLTranslator
 
    private void displayErrors(String errorString)
    {
-      JOptionPane.showMessageDialog(null, errorString, "Alert", JOptionPane.ERROR_MESSAGE);
+      Utils.displayErrorMessage(errorString, "Alert");
    }
 
    //==============================================================
@@ -385,6 +388,16 @@ public class XMLTranslator
       return sites;
    }
 
+   //==============================================================
+   // Class method to get a site's password as entered, from the
+   // form stored in the XML file.
+   //==============================================================
+   
+   public static char[] getSitePassword(SiteParameters site)
+   {
+      return textConversion(new NormalizeString().execute(String.valueOf(site.getPassword()), false), true);
+   }
+
    //==============================================================
    // Class method to get the last SiteParameter used in the
    // application.
@@ -11,7 +11,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2017 Dana M. Proctor
-// Version 1.3 06/24/2017
+// Version 1.4 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -37,6 +37,13 @@
 //         1.2 Method setSelectedTableTabPanel() Revalidated tableSelectionComboBox
 //             on Setting Item With validTable.
 //         1.3 Revision 1.2 Used repaint() Instead.
+//         1.4 Replaced Class Instance tableTabPanelCardLimit With
+//             GeneralDBProperties tablePanelCacheLimit & tablePanelCacheSize.
+//             Added Class Instance retainedStatesHashMap & Methods
+//             limitTableCards() & touchTableCard(). Method loadTable() Passes Any
+//             Retained State of a Released Panel to the TableTabPanel Constructor.
+//             Method reloadPanel() Closes Panels. Method setGeneralDBProperties()
+//             Check for Null Selected TableTabPanel.
 //                           
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -81,7 +88,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * information about the database tables.
  * 
  * @author Dana M. Proctor
- * @version 1.3 06/24/2017
+ * @version 1.4 10/18/2026
  */
 
 public class DBTablesPanel extends JPanel implements ActionListener
@@ -89,7 +96,6 @@ public class DBTablesPanel extends JPanel implements ActionListener
    // Class Instances
    private static final long serialVersionUID = -2513425626736158682L;
    
-   private static final int tableTabPanelCardLimit = 10;
    private static LinkedList<String> tableCards = new LinkedList <String>();
    private static CardLayout tablesCardLayout = new CardLayout();
    private static JPanel tablesPanel = new JPanel(tablesCardLayout);
@@ -99,6 +105,8 @@ public class DBTablesPanel extends JPanel implements ActionListener
    private JButton sqlQueryBucketButton;
    private static JComboBox<Object> tableSelectionComboBox = new JComboBox<Object>();
    private static HashMap<String, TableTabPanel> tableTabHashMap = new HashMap <String, TableTabPanel>();
+   private static HashMap<String, TableTabPanel.RetainedState> retainedStatesHashMap =
+                                        new HashMap <String, TableTabPanel.RetainedState>();
    private static boolean disableActions = true;
    private static long statusTimer;
    private volatile static boolean stopStatusDelayThread;
@@ -265,7 +273,10 @@ public class DBTablesPanel extends JPanel implements ActionListener
             // Provide the status indicator update also.
             
             if (tableCards.contains(tableName))
+            {
+               touchTableCard(tableName);
                tablesCardLayout.show(tablesPanel, tableName);
+            }
             else
             {
                Thread loadTableThread = new Thread(new LoadTableThread(),
@@ -310,39 +321,43 @@ public class DBTablesPanel extends JPanel implements ActionListener
       // Method Instances
       String dataSourceType;
       TableTabPanel tableTabPanel;
+      TableTabPanel.RetainedState retainedState;
       
       dataSourceType = ConnectionManager.getDataSourceType();
+      
+      // Rebuild a released panel as it was.
+      retainedState = retainedStatesHashMap.remove(tableName);
 
       // MySQL
       if (dataSourceType.equals(ConnectionManager.MYSQL))
-         tableTabPanel = new TableTabPanel_MySQL(tableName, dbConnection, false);
+         tableTabPanel = new TableTabPanel_MySQL(tableName, dbConnection, false, retainedState);
       // MariaDB
       else if (dataSourceType.equals(ConnectionManager.MARIADB))
-         tableTabPanel = new TableTabPanel_MySQL(tableName, dbConnection, false);
+         tableTabPanel = new TableTabPanel_MySQL(tableName, dbConnection, false, retainedState);
       // PostgreSQL
       else if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
-         tableTabPanel = new TableTabPanel_PostgreSQL(tableName, dbConnection, false);
+         tableTabPanel = new TableTabPanel_PostgreSQL(tableName, dbConnection, false, retainedState);
       // HSQL
       else if (dataSourceType.indexOf(ConnectionManager.HSQL) != -1)
-         tableTabPanel = new TableTabPanel_HSQL(tableName, dbConnection, false);
+         tableTabPanel = new TableTabPanel_HSQL(tableName, dbConnection, false, retainedState);
       // Oracle
       else if (dataSourceType.equals(ConnectionManager.ORACLE))
-         tableTabPanel = new TableTabPanel_Oracle(tableName, dbConnection, false);
+         tableTabPanel = new TableTabPanel_Oracle(tableName, dbConnection, false, retainedState);
       // SQLite
       else if (dataSourceType.equals(ConnectionManager.SQLITE))
-         tableTabPanel = new TableTabPanel_SQLite(tableName, dbConnection, false);
+         tableTabPanel = new TableTabPanel_SQLite(tableName, dbConnection, false, retainedState);
       // MS Access
       else if (dataSourceType.equals(ConnectionManager.MSACCESS))
-         tableTabPanel = new TableTabPanel_MSAccess(tableName, dbConnection, false);
+         tableTabPanel = new TableTabPanel_MSAccess(tableName, dbConnection, false, retainedState);
       // MSSQL
       else if (dataSourceType.equals(ConnectionManager.MSSQL))
-         tableTabPanel = new TableTabPanel_MSSQL(tableName, dbConnection, false);
+         tableTabPanel = new TableTabPanel_MSSQL(tableName, dbConnection, false, retainedState);
       // Apache Derby
       else if (dataSourceType.equals(ConnectionManager.DERBY))
-         tableTabPanel = new TableTabPanel_Derby(tableName, dbConnection, false);
+         tableTabPanel = new TableTabPanel_Derby(tableName, dbConnection, false, retainedState);
       // Generic
       else
-         tableTabPanel = new TableTabPanel_Generic(tableName, dbConnection, false);
+         tableTabPanel = new TableTabPanel_Generic(tableName, dbConnection, false, retainedState);
 
       if (tableTabPanel.getTableFields() != null)
       {
@@ -351,25 +366,80 @@ public class DBTablesPanel extends JPanel implements ActionListener
          tableTabHashMap.put(tableName, tableTabPanel);
          tableCards.addFirst(tableName);
          
-         // Control the number of cards that are added to the panel.
-         if (tableCards.size() > tableTabPanelCardLimit)
+         limitTableCards();
+      }
+   }
+   
+   //==============================================================
+   // Class Method to control the number & approximate size of the
+   // cards, TableTabPanels, held by the panel. The least recently
+   // used are released, keeping only their sort/search & history
+   // state, until both limits are met. The most recent is always
+   // kept.
+   //==============================================================
+
+   private synchronized static void limitTableCards()
+   {
+      // Method Instances
+      TableTabPanel tableTabPanelToRemove;
+      String tableNametoRemove;
+      Iterator<String> tableCardsIterator;
+      int cardLimit;
+      long sizeLimit, tableCardsSize;
+      
+      cardLimit = Math.max(1, generalDBProperties.getTablePanelCacheLimit());
+      sizeLimit = generalDBProperties.getTablePanelCacheSize() * 1048576L;
+      
+      while (tableCards.size() > 1)
+      {
+         if (tableCards.size() <= cardLimit)
          {
-            TableTabPanel tableTabPanelToRemove;
-            String tableNametoRemove;
+            if (sizeLimit <= 0)
+               break;
             
-            tableNametoRemove = tableCards.removeLast();
-            tableTabPanelToRemove = tableTabHashMap.get(tableNametoRemove);
+            tableCardsSize = 0;
+            tableCardsIterator = tableCards.iterator();
             
-            if (tableTabPanelToRemove != null)
+            while (tableCardsIterator.hasNext())
             {
-               tablesPanel.remove(tableTabPanelToRemove);
-               tablesPanel.validate();
+               tableTabPanelToRemove = tableTabHashMap.get(tableCardsIterator.next());
+               
+               if (tableTabPanelToRemove != null)
+                  tableCardsSize += tableTabPanelToRemove.getApproximateSize();
             }
-            tableTabHashMap.remove(tableNametoRemove);
+            
+            if (tableCardsSize <= sizeLimit)
+               break;
+         }
+         
+         tableNametoRemove = tableCards.removeLast();
+         tableTabPanelToRemove = tableTabHashMap.remove(tableNametoRemove);
+         
+         if (tableTabPanelToRemove != null)
+         {
+            if (Ajqvue.getDebug())
+               System.out.println("DBTablesPanel limitTableCards() Releasing: " + tableNametoRemove
+                                  + " " + tableTabPanelToRemove.getApproximateSize() + " bytes");
+            
+            retainedStatesHashMap.put(tableNametoRemove, tableTabPanelToRemove.getRetainedState());
+            tableTabPanelToRemove.closeTable();
+            tablesPanel.remove(tableTabPanelToRemove);
+            tablesPanel.validate();
          }
       }
    }
    
+   //==============================================================
+   // Class Method to mark a loaded table card as the most recently
+   // used.
+   //==============================================================
+
+   private synchronized static void touchTableCard(String tableName)
+   {
+      if (tableCards.remove(tableName))
+         tableCards.addFirst(tableName);
+   }
+   
    //==============================================================
    // Class Method to reset the panel's table selector comboBox
    // and table cards then reload tables.
@@ -387,7 +457,13 @@ public class DBTablesPanel extends JPanel implements ActionListener
       // Clear the components of old data.
       statusLabel.setEnabled(true);
       tableSelectionComboBox.removeAllItems();
+      
+      Iterator<TableTabPanel> tableTabPanelsIterator = tableTabHashMap.values().iterator();
+      while (tableTabPanelsIterator.hasNext())
+         tableTabPanelsIterator.next().closeTable();
+      
       tableTabHashMap.clear();
+      retainedStatesHashMap.clear();
       tableCards.clear();
       tablesPanel.removeAll();
       tablesPanel.setLayout(tablesCardLayout);
@@ -566,6 +642,8 @@ public class DBTablesPanel extends JPanel implements ActionListener
          
          ConnectionManager.closeConnection(work_dbConnection, "DBTablesPanel getTableTabPanel()");
       }
+      else
+         touchTableCard(tableName);
 
       if (tableTabHashMap.get(tableName) == null)
          return null;
@@ -606,7 +684,9 @@ public class DBTablesPanel extends JPanel implements ActionListener
       // Refresh the table panel(s) to reflect the changes.
       
       currentTableTabPanel = getSelectedTableTabPanel();
-      currentTableTabPanel.refreshButton.doClick();
+      
+      if (currentTableTabPanel != null)
+         currentTableTabPanel.refreshButton.doClick();
    }
    
    //==============================================================
@@ -640,6 +720,8 @@ public class DBTablesPanel extends JPanel implements ActionListener
             
             ConnectionManager.closeConnection(work_dbConnection, connectionString);
          }
+         else
+            touchTableCard(tableName);
          
          if (tableTabHashMap.get(tableName) == null)
             return;
@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2017 Dana M. Proctor
-// Version 1.0 09/18/2016
+// Version 1.1 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -31,6 +31,16 @@
 // also be included with the original copyright author.
 //=================================================================
 // Version 1.0 09/18/2016 Production GeneralPreferencesPanel Class.
+//         1.1 10/18/2026 Added Class Instances DEFAULT_XXX & Controls
+//                        for the Connection Pool, Keyset Paging,
+//                        Dump, Transfer, & Search Workers, Transfer
+//                        Queue, Load Partitions, Virtual Scrolling,
+//                        Schema & Table Panel Caches, Fetch Size, &
+//                        Slow Query Threshold General DB Properties.
+//                        Added Methods createOptionsRowPanel(),
+//                        createOptionCheckBox(),
+//                        createOptionSpinner(), addOption(), &
+//                        getSpinnerValue().
 //
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -51,15 +61,18 @@ import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
+import javax.swing.JComponent;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JRadioButton;
+import javax.swing.JScrollPane;
 import javax.swing.JSpinner;
 import javax.swing.SpinnerNumberModel;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
+import com.dandymadeproductions.ajqvue.datasource.SlowQueryLog;
 import com.dandymadeproductions.ajqvue.structures.GeneralDBProperties;
 import com.dandymadeproductions.ajqvue.structures.GeneralProperties;
 import com.dandymadeproductions.ajqvue.utilities.AResourceBundle;
@@ -71,7 +84,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * options.
  * 
  * @author Dana M. Proctor
- * @version 1.0 09/18/2016
+ * @version 1.1 10/18/2026
  */
 
 public class GeneralPreferencesPanel extends JPanel implements ActionListener, ChangeListener
@@ -84,6 +97,15 @@ public class GeneralPreferencesPanel extends JPanel implements ActionListener, C
    private JSpinner limitIncrementSpinner;
    private JSpinner batchSizeSpinner;
    private JCheckBox batchEnabledCheckBox, sequencerEnablerCheckBox;
+   private JCheckBox poolEnabledCheckBox, keysetPagingCheckBox, virtualScrollingCheckBox;
+   private JCheckBox loadPartitionModulusCheckBox, schemaCacheCheckBox;
+   private JSpinner poolMaxSizeSpinner, poolBorrowTimeoutSpinner;
+   private JSpinner poolMaxIdleTimeSpinner, poolMaxLifetimeSpinner, poolValidationTimeoutSpinner;
+   private JSpinner virtualCacheBlocksSpinner;
+   private JSpinner dumpWorkersSpinner, transferWorkersSpinner, searchWorkersSpinner;
+   private JSpinner transferQueueCapacitySpinner, loadPartitionsSpinner;
+   private JSpinner schemaCacheTTLSpinner, tablePanelCacheLimitSpinner, tablePanelCacheSizeSpinner;
+   private JSpinner fetchSizeSpinner, slowQueryThresholdSpinner;
    private JButton sequencerResetButton;
    private JButton restoreDefaultsButton, applyButton;
    
@@ -94,6 +116,27 @@ public class GeneralPreferencesPanel extends JPanel implements ActionListener, C
    public static final int DEFAULT_BATCH_SIZE = 50000;
    public static final int DEFAULT_SEQUENCE_SIZE = 15;
    public static final int DEFAULT_SEQUENCE_MAX = 41;
+   public static final boolean DEFAULT_POOL_ENABLED = true;
+   public static final int DEFAULT_POOL_MAX_SIZE = 10;
+   public static final int DEFAULT_POOL_MAX_IDLE_TIME = 300;
+   public static final int DEFAULT_POOL_MAX_LIFETIME = 1800;
+   public static final int DEFAULT_POOL_BORROW_TIMEOUT = 30;
+   public static final int DEFAULT_POOL_VALIDATION_TIMEOUT = 5;
+   public static final boolean DEFAULT_KEYSET_PAGING = false;
+   public static final int DEFAULT_DUMP_WORKERS = 1;
+   public static final int DEFAULT_TRANSFER_QUEUE_CAPACITY = 50;
+   public static final int DEFAULT_TRANSFER_WORKERS = 1;
+   public static final int DEFAULT_LOAD_PARTITIONS = 1;
+   public static final boolean DEFAULT_LOAD_PARTITION_MODULUS = false;
+   public static final int DEFAULT_SEARCH_WORKERS = 4;
+   public static final boolean DEFAULT_VIRTUAL_SCROLLING = false;
+   public static final int DEFAULT_VIRTUAL_CACHE_BLOCKS = 20;
+   public static final boolean DEFAULT_SCHEMA_CACHE = true;
+   public static final int DEFAULT_SCHEMA_CACHE_TTL = 60;
+   public static final int DEFAULT_TABLE_PANEL_CACHE_LIMIT = 10;
+   public static final int DEFAULT_TABLE_PANEL_CACHE_SIZE = 64;
+   public static final int DEFAULT_FETCH_SIZE = 500;
+   public static final int DEFAULT_SLOW_QUERY_THRESHOLD = 1000;
 
    //===========================================================
    // GeneralPreferencesPanel Constructor
@@ -104,6 +147,10 @@ public class GeneralPreferencesPanel extends JPanel implements ActionListener, C
       // Class Instances
       JPanel mainPanel;
       JPanel dateFormatPanel, limitIncrementPanel, batchPanel, sequencerPanel;
+      JPanel poolPanel, poolTimesPanel, pagingPanel, workersPanel, transferPanel;
+      JPanel cachePanel, queryPanel;
+      JPanel performancePanel, performanceOptionsPanel;
+      JScrollPane performanceScrollPane;
       JPanel fillerPanel;
       JPanel buttonPanel;
       JLabel dateFormatLabel, limitIncrementLabel;
@@ -276,7 +323,176 @@ public class GeneralPreferencesPanel extends JPanel implements ActionListener, C
       
       add(mainPanel, BorderLayout.NORTH);
       
-      // Filler Center Panel.
+      // =====================================================
+      // Performance Options, Connection Pool, Paging, Workers,
+      // Caches, & Queries, Scrolled With the Filler Below.
+      
+      performanceOptionsPanel = new JPanel(new GridLayout(7, 1, 2, 2));
+      
+      // Connection Pool
+      
+      poolPanel = createOptionsRowPanel(gridbag);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.EnableConnectionPool",
+                                                  "Enable Connection Pool");
+      poolEnabledCheckBox = createOptionCheckBox(resource);
+      addOption(poolPanel, gridbag, constraints, poolEnabledCheckBox, 0, 20);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.PoolSize", "Pool Size");
+      addOption(poolPanel, gridbag, constraints, new JLabel(" " + resource), 1, 20);
+      poolMaxSizeSpinner = createOptionSpinner(DEFAULT_POOL_MAX_SIZE, 1, 100, 1);
+      addOption(poolPanel, gridbag, constraints, poolMaxSizeSpinner, 2, 20);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.BorrowTimeout",
+                                                  "Borrow Timeout (s)");
+      addOption(poolPanel, gridbag, constraints, new JLabel(" " + resource), 3, 20);
+      poolBorrowTimeoutSpinner = createOptionSpinner(DEFAULT_POOL_BORROW_TIMEOUT, 1, 600, 5);
+      addOption(poolPanel, gridbag, constraints, poolBorrowTimeoutSpinner, 4, 20);
+      
+      performanceOptionsPanel.add(poolPanel);
+      
+      // Connection Pool Times, Zero Unlimited.
+      
+      poolTimesPanel = createOptionsRowPanel(gridbag);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.PoolIdleTime",
+                                                  "Idle Time (s)");
+      addOption(poolTimesPanel, gridbag, constraints, new JLabel(" " + resource), 0, 17);
+      poolMaxIdleTimeSpinner = createOptionSpinner(DEFAULT_POOL_MAX_IDLE_TIME, 0, 86400, 60);
+      addOption(poolTimesPanel, gridbag, constraints, poolMaxIdleTimeSpinner, 1, 17);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.PoolLifetime",
+                                                  "Lifetime (s)");
+      addOption(poolTimesPanel, gridbag, constraints, new JLabel(" " + resource), 2, 16);
+      poolMaxLifetimeSpinner = createOptionSpinner(DEFAULT_POOL_MAX_LIFETIME, 0, 86400, 60);
+      addOption(poolTimesPanel, gridbag, constraints, poolMaxLifetimeSpinner, 3, 16);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.ValidationTimeout",
+                                                  "Validation Timeout (s)");
+      addOption(poolTimesPanel, gridbag, constraints, new JLabel(" " + resource), 4, 17);
+      poolValidationTimeoutSpinner = createOptionSpinner(DEFAULT_POOL_VALIDATION_TIMEOUT, 1, 60, 1);
+      addOption(poolTimesPanel, gridbag, constraints, poolValidationTimeoutSpinner, 5, 17);
+      
+      performanceOptionsPanel.add(poolTimesPanel);
+      
+      // Summary Table Paging & Scrolling
+      
+      pagingPanel = createOptionsRowPanel(gridbag);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.KeysetPaging",
+                                                  "Keyset Paging");
+      keysetPagingCheckBox = createOptionCheckBox(resource);
+      addOption(pagingPanel, gridbag, constraints, keysetPagingCheckBox, 0, 25);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.VirtualScrolling",
+                                                  "Virtual Scrolling");
+      virtualScrollingCheckBox = createOptionCheckBox(resource);
+      addOption(pagingPanel, gridbag, constraints, virtualScrollingCheckBox, 1, 25);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.ScrollCacheBlocks",
+                                                  "Scroll Cache Blocks");
+      addOption(pagingPanel, gridbag, constraints, new JLabel(" " + resource), 2, 25);
+      virtualCacheBlocksSpinner = createOptionSpinner(DEFAULT_VIRTUAL_CACHE_BLOCKS, 2, 1000, 10);
+      addOption(pagingPanel, gridbag, constraints, virtualCacheBlocksSpinner, 3, 25);
+      
+      performanceOptionsPanel.add(pagingPanel);
+      
+      // Dump, Transfer, & Search Workers
+      
+      workersPanel = createOptionsRowPanel(gridbag);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.DumpWorkers",
+                                                  "Dump Workers");
+      addOption(workersPanel, gridbag, constraints, new JLabel(" " + resource), 0, 17);
+      dumpWorkersSpinner = createOptionSpinner(DEFAULT_DUMP_WORKERS, 1, 32, 1);
+      addOption(workersPanel, gridbag, constraints, dumpWorkersSpinner, 1, 17);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.TransferWorkers",
+                                                  "Transfer Workers");
+      addOption(workersPanel, gridbag, constraints, new JLabel(" " + resource), 2, 16);
+      transferWorkersSpinner = createOptionSpinner(DEFAULT_TRANSFER_WORKERS, 1, 32, 1);
+      addOption(workersPanel, gridbag, constraints, transferWorkersSpinner, 3, 16);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.SearchWorkers",
+                                                  "Search Workers");
+      addOption(workersPanel, gridbag, constraints, new JLabel(" " + resource), 4, 17);
+      searchWorkersSpinner = createOptionSpinner(DEFAULT_SEARCH_WORKERS, 1, 32, 1);
+      addOption(workersPanel, gridbag, constraints, searchWorkersSpinner, 5, 17);
+      
+      performanceOptionsPanel.add(workersPanel);
+      
+      // Transfer Queue & Load Partitions
+      
+      transferPanel = createOptionsRowPanel(gridbag);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.TransferQueueCapacity",
+                                                  "Transfer Queue Capacity");
+      addOption(transferPanel, gridbag, constraints, new JLabel(" " + resource), 0, 20);
+      transferQueueCapacitySpinner = createOptionSpinner(DEFAULT_TRANSFER_QUEUE_CAPACITY, 1, 100000, 50);
+      addOption(transferPanel, gridbag, constraints, transferQueueCapacitySpinner, 1, 20);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.LoadPartitions",
+                                                  "Load Partitions");
+      addOption(transferPanel, gridbag, constraints, new JLabel(" " + resource), 2, 20);
+      loadPartitionsSpinner = createOptionSpinner(DEFAULT_LOAD_PARTITIONS, 1, 32, 1);
+      addOption(transferPanel, gridbag, constraints, loadPartitionsSpinner, 3, 20);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.PartitionByModulus",
+                                                  "Partition by Modulus");
+      loadPartitionModulusCheckBox = createOptionCheckBox(resource);
+      addOption(transferPanel, gridbag, constraints, loadPartitionModulusCheckBox, 4, 20);
+      
+      performanceOptionsPanel.add(transferPanel);
+      
+      // Schema & Table Panel Caches, Zero Size Unlimited.
+      
+      cachePanel = createOptionsRowPanel(gridbag);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.SchemaCache",
+                                                  "Schema Cache");
+      schemaCacheCheckBox = createOptionCheckBox(resource);
+      addOption(cachePanel, gridbag, constraints, schemaCacheCheckBox, 0, 16);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.SchemaCacheTTL",
+                                                  "TTL (min)");
+      addOption(cachePanel, gridbag, constraints, new JLabel(" " + resource), 1, 14);
+      schemaCacheTTLSpinner = createOptionSpinner(DEFAULT_SCHEMA_CACHE_TTL, 0, 10080, 10);
+      addOption(cachePanel, gridbag, constraints, schemaCacheTTLSpinner, 2, 14);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.PanelCacheLimit",
+                                                  "Panel Cache");
+      addOption(cachePanel, gridbag, constraints, new JLabel(" " + resource), 3, 14);
+      tablePanelCacheLimitSpinner = createOptionSpinner(DEFAULT_TABLE_PANEL_CACHE_LIMIT, 1, 100, 1);
+      addOption(cachePanel, gridbag, constraints, tablePanelCacheLimitSpinner, 4, 14);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.PanelCacheSize",
+                                                  "Size (MB)");
+      addOption(cachePanel, gridbag, constraints, new JLabel(" " + resource), 5, 14);
+      tablePanelCacheSizeSpinner = createOptionSpinner(DEFAULT_TABLE_PANEL_CACHE_SIZE, 0, 4096, 16);
+      addOption(cachePanel, gridbag, constraints, tablePanelCacheSizeSpinner, 6, 14);
+      
+      performanceOptionsPanel.add(cachePanel);
+      
+      // Query Fetch Size & Slow Query Threshold, Zero the
+      // Driver Default & Log Disabled.
+      
+      queryPanel = createOptionsRowPanel(gridbag);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.FetchSize",
+                                                  "Fetch Size");
+      addOption(queryPanel, gridbag, constraints, new JLabel(" " + resource), 0, 25);
+      fetchSizeSpinner = createOptionSpinner(DEFAULT_FETCH_SIZE, 0, 100000, 100);
+      addOption(queryPanel, gridbag, constraints, fetchSizeSpinner, 1, 25);
+      
+      resource = resourceBundle.getResourceString("GeneralPreferencesPanel.label.SlowQueryThreshold",
+                                                  "Slow Query Threshold (ms)");
+      addOption(queryPanel, gridbag, constraints, new JLabel(" " + resource), 2, 25);
+      slowQueryThresholdSpinner = createOptionSpinner(DEFAULT_SLOW_QUERY_THRESHOLD, 0, 600000, 100);
+      addOption(queryPanel, gridbag, constraints, slowQueryThresholdSpinner, 3, 25);
+      
+      performanceOptionsPanel.add(queryPanel);
+      
+      // Filler Panel.
       
       fillerPanel = new JPanel(new GridLayout(1, 1, 0, 0));
       fillerPanel.setBorder(BorderFactory.createCompoundBorder(
@@ -287,7 +503,14 @@ public class GeneralPreferencesPanel extends JPanel implements ActionListener, C
       generalOptionsPanelFiller.setThreadAction(true);
      
       fillerPanel.add(generalOptionsPanelFiller);
-      add(fillerPanel, BorderLayout.CENTER);
+      
+      performancePanel = new JPanel(new BorderLayout());
+      performancePanel.add(performanceOptionsPanel, BorderLayout.NORTH);
+      performancePanel.add(fillerPanel, BorderLayout.CENTER);
+      
+      performanceScrollPane = new JScrollPane(performancePanel);
+      performanceScrollPane.setBorder(BorderFactory.createEmptyBorder());
+      add(performanceScrollPane, BorderLayout.CENTER);
 
       // Button Action Options Panel
       buttonPanel = new JPanel();
@@ -335,6 +558,27 @@ public class GeneralPreferencesPanel extends JPanel implements ActionListener, C
             limitIncrementSpinner.setValue(Integer.valueOf(DEFAULT_LIMIT_INCREMENT));
             batchEnabledCheckBox.setSelected(DEFAULT_BATCH_SIZE_ENABLED);
             batchSizeSpinner.setValue(Integer.valueOf(DEFAULT_BATCH_SIZE));
+            poolEnabledCheckBox.setSelected(DEFAULT_POOL_ENABLED);
+            poolMaxSizeSpinner.setValue(Integer.valueOf(DEFAULT_POOL_MAX_SIZE));
+            poolBorrowTimeoutSpinner.setValue(Integer.valueOf(DEFAULT_POOL_BORROW_TIMEOUT));
+            poolMaxIdleTimeSpinner.setValue(Integer.valueOf(DEFAULT_POOL_MAX_IDLE_TIME));
+            poolMaxLifetimeSpinner.setValue(Integer.valueOf(DEFAULT_POOL_MAX_LIFETIME));
+            poolValidationTimeoutSpinner.setValue(Integer.valueOf(DEFAULT_POOL_VALIDATION_TIMEOUT));
+            keysetPagingCheckBox.setSelected(DEFAULT_KEYSET_PAGING);
+            virtualScrollingCheckBox.setSelected(DEFAULT_VIRTUAL_SCROLLING);
+            virtualCacheBlocksSpinner.setValue(Integer.valueOf(DEFAULT_VIRTUAL_CACHE_BLOCKS));
+            dumpWorkersSpinner.setValue(Integer.valueOf(DEFAULT_DUMP_WORKERS));
+            transferWorkersSpinner.setValue(Integer.valueOf(DEFAULT_TRANSFER_WORKERS));
+            searchWorkersSpinner.setValue(Integer.valueOf(DEFAULT_SEARCH_WORKERS));
+            transferQueueCapacitySpinner.setValue(Integer.valueOf(DEFAULT_TRANSFER_QUEUE_CAPACITY));
+            loadPartitionsSpinner.setValue(Integer.valueOf(DEFAULT_LOAD_PARTITIONS));
+            loadPartitionModulusCheckBox.setSelected(DEFAULT_LOAD_PARTITION_MODULUS);
+            schemaCacheCheckBox.setSelected(DEFAULT_SCHEMA_CACHE);
+            schemaCacheTTLSpinner.setValue(Integer.valueOf(DEFAULT_SCHEMA_CACHE_TTL));
+            tablePanelCacheLimitSpinner.setValue(Integer.valueOf(DEFAULT_TABLE_PANEL_CACHE_LIMIT));
+            tablePanelCacheSizeSpinner.setValue(Integer.valueOf(DEFAULT_TABLE_PANEL_CACHE_SIZE));
+            fetchSizeSpinner.setValue(Integer.valueOf(DEFAULT_FETCH_SIZE));
+            slowQueryThresholdSpinner.setValue(Integer.valueOf(DEFAULT_SLOW_QUERY_THRESHOLD));
             sequencerEnablerCheckBox.setSelected(false);
             generateSequence = false;
             applyButton.setEnabled(true);
@@ -344,6 +588,7 @@ public class GeneralPreferencesPanel extends JPanel implements ActionListener, C
          else if (formSource == applyButton)
          {
             DBTablesPanel.setGeneralDBProperties(getGeneralDBOptions());
+            SlowQueryLog.setThreshold(getSpinnerValue(slowQueryThresholdSpinner));
             if (generateSequence)
                Ajqvue.setGeneralProperties(getGeneralOptions());
             applyButton.setEnabled(false);
@@ -396,6 +641,56 @@ public class GeneralPreferencesPanel extends JPanel implements ActionListener, C
       gbc.weighty = wy;
    }
    
+   //================================================================
+   // Class Methods for creating a row panel of options, its check
+   // boxes & spinners, and adding an option to the row.
+   //================================================================
+   
+   private JPanel createOptionsRowPanel(GridBagLayout gridbag)
+   {
+      // Method Instances
+      JPanel rowPanel;
+      
+      rowPanel = new JPanel(gridbag);
+      rowPanel.setBorder(BorderFactory.createCompoundBorder(
+         BorderFactory.createEmptyBorder(3, 3, 3, 3), BorderFactory.createEtchedBorder()));
+      
+      return rowPanel;
+   }
+   
+   private JCheckBox createOptionCheckBox(String resource)
+   {
+      // Method Instances
+      JCheckBox optionCheckBox;
+      
+      optionCheckBox = new JCheckBox(resource, false);
+      optionCheckBox.setFocusPainted(false);
+      optionCheckBox.addActionListener(this);
+      
+      return optionCheckBox;
+   }
+   
+   private JSpinner createOptionSpinner(int value, int minimum, int maximum, int step)
+   {
+      // Method Instances
+      JSpinner optionSpinner;
+      
+      optionSpinner = new JSpinner(new SpinnerNumberModel(value, minimum, maximum, step));
+      optionSpinner.addChangeListener(this);
+      
+      return optionSpinner;
+   }
+   
+   private void addOption(JPanel rowPanel, GridBagLayout gridbag, GridBagConstraints constraints,
+                          JComponent option, int gx, double wx)
+   {
+      buildConstraints(constraints, gx, 0, 1, 1, wx, 100);
+      constraints.fill = GridBagConstraints.NONE;
+      constraints.anchor = GridBagConstraints.CENTER;
+      gridbag.setConstraints(option, constraints);
+      rowPanel.add(option);
+   }
+   
    //===============================================================
    // Class method to get the panels options.
    //===============================================================
@@ -424,6 +719,31 @@ public class GeneralPreferencesPanel extends JPanel implements ActionListener, C
       newGeneralDBProperties.setLimitIncrement(Integer.parseInt(limitIncrementSpinner.getValue().toString()));
       newGeneralDBProperties.setBatchSizeEnabled(batchEnabledCheckBox.isSelected());
       newGeneralDBProperties.setBatchSize(Integer.parseInt(batchSizeSpinner.getValue().toString()));
+      
+      // Connection Pool
+      newGeneralDBProperties.setPoolEnabled(poolEnabledCheckBox.isSelected());
+      newGeneralDBProperties.setPoolMaxSize(getSpinnerValue(poolMaxSizeSpinner));
+      newGeneralDBProperties.setPoolBorrowTimeout(getSpinnerValue(poolBorrowTimeoutSpinner));
+      newGeneralDBProperties.setPoolMaxIdleTime(getSpinnerValue(poolMaxIdleTimeSpinner));
+      newGeneralDBProperties.setPoolMaxLifetime(getSpinnerValue(poolMaxLifetimeSpinner));
+      newGeneralDBProperties.setPoolValidationTimeout(getSpinnerValue(poolValidationTimeoutSpinner));
+      
+      // Paging, Workers, Caches, & Queries
+      newGeneralDBProperties.setKeysetPaging(keysetPagingCheckBox.isSelected());
+      newGeneralDBProperties.setVirtualScrolling(virtualScrollingCheckBox.isSelected());
+      newGeneralDBProperties.setVirtualCacheBlocks(getSpinnerValue(virtualCacheBlocksSpinner));
+      newGeneralDBProperties.setDumpWorkers(getSpinnerValue(dumpWorkersSpinner));
+      newGeneralDBProperties.setTransferWorkers(getSpinnerValue(transferWorkersSpinner));
+      newGeneralDBProperties.setSearchWorkers(getSpinnerValue(searchWorkersSpinner));
+      newGeneralDBProperties.setTransferQueueCapacity(getSpinnerValue(transferQueueCapacitySpinner));
+      newGeneralDBProperties.setLoadPartitions(getSpinnerValue(loadPartitionsSpinner));
+      newGeneralDBProperties.setLoadPartitionModulus(loadPartitionModulusCheckBox.isSelected());
+      newGeneralDBProperties.setSchemaCache(schemaCacheCheckBox.isSelected());
+      newGeneralDBProperties.setSchemaCacheTTL(getSpinnerValue(schemaCacheTTLSpinner));
+      newGeneralDBProperties.setTablePanelCacheLimit(getSpinnerValue(tablePanelCacheLimitSpinner));
+      newGeneralDBProperties.setTablePanelCacheSize(getSpinnerValue(tablePanelCacheSizeSpinner));
+      newGeneralDBProperties.setFetchSize(getSpinnerValue(fetchSizeSpinner));
+      newGeneralDBProperties.setSlowQueryThreshold(getSpinnerValue(slowQueryThresholdSpinner));
 
       return newGeneralDBProperties;
    }
@@ -439,5 +759,39 @@ public class GeneralPreferencesPanel extends JPanel implements ActionListener, C
       limitIncrementSpinner.setValue(Integer.valueOf(generalDBProperties.getLimitIncrement()));
       batchEnabledCheckBox.setSelected(generalDBProperties.getBatchSizeEnabled());
       batchSizeSpinner.setValue(Integer.valueOf(generalDBProperties.getBatchSize()));
+      
+      // Connection Pool
+      poolEnabledCheckBox.setSelected(generalDBProperties.getPoolEnabled());
+      poolMaxSizeSpinner.setValue(Integer.valueOf(generalDBProperties.getPoolMaxSize()));
+      poolBorrowTimeoutSpinner.setValue(Integer.valueOf(generalDBProperties.getPoolBorrowTimeout()));
+      poolMaxIdleTimeSpinner.setValue(Integer.valueOf(generalDBProperties.getPoolMaxIdleTime()));
+      poolMaxLifetimeSpinner.setValue(Integer.valueOf(generalDBProperties.getPoolMaxLifetime()));
+      poolValidationTimeoutSpinner.setValue(Integer.valueOf(generalDBProperties.getPoolValidationTimeout()));
+      
+      // Paging, Workers, Caches, & Queries
+      keysetPagingCheckBox.setSelected(generalDBProperties.getKeysetPaging());
+      virtualScrollingCheckBox.setSelected(generalDBProperties.getVirtualScrolling());
+      virtualCacheBlocksSpinner.setValue(Integer.valueOf(generalDBProperties.getVirtualCacheBlocks()));
+      dumpWorkersSpinner.setValue(Integer.valueOf(generalDBProperties.getDumpWorkers()));
+      transferWorkersSpinner.setValue(Integer.valueOf(generalDBProperties.getTransferWorkers()));
+      searchWorkersSpinner.setValue(Integer.valueOf(generalDBProperties.getSearchWorkers()));
+      transferQueueCapacitySpinner.setValue(Integer.valueOf(generalDBProperties.getTransferQueueCapacity()));
+      loadPartitionsSpinner.setValue(Integer.valueOf(generalDBProperties.getLoadPartitions()));
+      loadPartitionModulusCheckBox.setSelected(generalDBProperties.getLoadPartitionModulus());
+      schemaCacheCheckBox.setSelected(generalDBProperties.getSchemaCache());
+      schemaCacheTTLSpinner.setValue(Integer.valueOf(generalDBProperties.getSchemaCacheTTL()));
+      tablePanelCacheLimitSpinner.setValue(Integer.valueOf(generalDBProperties.getTablePanelCacheLimit()));
+      tablePanelCacheSizeSpinner.setValue(Integer.valueOf(generalDBProperties.getTablePanelCacheSize()));
+      fetchSizeSpinner.setValue(Integer.valueOf(generalDBProperties.getFetchSize()));
+      slowQueryThresholdSpinner.setValue(Integer.valueOf(generalDBProperties.getSlowQueryThreshold()));
+   }
+   
+   //========================================================
+   // Class method to get a spinner's value.
+   //========================================================
+   
+   private int getSpinnerValue(JSpinner spinner)
+   {
+      return Integer.parseInt(spinner.getValue().toString());
    }
 }
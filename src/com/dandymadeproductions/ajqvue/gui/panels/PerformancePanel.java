@@ -0,0 +1,269 @@
+//=================================================================
+//                       PerformancePanel
+//=================================================================
+//
+//    This class provides a panel to view the operational metrics
+// collected by the MetricsRegistry, refreshed periodically, with
+// the ability to reset & export them as JSON or CSV.
+//
+//                   << PerformancePanel.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial PerformancePanel Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.gui.panels;
+
+import java.awt.BorderLayout;
+import java.awt.Font;
+import java.awt.Window;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JFileChooser;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import com.dandymadeproductions.ajqvue.Ajqvue;
+import com.dandymadeproductions.ajqvue.utilities.AResourceBundle;
+import com.dandymadeproductions.ajqvue.utilities.TableModel;
+import com.dandymadeproductions.ajqvue.utilities.Utils;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
+
+/**
+ *    The PerformancePanel class provides a panel to view the operational
+ * metrics collected by the MetricsRegistry, connection acquire times &
+ * pool usage, query latencies per table & panel, the rates of the dump,
+ * import, & transfer threads, and the transfer queue depth. The view is
+ * refreshed periodically while shown and the metrics may be reset or
+ * exported as JSON or CSV.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class PerformancePanel extends JPanel implements ActionListener
+{
+   // Class Instances.
+   private static final long serialVersionUID = -2416283840921764513L;
+
+   private TableModel tableModel;
+   private JTable metricsTable;
+   private JLabel statusLabel;
+   private JButton refreshButton, resetButton;
+   private JButton exportJSONButton, exportCSVButton;
+   private Timer refreshTimer;
+
+   private AResourceBundle resourceBundle;
+   private String lastExportDirectory;
+
+   private static final int REFRESH_INTERVAL = 2000;
+
+   //==============================================================
+   // PerformancePanel Constructor
+   //==============================================================
+
+   public PerformancePanel()
+   {
+      // Constructor Instances.
+      JPanel buttonPanel;
+      JScrollPane tableScrollPane;
+      String resource;
+
+      resourceBundle = Ajqvue.getResourceBundle();
+      lastExportDirectory = "";
+
+      setLayout(new BorderLayout());
+      setBorder(BorderFactory.createRaisedBevelBorder());
+
+      // Metrics table.
+
+      tableModel = new TableModel(new ArrayList <String>(Arrays.asList(MetricsRegistry.HEADINGS)),
+                                  new Object[0][MetricsRegistry.HEADINGS.length]);
+
+      metricsTable = new JTable(tableModel);
+      metricsTable.getTableHeader().setFont(new Font(getFont().getName(), Font.BOLD,
+                                                     getFont().getSize()));
+      metricsTable.getColumnModel().getColumn(1).setPreferredWidth(250);
+
+      tableScrollPane = new JScrollPane(metricsTable);
+      add(tableScrollPane, BorderLayout.CENTER);
+
+      // Status & actions.
+
+      buttonPanel = new JPanel();
+      buttonPanel.setBorder(BorderFactory.createEtchedBorder());
+
+      statusLabel = new JLabel("");
+      buttonPanel.add(statusLabel);
+
+      resource = resourceBundle.getResourceString("PerformancePanel.button.Refresh", "Refresh");
+      refreshButton = new JButton(resource);
+      refreshButton.setFocusPainted(false);
+      refreshButton.addActionListener(this);
+      buttonPanel.add(refreshButton);
+
+      resource = resourceBundle.getResourceString("PerformancePanel.button.Reset", "Reset");
+      resetButton = new JButton(resource);
+      resetButton.setFocusPainted(false);
+      resetButton.addActionListener(this);
+      buttonPanel.add(resetButton);
+
+      resource = resourceBundle.getResourceString("PerformancePanel.button.ExportJSON", "Export JSON");
+      exportJSONButton = new JButton(resource);
+      exportJSONButton.setFocusPainted(false);
+      exportJSONButton.addActionListener(this);
+      buttonPanel.add(exportJSONButton);
+
+      resource = resourceBundle.getResourceString("PerformancePanel.button.ExportCSV", "Export CSV");
+      exportCSVButton = new JButton(resource);
+      exportCSVButton.setFocusPainted(false);
+      exportCSVButton.addActionListener(this);
+      buttonPanel.add(exportCSVButton);
+
+      add(buttonPanel, BorderLayout.SOUTH);
+
+      // Periodic refresh.
+
+      refreshTimer = new Timer(REFRESH_INTERVAL, this);
+      refreshMetrics();
+      refreshTimer.start();
+   }
+
+   //==============================================================
+   // ActionEvent Listener method for detecting the user's selection
+   // of the buttons & the refresh timer.
+   //==============================================================
+
+   public void actionPerformed(ActionEvent evt)
+   {
+      Object panelSource = evt.getSource();
+
+      if (panelSource == refreshTimer || panelSource == refreshButton)
+         refreshMetrics();
+      else if (panelSource == resetButton)
+      {
+         MetricsRegistry.reset();
+         refreshMetrics();
+      }
+      else if (panelSource == exportJSONButton)
+         exportMetrics(".json");
+      else if (panelSource == exportCSVButton)
+         exportMetrics(".csv");
+   }
+
+   //==============================================================
+   // Class method to load the current metrics into the table.
+   //==============================================================
+
+   public void refreshMetrics()
+   {
+      // Method Instances
+      ArrayList<String[]> snapshot;
+      Object[][] tableData;
+      String resource;
+
+      snapshot = MetricsRegistry.getSnapshot();
+      tableData = new Object[snapshot.size()][];
+
+      for (int i = 0; i < snapshot.size(); i++)
+         tableData[i] = snapshot.get(i);
+
+      tableModel.setValues(tableData);
+
+      resource = resourceBundle.getResourceString("PerformancePanel.label.Metrics", "Metrics");
+      statusLabel.setText(resource + ": " + tableData.length + "   ");
+   }
+
+   //==============================================================
+   // Class method to export the metrics to a file selected by the
+   // user, JSON or CSV by the given extension.
+   //==============================================================
+
+   private void exportMetrics(String extension)
+   {
+      // Method Instances
+      JFileChooser exportFileChooser;
+      Window parent;
+      File exportFile;
+      String fileName;
+
+      if (lastExportDirectory.isEmpty())
+         exportFileChooser = new JFileChooser();
+      else
+         exportFileChooser = new JFileChooser(new File(lastExportDirectory));
+
+      exportFileChooser.setSelectedFile(new File("ajqvue_metrics" + extension));
+
+      parent = SwingUtilities.getWindowAncestor(this);
+
+      if (Utils.processFileChooserSelection((parent instanceof JFrame) ? (JFrame) parent : null,
+                                            exportFileChooser) != JFileChooser.APPROVE_OPTION)
+         return;
+
+      fileName = exportFileChooser.getSelectedFile().getName();
+
+      if (!fileName.toLowerCase(Locale.ENGLISH).endsWith(extension))
+         fileName += extension;
+
+      exportFile = new File(exportFileChooser.getCurrentDirectory(), fileName);
+      lastExportDirectory = exportFileChooser.getCurrentDirectory().toString();
+
+      try
+      {
+         MetricsRegistry.export(exportFile);
+      }
+      catch (IOException e)
+      {
+         Utils.displayErrorMessage("Unable to Export Metrics to: '" + exportFile + "'. " + e.getMessage(),
+                                   "Alert");
+      }
+   }
+
+   //==============================================================
+   // Class method to stop the periodic refresh, the panel is no
+   // longer being shown.
+   //==============================================================
+
+   public void stopRefresh()
+   {
+      refreshTimer.stop();
+   }
+}
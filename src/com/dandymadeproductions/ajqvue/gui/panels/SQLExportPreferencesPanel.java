@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2017 Dana M. Proctor
-// Version 1.0 09/18/2016
+// Version 1.1 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -31,6 +31,8 @@
 // also be included with the original copyright author.
 //=================================================================
 // Version 1.0 09/18/2016 Production SQLExportPreferencesPanel.
+//         1.1 10/18/2026 Added Class Instance EXPRESSION_BULK & Same
+//                        to insertExpressionComboBox.
 //
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -69,7 +71,7 @@ import com.dandymadeproductions.ajqvue.utilities.AResourceBundle;
  * options.
  * 
  * @author Dana M. Proctor
- * @version 1.0 09/18/2016
+ * @version 1.1 10/18/2026
  */
 
 public class SQLExportPreferencesPanel extends JPanel implements ActionListener, ChangeListener
@@ -116,6 +118,7 @@ public class SQLExportPreferencesPanel extends JPanel implements ActionListener,
    public static final String EXPRESSION_SINGULAR = "Singular";
    public static final String EXPRESSION_PLURAL = "Plural";
    public static final String EXPRESSION_EXPLICIT = "Explicit";
+   public static final String EXPRESSION_BULK = "Bulk";
    
    public static final String TYPE_INSERT = "Insert";
    public static final String TYPE_REPLACE = "Replace";
@@ -566,11 +569,12 @@ public class SQLExportPreferencesPanel extends JPanel implements ActionListener,
       expressionTypePanel = new JPanel();
       expressionTypePanel.setBorder(BorderFactory.createEmptyBorder());
 
-      // Insert Singular, Plural, Explicit ComboBox
+      // Insert Singular, Plural, Explicit, Bulk ComboBox
       insertExpressionComboBox = new JComboBox<Object>();
       insertExpressionComboBox.addItem(EXPRESSION_SINGULAR);
       insertExpressionComboBox.addItem(EXPRESSION_PLURAL);
       insertExpressionComboBox.addItem(EXPRESSION_EXPLICIT);
+      insertExpressionComboBox.addItem(EXPRESSION_BULK);
       insertExpressionComboBox.addActionListener(this);
       expressionTypePanel.add(insertExpressionComboBox);
 
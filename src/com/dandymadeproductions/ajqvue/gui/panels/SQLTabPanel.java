@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.5 07/05/2018
+// Version 1.6 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -54,6 +54,21 @@
 //                        columnSQLType as Integer. Coding Formatting Changes in
 //                        Same for Assignment of columnClass & columnSQLType, Tried
 //                        to Simplify, Maintained Logic.
+//         1.6 10/18/2026 Execution Moved From Constructor to Added Method
+//                        execute(), Rows Appended to the Summary Table in Batches
+//                        as Fetched via Added Methods showListTable() &
+//                        publishRows(). Statement Fetch Size Set, PostgreSQL
+//                        Autocommit Disabled While Fetching. Added Methods
+//                        cancel(), getPreferredColumnSizes(), & setColumnSizes().
+//                        SQLTableModel Extends ColumnarTableModel, Numeric &
+//                        Temporal Columns Held Primitive in ColumnarPages &
+//                        Formatted When Viewed, Added Methods addRows(),
+//                        getStorageType(), getTemporalFormatter(), &
+//                        loadColumnarValue(), getColumnClass() Returns Object.
+//                        Method executeSQL() Timing of Query Execution to
+//                        MetricsRegistry, Records the Statement, Execution & Fetch
+//                        Time, to the SlowQueryLog, & Invalidates the
+//                        SchemaMetadataCache After Schema Statements.
 //        
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -79,6 +94,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -95,25 +111,30 @@ import javax.swing.JTable;
 import javax.swing.KeyStroke;
 import javax.swing.RepaintManager;
 import javax.swing.ScrollPaneConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.TransferHandler;
-import javax.swing.table.AbstractTableModel;
 import javax.swing.table.TableColumn;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.datasource.SchemaMetadataCache;
+import com.dandymadeproductions.ajqvue.datasource.SlowQueryLog;
 import com.dandymadeproductions.ajqvue.gui.Main_MouseAdapter;
 import com.dandymadeproductions.ajqvue.gui.QueryFrame;
 import com.dandymadeproductions.ajqvue.utilities.AResourceBundle;
+import com.dandymadeproductions.ajqvue.utilities.ColumnarPage;
+import com.dandymadeproductions.ajqvue.utilities.ColumnarTableModel;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 import com.dandymadeproductions.ajqvue.utilities.TableSorter;
 import com.dandymadeproductions.ajqvue.utilities.db.SQLQuery;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
 
 /**
  *    The SQLTabPanel class provides the view of resultant data/results
  * from the direct input of SQL commands executed on the database.  
  * 
  * @author Dana M. Proctor
- * @version 1.5 07/05/2018
+ * @version 1.6 10/18/2026
  */
 
 public class SQLTabPanel extends JPanel implements ActionListener, Printable
@@ -144,9 +165,14 @@ public class SQLTabPanel extends JPanel implements ActionListener, Printable
    private JTable listTable;
    private JScrollPane tableScrollPane;
    
+   private transient volatile Statement sqlStatement;
+   private volatile boolean canceled;
+   
    private static final String ACTION_SELECT_ALL = "Select All";
    private static final String ACTION_DESELECT_ALL = "DeSelect All";
    private static final int MAX_PREFERRED_COLUMN_SIZE = 350;
+   private static final int ROWS_BATCH_SIZE = 500;
+   private static final long ROWS_BATCH_INTERVAL = 250;
    
    //==============================================================
    // SQLTabPanel Constructor
@@ -163,6 +189,7 @@ public class SQLTabPanel extends JPanel implements ActionListener, Printable
       
       dataSourceType = ConnectionManager.getDataSourceType();
       validQuery = false;
+      canceled = false;
       
       tableModel = new SQLTableModel();
       tableHeadings = new ArrayList <String>();
@@ -183,6 +210,19 @@ public class SQLTabPanel extends JPanel implements ActionListener, Printable
       setBorder(BorderFactory.createRaisedBevelBorder());
       centerPanel = new JPanel(new BorderLayout());
       
+      add(centerPanel, BorderLayout.CENTER);
+      addMouseListener(Ajqvue.getPopupMenuListener()); 
+   }
+   
+   //==============================================================
+   // Class method to execute the panel's SQL. The summary table is
+   // shown once the results' columns are known & the rows are then
+   // appended as they are fetched. Should not be called on the
+   // event dispatch thread.
+   //==============================================================
+
+   public void execute()
+   {
       // Connecting to the database to execute the input
       // sql to see if a valid table can be loaded.
       
@@ -196,42 +236,131 @@ public class SQLTabPanel extends JPanel implements ActionListener, Printable
                               + e.getSQLState() + " " + "VendorError: " + e.getErrorCode();
          QueryFrame.setQueryResultTextArea(errorString);
       }
+   }
+   
+   //==============================================================
+   // Class method to cancel the execution of the panel's SQL or
+   // the fetching of its remaining rows.
+   //==============================================================
+
+   public void cancel()
+   {
+      // Method Instances
+      Statement executingStatement;
+      
+      canceled = true;
+      executingStatement = sqlStatement;
       
-      // ==================================================
-      // Setting up the Summary Table View.
-      // ==================================================
+      if (executingStatement != null)
+      {
+         try
+         {
+            executingStatement.cancel();
+         }
+         catch (SQLException e)
+         {
+            if (Ajqvue.getDebug())
+               System.out.println("SQLTabPanel cancel() " + e.toString());
+         }
+      }
+   }
+   
+   //==============================================================
+   // Class method to setup the summary table view, on the event
+   // dispatch thread.
+   //==============================================================
 
-      if (validQuery)
+   private void showListTable()
+   {
+      // Method Instances
+      final int[] preferredColumnSizes;
+      
+      validQuery = true;
+      preferredColumnSizes = getPreferredColumnSizes();
+      
+      SwingUtilities.invokeLater(new Runnable()
       {
-         TableSorter tableSorter = new TableSorter(tableModel);
-         listTable = new JTable(tableSorter);
-         tableSorter.setTableHeader(listTable.getTableHeader());
-         listTable.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
-         listTable.getActionMap().put(TransferHandler.getCopyAction().getValue(Action.NAME),
-                                         TransferHandler.getCopyAction());
-         createListTablePopupMenu();
-         listTable.addMouseListener(summaryTablePopupListener);
-
-         // Sizing columns
-         Iterator<String> headings = tableHeadings.iterator();
-         TableColumn column = null;
-         int i = 0;
-
-         while (headings.hasNext())
+         public void run()
          {
-            column = listTable.getColumnModel().getColumn(i++);
-            column.setPreferredWidth((preferredColumnSizeHashMap.get(headings.next())).intValue());
+            // ==================================================
+            // Setting up the Summary Table View.
+            // ==================================================
+            
+            TableSorter tableSorter = new TableSorter(tableModel);
+            listTable = new JTable(tableSorter);
+            tableSorter.setTableHeader(listTable.getTableHeader());
+            listTable.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
+            listTable.getActionMap().put(TransferHandler.getCopyAction().getValue(Action.NAME),
+                                            TransferHandler.getCopyAction());
+            createListTablePopupMenu();
+            listTable.addMouseListener(summaryTablePopupListener);
+
+            // Sizing columns
+            setColumnSizes(preferredColumnSizes, false);
+
+            // Create a scrollpane for the table.
+            
+            tableScrollPane = new JScrollPane(listTable);
+            tableScrollPane.setVerticalScrollBarPolicy(ScrollPaneConstants.VERTICAL_SCROLLBAR_ALWAYS);
+            centerPanel.add(tableScrollPane, BorderLayout.CENTER);
+            centerPanel.revalidate();
          }
+      });
+   }
+   
+   //==============================================================
+   // Class method to append a batch of fetched rows to the summary
+   // table, on the event dispatch thread.
+   //==============================================================
 
-         // Create a scrollpane for the table.
+   private void publishRows(final ColumnarPage rows)
+   {
+      // Method Instances
+      final int[] preferredColumnSizes;
+      
+      preferredColumnSizes = getPreferredColumnSizes();
+      
+      SwingUtilities.invokeLater(new Runnable()
+      {
+         public void run()
+         {
+            tableModel.addPage(rows);
+            setColumnSizes(preferredColumnSizes, true);
+         }
+      });
+   }
+   
+   //==============================================================
+   // Class methods to collect the current preferred column sizes &
+   // apply them to the summary table. Once rows are shown columns
+   // are only widened, leaving any sizing by the user.
+   //==============================================================
+
+   private int[] getPreferredColumnSizes()
+   {
+      // Method Instances
+      int[] preferredColumnSizes;
+      
+      preferredColumnSizes = new int[tableHeadings.size()];
+      
+      for (int i = 0; i < preferredColumnSizes.length; i++)
+         preferredColumnSizes[i] = (preferredColumnSizeHashMap.get(tableHeadings.get(i))).intValue();
+      
+      return preferredColumnSizes;
+   }
+   
+   private void setColumnSizes(int[] preferredColumnSizes, boolean widenOnly)
+   {
+      // Method Instances
+      TableColumn column;
+      
+      for (int i = 0; i < preferredColumnSizes.length; i++)
+      {
+         column = listTable.getColumnModel().getColumn(i);
          
-         tableScrollPane = new JScrollPane(listTable);
-         tableScrollPane.setVerticalScrollBarPolicy(ScrollPaneConstants.VERTICAL_SCROLLBAR_ALWAYS);
-         centerPanel.add(tableScrollPane, BorderLayout.CENTER);
+         if (!widenOnly || column.getPreferredWidth() < preferredColumnSizes[i])
+            column.setPreferredWidth(preferredColumnSizes[i]);
       }
-
-      add(centerPanel, BorderLayout.CENTER);
-      addMouseListener(Ajqvue.getPopupMenuListener()); 
    }
    
    //==============================================================
@@ -275,8 +404,8 @@ public class SQLTabPanel extends JPanel implements ActionListener, Printable
       // Method Instances
       Connection dbConnection;
       String sqlStatementString;
-      Statement sqlStatement;
       int updateCount;
+      boolean autoCommitDisabled;
       ResultSet db_resultSet;
       ResultSetMetaData tableMetaData;
 
@@ -288,8 +417,17 @@ public class SQLTabPanel extends JPanel implements ActionListener, Printable
       int columnPrecision;
       int columnSize;
       int preferredColumnSize;
+      int displayLength;
       Object currentContentData;
       Object[] rowData;
+      ArrayList<Integer> storageTypes;
+      ArrayList<DateTimeFormatter> storageFormatters;
+      int[] columnStorageTypes;
+      DateTimeFormatter[] columnFormatters;
+      ColumnarPage fetchedPage;
+      int fetchedRow;
+      long fetchedTime;
+      long queryStartTime;
       
       // Checking to see if anything in the input to
       // execute.
@@ -313,18 +451,47 @@ public class SQLTabPanel extends JPanel implements ActionListener, Printable
       // meta data, and column names.
       
       sqlStatement = null;
+      autoCommitDisabled = false;
       
       try
       {
+         // PostgreSQL only fetches by the fetch size, rather
+         // than all rows, within a transaction.
+         
+         if (dataSourceType.equals(ConnectionManager.POSTGRESQL) && dbConnection.getAutoCommit())
+         {
+            dbConnection.setAutoCommit(false);
+            autoCommitDisabled = true;
+         }
+         
          sqlStatement = dbConnection.createStatement();
          sqlStatement.setMaxRows(tableRowLimit);
+         
+         // MySQL & MariaDB only stream rows with the minimum
+         // fetch size.
+         
+         if (dataSourceType.equals(ConnectionManager.MYSQL)
+             || dataSourceType.equals(ConnectionManager.MARIADB))
+            sqlStatement.setFetchSize(Integer.MIN_VALUE);
+         else
+            sqlStatement.setFetchSize(DBTablesPanel.getGeneralDBProperties().getFetchSize());
 
          sqlStatementString = sqlString;
          // System.out.println(sqlStatementString);
          
+         if (canceled)
+            return;
+         
+         queryStartTime = System.nanoTime();
          sqlStatement.execute(sqlStatementString);
+         MetricsRegistry.recordTime(MetricsRegistry.QUERY_PANEL + "SQLTabPanel",
+                                    System.nanoTime() - queryStartTime);
          updateCount = sqlStatement.getUpdateCount();
          
+         // Schema changes by the statement.
+         if (SchemaMetadataCache.isSchemaStatement(sqlStatementString))
+            ConnectionManager.getSchemaMetadataCache().invalidateAll();
+         
          // Collect results.
          if (updateCount == -1)
          {
@@ -358,7 +525,10 @@ public class SQLTabPanel extends JPanel implements ActionListener, Printable
                rowData[0] = "(" + resourceBundle.getResourceString("SQLTabPanel.label.Empty", "Empty") + ")";
                tableModel.addRow(rowData);  
                
-               validQuery = true;
+               showListTable();
+               
+               if (autoCommitDisabled)
+                  dbConnection.commit();
                return;
             }
             
@@ -366,6 +536,8 @@ public class SQLTabPanel extends JPanel implements ActionListener, Printable
             // information about columns.
             
             tableMetaData = db_resultSet.getMetaData();
+            storageTypes = new ArrayList <Integer>();
+            storageFormatters = new ArrayList <DateTimeFormatter>();
             
             if (Ajqvue.getDebug())
                System.out.println("SQLTabPanel executeSQL()\n"
@@ -447,17 +619,33 @@ public class SQLTabPanel extends JPanel implements ActionListener, Printable
                columnSizeHashMap.put(colNameString, Integer.valueOf(columnSize));
                preferredColumnSizeHashMap.put(colNameString,
                                               Integer.valueOf(colNameString.length() * columnSizeScaling));
+               
+               // How the column's values are held.
+               storageTypes.add(Integer.valueOf(getStorageType(columnClass,
+                  columnTypeName.toUpperCase(Locale.ENGLISH), columnSize, columnPrecision, columnScale)));
+               storageFormatters.add(getTemporalFormatter(columnTypeName.toUpperCase(Locale.ENGLISH)));
             }
-            tableModel.setHeader(tableHeadings.toArray());
             
-            // Try and Load the Data From the SQL Execution.
+            columnStorageTypes = new int[storageTypes.size()];
+            for (int k = 0; k < columnStorageTypes.length; k++)
+               columnStorageTypes[k] = (storageTypes.get(k)).intValue();
+            columnFormatters = storageFormatters.toArray(new DateTimeFormatter[storageFormatters.size()]);
+            
+            tableModel.setHeader(tableHeadings.toArray(), columnStorageTypes, columnFormatters);
+            showListTable();
+            
+            // Try and Load the Data From the SQL Execution, appending
+            // the rows in batches as fetched.
             
             int i = 0;
             int j = 0;
             rowData = new Object[tableHeadings.size()];
+            fetchedPage = new ColumnarPage(columnStorageTypes, columnFormatters, ROWS_BATCH_SIZE);
+            fetchedTime = System.currentTimeMillis();
 
-            while (db_resultSet.next())
+            while (!canceled && db_resultSet.next())
             {
+               fetchedRow = fetchedPage.addRow();
                Iterator<String> headings = tableHeadings.iterator();
                while (headings.hasNext())
                {
@@ -477,9 +665,18 @@ public class SQLTabPanel extends JPanel implements ActionListener, Printable
                   // date or other formating, here is where you can
                   // take care of it.
                   
+                  // =============================================
+                  // Numeric & Temporal, Held Primitive
+                  if (columnStorageTypes[j] != ColumnarPage.OBJECT)
+                  {
+                     loadColumnarValue(db_resultSet, colNameString, columnTypeName, fetchedPage,
+                                       fetchedRow, j);
+                     rowData[j++] = null;
+                  }
+                  
                   // =============================================
                   // BigDecimal
-                  if (columnClass.indexOf("BigDecimal") != -1)
+                  else if (columnClass.indexOf("BigDecimal") != -1)
                   {
                      currentContentData = db_resultSet.getString(colNameString);
                      if (currentContentData == null)
@@ -827,22 +1024,47 @@ public class SQLTabPanel extends JPanel implements ActionListener, Printable
                         rowData[j++] = currentContentData.toString().trim();
                   }
 
-                  // Setup some sizing for the column in the summary table.
+                  // Store the viewed value & setup some sizing for the
+                  // column in the summary table.
                   
-                  if ((rowData[j - 1] + "").length() * columnSizeScaling > preferredColumnSize)
+                  if (columnStorageTypes[j - 1] == ColumnarPage.OBJECT)
                   {
-                     preferredColumnSize = (rowData[j - 1] + "").length() * columnSizeScaling;
+                     fetchedPage.setObject(fetchedRow, j - 1, rowData[j - 1]);
+                     displayLength = (rowData[j - 1] + "").length();
+                  }
+                  else
+                     displayLength = fetchedPage.getDisplayLength(fetchedRow, j - 1);
+                  
+                  if (displayLength * columnSizeScaling > preferredColumnSize)
+                  {
+                     preferredColumnSize = displayLength * columnSizeScaling;
                      if (preferredColumnSize > MAX_PREFERRED_COLUMN_SIZE)
                         preferredColumnSize = MAX_PREFERRED_COLUMN_SIZE;
                   }
                   preferredColumnSizeHashMap.put(colNameString, Integer.valueOf(preferredColumnSize));
                }
-               tableModel.addRow(rowData);
                j = 0;
                i++;
+               
+               // Show the first row immediately, then by batch.
+               if (i == 1 || fetchedPage.getRowCount() >= ROWS_BATCH_SIZE
+                   || System.currentTimeMillis() - fetchedTime >= ROWS_BATCH_INTERVAL)
+               {
+                  publishRows(fetchedPage);
+                  fetchedPage = new ColumnarPage(columnStorageTypes, columnFormatters, ROWS_BATCH_SIZE);
+                  fetchedTime = System.currentTimeMillis();
+               }
             }
+            if (fetchedPage.getRowCount() > 0)
+               publishRows(fetchedPage);
+            
+            if (canceled)
+               QueryFrame.setQueryResultTextArea("Query Canceled, " + i + " Rows Fetched");
+            
             db_resultSet.close();
             sqlStatement.close();
+            SlowQueryLog.record(sqlStatementString, System.nanoTime() - queryStartTime, i,
+                                "SQLTabPanel");
          }
          // No results, data, but was update.
          else
@@ -869,25 +1091,170 @@ public class SQLTabPanel extends JPanel implements ActionListener, Printable
             rowData = new Object[1];
             rowData[0] = updateCount;
             tableModel.addRow(rowData);
+            showListTable();
+            SlowQueryLog.record(sqlStatementString, System.nanoTime() - queryStartTime, updateCount,
+                                "SQLTabPanel");
          }
          
-         // Looks good so validate.
-         validQuery = true;
+         if (autoCommitDisabled)
+            dbConnection.commit();
       }
       catch (SQLException e)
       {
          String errorString = "SQLException: " + e.getMessage() + " " + "SQLState: " 
                               + e.getSQLState() + " " + "VendorError: " + e.getErrorCode();
+         
+         // Rows fetched before a cancel or failure remain.
+         if (canceled)
+            errorString = "Query Canceled, " + errorString;
          QueryFrame.setQueryResultTextArea(errorString);
-         validQuery = false;
+         
+         if (autoCommitDisabled)
+            dbConnection.rollback();
          return;
       }
       finally
       {
-         if (sqlStatement != null)
-            sqlStatement.close();
-         
-         ConnectionManager.closeConnection(dbConnection, "SQLTabPanel executeSQL()");    
+         try
+         {
+            if (sqlStatement != null)
+               sqlStatement.close();
+            sqlStatement = null;
+            
+            if (autoCommitDisabled)
+               dbConnection.setAutoCommit(true);
+         }
+         finally
+         {
+            ConnectionManager.closeConnection(dbConnection, "SQLTabPanel executeSQL()");
+         }
+      }
+   }
+   
+   //==============================================================
+   // Class method to determine how a column's values are to be
+   // held, primitive for numeric & temporal columns that would
+   // otherwise be viewed as is or with the general date formats.
+   // SQLite values need not match their column's type so are
+   // always held as viewed.
+   //==============================================================
+
+   private int getStorageType(String columnClass, String columnTypeName, int columnSize,
+                              int columnPrecision, int columnScale)
+   {
+      if (dataSourceType.equals(ConnectionManager.SQLITE))
+         return ColumnarPage.OBJECT;
+      
+      // Integral BigDecimal
+      if (columnClass.indexOf("BigDecimal") != -1)
+      {
+         if (columnScale == 0 && columnPrecision > 0 && columnPrecision <= 18)
+            return ColumnarPage.LONG;
+         else
+            return ColumnarPage.OBJECT;
+      }
+      
+      // Date, Datetime, Time, & Timestamp
+      if (columnTypeName.equals("DATE") || columnTypeName.equals("TIME"))
+         return ColumnarPage.TEMPORAL;
+      else if (columnTypeName.equals("DATETIMEOFFSET"))
+         return ColumnarPage.OBJECT;
+      else if (columnTypeName.indexOf("DATETIME") != -1)
+         return ColumnarPage.TEMPORAL;
+      else if (columnTypeName.equals("TIMESTAMP"))
+      {
+         // Old MySQL Database Formats.
+         if ((dataSourceType.equals(ConnectionManager.MYSQL)
+              || dataSourceType.equals(ConnectionManager.MARIADB)) && columnSize < 19)
+            return ColumnarPage.OBJECT;
+         else
+            return ColumnarPage.TEMPORAL;
+      }
+      
+      // Numeric, not otherwise viewed.
+      if (columnTypeName.indexOf("YEAR") != -1 || columnTypeName.indexOf("BIT") != -1
+          || columnTypeName.indexOf("BINARY") != -1 || columnTypeName.indexOf("RAW") != -1
+          || columnTypeName.indexOf("IMAGE") != -1 || columnTypeName.indexOf("LOB") != -1)
+         return ColumnarPage.OBJECT;
+      
+      if (columnClass.equals("java.lang.Integer") || columnClass.equals("java.lang.Long")
+          || columnClass.equals("java.lang.Short") || columnClass.equals("java.lang.Byte"))
+         return ColumnarPage.LONG;
+      else if (columnClass.equals("java.lang.Double"))
+         return ColumnarPage.DOUBLE;
+      else if (columnClass.equals("java.lang.Float"))
+         return ColumnarPage.FLOAT;
+      else
+         return ColumnarPage.OBJECT;
+   }
+   
+   //==============================================================
+   // Class method to obtain the formatter of a temporal column, as
+   // the general date view format.
+   //==============================================================
+
+   private DateTimeFormatter getTemporalFormatter(String columnTypeName)
+   {
+      if (columnTypeName.equals("DATE"))
+         return DateTimeFormatter.ofPattern(DBTablesPanel.getGeneralDBProperties().getViewDateFormat());
+      else if (columnTypeName.equals("TIME"))
+         return DateTimeFormatter.ofPattern("HH:mm:ss");
+      else if (columnTypeName.equals("TIMESTAMP") || (columnTypeName.indexOf("DATETIME") != -1
+                                                      && !columnTypeName.equals("DATETIMEOFFSET")))
+         return DateTimeFormatter.ofPattern(DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
+                                            + " HH:mm:ss");
+      else
+         return null;
+   }
+   
+   //==============================================================
+   // Class method to load a primitive held value of a row.
+   //==============================================================
+
+   private void loadColumnarValue(ResultSet rs, String colNameString, String columnTypeName,
+                                  ColumnarPage page, int row, int column) throws SQLException
+   {
+      // Method Instances
+      long longValue;
+      double doubleValue;
+      java.util.Date dateValue;
+      
+      switch (page.getColumnType(column))
+      {
+         case ColumnarPage.LONG:
+            longValue = rs.getLong(colNameString);
+            
+            if (rs.wasNull())
+               page.setNull(row, column);
+            else
+               page.setLong(row, column, longValue);
+            break;
+            
+         case ColumnarPage.DOUBLE:
+         case ColumnarPage.FLOAT:
+            if (page.getColumnType(column) == ColumnarPage.FLOAT)
+               doubleValue = rs.getFloat(colNameString);
+            else
+               doubleValue = rs.getDouble(colNameString);
+            
+            if (rs.wasNull())
+               page.setNull(row, column);
+            else
+               page.setDouble(row, column, doubleValue);
+            break;
+            
+         default:
+            if (columnTypeName.equals("DATE"))
+               dateValue = rs.getDate(colNameString);
+            else if (columnTypeName.equals("TIME"))
+               dateValue = rs.getTime(colNameString);
+            else
+               dateValue = rs.getTimestamp(colNameString);
+            
+            if (dateValue == null)
+               page.setNull(row, column);
+            else
+               page.setLong(row, column, dateValue.getTime());
       }
    }
    
@@ -1024,52 +1391,44 @@ public class SQLTabPanel extends JPanel implements ActionListener, Printable
    // Class helper for the JTable, listTable, Table Model.
    //==============================================================
    
-   static class SQLTableModel extends AbstractTableModel
+   static class SQLTableModel extends ColumnarTableModel
    {
       private static final long serialVersionUID = 1229214973355124583L;
-      private Object[] headers;
-      private ArrayList<Object[]> rows;
       
       protected SQLTableModel()
       {
-         // Just Intialize Class Instances.
-         headers = new Object[0];
-         rows = new ArrayList <Object[]>();
+         super("NULL");
       }
       
       public void addRow(Object[] rowData)
       {
-         Object[] currentRow = new Object[rowData.length];
+         // Method Instances
+         ColumnarPage rowPage;
+         int row;
+         
+         rowPage = new ColumnarPage(rowData.length);
+         row = rowPage.addRow();
+         
          for (int i = 0; i < rowData.length; i++)
-         {
-            currentRow[i] = rowData[i];
-         }
-         //System.arraycopy(rowData, 0, row, 0, rowData.length);
-         rows.add(currentRow);
+            rowPage.setObject(row, i, rowData[i]);
+         
+         addPage(rowPage);
       }
       
-      public void clear(){rows.clear();}
-      
-      public String getColumnName(int i){return headers[i].toString();}
-      public int getColumnCount(){return headers.length;}
-      public ArrayList<Object[]> getData(){return rows;}
-      public int getRowCount(){return rows.size();}
-      public Object getValueAt(int row, int col)
+      public Class<?> getColumnClass(int column)
       {
-         if (row >= rows.size())
-            return null;
-
-         Object[] colArray = rows.get(row);
-
-         if (col >= colArray.length)
-            return null;
-         
-         return colArray[col];
+         // Cells displayed as text.
+         return Object.class;
       }
+      
       public void setHeader(Object[] colNames)
       {
-         headers = new Object[colNames.length];
-         System.arraycopy(colNames, 0, headers, 0, colNames.length);
+         setColumns(colNames, new int[colNames.length], new DateTimeFormatter[colNames.length]);
       }
-   } 
+      
+      public void setHeader(Object[] colNames, int[] columnTypes, DateTimeFormatter[] formatters)
+      {
+         setColumns(colNames, columnTypes, formatters);
+      }
+   }
 }
\ No newline at end of file
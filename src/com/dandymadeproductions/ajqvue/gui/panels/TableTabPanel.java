@@ -11,7 +11,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.9 07/04/2018
+// Version 2.0 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -54,6 +54,37 @@
 //         1.8 Made Method displayMyDateString() static.
 //         1.9 Method createUpdateFrame() Added Instance columnSQLTypeHashMap to
 //             Constructor Argument to UpdateForm.
+//         2.0 Added Keyset Pagination, Only With a Primary or NOT NULL Unique Key,
+//             Class Instances keysetPaging, keysetColumns, keysetBoundary,
+//             keysetPageBoundaries, keysetStateKey, keysetUniqueKey, &
+//             columnNullableHashMap, Methods prepareKeyset(), getKeysetOrderBy(),
+//             getKeysetWhereClause(), getLoadRowStart(), createLoadStatement(),
+//             executeLoadStatement(), recordKeysetRow(), loadKeysetUniqueKey(), &
+//             isNotNullKey(). Added Virtual Scrolling, Class Instances virtualScrolling
+//             & loadedSearchQueryString, Implements TableBlockLoader &
+//             TableModelListener, Methods createTableModel(), loadBlock(),
+//             loadRowCount(), & tableChanged(). Added Background Prefetch of the Next
+//             Page, Class Instances prefetchThread, prefetchedTableData,
+//             prefetchedTableStatement, prefetchedRowStart, & prefetchedStateKey,
+//             Methods prefetchNextPage(), waitForPrefetch(), usePrefetchedPage(), &
+//             clearPrefetchedPage(). Concrete loadTable() Building a Page From a
+//             Captured Snapshot of Sort, Search, & Keyset, Classes PageState,
+//             PageQuery, & Page, Methods createPageState(), createPageQuery(), &
+//             loadPageData(). Summary Table Pages Held in ColumnarPages, Padded to
+//             tableRowLimit, Class CellPlan, Instances CELL_OTHER - CELL_DIALECT, &
+//             Methods createCellPlans(), bindCellPlans(), setCellType(),
+//             setCellStorage(), createTablePage(), setCell(), setTemporalCell(),
+//             getLobCell(), getTextCell(), getKeyContent(), getYearCell(),
+//             updatePreferredColumnSize(), storePreferredColumnSizes(),
+//             getCellString(), getViewDateFormatter(), formatDateTime(), &
+//             formatViewDateTime(). Added Class RetainedState, Constructor With
+//             Argument retainedState, & Methods getApproximateSize(),
+//             getRetainedState(), setRetainedState(), setRetainedHistory(), &
+//             closeTable(). Method executeLoadStatement() Timing of Query per Table &
+//             Panel to MetricsRegistry. Added Methods beginLoadEvent() &
+//             commitLoadEvent() for Flight Recorder TableLoadEvent & SlowQueryLog, &
+//             getLoadedRowCount(). Instance busyProcessing volatile. Dragging of
+//             listTable Only Enabled When Not Headless.
 //        
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -67,6 +98,7 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
@@ -82,16 +114,27 @@ import java.awt.event.MouseListener;
 import java.awt.print.PageFormat;
 import java.awt.print.Printable;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Locale;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.swing.Action;
 import javax.swing.BorderFactory;
@@ -113,15 +156,20 @@ import javax.swing.JTextField;
 import javax.swing.KeyStroke;
 import javax.swing.RepaintManager;
 import javax.swing.ScrollPaneConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.TransferHandler;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.TableColumnModelEvent;
 import javax.swing.event.TableColumnModelListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
 import javax.swing.table.TableColumn;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.datasource.SchemaMetadataCache;
+import com.dandymadeproductions.ajqvue.datasource.SlowQueryLog;
 import com.dandymadeproductions.ajqvue.gui.Main_MouseAdapter;
 import com.dandymadeproductions.ajqvue.gui.forms.AdvancedSortSearchForm;
 import com.dandymadeproductions.ajqvue.gui.forms.TableEntryForm;
@@ -131,10 +179,16 @@ import com.dandymadeproductions.ajqvue.io.CSVDataImportThread;
 import com.dandymadeproductions.ajqvue.io.WriteDataFile;
 import com.dandymadeproductions.ajqvue.utilities.AResourceBundle;
 import com.dandymadeproductions.ajqvue.utilities.BlobTextKey;
+import com.dandymadeproductions.ajqvue.utilities.ColumnarPage;
+import com.dandymadeproductions.ajqvue.utilities.ColumnarTableModel;
 import com.dandymadeproductions.ajqvue.utilities.ImageUtil;
 import com.dandymadeproductions.ajqvue.utilities.InputDialog;
-import com.dandymadeproductions.ajqvue.utilities.TableModel;
+import com.dandymadeproductions.ajqvue.utilities.LazyTableModel;
+import com.dandymadeproductions.ajqvue.utilities.TableBlockLoader;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
+import com.dandymadeproductions.ajqvue.utilities.metrics.FlightRecording;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
+import com.dandymadeproductions.ajqvue.utilities.metrics.TableLoadEvent;
 
 /**
  *    The TableTabPanel class provides the general framework and link to the
@@ -143,11 +197,12 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * access, while maintaining limited extensions.
  * 
  * @author Dana M. Proctor
- * @version 1.9 07/04/2018
+ * @version 2.0 10/18/2026
  */
 
 public abstract class TableTabPanel extends JPanel implements TableTabInterface, ActionListener,
                                                        KeyListener, TableColumnModelListener,
+                                                       TableModelListener, TableBlockLoader,
                                                        Printable
 {
    // Class Instances.
@@ -160,12 +215,25 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
    protected int tableRowStart, tableRowLimit;
    private Object panelSource;
    protected boolean historyAction; 
-   private boolean busyProcessing = false;
+   private volatile boolean busyProcessing = false;
    private boolean settingState;
    private boolean viewOnly;
+   private boolean virtualScrolling;
    
    protected static final int MAX_PREFERRED_COLUMN_SIZE = 350;
    protected static final int STATE_HISTORY_LIMIT = 25;
+   
+   protected static final int CELL_OTHER = 0;
+   protected static final int CELL_BIGDECIMAL = 1;
+   protected static final int CELL_DATE = 2;
+   protected static final int CELL_TIME = 3;
+   protected static final int CELL_DATETIME = 4;
+   protected static final int CELL_TIMESTAMP = 5;
+   protected static final int CELL_YEAR = 6;
+   protected static final int CELL_BOOLEAN = 7;
+   protected static final int CELL_LOB = 8;
+   protected static final int CELL_TEXT = 9;
+   protected static final int CELL_DIALECT = 100;
    private static final String STATE_DELIMITER = "%;%";
 
    protected String sqlTable;
@@ -232,10 +300,10 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
    protected JScrollPane tableScrollPane;
    protected CardLayout centerCardLayout;
    protected JTable listTable;
-   protected TableModel tableModel;
+   protected ColumnarTableModel tableModel;
    protected TableViewForm tableViewForm;
 
-   protected Object[][] tableData;
+   protected ColumnarPage tableData;
    protected LinkedList<String> stateHistory = new LinkedList <String>();
    protected HashMap<String, String> columnNamesHashMap;
    protected HashMap<String, String> columnClassHashMap;
@@ -250,6 +318,22 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
    protected HashMap<String, String> columnEnumHashMap;
    protected HashMap<String, String> columnSetHashMap;
    
+   private ArrayList<Object[]> keysetPageBoundaries;
+   private String keysetStateKey;
+   private volatile HashMap<String, Boolean> columnNullableHashMap;
+   private volatile ArrayList<String> keysetUniqueKey;
+   private String loadedSearchQueryString;
+   private volatile PageState loadedPageState;
+   
+   private transient volatile Thread prefetchThread;
+   private Page prefetchedPage;
+   
+   private CellPlan[] cellPlans;
+   private int cellPlansColumnCount;
+   private String viewDateFormat;
+   private ConcurrentHashMap<String, DateTimeFormatter> dateTimeFormatters;
+   private ConcurrentHashMap<String, DateTimeFormatter> viewDateTimeFormatters;
+   
    private JLabel rowsLabel;
    protected JButton refreshButton;
    private JButton previousTableRowsButton;
@@ -264,10 +348,16 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
    private JButton closeViewButton;
 
    //==============================================================
-   // TableTabPanel Constructor
+   // TableTabPanel Constructors
    //==============================================================
 
    TableTabPanel(String table, Connection setup_dbConnection, boolean viewOnlyTable)
+   {
+      this(table, setup_dbConnection, viewOnlyTable, null);
+   }
+   
+   TableTabPanel(String table, Connection setup_dbConnection, boolean viewOnlyTable,
+                 RetainedState retainedState)
    {
       sqlTable = table;
       viewOnly = viewOnlyTable;
@@ -329,6 +419,21 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
       keyLengthHashMap = new HashMap <String, Integer>();
       columnEnumHashMap = new HashMap <String, String>();
       columnSetHashMap = new HashMap <String, String>();
+      
+      keysetPageBoundaries = new ArrayList <Object[]>();
+      keysetStateKey = "";
+      columnNullableHashMap = null;
+      keysetUniqueKey = null;
+      loadedSearchQueryString = null;
+      loadedPageState = null;
+      prefetchThread = null;
+      prefetchedPage = null;
+      cellPlans = null;
+      cellPlansColumnCount = -1;
+      viewDateFormat = "";
+      dateTimeFormatters = new ConcurrentHashMap <String, DateTimeFormatter>();
+      viewDateTimeFormatters = new ConcurrentHashMap <String, DateTimeFormatter>();
+      virtualScrolling = DBTablesPanel.getGeneralDBProperties().getVirtualScrolling();
       historyAction = true;
       advancedSortSearch = false;
       settingState = false;
@@ -420,7 +525,10 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
          return;
       }
       else
+      {
          validatePrimaryKeys();
+         createCellPlans();
+      }
 
       sortComboBox = new JComboBox<Object>(comboBoxFields.toArray());
       sortComboBox.addActionListener(this);
@@ -505,14 +613,22 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
 
       centerPanel = new JPanel(centerCardLayout = new CardLayout());
 
+      // Rebuild a released panel as it was, its sort/search
+      // set before the one load.
+      if (retainedState != null)
+         setRetainedState(retainedState);
+
       // Summary table, setting up. If not successful then return.
       if (!loadTable(setup_dbConnection))
       {
          fields = null;
          return;
       }
+      
+      if (retainedState != null)
+         setRetainedHistory(retainedState);
 
-      tableModel = new TableModel(currentTableHeadings, tableData);
+      tableModel = createTableModel();
 
       listTable = new JTable(tableModel);
       listTable.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
@@ -522,7 +638,9 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
                                    TransferHandler.getPasteAction());
       listTable.getTableHeader().setFont(new Font(this.getFont().getName(), Font.BOLD,
                                                   this.getFont().getSize()));
-      listTable.setDragEnabled(true);
+      
+      if (!GraphicsEnvironment.isHeadless())
+         listTable.setDragEnabled(true);
       
       createListTablePopupMenu();
       listTable.addMouseListener(summaryTablePopupListener);
@@ -694,6 +812,10 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
       rowControlPanel.add(nextTableRowsButton);
 
       tableControlIndicatorPanel.add(rowControlPanel);
+      
+      // Rows are scrolled not paged.
+      if (virtualScrolling)
+         rowControlPanel.setVisible(false);
 
       buildConstraints(constraints, 1, 0, 1, 1, 2, 100);
       constraints.fill = GridBagConstraints.NONE;
@@ -863,6 +985,7 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
                            DBTablesPanel.stopStatusTimer();
                            busyProcessing = false;
                            historyAction = true;
+                           prefetchNextPage();
                         }
                      }, "TableTabPanel.actionThread");
                      actionThread.start();
@@ -1022,6 +1145,15 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
       Object id;
       Object columnName;
       int primaryKeyColumn = 0;
+      
+      // Finish any next page load & drop it unless still
+      // of use.
+      
+      waitForPrefetch();
+      
+      if (panelSource != nextTableRowsButton && panelSource != viewButton
+          && panelSource != previousViewButton && panelSource != nextViewButton)
+         clearPrefetchedPage();
 
       // Button Actions
       if (panelSource instanceof JButton)
@@ -1195,7 +1327,9 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
          else if (panelSource == nextTableRowsButton)
          {
             tableRowStart += tableRowLimit;
-            loadTable(work_dbConnection);
+            
+            if (!usePrefetchedPage())
+               loadTable(work_dbConnection);
             tableModel.setValues(tableData);
             tableScrollPane.getVerticalScrollBar().setValue(0);
             centerCardLayout.show(centerPanel, sqlTable);
@@ -1217,7 +1351,7 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
                else
                   rowPointer = Integer.parseInt(selectedRow + "") + 1;
 
-               if (rowPointer < 0 || rowPointer > (tableRowLimit - 1))
+               if (rowPointer < 0 || rowPointer > (listTable.getRowCount() - 1))
                   rowPointer = oldRow;
 
                // Change the row pointer then collect table data.
@@ -1427,6 +1561,18 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
       // Do Nothing 
    }
    
+   //==============================================================
+   // TableModelEvent Listener method for detecting changes in the
+   // rows of a scrolled summary table so the row indicator may
+   // reflect the count as it becomes known.
+   //==============================================================
+   
+   public void tableChanged(TableModelEvent evt)
+   {
+      if (rowsLabel != null && evt.getType() != TableModelEvent.UPDATE)
+         setRowsLabel(1, tableModel.getRowCount());
+   }
+   
    //==============================================================
    // Class method to obtain the column names from the table.
    // 
@@ -1443,175 +1589,1667 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
    */
 
    //==============================================================
-   // Class method to load the current table's data.
+   // Class method to load the current table's data. The page state
+   // of the panel's sort, search, & rows is captured, the keyset
+   // prepared, then the page's query created by the database
+   // TableTabPanel & run. Without a connection only the table's
+   // SQL statement is set.
+   //==============================================================
+
+   public boolean loadTable(Connection dbConnection)
+   {
+      // Method Instances
+      PageState pageState;
+      PageQuery pageQuery;
+      Page page;
+
+      pageState = createPageState(tableRowStart, tableRowLimit);
+
+      if (historyAction)
+         saveHistory();
+
+      pageState = prepareKeyset(dbConnection, pageState);
+      pageQuery = createPageQuery(pageState);
+
+      sqlTableStatement = new StringBuffer(pageQuery.sqlStatementString);
+      loadedSearchQueryString = pageQuery.searchQueryString;
+      // System.out.println(sqlTableStatement);
+      // System.out.println(pageQuery.loadStatementString);
+
+      if (dbConnection == null)
+         return false;
+
+      page = loadPage(dbConnection, pageState, pageQuery);
+
+      if (page == null)
+         return false;
+
+      setPage(page);
+      return true;
+   }
+
+   //==============================================================
+   // Class method to create the search condition & the SQL
+   // statements of a page, the summary table's query without LOBs
+   // & the table's query with all fields. Must only use the page
+   // state & the table's column characteristics, changing nothing,
+   // since also used for the background page loads.
    //
    //                          ******
    // YOU MUST OVERIDE THIS METHOD IN EACH DATABASE TableTabPanel.
    //
    //==============================================================
-   /*
-   public boolean loadTable(Connection dbConnection)
+
+   protected abstract PageQuery createPageQuery(PageState pageState);
+
+   //==============================================================
+   // Class method to fill a page's table data, by its cell plans,
+   // from the result set of its query. As with createPageQuery()
+   // must change nothing but the page.
+   //
+   //                          ******
+   // YOU MUST OVERIDE THIS METHOD IN EACH DATABASE TableTabPanel.
+   //
+   //==============================================================
+
+   protected abstract void loadPageData(ResultSet rs, Page page) throws SQLException;
+
+   //==============================================================
+   // Class method to capture the page state of the panel's sort,
+   // search, advanced sort/search, & fields for the given rows.
+   // Reads the panel's components, so only called by the panel's
+   // actions & the event dispatch thread, never a background load.
+   //==============================================================
+
+   protected PageState createPageState(int rowStart, int rowLimit)
    {
-      // OVERIDE THIS METHOD!
-      return false;
+      // Method Instances
+      Object searchItem;
+      String searchText;
+      String lobLessFieldsString;
+      String advancedSQL, advancedLobLessSQL;
+      StringBuilder stateKey;
+
+      if (cellPlans == null)
+         createCellPlans();
+
+      searchItem = searchComboBox.getSelectedItem();
+      searchText = searchTextField.getText();
+      lobLessFieldsString = getLobLessFieldsString();
+
+      stateKey = new StringBuilder();
+      stateKey.append(sortComboBox.getSelectedItem() + STATE_DELIMITER + ascDescString + STATE_DELIMITER);
+      stateKey.append(searchItem + STATE_DELIMITER + searchText + STATE_DELIMITER);
+      stateKey.append(advancedSortSearch + STATE_DELIMITER);
+
+      if (advancedSortSearch)
+      {
+         stateKey.append(advancedSortSearchFrame.getKeyComponentsState() + STATE_DELIMITER);
+
+         // Complete With All Fields & Summary Table Without LOBs.
+         advancedSQL = advancedSortSearchFrame.getAdvancedSortSearchSQL(sqlTableFieldsString,
+                                                rowStart, rowLimit).toString();
+         advancedLobLessSQL = advancedSortSearchFrame.getAdvancedSortSearchSQL(lobLessFieldsString,
+                                                       rowStart, rowLimit).toString();
+      }
+      else
+      {
+         advancedSQL = null;
+         advancedLobLessSQL = null;
+      }
+      stateKey.append(sqlTableFieldsString + STATE_DELIMITER + rowLimit);
+
+      return new PageState(columnNamesHashMap.get(sortComboBox.getSelectedItem()), ascDescString,
+                           searchItem, columnNamesHashMap.get(searchItem), searchText,
+                           advancedSortSearch, advancedSQL, advancedLobLessSQL, sqlTableFieldsString,
+                           lobLessFieldsString, cellPlans, rowStart, rowLimit,
+                           Collections.<String>emptyList(), null, stateKey.toString(), false);
    }
-   */
 
    //==============================================================
-   // Class method to create the summary table view popup menu.
+   // Class method to derive the page state of a background load, a
+   // page of other rows with the loaded page's sort/search, & its
+   // keyset. The advanced sort/search SQL for the rows is obtained
+   // on the event dispatch thread. Returns NULL if it can not be.
    //==============================================================
 
-   private void createListTablePopupMenu()
+   private PageState createBackgroundPageState(final PageState pageState, final int rowStart,
+                                               final int rowLimit)
    {
-      // Method Instances.
-      JPopupMenu summaryTablePopupMenu = new JPopupMenu();
-      JMenuItem menuItem;
-      String resource;
+      // Method Instances
+      final String[] advancedSQL;
+      Runnable advancedSQLRunnable;
 
-      // Basic table actions.
-      
-      resource = resourceBundle.getResourceString("TableTabPanel.popup.SelectFields", "Select Fields");
-      menuItem = menuItem(resource, "Select Fields");
-      summaryTablePopupMenu.add(menuItem);
-      
-      summaryTablePopupMenu.addSeparator();
+      if (pageState == null)
+         return null;
 
-      // No keys than cannot perform these operations.
-      if (!primaryKeys.isEmpty())
+      advancedSQL = new String[2];
+
+      if (pageState.advancedSortSearch)
       {
-         resource = resourceBundle.getResourceString("TableTabPanel.button.View", "View");
-         menuItem = menuItem(resource, "View");
-         summaryTablePopupMenu.add(menuItem);
+         advancedSQLRunnable = new Runnable()
+         {
+            public void run()
+            {
+               advancedSQL[0] = advancedSortSearchFrame.getAdvancedSortSearchSQL(pageState.fieldsString,
+                                                         rowStart, rowLimit).toString();
+               advancedSQL[1] = advancedSortSearchFrame.getAdvancedSortSearchSQL(
+                                   pageState.lobLessFieldsString, rowStart, rowLimit).toString();
+            }
+         };
 
-         if (!viewOnly)
+         try
          {
-            resource = resourceBundle.getResourceString("TableTabPanel.button.Add", "Add");
-            menuItem = menuItem(resource, "Add");
-            summaryTablePopupMenu.add(menuItem);
+            if (SwingUtilities.isEventDispatchThread())
+               advancedSQLRunnable.run();
+            else
+               SwingUtilities.invokeAndWait(advancedSQLRunnable);
+         }
+         catch (InterruptedException e)
+         {
+            Thread.currentThread().interrupt();
+            return null;
+         }
+         catch (InvocationTargetException e)
+         {
+            if (Ajqvue.getDebug())
+               System.out.println("TableTabPanel createBackgroundPageState() " + e.getCause());
+            return null;
+         }
+      }
+      return getKeysetPageState(pageState.forRows(rowStart, rowLimit, advancedSQL[0], advancedSQL[1]));
+   }
 
-            resource = resourceBundle.getResourceString("TableTabPanel.button.Edit", "Edit");
-            menuItem = menuItem(resource, "Edit");
-            summaryTablePopupMenu.add(menuItem);
+   //==============================================================
+   // Class method to return the table's fields without the LOBs
+   // for the summary table query, all fields if all are LOBs.
+   //==============================================================
 
-            resource = resourceBundle.getResourceString("TableTabPanel.button.Delete", "Delete");
-            menuItem = menuItem(resource, "Delete");
-            summaryTablePopupMenu.add(menuItem);
+   private String getLobLessFieldsString()
+   {
+      // Method Instances
+      String lobLessFieldsString;
 
-            summaryTablePopupMenu.addSeparator();
+      lobLessFieldsString = sqlTableFieldsString;
 
-            resource = resourceBundle.getResourceString("TableTabPanel.button.DeleteAll", "Delete All");
-            menuItem = menuItem(resource, "Delete All");
-            summaryTablePopupMenu.add(menuItem);
-         }
-         summaryTablePopupMenu.addSeparator();
+      if (!lob_sqlTableFieldsString.equals(""))
+      {
+         String[]  lobColumns = lob_sqlTableFieldsString.split(" ");
+
+         for (int i = 0; i < lobColumns.length; i++)
+            lobLessFieldsString = lobLessFieldsString.replace(lobColumns[i], "");
+
+         // All fields maybe lobs, so just include all. Network
+         // performance hit.
+         if (lobLessFieldsString.indexOf(identifierQuoteString) != -1)
+            lobLessFieldsString = lobLessFieldsString.substring(lobLessFieldsString.indexOf(
+                                                                       identifierQuoteString));
+         else
+            lobLessFieldsString = sqlTableFieldsString;
+
+         lobLessFieldsString = lobLessFieldsString.replaceAll(" ,", "");
+         if (lobLessFieldsString.endsWith(", "))
+            lobLessFieldsString = lobLessFieldsString.substring(0, lobLessFieldsString.length() - 2);
       }
+      return lobLessFieldsString;
+   }
 
-      // Summary Table select actions.
+   //==============================================================
+   // Class method to run a page's query & load its table data,
+   // leaving the panel unchanged. Returns NULL on failure, the
+   // errors displayed for a loadTable() & only output in debug
+   // for a background page load.
+   //==============================================================
 
-      resource = resourceBundle.getResourceString("TableTabPanel.popup.SelectAll", "Select All");
-      menuItem = menuItem(resource, "Select All");
-      summaryTablePopupMenu.add(menuItem);
+   private Page loadPage(Connection dbConnection, PageState pageState, PageQuery pageQuery)
+   {
+      // Method Instances
+      Statement sqlStatement;
+      ResultSet rs;
+      TableLoadEvent loadEvent;
+      Page page;
 
-      resource = resourceBundle.getResourceString("TableTabPanel.popup.DeSelectAll", "DeSelect All");
-      menuItem = menuItem(resource, "DeSelect All");
-      summaryTablePopupMenu.add(menuItem);
+      page = new Page(pageState, pageQuery);
+      sqlStatement = null;
+      rs = null;
+      loadEvent = beginLoadEvent();
 
-      // Summary Table copy/paste actions
+      try
+      {
+         sqlStatement = createLoadStatement(dbConnection, pageState, pageQuery.loadStatementString);
+         rs = executeLoadStatement(sqlStatement, page);
 
-      summaryTablePopupMenu.addSeparator();
+         // Placing the results columns desired into the table that
+         // will be display to the user.
 
-      resource = resourceBundle.getResourceString("TableTabPanel.popup.Copy", "Copy");
-      if (resource.equals(""))
-         menuItem = new JMenuItem("Copy");
+         page.cellPlans = bindCellPlans(rs, pageState);
+         page.tableData = createTablePage(page.cellPlans, pageState.rowLimit);
+
+         loadPageData(rs, page);
+         return page;
+      }
+      catch (SQLException e)
+      {
+         displayLoadErrors(e, pageState);
+         return null;
+      }
+      finally
+      {
+         try
+         {
+            if (rs != null)
+               rs.close();
+         }
+         catch (SQLException sqle)
+         {
+            displayLoadErrors(sqle, pageState);
+         }
+         finally
+         {
+            try
+            {
+               if (sqlStatement != null)
+                  sqlStatement.close();
+            }
+            catch (SQLException sqle)
+            {
+               displayLoadErrors(sqle, pageState);
+            }
+         }
+         commitLoadEvent(loadEvent, page);
+      }
+   }
+
+   private void displayLoadErrors(SQLException e, PageState pageState)
+   {
+      if (pageState.background)
+      {
+         if (Ajqvue.getDebug())
+            System.out.println(getClass().getSimpleName() + " loadPage() " + e.getMessage());
+      }
       else
-         menuItem = new JMenuItem(resource);
-      menuItem.setActionCommand((String) TransferHandler.getCopyAction().getValue(Action.NAME));
-      menuItem.setMnemonic(KeyEvent.VK_C);
-      menuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_C, ActionEvent.CTRL_MASK));
-      menuItem.addActionListener(this);
-      summaryTablePopupMenu.add(menuItem);
+         ConnectionManager.displaySQLErrors(e, getClass().getSimpleName() + " loadTable()");
+   }
 
-      // No keys then cannot perform paste.
-      if (!primaryKeys.isEmpty() && !viewOnly)
+   //==============================================================
+   // Class method to make a loaded page the one shown, its SQL
+   // statement, search, keyset boundary, & column sizes.
+   //==============================================================
+
+   private void setPage(Page page)
+   {
+      tableData = page.tableData;
+      sqlTableStatement = new StringBuffer(page.pageQuery.sqlStatementString);
+      loadedSearchQueryString = page.pageQuery.searchQueryString;
+      loadedPageState = page.pageState;
+
+      recordKeysetBoundary(page);
+      storePreferredColumnSizes(page.cellPlans);
+   }
+
+   //==============================================================
+   // Class method to setup keyset, seek, pagination for a page of
+   // a loadTable(). When the current sort column & the table's
+   // primary key, or a NOT NULL unique key, form a usable key the
+   // page is selected by the last key values of the previous page
+   // rather than an OFFSET. The primaryKeys also hold index & foreign
+   // key columns so may not be unique, rows tied across a page would
+   // be skipped. The boundaries are only kept as long as the page
+   // state's sort, search, & row limit stay the same. Falls back to
+   // OFFSET paging for advanced sort/search, no unique key, or an
+   // unknown page boundary.
+   //==============================================================
+
+   protected PageState prepareKeyset(Connection dbConnection, PageState pageState)
+   {
+      if (dbConnection == null || !isKeysetPageable(pageState))
       {
-         resource = resourceBundle.getResourceString("TableTabPanel.popup.Paste", "Paste");
-         menuItem = new JMenuItem(resource);
-         menuItem.setActionCommand((String) TransferHandler.getPasteAction().getValue(Action.NAME));
-         menuItem.setMnemonic(KeyEvent.VK_V);
-         menuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_V, ActionEvent.CTRL_MASK));
-         menuItem.addActionListener(this);
-         summaryTablePopupMenu.add(menuItem);
+         synchronized (keysetPageBoundaries)
+         {
+            keysetPageBoundaries.clear();
+         }
+         return pageState;
+      }
+
+      if (columnNullableHashMap == null)
+         loadKeysetUniqueKey(dbConnection);
+
+      // Reset the page boundaries on change of sort/search.
+      synchronized (keysetPageBoundaries)
+      {
+         if (!pageState.stateKey.equals(keysetStateKey) || keysetPageBoundaries.isEmpty())
+         {
+            keysetStateKey = pageState.stateKey;
+            keysetPageBoundaries.clear();
+            keysetPageBoundaries.add(null);
+         }
+      }
+      return getKeysetPageState(pageState);
+   }
+
+   //==============================================================
+   // Class method to return the page state with its keyset, the
+   // sort column then remaining keys as tie breakers, & the page's
+   // boundary if known. Only reads the keyset state so may be used
+   // for the background page loads.
+   //==============================================================
+
+   private PageState getKeysetPageState(PageState pageState)
+   {
+      // Method Instances
+      HashMap<String, Boolean> columnNullable;
+      ArrayList<String> uniqueKey;
+      ArrayList<String> columns;
+      Object[] boundary;
+      int pageIndex;
+
+      columnNullable = columnNullableHashMap;
+
+      if (columnNullable == null || !isKeysetPageable(pageState))
+         return pageState;
+
+      // No unique key, OFFSET paging.
+      uniqueKey = keysetUniqueKey;
+
+      if (uniqueKey == null || uniqueKey.isEmpty())
+         return pageState;
+
+      // Sort column first then the unique key as tie breakers.
+      columns = new ArrayList <String>();
+      columns.add(pageState.sortColumn);
+
+      for (String key : uniqueKey)
+      {
+         if (!columns.contains(key))
+            columns.add(key);
+      }
+
+      // Insure all columns are usable in comparisons.
+      for (String column : columns)
+      {
+         String heading = parseColumnNameField(column);
+
+         if (lobDataTypesHashMap.containsValue(column)
+             || columnClassHashMap.get(heading) == null
+             || Utils.isBlob(columnClassHashMap.get(heading), columnTypeNameHashMap.get(heading))
+             || !Boolean.FALSE.equals(columnNullable.get(column)))
+            return pageState;
+      }
+
+      // Have a boundary for the requested page?
+      boundary = null;
+
+      if (pageState.rowLimit > 0 && pageState.rowStart > 0 && (pageState.rowStart % pageState.rowLimit) == 0)
+      {
+         pageIndex = pageState.rowStart / pageState.rowLimit;
+
+         synchronized (keysetPageBoundaries)
+         {
+            if (pageState.stateKey.equals(keysetStateKey) && pageIndex < keysetPageBoundaries.size())
+               boundary = keysetPageBoundaries.get(pageIndex);
+         }
+      }
+      return pageState.withKeyset(columns, boundary);
+   }
+
+   private boolean isKeysetPageable(PageState pageState)
+   {
+      // Access is loaded without a LIMIT, rows skipped.
+      return !(pageState.advancedSortSearch || primaryKeys.isEmpty() || pageState.sortColumn == null
+               || !DBTablesPanel.getGeneralDBProperties().getKeysetPaging()
+               || ConnectionManager.getDataSourceType().equals(ConnectionManager.MSACCESS));
+   }
+
+   //==============================================================
+   // Class method to return the ORDER BY column list, with the
+   // key tie breakers when keyset paging.
+   //==============================================================
+
+   protected String getKeysetOrderBy(PageState pageState)
+   {
+      // Method Instances
+      StringBuilder orderBy;
+
+      orderBy = new StringBuilder();
+
+      if (pageState.keysetColumns.isEmpty())
+      {
+         orderBy.append(identifierQuoteString + pageState.sortColumn + identifierQuoteString + " "
+                        + pageState.ascDescString);
+         return orderBy.toString();
+      }
+
+      for (int i = 0; i < pageState.keysetColumns.size(); i++)
+      {
+         if (i > 0)
+            orderBy.append(", ");
+         orderBy.append(identifierQuoteString + pageState.keysetColumns.get(i) + identifierQuoteString + " "
+                        + pageState.ascDescString);
+      }
+      return orderBy.toString();
+   }
+
+   //==============================================================
+   // Class method to return the keyset WHERE condition for the
+   // page boundary, empty if none. The condition is the expanded
+   // form of (sort, pk...) > (?, ?...), supported by all the
+   // databases, with a leading range for index use.
+   //==============================================================
+
+   protected String getKeysetWhereClause(PageState pageState)
+   {
+      // Method Instances
+      StringBuilder whereClause;
+      List<String> keysetColumns;
+      String operator;
+
+      if (pageState.keysetBoundary == null)
+         return "";
+
+      keysetColumns = pageState.keysetColumns;
+      operator = pageState.ascDescString.equals("DESC") ? " < ?" : " > ?";
+
+      whereClause = new StringBuilder(" AND " + identifierQuoteString + keysetColumns.get(0)
+                                      + identifierQuoteString + (operator.equals(" < ?") ? " <= ?" : " >= ?")
+                                      + " AND (");
+
+      for (int i = 0; i < keysetColumns.size(); i++)
+      {
+         if (i > 0)
+            whereClause.append(" OR ");
+         whereClause.append("(");
+
+         for (int j = 0; j < i; j++)
+            whereClause.append(identifierQuoteString + keysetColumns.get(j) + identifierQuoteString
+                               + " = ? AND ");
+
+         whereClause.append(identifierQuoteString + keysetColumns.get(i) + identifierQuoteString
+                            + operator + ")");
+      }
+      whereClause.append(")");
+
+      return whereClause.toString();
+   }
+
+   //==============================================================
+   // Class method to return the row offset to use in the load
+   // query, zero when the page is selected by keyset.
+   //==============================================================
+
+   protected int getLoadRowStart(PageState pageState)
+   {
+      if (pageState.keysetBoundary != null)
+         return 0;
+      else
+         return pageState.rowStart;
+   }
+
+   //==============================================================
+   // Class methods to create & execute the load query statement,
+   // a PreparedStatement with the keyset boundary bound as needed.
+   // The query's latency is recorded for the table & panel, its
+   // start held by the page for the SlowQueryLog.
+   //==============================================================
+
+   protected Statement createLoadStatement(Connection dbConnection, PageState pageState,
+                                           String sqlStatementString) throws SQLException
+   {
+      // Method Instances
+      PreparedStatement prepared_sqlStatement;
+      Object[] keysetBoundary;
+      int parameterIndex;
+
+      keysetBoundary = pageState.keysetBoundary;
+
+      if (keysetBoundary == null)
+         return dbConnection.createStatement();
+
+      prepared_sqlStatement = dbConnection.prepareStatement(sqlStatementString);
+      parameterIndex = 1;
+
+      // Leading range.
+      prepared_sqlStatement.setObject(parameterIndex++, keysetBoundary[0]);
+
+      for (int i = 0; i < pageState.keysetColumns.size(); i++)
+      {
+         for (int j = 0; j <= i; j++)
+            prepared_sqlStatement.setObject(parameterIndex++, keysetBoundary[j]);
+      }
+      return prepared_sqlStatement;
+   }
+
+   protected ResultSet executeLoadStatement(Statement sqlStatement, Page page) throws SQLException
+   {
+      // Method Instances
+      String sqlStatementString;
+      long queryStartTime, queryTime;
+
+      sqlStatementString = page.pageQuery.loadStatementString;
+      queryStartTime = System.nanoTime();
+      page.loadQueryStartTime = queryStartTime;
+      page.loadQueried = true;
+
+      try
+      {
+         if (sqlStatement instanceof PreparedStatement)
+            return ((PreparedStatement) sqlStatement).executeQuery();
+         else
+            return sqlStatement.executeQuery(sqlStatementString);
+      }
+      finally
+      {
+         queryTime = System.nanoTime() - queryStartTime;
+         MetricsRegistry.recordTime(MetricsRegistry.QUERY_TABLE + sqlTable, queryTime);
+         MetricsRegistry.recordTime(MetricsRegistry.QUERY_PANEL + getClass().getSimpleName(), queryTime);
+      }
+   }
+
+   //==============================================================
+   // Class methods to begin & commit the Flight Recorder event of
+   // a page load, NULL when the events are not enabled. The rows
+   // loaded are those filled in the page's table data. The commit
+   // also passes the load query, its execution & fetch time, to
+   // the SlowQueryLog.
+   //==============================================================
+
+   protected TableLoadEvent beginLoadEvent()
+   {
+      // Method Instances
+      TableLoadEvent loadEvent;
+
+      if (!FlightRecording.isEnabled())
+         return null;
+
+      loadEvent = new TableLoadEvent(sqlTable, getClass().getSimpleName());
+      loadEvent.begin();
+      return loadEvent;
+   }
+
+   protected void commitLoadEvent(TableLoadEvent loadEvent, Page page)
+   {
+      // Method Instances
+      long queryTime;
+
+      if (page.loadQueried)
+      {
+         queryTime = System.nanoTime() - page.loadQueryStartTime;
+
+         if (SlowQueryLog.getThreshold() > 0 && queryTime / 1000000 >= SlowQueryLog.getThreshold())
+            SlowQueryLog.record(page.pageQuery.loadStatementString, queryTime,
+                                getLoadedRowCount(page.tableData), getClass().getSimpleName());
+      }
+
+      if (loadEvent == null)
+         return;
+
+      loadEvent.end();
+
+      if (loadEvent.shouldCommit())
+      {
+         loadEvent.setLoaded(getLoadedRowCount(page.tableData),
+                             (page.tableData == null) ? 0 : page.tableData.getApproximateSize());
+         loadEvent.commit();
+      }
+   }
+
+   private static int getLoadedRowCount(ColumnarPage loadedTableData)
+   {
+      if (loadedTableData == null)
+         return 0;
+      else
+         return loadedTableData.getRowCount();
+   }
+
+   //==============================================================
+   // Class methods to hold the key values of the last row of a
+   // full page with the page, & to record them, as the page is
+   // shown, as the boundary for the following page.
+   //==============================================================
+
+   protected void recordKeysetRow(ResultSet rs, int rowIndex, Page page) throws SQLException
+   {
+      // Method Instances
+      PageState pageState;
+      Object[] boundary;
+
+      pageState = page.pageState;
+
+      if (pageState.keysetColumns.isEmpty() || rowIndex != (pageState.rowLimit - 1)
+          || pageState.rowLimit <= 0 || (pageState.rowStart % pageState.rowLimit) != 0)
+         return;
+
+      boundary = new Object[pageState.keysetColumns.size()];
+
+      for (int i = 0; i < pageState.keysetColumns.size(); i++)
+      {
+         boundary[i] = rs.getObject(pageState.keysetColumns.get(i));
+
+         if (boundary[i] == null)
+            return;
+      }
+      page.keysetBoundary = boundary;
+   }
+
+   private void recordKeysetBoundary(Page page)
+   {
+      // Method Instances
+      int nextPageIndex;
+
+      if (page.keysetBoundary == null)
+         return;
+
+      nextPageIndex = (page.pageState.rowStart / page.pageState.rowLimit) + 1;
+
+      synchronized (keysetPageBoundaries)
+      {
+         if (!page.pageState.stateKey.equals(keysetStateKey) || nextPageIndex > keysetPageBoundaries.size())
+            return;
+
+         // Later boundaries no longer valid.
+         while (keysetPageBoundaries.size() > nextPageIndex)
+            keysetPageBoundaries.remove(keysetPageBoundaries.size() - 1);
+         keysetPageBoundaries.add(page.keysetBoundary);
+      }
+   }
+
+   //==============================================================
+   // Class method to collect the nullability of the table's columns,
+   // derived once from an empty result set, & the unique key for
+   // keyset paging. The key is the primary key, else the unique
+   // index with the fewest columns, with all its columns NOT NULL.
+   //==============================================================
+
+   private void loadKeysetUniqueKey(Connection dbConnection)
+   {
+      // Method Instances
+      Statement sqlStatement;
+      ResultSet rs;
+      ResultSetMetaData tableMetaData;
+      DatabaseMetaData dbMetaData;
+      SchemaMetadataCache schemaMetadataCache;
+      HashMap<String, Boolean> columnNullable;
+      ArrayList<String> uniqueKey;
+      LinkedHashMap<String, ArrayList<String>> uniqueIndexes;
+      String catalogName;
+      String schemaName;
+      String tableName;
+
+      columnNullable = new HashMap <String, Boolean>();
+      uniqueKey = new ArrayList <String>();
+      sqlStatement = null;
+      rs = null;
+
+      try
+      {
+         sqlStatement = dbConnection.createStatement();
+         rs = sqlStatement.executeQuery("SELECT " + sqlTableFieldsString + " FROM " + schemaTableName
+                                        + " WHERE 1=0");
+         tableMetaData = rs.getMetaData();
+
+         for (int i = 1; i < tableMetaData.getColumnCount() + 1; i++)
+            columnNullable.put(tableMetaData.getColumnName(i),
+               Boolean.valueOf(tableMetaData.isNullable(i) != ResultSetMetaData.columnNoNulls));
+
+         catalogName = tableMetaData.getCatalogName(1);
+         if (catalogName != null && catalogName.equals(""))
+            catalogName = null;
+
+         schemaName = tableMetaData.getSchemaName(1);
+         if (schemaName == null || schemaName.equals(""))
+            schemaName = (sqlTable.indexOf(".") != -1) ? sqlTable.substring(0, sqlTable.indexOf(".")) : null;
+
+         tableName = tableMetaData.getTableName(1);
+         if (tableName == null || tableName.equals(""))
+            tableName = sqlTable.substring(sqlTable.indexOf(".") + 1);
+
+         rs.close();
+
+         schemaMetadataCache = ConnectionManager.getSchemaMetadataCache();
+         dbMetaData = dbConnection.getMetaData();
+
+         // Primary Key.
+
+         rs = schemaMetadataCache.getPrimaryKeys(sqlTable, dbMetaData, catalogName, schemaName,
+                                                 tableName);
+         while (rs.next())
+         {
+            if (rs.getString("TABLE_NAME").equals(tableName))
+               uniqueKey.add(rs.getString("COLUMN_NAME"));
+         }
+         rs.close();
+
+         if (!isNotNullKey(uniqueKey, columnNullable))
+         {
+            // Unique Indexes.
+
+            uniqueIndexes = new LinkedHashMap <String, ArrayList<String>>();
+            uniqueKey = new ArrayList <String>();
+
+            rs = schemaMetadataCache.getIndexInfo(sqlTable, dbMetaData, catalogName, schemaName,
+                                                  tableName, true, false);
+            while (rs.next())
+            {
+               if (rs.getString("COLUMN_NAME") == null || rs.getString("INDEX_NAME") == null
+                   || rs.getBoolean("NON_UNIQUE") || !rs.getString("TABLE_NAME").equals(tableName))
+                  continue;
+
+               if (!uniqueIndexes.containsKey(rs.getString("INDEX_NAME")))
+                  uniqueIndexes.put(rs.getString("INDEX_NAME"), new ArrayList <String>());
+               uniqueIndexes.get(rs.getString("INDEX_NAME")).add(rs.getString("COLUMN_NAME"));
+            }
+
+            for (ArrayList<String> indexColumns : uniqueIndexes.values())
+            {
+               if (isNotNullKey(indexColumns, columnNullable)
+                   && (uniqueKey.isEmpty() || indexColumns.size() < uniqueKey.size()))
+                  uniqueKey = indexColumns;
+            }
+         }
+      }
+      catch (SQLException e)
+      {
+         uniqueKey = new ArrayList <String>();
+
+         if (Ajqvue.getDebug())
+            System.out.println("TableTabPanel loadKeysetUniqueKey() " + e.getMessage());
+      }
+      finally
+      {
+         try
+         {
+            if (rs != null)
+               rs.close();
+            if (sqlStatement != null)
+               sqlStatement.close();
+         }
+         catch (SQLException sqle)
+         {
+            if (Ajqvue.getDebug())
+               System.out.println("TableTabPanel loadKeysetUniqueKey() " + sqle.getMessage());
+         }
+      }
+      // Only published once complete, read by background loads.
+      keysetUniqueKey = uniqueKey;
+      columnNullableHashMap = columnNullable;
+   }
+
+   private boolean isNotNullKey(ArrayList<String> keyColumns, HashMap<String, Boolean> columnNullable)
+   {
+      if (keyColumns.isEmpty())
+         return false;
+
+      for (String column : keyColumns)
+      {
+         if (!Boolean.FALSE.equals(columnNullable.get(column)))
+            return false;
+      }
+      return true;
+   }
+
+   //==============================================================
+   // Class method to create the summary table model, a windowed
+   // LazyTableModel when rows are to be scrolled rather than paged.
+   //==============================================================
+
+   private ColumnarTableModel createTableModel()
+   {
+      // Method Instances
+      ColumnarTableModel summaryTableModel;
+
+      if (!virtualScrolling)
+         return new ColumnarTableModel(currentTableHeadings, tableData, "NULL", tableRowLimit);
+
+      summaryTableModel = new LazyTableModel(currentTableHeadings, tableData, "NULL", tableRowLimit,
+         DBTablesPanel.getGeneralDBProperties().getVirtualCacheBlocks(), this);
+      summaryTableModel.addTableModelListener(this);
+
+      return summaryTableModel;
+   }
+
+   //==============================================================
+   // Class method for the LazyTableModel to load a block of rows
+   // of the loaded page's sort/search. Skips the block, returns
+   // NULL, if the panel is busy with an action or on failure.
+   //==============================================================
+
+   public ColumnarPage loadBlock(int rowStart, int rowCount)
+   {
+      // Method Instances
+      Connection work_dbConnection;
+      PageState pageState;
+      Page page;
+
+      synchronized (this)
+      {
+         if (busyProcessing || settingState)
+            return null;
+         busyProcessing = true;
+      }
+      work_dbConnection = null;
+
+      try
+      {
+         pageState = createBackgroundPageState(loadedPageState, rowStart, rowCount);
+
+         if (pageState == null)
+            return null;
+
+         work_dbConnection = ConnectionManager.getConnection("TableTabPanel loadBlock()");
+
+         if (work_dbConnection == null)
+            return null;
+
+         page = loadPage(work_dbConnection, pageState, createPageQuery(pageState));
+
+         if (page == null)
+            return null;
+         else
+            return page.tableData;
+      }
+      finally
+      {
+         if (work_dbConnection != null)
+            ConnectionManager.closeConnection(work_dbConnection, "TableTabPanel loadBlock()");
+         busyProcessing = false;
+      }
+   }
+
+   //==============================================================
+   // Class method to begin loading the page following the one now
+   // shown on a background thread, so the next rows action may use
+   // it directly. Only when the current page is full. The page
+   // state is derived on the event dispatch thread once the action
+   // is done, & skipped if another has begun.
+   //==============================================================
+
+   private void prefetchNextPage()
+   {
+      SwingUtilities.invokeLater(new Runnable()
+      {
+         public void run()
+         {
+            startPrefetch();
+         }
+      });
+   }
+
+   private void startPrefetch()
+   {
+      // Method Instances
+      PageState currentPageState;
+      final PageState pageState;
+      int nextRowStart;
+
+      currentPageState = loadedPageState;
+
+      if (busyProcessing || settingState || virtualScrolling || currentPageState == null
+          || currentPageState.rowLimit <= 0 || tableData == null
+          || tableData.getRowCount() < currentPageState.rowLimit)
+         return;
+
+      nextRowStart = currentPageState.rowStart + currentPageState.rowLimit;
+
+      synchronized (this)
+      {
+         if (prefetchedPage != null && prefetchedPage.pageState.rowStart == nextRowStart
+             && currentPageState.stateKey.equals(prefetchedPage.pageState.stateKey))
+            return;
+      }
+
+      pageState = createBackgroundPageState(currentPageState, nextRowStart, currentPageState.rowLimit);
+
+      if (pageState == null)
+         return;
+
+      prefetchThread = new Thread(new Runnable()
+      {
+         public void run()
+         {
+            Connection work_dbConnection;
+            Page page;
+
+            work_dbConnection = ConnectionManager.getConnection("TableTabPanel prefetchNextPage()");
+
+            if (work_dbConnection == null)
+               return;
+
+            page = loadPage(work_dbConnection, pageState, createPageQuery(pageState));
+            ConnectionManager.closeConnection(work_dbConnection, "TableTabPanel prefetchNextPage()");
+
+            if (page != null)
+            {
+               synchronized (TableTabPanel.this)
+               {
+                  prefetchedPage = page;
+               }
+            }
+         }
+      }, "TableTabPanel.prefetchThread");
+      prefetchThread.start();
+   }
+
+   //==============================================================
+   // Class method to wait for a background page load to finish
+   // before the panel's table state is used.
+   //==============================================================
+
+   protected void waitForPrefetch()
+   {
+      // Method Instances
+      Thread currentPrefetchThread;
+
+      currentPrefetchThread = prefetchThread;
+
+      if (currentPrefetchThread == null || currentPrefetchThread == Thread.currentThread())
+         return;
+
+      try
+      {
+         currentPrefetchThread.join();
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+      }
+      prefetchThread = null;
+   }
+
+   //==============================================================
+   // Class methods to show the prefetched page if it is of the
+   // current row start & page state, and to drop it.
+   //==============================================================
+
+   private boolean usePrefetchedPage()
+   {
+      // Method Instances
+      Page page;
+      PageState pageState;
+
+      synchronized (this)
+      {
+         page = prefetchedPage;
+         prefetchedPage = null;
+      }
+
+      if (page == null || page.pageState.rowStart != tableRowStart)
+         return false;
+
+      pageState = createPageState(tableRowStart, tableRowLimit);
+
+      if (!pageState.stateKey.equals(page.pageState.stateKey))
+         return false;
+
+      setPage(page);
+      return true;
+   }
+
+   protected synchronized void clearPrefetchedPage()
+   {
+      prefetchedPage = null;
+   }
+   
+   //==============================================================
+   // Class method for the LazyTableModel to obtain the row count
+   // of the current search. Not known, -1, for an advanced sort/
+   // search, which may group or aggregate, or when the search was
+   // not recorded by the last loadTable().
+   //==============================================================
+   
+   public int loadRowCount()
+   {
+      // Method Instances
+      Connection work_dbConnection;
+      Statement sqlStatement;
+      ResultSet rs;
+      String searchQueryString;
+      
+      searchQueryString = loadedSearchQueryString;
+      
+      if (advancedSortSearch || searchQueryString == null)
+         return -1;
+      
+      work_dbConnection = ConnectionManager.getConnection("TableTabPanel loadRowCount()");
+      
+      if (work_dbConnection == null)
+         return -1;
+      
+      sqlStatement = null;
+      rs = null;
+      
+      try
+      {
+         sqlStatement = work_dbConnection.createStatement();
+         rs = sqlStatement.executeQuery("SELECT COUNT(*) FROM " + schemaTableName + " WHERE "
+                                        + searchQueryString);
+         
+         if (rs.next())
+            return rs.getInt(1);
+         else
+            return -1;
+      }
+      catch (SQLException e)
+      {
+         if (Ajqvue.getDebug())
+            System.out.println("TableTabPanel loadRowCount() " + e.getMessage());
+         return -1;
+      }
+      finally
+      {
+         try
+         {
+            if (rs != null)
+               rs.close();
+            if (sqlStatement != null)
+               sqlStatement.close();
+         }
+         catch (SQLException sqle)
+         {
+            if (Ajqvue.getDebug())
+               System.out.println("TableTabPanel loadRowCount() " + sqle.getMessage());
+         }
+         ConnectionManager.closeConnection(work_dbConnection, "TableTabPanel loadRowCount()");
+      }
+   }
+
+   //==============================================================
+   // Class method to create the summary table view popup menu.
+   //==============================================================
+
+   private void createListTablePopupMenu()
+   {
+      // Method Instances.
+      JPopupMenu summaryTablePopupMenu = new JPopupMenu();
+      JMenuItem menuItem;
+      String resource;
+
+      // Basic table actions.
+      
+      resource = resourceBundle.getResourceString("TableTabPanel.popup.SelectFields", "Select Fields");
+      menuItem = menuItem(resource, "Select Fields");
+      summaryTablePopupMenu.add(menuItem);
+      
+      summaryTablePopupMenu.addSeparator();
+
+      // No keys than cannot perform these operations.
+      if (!primaryKeys.isEmpty())
+      {
+         resource = resourceBundle.getResourceString("TableTabPanel.button.View", "View");
+         menuItem = menuItem(resource, "View");
+         summaryTablePopupMenu.add(menuItem);
+
+         if (!viewOnly)
+         {
+            resource = resourceBundle.getResourceString("TableTabPanel.button.Add", "Add");
+            menuItem = menuItem(resource, "Add");
+            summaryTablePopupMenu.add(menuItem);
+
+            resource = resourceBundle.getResourceString("TableTabPanel.button.Edit", "Edit");
+            menuItem = menuItem(resource, "Edit");
+            summaryTablePopupMenu.add(menuItem);
+
+            resource = resourceBundle.getResourceString("TableTabPanel.button.Delete", "Delete");
+            menuItem = menuItem(resource, "Delete");
+            summaryTablePopupMenu.add(menuItem);
+
+            summaryTablePopupMenu.addSeparator();
+
+            resource = resourceBundle.getResourceString("TableTabPanel.button.DeleteAll", "Delete All");
+            menuItem = menuItem(resource, "Delete All");
+            summaryTablePopupMenu.add(menuItem);
+         }
+         summaryTablePopupMenu.addSeparator();
+      }
+
+      // Summary Table select actions.
+
+      resource = resourceBundle.getResourceString("TableTabPanel.popup.SelectAll", "Select All");
+      menuItem = menuItem(resource, "Select All");
+      summaryTablePopupMenu.add(menuItem);
+
+      resource = resourceBundle.getResourceString("TableTabPanel.popup.DeSelectAll", "DeSelect All");
+      menuItem = menuItem(resource, "DeSelect All");
+      summaryTablePopupMenu.add(menuItem);
+
+      // Summary Table copy/paste actions
+
+      summaryTablePopupMenu.addSeparator();
+
+      resource = resourceBundle.getResourceString("TableTabPanel.popup.Copy", "Copy");
+      if (resource.equals(""))
+         menuItem = new JMenuItem("Copy");
+      else
+         menuItem = new JMenuItem(resource);
+      menuItem.setActionCommand((String) TransferHandler.getCopyAction().getValue(Action.NAME));
+      menuItem.setMnemonic(KeyEvent.VK_C);
+      menuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_C, ActionEvent.CTRL_MASK));
+      menuItem.addActionListener(this);
+      summaryTablePopupMenu.add(menuItem);
+
+      // No keys then cannot perform paste.
+      if (!primaryKeys.isEmpty() && !viewOnly)
+      {
+         resource = resourceBundle.getResourceString("TableTabPanel.popup.Paste", "Paste");
+         menuItem = new JMenuItem(resource);
+         menuItem.setActionCommand((String) TransferHandler.getPasteAction().getValue(Action.NAME));
+         menuItem.setMnemonic(KeyEvent.VK_V);
+         menuItem.setAccelerator(KeyStroke.getKeyStroke(KeyEvent.VK_V, ActionEvent.CTRL_MASK));
+         menuItem.addActionListener(this);
+         summaryTablePopupMenu.add(menuItem);
+      }
+      
+      // Summary Table clear history actions
+      
+      summaryTablePopupMenu.addSeparator();
+      
+      resource = resourceBundle.getResourceString("TableTabPanel.popup.ClearHistory",
+                                                  "Clear History");
+      menuItem = menuItem(resource, "Clear History");
+      summaryTablePopupMenu.add(menuItem);
+      
+      
+      // Summary Table Save as Image, PNG.
+      
+      summaryTablePopupMenu.addSeparator();
+      
+      resource = resourceBundle.getResourceString("TableTabPanel.popup.SaveAsImage",
+                                                  "Save As Image");
+      menuItem = menuItem(resource, "Save As Image");
+      summaryTablePopupMenu.add(menuItem);
+      
+
+      summaryTablePopupListener = new Main_MouseAdapter(summaryTablePopupMenu);
+   }
+
+   //==============================================================
+   // Class method to create the advancedSortSearchFrame.
+   //==============================================================
+
+   public void createAdvancedSortSearchFrame()
+   {
+      advancedSortSearchFrame = new AdvancedSortSearchForm(schemaTableName, resourceBundle,
+                                                           columnNamesHashMap, columnClassHashMap,
+                                                           columnSQLTypeHashMap, columnTypeNameHashMap,
+                                                           comboBoxFields);
+      advSortSearchApplyButton = advancedSortSearchFrame.getApplyButton();
+      advSortSearchApplyButton.addActionListener(this);
+
+      advancedSortSearchFrame.pack();
+      advancedSortSearchFrame.center();
+   }
+
+   //==============================================================
+   // Class method to create the updateFrame.
+   //==============================================================
+
+   public void createUpdateFrame()
+   {
+      updateFrame = new UpdateForm(schemaTableName, resourceBundle, columnNamesHashMap,
+                                   columnClassHashMap, columnSQLTypeHashMap, columnTypeNameHashMap,
+                                   columnSizeHashMap, comboBoxFields);
+      updateFormFindButton = updateFrame.getFindButton();
+      updateFormFindButton.addActionListener(this);
+      updateFrame.getDisposeButton().addActionListener(this);
+
+      updateFrame.pack();
+      updateFrame.center();
+   }
+
+   //==============================================================
+   // Helper Method, for creating JMenuItems.
+   //==============================================================
+
+   private JMenuItem menuItem(String label, String actionLabel)
+   {
+      JMenuItem item = new JMenuItem(label);
+      item.addActionListener(this);
+      item.setActionCommand(actionLabel);
+      return item;
+   }
+
+   //==============================================================
+   // Class method to create the summary table cell plans, one for
+   // each current heading, holding the column characteristics &
+   // cell type the loadTable() routines need for each cell so they
+   // are determined once, when the headings are set, rather than
+   // for every row.
+   //==============================================================
+   
+   protected void createCellPlans()
+   {
+      // Method Instances
+      CellPlan cellPlan;
+      String columnName;
+      int i;
+      
+      cellPlans = new CellPlan[currentTableHeadings.size()];
+      i = 0;
+      
+      for (String currentHeading : currentTableHeadings)
+      {
+         columnName = columnNamesHashMap.get(currentHeading);
+         
+         cellPlan = new CellPlan();
+         cellPlan.heading = currentHeading;
+         cellPlan.columnName = columnName;
+         cellPlan.columnClass = columnClassHashMap.get(currentHeading);
+         cellPlan.columnSQLType = (columnSQLTypeHashMap.get(currentHeading)).intValue();
+         cellPlan.columnTypeName = columnTypeNameHashMap.get(currentHeading);
+         cellPlan.columnSize = (columnSizeHashMap.get(currentHeading)).intValue();
+         cellPlan.keyLength = keyLengthHashMap.get(columnName);
+         cellPlan.lob = lobDataTypesHashMap.containsKey(currentHeading);
+         cellPlan.cellType = CELL_OTHER;
+         setCellType(cellPlan);
+         setCellStorage(cellPlan);
+         
+         cellPlans[i++] = cellPlan;
+      }
+      cellPlansColumnCount = -1;
+   }
+   
+   //==============================================================
+   // Class method to set a cell plan's cell type, & any name or
+   // pattern used to display it, from the column characteristics.
+   // Overridden by the database panels, the cell type is then
+   // switched on in their loadPageData() routines. A column whose
+   // cells are not keyed should have its keyLength cleared.
+   //==============================================================
+   
+   protected void setCellType(CellPlan cellPlan)
+   {
+      if (cellPlan.columnClass.indexOf("BigDecimal") != -1)
+         cellPlan.cellType = CELL_BIGDECIMAL;
+      else if (cellPlan.columnClass.indexOf("Boolean") != -1)
+         cellPlan.cellType = CELL_BOOLEAN;
+   }
+   
+   //==============================================================
+   // Class method to set how a cell plan's column is stored in the
+   // pages of the summary table. Date, time, & timestamp cells are
+   // held as epoch milliseconds & formatted as they are viewed,
+   // integer & floating point cells of the other type as numbers,
+   // all others as the content given. A database panel whose cells
+   // may not match the column's type should keep them as content.
+   //==============================================================
+   
+   protected void setCellStorage(CellPlan cellPlan)
+   {
+      // Method Instances
+      String columnClass;
+      
+      columnClass = cellPlan.columnClass;
+      cellPlan.storageType = ColumnarPage.OBJECT;
+      
+      if (cellPlan.lob)
+         return;
+      
+      if (cellPlan.cellType == CELL_DATE || cellPlan.cellType == CELL_TIME
+          || cellPlan.cellType == CELL_DATETIME || cellPlan.cellType == CELL_TIMESTAMP)
+         cellPlan.storageType = ColumnarPage.TEMPORAL;
+      
+      else if (cellPlan.cellType == CELL_OTHER)
+      {
+         if (columnClass.equals("java.lang.Integer") || columnClass.equals("java.lang.Long")
+             || columnClass.equals("java.lang.Short") || columnClass.equals("java.lang.Byte"))
+            cellPlan.storageType = ColumnarPage.LONG;
+         else if (columnClass.equals("java.lang.Double"))
+            cellPlan.storageType = ColumnarPage.DOUBLE;
+         else if (columnClass.equals("java.lang.Float"))
+            cellPlan.storageType = ColumnarPage.FLOAT;
+      }
+   }
+   
+   //==============================================================
+   // Class method to create the empty page of the summary table
+   // for the given cell plans, with the formatter of each temporal
+   // column.
+   //==============================================================
+   
+   private ColumnarPage createTablePage(CellPlan[] pageCellPlans, int rowLimit)
+   {
+      // Method Instances
+      int[] columnTypes;
+      DateTimeFormatter[] formatters;
+      
+      columnTypes = new int[pageCellPlans.length];
+      formatters = new DateTimeFormatter[pageCellPlans.length];
+      
+      for (int i = 0; i < pageCellPlans.length; i++)
+      {
+         columnTypes[i] = pageCellPlans[i].storageType;
+         
+         if (columnTypes[i] != ColumnarPage.TEMPORAL)
+            continue;
+         
+         if (pageCellPlans[i].cellType == CELL_DATE)
+            formatters[i] = getViewDateFormatter();
+         else if (pageCellPlans[i].cellType == CELL_TIMESTAMP)
+            formatters[i] = getViewDateTimeFormatter(pageCellPlans[i].cellPattern);
+         else
+            formatters[i] = getDateTimeFormatter(pageCellPlans[i].cellPattern);
+      }
+      return new ColumnarPage(columnTypes, formatters, rowLimit);
+   }
+   
+   //==============================================================
+   // Class method to bind the cell plans to the result set of a
+   // page's query, starting the preferred column sizes from their
+   // current values. The column indexes are only resolved when the
+   // plans are created or the query's columns change. Background
+   // page loads, or those of replaced plans, bind copies.
+   //==============================================================
+   
+   private CellPlan[] bindCellPlans(ResultSet rs, PageState pageState) throws SQLException
+   {
+      // Method Instances
+      CellPlan[] boundCellPlans;
+      String currentViewDateFormat;
+      int columnCount;
+      
+      if (pageState.background || pageState.cellPlans != cellPlans)
+      {
+         boundCellPlans = new CellPlan[pageState.cellPlans.length];
+         
+         for (int i = 0; i < boundCellPlans.length; i++)
+         {
+            boundCellPlans[i] = pageState.cellPlans[i].copy();
+            boundCellPlans[i].columnIndex = findColumnIndex(rs, boundCellPlans[i]);
+         }
+         return boundCellPlans;
+      }
+      
+      columnCount = rs.getMetaData().getColumnCount();
+      
+      for (int i = 0; i < cellPlans.length; i++)
+      {
+         if (columnCount != cellPlansColumnCount)
+            cellPlans[i].columnIndex = findColumnIndex(rs, cellPlans[i]);
+         
+         cellPlans[i].preferredColumnSize =
+            (preferredColumnSizeHashMap.get(cellPlans[i].heading)).intValue();
+      }
+      
+      // Date view format change.
+      currentViewDateFormat = DBTablesPanel.getGeneralDBProperties().getViewDateFormat();
+      
+      if (!currentViewDateFormat.equals(viewDateFormat))
+      {
+         viewDateTimeFormatters.clear();
+         viewDateFormat = currentViewDateFormat;
+      }
+      cellPlansColumnCount = columnCount;
+      
+      return cellPlans;
+   }
+   
+   private static int findColumnIndex(ResultSet rs, CellPlan cellPlan) throws SQLException
+   {
+      if (!cellPlan.lob)
+         return rs.findColumn(cellPlan.columnName);
+      
+      // May not be part of a query without LOBs.
+      try
+      {
+         return rs.findColumn(cellPlan.columnName);
+      }
+      catch (SQLException e)
+      {
+         return -1;
+      }
+   }
+   
+   //==============================================================
+   // Class methods to widen a cell plan's preferred column size
+   // for a cell's content, & to store the sizes once loaded.
+   //==============================================================
+   
+   protected void updatePreferredColumnSize(CellPlan cellPlan, ColumnarPage page, int row, int column)
+   {
+      // Method Instances
+      int length;
+      
+      if (cellPlan.preferredColumnSize >= MAX_PREFERRED_COLUMN_SIZE)
+         return;
+      
+      if (page.isNull(row, column))
+         updatePreferredColumnSize(cellPlan, "NULL");
+      else if (page.getColumnType(column) == ColumnarPage.OBJECT)
+         updatePreferredColumnSize(cellPlan, page.getValueAt(row, column));
+      else
+      {
+         length = page.getDisplayLength(row, column);
+         
+         if (length * columnSizeScaling > cellPlan.preferredColumnSize)
+            cellPlan.preferredColumnSize = Math.min(length * columnSizeScaling, MAX_PREFERRED_COLUMN_SIZE);
       }
+   }
+   
+   protected void updatePreferredColumnSize(CellPlan cellPlan, Object content)
+   {
+      // Method Instances
+      String contentString;
+      int start, end;
       
-      // Summary Table clear history actions
+      if (cellPlan.preferredColumnSize >= MAX_PREFERRED_COLUMN_SIZE)
+         return;
       
-      summaryTablePopupMenu.addSeparator();
+      contentString = (content instanceof String) ? (String) content : String.valueOf(content);
       
-      resource = resourceBundle.getResourceString("TableTabPanel.popup.ClearHistory",
-                                                  "Clear History");
-      menuItem = menuItem(resource, "Clear History");
-      summaryTablePopupMenu.add(menuItem);
+      // Trimmed length.
+      start = 0;
+      end = contentString.length();
       
+      while (start < end && contentString.charAt(start) <= ' ')
+         start++;
+      while (end > start && contentString.charAt(end - 1) <= ' ')
+         end--;
       
-      // Summary Table Save as Image, PNG.
+      if ((end - start) * columnSizeScaling > cellPlan.preferredColumnSize)
+         cellPlan.preferredColumnSize = Math.min((end - start) * columnSizeScaling,
+                                                 MAX_PREFERRED_COLUMN_SIZE);
+   }
+   
+   protected void storePreferredColumnSizes(CellPlan[] loadedCellPlans)
+   {
+      for (int i = 0; i < loadedCellPlans.length; i++)
+         preferredColumnSizeHashMap.put(loadedCellPlans[i].heading,
+                                        Integer.valueOf(loadedCellPlans[i].preferredColumnSize));
+   }
+   
+   //==============================================================
+   // Class methods to return the summary table cell for the
+   // common cell types, a LOB's name or a text's content, or a
+   // key element holding part of its content when it is part of
+   // the primary key, & a year.
+   //==============================================================
+   
+   protected static Object getLobCell(ResultSet rs, CellPlan cellPlan) throws SQLException
+   {
+      // Method Instances
+      BlobTextKey currentBlobElement;
       
-      summaryTablePopupMenu.addSeparator();
+      if (cellPlan.keyLength == null)
+         return cellPlan.cellName;
       
-      resource = resourceBundle.getResourceString("TableTabPanel.popup.SaveAsImage",
-                                                  "Save As Image");
-      menuItem = menuItem(resource, "Save As Image");
-      summaryTablePopupMenu.add(menuItem);
+      currentBlobElement = new BlobTextKey();
+      currentBlobElement.setName(cellPlan.cellName);
+      currentBlobElement.setContent(getKeyContent(rs, cellPlan));
+      return currentBlobElement;
+   }
+   
+   protected static Object getTextCell(ResultSet rs, CellPlan cellPlan, String content)
+                           throws SQLException
+   {
+      // Method Instances
+      BlobTextKey currentBlobElement;
       
-
-      summaryTablePopupListener = new Main_MouseAdapter(summaryTablePopupMenu);
+      // Limit Table Cell Memory Usage.
+      if (content.length() > 512)
+         content = content.substring(0, 512);
+      
+      if (cellPlan.keyLength == null)
+         return content;
+      
+      currentBlobElement = new BlobTextKey();
+      currentBlobElement.setName(content);
+      currentBlobElement.setContent(getKeyContent(rs, cellPlan));
+      return currentBlobElement;
    }
-
+   
+   private static String getKeyContent(ResultSet rs, CellPlan cellPlan) throws SQLException
+   {
+      // Method Instances
+      String content;
+      
+      content = rs.getString(cellPlan.columnIndex);
+      
+      if (content.length() > cellPlan.keyLength.intValue())
+         content = content.substring(0, cellPlan.keyLength.intValue());
+      return content;
+   }
+   
+   protected static String getYearCell(CellPlan cellPlan, Object currentContentData)
+   {
+      // Method Instances
+      String displayYear;
+      
+      displayYear = (currentContentData + "").trim();
+      
+      if (cellPlan.columnSize == 2)
+      {
+         if (displayYear.length() >= 4)
+            displayYear = displayYear.substring(2, 4);
+      }
+      else
+         displayYear = displayYear.substring(0, 4);
+      
+      return displayYear;
+   }
+   
    //==============================================================
-   // Class method to create the advancedSortSearchFrame.
+   // Class method to return a cell's string content, using that
+   // already obtained by getObject() when it is a String.
    //==============================================================
-
-   public void createAdvancedSortSearchFrame()
+   
+   protected static Object getCellString(ResultSet rs, int columnIndex, Object currentContentData)
+                           throws SQLException
    {
-      advancedSortSearchFrame = new AdvancedSortSearchForm(schemaTableName, resourceBundle,
-                                                           columnNamesHashMap, columnClassHashMap,
-                                                           columnSQLTypeHashMap, columnTypeNameHashMap,
-                                                           comboBoxFields);
-      advSortSearchApplyButton = advancedSortSearchFrame.getApplyButton();
-      advSortSearchApplyButton.addActionListener(this);
-
-      advancedSortSearchFrame.pack();
-      advancedSortSearchFrame.center();
+      if (currentContentData instanceof String)
+         return currentContentData;
+      else
+         return rs.getString(columnIndex);
    }
-
+   
    //==============================================================
-   // Class method to create the updateFrame.
+   // Class methods to store a cell in a page of the summary table,
+   // by the column's storage. A date/time is kept as its epoch
+   // milliseconds, NULL as a SQL NULL.
    //==============================================================
-
-   public void createUpdateFrame()
+   
+   protected static void setCell(ColumnarPage page, int row, int column, ResultSet rs, CellPlan cellPlan,
+                                 Object currentContentData) throws SQLException
    {
-      updateFrame = new UpdateForm(schemaTableName, resourceBundle, columnNamesHashMap,
-                                   columnClassHashMap, columnSQLTypeHashMap, columnTypeNameHashMap,
-                                   columnSizeHashMap, comboBoxFields);
-      updateFormFindButton = updateFrame.getFindButton();
-      updateFormFindButton.addActionListener(this);
-      updateFrame.getDisposeButton().addActionListener(this);
-
-      updateFrame.pack();
-      updateFrame.center();
+      switch (page.getColumnType(column))
+      {
+         case ColumnarPage.LONG:
+            page.setLong(row, column, rs.getLong(cellPlan.columnIndex));
+            break;
+         case ColumnarPage.DOUBLE:
+         case ColumnarPage.FLOAT:
+            page.setDouble(row, column, rs.getDouble(cellPlan.columnIndex));
+            break;
+         default:
+            page.setObject(row, column, getCellString(rs, cellPlan.columnIndex, currentContentData));
+      }
    }
-
+   
+   protected static void setTemporalCell(ColumnarPage page, int row, int column, Object dateTime)
+   {
+      if (dateTime == null)
+         page.setNull(row, column);
+      else
+         page.setLong(row, column, ((java.util.Date) dateTime).getTime());
+   }
+   
    //==============================================================
-   // Helper Method, for creating JMenuItems.
+   // Class methods to format a date/time with the given pattern,
+   // or the general date view format followed by the given time
+   // pattern. The formatters are immutable so cached for reuse.
    //==============================================================
-
-   private JMenuItem menuItem(String label, String actionLabel)
+   
+   protected String formatDateTime(Object dateTime, String pattern)
    {
-      JMenuItem item = new JMenuItem(label);
-      item.addActionListener(this);
-      item.setActionCommand(actionLabel);
-      return item;
+      return getDateTimeFormatter(pattern).format(
+         Instant.ofEpochMilli(((java.util.Date) dateTime).getTime()).atZone(ZoneId.systemDefault()));
    }
-
+   
+   protected String formatViewDateTime(Object dateTime, String timePattern)
+   {
+      return getViewDateTimeFormatter(timePattern).format(
+         Instant.ofEpochMilli(((java.util.Date) dateTime).getTime()).atZone(ZoneId.systemDefault()));
+   }
+   
+   private DateTimeFormatter getDateTimeFormatter(String pattern)
+   {
+      // Method Instances
+      DateTimeFormatter formatter;
+      
+      formatter = dateTimeFormatters.get(pattern);
+      
+      if (formatter == null)
+      {
+         formatter = DateTimeFormatter.ofPattern(pattern);
+         dateTimeFormatters.put(pattern, formatter);
+      }
+      return formatter;
+   }
+   
+   //==============================================================
+   // Class method to create the formatter of the general date view
+   // format, ordered the same as Utils.convertDBDateString_To_
+   // ViewDateString() so the summary table's dates are unchanged.
+   //==============================================================
+   
+   private DateTimeFormatter getViewDateFormatter()
+   {
+      // Method Instances
+      String dateFormat;
+      String pattern;
+      boolean charMonth;
+      
+      dateFormat = DBTablesPanel.getGeneralDBProperties().getViewDateFormat();
+      charMonth = dateFormat.indexOf(Utils.MMM) != -1;
+      
+      if (dateFormat.equals(Utils.yyyyMMdd_DASH) || dateFormat.equals(Utils.yyyyMMdd_SLASH)
+          || dateFormat.equals(Utils.yyyyMMMdd_DASH))
+         pattern = charMonth ? Utils.yyyyMMMdd_DASH : Utils.yyyyMMdd_DASH;
+      else if (dateFormat.equals(Utils.ddMMyyyy_DASH) || dateFormat.equals(Utils.ddMMyyyy_SLASH)
+               || dateFormat.equals(Utils.ddMMMyyyy_DASH))
+         pattern = charMonth ? Utils.ddMMMyyyy_DASH : Utils.ddMMyyyy_DASH;
+      else
+         pattern = charMonth ? Utils.MMMddyyyy_DASH : Utils.MMddyyyy_DASH;
+      
+      if (dateFormat.indexOf("/") != -1)
+         pattern = pattern.replace('-', '/');
+      
+      return DateTimeFormatter.ofPattern(pattern, Locale.ENGLISH);
+   }
+   
+   private DateTimeFormatter getViewDateTimeFormatter(String timePattern)
+   {
+      // Method Instances
+      DateTimeFormatter formatter;
+      
+      formatter = viewDateTimeFormatters.get(timePattern);
+      
+      if (formatter == null)
+      {
+         formatter = DateTimeFormatter.ofPattern(DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
+                                                 + " " + timePattern);
+         viewDateTimeFormatters.put(timePattern, formatter);
+      }
+      return formatter;
+   }
+   
    //=============================================================
    // Class method for displaying the SQL Database standard date
    // format from a java.sql.date string. YYYY-MM-dd to the selected
@@ -2483,7 +4121,8 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
 
    //==============================================================
    // Class method to allow classes to obtain the number of valid
-   // rows of summary table data.
+   // rows of summary table data. When scrolling that of the first
+   // block, the rows of the table SQL statement.
    //==============================================================
 
    public int getValidDataRowCount()
@@ -2491,6 +4130,10 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
       int validDataRowCount;
 
       validDataRowCount = 0;
+      
+      if (virtualScrolling)
+         return tableData.getRowCount();
+      
       for (int i = 0; i < listTable.getRowCount(); i++)
       {
          if (listTable.getValueAt(i, 0) != null)
@@ -2714,9 +4357,13 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
 
       if (work_dbConnection == null)
          return;
+      
+      waitForPrefetch();
+      clearPrefetchedPage();
 
       centerPanel.remove(tableScrollPane);
       currentTableHeadings = newHeadingFields;
+      createCellPlans();
       sqlTableFieldsString = "";
       
       // Reconstitute the table field names.
@@ -2731,14 +4378,17 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
       // No fields, just load empty table else
       // clean up and load.
       if (sqlTableFieldsString.equals(""))
-         tableData = new Object[0][0];
+         tableData = new ColumnarPage(0);
       else
       {
          sqlTableFieldsString = sqlTableFieldsString.substring(0, sqlTableFieldsString.length() - 2);
          loadTable(work_dbConnection);
       }
 
-      tableModel = new TableModel(currentTableHeadings, tableData);
+      if (tableModel instanceof LazyTableModel)
+         ((LazyTableModel) tableModel).close();
+      
+      tableModel = createTableModel();
       tableModel.setValues(tableData);
 
       listTable = new JTable(tableModel);
@@ -2824,6 +4474,16 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
    {
       String resourceRows;
       
+      // Not yet created, state set in construction.
+      if (rowsLabel == null)
+         return;
+      
+      if (virtualScrolling && tableModel != null)
+      {
+         start = 1;
+         end = tableModel.getRowCount();
+      }
+      
       resourceRows = resourceBundle.getResourceString("TableTabPanel.label.Rows", "Rows");
       rowsLabel.setText(resourceRows + ": " + start + " - " + end); 
    }
@@ -2875,7 +4535,13 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
                // System.out.println(i + " " + tableStates[i]);
 
                if (i == 1)
-                  tableRowStart = Integer.parseInt(tableStates[i]);
+               {
+                  // Scrolled rows always begin with the first.
+                  if (virtualScrolling)
+                     tableRowStart = 0;
+                  else
+                     tableRowStart = Integer.parseInt(tableStates[i]);
+               }
 
                else if (i == 2)
                   tableRowLimit = Integer.parseInt(tableStates[i]);
@@ -2909,7 +4575,10 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
                         }
                      }
                      if (validFields)
+                     {
                         currentTableHeadings = newTableHeadings;
+                        createCellPlans();
+                     }
                   }
                }
 
@@ -3036,4 +4705,271 @@ public abstract class TableTabPanel extends JPanel implements TableTabInterface,
       centerCardLayout.next(centerPanel);
       centerPanel.requestFocus();
    }
-}
\ No newline at end of file
+   
+   //==============================================================
+   // Class method to obtain the approximate size, bytes, of the
+   // table data held by the panel.
+   //==============================================================
+   
+   public long getApproximateSize()
+   {
+      // Method Instances
+      long size;
+      
+      synchronized (this)
+      {
+         if (prefetchedPage != null && prefetchedPage.tableData != null)
+            size = prefetchedPage.tableData.getApproximateSize();
+         else
+            size = 0;
+      }
+      
+      if (tableModel != null)
+         size += tableModel.getApproximateSize();
+      else if (tableData != null)
+         size += tableData.getApproximateSize();
+      
+      return size;
+   }
+   
+   //==============================================================
+   // Class methods to obtain & restore the lightweight state of
+   // the panel, sort/search & history, that is kept when the panel
+   // is released so it may be rebuilt as it was.
+   //==============================================================
+   
+   public RetainedState getRetainedState()
+   {
+      // Method Instances
+      RetainedState retainedState;
+      
+      retainedState = new RetainedState();
+      retainedState.state = getState();
+      retainedState.stateHistory = new LinkedList <String>(stateHistory);
+      retainedState.stateHistoryIndex = stateHistoryIndex;
+      
+      return retainedState;
+   }
+   
+   private void setRetainedState(RetainedState retainedState)
+   {
+      // Method Instances
+      Iterator<String> headings;
+      
+      historyAction = false;
+      
+      setState(Utils.stateConvert(retainedState.state.getBytes(), true));
+      
+      // Reconstitute the table field names.
+      sqlTableFieldsString = "";
+      headings = currentTableHeadings.iterator();
+      
+      while (headings.hasNext())
+         sqlTableFieldsString += identifierQuoteString + columnNamesHashMap.get(headings.next())
+                                 + identifierQuoteString + ", ";
+      
+      if (!sqlTableFieldsString.equals(""))
+         sqlTableFieldsString = sqlTableFieldsString.substring(0, sqlTableFieldsString.length() - 2);
+   }
+   
+   private void setRetainedHistory(RetainedState retainedState)
+   {
+      historyAction = true;
+      
+      stateHistory = new LinkedList <String>(retainedState.stateHistory);
+      stateHistoryIndex = Math.min(retainedState.stateHistoryIndex, stateHistory.size() - 1);
+      previousStateButton.setEnabled(stateHistoryIndex > 0);
+      nextStateButton.setEnabled(stateHistoryIndex < (stateHistory.size() - 1));
+   }
+   
+   //==============================================================
+   // Class method to release the panel's background loading and
+   // forms when the panel is no longer to be used.
+   //==============================================================
+   
+   public void closeTable()
+   {
+      waitForPrefetch();
+      clearPrefetchedPage();
+      
+      if (tableModel instanceof LazyTableModel)
+         ((LazyTableModel) tableModel).close();
+      
+      if (advancedSortSearchFrame != null)
+         advancedSortSearchFrame.dispose();
+      
+      if (updateFrame != null)
+         updateFrame.dispose();
+   }
+   
+   //==============================================================
+   // Class to hold the characteristics of a summary table column
+   // needed to load its cells.
+   //==============================================================
+   
+   protected static class CellPlan
+   {
+      protected String heading;
+      protected String columnName;
+      protected String columnClass;
+      protected int columnSQLType;
+      protected String columnTypeName;
+      protected int columnSize;
+      protected Integer keyLength;
+      protected boolean lob;
+      protected int cellType;
+      protected String cellName;
+      protected String cellPattern;
+      protected int storageType;
+      protected int columnIndex;
+      protected int preferredColumnSize;
+      
+      protected CellPlan copy()
+      {
+         // Method Instances
+         CellPlan cellPlan;
+         
+         cellPlan = new CellPlan();
+         cellPlan.heading = heading;
+         cellPlan.columnName = columnName;
+         cellPlan.columnClass = columnClass;
+         cellPlan.columnSQLType = columnSQLType;
+         cellPlan.columnTypeName = columnTypeName;
+         cellPlan.columnSize = columnSize;
+         cellPlan.keyLength = keyLength;
+         cellPlan.lob = lob;
+         cellPlan.cellType = cellType;
+         cellPlan.cellName = cellName;
+         cellPlan.cellPattern = cellPattern;
+         cellPlan.storageType = storageType;
+         cellPlan.columnIndex = columnIndex;
+         cellPlan.preferredColumnSize = preferredColumnSize;
+         
+         return cellPlan;
+      }
+   }
+   
+   //==============================================================
+   // Class to hold the state a page of the summary table is loaded
+   // with, the sort, search, advanced sort/search SQL, fields, rows,
+   // & keyset. Captured by the panel's actions, it is not changed
+   // so background page loads may use it away from the panel's
+   // components & fields.
+   //==============================================================
+   
+   protected static class PageState
+   {
+      protected final String sortColumn;
+      protected final String ascDescString;
+      protected final Object searchItem;
+      protected final String searchColumn;
+      protected final String searchText;
+      protected final boolean advancedSortSearch;
+      protected final String advancedSQL;
+      protected final String advancedLobLessSQL;
+      protected final String fieldsString;
+      protected final String lobLessFieldsString;
+      protected final CellPlan[] cellPlans;
+      protected final int rowStart;
+      protected final int rowLimit;
+      protected final List<String> keysetColumns;
+      protected final Object[] keysetBoundary;
+      protected final String stateKey;
+      protected final boolean background;
+      
+      private PageState(String sortColumn, String ascDescString, Object searchItem, String searchColumn,
+                        String searchText, boolean advancedSortSearch, String advancedSQL,
+                        String advancedLobLessSQL, String fieldsString, String lobLessFieldsString,
+                        CellPlan[] cellPlans, int rowStart, int rowLimit, List<String> keysetColumns,
+                        Object[] keysetBoundary, String stateKey, boolean background)
+      {
+         this.sortColumn = sortColumn;
+         this.ascDescString = ascDescString;
+         this.searchItem = searchItem;
+         this.searchColumn = searchColumn;
+         this.searchText = searchText;
+         this.advancedSortSearch = advancedSortSearch;
+         this.advancedSQL = advancedSQL;
+         this.advancedLobLessSQL = advancedLobLessSQL;
+         this.fieldsString = fieldsString;
+         this.lobLessFieldsString = lobLessFieldsString;
+         this.cellPlans = cellPlans;
+         this.rowStart = rowStart;
+         this.rowLimit = rowLimit;
+         this.keysetColumns = keysetColumns;
+         this.keysetBoundary = keysetBoundary;
+         this.stateKey = stateKey;
+         this.background = background;
+      }
+      
+      private PageState withKeyset(List<String> keysetColumns, Object[] keysetBoundary)
+      {
+         return new PageState(sortColumn, ascDescString, searchItem, searchColumn, searchText,
+                              advancedSortSearch, advancedSQL, advancedLobLessSQL, fieldsString,
+                              lobLessFieldsString, cellPlans, rowStart, rowLimit,
+                              Collections.unmodifiableList(new ArrayList <String>(keysetColumns)),
+                              keysetBoundary, stateKey, background);
+      }
+      
+      private PageState forRows(int rowStart, int rowLimit, String advancedSQL, String advancedLobLessSQL)
+      {
+         return new PageState(sortColumn, ascDescString, searchItem, searchColumn, searchText,
+                              advancedSortSearch, advancedSQL, advancedLobLessSQL, fieldsString,
+                              lobLessFieldsString, cellPlans, rowStart, rowLimit,
+                              Collections.<String>emptyList(), null, stateKey, true);
+      }
+   }
+   
+   //==============================================================
+   // Class to hold the SQL statements of a page, the summary table
+   // query without LOBs, the table's statement with all fields, &
+   // the search condition of both.
+   //==============================================================
+   
+   protected static class PageQuery
+   {
+      protected final String searchQueryString;
+      protected final String sqlStatementString;
+      protected final String loadStatementString;
+      
+      protected PageQuery(String searchQueryString, String sqlStatementString, String loadStatementString)
+      {
+         this.searchQueryString = searchQueryString;
+         this.sqlStatementString = sqlStatementString;
+         this.loadStatementString = loadStatementString;
+      }
+   }
+   
+   //==============================================================
+   // Class to hold a loaded page, its table data & cell plans, &
+   // the key values bounding the following page.
+   //==============================================================
+   
+   protected static class Page
+   {
+      protected final PageState pageState;
+      private final PageQuery pageQuery;
+      protected ColumnarPage tableData;
+      protected CellPlan[] cellPlans;
+      private Object[] keysetBoundary;
+      private boolean loadQueried;
+      private long loadQueryStartTime;
+      
+      private Page(PageState pageState, PageQuery pageQuery)
+      {
+         this.pageState = pageState;
+         this.pageQuery = pageQuery;
+      }
+   }
+   
+   //==============================================================
+   // Class to hold the lightweight state of a released panel.
+   //==============================================================
+   
+   public static class RetainedState
+   {
+      private String state;
+      private LinkedList<String> stateHistory;
+      private int stateHistoryIndex;
+   }
+}
@@ -13,7 +13,7 @@
 //
 //================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.5 07/04/2018
+// Version 1.6 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -49,6 +49,14 @@
 //                        TableEntryForm to Meet New Constructor Requirments.
 //         1.5 07/04/2018 Methods getColumnNames() & loadTable(), columnSQLTypeHashMap
 //                        Proper Loading of Integer & Extracting int.
+//         1.6 10/18/2026 Method loadTable() Replaced by createPageQuery() & loadPageData(),
+//                        Keyset Pagination Through TableTabPanel Methods prepareKeyset(),
+//                        getKeysetOrderBy(), getKeysetWhereClause(), & recordKeysetRow(),
+//                        Search Condition Parenthesized Before the Keyset Clause. Cells Set
+//                        by the TableTabPanel Cell Plans' cellType, Added Method
+//                        setCellType(), & Stored in a ColumnarPage. Method getColumnNames()
+//                        Use of ConnectionManager SchemaMetadataCache. Flight Recorder
+//                        TableLoadEvent. Added Constructor With Argument retainedState.
 //             
 //-----------------------------------------------------------------
 //                  danap@dandymadeproductions.com
@@ -69,8 +77,10 @@ import java.util.Locale;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.datasource.SchemaMetadataCache;
 import com.dandymadeproductions.ajqvue.gui.forms.TableEntryForm;
 import com.dandymadeproductions.ajqvue.utilities.BlobTextKey;
+import com.dandymadeproductions.ajqvue.utilities.ColumnarPage;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 
 /**
@@ -81,7 +91,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * also provides the mechanism to page through the database table's data.
  * 
  * @author Dana M. Proctor
- * @version 1.5 07/04/2018
+ * @version 1.6 10/18/2026
  */
 
 public class TableTabPanel_Derby extends TableTabPanel
@@ -98,6 +108,12 @@ public class TableTabPanel_Derby extends TableTabPanel
       super(table, setup_dbConnection, viewOnlyTable);
    }
    
+   public TableTabPanel_Derby(String table, Connection setup_dbConnection, boolean viewOnlyTable,
+                              RetainedState retainedState)
+   {
+      super(table, setup_dbConnection, viewOnlyTable, retainedState);
+   }
+   
    //==============================================================
    // Class method to obtain the column names from the table. The
    // names are modified for display and placed into a map for
@@ -110,9 +126,10 @@ public class TableTabPanel_Derby extends TableTabPanel
       // Method Instances
       String sqlStatementString;
       Statement sqlStatement;
-      ResultSet rs, db_resultSet;
+      ResultSet rs;
       DatabaseMetaData dbMetaData;
       ResultSetMetaData tableMetaData;
+      SchemaMetadataCache schemaMetadataCache;
 
       String tableName;
       String colNameString;
@@ -126,11 +143,11 @@ public class TableTabPanel_Derby extends TableTabPanel
       // meta data, and column names.
       
       sqlStatement = null;
-      db_resultSet = null;
       rs = null;
       
       try
       {
+         schemaMetadataCache = ConnectionManager.getSchemaMetadataCache();
          sqlStatement = dbConnection.createStatement();
          if (sqlTable.indexOf(".") != -1)
             tableName = sqlTable.substring(sqlTable.indexOf(".") + 1);
@@ -144,16 +161,16 @@ public class TableTabPanel_Derby extends TableTabPanel
          sqlStatementString = "SELECT * FROM " + schemaTableName + " FETCH FIRST ROW ONLY";
          // System.out.println(sqlStatementString);
 
-         db_resultSet = sqlStatement.executeQuery(sqlStatementString);
+         tableMetaData = schemaMetadataCache.getTableMetaData(sqlTable, sqlStatement, sqlStatementString);
 
          // Primary Key(s)
          
          dbMetaData = dbConnection.getMetaData();
-         tableMetaData = db_resultSet.getMetaData();
 
-         rs = dbMetaData.getPrimaryKeys(tableMetaData.getCatalogName(1),
-                                        tableMetaData.getSchemaName(1),
-                                        tableMetaData.getTableName(1));
+         rs = schemaMetadataCache.getPrimaryKeys(sqlTable, dbMetaData,
+                                                 tableMetaData.getCatalogName(1),
+                                                 tableMetaData.getSchemaName(1),
+                                                 tableMetaData.getTableName(1));
          while (rs.next())
          {
             if (rs.getString("COLUMN_NAME").indexOf("chunk") == -1
@@ -167,9 +184,10 @@ public class TableTabPanel_Derby extends TableTabPanel
 
          // Additional Indexes
 
-         rs = dbMetaData.getIndexInfo(tableMetaData.getCatalogName(1),
-                                      tableMetaData.getSchemaName(1),
-                                      tableMetaData.getTableName(1), false, false);
+         rs = schemaMetadataCache.getIndexInfo(sqlTable, dbMetaData,
+                                               tableMetaData.getCatalogName(1),
+                                               tableMetaData.getSchemaName(1),
+                                               tableMetaData.getTableName(1), false, false);
          while (rs.next())
          {
             if (rs.getString("COLUMN_NAME") != null && rs.getString("TABLE_NAME").equals(tableName))
@@ -271,9 +289,10 @@ public class TableTabPanel_Derby extends TableTabPanel
          
          // Make a final check for possible foreign keys.
 
-         rs = dbMetaData.getImportedKeys(tableMetaData.getCatalogName(1),
-                                         tableMetaData.getSchemaName(1),
-                                         tableMetaData.getTableName(1));
+         rs = schemaMetadataCache.getImportedKeys(sqlTable, dbMetaData,
+                                                  tableMetaData.getCatalogName(1),
+                                                  tableMetaData.getSchemaName(1),
+                                                  tableMetaData.getTableName(1));
          while (rs.next())
          {
             if (rs.getString("FKCOLUMN_NAME") != null
@@ -322,56 +341,96 @@ public class TableTabPanel_Derby extends TableTabPanel
          }
          finally
          {
-            try
-            {
-               if (db_resultSet != null)
-                  db_resultSet.close();
-            }
-            catch (SQLException sqle)
-            {
-               ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_Derby getColumnNames()");
-            }
-            finally
-            {
-               if (sqlStatement != null)
-                  sqlStatement.close();
-            }
+            if (sqlStatement != null)
+               sqlStatement.close();
          }
       }
    }
 
    //==============================================================
-   // Class method to load the current table's data. The routine
-   // will apply the sort and search parameters.
+   // Class method to set a cell plan's cell type for the summary
+   // table from the column's class & type name.
+   //==============================================================
+
+   protected void setCellType(CellPlan cellPlan)
+   {
+      // Method Instances
+      String columnClass;
+      String columnTypeName;
+      
+      columnClass = cellPlan.columnClass;
+      columnTypeName = cellPlan.columnTypeName;
+      
+      if (columnClass.indexOf("BigDecimal") != -1)
+         cellPlan.cellType = CELL_BIGDECIMAL;
+      
+      else if (columnTypeName.equals("DATE"))
+         cellPlan.cellType = CELL_DATE;
+      
+      else if (columnTypeName.equals("TIMESTAMP"))
+      {
+         cellPlan.cellType = CELL_TIMESTAMP;
+         cellPlan.cellPattern = "HH:mm:ss";
+      }
+      
+      else if (columnTypeName.equals("BLOB"))
+      {
+         cellPlan.cellType = CELL_LOB;
+         cellPlan.cellName = "Blob";
+      }
+      
+      else if (columnTypeName.indexOf("BIT DATA") != -1)
+      {
+         cellPlan.cellType = CELL_LOB;
+         cellPlan.cellName = "Bit Data";
+         cellPlan.keyLength = null;
+      }
+      
+      else if (columnClass.indexOf("Boolean") != -1)
+         cellPlan.cellType = CELL_BOOLEAN;
+      
+      // LongVarChar, & Clob
+      else if (columnTypeName.indexOf("LONG VARCHAR") != -1)
+         cellPlan.cellType = CELL_TEXT;
+      
+      else if ((columnClass.indexOf("String") != -1 && !columnTypeName.equals("CHAR")
+                && cellPlan.columnSize > 255) || columnTypeName.equals("CLOB"))
+      {
+         cellPlan.cellType = CELL_LOB;
+         cellPlan.cellName = "Clob";
+         
+         if (!columnTypeName.equals("CLOB"))
+            cellPlan.keyLength = null;
+      }
+   }
+
+   //==============================================================
+   // Class method to create the search condition & the SQL
+   // statements of a page. The routine will apply the sort and
+   // search parameters of the page state.
    //==============================================================
    
-   public boolean loadTable(Connection dbConnection)
+   protected PageQuery createPageQuery(PageState pageState)
    {
       // Method Instances
+      StringBuffer sqlTableStatement;
       StringBuffer lobLessSQLStatement;
-      Statement sqlStatement;
-      ResultSet rs;
 
       StringBuffer searchQueryString;
       String columnSearchString;
       String searchTextString;
+      String tableFieldsString;
       String lobLessFieldsString;
       String columnName;
       String columnClass;
-      int columnSQLType;
       String columnTypeName;
-      Integer keyLength;
-      int columnSize, preferredColumnSize;
-      Object currentContentData;
 
-      // Obtain search parameters column names as needed and
-      // saving state for history.
+      // Obtain search parameters column names as needed.
       
-      columnSearchString = columnNamesHashMap.get(searchComboBox.getSelectedItem());
-      searchTextString = searchTextField.getText();
-      
-      if (historyAction)
-         saveHistory();
+      columnSearchString = pageState.searchColumn;
+      searchTextString = pageState.searchText;
+      tableFieldsString = pageState.fieldsString;
+      lobLessFieldsString = pageState.lobLessFieldsString;
 
       searchQueryString = new StringBuffer();
       if (searchTextString.equals(""))
@@ -382,7 +441,7 @@ public class TableTabPanel_Derby extends TableTabPanel
          if (columnSearchString == null)
          {
             String[] tableColumns;
-            tableColumns = sqlTableFieldsString.split(",");
+            tableColumns = tableFieldsString.split(",");
 
             for (int i = 0; i < tableColumns.length; i++)
             {
@@ -423,8 +482,8 @@ public class TableTabPanel_Derby extends TableTabPanel
          // Field specified.
          else
          {
-            columnClass = columnClassHashMap.get(searchComboBox.getSelectedItem());
-            columnTypeName = columnTypeNameHashMap.get(searchComboBox.getSelectedItem());
+            columnClass = columnClassHashMap.get(pageState.searchItem);
+            columnTypeName = columnTypeNameHashMap.get(pageState.searchItem);
             
             if (columnTypeName.equals("DATE"))
                searchTextString = Utils.processDateFormatSearch(searchTextString);
@@ -445,277 +504,124 @@ public class TableTabPanel_Derby extends TableTabPanel
       }
       // System.out.println(searchTextString);
 
-      // Connect to database to obtain the initial/new items set
-      // and then sorting that set.
-      
-      sqlStatement = null;
-      rs = null;
-      
-      try
+      sqlTableStatement = new StringBuffer();
+      lobLessSQLStatement = new StringBuffer();
+
+      if (pageState.advancedSortSearch)
       {
-         lobLessFieldsString = sqlTableFieldsString;
+         // Complete With All Fields.
+         sqlTableStatement.append(pageState.advancedSQL);
+         // Summary Table Without LOBs
+         lobLessSQLStatement.append(pageState.advancedLobLessSQL);
+      }
+      else
+      {
+         // Complete With All Fields.
+         sqlTableStatement.append("SELECT " + tableFieldsString + " FROM " + schemaTableName + " "
+                                   + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
+                                   + getKeysetOrderBy(pageState) + " " + "OFFSET "
+                                   + pageState.rowStart + " ROWS FETCH NEXT " + pageState.rowLimit
+                                   + " ROWS ONLY");
          
-         if (!lob_sqlTableFieldsString.equals(""))
-         {
-            String[]  lobColumns = lob_sqlTableFieldsString.split(" ");
+         // Summary Table Without LOBs.
+         lobLessSQLStatement.append("SELECT " + lobLessFieldsString + " FROM " + schemaTableName + " "
+                                     + "WHERE (" + searchQueryString.toString() + ")"
+                                     + getKeysetWhereClause(pageState)
+                                     + " " + "ORDER BY "
+                                     + getKeysetOrderBy(pageState) + " " + "OFFSET "
+                                     + getLoadRowStart(pageState) + " ROWS FETCH NEXT " + pageState.rowLimit
+                                     + " ROWS ONLY");  
+      }
+      // System.out.println(sqlTableStatement);
+      // System.out.println(lobLessSQLStatement.toString());
+      
+      return new PageQuery(searchQueryString.toString(), sqlTableStatement.toString(),
+                           lobLessSQLStatement.toString());
+   }
+   
+   //==============================================================
+   // Class method to load a page's table data from the result set
+   // of its query.
+   //==============================================================
+   
+   protected void loadPageData(ResultSet rs, Page page) throws SQLException
+   {
+      // Method Instances
+      ColumnarPage tableData;
+      CellPlan cellPlan;
+      CellPlan[] cellPlans;
+      Object currentContentData;
 
-            for (int i = 0; i < lobColumns.length; i++)
-               lobLessFieldsString = lobLessFieldsString.replace(lobColumns[i], "");
-            
-            // All fields maybe lobs, so just include all. Network
-            // performance hit.
-            if (lobLessFieldsString.indexOf(identifierQuoteString) != -1)
-               lobLessFieldsString = lobLessFieldsString.substring(lobLessFieldsString.indexOf(
-                                                                          identifierQuoteString));
-            else
-               lobLessFieldsString = sqlTableFieldsString;
-            
-            lobLessFieldsString = lobLessFieldsString.replaceAll(" ,", "");
-            if (lobLessFieldsString.endsWith(", "))
-               lobLessFieldsString = lobLessFieldsString.substring(0, lobLessFieldsString.length() - 2);
-         }
-         
-         sqlTableStatement = new StringBuffer();
-         lobLessSQLStatement = new StringBuffer();
+      // Placing the results columns desired into the table that
+      // will be display to the user.
 
-         if (advancedSortSearch)
-         {
-            // Complete With All Fields.
-            sqlTableStatement.append(advancedSortSearchFrame.getAdvancedSortSearchSQL(sqlTableFieldsString,
-                                             tableRowStart, tableRowLimit));
-            // Summary Table Without LOBs
-            lobLessSQLStatement.append(advancedSortSearchFrame.getAdvancedSortSearchSQL(lobLessFieldsString,
-                                                    tableRowStart, tableRowLimit));
-         }
-         else
-         {
-            // Complete With All Fields.
-            sqlTableStatement.append("SELECT " + sqlTableFieldsString + " FROM " + schemaTableName + " "
-                                      + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
-                                      + identifierQuoteString
-                                      + columnNamesHashMap.get(sortComboBox.getSelectedItem())
-                                      + identifierQuoteString + " " + ascDescString + " " + "OFFSET "
-                                      + tableRowStart + " ROWS FETCH NEXT " + tableRowLimit + " ROWS ONLY");
-            
-            // Summary Table Without LOBs.
-            lobLessSQLStatement.append("SELECT " + lobLessFieldsString + " FROM " + schemaTableName + " "
-                                        + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
-                                        + identifierQuoteString
-                                        + columnNamesHashMap.get(sortComboBox.getSelectedItem())
-                                        + identifierQuoteString + " " + ascDescString + " " + "OFFSET "
-                                        + tableRowStart + " ROWS FETCH NEXT " + tableRowLimit
-                                        + " ROWS ONLY");  
-         }
-         // System.out.println(sqlTableStatement);
-         // System.out.println(lobLessSQLStatement.toString());
-         
-         if (dbConnection == null)
-            return false;
-         
-         sqlStatement = dbConnection.createStatement();
-         rs = sqlStatement.executeQuery(lobLessSQLStatement.toString());
+      int i = 0;
+      int j = 0;
 
-         // Placing the results columns desired into the table that
-         // will be display to the user.
+      tableData = page.tableData;
 
-         int i = 0;
-         int j = 0;
+      cellPlans = page.cellPlans;
 
-         tableData = new Object[tableRowLimit][currentTableHeadings.size()];
+      while (rs.next())
+      {
+         tableData.addRow();
+         recordKeysetRow(rs, i, page);
 
-         while (rs.next())
+         for (int k = 0; k < cellPlans.length; k++)
          {
-            Iterator<String> headings = currentTableHeadings.iterator();
-            while (headings.hasNext())
-            {
-               String currentHeading = headings.next();
-               columnName = columnNamesHashMap.get(currentHeading);
-               columnClass = columnClassHashMap.get(currentHeading);
-               columnSQLType = (columnSQLTypeHashMap.get(currentHeading)).intValue();
-               columnTypeName = columnTypeNameHashMap.get(currentHeading);
-               columnSize = (columnSizeHashMap.get(currentHeading)).intValue();
-               keyLength = keyLengthHashMap.get(columnName);
-               preferredColumnSize = (preferredColumnSizeHashMap.get(currentHeading)).intValue();
-
-               // System.out.println(i + " " + j + " " + currentHeading + " " +
-               //                    columnName + " " + columnClass + " " +
-               //                    columnSQLType + " " + columnTypeName + " "
-               //                    + columnSize + " " + preferredColumnSize + " " + keyLength);
-
-               // Storing data appropriately. If you have some date
-               // or other formating, for a field here is where you
-               // can take care of it.
-
-               if (lobDataTypesHashMap.containsKey(currentHeading))
-                  currentContentData = "lob";
-               else
-                  currentContentData = rs.getObject(columnName);
+            cellPlan = cellPlans[k];
 
-               if (currentContentData != null)
-               {
-                  // =============================================
-                  // BigDecimal
-                  if (columnClass.indexOf("BigDecimal") != -1)
-                     tableData[i][j++] = new BigDecimal(rs.getString(columnName));
-
-                  // =============================================
-                  // Date
-                  else if (columnTypeName.equals("DATE"))
-                  {
-                     currentContentData = rs.getDate(columnName);
-                     String displayDate = displayMyDateString(currentContentData + "");
-                     tableData[i][j++] = displayDate;
-                  }
+            // System.out.println(i + " " + j + " " + cellPlan.heading + " " +
+            //                    cellPlan.cellType + " " + cellPlan.preferredColumnSize);
 
-                  // =============================================
-                  // Timestamps
-                  else if (columnTypeName.equals("TIMESTAMP"))
-                  {
-                     currentContentData = rs.getTimestamp(columnName);
-                     tableData[i][j++] = (new SimpleDateFormat(
-                                           DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
-                                           + " HH:mm:ss").format(currentContentData));
-                  }
-                  
-                  // =============================================
-                  // BLOB
-                  else if (columnTypeName.equals("BLOB"))
-                  {
-                     // Handles a key Blob
-                     if (keyLength != null)
-                     {
-                        BlobTextKey currentBlobElement = new BlobTextKey();
-                        currentBlobElement.setName("Blob");
-
-                        String content = rs.getString(columnName);
-
-                        if (content.length() > keyLength.intValue())
-                           content = content.substring(0, keyLength.intValue());
+            // Storing data appropriately by the cell type set
+            // for the column in setCellType(). If you have some
+            // date or other formating, for a field here is where
+            // you can take care of it.
 
-                        currentBlobElement.setContent(content);
-                        tableData[i][j++] = currentBlobElement;
-                     }
-                     else
-                     {
-                        tableData[i][j++] = "Blob";
-                     }
-                  }
-                  
-                  // =============================================
-                  // BIT DATA
-                  else if (columnTypeName.indexOf("BIT DATA") != -1)
-                  {
-                     tableData[i][j++] = "Bit Data";
-                  }
-
-                  // =============================================
-                  // Boolean
-                  else if (columnClass.indexOf("Boolean") != -1)
-                  {
-                     tableData[i][j++] = rs.getString(columnName);
-                  }
-
-                  // =============================================
-                  // LongVarChar, & Clob,
-                  else if ((columnClass.indexOf("String") != -1 && !columnTypeName.equals("CHAR")
-                            && columnSize > 255)
-                           || columnTypeName.indexOf("LONG VARCHAR") != -1
-                           || columnTypeName.equals("CLOB"))
-                  {
-                     String stringName;
-                     
-                     if (columnTypeName.indexOf("LONG VARCHAR") != -1)
-                     {
-                        stringName = (String) currentContentData;
-
-                        // Limit Table Cell Memory Usage.
-                        if (stringName.length() > 512)
-                           stringName = stringName.substring(0, 512);
-
-                     }
-                     else
-                     {
-                        stringName = "Clob"; 
-                     }
-
-                     // Handles a key String
-                     if (keyLength != null
-                         && (columnTypeName.indexOf("LONG VARCHAR") != -1 || columnTypeName.equals("CLOB")))
-                     {
-                        BlobTextKey currentBlobElement = new BlobTextKey();
-                        currentBlobElement.setName(stringName);
-
-                        String content = rs.getString(columnName);
-
-                        if (content.length() > keyLength.intValue())
-                           content = content.substring(0, keyLength.intValue());
-
-                        currentBlobElement.setContent(content);
-                        tableData[i][j++] = currentBlobElement;
-                     }
-                     else
-                     {
-                        tableData[i][j++] = stringName;
-                     }
-                  }
-
-                  // =============================================
-                  // Any Other
-                  else
-                  {
-                     tableData[i][j++] = rs.getString(columnName);
-                     // tableData[i][j++] = currentContentData;
-                  }
-               }
-               // Null Data
-               else
-               {
-                  tableData[i][j++] = "NULL";
-               }
+            if (cellPlan.lob)
+               currentContentData = "lob";
+            else
+               currentContentData = rs.getObject(cellPlan.columnIndex);
 
-               // Setup some sizing for the column in the summary
-               // table.
-               if ((tableData[i][j - 1] + "").trim().length() * columnSizeScaling > preferredColumnSize)
+            if (currentContentData != null)
+            {
+               switch (cellPlan.cellType)
                {
-                  preferredColumnSize = (tableData[i][j - 1] + "").trim().length() * columnSizeScaling;
-                  if (preferredColumnSize > MAX_PREFERRED_COLUMN_SIZE)
-                     preferredColumnSize = MAX_PREFERRED_COLUMN_SIZE;
+                  case CELL_BIGDECIMAL:
+                     tableData.setObject(i, j++, new BigDecimal(rs.getString(cellPlan.columnIndex)));
+                     break;
+                  case CELL_DATE:
+                     setTemporalCell(tableData, i, j++, rs.getDate(cellPlan.columnIndex));
+                     break;
+                  case CELL_TIMESTAMP:
+                     setTemporalCell(tableData, i, j++, rs.getTimestamp(cellPlan.columnIndex));
+                     break;
+                  case CELL_LOB:
+                     tableData.setObject(i, j++, getLobCell(rs, cellPlan));
+                     break;
+                  case CELL_BOOLEAN:
+                     tableData.setObject(i, j++, rs.getString(cellPlan.columnIndex));
+                     break;
+                  case CELL_TEXT:
+                     tableData.setObject(i, j++, getTextCell(rs, cellPlan, (String) currentContentData));
+                     break;
+                  default:
+                     setCell(tableData, i, j++, rs, cellPlan, currentContentData);
                }
-               preferredColumnSizeHashMap.put(currentHeading, Integer.valueOf(preferredColumnSize));
-            }
-            j = 0;
-            i++;
-         }
-         return true;
-      }
-      catch (SQLException e)
-      {
-         ConnectionManager.displaySQLErrors(e, "TableTabPanel_Derby loadTable()");
-         return false;
-      }
-      finally
-      {
-         try
-         {
-            if (rs != null)
-               rs.close();
-         }
-         catch (SQLException sqle)
-         {
-            ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_Derby loadTable()");
-         }
-         finally
-         {
-            try
-            {
-               if (sqlStatement != null)
-                  sqlStatement.close();
             }
-            catch (SQLException sqle)
+            // Null Data
+            else
             {
-               ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_Derby loadTable()");
+               tableData.setNull(i, j++);
             }
+
+            // Setup some sizing for the column in the summary
+            // table.
+            updatePreferredColumnSize(cellPlan, tableData, i, j - 1);
          }
+         j = 0;
+         i++;
       }
    }
    
@@ -13,7 +13,7 @@
 //
 //================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.7 07/04/2018
+// Version 1.8 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -52,6 +52,14 @@
 //             TableEntryForm to Meet New Constructor Requirments.
 //         1.7 Methods getColumnNames() & loadTable(), columnSQLTypeHashMap
 //             Proper Loading of Integer & Extracting int.
+//         1.8 Method loadTable() Replaced by createPageQuery() & loadPageData(),
+//             Keyset Pagination Through TableTabPanel Methods prepareKeyset(),
+//             getKeysetOrderBy(), getKeysetWhereClause(), & recordKeysetRow(), Search
+//             Condition Parenthesized Before the Keyset Clause. Cells Set by the
+//             TableTabPanel Cell Plans' cellType, Added Method setCellType(), & Stored
+//             in a ColumnarPage. Method getColumnNames() Use of ConnectionManager
+//             SchemaMetadataCache. Flight Recorder TableLoadEvent. Added Constructor
+//             With Argument retainedState.
 //             
 //-----------------------------------------------------------------
 //                  danap@dandymadeproductions.com
@@ -72,8 +80,10 @@ import java.util.Locale;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.datasource.SchemaMetadataCache;
 import com.dandymadeproductions.ajqvue.gui.forms.TableEntryForm;
 import com.dandymadeproductions.ajqvue.utilities.BlobTextKey;
+import com.dandymadeproductions.ajqvue.utilities.ColumnarPage;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 
 /**
@@ -84,7 +94,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * the mechanism to page through the database table's data.
  * 
  * @author Dana M. Proctor
- * @version 1.7 07/04/2018
+ * @version 1.8 10/18/2026
  */
 
 public class TableTabPanel_Generic extends TableTabPanel
@@ -97,6 +107,12 @@ public class TableTabPanel_Generic extends TableTabPanel
       super(table, setup_dbConnection, viewOnlyTable);
    }
    
+   public TableTabPanel_Generic(String table, Connection setup_dbConnection, boolean viewOnlyTable,
+                                RetainedState retainedState)
+   {
+      super(table, setup_dbConnection, viewOnlyTable, retainedState);
+   }
+   
    //==============================================================
    // Class method to obtain the column names from the table. The
    // names are modified for display and placed into a map for
@@ -109,9 +125,10 @@ public class TableTabPanel_Generic extends TableTabPanel
       // Method Instances
       String sqlStatementString;
       Statement sqlStatement;
-      ResultSet rs, db_resultSet;
+      ResultSet rs;
       DatabaseMetaData dbMetaData;
       ResultSetMetaData tableMetaData;
+      SchemaMetadataCache schemaMetadataCache;
 
       String tableName;
       String colNameString;
@@ -125,11 +142,11 @@ public class TableTabPanel_Generic extends TableTabPanel
       // meta data, and column names.
       
       sqlStatement = null;
-      db_resultSet = null;
       rs = null;
       
       try
       {
+         schemaMetadataCache = ConnectionManager.getSchemaMetadataCache();
          sqlStatement = dbConnection.createStatement();
          if (sqlTable.indexOf(".") != -1)
             tableName = sqlTable.substring(sqlTable.indexOf(".") + 1);
@@ -143,16 +160,16 @@ public class TableTabPanel_Generic extends TableTabPanel
          sqlStatementString = "SELECT * FROM " + schemaTableName + " LIMIT 1";
          // System.out.println(sqlStatementString);
 
-         db_resultSet = sqlStatement.executeQuery(sqlStatementString);
+         tableMetaData = schemaMetadataCache.getTableMetaData(sqlTable, sqlStatement, sqlStatementString);
 
          // Primary Key(s)
          
          dbMetaData = dbConnection.getMetaData();
-         tableMetaData = db_resultSet.getMetaData();
 
-         rs = dbMetaData.getPrimaryKeys(tableMetaData.getCatalogName(1),
-                                        tableMetaData.getSchemaName(1),
-                                        tableMetaData.getTableName(1));
+         rs = schemaMetadataCache.getPrimaryKeys(sqlTable, dbMetaData,
+                                                 tableMetaData.getCatalogName(1),
+                                                 tableMetaData.getSchemaName(1),
+                                                 tableMetaData.getTableName(1));
          while (rs.next())
          {
             if (rs.getString("COLUMN_NAME").indexOf("chunk") == -1
@@ -166,9 +183,10 @@ public class TableTabPanel_Generic extends TableTabPanel
 
          // Additional Indexes
 
-         rs = dbMetaData.getIndexInfo(tableMetaData.getCatalogName(1),
-                                      tableMetaData.getSchemaName(1),
-                                      tableMetaData.getTableName(1), false, false);
+         rs = schemaMetadataCache.getIndexInfo(sqlTable, dbMetaData,
+                                               tableMetaData.getCatalogName(1),
+                                               tableMetaData.getSchemaName(1),
+                                               tableMetaData.getTableName(1), false, false);
          while (rs.next())
          {
             if (rs.getString("COLUMN_NAME") != null && rs.getString("TABLE_NAME").equals(tableName))
@@ -269,9 +287,10 @@ public class TableTabPanel_Generic extends TableTabPanel
          
          // Make a final check for possible foreign keys.
 
-         rs = dbMetaData.getImportedKeys(tableMetaData.getCatalogName(1),
-                                         tableMetaData.getSchemaName(1),
-                                         tableMetaData.getTableName(1));
+         rs = schemaMetadataCache.getImportedKeys(sqlTable, dbMetaData,
+                                                  tableMetaData.getCatalogName(1),
+                                                  tableMetaData.getSchemaName(1),
+                                                  tableMetaData.getTableName(1));
          while (rs.next())
          {
             if (rs.getString("FKCOLUMN_NAME") != null
@@ -320,57 +339,106 @@ public class TableTabPanel_Generic extends TableTabPanel
          }
          finally
          {
-            try
-            {
-               if (db_resultSet != null)
-                  db_resultSet.close();
-            }
-            catch (SQLException sqle)
-            {
-               ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_Generic getColumnNames()");
-            }
-            finally
-            {
-               if (sqlStatement != null)
-                  sqlStatement.close();
-            }
+            if (sqlStatement != null)
+               sqlStatement.close();
          }
       }
    }
 
    //==============================================================
-   // Class method to load the current table's data. The routine
-   // will apply the sort and search parameters.
+   // Class method to set a cell plan's cell type for the summary
+   // table from the column's class & type name.
+   //==============================================================
+
+   protected void setCellType(CellPlan cellPlan)
+   {
+      // Method Instances
+      String columnClass;
+      String columnTypeName;
+      
+      columnClass = cellPlan.columnClass;
+      columnTypeName = cellPlan.columnTypeName;
+      
+      if (columnClass.indexOf("BigDecimal") != -1)
+         cellPlan.cellType = CELL_BIGDECIMAL;
+      
+      else if (columnTypeName.equals("DATE"))
+         cellPlan.cellType = CELL_DATE;
+      
+      else if (columnTypeName.equals("TIME"))
+      {
+         cellPlan.cellType = CELL_TIME;
+         cellPlan.cellPattern = "HH:mm:ss";
+      }
+      
+      else if (columnTypeName.equals("TIMETZ"))
+      {
+         cellPlan.cellType = CELL_TIME;
+         cellPlan.cellPattern = "HH:mm:ss z";
+      }
+      
+      else if (columnTypeName.equals("DATETIME") || columnTypeName.equals("TIMESTAMP"))
+      {
+         cellPlan.cellType = CELL_TIMESTAMP;
+         cellPlan.cellPattern = "HH:mm:ss";
+      }
+      
+      else if (columnTypeName.equals("TIMESTAMPTZ")
+               || columnTypeName.equals("TIMESTAMP WITH TIME ZONE"))
+      {
+         cellPlan.cellType = CELL_TIMESTAMP;
+         cellPlan.cellPattern = "HH:mm:ss z";
+      }
+      
+      else if (columnTypeName.equals("YEAR"))
+         cellPlan.cellType = CELL_YEAR;
+      
+      // BLOB, BINARY, BYTEA, BIT DATA, RAW, LONG, RAW
+      else if (Utils.isBlob(columnClass, columnTypeName))
+      {
+         cellPlan.cellType = CELL_LOB;
+         cellPlan.cellName = "LOB";
+      }
+      
+      else if (columnClass.indexOf("Boolean") != -1)
+         cellPlan.cellType = CELL_BOOLEAN;
+      
+      // CLOB, LONG VARCHARS, & TEXT
+      else if (Utils.isText(columnClass, columnTypeName, true, cellPlan.columnSize))
+      {
+         cellPlan.cellType = CELL_TEXT;
+         
+         if (cellPlan.columnSize == 255)
+            cellPlan.keyLength = null;
+      }
+   }
+
+   //==============================================================
+   // Class method to create the search condition & the SQL
+   // statements of a page. The routine will apply the sort and
+   // search parameters of the page state.
    //==============================================================
    
-   public boolean loadTable(Connection dbConnection)
+   protected PageQuery createPageQuery(PageState pageState)
    {
       // Method Instances
+      StringBuffer sqlTableStatement;
       StringBuffer lobLessSQLStatement;
-      Statement sqlStatement;
-      ResultSet rs;
 
       StringBuffer searchQueryString;
       String columnSearchString;
       String searchTextString;
+      String tableFieldsString;
       String lobLessFieldsString;
       String columnName;
-      String columnClass;
-      int columnSQLType;
       String columnTypeName;
-      Integer keyLength;
-      int columnSize;
-      int preferredColumnSize;
-      Object currentContentData;
 
-      // Obtain search parameters column names as needed and
-      // saving state for history.
+      // Obtain search parameters column names as needed.
       
-      columnSearchString = columnNamesHashMap.get(searchComboBox.getSelectedItem());
-      searchTextString = searchTextField.getText();
-      
-      if (historyAction)
-         saveHistory();
+      columnSearchString = pageState.searchColumn;
+      searchTextString = pageState.searchText;
+      tableFieldsString = pageState.fieldsString;
+      lobLessFieldsString = pageState.lobLessFieldsString;
 
       searchQueryString = new StringBuffer();
       if (searchTextString.equals(""))
@@ -381,7 +449,7 @@ public class TableTabPanel_Generic extends TableTabPanel
          if (columnSearchString == null)
          {
             String[] tableColumns;
-            tableColumns = sqlTableFieldsString.split(",");
+            tableColumns = tableFieldsString.split(",");
 
             for (int i = 0; i < tableColumns.length; i++)
             {
@@ -417,7 +485,7 @@ public class TableTabPanel_Generic extends TableTabPanel
          // Field specified.
          else
          {
-            columnTypeName = columnTypeNameHashMap.get(searchComboBox.getSelectedItem());
+            columnTypeName = columnTypeNameHashMap.get(pageState.searchItem);
             
             if (columnTypeName.equals("DATE"))
                searchTextString = Utils.processDateFormatSearch(searchTextString);
@@ -438,318 +506,128 @@ public class TableTabPanel_Generic extends TableTabPanel
       }
       // System.out.println(searchTextString);
 
-      // Connect to database to obtain the initial/new items set
-      // and then sorting that set.
-      
-      sqlStatement = null;
-      rs = null;
-      
-      try
+      sqlTableStatement = new StringBuffer();
+      lobLessSQLStatement = new StringBuffer();
+
+      if (pageState.advancedSortSearch)
+      {
+         // Complete With All Fields.
+         sqlTableStatement.append(pageState.advancedSQL);
+         // Summary Table Without LOBs
+         lobLessSQLStatement.append(pageState.advancedLobLessSQL);
+      }
+      else
       {
-         lobLessFieldsString = sqlTableFieldsString;
+         // Complete With All Fields.
+         sqlTableStatement.append("SELECT " + tableFieldsString + " FROM " + schemaTableName + " "
+                                   + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
+                                   + getKeysetOrderBy(pageState) + " " + "LIMIT "
+                                   + pageState.rowLimit + " " + "OFFSET " + pageState.rowStart);
          
-         if (!lob_sqlTableFieldsString.equals(""))
-         {
-            String[]  lobColumns = lob_sqlTableFieldsString.split(" ");
+         // Summary Table Without LOBs.
+         lobLessSQLStatement.append("SELECT " + lobLessFieldsString + " FROM " + schemaTableName + " "
+                                     + "WHERE (" + searchQueryString.toString() + ")"
+                                     + getKeysetWhereClause(pageState)
+                                     + " " + "ORDER BY "
+                                     + getKeysetOrderBy(pageState) + " " + "LIMIT "
+                                     + pageState.rowLimit + " " + "OFFSET " + getLoadRowStart(pageState));  
+      }
+      // System.out.println(sqlTableStatement);
+      // System.out.println(lobLessSQLStatement.toString());
+      
+      return new PageQuery(searchQueryString.toString(), sqlTableStatement.toString(),
+                           lobLessSQLStatement.toString());
+   }
+   
+   //==============================================================
+   // Class method to load a page's table data from the result set
+   // of its query.
+   //==============================================================
+   
+   protected void loadPageData(ResultSet rs, Page page) throws SQLException
+   {
+      // Method Instances
+      ColumnarPage tableData;
+      CellPlan cellPlan;
+      CellPlan[] cellPlans;
+      Object currentContentData;
 
-            for (int i = 0; i < lobColumns.length; i++)
-               lobLessFieldsString = lobLessFieldsString.replace(lobColumns[i], "");
-            
-            // All fields maybe lobs, so just include all. Network
-            // performance hit.
-            if (lobLessFieldsString.indexOf(identifierQuoteString) != -1)
-               lobLessFieldsString = lobLessFieldsString.substring(lobLessFieldsString.indexOf(
-                                                                          identifierQuoteString));
-            else
-               lobLessFieldsString = sqlTableFieldsString;
-            
-            lobLessFieldsString = lobLessFieldsString.replaceAll(" ,", "");
-            if (lobLessFieldsString.endsWith(", "))
-               lobLessFieldsString = lobLessFieldsString.substring(0, lobLessFieldsString.length() - 2);
-         }
-         
-         sqlTableStatement = new StringBuffer();
-         lobLessSQLStatement = new StringBuffer();
+      // Placing the results columns desired into the table that
+      // will be display to the user.
 
-         if (advancedSortSearch)
-         {
-            // Complete With All Fields.
-            sqlTableStatement.append(advancedSortSearchFrame.getAdvancedSortSearchSQL(sqlTableFieldsString,
-                                             tableRowStart, tableRowLimit));
-            // Summary Table Without LOBs
-            lobLessSQLStatement.append(advancedSortSearchFrame.getAdvancedSortSearchSQL(lobLessFieldsString,
-                                                    tableRowStart, tableRowLimit));
-         }
-         else
-         {
-            // Complete With All Fields.
-            sqlTableStatement.append("SELECT " + sqlTableFieldsString + " FROM " + schemaTableName + " "
-                                      + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
-                                      + identifierQuoteString
-                                      + columnNamesHashMap.get(sortComboBox.getSelectedItem())
-                                      + identifierQuoteString + " " + ascDescString + " " + "LIMIT "
-                                      + tableRowLimit + " " + "OFFSET " + tableRowStart);
-            
-            // Summary Table Without LOBs.
-            lobLessSQLStatement.append("SELECT " + lobLessFieldsString + " FROM " + schemaTableName + " "
-                                        + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
-                                        + identifierQuoteString
-                                        + columnNamesHashMap.get(sortComboBox.getSelectedItem())
-                                        + identifierQuoteString + " " + ascDescString + " " + "LIMIT "
-                                        + tableRowLimit + " " + "OFFSET " + tableRowStart);  
-         }
-         // System.out.println(sqlTableStatement);
-         // System.out.println(lobLessSQLStatement.toString());
-         
-         if (dbConnection == null)
-            return false;
-         
-         sqlStatement = dbConnection.createStatement();
-         rs = sqlStatement.executeQuery(lobLessSQLStatement.toString());
+      int i = 0;
+      int j = 0;
 
-         // Placing the results columns desired into the table that
-         // will be display to the user.
+      tableData = page.tableData;
 
-         int i = 0;
-         int j = 0;
+      cellPlans = page.cellPlans;
 
-         tableData = new Object[tableRowLimit][currentTableHeadings.size()];
+      while (rs.next())
+      {
+         tableData.addRow();
+         recordKeysetRow(rs, i, page);
 
-         while (rs.next())
+         for (int k = 0; k < cellPlans.length; k++)
          {
-            Iterator<String> headings = currentTableHeadings.iterator();
-            while (headings.hasNext())
-            {
-               String currentHeading = headings.next();
-               columnName = columnNamesHashMap.get(currentHeading);
-               columnClass = columnClassHashMap.get(currentHeading);
-               columnSQLType = columnSQLTypeHashMap.get(currentHeading).intValue();
-               columnTypeName = columnTypeNameHashMap.get(currentHeading);
-               columnSize = (columnSizeHashMap.get(currentHeading)).intValue();
-               keyLength = keyLengthHashMap.get(columnName);
-               preferredColumnSize = (preferredColumnSizeHashMap.get(currentHeading)).intValue();
-
-               // System.out.println(i + " " + j + " " + currentHeading + " " +
-               //                    columnName + " " + columnClass + " " +
-               //                    columnSQLType + " " + columnTypeName + " " +
-               //                    columnSize + " " + preferredColumnSize + " " + keyLength);
-
-               // Storing data appropriately. If you have some date
-               // or other formating, for a field here is where you
-               // can take care of it.
-
-               if (lobDataTypesHashMap.containsKey(currentHeading))
-                  currentContentData = "lob";
-               else
-                  currentContentData = rs.getObject(columnName);
-               // System.out.println(currentContentData);
+            cellPlan = cellPlans[k];
 
-               if (currentContentData != null)
-               {
-                  // =============================================
-                  // BigDecimal
-                  if (columnClass.indexOf("BigDecimal") != -1)
-                     tableData[i][j++] = new BigDecimal(rs.getString(columnName));
-
-                  // =============================================
-                  // Date
-                  else if (columnTypeName.equals("DATE"))
-                  {
-                     currentContentData = rs.getDate(columnName);
-                     String displayDate = displayMyDateString(currentContentData + "");
-                     tableData[i][j++] = displayDate;
-                  }
-                  
-                  // =============================================
-                  // Time
-                  else if (columnTypeName.equals("TIME"))
-                  {
-                     currentContentData = rs.getTime(columnName);
-                     tableData[i][j++] = (new SimpleDateFormat("HH:mm:ss").format(currentContentData));
-                  }
-
-                  // =============================================
-                  // Time With Time Zone
-                  else if (columnTypeName.equals("TIMETZ"))
-                  {
-                     currentContentData = rs.getTime(columnName);
-                     tableData[i][j++] = (new SimpleDateFormat("HH:mm:ss z").format(currentContentData));
-                  }
-                  
-                  // =============================================
-                  // Datetime
-                  else if (columnTypeName.equals("DATETIME"))
-                  {
-                     currentContentData = rs.getTimestamp(columnName);
-                     tableData[i][j++] = (new SimpleDateFormat(
-                                           DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
-                                           + " HH:mm:ss").format(currentContentData));
-                  }
-
-                  // =============================================
-                  // Timestamps
-                  else if (columnTypeName.equals("TIMESTAMP"))
-                  {
-                     currentContentData = rs.getTimestamp(columnName);
-                     tableData[i][j++] = (new SimpleDateFormat(
-                                           DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
-                                           + " HH:mm:ss").format(currentContentData));
-                  }
-
-                  else if (columnTypeName.equals("TIMESTAMPTZ"))
-                  {
-                     currentContentData = rs.getTimestamp(columnName);
-                     tableData[i][j++] = (new SimpleDateFormat(
-                                           DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
-                                           + " HH:mm:ss z").format(currentContentData));
-                  }
-                  
-                  else if (columnTypeName.equals("TIMESTAMP WITH TIME ZONE"))
-                  {
-                     currentContentData = rs.getTimestamp(columnName);
-                     tableData[i][j++] = (new SimpleDateFormat(
-                        DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
-                        + " HH:mm:ss z").format(currentContentData));
-                  }
-                  
-                  // =============================================
-                  // Year
-                  else if (columnTypeName.equals("YEAR"))
-                  {
-                     String displayYear = currentContentData + "";
-                     displayYear = displayYear.trim();
-
-                     if (columnSize == 2)
-                     {
-                        if (displayYear.length() >= 4)
-                           displayYear = displayYear.substring(2, 4);
-                     }
-                     else
-                        displayYear = displayYear.substring(0, 4);
-                     
-                     tableData[i][j++] = displayYear;
-                  }
-                  
-                  // =============================================
-                  // BLOB, BINARY, BYTEA, BIT DATA, RAW, LONG, RAW,
-                  // 
-                  else if (Utils.isBlob(columnClass, columnTypeName))
-                  {
-                     // Handles a key Blob
-                     if (keyLength != null)
-                     {
-                        BlobTextKey currentBlobElement = new BlobTextKey();
-                        currentBlobElement.setName("LOB");
-
-                        String content = rs.getString(columnName);
-
-                        if (content.length() > keyLength.intValue())
-                           content = content.substring(0, keyLength.intValue());
-
-                        currentBlobElement.setContent(content);
-                        tableData[i][j++] = currentBlobElement;
-                     }
-                     else
-                     {
-                        tableData[i][j++] = "LOB";
-                     }
-                  }
-
-                  // =============================================
-                  // Boolean
-                  else if (columnClass.indexOf("Boolean") != -1)
-                  {
-                     tableData[i][j++] = rs.getString(columnName);
-                  }
-                  
-                  // =============================================
-                  // CLOB, LONG VARCHARS, & TEXT
-                  else if (Utils.isText(columnClass, columnTypeName, true, columnSize))
-                  {
-                     String stringName;
-                     stringName = (String) currentContentData;
-
-                     // Handles a key String
-                     if (keyLength != null && columnSize != 255)
-                     {
-                        BlobTextKey currentBlobElement = new BlobTextKey();
-                        currentBlobElement.setName(stringName);
+            // System.out.println(i + " " + j + " " + cellPlan.heading + " " +
+            //                    cellPlan.cellType + " " + cellPlan.preferredColumnSize);
 
-                        String content = rs.getString(columnName);
-
-                        if (content.length() > keyLength.intValue())
-                           content = content.substring(0, keyLength.intValue());
-
-                        currentBlobElement.setContent(content);
-                        tableData[i][j++] = currentBlobElement;
-                     }
-                     else
-                     {
-                        // Limit Table Cell Memory Usage.
-                        if (stringName.length() > 512)
-                           tableData[i][j++] = stringName.substring(0, 512);
-                        else
-                           tableData[i][j++] = stringName;
-                     }
-                  }
+            // Storing data appropriately by the cell type set
+            // for the column in setCellType(). If you have some
+            // date or other formating, for a field here is where
+            // you can take care of it.
 
-                  // =============================================
-                  // Any Other
-                  else
-                  {
-                     tableData[i][j++] = rs.getString(columnName);
-                     // tableData[i][j++] = currentContentData;
-                  }
-               }
-               // Null Data
-               else
-               {
-                  tableData[i][j++] = "NULL";
-               }
+            if (cellPlan.lob)
+               currentContentData = "lob";
+            else
+               currentContentData = rs.getObject(cellPlan.columnIndex);
 
-               // Setup some sizing for the column in the summary
-               // table.
-               if ((tableData[i][j - 1] + "").trim().length() * columnSizeScaling > preferredColumnSize)
+            if (currentContentData != null)
+            {
+               switch (cellPlan.cellType)
                {
-                  preferredColumnSize = (tableData[i][j - 1] + "").trim().length() * columnSizeScaling;
-                  if (preferredColumnSize > MAX_PREFERRED_COLUMN_SIZE)
-                     preferredColumnSize = MAX_PREFERRED_COLUMN_SIZE;
+                  case CELL_BIGDECIMAL:
+                     tableData.setObject(i, j++, new BigDecimal(rs.getString(cellPlan.columnIndex)));
+                     break;
+                  case CELL_DATE:
+                     setTemporalCell(tableData, i, j++, rs.getDate(cellPlan.columnIndex));
+                     break;
+                  case CELL_TIME:
+                     setTemporalCell(tableData, i, j++, rs.getTime(cellPlan.columnIndex));
+                     break;
+                  case CELL_TIMESTAMP:
+                     setTemporalCell(tableData, i, j++, rs.getTimestamp(cellPlan.columnIndex));
+                     break;
+                  case CELL_YEAR:
+                     tableData.setObject(i, j++, getYearCell(cellPlan, currentContentData));
+                     break;
+                  case CELL_LOB:
+                     tableData.setObject(i, j++, getLobCell(rs, cellPlan));
+                     break;
+                  case CELL_BOOLEAN:
+                     tableData.setObject(i, j++, rs.getString(cellPlan.columnIndex));
+                     break;
+                  case CELL_TEXT:
+                     tableData.setObject(i, j++, getTextCell(rs, cellPlan, (String) currentContentData));
+                     break;
+                  default:
+                     setCell(tableData, i, j++, rs, cellPlan, currentContentData);
                }
-               preferredColumnSizeHashMap.put(currentHeading, Integer.valueOf(preferredColumnSize));
-            }
-            j = 0;
-            i++;
-         }
-         return true;
-      }
-      catch (SQLException e)
-      {
-         ConnectionManager.displaySQLErrors(e, "TableTabPanel_Generic loadTable()");
-         return false;
-      }
-      finally
-      {
-         try
-         {
-            if (rs != null)
-               rs.close();
-         }
-         catch (SQLException sqle)
-         {
-            ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_Generic loadTable()");
-         }
-         finally
-         {
-            try
-            {
-               if (sqlStatement != null)
-                  sqlStatement.close();
             }
-            catch (SQLException sqle)
+            // Null Data
+            else
             {
-               ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_Generic loadTable()");
+               tableData.setNull(i, j++);
             }
+
+            // Setup some sizing for the column in the summary
+            // table.
+            updatePreferredColumnSize(cellPlan, tableData, i, j - 1);
          }
+         j = 0;
+         i++;
       }
    }
    
@@ -13,7 +13,7 @@
 //
 //================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.4 07/04/2018
+// Version 1.6 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -47,6 +47,11 @@
 //             TableEntryForm to Meet New Constructor Requirments.
 //         1.5 Methods getColumnNames() & loadTable(), columnSQLTypeHashMap
 //             Proper Loading of Integer & Extracting int.
+//         1.6 Method loadTable() Replaced by createPageQuery() & loadPageData(),
+//             Cells Set by the TableTabPanel Cell Plans' cellType, Added Method
+//             setCellType(), & Stored in a ColumnarPage. Method getColumnNames()
+//             Use of ConnectionManager SchemaMetadataCache. Flight Recorder
+//             TableLoadEvent. Added Constructor With Argument retainedState.
 //             
 //-----------------------------------------------------------------
 //                  danap@dandymadeproductions.com
@@ -67,8 +72,10 @@ import java.util.Locale;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.datasource.SchemaMetadataCache;
 import com.dandymadeproductions.ajqvue.gui.forms.TableEntryForm;
 import com.dandymadeproductions.ajqvue.utilities.BlobTextKey;
+import com.dandymadeproductions.ajqvue.utilities.ColumnarPage;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 
 /**
@@ -79,7 +86,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * page through the database table's data.
  * 
  * @author Dana M. Proctor
- * @version 1.5 07/04/2018
+ * @version 1.6 10/18/2026
  */
 
 public class TableTabPanel_MSAccess extends TableTabPanel
@@ -92,6 +99,12 @@ public class TableTabPanel_MSAccess extends TableTabPanel
       super(table, setup_dbConnection, viewOnlyTable);
    }
    
+   public TableTabPanel_MSAccess(String table, Connection setup_dbConnection, boolean viewOnlyTable,
+                                 RetainedState retainedState)
+   {
+      super(table, setup_dbConnection, viewOnlyTable, retainedState);
+   }
+   
    //==============================================================
    // Class method to obtain the column names from the table. The
    // names are modified for display and placed into a map for
@@ -104,9 +117,10 @@ public class TableTabPanel_MSAccess extends TableTabPanel
       // Method Instances
       String sqlStatementString;
       Statement sqlStatement;
-      ResultSet rs, db_resultSet;
+      ResultSet rs;
       DatabaseMetaData dbMetaData;
       ResultSetMetaData tableMetaData;
+      SchemaMetadataCache schemaMetadataCache;
 
       String tableName;
       String tableMetaData_Catalog;
@@ -123,11 +137,11 @@ public class TableTabPanel_MSAccess extends TableTabPanel
       // meta data, and column names.
       
       sqlStatement = null;
-      db_resultSet = null;
       rs = null;
       
       try
       {
+         schemaMetadataCache = ConnectionManager.getSchemaMetadataCache();
          sqlStatement = dbConnection.createStatement();
          if (sqlTable.indexOf(".") != -1)
             tableName = sqlTable.substring(sqlTable.indexOf(".") + 1);
@@ -141,10 +155,9 @@ public class TableTabPanel_MSAccess extends TableTabPanel
          sqlStatementString = "SELECT * FROM " + schemaTableName;
          // System.out.println(sqlStatementString);
 
-         db_resultSet = sqlStatement.executeQuery(sqlStatementString);
+         tableMetaData = schemaMetadataCache.getTableMetaData(sqlTable, sqlStatement, sqlStatementString);
          
          dbMetaData = dbConnection.getMetaData();
-         tableMetaData = db_resultSet.getMetaData();
          
          tableMetaData_Catalog = tableMetaData.getCatalogName(1);
          if (tableMetaData_Catalog.equals(""))
@@ -159,8 +172,8 @@ public class TableTabPanel_MSAccess extends TableTabPanel
          // Primary Key(s)
          /* Access 97 Does not support
          
-         rs = dbMetaData.getPrimaryKeys(tableMetaData_Catalog, tableMetaData_Schema,
-                                        tableMetaData_Table);
+         rs = schemaMetadataCache.getPrimaryKeys(sqlTable, dbMetaData, tableMetaData_Catalog,
+                                                 tableMetaData_Schema, tableMetaData_Table);
          
          while (rs.next())
          {
@@ -177,8 +190,9 @@ public class TableTabPanel_MSAccess extends TableTabPanel
          
          // Additional Indexes
          
-         rs = dbMetaData.getIndexInfo(tableMetaData_Catalog, tableMetaData_Schema,
-                                      tableMetaData_Table, false, false);
+         rs = schemaMetadataCache.getIndexInfo(sqlTable, dbMetaData, tableMetaData_Catalog,
+                                               tableMetaData_Schema, tableMetaData_Table, false,
+                                               false);
          
          while (rs.next())
          {
@@ -287,8 +301,8 @@ public class TableTabPanel_MSAccess extends TableTabPanel
          /*
          if (primaryKeys.isEmpty())
          {
-            rs = dbMetaData.getImportedKeys(tableMetaData_Catalog, tableMetaData_Schema,
-                                           tableMetaData_Table);
+            rs = schemaMetadataCache.getImportedKeys(sqlTable, dbMetaData, tableMetaData_Catalog,
+                                                     tableMetaData_Schema, tableMetaData_Table);
             String foreignKey = rs.getString("FKCOLUMN_NAME");
             
             while (rs.next())
@@ -338,58 +352,81 @@ public class TableTabPanel_MSAccess extends TableTabPanel
          }
          finally
          {
-            try
-            {
-               if (db_resultSet != null)
-                  db_resultSet.close();
-            }
-            catch (SQLException sqle)
-            {
-               ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_MSAccess getColumnNames()");
-            }
-            finally
-            {
-               if (sqlStatement != null)
-                  sqlStatement.close();
-            }
+            if (sqlStatement != null)
+               sqlStatement.close();
          }
       }
    }
 
    //==============================================================
-   // Class method to load the current table's data. The routine
-   // will apply the sort and search parameters.
+   // Class method to set a cell plan's cell type for the summary
+   // table from the column's class & type name.
+   //==============================================================
+
+   protected void setCellType(CellPlan cellPlan)
+   {
+      // Method Instances
+      String columnClass;
+      String columnTypeName;
+      
+      columnClass = cellPlan.columnClass;
+      columnTypeName = cellPlan.columnTypeName;
+      
+      if (columnClass.indexOf("BigDecimal") != -1)
+         cellPlan.cellType = CELL_BIGDECIMAL;
+      
+      else if (columnTypeName.equals("DATE"))
+         cellPlan.cellType = CELL_DATE;
+      
+      else if (columnTypeName.equals("DATETIME"))
+      {
+         cellPlan.cellType = CELL_TIMESTAMP;
+         cellPlan.cellPattern = "HH:mm:ss";
+      }
+      
+      else if (columnTypeName.indexOf("BINARY") != -1 || columnTypeName.indexOf("IMAGE") != -1)
+      {
+         cellPlan.cellType = CELL_LOB;
+         cellPlan.cellName = "LOB";
+      }
+      
+      else if (columnClass.indexOf("Boolean") != -1)
+         cellPlan.cellType = CELL_BOOLEAN;
+      
+      else if ((columnTypeName.equals("LONGCHAR") || columnTypeName.equals("TEXT"))
+               && cellPlan.columnSize > 255)
+      {
+         cellPlan.cellType = CELL_LOB;
+         cellPlan.cellName = "Text";
+      }
+   }
+
+   //==============================================================
+   // Class method to create the search condition & the SQL
+   // statements of a page. The routine will apply the sort and
+   // search parameters of the page state.
    //==============================================================
 
-   public boolean loadTable(Connection dbConnection)
+   protected PageQuery createPageQuery(PageState pageState)
    {
       // Method Instances
+      StringBuffer sqlTableStatement;
       StringBuffer lobLessSQLStatement;
-      Statement sqlStatement;
-      ResultSet rs;
 
       StringBuffer searchQueryString;
       String columnSearchString;
       String searchTextString;
+      String tableFieldsString;
       String lobLessFieldsString;
       String columnName;
-      String columnClass;
-      int columnSQLType;
       String columnTypeName;
-      int columnSize;
-      int preferredColumnSize;
-      Integer keyLength;
-      int currentRow;
-      Object currentContentData;
 
-      // Obtain search parameters column names as needed and
-      // saving state for history.
+      // Obtain search parameters column names as needed.
       
-      columnSearchString = columnNamesHashMap.get(searchComboBox.getSelectedItem());
-      searchTextString = searchTextField.getText();
-      
-      if (historyAction)
-         saveHistory();
+      columnSearchString = pageState.searchColumn;
+      searchTextString = pageState.searchText;
+      tableFieldsString = pageState.fieldsString;
+      lobLessFieldsString = pageState.lobLessFieldsString;
 
       searchQueryString = new StringBuffer();
       if (searchTextString.equals(""))
@@ -400,7 +437,7 @@ public class TableTabPanel_MSAccess extends TableTabPanel
          if (columnSearchString == null)
          {
             String[] tableColumns;
-            tableColumns = sqlTableFieldsString.split(",");
+            tableColumns = tableFieldsString.split(",");
 
             for (int i = 0; i < tableColumns.length; i++)
             {
@@ -451,7 +488,7 @@ public class TableTabPanel_MSAccess extends TableTabPanel
          // Field specified.
          else
          {
-            columnTypeName = columnTypeNameHashMap.get(searchComboBox.getSelectedItem());
+            columnTypeName = columnTypeNameHashMap.get(pageState.searchItem);
             
             if (columnTypeName.equals("DATE") || columnTypeName.equals("DATETIME"))
             {
@@ -480,273 +517,119 @@ public class TableTabPanel_MSAccess extends TableTabPanel
          // System.out.println(searchTextString);
       }
 
-      // Connect to database to obtain the initial/new items set
-      // and then sorting that set.
-      
-      sqlStatement = null;
-      rs = null;
-      
-      try
-      {
-         lobLessFieldsString = sqlTableFieldsString;
-         
-         if (!lob_sqlTableFieldsString.equals(""))
-         {
-            String[]  lobColumns = lob_sqlTableFieldsString.split(" ");
+      sqlTableStatement = new StringBuffer();
+      lobLessSQLStatement = new StringBuffer();
 
-            for (int i = 0; i < lobColumns.length; i++)
-               lobLessFieldsString = lobLessFieldsString.replace(lobColumns[i], "");
-            
-            // All fields maybe lobs, so just include all. Network
-            // performance hit.
-            if (lobLessFieldsString.indexOf(identifierQuoteString) != -1)
-               lobLessFieldsString = lobLessFieldsString.substring(lobLessFieldsString.indexOf(
-                                                                          identifierQuoteString));
-            else
-               lobLessFieldsString = sqlTableFieldsString;
-            
-            lobLessFieldsString = lobLessFieldsString.replaceAll(" ,", "");
-            if (lobLessFieldsString.endsWith(", "))
-               lobLessFieldsString = lobLessFieldsString.substring(0, lobLessFieldsString.length() - 2);
-         }
-         
-         sqlTableStatement = new StringBuffer();
-         lobLessSQLStatement = new StringBuffer();
+      if (pageState.advancedSortSearch)
+      {
+         // Complete With All Fields.
+         sqlTableStatement.append(pageState.advancedSQL);
+         // Summary Table Without LOBs
+         lobLessSQLStatement.append(pageState.advancedLobLessSQL);
+      }
+      else
+      {
+         // Complete With All Fields.
+         sqlTableStatement.append("SELECT " + tableFieldsString + " FROM " + schemaTableName + " "
+                              + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
+                              + identifierQuoteString
+                              + pageState.sortColumn
+                              + identifierQuoteString + " " + pageState.ascDescString);
+         // Summary Table Without LOBs.
+         lobLessSQLStatement.append("SELECT " + lobLessFieldsString + " FROM " + schemaTableName + " "
+                                     + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
+                                     + identifierQuoteString
+                                     + pageState.sortColumn
+                                     + identifierQuoteString + " " + pageState.ascDescString);  
+      }
+      // System.out.println(sqlTableStatement);
+      // System.out.println(lobLessSQLStatement.toString());
+      
+      return new PageQuery(searchQueryString.toString(), sqlTableStatement.toString(),
+                           lobLessSQLStatement.toString());
+   }
+   
+   //==============================================================
+   // Class method to load a page's table data from the result set
+   // of its query.
+   //==============================================================
+   
+   protected void loadPageData(ResultSet rs, Page page) throws SQLException
+   {
+      // Method Instances
+      ColumnarPage tableData;
+      int currentRow;
+      CellPlan cellPlan;
+      CellPlan[] cellPlans;
+      Object currentContentData;
 
-         if (advancedSortSearch)
-         {
-            // Complete With All Fields.
-            sqlTableStatement.append(advancedSortSearchFrame.getAdvancedSortSearchSQL(sqlTableFieldsString,
-                                             tableRowStart, tableRowLimit));
-            // Summary Table Without LOBs
-            lobLessSQLStatement.append(advancedSortSearchFrame.getAdvancedSortSearchSQL(lobLessFieldsString,
-                                                    tableRowStart, tableRowLimit));
-         }
-         else
-         {
-            // Complete With All Fields.
-            sqlTableStatement.append("SELECT " + sqlTableFieldsString + " FROM " + schemaTableName + " "
-                                 + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
-                                 + identifierQuoteString
-                                 + columnNamesHashMap.get(sortComboBox.getSelectedItem())
-                                 + identifierQuoteString + " " + ascDescString);
-            // Summary Table Without LOBs.
-            lobLessSQLStatement.append("SELECT " + lobLessFieldsString + " FROM " + schemaTableName + " "
-                                        + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
-                                        + identifierQuoteString
-                                        + columnNamesHashMap.get(sortComboBox.getSelectedItem())
-                                        + identifierQuoteString + " " + ascDescString);  
-         }
-         // System.out.println(sqlTableStatement);
-         // System.out.println(lobLessSQLStatement.toString());
-         
-         if (dbConnection == null)
-            return false;
-         
-         sqlStatement = dbConnection.createStatement();
-         rs = sqlStatement.executeQuery(lobLessSQLStatement.toString());
+      // Placing the results columns desired into the table that
+      // will be display to the user. Access does not support the
+      // LIMIT aspect of ANSI SQL so select all table data then
+      // only fill table according to the page row limit with currentRow
+      // instance.
 
-         // Placing the results columns desired into the table that
-         // will be display to the user. Access does not support the
-         // LIMIT aspect of ANSI SQL so select all table data then
-         // only fill table according to tableRowLimit with currentRow
-         // instance.
+      int i = 0;
+      int j = 0;
+      currentRow = 0;
 
-         int i = 0;
-         int j = 0;
-         currentRow = 0;
+      tableData = page.tableData;
 
-         tableData = new Object[tableRowLimit][currentTableHeadings.size()];
+      cellPlans = page.cellPlans;
 
-         while (rs.next() && currentRow < (tableRowStart + tableRowLimit))
+      while (rs.next() && currentRow < (page.pageState.rowStart + page.pageState.rowLimit))
+      {
+         if (!(currentRow++ >= page.pageState.rowStart))
+            continue;
+         
+         tableData.addRow();
+         
+         for (int k = 0; k < cellPlans.length; k++)
          {
-            if (!(currentRow++ >= tableRowStart))
-               continue;
-            
-            Iterator<String> headings = currentTableHeadings.iterator();
-            while (headings.hasNext())
-            {
-               String currentHeading = headings.next();
-               columnName = columnNamesHashMap.get(currentHeading);
-               columnClass = columnClassHashMap.get(currentHeading);
-               columnSQLType = columnSQLTypeHashMap.get(currentHeading).intValue();
-               columnTypeName = columnTypeNameHashMap.get(currentHeading);
-               columnSize = (columnSizeHashMap.get(currentHeading)).intValue();
-               keyLength = keyLengthHashMap.get(columnName);
-               preferredColumnSize = (preferredColumnSizeHashMap.get(currentHeading)).intValue();
-
-               // System.out.println(i + " " + j + " " + currentHeading + " " +
-               //                    columnName + " " + columnClass + " " +
-               //                    columnSQLType + " " + columnTypeName + " " +
-               //                    columnSize + " " + preferredColumnSize + " " + keyLength);
-
-               // Storing data appropriately. If you have some date
-               // or other formating, for a field here is where you
-               // can take care of it.
-
-               if (lobDataTypesHashMap.containsKey(currentHeading))
-                  currentContentData = "lob";
-               
-               // =============================================
-               // BigDecimal
-               if (columnClass.indexOf("BigDecimal") != -1)
-               {
-                  currentContentData = rs.getString(columnName);
-                  if (currentContentData == null)
-                     tableData[i][j++] = "NULL";
-                  else
-                     tableData[i][j++] = new BigDecimal(currentContentData.toString());
-               }
+            cellPlan = cellPlans[k];
 
-               // =============================================
-               // Date
-               else if (columnTypeName.equals("DATE"))
-               {
-                  currentContentData = rs.getDate(columnName);
-                  if (currentContentData == null)
-                     tableData[i][j++] = "NULL";
-                  else
-                  {
-                     String displayDate = displayMyDateString(currentContentData + "");
-                     tableData[i][j++] = displayDate;
-                  }
-               }
+            // System.out.println(i + " " + j + " " + cellPlan.heading + " " +
+            //                    cellPlan.cellType + " " + cellPlan.preferredColumnSize);
 
-               // =============================================
-               // Datetime
-               else if (columnTypeName.equals("DATETIME"))
-               {
-                  currentContentData = rs.getTimestamp(columnName);
-                  // System.out.println(currentContentData);
-                  
-                  if (currentContentData == null)
-                     tableData[i][j++] = "NULL";
-                  else
-                  {
-                     tableData[i][j++] = (new SimpleDateFormat(
-                        DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
-                        + " HH:mm:ss").format(currentContentData));
-                  }
-               }
-                  
-               // =============================================
-               // BINARY
-               else if (columnTypeName.indexOf("BINARY") != -1 || columnTypeName.indexOf("IMAGE") != -1)
-               {
-                  // Handles a key Binary/Blob
-                  if (keyLength != null)
-                  {
-                     BlobTextKey currentBlobElement = new BlobTextKey();
-                     currentBlobElement.setName("LOB");
-
-                     String content = rs.getString(columnName);
-
-                     if (content.length() > keyLength.intValue())
-                        content = content.substring(0, keyLength.intValue());
-                     
-                     currentBlobElement.setContent(content);
-                     tableData[i][j++] = currentBlobElement;
-                  }
-                  else
-                  {
-                     tableData[i][j++] = "LOB";
-                  }
-               }
+            // Storing data appropriately by the cell type set
+            // for the column in setCellType(). If you have some
+            // date or other formating, for a field here is where
+            // you can take care of it.
 
-               // =============================================
-               // Boolean
-               else if (columnClass.indexOf("Boolean") != -1)
-               {
-                  currentContentData = rs.getString(columnName);
-                  
+            switch (cellPlan.cellType)
+            {
+               case CELL_BIGDECIMAL:
+                  currentContentData = rs.getString(cellPlan.columnIndex);
                   if (currentContentData == null)
-                     tableData[i][j++] = "NULL";
+                     tableData.setNull(i, j++);
                   else
-                     tableData[i][j++] = currentContentData.toString();
-               }
-               
-               // =============================================
-               // Text
-               else if ((columnTypeName.equals("LONGCHAR") || columnTypeName.equals("TEXT"))
-                         && columnSize > 255)
-               {
-                  String stringName = "Text";
-
-                  // Handles a key String
-                  if (keyLength != null)
-                  {
-                     BlobTextKey currentBlobElement = new BlobTextKey();
-                     currentBlobElement.setName(stringName);
+                     tableData.setObject(i, j++, new BigDecimal(currentContentData.toString()));
+                  break;
+               case CELL_DATE:
+                  setTemporalCell(tableData, i, j++, rs.getDate(cellPlan.columnIndex));
+                  break;
+               case CELL_TIMESTAMP:
+                  setTemporalCell(tableData, i, j++, rs.getTimestamp(cellPlan.columnIndex));
+                  break;
+               case CELL_LOB:
+                  tableData.setObject(i, j++, getLobCell(rs, cellPlan));
+                  break;
+               case CELL_BOOLEAN:
+               default:
+                  currentContentData = rs.getString(cellPlan.columnIndex);
 
-                     String content = rs.getString(columnName);
-
-                     if (content.length() > keyLength.intValue())
-                        content = content.substring(0, keyLength.intValue());
-
-                     currentBlobElement.setContent(content);
-                     tableData[i][j++] = currentBlobElement;
-                  }
-                  else
-                  {
-                     tableData[i][j++] = stringName;
-                  }
-               }
-               
-               // =============================================
-               // Any Other
-               else
-               {
-                  currentContentData = rs.getString(columnName);
-                  
                   if (currentContentData == null)
-                     tableData[i][j++] = "NULL";
+                     tableData.setNull(i, j++);
                   else
-                     tableData[i][j++] = currentContentData.toString();
-               }
-               
-               // Setup some sizing for the column in the summary
-               // table.
-               if ((tableData[i][j - 1] + "").trim().length() * columnSizeScaling > preferredColumnSize)
-               {
-                  preferredColumnSize = (tableData[i][j - 1] + "").trim().length() * columnSizeScaling;
-                  if (preferredColumnSize > MAX_PREFERRED_COLUMN_SIZE)
-                     preferredColumnSize = MAX_PREFERRED_COLUMN_SIZE;
-               }
-               preferredColumnSizeHashMap.put(currentHeading, Integer.valueOf(preferredColumnSize));
-            }
-            j = 0;
-            i++;
-         }
-         return true;
-      }
-      catch (SQLException e)
-      {
-         ConnectionManager.displaySQLErrors(e, "TableTabPanel_MSAccess loadTable()");
-         return false;
-      }
-      finally
-      {
-         try
-         {
-            if (rs != null)
-               rs.close();
-         }
-         catch (SQLException sqle)
-         {
-            ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_MSAccess loadTable()");
-         }
-         finally
-         {
-            try
-            {
-               if (sqlStatement != null)
-                  sqlStatement.close();
-            }
-            catch (SQLException sqle)
-            {
-               ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_MSAccess loadTable()");
+                     setCell(tableData, i, j++, rs, cellPlan, currentContentData);
             }
+
+            // Setup some sizing for the column in the summary
+            // table.
+            updatePreferredColumnSize(cellPlan, tableData, i, j - 1);
          }
+         j = 0;
+         i++;
       }
    }
    
@@ -13,7 +13,7 @@
 //
 //================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.5 07/04/2018
+// Version 1.6 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -48,6 +48,14 @@
 //             TableEntryForm to Meet New Constructor Requirments.
 //         1.5 Methods getColumnNames() & loadTable(), columnSQLTypeHashMap
 //             Proper Loading of Integer & Extracting int.
+//         1.6 Method loadTable() Replaced by createPageQuery() & loadPageData(),
+//             Keyset Pagination Through TableTabPanel Methods prepareKeyset(),
+//             getKeysetOrderBy(), getKeysetWhereClause(), & recordKeysetRow(),
+//             Search Condition Parenthesized Before the Keyset Clause. Cells Set
+//             by the TableTabPanel Cell Plans' cellType, Added Method
+//             setCellType(), & Stored in a ColumnarPage. Method getColumnNames()
+//             Use of ConnectionManager SchemaMetadataCache. Flight Recorder
+//             TableLoadEvent. Added Constructor With Argument retainedState.
 //             
 //-----------------------------------------------------------------
 //                  danap@dandymadeproductions.com
@@ -68,9 +76,11 @@ import java.util.Locale;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.datasource.SchemaMetadataCache;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionProperties;
 import com.dandymadeproductions.ajqvue.gui.forms.TableEntryForm;
 import com.dandymadeproductions.ajqvue.utilities.BlobTextKey;
+import com.dandymadeproductions.ajqvue.utilities.ColumnarPage;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 
 /**
@@ -81,7 +91,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * the mechanism to page through the database table's data.
  * 
  * @author Dana M. Proctor
- * @version 1.5 07/04/2018
+ * @version 1.6 10/18/2026
  */
 
 public class TableTabPanel_MSSQL extends TableTabPanel
@@ -89,11 +99,19 @@ public class TableTabPanel_MSSQL extends TableTabPanel
    // Class Instances.
    private static final long serialVersionUID = -1442860565425126272L;
 
+   private static final int CELL_DATETIMEOFFSET = CELL_DIALECT;
+
    public TableTabPanel_MSSQL(String table, Connection setup_dbConnection, boolean viewOnlyTable)
    {
       super(table, setup_dbConnection, viewOnlyTable);
    }
    
+   public TableTabPanel_MSSQL(String table, Connection setup_dbConnection, boolean viewOnlyTable,
+                              RetainedState retainedState)
+   {
+      super(table, setup_dbConnection, viewOnlyTable, retainedState);
+   }
+   
    //==============================================================
    // Class method to obtain the column names from the table. The
    // names are modified for display and placed into a map for
@@ -106,9 +124,10 @@ public class TableTabPanel_MSSQL extends TableTabPanel
       // Method Instances
       String sqlStatementString;
       Statement sqlStatement;
-      ResultSet rs, db_resultSet;
+      ResultSet rs;
       DatabaseMetaData dbMetaData;
       ResultSetMetaData tableMetaData;
+      SchemaMetadataCache schemaMetadataCache;
 
       String databaseName;
       String schemaName;
@@ -124,11 +143,11 @@ public class TableTabPanel_MSSQL extends TableTabPanel
       // meta data, and column names.
       
       sqlStatement = null;
-      db_resultSet = null;
       rs = null;
       
       try
       {
+         schemaMetadataCache = ConnectionManager.getSchemaMetadataCache();
          sqlStatement = dbConnection.createStatement();
          
          if (sqlTable.indexOf(".") != -1)
@@ -153,14 +172,14 @@ public class TableTabPanel_MSSQL extends TableTabPanel
          sqlStatementString = "SELECT TOP 1 * FROM " + schemaTableName;
          // System.out.println(sqlStatementString);
 
-         db_resultSet = sqlStatement.executeQuery(sqlStatementString);
+         tableMetaData = schemaMetadataCache.getTableMetaData(sqlTable, sqlStatement, sqlStatementString);
 
          // Primary Key(s)
          
          dbMetaData = dbConnection.getMetaData();
-         tableMetaData = db_resultSet.getMetaData();
 
-         rs = dbMetaData.getPrimaryKeys(databaseName, schemaName, tableName);
+         rs = schemaMetadataCache.getPrimaryKeys(sqlTable, dbMetaData, databaseName, schemaName,
+                                                 tableName);
          
          while (rs.next())
          {
@@ -175,7 +194,8 @@ public class TableTabPanel_MSSQL extends TableTabPanel
 
          // Additional Indexes
 
-         rs = dbMetaData.getIndexInfo(databaseName, schemaName, tableName, false, false);
+         rs = schemaMetadataCache.getIndexInfo(sqlTable, dbMetaData, databaseName, schemaName,
+                                               tableName, false, false);
          while (rs.next())
          {
             if (rs.getString("COLUMN_NAME") != null && rs.getString("TABLE_NAME").equals(tableName))
@@ -274,7 +294,8 @@ public class TableTabPanel_MSSQL extends TableTabPanel
          
          // Make a final check for possible foreign keys.
 
-         rs = dbMetaData.getImportedKeys(databaseName, schemaName, tableName);
+         rs = schemaMetadataCache.getImportedKeys(sqlTable, dbMetaData, databaseName, schemaName,
+                                                  tableName);
          while (rs.next())
          {
             if (rs.getString("FKCOLUMN_NAME") != null
@@ -323,58 +344,86 @@ public class TableTabPanel_MSSQL extends TableTabPanel
          }
          finally
          {
-            try
-            {
-               if (db_resultSet != null)
-                  db_resultSet.close();
-            }
-            catch (SQLException sqle)
-            {
-               ConnectionManager.displaySQLErrors(sqle, "TableTapPanel_MSSQL getColumnNames()");
-            }
-            finally
-            {
-               if (sqlStatement != null)
-                  sqlStatement.close();
-            }
+            if (sqlStatement != null)
+               sqlStatement.close();
          }
       }
    }
 
    //==============================================================
-   // Class method to load the current table's data. The routine
-   // will apply the sort and search parameters.
+   // Class method to set a cell plan's cell type for the summary
+   // table from the column's class & type name.
+   //==============================================================
+
+   protected void setCellType(CellPlan cellPlan)
+   {
+      // Method Instances
+      String columnClass;
+      String columnTypeName;
+      
+      columnClass = cellPlan.columnClass;
+      columnTypeName = cellPlan.columnTypeName;
+      
+      if (columnClass.indexOf("BigDecimal") != -1)
+         cellPlan.cellType = CELL_BIGDECIMAL;
+      
+      else if (columnTypeName.equals("DATE"))
+         cellPlan.cellType = CELL_DATE;
+      
+      else if (columnTypeName.equals("DATETIMEOFFSET"))
+         cellPlan.cellType = CELL_DATETIMEOFFSET;
+      
+      else if (columnTypeName.indexOf("DATETIME") != -1 || columnTypeName.equals("TIMESTAMP"))
+      {
+         cellPlan.cellType = CELL_TIMESTAMP;
+         cellPlan.cellPattern = "HH:mm:ss";
+      }
+      
+      // BINARY, & IMAGE
+      else if ((columnTypeName.toUpperCase(Locale.ENGLISH).indexOf("BINARY") != -1)
+               || (columnTypeName.toUpperCase(Locale.ENGLISH).indexOf("IMAGE") != -1))
+      {
+         cellPlan.cellType = CELL_LOB;
+         cellPlan.cellName = "LOB";
+      }
+      
+      else if (columnClass.indexOf("Boolean") != -1)
+         cellPlan.cellType = CELL_BOOLEAN;
+      
+      // Text & XML
+      else if (columnClass.indexOf("String") != -1 && columnTypeName.indexOf("CHAR") == -1
+               && cellPlan.columnSize > 255)
+         cellPlan.cellType = CELL_TEXT;
+   }
+
+   //==============================================================
+   // Class method to create the search condition & the SQL
+   // statements of a page. The routine will apply the sort and
+   // search parameters of the page state.
    //==============================================================
    
-   public boolean loadTable(Connection dbConnection)
+   protected PageQuery createPageQuery(PageState pageState)
    {
       // Method Instances
+      StringBuffer sqlTableStatement;
       String sqlStatementString;
       String lobLessSQLStatementString;
       StringBuffer lobLessSQLStatement;
-      Statement sqlStatement;
-      ResultSet rs;
 
       StringBuffer searchQueryString;
       String columnSearchString;
       String searchTextString;
+      String tableFieldsString;
       String lobLessFieldsString;
       String columnName;
-      String columnClass;
-      int columnSQLType;
       String columnTypeName;
-      Integer keyLength;
-      int columnSize, preferredColumnSize;
-      Object currentContentData;
 
-      // Obtain search parameters column names as needed and
-      // saving state for history.
-      
-      columnSearchString = columnNamesHashMap.get(searchComboBox.getSelectedItem());
-      searchTextString = searchTextField.getText();
+      // Obtain search parameters column names as needed.
       
-      if (historyAction)
-         saveHistory();
+      columnSearchString = pageState.searchColumn;
+      searchTextString = pageState.searchText;
+      tableFieldsString = pageState.fieldsString;
+      lobLessFieldsString = pageState.lobLessFieldsString;
 
       searchQueryString = new StringBuffer();
       if (searchTextString.equals(""))
@@ -385,7 +434,7 @@ public class TableTabPanel_MSSQL extends TableTabPanel
          if (columnSearchString == null)
          {
             String[] tableColumns;
-            tableColumns = sqlTableFieldsString.split(",");
+            tableColumns = tableFieldsString.split(",");
 
             for (int i = 0; i < tableColumns.length; i++)
             {
@@ -425,7 +474,7 @@ public class TableTabPanel_MSSQL extends TableTabPanel
          // Field specified.
          else
          {
-            columnTypeName = columnTypeNameHashMap.get(searchComboBox.getSelectedItem());
+            columnTypeName = columnTypeNameHashMap.get(pageState.searchItem);
             
             if (columnTypeName.equals("DATE"))
                searchTextString = Utils.processDateFormatSearch(searchTextString);
@@ -445,355 +494,205 @@ public class TableTabPanel_MSSQL extends TableTabPanel
       }
       // System.out.println(searchTextString);
 
-      // Connect to database to obtain the initial/new items set
-      // and then sorting that set.
-      
-      sqlStatement = null;
-      rs = null;
-      
-      try
-      {
-         lobLessFieldsString = sqlTableFieldsString;
-         
-         if (!lob_sqlTableFieldsString.equals(""))
-         {
-            String[]  lobColumns = lob_sqlTableFieldsString.split(" ");
-
-            for (int i = 0; i < lobColumns.length; i++)
-               lobLessFieldsString = lobLessFieldsString.replace(lobColumns[i], "");
-            
-            // All fields maybe lobs, so just include all. Network
-            // performance hit.
-            if (lobLessFieldsString.indexOf(identifierQuoteString) != -1)
-               lobLessFieldsString = lobLessFieldsString.substring(lobLessFieldsString.indexOf(
-                                                                          identifierQuoteString));
-            else
-               lobLessFieldsString = sqlTableFieldsString;
-            
-            lobLessFieldsString = lobLessFieldsString.replaceAll(" ,", "");
-            if (lobLessFieldsString.endsWith(", "))
-               lobLessFieldsString = lobLessFieldsString.substring(0, lobLessFieldsString.length() - 2);
-         }
-         
-         sqlTableStatement = new StringBuffer();
-         lobLessSQLStatement = new StringBuffer();
+      sqlTableStatement = new StringBuffer();
+      lobLessSQLStatement = new StringBuffer();
 
-         if (advancedSortSearch)
-         {
-            String sqlWhereString = "", lobLess_sqlWhereString = "";
-            String sqlOrderString = "", lobLess_sqlOrderString = "";
+      if (pageState.advancedSortSearch)
+      {
+         String sqlWhereString = "", lobLess_sqlWhereString = "";
+         String sqlOrderString = "", lobLess_sqlOrderString = "";
 
-            // Complete With All Fields.
-            sqlStatementString = advancedSortSearchFrame.getAdvancedSortSearchSQL(sqlTableFieldsString,
-                                             tableRowStart, tableRowLimit).toString();
-            // Summary Table Without LOBs
-            lobLessSQLStatementString = advancedSortSearchFrame.getAdvancedSortSearchSQL(lobLessFieldsString,
-                                                tableRowStart, tableRowLimit).toString();
+         // Complete With All Fields.
+         sqlStatementString = pageState.advancedSQL;
+         // Summary Table Without LOBs
+         lobLessSQLStatementString = pageState.advancedLobLessSQL;
 
-            // Clean up the standard sql to meet Oracle's lack of support
-            // for the key word LIMIT.
+         // Clean up the standard sql to meet Oracle's lack of support
+         // for the key word LIMIT.
 
-            // Collect WHERE & ORDER structure.
-            if (sqlStatementString.indexOf("WHERE") != -1)
+         // Collect WHERE & ORDER structure.
+         if (sqlStatementString.indexOf("WHERE") != -1)
+         {
+            if (sqlStatementString.indexOf("ORDER") != -1)
             {
-               if (sqlStatementString.indexOf("ORDER") != -1)
-               {
-                  sqlWhereString = sqlStatementString.substring(sqlStatementString.indexOf("WHERE"),
-                                                                sqlStatementString.indexOf("ORDER") - 1);
-                  lobLess_sqlWhereString = lobLessSQLStatementString.substring(
-                                                       lobLessSQLStatementString.indexOf("WHERE"),
-                                                       lobLessSQLStatementString.indexOf("ORDER") - 1);
-               }
-               else
-               {
-                  sqlWhereString = sqlStatementString.substring(sqlStatementString.indexOf("WHERE"),
-                                                                sqlStatementString.indexOf("LIMIT") - 1);
-                  lobLess_sqlWhereString = lobLessSQLStatementString.substring(
-                                                     lobLessSQLStatementString.indexOf("WHERE"),
-                                                     lobLessSQLStatementString.indexOf("LIMIT") - 1);
-               }
+               sqlWhereString = sqlStatementString.substring(sqlStatementString.indexOf("WHERE"),
+                                                             sqlStatementString.indexOf("ORDER") - 1);
+               lobLess_sqlWhereString = lobLessSQLStatementString.substring(
+                                                    lobLessSQLStatementString.indexOf("WHERE"),
+                                                    lobLessSQLStatementString.indexOf("ORDER") - 1);
             }
-            if (sqlStatementString.indexOf("ORDER") != -1)
+            else
             {
-               sqlOrderString = sqlStatementString.substring(sqlStatementString.indexOf("ORDER"),
+               sqlWhereString = sqlStatementString.substring(sqlStatementString.indexOf("WHERE"),
                                                              sqlStatementString.indexOf("LIMIT") - 1);
-               lobLess_sqlOrderString = lobLessSQLStatementString.substring(
-                                                     lobLessSQLStatementString.indexOf("ORDER"),
-                                                     lobLessSQLStatementString.indexOf("LIMIT") - 1);
+               lobLess_sqlWhereString = lobLessSQLStatementString.substring(
+                                                  lobLessSQLStatementString.indexOf("WHERE"),
+                                                  lobLessSQLStatementString.indexOf("LIMIT") - 1);
             }
-            
-            // Finish creating modifed SQL.
-            sqlTableStatement.append(sqlStatementString.substring(0, sqlStatementString.indexOf("FROM") + 5));
-            lobLessSQLStatement.append(lobLessSQLStatementString.substring(0, lobLessSQLStatementString.indexOf("FROM") + 5));
-
-            sqlTableStatement.append("(SELECT " + sqlTableFieldsString + ", ROW_NUMBER() "
-                                  + ((sqlOrderString.equals("")) ? ("OVER (ORDER BY "
-                                  + (sqlTableFieldsString.indexOf(",") != -1 ?
-                                                        sqlTableFieldsString.substring(0, sqlTableFieldsString.indexOf(','))
-                                                                             :
-                                                        sqlTableFieldsString)
-                                  + ") ")
-                                                                 : ("OVER (" + sqlOrderString + ") "))
-                                  + "AS dmprownumber "
-                                  + "FROM " + schemaTableName + " AS t " + sqlWhereString + ") AS t1 "
-                                  + "WHERE t1.dmprownumber BETWEEN " + (tableRowStart + 1) + " AND "
-                                  + (tableRowStart + tableRowLimit));
-            
-            lobLessSQLStatement.append("(SELECT " + lobLessFieldsString + ", ROW_NUMBER() "
-                                         + ((lobLess_sqlOrderString.equals("")) ? ("OVER (ORDER BY "
-                                         + (lobLessFieldsString.indexOf(",") != -1 ?
-                                                        lobLessFieldsString.substring(0, lobLessFieldsString.indexOf(','))
-                                                                                  :
-                                                        lobLessFieldsString)
-                                         + ") ")
-                                              : ("OVER (" + lobLess_sqlOrderString + ") "))
-                                         + "AS dmprownumber "
-                                         + "FROM " + schemaTableName + " AS t " + lobLess_sqlWhereString + ") AS t1 "
-                                         + "WHERE t1.dmprownumber BETWEEN " + (tableRowStart + 1) + " AND "
-                                         + (tableRowStart + tableRowLimit));
-            
          }
-         else
+         if (sqlStatementString.indexOf("ORDER") != -1)
          {
-            sqlTableStatement.append("SELECT " + sqlTableFieldsString + " FROM "
-                  + "(SELECT " + sqlTableFieldsString + ", ROW_NUMBER() OVER "
-                  + "(ORDER BY t." + identifierQuoteString
-                  + columnNamesHashMap.get(sortComboBox.getSelectedItem())
-                  + identifierQuoteString + " " + ascDescString + ") " + "AS dmprownumber "
-                  + "FROM " + schemaTableName + " AS t " + "WHERE "
-                  + searchQueryString.toString() + ") AS t1 " + "WHERE t1.dmprownumber BETWEEN "
-                  + (tableRowStart + 1) + " AND " + (tableRowStart + tableRowLimit));
-
-            lobLessSQLStatement.append("SELECT " + lobLessFieldsString + " FROM "
-                         + "(SELECT " + lobLessFieldsString + ", ROW_NUMBER() OVER "
-                         + "(ORDER BY t." + identifierQuoteString
-                         + columnNamesHashMap.get(sortComboBox.getSelectedItem())
-                         + identifierQuoteString + " " + ascDescString + ") " + "AS dmprownumber "
-                         + "FROM " + schemaTableName + " AS t " + "WHERE "
-                         + searchQueryString.toString() + ") AS t1 " + "WHERE t1.dmprownumber BETWEEN "
-                         + (tableRowStart + 1) + " AND " + (tableRowStart + tableRowLimit));
+            sqlOrderString = sqlStatementString.substring(sqlStatementString.indexOf("ORDER"),
+                                                          sqlStatementString.indexOf("LIMIT") - 1);
+            lobLess_sqlOrderString = lobLessSQLStatementString.substring(
+                                                  lobLessSQLStatementString.indexOf("ORDER"),
+                                                  lobLessSQLStatementString.indexOf("LIMIT") - 1);
          }
-         // System.out.println(sqlTableStatement);
-         // System.out.println(lobLessSQLStatement.toString());
          
-         if (dbConnection == null)
-            return false;
+         // Finish creating modifed SQL.
+         sqlTableStatement.append(sqlStatementString.substring(0, sqlStatementString.indexOf("FROM") + 5));
+         lobLessSQLStatement.append(lobLessSQLStatementString.substring(0, lobLessSQLStatementString.indexOf("FROM") + 5));
+
+         sqlTableStatement.append("(SELECT " + tableFieldsString + ", ROW_NUMBER() "
+                               + ((sqlOrderString.equals("")) ? ("OVER (ORDER BY "
+                               + (tableFieldsString.indexOf(",") != -1 ?
+                                                     tableFieldsString.substring(0, tableFieldsString.indexOf(','))
+                                                                          :
+                                                     tableFieldsString)
+                               + ") ")
+                                                              : ("OVER (" + sqlOrderString + ") "))
+                               + "AS dmprownumber "
+                               + "FROM " + schemaTableName + " AS t " + sqlWhereString + ") AS t1 "
+                               + "WHERE t1.dmprownumber BETWEEN " + (pageState.rowStart + 1) + " AND "
+                               + (pageState.rowStart + pageState.rowLimit));
          
-         sqlStatement = dbConnection.createStatement();
-         rs = sqlStatement.executeQuery(lobLessSQLStatement.toString());
+         lobLessSQLStatement.append("(SELECT " + lobLessFieldsString + ", ROW_NUMBER() "
+                                      + ((lobLess_sqlOrderString.equals("")) ? ("OVER (ORDER BY "
+                                      + (lobLessFieldsString.indexOf(",") != -1 ?
+                                                     lobLessFieldsString.substring(0, lobLessFieldsString.indexOf(','))
+                                                                               :
+                                                     lobLessFieldsString)
+                                      + ") ")
+                                           : ("OVER (" + lobLess_sqlOrderString + ") "))
+                                      + "AS dmprownumber "
+                                      + "FROM " + schemaTableName + " AS t " + lobLess_sqlWhereString
+                                      + ") AS t1 "
+                                      + "WHERE t1.dmprownumber BETWEEN " + (pageState.rowStart + 1) + " AND "
+                                      + (pageState.rowStart + pageState.rowLimit));
+         
+      }
+      else
+      {
+         sqlTableStatement.append("SELECT " + tableFieldsString + " FROM "
+               + "(SELECT " + tableFieldsString + ", ROW_NUMBER() OVER "
+               + "(ORDER BY " + getKeysetOrderBy(pageState) + ") " + "AS dmprownumber "
+               + "FROM " + schemaTableName + " AS t " + "WHERE "
+               + searchQueryString.toString() + ") AS t1 " + "WHERE t1.dmprownumber BETWEEN "
+               + (pageState.rowStart + 1) + " AND " + (pageState.rowStart + pageState.rowLimit));
+
+         lobLessSQLStatement.append("SELECT " + lobLessFieldsString + " FROM "
+                      + "(SELECT " + lobLessFieldsString + ", ROW_NUMBER() OVER "
+                      + "(ORDER BY " + getKeysetOrderBy(pageState) + ") " + "AS dmprownumber "
+                      + "FROM " + schemaTableName + " AS t " + "WHERE ("
+                      + searchQueryString.toString() + ")" + getKeysetWhereClause(pageState)
+                      + ") AS t1 " + "WHERE t1.dmprownumber BETWEEN "
+                      + (getLoadRowStart(pageState) + 1) + " AND " + (getLoadRowStart(pageState)
+                      + pageState.rowLimit));
+      }
+      // System.out.println(sqlTableStatement);
+      // System.out.println(lobLessSQLStatement.toString());
+      
+      return new PageQuery(searchQueryString.toString(), sqlTableStatement.toString(),
+                           lobLessSQLStatement.toString());
+   }
+   
+   //==============================================================
+   // Class method to load a page's table data from the result set
+   // of its query.
+   //==============================================================
+   
+   protected void loadPageData(ResultSet rs, Page page) throws SQLException
+   {
+      // Method Instances
+      ColumnarPage tableData;
+      CellPlan cellPlan;
+      CellPlan[] cellPlans;
+      Object currentContentData;
 
-         // Placing the results columns desired into the table that
-         // will be display to the user.
+      // Placing the results columns desired into the table that
+      // will be display to the user.
 
-         int i = 0;
-         int j = 0;
+      int i = 0;
+      int j = 0;
 
-         tableData = new Object[tableRowLimit][currentTableHeadings.size()];
+      tableData = page.tableData;
 
-         while (rs.next())
+      cellPlans = page.cellPlans;
+
+      while (rs.next())
+      {
+         tableData.addRow();
+         recordKeysetRow(rs, i, page);
+
+         for (int k = 0; k < cellPlans.length; k++)
          {
-            Iterator<String> headings = currentTableHeadings.iterator();
-            while (headings.hasNext())
-            {
-               String currentHeading = headings.next();
-               columnName = columnNamesHashMap.get(currentHeading);
-               columnClass = columnClassHashMap.get(currentHeading);
-               columnSQLType = columnSQLTypeHashMap.get(currentHeading).intValue();
-               columnTypeName = columnTypeNameHashMap.get(currentHeading);
-               columnSize = (columnSizeHashMap.get(currentHeading)).intValue();
-               keyLength = keyLengthHashMap.get(columnName);
-               preferredColumnSize = (preferredColumnSizeHashMap.get(currentHeading)).intValue();
-
-               // System.out.println(i + " " + j + " " + currentHeading + " " +
-               //                    columnName + " " + columnClass + " " +
-               //                    columnSQLType + " " + columnTypeName + " " +
-               //                    columnSize + " " + preferredColumnSize + " " + keyLength);
-
-               // Storing data appropriately. If you have some date
-               // or other formating, for a field here is where you
-               // can take care of it.
-
-               if (lobDataTypesHashMap.containsKey(currentHeading))
-                  currentContentData = "lob";
-               else
-                  currentContentData = rs.getObject(columnName);
-               // System.out.println(currentContentData);
+            cellPlan = cellPlans[k];
 
-               if (currentContentData != null)
+            // System.out.println(i + " " + j + " " + cellPlan.heading + " " +
+            //                    cellPlan.cellType + " " + cellPlan.preferredColumnSize);
+
+            // Storing data appropriately by the cell type set
+            // for the column in setCellType(). If you have some
+            // date or other formating, for a field here is where
+            // you can take care of it.
+
+            if (cellPlan.lob)
+               currentContentData = "lob";
+            else
+               currentContentData = rs.getObject(cellPlan.columnIndex);
+
+            if (currentContentData != null)
+            {
+               switch (cellPlan.cellType)
                {
-                  // =============================================
-                  // BigDecimal
-                  if (columnClass.indexOf("BigDecimal") != -1)
-                     tableData[i][j++] = new BigDecimal(rs.getString(columnName));
-
-                  // =============================================
-                  // Date
-                  else if (columnTypeName.equals("DATE"))
-                  {
-                     currentContentData = rs.getDate(columnName);
-                     String displayDate = displayMyDateString(currentContentData + "");
-                     tableData[i][j++] = displayDate;
-                  }
-                  
-                  // =============================================
-                  // Datetime Offset
-                  else if (columnTypeName.equals("DATETIMEOFFSET"))
+                  case CELL_BIGDECIMAL:
+                     tableData.setObject(i, j++, new BigDecimal(rs.getString(cellPlan.columnIndex)));
+                     break;
+                  case CELL_DATE:
+                     setTemporalCell(tableData, i, j++, rs.getDate(cellPlan.columnIndex));
+                     break;
+                  case CELL_DATETIMEOFFSET:
                   {
                      String dateString, timeString;
-                     
+
                      dateString = currentContentData + "";
                      dateString = dateString.substring(0, (dateString.indexOf(" ")));
                      dateString = displayMyDateString(dateString);
 
                      timeString = currentContentData + "";
                      timeString = timeString.substring(timeString.indexOf(" "));
-                     
-                     tableData[i][j++] = dateString + timeString;
-                  }
-                  
-                  // =============================================
-                  // Datetime
-                  else if (columnTypeName.indexOf("DATETIME") != -1)
-                  {
-                     currentContentData = rs.getTimestamp(columnName);
-                     // System.out.println(currentContentData);
-                     
-                     tableData[i][j++] = (new SimpleDateFormat(
-                        DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
-                        + " HH:mm:ss").format(currentContentData));
-                  }
-
-                  // =============================================
-                  // Timestamps
-                  else if (columnTypeName.equals("TIMESTAMP"))
-                  {
-                     currentContentData = rs.getTimestamp(columnName);
-                     tableData[i][j++] = (new SimpleDateFormat(
-                                           DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
-                                           + " HH:mm:ss").format(currentContentData));
-                  }
-                  
-                  // =============================================
-                  // BINARY, & IMAGE
-                  else if ((columnTypeName.toUpperCase(Locale.ENGLISH).indexOf("BINARY") != -1)
-                            || (columnTypeName.toUpperCase(Locale.ENGLISH).indexOf("IMAGE") != -1))
-                  {
-                     // Handles a key Blob
-                     if (keyLength != null)
-                     {
-                        BlobTextKey currentBlobElement = new BlobTextKey();
-                        currentBlobElement.setName("LOB");
-
-                        String content = rs.getString(columnName);
-
-                        if (content.length() > keyLength.intValue())
-                           content = content.substring(0, keyLength.intValue());
-
-                        currentBlobElement.setContent(content);
-                        tableData[i][j++] = currentBlobElement;
-                     }
-                     else
-                     {
-                        tableData[i][j++] = "LOB";
-                     }
-                  }
-
-                  // =============================================
-                  // Boolean
-                  else if (columnClass.indexOf("Boolean") != -1)
-                  {
-                     tableData[i][j++] = rs.getString(columnName);
-                  }
-
-                  // =============================================
-                  // Text & XML
-                  else if (columnClass.indexOf("String") != -1 && columnTypeName.indexOf("CHAR") == -1
-                           && columnSize > 255)
-                  {
-                     String stringName;
-                     stringName = (String) currentContentData;
-
-                     // Handles a key String
-                     if (keyLength != null)
-                     {
-                        BlobTextKey currentBlobElement = new BlobTextKey();
-                        currentBlobElement.setName(stringName);
-
-                        String content = rs.getString(columnName);
-
-                        if (content.length() > keyLength.intValue())
-                           content = content.substring(0, keyLength.intValue());
 
-                        currentBlobElement.setContent(content);
-                        tableData[i][j++] = currentBlobElement;
-                     }
-                     else
-                     {
-                        // Limit Table Cell Memory Usage.
-                        if (stringName.length() > 512)
-                           tableData[i][j++] = stringName.substring(0, 512);
-                        else
-                           tableData[i][j++] = stringName;
-                     }
-                  }
-
-                  // =============================================
-                  // Any Other
-                  else
-                  {
-                     tableData[i][j++] = rs.getString(columnName);
-                     // tableData[i][j++] = currentContentData;
+                     tableData.setObject(i, j++, dateString + timeString);
+                     break;
                   }
+                  case CELL_TIMESTAMP:
+                     setTemporalCell(tableData, i, j++, rs.getTimestamp(cellPlan.columnIndex));
+                     break;
+                  case CELL_LOB:
+                     tableData.setObject(i, j++, getLobCell(rs, cellPlan));
+                     break;
+                  case CELL_BOOLEAN:
+                     tableData.setObject(i, j++, rs.getString(cellPlan.columnIndex));
+                     break;
+                  case CELL_TEXT:
+                     tableData.setObject(i, j++, getTextCell(rs, cellPlan, (String) currentContentData));
+                     break;
+                  default:
+                     setCell(tableData, i, j++, rs, cellPlan, currentContentData);
                }
-               // Null Data
-               else
-               {
-                  tableData[i][j++] = "NULL";
-               }
-
-               // Setup some sizing for the column in the summary
-               // table.
-               if ((tableData[i][j - 1] + "").trim().length() * columnSizeScaling > preferredColumnSize)
-               {
-                  preferredColumnSize = (tableData[i][j - 1] + "").trim().length() * columnSizeScaling;
-                  if (preferredColumnSize > MAX_PREFERRED_COLUMN_SIZE)
-                     preferredColumnSize = MAX_PREFERRED_COLUMN_SIZE;
-               }
-               preferredColumnSizeHashMap.put(currentHeading, Integer.valueOf(preferredColumnSize));
             }
-            j = 0;
-            i++;
-         }
-         return true;
-      }
-      catch (SQLException e)
-      {
-         ConnectionManager.displaySQLErrors(e, "TableTapPanel_MSSQL loadTable()");
-         return false;
-      }
-      finally
-      {
-         try
-         {
-            if (rs != null)
-               rs.close();
-         }
-         catch (SQLException sqle)
-         {
-            ConnectionManager.displaySQLErrors(sqle, "TableTapPanel_MSSQL loadTable()");
-         }
-         finally
-         {
-            try
-            {
-               if (sqlStatement != null)
-                  sqlStatement.close();
-            }
-            catch (SQLException sqle)
+            // Null Data
+            else
             {
-               ConnectionManager.displaySQLErrors(sqle, "TableTapPanel_MSSQL loadTable()");
+               tableData.setNull(i, j++);
             }
+
+            // Setup some sizing for the column in the summary
+            // table.
+            updatePreferredColumnSize(cellPlan, tableData, i, j - 1);
          }
+         j = 0;
+         i++;
       }
    }
    
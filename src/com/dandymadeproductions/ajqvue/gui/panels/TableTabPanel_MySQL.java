@@ -13,7 +13,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.5 07/29/2018
+// Version 1.6 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -49,6 +49,14 @@
 //             Proper Loading of Integer & Extracting int.
 //         1.5 Method getColumnNames() Additional Indexes Only Added Columns
 //             That primaryKeys Does Not Currently Hold.
+//         1.6 Method loadTable() Replaced by createPageQuery() & loadPageData(),
+//             Keyset Pagination Through TableTabPanel Methods prepareKeyset(),
+//             getKeysetOrderBy(), getKeysetWhereClause(), & recordKeysetRow(),
+//             Search Condition Parenthesized Before the Keyset Clause. Cells Set
+//             by the TableTabPanel Cell Plans' cellType, Added Method
+//             setCellType(), & Stored in a ColumnarPage. Method getColumnNames()
+//             Use of ConnectionManager SchemaMetadataCache. Flight Recorder
+//             TableLoadEvent. Added Constructor With Argument retainedState.
 //        
 //-----------------------------------------------------------------
 //                danap@dandymadeproductions.com
@@ -68,8 +76,10 @@ import java.util.Locale;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.datasource.SchemaMetadataCache;
 import com.dandymadeproductions.ajqvue.gui.forms.TableEntryForm;
 import com.dandymadeproductions.ajqvue.utilities.BlobTextKey;
+import com.dandymadeproductions.ajqvue.utilities.ColumnarPage;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 
 /**
@@ -80,7 +90,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * through the database table's data.
  * 
  * @author Dana M. Proctor
- * @version 1.5 07/29/2018
+ * @version 1.6 10/18/2026
  */
 
 public class TableTabPanel_MySQL extends TableTabPanel
@@ -88,10 +98,18 @@ public class TableTabPanel_MySQL extends TableTabPanel
    // Class Instances.
    private static final long serialVersionUID = -4690993550530323109L;
 
+   private static final int CELL_BIT = CELL_DIALECT;
+
    public TableTabPanel_MySQL(String table, Connection setup_dbConnection, boolean viewOnlyTable)
    {
       super(table, setup_dbConnection, viewOnlyTable);
    }
+   
+   public TableTabPanel_MySQL(String table, Connection setup_dbConnection, boolean viewOnlyTable,
+                              RetainedState retainedState)
+   {
+      super(table, setup_dbConnection, viewOnlyTable, retainedState);
+   }
 
    //==============================================================
    // Class method to obtain the column names from the table. The
@@ -107,6 +125,7 @@ public class TableTabPanel_MySQL extends TableTabPanel
       Statement sqlStatement;
       ResultSet db_resultSet;
       ResultSetMetaData tableMetaData;
+      SchemaMetadataCache schemaMetadataCache;
 
       String colNameString;
       String comboBoxNameString;
@@ -125,6 +144,7 @@ public class TableTabPanel_MySQL extends TableTabPanel
       
       try
       {
+         schemaMetadataCache = ConnectionManager.getSchemaMetadataCache();
          sqlStatement = dbConnection.createStatement();
 
          // ====================================================
@@ -134,14 +154,12 @@ public class TableTabPanel_MySQL extends TableTabPanel
          sqlStatementString = "SELECT * FROM " + schemaTableName + " LIMIT 1";
          // System.out.println(sqlStatementString);
 
-         db_resultSet = sqlStatement.executeQuery(sqlStatementString);
-         tableMetaData = db_resultSet.getMetaData();
-         db_resultSet.close();
+         tableMetaData = schemaMetadataCache.getTableMetaData(sqlTable, sqlStatement, sqlStatementString);
 
          // Primary key(s) & special fields.
 
          sqlStatementString = "DESCRIBE " + schemaTableName;
-         db_resultSet = sqlStatement.executeQuery(sqlStatementString);
+         db_resultSet = schemaMetadataCache.executeQuery(sqlTable, sqlStatement, sqlStatementString);
 
          while (db_resultSet.next())
          {
@@ -171,7 +189,7 @@ public class TableTabPanel_MySQL extends TableTabPanel
          // Additional Indexes
 
          sqlStatementString = "SHOW INDEX FROM " + schemaTableName;
-         db_resultSet = sqlStatement.executeQuery(sqlStatementString);
+         db_resultSet = schemaMetadataCache.executeQuery(sqlTable, sqlStatement, sqlStatementString);
 
          while (db_resultSet.next())
          {
@@ -299,37 +317,125 @@ public class TableTabPanel_MySQL extends TableTabPanel
    }
 
    //==============================================================
-   // Class method to load the current table's data. The routine
-   // will apply the sort and search parameters.
+   // Class method to set a cell plan's cell type for the summary
+   // table from the column's class & type name.
+   //==============================================================
+
+   protected void setCellType(CellPlan cellPlan)
+   {
+      // Method Instances
+      String columnClass;
+      String columnTypeName;
+      
+      columnClass = cellPlan.columnClass;
+      columnTypeName = cellPlan.columnTypeName;
+      
+      if (columnClass.indexOf("BigDecimal") != -1)
+         cellPlan.cellType = CELL_BIGDECIMAL;
+      
+      else if (columnTypeName.equals("DATE"))
+         cellPlan.cellType = CELL_DATE;
+      
+      else if (columnTypeName.equals("DATETIME"))
+      {
+         cellPlan.cellType = CELL_TIMESTAMP;
+         cellPlan.cellPattern = "HH:mm:ss";
+      }
+      
+      else if (columnTypeName.equals("TIMESTAMP"))
+      {
+         cellPlan.cellType = CELL_DATETIME;
+         
+         if (cellPlan.columnSize == 2)
+            cellPlan.cellPattern = "yy";
+         else if (cellPlan.columnSize == 4)
+            cellPlan.cellPattern = "MM-yy";
+         else if (cellPlan.columnSize == 6)
+            cellPlan.cellPattern = "MM-dd-yy";
+         else if (cellPlan.columnSize == 8)
+            cellPlan.cellPattern = "MM-dd-yyyy";
+         else if (cellPlan.columnSize == 10)
+            cellPlan.cellPattern = "MM-dd-yy HH:mm";
+         else if (cellPlan.columnSize == 12)
+            cellPlan.cellPattern = "MM-dd-yyyy HH:mm";
+         // All current coloumnSizes for MySQL > 5.0 Should be 19.
+         else
+         {
+            cellPlan.cellType = CELL_TIMESTAMP;
+            cellPlan.cellPattern = "HH:mm:ss";
+         }
+      }
+      
+      else if (columnTypeName.equals("YEAR"))
+         cellPlan.cellType = CELL_YEAR;
+      
+      else if (columnClass.indexOf("String") == -1 && columnTypeName.indexOf("BLOB") != -1)
+      {
+         cellPlan.cellType = CELL_LOB;
+         
+         if (cellPlan.columnSize == 255)
+            cellPlan.cellName = "Tiny Blob";
+         else if (cellPlan.columnSize == 65535)
+            cellPlan.cellName = "Blob";
+         else if (cellPlan.columnSize == 16777215)
+            cellPlan.cellName = "Medium Blob";
+         else if (cellPlan.columnSize > 16777215)
+            cellPlan.cellName = "Long Blob";
+         else
+            cellPlan.cellName = "Blob";
+      }
+      
+      else if (columnClass.indexOf("Boolean") != -1)
+         cellPlan.cellType = CELL_BOOLEAN;
+      
+      else if (columnTypeName.indexOf("BIT") != -1)
+         cellPlan.cellType = CELL_BIT;
+      
+      // Text
+      else if (columnClass.indexOf("String") != -1 && !columnTypeName.equals("CHAR")
+               && cellPlan.columnSize > 255)
+      {
+         if (cellPlan.columnSize <= 65535)
+            cellPlan.cellType = CELL_TEXT;
+         else
+         {
+            cellPlan.cellType = CELL_LOB;
+            
+            if (cellPlan.columnSize == 16777215)
+               cellPlan.cellName = "Medium Text";
+            else
+               cellPlan.cellName = "Long Text";
+         }
+      }
+   }
+
+   //==============================================================
+   // Class method to create the search condition & the SQL
+   // statements of a page. The routine will apply the sort and
+   // search parameters of the page state.
    //==============================================================
 
-   public boolean loadTable(Connection dbConnection)
+   protected PageQuery createPageQuery(PageState pageState)
    {
       // Method Instances
+      StringBuffer sqlTableStatement;
       StringBuffer lobLessSQLStatement;
-      Statement sqlStatement;
-      ResultSet rs;
 
       StringBuffer searchQueryString;
       String columnSearchString;
       String searchTextString;
+      String tableFieldsString;
       String lobLessFieldsString;
       String columnName;
-      String columnClass;
-      int columnSQLType;
       String columnTypeName;
-      Integer keyLength;
-      int columnSize, preferredColumnSize;
-      Object currentContentData;
       
       // Obtain search parameters column names as needed & saving
       // state for history.
       
-      columnSearchString = columnNamesHashMap.get(searchComboBox.getSelectedItem());
-      searchTextString = searchTextField.getText();
-      
-      if (historyAction)
-         saveHistory();
+      columnSearchString = pageState.searchColumn;
+      searchTextString = pageState.searchText;
+      tableFieldsString = pageState.fieldsString;
+      lobLessFieldsString = pageState.lobLessFieldsString;
       
       searchQueryString = new StringBuffer();
       if (searchTextString.equals(""))
@@ -340,7 +446,7 @@ public class TableTabPanel_MySQL extends TableTabPanel
          if (columnSearchString == null)
          {
             String[] tableColumns;
-            tableColumns = sqlTableFieldsString.split(",");
+            tableColumns = tableFieldsString.split(",");
             
             for (int i = 0; i < tableColumns.length; i++)
             {
@@ -381,7 +487,7 @@ public class TableTabPanel_MySQL extends TableTabPanel
          // Field specified.
          else
          {
-            columnTypeName = columnTypeNameHashMap.get(searchComboBox.getSelectedItem());
+            columnTypeName = columnTypeNameHashMap.get(pageState.searchItem);
             
             if (columnTypeName.equals("DATE"))
                searchTextString = Utils.processDateFormatSearch(searchTextString);
@@ -407,232 +513,110 @@ public class TableTabPanel_MySQL extends TableTabPanel
       }
       // System.out.println(searchQueryString);
 
-      // Connect to database to obtain the initial/new items set
-      // and then sorting that set.
+      sqlTableStatement = new StringBuffer();
+      lobLessSQLStatement = new StringBuffer();
       
-      sqlStatement = null;
-      rs = null;
-      
-      try
+      if (pageState.advancedSortSearch)
       {
-         lobLessFieldsString = sqlTableFieldsString;
+         // Complete With All Fields.
+         sqlTableStatement.append(pageState.advancedSQL);
+         // Summary Table Without LOBs
+         lobLessSQLStatement.append(pageState.advancedLobLessSQL);
+      }
+      else
+      {
+         // Complete With All Fields.
+         sqlTableStatement.append("SELECT " + tableFieldsString + " FROM " + schemaTableName
+                                   + " " + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
+                                   + getKeysetOrderBy(pageState) + " " + "LIMIT "
+                                   + pageState.rowLimit + " " + "OFFSET " + pageState.rowStart);
          
-         if (!lob_sqlTableFieldsString.equals(""))
-         {
-            String[]  lobColumns = lob_sqlTableFieldsString.split(" ");
+         // Summary Table Without LOBs
+         lobLessSQLStatement.append("SELECT " + lobLessFieldsString + " FROM " + schemaTableName
+                                     + " " + "WHERE (" + searchQueryString.toString() + ")"
+                                     + getKeysetWhereClause(pageState)
+                                     + " " + "ORDER BY "
+                                     + getKeysetOrderBy(pageState) + " " + "LIMIT "
+                                     + pageState.rowLimit + " " + "OFFSET " + getLoadRowStart(pageState));
+      }
+      // System.out.println(sqlTableStatement);
+      // System.out.println(lobLessSQLStatement);
+      
+      return new PageQuery(searchQueryString.toString(), sqlTableStatement.toString(),
+                           lobLessSQLStatement.toString());
+   }
+   
+   //==============================================================
+   // Class method to load a page's table data from the result set
+   // of its query.
+   //==============================================================
+   
+   protected void loadPageData(ResultSet rs, Page page) throws SQLException
+   {
+      // Method Instances
+      ColumnarPage tableData;
+      CellPlan cellPlan;
+      CellPlan[] cellPlans;
+      Object currentContentData;
 
-            for (int i = 0; i < lobColumns.length; i++)
-               lobLessFieldsString = lobLessFieldsString.replace(lobColumns[i], "");
+      // Placing the results columns desired into the table that
+      // will be display to the user.
 
-            // All fields maybe lobs, so just include all. Network
-            // performance hit.
-            if (lobLessFieldsString.indexOf(identifierQuoteString) != -1)
-               lobLessFieldsString = lobLessFieldsString.substring(lobLessFieldsString.indexOf(
-                                                                          identifierQuoteString));
-            else
-               lobLessFieldsString = sqlTableFieldsString;
-            
-            lobLessFieldsString = lobLessFieldsString.replaceAll(" ,", "");
-            if (lobLessFieldsString.endsWith(", "))
-               lobLessFieldsString = lobLessFieldsString.substring(0, lobLessFieldsString.length() - 2);
-         }
-         
-         sqlTableStatement = new StringBuffer();
-         lobLessSQLStatement = new StringBuffer();
-         
-         if (advancedSortSearch)
-         {
-            // Complete With All Fields.
-            sqlTableStatement.append(advancedSortSearchFrame.getAdvancedSortSearchSQL(sqlTableFieldsString,
-                                             tableRowStart, tableRowLimit));
-            // Summary Table Without LOBs
-            lobLessSQLStatement.append(advancedSortSearchFrame.getAdvancedSortSearchSQL(lobLessFieldsString,
-                                             tableRowStart, tableRowLimit));
-         }
-         else
-         {
-            // Complete With All Fields.
-            sqlTableStatement.append("SELECT " + sqlTableFieldsString + " FROM " + schemaTableName
-                                      + " " + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
-                                      + identifierQuoteString
-                                      + columnNamesHashMap.get(sortComboBox.getSelectedItem())
-                                      + identifierQuoteString + " " + ascDescString + " " + "LIMIT "
-                                      + tableRowLimit + " " + "OFFSET " + tableRowStart);
-            
-            // Summary Table Without LOBs
-            lobLessSQLStatement.append("SELECT " + lobLessFieldsString + " FROM " + schemaTableName
-                                        + " " + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
-                                        + identifierQuoteString
-                                        + columnNamesHashMap.get(sortComboBox.getSelectedItem())
-                                        + identifierQuoteString + " " + ascDescString + " " + "LIMIT "
-                                        + tableRowLimit + " " + "OFFSET " + tableRowStart);
-         }
-         // System.out.println(sqlTableStatement);
-         // System.out.println(lobLessSQLStatement);
-         
-         if (dbConnection == null)
-            return false;
-         
-         sqlStatement = dbConnection.createStatement();
-         rs = sqlStatement.executeQuery(lobLessSQLStatement.toString());
+      int i = 0;
+      int j = 0;
 
-         // Placing the results columns desired into the table that
-         // will be display to the user.
+      tableData = page.tableData;
 
-         int i = 0;
-         int j = 0;
+      cellPlans = page.cellPlans;
 
-         tableData = new Object[tableRowLimit][currentTableHeadings.size()];
+      while (rs.next())
+      {
+         tableData.addRow();
+         recordKeysetRow(rs, i, page);
 
-         while (rs.next())
+         for (int k = 0; k < cellPlans.length; k++)
          {
-            Iterator<String> headings = currentTableHeadings.iterator();
-            while (headings.hasNext())
-            {
-               String currentHeading = headings.next();
-               columnName = columnNamesHashMap.get(currentHeading);
-               columnClass = columnClassHashMap.get(currentHeading);
-               columnSQLType = (columnSQLTypeHashMap.get(currentHeading)).intValue();
-               columnTypeName = columnTypeNameHashMap.get(currentHeading);
-               columnSize = (columnSizeHashMap.get(currentHeading)).intValue();
-               keyLength = keyLengthHashMap.get(columnName);
-               preferredColumnSize = (preferredColumnSizeHashMap.get(currentHeading)).intValue();
-
-               // System.out.println(i + " " + j + " " + currentHeading + " " +
-               //                    columnName + " " + columnClass + " " +
-               //                    columnSQLType + " " + columnTypeName + " " +
-               //                    columnSize + " " + preferredColumnSize + " " + keyLength);
-
-               // Storing data appropriately. If you have some date
-               // or other formating, for a field here is where you
-               // can take care of it.
-
-               if (lobDataTypesHashMap.containsKey(currentHeading))
-                  currentContentData = "lob";
-               else
-                  currentContentData = rs.getObject(columnName);
-
-               if (currentContentData != null)
-               {
-                  // =============================================
-                  // BigDecimal
-                  if (columnClass.indexOf("BigDecimal") != -1)
-                     tableData[i][j++] = new BigDecimal(rs.getString(columnName));
-
-                  // =============================================
-                  // Date
-                  else if (columnTypeName.equals("DATE"))
-                  {
-                     currentContentData = rs.getDate(columnName);
-                     String displayDate = displayMyDateString(currentContentData + "");
-                     tableData[i][j++] = displayDate;
-                  }
-
-                  // =============================================
-                  // Datetime
-                  else if (columnTypeName.equals("DATETIME"))
-                  {
-                     currentContentData = rs.getTimestamp(columnName);
-                     // System.out.println(currentContentData);
-                     
-                     tableData[i][j++] = (new SimpleDateFormat(
-                        DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
-                        + " HH:mm:ss").format(currentContentData));
-                  }
-
-                  // =============================================
-                  // Timestamp
-                  else if (columnTypeName.equals("TIMESTAMP"))
-                  {
-                     currentContentData = rs.getTimestamp(columnName);
-                     // System.out.println(currentContentData);
-
-                     if (columnSize == 2)
-                        tableData[i][j++] = (new SimpleDateFormat("yy").format(currentContentData));
-                     else if (columnSize == 4)
-                        tableData[i][j++] = (new SimpleDateFormat("MM-yy").format(currentContentData));
-                     else if (columnSize == 6)
-                        tableData[i][j++] = (new SimpleDateFormat("MM-dd-yy").format(currentContentData));
-                     else if (columnSize == 8)
-                        tableData[i][j++] = (new SimpleDateFormat("MM-dd-yyyy").format(currentContentData));
-                     else if (columnSize == 10)
-                        tableData[i][j++] = (new SimpleDateFormat("MM-dd-yy HH:mm")
-                              .format(currentContentData));
-                     else if (columnSize == 12)
-                        tableData[i][j++] = (new SimpleDateFormat("MM-dd-yyyy HH:mm")
-                              .format(currentContentData));
-                     // All current coloumnSizes for MySQL > 5.0 Should be 19.
-                     else
-                        tableData[i][j++] = (new SimpleDateFormat(
-                           DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
-                           + " HH:mm:ss").format(currentContentData));
-                  }
-
-                  // =============================================
-                  // Year
-                  else if (columnTypeName.equals("YEAR"))
-                  {
-                     String displayYear = currentContentData + "";
-                     displayYear = displayYear.trim();
-
-                     if (columnSize == 2)
-                     {
-                        if (displayYear.length() >= 4)
-                           displayYear = displayYear.substring(2, 4);
-                     }
-                     else
-                        displayYear = displayYear.substring(0, 4);
-                     
-                     tableData[i][j++] = displayYear;
-                  }
-
-                  // =============================================
-                  // Blob
-                  else if (columnClass.indexOf("String") == -1 && columnTypeName.indexOf("BLOB") != -1)
-                  {
-                     String blobName;
-
-                     if (columnSize == 255)
-                        blobName = ("Tiny Blob");
-                     else if (columnSize == 65535)
-                        blobName = ("Blob");
-                     else if (columnSize == 16777215)
-                        blobName = ("Medium Blob");
-                     else if (columnSize > 16777215)
-                        blobName = ("Long Blob");
-                     else
-                        blobName = ("Blob");
-                     
-                     // Handles a key Blob
-                     if (keyLength != null)
-                     {
-                        BlobTextKey currentBlobElement = new BlobTextKey();
-                        currentBlobElement.setName(blobName);
+            cellPlan = cellPlans[k];
 
-                        String content = rs.getString(columnName);
+            // System.out.println(i + " " + j + " " + cellPlan.heading + " " +
+            //                    cellPlan.cellType + " " + cellPlan.preferredColumnSize);
 
-                        if (content.length() > keyLength.intValue())
-                           content = content.substring(0, keyLength.intValue());
+            // Storing data appropriately by the cell type set
+            // for the column in setCellType(). If you have some
+            // date or other formating, for a field here is where
+            // you can take care of it.
 
-                        currentBlobElement.setContent(content);
-                        tableData[i][j++] = currentBlobElement;
-                     }
-                     else
-                     {
-                        tableData[i][j++] = blobName;
-                     }
-                  }
-
-                  // =============================================
-                  // Boolean
-                  else if (columnClass.indexOf("Boolean") != -1)
-                  {
-                     tableData[i][j++] = rs.getString(columnName);
-                  }
+            if (cellPlan.lob)
+               currentContentData = "lob";
+            else
+               currentContentData = rs.getObject(cellPlan.columnIndex);
 
-                  // =============================================
-                  // Bit
-                  else if (columnTypeName.indexOf("BIT") != -1)
+            if (currentContentData != null)
+            {
+               switch (cellPlan.cellType)
+               {
+                  case CELL_BIGDECIMAL:
+                     tableData.setObject(i, j++, new BigDecimal(rs.getString(cellPlan.columnIndex)));
+                     break;
+                  case CELL_DATE:
+                     setTemporalCell(tableData, i, j++, rs.getDate(cellPlan.columnIndex));
+                     break;
+                  case CELL_DATETIME:
+                     setTemporalCell(tableData, i, j++, rs.getTimestamp(cellPlan.columnIndex));
+                     break;
+                  case CELL_TIMESTAMP:
+                     setTemporalCell(tableData, i, j++, rs.getTimestamp(cellPlan.columnIndex));
+                     break;
+                  case CELL_YEAR:
+                     tableData.setObject(i, j++, getYearCell(cellPlan, currentContentData));
+                     break;
+                  case CELL_LOB:
+                     tableData.setObject(i, j++, getLobCell(rs, cellPlan));
+                     break;
+                  case CELL_BOOLEAN:
+                     tableData.setObject(i, j++, rs.getString(cellPlan.columnIndex));
+                     break;
+                  case CELL_BIT:
                   {
                      // The bit field has been defined as a Type [B &
                      // Class -3, VARBINARY. The only way to retrieve
@@ -642,110 +626,30 @@ public class TableTabPanel_MySQL extends TableTabPanel
                      // will throw an exception. getBytes() will also
                      // not work because even if m > 8 returns only
                      // 1 byte.
-                     
-                     String byteString = Byte.toString((rs.getByte(columnName)));
-                     tableData[i][j++] = Integer.toBinaryString(Integer.parseInt(byteString));
-                  }
-                  
-                  // =============================================
-                  // Text
-                  else if (columnClass.indexOf("String") != -1 && !columnTypeName.equals("CHAR")
-                           && columnSize > 255)
-                  {
-                     String stringName;
-
-                     if (columnSize <= 65535)
-                     {
-                        stringName = (String) currentContentData;
 
-                        // Limit Table Cell Memory Usage.
-                        if (stringName.length() > 512)
-                           stringName = stringName.substring(0, 512);
-
-                     }
-                     else if (columnSize == 16777215)
-                        stringName = ("Medium Text");
-                     else
-                        // (columnSize > 16777215)
-                        stringName = ("Long Text");
-
-                     // Handles a key String
-                     if (keyLength != null)
-                     {
-                        BlobTextKey currentBlobElement = new BlobTextKey();
-                        currentBlobElement.setName(stringName);
-
-                        String content = rs.getString(columnName);
-
-                        if (content.length() > keyLength.intValue())
-                           content = content.substring(0, keyLength.intValue());
-
-                        currentBlobElement.setContent(content);
-                        tableData[i][j++] = currentBlobElement;
-                     }
-                     else
-                     {
-                        tableData[i][j++] = stringName;
-                     }
-                  }
-
-                  // =============================================
-                  // Any Other
-                  else
-                  {
-                     tableData[i][j++] = rs.getString(columnName);
-                     // tableData[i][j++] = currentContentData;
+                     String byteString = Byte.toString((rs.getByte(cellPlan.columnIndex)));
+                     tableData.setObject(i, j++, Integer.toBinaryString(Integer.parseInt(byteString)));
+                     break;
                   }
+                  case CELL_TEXT:
+                     tableData.setObject(i, j++, getTextCell(rs, cellPlan, (String) currentContentData));
+                     break;
+                  default:
+                     setCell(tableData, i, j++, rs, cellPlan, currentContentData);
                }
-               // Null Data
-               else
-               {
-                  tableData[i][j++] = "NULL";
-               }
-
-               // Setup some sizing for the column in the summary
-               // table.
-               if ((tableData[i][j - 1] + "").trim().length() * columnSizeScaling > preferredColumnSize)
-               {
-                  preferredColumnSize = (tableData[i][j - 1] + "").trim().length() * columnSizeScaling;
-                  if (preferredColumnSize > MAX_PREFERRED_COLUMN_SIZE)
-                     preferredColumnSize = MAX_PREFERRED_COLUMN_SIZE;
-               }
-               preferredColumnSizeHashMap.put(currentHeading, Integer.valueOf(preferredColumnSize));
-            }
-            j = 0;
-            i++;
-         }
-         return true;
-      }
-      catch (SQLException e)
-      {
-         ConnectionManager.displaySQLErrors(e, "TableTabPanel_MySQL loadTable()");
-         return false;
-      }
-      finally
-      {
-         try
-         {
-            if (rs != null)
-               rs.close();
-         }
-         catch (SQLException sqle)
-         {
-            ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_MySQL loadTable()");
-         }
-         finally
-         {
-            try
-            {
-               if (sqlStatement != null)
-                  sqlStatement.close();
             }
-            catch (SQLException sqle)
+            // Null Data
+            else
             {
-               ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_MySQL loadTable()");
+               tableData.setNull(i, j++);
             }
+
+            // Setup some sizing for the column in the summary
+            // table.
+            updatePreferredColumnSize(cellPlan, tableData, i, j - 1);
          }
+         j = 0;
+         i++;
       }
    }
    
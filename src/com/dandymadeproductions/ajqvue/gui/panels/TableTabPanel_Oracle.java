@@ -13,7 +13,7 @@
 //
 //================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.5 07/04/2018
+// Version 1.6 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -48,6 +48,17 @@
 //             TableEntryForm to Meet New Constructor Requirments.
 //         1.5 Methods getColumnNames() & loadTable(), columnSQLTypeHashMap
 //             Proper Loading of Integer & Extracting int.
+//         1.6 Method loadTable() Replaced by createPageQuery() & loadPageData(),
+//             Keyset Pagination Through TableTabPanel Methods prepareKeyset(),
+//             getKeysetOrderBy(), getKeysetWhereClause(), & recordKeysetRow(),
+//             Search Condition Parenthesized Before the Keyset Clause. Cells Set
+//             by the TableTabPanel Cell Plans' cellType, Added Method
+//             setCellType(), & Stored in a ColumnarPage. Method getColumnNames()
+//             Use of ConnectionManager SchemaMetadataCache. Flight Recorder
+//             TableLoadEvent. Added Constructor With Argument retainedState.
+//             Method setTableHeadings() Call to createCellPlans(), Waits For &
+//             Clears the Prefetched Page. Summary Table Page Padded to
+//             tableRowLimit.
 //
 //-----------------------------------------------------------------
 //                   danap@dandymadeproductions.com
@@ -76,10 +87,12 @@ import javax.swing.table.TableColumn;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.datasource.SchemaMetadataCache;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionProperties;
 import com.dandymadeproductions.ajqvue.gui.forms.TableEntryForm;
 import com.dandymadeproductions.ajqvue.utilities.BlobTextKey;
-import com.dandymadeproductions.ajqvue.utilities.TableModel;
+import com.dandymadeproductions.ajqvue.utilities.ColumnarPage;
+import com.dandymadeproductions.ajqvue.utilities.ColumnarTableModel;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 
 /**
@@ -90,13 +103,15 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * provides the mechanism to page through the database table's data.
  * 
  * @author Dana M. Proctor
- * @version 1.5 07/04/2018
+ * @version 1.6 10/18/2026
  */
 
 public class TableTabPanel_Oracle extends TableTabPanel
 {
    // Class Instances Defined in Parent.
    private static final long serialVersionUID = -8263055023708364624L;
+
+   private static final int CELL_TIMESTAMPLTZ = CELL_DIALECT;
    
    private String sqlTableFieldsStringLTZ;
 
@@ -108,6 +123,12 @@ public class TableTabPanel_Oracle extends TableTabPanel
    {
       super(table, setup_dbConnection, viewOnlyTable);
    }
+   
+   public TableTabPanel_Oracle(String table, Connection setup_dbConnection, boolean viewOnlyTable,
+                               RetainedState retainedState)
+   {
+      super(table, setup_dbConnection, viewOnlyTable, retainedState);
+   }
 
    //==============================================================
    // Class method to obtain the column names from the table.
@@ -121,9 +142,10 @@ public class TableTabPanel_Oracle extends TableTabPanel
       // Method Instances
       String sqlStatementString;
       Statement sqlStatement;
-      ResultSet rs, db_resultSet;
+      ResultSet rs;
       DatabaseMetaData dbMetaData;
       ResultSetMetaData tableMetaData;
+      SchemaMetadataCache schemaMetadataCache;
 
       String databaseName;
       String schemaName;
@@ -139,11 +161,11 @@ public class TableTabPanel_Oracle extends TableTabPanel
       // meta data, and column names.
       
       sqlStatement = null;
-      db_resultSet = null;
       rs = null;
       
       try
       {
+         schemaMetadataCache = ConnectionManager.getSchemaMetadataCache();
          sqlStatement = dbConnection.createStatement();
          
          if (sqlTable.indexOf(".") != -1)
@@ -165,14 +187,14 @@ public class TableTabPanel_Oracle extends TableTabPanel
          sqlStatementString = "SELECT * FROM " + schemaTableName + " WHERE ROWNUM=1";
          // System.out.println(sqlStatementString);
 
-         db_resultSet = sqlStatement.executeQuery(sqlStatementString);
+         tableMetaData = schemaMetadataCache.getTableMetaData(sqlTable, sqlStatement, sqlStatementString);
 
          // Primary Key(s)
          
          dbMetaData = dbConnection.getMetaData();
-         tableMetaData = db_resultSet.getMetaData();
 
-         rs = dbMetaData.getPrimaryKeys(databaseName, schemaName, tableName);
+         rs = schemaMetadataCache.getPrimaryKeys(sqlTable, dbMetaData, databaseName, schemaName,
+                                                 tableName);
          while (rs.next())
          {
             if (rs.getString("COLUMN_NAME").indexOf("chunk") == -1
@@ -191,9 +213,10 @@ public class TableTabPanel_Oracle extends TableTabPanel
          if (rs.next() && !rs.getString("TABLE_TYPE").equals("VIEW"))
          {
             // Clueless why needs quotes?
-            rs = dbMetaData.getIndexInfo(databaseName,
-               (identifierQuoteString + schemaName + identifierQuoteString),
-               (identifierQuoteString + tableName + identifierQuoteString), false, false);
+            rs = schemaMetadataCache.getIndexInfo(sqlTable, dbMetaData, databaseName,
+                                                  (identifierQuoteString + schemaName + identifierQuoteString),
+                                                  (identifierQuoteString + tableName + identifierQuoteString),
+                                                  false, false);
             
             while (rs.next())
             {
@@ -322,7 +345,8 @@ public class TableTabPanel_Oracle extends TableTabPanel
 
          // Make a final check for possible foreign keys.
 
-         rs = dbMetaData.getImportedKeys(databaseName, schemaName, tableName);
+         rs = schemaMetadataCache.getImportedKeys(sqlTable, dbMetaData, databaseName, schemaName,
+                                                  tableName);
          
          while (rs.next())
          {
@@ -367,7 +391,7 @@ public class TableTabPanel_Oracle extends TableTabPanel
                                  + tableName + "' AND USER_IND_COLUMNS.COLUMN_NAME='" + colNameString + "'";
             // System.out.println(sqlStatementString);
 
-            rs = sqlStatement.executeQuery(sqlStatementString);
+            rs = schemaMetadataCache.executeQuery(sqlTable, sqlStatement, sqlStatementString);
 
             if (rs.next())
             {
@@ -396,58 +420,106 @@ public class TableTabPanel_Oracle extends TableTabPanel
          }
          finally
          {
-            try
-            {
-               if (db_resultSet != null)
-                  db_resultSet.close();
-            }
-            catch (SQLException sqle)
-            {
-               ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_Oracle getColumnNames()");
-            }
-            finally
-            {
-               if (sqlStatement != null)
-                  sqlStatement.close();
-            }
+            if (sqlStatement != null)
+               sqlStatement.close();
          }
       }
    }
 
    //==============================================================
-   // Class method to load the current table's data. The routine
-   // will apply the sort and search parameters.
+   // Class method to set a cell plan's cell type for the summary
+   // table from the column's class & type name.
+   //==============================================================
+
+   protected void setCellType(CellPlan cellPlan)
+   {
+      // Method Instances
+      String columnClass;
+      String columnTypeName;
+      
+      columnClass = cellPlan.columnClass;
+      columnTypeName = cellPlan.columnTypeName;
+      
+      if (columnClass.indexOf("BigDecimal") != -1)
+         cellPlan.cellType = CELL_BIGDECIMAL;
+      
+      else if (columnTypeName.equals("DATE"))
+         cellPlan.cellType = CELL_DATE;
+      
+      else if (columnTypeName.equals("TIMESTAMP"))
+      {
+         cellPlan.cellType = CELL_TIMESTAMP;
+         cellPlan.cellPattern = "HH:mm:ss";
+      }
+      
+      else if (columnTypeName.equals("TIMESTAMPTZ") || columnTypeName.equals("TIMESTAMP WITH TIME ZONE")
+               || columnTypeName.equals("TIMESTAMP WITH LOCAL TIME ZONE"))
+      {
+         cellPlan.cellType = CELL_TIMESTAMP;
+         cellPlan.cellPattern = "HH:mm:ss Z";
+      }
+      
+      else if (columnTypeName.equals("TIMESTAMPLTZ"))
+         cellPlan.cellType = CELL_TIMESTAMPLTZ;
+      
+      // BLOB, RAW, LONG, & CLOB
+      else if (columnTypeName.equals("BLOB") || columnTypeName.indexOf("RAW") != -1
+               || columnTypeName.indexOf("CLOB") != -1
+               || (columnClass.indexOf("String") != -1 && columnTypeName.equals("LONG")))
+      {
+         cellPlan.cellType = CELL_LOB;
+         
+         if (columnTypeName.equals("BLOB"))
+            cellPlan.cellName = "Blob";
+         else if (columnTypeName.indexOf("RAW") != -1)
+            cellPlan.cellName = "Raw";
+         else if (columnTypeName.equals("LONG"))
+            cellPlan.cellName = "Long";
+         else
+            cellPlan.cellName = "Clob";
+      }
+      
+      else if (columnTypeName.equals("BFILE"))
+      {
+         cellPlan.cellType = CELL_LOB;
+         cellPlan.cellName = "BFILE";
+         cellPlan.keyLength = null;
+      }
+      
+      // VARCHAR2/NVARCHAR2/LONG
+      else if (columnClass.indexOf("String") != -1
+               && (!columnTypeName.equals("CHAR") || !columnTypeName.equals("NCHAR"))
+               && cellPlan.columnSize > 255)
+         cellPlan.cellType = CELL_TEXT;
+   }
+
+   //==============================================================
+   // Class method to create the search condition & the SQL
+   // statements of a page. The routine will apply the sort and
+   // search parameters of the page state.
    //==============================================================
 
-   public boolean loadTable(Connection dbConnection)
+   protected PageQuery createPageQuery(PageState pageState)
    {
       // Method Instances
+      StringBuffer sqlTableStatement;
       String sqlStatementString;
       String lobLessSQLStatementString;
-      Statement sqlStatement;
-      ResultSet rs;
 
       StringBuffer searchQueryString;
       String columnSearchString;
       String searchTextString;
+      String tableFieldsString;
       String lobLessFieldsString;
       String columnName;
-      String columnClass;
-      int columnSQLType;
       String columnTypeName;
-      Integer keyLength;
-      int columnSize;
-      int preferredColumnSize;
-      Object currentContentData;
 
-      // Obtain search parameters, column names as needed and
-      // saving state for history.
+      // Obtain search parameters, column names as needed.
       
-      columnSearchString = columnNamesHashMap.get(searchComboBox.getSelectedItem());
-      searchTextString = searchTextField.getText();
-      
-      if (historyAction)
-         saveHistory();
+      columnSearchString = pageState.searchColumn;
+      searchTextString = pageState.searchText;
+      tableFieldsString = pageState.fieldsString;
+      lobLessFieldsString = pageState.lobLessFieldsString;
       
       searchQueryString = new StringBuffer();
       if (searchTextString.equals(""))
@@ -460,7 +532,7 @@ public class TableTabPanel_Oracle extends TableTabPanel
          if (columnSearchString == null)
          {
             String[] tableColumns;
-            tableColumns = sqlTableFieldsString.split(",");
+            tableColumns = tableFieldsString.split(",");
             
             for (int i = 0; i < tableColumns.length; i++)
             {
@@ -499,7 +571,7 @@ public class TableTabPanel_Oracle extends TableTabPanel
          // Field specified.
          else
          {
-            columnTypeName = columnTypeNameHashMap.get(searchComboBox.getSelectedItem());
+            columnTypeName = columnTypeNameHashMap.get(pageState.searchItem);
             
             if (columnTypeName.equals("DATE"))
             {
@@ -527,363 +599,202 @@ public class TableTabPanel_Oracle extends TableTabPanel
          // System.out.println(searchQueryString);
       }
       
-      // Connect to database to obtain the initial/new items set
-      // and then sorting that set.
-      
-      sqlStatement = null;
-      rs = null;
-      
-      try
-      {
-         lobLessFieldsString = sqlTableFieldsString;
-         
-         if (!lob_sqlTableFieldsString.equals(""))
-         {
-            String[]  lobColumns = lob_sqlTableFieldsString.split(" ");
+      sqlTableStatement = new StringBuffer();
 
-            for (int i = 0; i < lobColumns.length; i++)
-               lobLessFieldsString = lobLessFieldsString.replace(lobColumns[i], "");
-            
-            // All fields maybe lobs, so just include all. Network
-            // performance hit.
-            if (lobLessFieldsString.indexOf(identifierQuoteString) != -1)
-               lobLessFieldsString = lobLessFieldsString.substring(lobLessFieldsString.indexOf(
-                                                                          identifierQuoteString));
-            else
-               lobLessFieldsString = sqlTableFieldsString;
-            
-            lobLessFieldsString = lobLessFieldsString.replaceAll(" ,", "");
-            if (lobLessFieldsString.endsWith(", "))
-               lobLessFieldsString = lobLessFieldsString.substring(0, lobLessFieldsString.length() - 2);
-         }
-         
-         sqlTableStatement = new StringBuffer();
-
-         if (advancedSortSearch)
-         {
-            String sqlWhereString = "", lobLess_sqlWhereString = "";
-            String sqlOrderString = "", lobLess_sqlOrderString = "";
+      if (pageState.advancedSortSearch)
+      {
+         String sqlWhereString = "", lobLess_sqlWhereString = "";
+         String sqlOrderString = "", lobLess_sqlOrderString = "";
 
-            // Complete With All Fields.
-            sqlStatementString = advancedSortSearchFrame.getAdvancedSortSearchSQL(sqlTableFieldsString,
-                                             tableRowStart, tableRowLimit).toString();
-            // Summary Table Without LOBs
-            lobLessSQLStatementString = advancedSortSearchFrame.getAdvancedSortSearchSQL(lobLessFieldsString,
-                                                tableRowStart, tableRowLimit).toString();
+         // Complete With All Fields.
+         sqlStatementString = pageState.advancedSQL;
+         // Summary Table Without LOBs
+         lobLessSQLStatementString = pageState.advancedLobLessSQL;
 
-            // Clean up the standard sql to meet Oracle's lack of support
-            // for the key word LIMIT.
+         // Clean up the standard sql to meet Oracle's lack of support
+         // for the key word LIMIT.
 
-            // Collect WHERE & ORDER structure.
-            if (sqlStatementString.indexOf("WHERE") != -1)
+         // Collect WHERE & ORDER structure.
+         if (sqlStatementString.indexOf("WHERE") != -1)
+         {
+            if (sqlStatementString.indexOf("ORDER") != -1)
             {
-               if (sqlStatementString.indexOf("ORDER") != -1)
-               {
-                  sqlWhereString = sqlStatementString.substring(sqlStatementString.indexOf("WHERE"),
-                                                                sqlStatementString.indexOf("ORDER") - 1);
-                  lobLess_sqlWhereString = lobLessSQLStatementString.substring(
-                                                       lobLessSQLStatementString.indexOf("WHERE"),
-                                                       lobLessSQLStatementString.indexOf("ORDER") - 1);
-               }
-               else
-               {
-                  sqlWhereString = sqlStatementString.substring(sqlStatementString.indexOf("WHERE"),
-                                                                sqlStatementString.indexOf("LIMIT") - 1);
-                  lobLess_sqlWhereString = lobLessSQLStatementString.substring(
-                                                     lobLessSQLStatementString.indexOf("WHERE"),
-                                                     lobLessSQLStatementString.indexOf("LIMIT") - 1);
-               }
+               sqlWhereString = sqlStatementString.substring(sqlStatementString.indexOf("WHERE"),
+                                                             sqlStatementString.indexOf("ORDER") - 1);
+               lobLess_sqlWhereString = lobLessSQLStatementString.substring(
+                                                    lobLessSQLStatementString.indexOf("WHERE"),
+                                                    lobLessSQLStatementString.indexOf("ORDER") - 1);
             }
-            if (sqlStatementString.indexOf("ORDER") != -1)
+            else
             {
-               sqlOrderString = sqlStatementString.substring(sqlStatementString.indexOf("ORDER"),
+               sqlWhereString = sqlStatementString.substring(sqlStatementString.indexOf("WHERE"),
                                                              sqlStatementString.indexOf("LIMIT") - 1);
-               lobLess_sqlOrderString = lobLessSQLStatementString.substring(
-                                                     lobLessSQLStatementString.indexOf("ORDER"),
-                                                     lobLessSQLStatementString.indexOf("LIMIT") - 1);
+               lobLess_sqlWhereString = lobLessSQLStatementString.substring(
+                                                  lobLessSQLStatementString.indexOf("WHERE"),
+                                                  lobLessSQLStatementString.indexOf("LIMIT") - 1);
             }
-            
-            // Finish creating modifed SQL.
-            sqlStatementString = sqlStatementString.substring(0, sqlStatementString.indexOf("FROM") + 5);
-            lobLessSQLStatementString = lobLessSQLStatementString.substring(0,
-                                                          lobLessSQLStatementString.indexOf("FROM") + 5);
-
-            sqlStatementString += "(SELECT ROW_NUMBER() "
-                                  + ((sqlOrderString.equals("")) ? ("OVER (ORDER BY "
-                                  + (sqlTableFieldsString.indexOf(",") != -1 ?
-                                                        sqlTableFieldsString.substring(0, sqlTableFieldsString.indexOf(','))
-                                                                             :
-                                                        sqlTableFieldsString)
-                                  + ") ")
-                                                                 : ("OVER (" + sqlOrderString + ") "))
-                                  + "AS dmprownumber, " + sqlTableFieldsStringLTZ + " "
-                                  + "FROM " + schemaTableName + " " + sqlWhereString + ") "
-                                  + "WHERE dmprownumber BETWEEN " + (tableRowStart + 1) + " AND "
-                                  + (tableRowStart + tableRowLimit);
-            
-            lobLessSQLStatementString += "(SELECT ROW_NUMBER() "
-                                         + ((lobLess_sqlOrderString.equals("")) ? ("OVER (ORDER BY "
-                                         + (lobLessFieldsString.indexOf(",") != -1 ?
-                                                        lobLessFieldsString.substring(0, lobLessFieldsString.indexOf(','))
-                                                                                  :
-                                                        lobLessFieldsString)
-                                         + ") ")
-                                              : ("OVER (" + lobLess_sqlOrderString + ") "))
-                                         + "AS dmprownumber, " + sqlTableFieldsStringLTZ + " "
-                                         + "FROM " + schemaTableName + " " + lobLess_sqlWhereString + ") "
-                                         + "WHERE dmprownumber BETWEEN " + (tableRowStart + 1) + " AND "
-                                         + (tableRowStart + tableRowLimit);
          }
-         else
+         if (sqlStatementString.indexOf("ORDER") != -1)
          {
-            sqlStatementString = "SELECT " + sqlTableFieldsString + " FROM " + "(SELECT ROW_NUMBER() OVER "
-                                 + "(ORDER BY " + identifierQuoteString
-                                 + columnNamesHashMap.get(sortComboBox.getSelectedItem())
-                                 + identifierQuoteString + " " + ascDescString + ") " + "AS dmprownumber, "
-                                 + sqlTableFieldsStringLTZ + " " + "FROM " + schemaTableName + " " + "WHERE "
-                                 + searchQueryString.toString() + ") " + "WHERE dmprownumber BETWEEN "
-                                 + (tableRowStart + 1) + " AND " + (tableRowStart + tableRowLimit);
-            
-            lobLessSQLStatementString = "SELECT " + lobLessFieldsString + " FROM "
-                                        + "(SELECT ROW_NUMBER() OVER "
-                                        + "(ORDER BY " + identifierQuoteString
-                                        + columnNamesHashMap.get(sortComboBox.getSelectedItem())
-                                        + identifierQuoteString + " " + ascDescString + ") "
-                                        + "AS dmprownumber, " + sqlTableFieldsStringLTZ + " "
-                                        + "FROM " + schemaTableName + " " + "WHERE "
-                                        + searchQueryString.toString() + ") " + "WHERE dmprownumber BETWEEN "
-                                        + (tableRowStart + 1) + " AND " + (tableRowStart + tableRowLimit);
+            sqlOrderString = sqlStatementString.substring(sqlStatementString.indexOf("ORDER"),
+                                                          sqlStatementString.indexOf("LIMIT") - 1);
+            lobLess_sqlOrderString = lobLessSQLStatementString.substring(
+                                                  lobLessSQLStatementString.indexOf("ORDER"),
+                                                  lobLessSQLStatementString.indexOf("LIMIT") - 1);
          }
-         sqlTableStatement.append(sqlStatementString);
-         // System.out.println(sqlTableStatement);
-         // System.out.println(lobLessSQLStatementString);
          
-         if (dbConnection == null)
-            return false;
+         // Finish creating modifed SQL.
+         sqlStatementString = sqlStatementString.substring(0, sqlStatementString.indexOf("FROM") + 5);
+         lobLessSQLStatementString = lobLessSQLStatementString.substring(0,
+                                                       lobLessSQLStatementString.indexOf("FROM") + 5);
+
+         sqlStatementString += "(SELECT ROW_NUMBER() "
+                               + ((sqlOrderString.equals("")) ? ("OVER (ORDER BY "
+                               + (tableFieldsString.indexOf(",") != -1 ?
+                                                     tableFieldsString.substring(0, tableFieldsString.indexOf(','))
+                                                                          :
+                                                     tableFieldsString)
+                               + ") ")
+                                                              : ("OVER (" + sqlOrderString + ") "))
+                               + "AS dmprownumber, " + sqlTableFieldsStringLTZ + " "
+                               + "FROM " + schemaTableName + " " + sqlWhereString + ") "
+                               + "WHERE dmprownumber BETWEEN " + (pageState.rowStart + 1) + " AND "
+                               + (pageState.rowStart + pageState.rowLimit);
          
-         sqlStatement = dbConnection.createStatement();
-         rs = sqlStatement.executeQuery(lobLessSQLStatementString);
+         lobLessSQLStatementString += "(SELECT ROW_NUMBER() "
+                                      + ((lobLess_sqlOrderString.equals("")) ? ("OVER (ORDER BY "
+                                      + (lobLessFieldsString.indexOf(",") != -1 ?
+                                                     lobLessFieldsString.substring(0, lobLessFieldsString.indexOf(','))
+                                                                               :
+                                                     lobLessFieldsString)
+                                      + ") ")
+                                           : ("OVER (" + lobLess_sqlOrderString + ") "))
+                                      + "AS dmprownumber, " + sqlTableFieldsStringLTZ + " "
+                                      + "FROM " + schemaTableName + " " + lobLess_sqlWhereString + ") "
+                                      + "WHERE dmprownumber BETWEEN " + (pageState.rowStart + 1) + " AND "
+                                      + (pageState.rowStart + pageState.rowLimit);
+      }
+      else
+      {
+         sqlStatementString = "SELECT " + tableFieldsString + " FROM " + "(SELECT ROW_NUMBER() OVER "
+                              + "(ORDER BY " + getKeysetOrderBy(pageState) + ") " + "AS dmprownumber, "
+                              + sqlTableFieldsStringLTZ + " " + "FROM " + schemaTableName + " " + "WHERE "
+                              + searchQueryString.toString() + ") " + "WHERE dmprownumber BETWEEN "
+                              + (pageState.rowStart + 1) + " AND "
+                              + (pageState.rowStart + pageState.rowLimit);
+         
+         lobLessSQLStatementString = "SELECT " + lobLessFieldsString + " FROM "
+                                     + "(SELECT ROW_NUMBER() OVER "
+                                     + "(ORDER BY " + getKeysetOrderBy(pageState) + ") "
+                                     + "AS dmprownumber, " + sqlTableFieldsStringLTZ + " "
+                                     + "FROM " + schemaTableName + " " + "WHERE ("
+                                     + searchQueryString.toString() + ")"
+                                     + getKeysetWhereClause(pageState)
+                                     + ") " + "WHERE dmprownumber BETWEEN "
+                                     + (getLoadRowStart(pageState) + 1) + " AND "
+                                     + (getLoadRowStart(pageState) + pageState.rowLimit);
+      }
+      sqlTableStatement.append(sqlStatementString);
+      // System.out.println(sqlTableStatement);
+      // System.out.println(lobLessSQLStatementString);
+      
+      return new PageQuery(searchQueryString.toString(), sqlTableStatement.toString(),
+                           lobLessSQLStatementString);
+   }
+   
+   //==============================================================
+   // Class method to load a page's table data from the result set
+   // of its query.
+   //==============================================================
+   
+   protected void loadPageData(ResultSet rs, Page page) throws SQLException
+   {
+      // Method Instances
+      ColumnarPage tableData;
+      CellPlan cellPlan;
+      CellPlan[] cellPlans;
+      Object currentContentData;
 
-         // Placing the results columns desired into the table that
-         // will be display to the user.
+      // Placing the results columns desired into the table that
+      // will be display to the user.
 
-         int i = 0;
-         int j = 0;
+      int i = 0;
+      int j = 0;
 
-         tableData = new Object[tableRowLimit][currentTableHeadings.size()];
+      tableData = page.tableData;
 
-         while (rs.next())
-         {
-            Iterator<String> headings = currentTableHeadings.iterator();
-            while (headings.hasNext())
-            {
-               String currentHeading = headings.next();
-               columnName = columnNamesHashMap.get(currentHeading);
-               columnClass = columnClassHashMap.get(currentHeading);
-               columnSQLType = columnSQLTypeHashMap.get(currentHeading).intValue();
-               columnTypeName = columnTypeNameHashMap.get(currentHeading);
-               columnSize = (columnSizeHashMap.get(currentHeading)).intValue();
-               keyLength = keyLengthHashMap.get(columnName);
-               preferredColumnSize = ((Integer) preferredColumnSizeHashMap.get(currentHeading)).intValue();
-
-               // System.out.println(i + " " + j + " " + currentHeading + " " +
-               //                    columnName + " " + columnClass + " " +
-               //                    columnSQLType + " " + columnTypeName + " " +
-               //                    columnSize + " " + preferredColumnSize + " " + keyLength);
-
-               // Storing data appropriately. If you have some date
-               // or other formating, for a field here is where you
-               // can take care of it.
-
-               if (lobDataTypesHashMap.containsKey(currentHeading))
-                  currentContentData = "lob";
-               else
-                  currentContentData = rs.getObject(columnName);
+      cellPlans = page.cellPlans;
 
-               if (currentContentData != null)
-               {
-                  // =============================================
-                  // BigDecimal
-                  if (columnClass.indexOf("BigDecimal") != -1)
-                     tableData[i][j++] = new BigDecimal(rs.getString(columnName));
-
-                  // =============================================
-                  // Date
-                  else if (columnTypeName.equals("DATE"))
-                  {
-                     currentContentData = rs.getDate(columnName);
-                     String displayDate = displayMyDateString(currentContentData + "");
-                     tableData[i][j++] = displayDate;
-                  }
+      while (rs.next())
+      {
+         tableData.addRow();
+         recordKeysetRow(rs, i, page);
 
-                  // =============================================
-                  // Timestamps
-                  else if (columnTypeName.equals("TIMESTAMP"))
-                  {
-                     currentContentData = rs.getTimestamp(columnName);
-                     tableData[i][j++] = (new SimpleDateFormat(
-                        DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
-                        + " HH:mm:ss").format(currentContentData));
-                  }
+         for (int k = 0; k < cellPlans.length; k++)
+         {
+            cellPlan = cellPlans[k];
 
-                  else if (columnTypeName.equals("TIMESTAMPTZ") || columnTypeName.equals("TIMESTAMP WITH TIME ZONE")
-                           || columnTypeName.equals("TIMESTAMP WITH LOCAL TIME ZONE"))
-                  {
-                     currentContentData = rs.getTimestamp(columnName);
-                     
-                     tableData[i][j++] = (new SimpleDateFormat(
-                        DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
-                        + " HH:mm:ss Z").format(currentContentData));
-                  }
-                  
-                  else if (columnTypeName.equals("TIMESTAMPLTZ"))
-                  {
-                     currentContentData = rs.getString(columnName);
-                     String timestampString = (String) currentContentData;
-                     
-                     if (timestampString.indexOf(" ") != -1)
-                        tableData[i][j++] = displayMyDateString(
-                                            timestampString.substring(0, timestampString.indexOf(" ")))
-                                            + timestampString.substring(timestampString.indexOf(" "));
-                     else
-                        tableData[i][j++] = timestampString;
-                  }
+            // System.out.println(i + " " + j + " " + cellPlan.heading + " " +
+            //                    cellPlan.cellType + " " + cellPlan.preferredColumnSize);
 
-                  // =============================================
-                  // BLOB, RAW, LONG, & CLOB
-                  else if (columnTypeName.equals("BLOB") || columnTypeName.indexOf("RAW") != -1
-                           || columnTypeName.indexOf("CLOB") != -1
-                           || (columnClass.indexOf("String") != -1 && columnTypeName.equals("LONG")))
-                  {
-                     String blobName;
-                     
-                     if (columnTypeName.equals("BLOB"))
-                        blobName = "Blob";
-                     else if (columnTypeName.indexOf("RAW") != -1)
-                        blobName = "Raw";
-                     else if (columnTypeName.equals("LONG"))
-                        blobName = "Long";
-                     else
-                        blobName = "Clob";
-                     
-                     // Handles a key BLOB ?
-                     if (keyLength != null)
-                     { 
-                        BlobTextKey currentBlobElement = new BlobTextKey();
-                        currentBlobElement.setName(blobName);
-                        
-                        String content = rs.getString(columnName);
-                        
-                        if (content.length() > keyLength.intValue())
-                           content = content.substring(0, keyLength.intValue());
-                        
-                        currentBlobElement.setContent(content);
-                        tableData[i][j++] = currentBlobElement;
-                     }
-                     else
-                     {
-                        tableData[i][j++] = blobName;
-                     }  
-                  }
+            // Storing data appropriately by the cell type set
+            // for the column in setCellType(). If you have some
+            // date or other formating, for a field here is where
+            // you can take care of it.
 
-                  // =============================================
-                  // BFILE
-                  else if (columnTypeName.equals("BFILE"))
-                  {
-                     tableData[i][j++] = "BFILE";
-                  }
+            if (cellPlan.lob)
+               currentContentData = "lob";
+            else
+               currentContentData = rs.getObject(cellPlan.columnIndex);
 
-                  // =============================================
-                  // VARCHAR2/NVARCHAR2/LONG
-                  else if (columnClass.indexOf("String") != -1
-                           && (!columnTypeName.equals("CHAR") || !columnTypeName.equals("NCHAR"))
-                           && columnSize > 255)
+            if (currentContentData != null)
+            {
+               switch (cellPlan.cellType)
+               {
+                  case CELL_BIGDECIMAL:
+                     tableData.setObject(i, j++, new BigDecimal(rs.getString(cellPlan.columnIndex)));
+                     break;
+                  case CELL_DATE:
+                     setTemporalCell(tableData, i, j++, rs.getDate(cellPlan.columnIndex));
+                     break;
+                  case CELL_TIMESTAMP:
+                     setTemporalCell(tableData, i, j++, rs.getTimestamp(cellPlan.columnIndex));
+                     break;
+                  case CELL_TIMESTAMPLTZ:
                   {
-                     String stringName;
-                     stringName = (String) currentContentData;
-
-                     // Handles a key String
-                     if (keyLength != null)
-                     {
-                        BlobTextKey currentBlobElement = new BlobTextKey();
-                        currentBlobElement.setName(stringName);
-
-                        String content = rs.getString(columnName);
-
-                        if (content.length() > keyLength.intValue())
-                           content = content.substring(0, keyLength.intValue());
+                     currentContentData = rs.getString(cellPlan.columnIndex);
+                     String timestampString = (String) currentContentData;
 
-                        currentBlobElement.setContent(content);
-                        tableData[i][j++] = currentBlobElement;
-                     }
+                     if (timestampString.indexOf(" ") != -1)
+                        tableData.setObject(i, j++, displayMyDateString(
+                                    timestampString.substring(0, timestampString.indexOf(" ")))
+                                    + timestampString.substring(timestampString.indexOf(" ")));
                      else
-                     {
-                        // Limit Table Cell Memory Usage.
-                        if (stringName.length() > 512)
-                           tableData[i][j++] = stringName.substring(0, 512);
-                        else
-                           tableData[i][j++] = stringName;
-                     }
-                  }
-
-                  // =============================================
-                  // Any Other
-                  else
-                  {
-                     tableData[i][j++] = rs.getString(columnName);
-                     // tableData[i][j++] = currentContentData;
+                        tableData.setObject(i, j++, timestampString);
+                     break;
                   }
+                  case CELL_LOB:
+                     tableData.setObject(i, j++, getLobCell(rs, cellPlan));
+                     break;
+                  case CELL_TEXT:
+                     tableData.setObject(i, j++, getTextCell(rs, cellPlan, (String) currentContentData));
+                     break;
+                  default:
+                     setCell(tableData, i, j++, rs, cellPlan, currentContentData);
                }
-               // Null Data
-               else
-               {
-                  tableData[i][j++] = "NULL";
-               }
-
-               // Setup some sizing for the column in the summary
-               // table.
-               if ((tableData[i][j - 1] + "").trim().length() * columnSizeScaling > preferredColumnSize)
-               {
-                  preferredColumnSize = (tableData[i][j - 1] + "").trim().length() * columnSizeScaling;
-                  if (preferredColumnSize > MAX_PREFERRED_COLUMN_SIZE)
-                     preferredColumnSize = MAX_PREFERRED_COLUMN_SIZE;
-               }
-               preferredColumnSizeHashMap.put(currentHeading,
-                                              Integer.valueOf(preferredColumnSize));
             }
-            j = 0;
-            i++;
-         }
-         return true;
-      }
-      catch (SQLException e)
-      {
-         ConnectionManager.displaySQLErrors(e, "TableTabPanel_Oracle loadTable()");
-         return false;
-      }
-      finally
-      {
-         try
-         {
-            if (rs != null)
-               rs.close();
-         }
-         catch (SQLException sqle)
-         {
-            ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_Oracle loadTable()");
-         }
-         finally
-         {
-            try
-            {
-               if (sqlStatement != null)
-                  sqlStatement.close();
-            }
-            catch (SQLException sqle)
+            // Null Data
+            else
             {
-               ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_Oracle loadTable()");
+               tableData.setNull(i, j++);
             }
+
+            // Setup some sizing for the column in the summary
+            // table.
+            updatePreferredColumnSize(cellPlan, tableData, i, j - 1);
          }
+         j = 0;
+         i++;
       }
    }
 
@@ -1670,9 +1581,13 @@ public class TableTabPanel_Oracle extends TableTabPanel
       
       if (work_dbConnection == null)
          return;
+      
+      waitForPrefetch();
+      clearPrefetchedPage();
 
       centerPanel.remove(tableScrollPane);
       currentTableHeadings = newHeadingFields;
+      createCellPlans();
       sqlTableFieldsString = "";
 
       // Reconstitute the table field names.
@@ -1687,7 +1602,7 @@ public class TableTabPanel_Oracle extends TableTabPanel
       // No fields, just load empty table else
       // clean up and load.
       if (sqlTableFieldsString.equals(""))
-         tableData = new Object[0][0];
+         tableData = new ColumnarPage(0);
       else
       {
          sqlTableFieldsString = sqlTableFieldsString.substring(0, sqlTableFieldsString.length() - 2);
@@ -1695,7 +1610,7 @@ public class TableTabPanel_Oracle extends TableTabPanel
          loadTable(work_dbConnection);
       }
       
-      tableModel = new TableModel(currentTableHeadings, tableData);
+      tableModel = new ColumnarTableModel(currentTableHeadings, tableData, "NULL", tableRowLimit);
       tableModel.setValues(tableData);
 
       listTable = new JTable(tableModel);
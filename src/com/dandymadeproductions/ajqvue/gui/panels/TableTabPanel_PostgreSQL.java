@@ -13,7 +13,7 @@
 //
 //==============================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.5 07/04/2018
+// Version 1.6 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -51,6 +51,14 @@
 //             TableEntryForm to Meet New Constructor Requirments.
 //         1.5 Methods getColumnNames() & loadTable(), columnSQLTypeHashMap
 //             Proper Loading of Integer & Extracting int.
+//         1.6 Method loadTable() Replaced by createPageQuery() & loadPageData(),
+//             Keyset Pagination Through TableTabPanel Methods prepareKeyset(),
+//             getKeysetOrderBy(), getKeysetWhereClause(), & recordKeysetRow(),
+//             Search Condition Parenthesized Before the Keyset Clause. Cells Set
+//             by the TableTabPanel Cell Plans' cellType, Added Method
+//             setCellType(), & Stored in a ColumnarPage. Method getColumnNames()
+//             Use of ConnectionManager SchemaMetadataCache. Flight Recorder
+//             TableLoadEvent. Added Constructor With Argument retainedState.
 //             
 //-----------------------------------------------------------------
 //                  danap@dandymadeproductions.com
@@ -71,8 +79,10 @@ import java.util.Locale;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.datasource.SchemaMetadataCache;
 import com.dandymadeproductions.ajqvue.gui.forms.TableEntryForm;
 import com.dandymadeproductions.ajqvue.utilities.BlobTextKey;
+import com.dandymadeproductions.ajqvue.utilities.ColumnarPage;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 
 /**
@@ -83,7 +93,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * mechanism to page through the database table's data.
  * 
  * @author Dana M. Proctor
- * @version 1.5 07/04/2018
+ * @version 1.6 10/18/2026
  */
 
 public class TableTabPanel_PostgreSQL extends TableTabPanel //implements ActionListener
@@ -91,6 +101,8 @@ public class TableTabPanel_PostgreSQL extends TableTabPanel //implements ActionL
    // Class Instances Defined in Parent.
    private static final long serialVersionUID = -5345688707383442628L;
 
+   private static final int CELL_ARRAY = CELL_DIALECT;
+
    //===========================================================
    // TableTabPanel Constructor
    //===========================================================
@@ -99,6 +111,12 @@ public class TableTabPanel_PostgreSQL extends TableTabPanel //implements ActionL
    {
       super(table, setup_dbConnection, viewOnlyTable);
    }
+   
+   public TableTabPanel_PostgreSQL(String table, Connection setup_dbConnection, boolean viewOnlyTable,
+                                   RetainedState retainedState)
+   {
+      super(table, setup_dbConnection, viewOnlyTable, retainedState);
+   }
 
    //==============================================================
    // Class method to obtain the column names from the table. The
@@ -112,9 +130,10 @@ public class TableTabPanel_PostgreSQL extends TableTabPanel //implements ActionL
       // Method Instances
       String sqlStatementString;
       Statement sqlStatement;
-      ResultSet rs, db_resultSet;
+      ResultSet rs;
       DatabaseMetaData dbMetaData;
       ResultSetMetaData tableMetaData;
+      SchemaMetadataCache schemaMetadataCache;
 
       String tableName;
       String colNameString;
@@ -128,11 +147,11 @@ public class TableTabPanel_PostgreSQL extends TableTabPanel //implements ActionL
       // meta data, and column names.
       
       sqlStatement = null;
-      db_resultSet = null;
       rs = null;
       
       try
       {
+         schemaMetadataCache = ConnectionManager.getSchemaMetadataCache();
          sqlStatement = dbConnection.createStatement();
          if (sqlTable.indexOf(".") != -1)
             tableName = sqlTable.substring(sqlTable.indexOf(".") + 1);
@@ -146,16 +165,16 @@ public class TableTabPanel_PostgreSQL extends TableTabPanel //implements ActionL
          sqlStatementString = "SELECT * FROM " + schemaTableName + " LIMIT 1";
          // System.out.println(sqlStatementString);
 
-         db_resultSet = sqlStatement.executeQuery(sqlStatementString);
+         tableMetaData = schemaMetadataCache.getTableMetaData(sqlTable, sqlStatement, sqlStatementString);
 
          // Primary Key(s)
          
          dbMetaData = dbConnection.getMetaData();
-         tableMetaData = db_resultSet.getMetaData();
 
-         rs = dbMetaData.getPrimaryKeys(tableMetaData.getCatalogName(1),
-                                        tableMetaData.getSchemaName(1),
-                                        tableMetaData.getTableName(1));
+         rs = schemaMetadataCache.getPrimaryKeys(sqlTable, dbMetaData,
+                                                 tableMetaData.getCatalogName(1),
+                                                 tableMetaData.getSchemaName(1),
+                                                 tableMetaData.getTableName(1));
          while (rs.next())
          {
             if (rs.getString("COLUMN_NAME").indexOf("chunk") == -1 &&
@@ -169,9 +188,10 @@ public class TableTabPanel_PostgreSQL extends TableTabPanel //implements ActionL
 
          // Additional Indexes
 
-         rs = dbMetaData.getIndexInfo(tableMetaData.getCatalogName(1),
-                                      tableMetaData.getSchemaName(1),
-                                      tableMetaData.getTableName(1), false, false);
+         rs = schemaMetadataCache.getIndexInfo(sqlTable, dbMetaData,
+                                               tableMetaData.getCatalogName(1),
+                                               tableMetaData.getSchemaName(1),
+                                               tableMetaData.getTableName(1), false, false);
          while (rs.next())
          {
             if (rs.getString("COLUMN_NAME") != null && rs.getString("TABLE_NAME").equals(tableName))
@@ -285,9 +305,10 @@ public class TableTabPanel_PostgreSQL extends TableTabPanel //implements ActionL
 
          // Make a final check for possible foreign keys.
 
-         rs = dbMetaData.getImportedKeys(tableMetaData.getCatalogName(1),
-                                         tableMetaData.getSchemaName(1),
-                                         tableMetaData.getTableName(1));
+         rs = schemaMetadataCache.getImportedKeys(sqlTable, dbMetaData,
+                                                  tableMetaData.getCatalogName(1),
+                                                  tableMetaData.getSchemaName(1),
+                                                  tableMetaData.getTableName(1));
          while (rs.next())
          {
             if (rs.getString("FKCOLUMN_NAME") != null
@@ -337,56 +358,100 @@ public class TableTabPanel_PostgreSQL extends TableTabPanel //implements ActionL
          }
          finally
          {
-            try
-            {
-               if (db_resultSet != null)
-                  db_resultSet.close();
-            }
-            catch (SQLException sqle)
-            {
-               ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_PostgreSQL getColumnNames()");
-            }
-            finally
-            {
-               if (sqlStatement != null)
-                  sqlStatement.close();
-            }
+            if (sqlStatement != null)
+               sqlStatement.close();
          }
       }
    }
 
    //==============================================================
-   // Class method to load the current table's data. The routine
-   // will apply the sort and search parameters.
+   // Class method to set a cell plan's cell type for the summary
+   // table from the column's class & type name.
    //==============================================================
 
-   public boolean loadTable(Connection dbConnection)
+   protected void setCellType(CellPlan cellPlan)
    {
       // Method Instances
+      String columnClass;
+      String columnTypeName;
+      
+      columnClass = cellPlan.columnClass;
+      columnTypeName = cellPlan.columnTypeName;
+      
+      if (columnClass.indexOf("BigDecimal") != -1)
+         cellPlan.cellType = CELL_BIGDECIMAL;
+      
+      else if (columnTypeName.equals("DATE"))
+         cellPlan.cellType = CELL_DATE;
+      
+      else if (columnTypeName.equals("TIMETZ"))
+      {
+         cellPlan.cellType = CELL_TIME;
+         cellPlan.cellPattern = "HH:mm:ss z";
+      }
+      
+      else if (columnTypeName.equals("TIMESTAMP"))
+      {
+         cellPlan.cellType = CELL_TIMESTAMP;
+         cellPlan.cellPattern = "HH:mm:ss";
+      }
+      
+      else if (columnTypeName.equals("TIMESTAMPTZ"))
+      {
+         cellPlan.cellType = CELL_TIMESTAMP;
+         cellPlan.cellPattern = "HH:mm:ss z";
+      }
+      
+      else if (columnTypeName.equals("BYTEA"))
+      {
+         cellPlan.cellType = CELL_LOB;
+         cellPlan.cellName = "Bytea";
+      }
+      
+      else if (columnClass.indexOf("Boolean") != -1)
+         cellPlan.cellType = CELL_BOOLEAN;
+      
+      else if (columnClass.indexOf("String") != -1 && columnTypeName.equals("TEXT")
+               && cellPlan.columnSize > 255)
+      {
+         cellPlan.cellType = CELL_LOB;
+         cellPlan.cellName = "Text";
+      }
+      
+      else if ((columnClass.indexOf("Object") != -1 || columnClass.indexOf("Array") != -1)
+               && (columnTypeName.indexOf("_") != -1))
+      {
+         cellPlan.cellType = CELL_ARRAY;
+         cellPlan.keyLength = null;
+      }
+   }
+
+   //==============================================================
+   // Class method to create the search condition & the SQL
+   // statements of a page. The routine will apply the sort and
+   // search parameters of the page state.
+   //==============================================================
+
+   protected PageQuery createPageQuery(PageState pageState)
+   {
+      // Method Instances
+      StringBuffer sqlTableStatement;
       StringBuffer lobLessSQLStatement;
-      Statement sqlStatement;
-      ResultSet rs;
 
       StringBuffer searchQueryString;
       String columnSearchString;
       String searchTextString;
+      String tableFieldsString;
       String lobLessFieldsString;
       String columnName;
-      String columnClass;
-      int columnSQLType;
       String columnTypeName;
-      Integer keyLength;
-      int columnSize, preferredColumnSize;
-      Object currentContentData;
 
-      // Obtain search parameters column names as needed and
-      // saving state for history.
-      
-      columnSearchString = columnNamesHashMap.get(searchComboBox.getSelectedItem());
-      searchTextString = searchTextField.getText();
+      // Obtain search parameters column names as needed.
       
-      if (historyAction)
-         saveHistory();
+      columnSearchString = pageState.searchColumn;
+      searchTextString = pageState.searchText;
+      tableFieldsString = pageState.fieldsString;
+      lobLessFieldsString = pageState.lobLessFieldsString;
 
       searchQueryString = new StringBuffer();
       if (searchTextString.equals(""))
@@ -397,7 +462,7 @@ public class TableTabPanel_PostgreSQL extends TableTabPanel //implements ActionL
          if (columnSearchString == null)
          {
             String[] tableColumns;
-            tableColumns = sqlTableFieldsString.split(",");
+            tableColumns = tableFieldsString.split(",");
             
             for (int i = 0; i < tableColumns.length; i++)
             {
@@ -433,7 +498,7 @@ public class TableTabPanel_PostgreSQL extends TableTabPanel //implements ActionL
          // Field specified.
          else
          {
-            columnTypeName = columnTypeNameHashMap.get(searchComboBox.getSelectedItem());
+            columnTypeName = columnTypeNameHashMap.get(pageState.searchItem);
             
             if (columnTypeName.equals("DATE"))
                searchTextString = Utils.processDateFormatSearch(searchTextString);
@@ -453,287 +518,128 @@ public class TableTabPanel_PostgreSQL extends TableTabPanel //implements ActionL
          // System.out.println(searchTextString);
       }
 
-      // Connect to database to obtain the initial/new items set
-      // and then sorting that set.
-      
-      sqlStatement = null;
-      rs = null;
-      
-      try
+      sqlTableStatement = new StringBuffer();
+      lobLessSQLStatement = new StringBuffer();
+
+      if (pageState.advancedSortSearch)
+      {
+         // Complete With All Fields.
+         sqlTableStatement.append(pageState.advancedSQL);
+         // Summary Table Without LOBs
+         lobLessSQLStatement.append(pageState.advancedLobLessSQL);
+      }
+      else
       {
-         lobLessFieldsString = sqlTableFieldsString;
+         // Complete With All Fields.
+         sqlTableStatement.append("SELECT " + tableFieldsString + " FROM " + schemaTableName + " "
+                              + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
+                              + getKeysetOrderBy(pageState) + " " + "LIMIT "
+                              + pageState.rowLimit + " " + "OFFSET " + pageState.rowStart);
          
-         if (!lob_sqlTableFieldsString.equals(""))
-         {
-            String[]  lobColumns = lob_sqlTableFieldsString.split(" ");
+         // Summary Table Without LOBs
+         lobLessSQLStatement.append("SELECT " + lobLessFieldsString + " FROM " + schemaTableName + " "
+                                     + "WHERE (" + searchQueryString.toString() + ")"
+                                     + getKeysetWhereClause(pageState)
+                                     + " " + "ORDER BY "
+                                     + getKeysetOrderBy(pageState) + " " + "LIMIT "
+                                     + pageState.rowLimit + " " + "OFFSET " + getLoadRowStart(pageState));
+      }
+      // System.out.println(sqlTableStatement);
+      // System.out.println(lobLessSQLStatement.toString());
+      
+      return new PageQuery(searchQueryString.toString(), sqlTableStatement.toString(),
+                           lobLessSQLStatement.toString());
+   }
+   
+   //==============================================================
+   // Class method to load a page's table data from the result set
+   // of its query.
+   //==============================================================
+   
+   protected void loadPageData(ResultSet rs, Page page) throws SQLException
+   {
+      // Method Instances
+      ColumnarPage tableData;
+      CellPlan cellPlan;
+      CellPlan[] cellPlans;
+      Object currentContentData;
 
-            for (int i = 0; i < lobColumns.length; i++)
-               lobLessFieldsString = lobLessFieldsString.replace(lobColumns[i], "");
-            
-            // All fields maybe lobs, so just include all. Network
-            // performance hit.
-            if (lobLessFieldsString.indexOf(identifierQuoteString) != -1)
-               lobLessFieldsString = lobLessFieldsString.substring(lobLessFieldsString.indexOf(
-                                                                          identifierQuoteString));
-            else
-               lobLessFieldsString = sqlTableFieldsString;
-            
-            lobLessFieldsString = lobLessFieldsString.replaceAll(" ,", "");
-            if (lobLessFieldsString.endsWith(", "))
-               lobLessFieldsString = lobLessFieldsString.substring(0, lobLessFieldsString.length() - 2);
-         }
-         
-         sqlTableStatement = new StringBuffer();
-         lobLessSQLStatement = new StringBuffer();
+      // Placing the results columns desired into the table that
+      // will be display to the user.
 
-         if (advancedSortSearch)
-         {
-            // Complete With All Fields.
-            sqlTableStatement.append(advancedSortSearchFrame.getAdvancedSortSearchSQL(sqlTableFieldsString,
-                                             tableRowStart, tableRowLimit));
-            // Summary Table Without LOBs
-            lobLessSQLStatement.append(advancedSortSearchFrame.getAdvancedSortSearchSQL(lobLessFieldsString,
-                                             tableRowStart, tableRowLimit));
-         }
-         else
-         {
-            // Complete With All Fields.
-            sqlTableStatement.append("SELECT " + sqlTableFieldsString + " FROM " + schemaTableName + " "
-                                 + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
-                                 + identifierQuoteString
-                                 + columnNamesHashMap.get(sortComboBox.getSelectedItem())
-                                 + identifierQuoteString + " " + ascDescString + " " + "LIMIT "
-                                 + tableRowLimit + " " + "OFFSET " + tableRowStart);
-            
-            // Summary Table Without LOBs
-            lobLessSQLStatement.append("SELECT " + lobLessFieldsString + " FROM " + schemaTableName + " "
-                                        + "WHERE " + searchQueryString.toString() + " " + "ORDER BY "
-                                        + identifierQuoteString
-                                        + columnNamesHashMap.get(sortComboBox.getSelectedItem())
-                                        + identifierQuoteString + " " + ascDescString + " " + "LIMIT "
-                                        + tableRowLimit + " " + "OFFSET " + tableRowStart);
-         }
-         // System.out.println(sqlTableStatement);
-         // System.out.println(lobLessSQLStatement.toString());
-         
-         if (dbConnection == null)
-            return false;
-         
-         sqlStatement = dbConnection.createStatement();
-         rs = sqlStatement.executeQuery(lobLessSQLStatement.toString());
+      int i = 0;
+      int j = 0;
 
-         // Placing the results columns desired into the table that
-         // will be display to the user.
+      tableData = page.tableData;
 
-         int i = 0;
-         int j = 0;
+      cellPlans = page.cellPlans;
 
-         tableData = new Object[tableRowLimit][currentTableHeadings.size()];
+      while (rs.next())
+      {
+         tableData.addRow();
+         recordKeysetRow(rs, i, page);
 
-         while (rs.next())
+         for (int k = 0; k < cellPlans.length; k++)
          {
-            Iterator<String> headings = currentTableHeadings.iterator();
-            while (headings.hasNext())
-            {
-               String currentHeading = headings.next();
-               columnName = columnNamesHashMap.get(currentHeading);
-               columnClass = columnClassHashMap.get(currentHeading);
-               columnSQLType = columnSQLTypeHashMap.get(currentHeading).intValue();
-               columnTypeName = columnTypeNameHashMap.get(currentHeading);
-               columnSize = (columnSizeHashMap.get(currentHeading)).intValue();
-               keyLength = keyLengthHashMap.get(columnName);
-               preferredColumnSize = (preferredColumnSizeHashMap.get(currentHeading)).intValue();
-
-               // System.out.println(i + " " + j + " " + currentHeading + " " +
-               //                    columnName + " " + columnClass + " " +
-               //                    columnSQLType + " " + columnTypeName + " " +
-               //                    columnSize + " " + preferredColumnSize + " " + keyLength);
-
-               // Storing data appropriately. If you have some date
-               // or other formating, for a field here is where you
-               // can take care of it.
-
-               if (lobDataTypesHashMap.containsKey(currentHeading))
-                  currentContentData = "lob";
-               else if (columnTypeName.indexOf("BIT") != 1)
-                  currentContentData = rs.getString(columnName);
-               else
-                  currentContentData = rs.getObject(columnName);
-
-               if (currentContentData != null)
-               {
-                  // =============================================
-                  // BigDecimal
-                  if (columnClass.indexOf("BigDecimal") != -1)
-                     tableData[i][j++] = new BigDecimal(rs.getString(columnName));
-
-                  // =============================================
-                  // Date
-                  else if (columnTypeName.equals("DATE"))
-                  {
-                     currentContentData = rs.getDate(columnName);
-                     String displayDate = displayMyDateString(currentContentData + "");
-                     tableData[i][j++] = displayDate;
-                  }
-
-                  // =============================================
-                  // Time With Time Zone
-                  else if (columnTypeName.equals("TIMETZ"))
-                  {
-                     currentContentData = rs.getTime(columnName);
-                     tableData[i][j++] = (new SimpleDateFormat("HH:mm:ss z").format(currentContentData));
-                  }
-
-                  // =============================================
-                  // Timestamps
-                  else if (columnTypeName.equals("TIMESTAMP"))
-                  {
-                     currentContentData = rs.getTimestamp(columnName);
-                     tableData[i][j++] = (new SimpleDateFormat(
-                        DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
-                        + " HH:mm:ss").format(currentContentData));
-                  }
-
-                  else if (columnTypeName.equals("TIMESTAMPTZ"))
-                  {
-                     currentContentData = rs.getTimestamp(columnName);
-                     tableData[i][j++] = (new SimpleDateFormat(
-                        DBTablesPanel.getGeneralDBProperties().getViewDateFormat()
-                        + " HH:mm:ss z").format(currentContentData));
-                  }
-
-                  // =============================================
-                  // BYTEA
-                  else if (columnTypeName.equals("BYTEA"))
-                  {
-                     // Handles a key Blob
-                     if (keyLength != null)
-                     {
-                        BlobTextKey currentBlobElement = new BlobTextKey();
-                        currentBlobElement.setName("Bytea");
-
-                        String content = rs.getString(columnName);
-
-                        if (content.length() > keyLength.intValue())
-                           content = content.substring(0, keyLength.intValue());
-
-                        currentBlobElement.setContent(content);
-                        tableData[i][j++] = currentBlobElement;
-                     }
-                     else
-                     {
-                        tableData[i][j++] = "Bytea";
-                     }
-                  }
-
-                  // =============================================
-                  // Boolean
-                  else if (columnClass.indexOf("Boolean") != -1)
-                  {
-                     tableData[i][j++] = rs.getString(columnName);
-                  }
-
-                  // =============================================
-                  // Text
-                  else if (columnClass.indexOf("String") != -1 && columnTypeName.equals("TEXT")
-                           && columnSize > 255)
-                  {
-                     String stringName = "Text";
-
-                     // Handles a key String
-                     if (keyLength != null)
-                     {
-                        BlobTextKey currentBlobElement = new BlobTextKey();
-                        currentBlobElement.setName(stringName);
-
-                        String content = rs.getString(columnName);
-
-                        if (content.length() > keyLength.intValue())
-                           content = content.substring(0, keyLength.intValue());
-
-                        currentBlobElement.setContent(content);
-                        tableData[i][j++] = currentBlobElement;
-                     }
-                     else
-                     {
-                        tableData[i][j++] = stringName;
-                     }
-                  }
+            cellPlan = cellPlans[k];
 
-                  // =============================================
-                  // Array
-                  else if ((columnClass.indexOf("Object") != -1 || columnClass.indexOf("Array") != -1)
-                           && (columnTypeName.indexOf("_") != -1))
-                  {
-                     String stringName;
-                     currentContentData = rs.getString(columnName);
-                     stringName = (String) currentContentData;
+            // System.out.println(i + " " + j + " " + cellPlan.heading + " " +
+            //                    cellPlan.cellType + " " + cellPlan.preferredColumnSize);
 
-                     // Limit Table Cell Memory Usage.
-                     if (stringName.length() > 512)
-                        tableData[i][j++] = stringName.substring(0, 512);
-                     else
-                        tableData[i][j++] = stringName;
-                  }
+            // Storing data appropriately by the cell type set
+            // for the column in setCellType(). If you have some
+            // date or other formating, for a field here is where
+            // you can take care of it.
 
-                  // =============================================
-                  // Any Other
-                  else
-                  {
-                     tableData[i][j++] = rs.getString(columnName);
-                     // tableData[i][j++] = currentContentData;
-                  }
-               }
-               // Null Data
-               else
-               {
-                  tableData[i][j++] = "NULL";
-               }
+            if (cellPlan.lob)
+               currentContentData = "lob";
+            else if (cellPlan.columnTypeName.indexOf("BIT") != 1)
+               currentContentData = rs.getString(cellPlan.columnIndex);
+            else
+               currentContentData = rs.getObject(cellPlan.columnIndex);
 
-               // Setup some sizing for the column in the summary
-               // table.
-               if ((tableData[i][j - 1] + "").trim().length() * columnSizeScaling > preferredColumnSize)
+            if (currentContentData != null)
+            {
+               switch (cellPlan.cellType)
                {
-                  preferredColumnSize = (tableData[i][j - 1] + "").trim().length() * columnSizeScaling;
-                  if (preferredColumnSize > MAX_PREFERRED_COLUMN_SIZE)
-                     preferredColumnSize = MAX_PREFERRED_COLUMN_SIZE;
+                  case CELL_BIGDECIMAL:
+                     tableData.setObject(i, j++, new BigDecimal(rs.getString(cellPlan.columnIndex)));
+                     break;
+                  case CELL_DATE:
+                     setTemporalCell(tableData, i, j++, rs.getDate(cellPlan.columnIndex));
+                     break;
+                  case CELL_TIME:
+                     setTemporalCell(tableData, i, j++, rs.getTime(cellPlan.columnIndex));
+                     break;
+                  case CELL_TIMESTAMP:
+                     setTemporalCell(tableData, i, j++, rs.getTimestamp(cellPlan.columnIndex));
+                     break;
+                  case CELL_LOB:
+                     tableData.setObject(i, j++, getLobCell(rs, cellPlan));
+                     break;
+                  case CELL_BOOLEAN:
+                     tableData.setObject(i, j++, rs.getString(cellPlan.columnIndex));
+                     break;
+                  case CELL_ARRAY:
+                     currentContentData = rs.getString(cellPlan.columnIndex);
+                     tableData.setObject(i, j++, getTextCell(rs, cellPlan, (String) currentContentData));
+                     break;
+                  default:
+                     setCell(tableData, i, j++, rs, cellPlan, currentContentData);
                }
-               preferredColumnSizeHashMap.put(currentHeading,
-                                              Integer.valueOf(preferredColumnSize));
             }
-            j = 0;
-            i++;
-         }
-         return true;
-      }
-      catch (SQLException e)
-      {
-         ConnectionManager.displaySQLErrors(e, "TableTabPanel_PostgreSQL loadTable()");
-         return false;
-      }
-      finally
-      {
-         try
-         {
-            if (rs != null)
-               rs.close();
-         }
-         catch (SQLException sqle)
-         {
-            ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_PostgreSQL loadTable()");
-         }
-         finally
-         {
-            try
-            {
-               if (sqlStatement != null)
-                  sqlStatement.close();
-            }
-            catch (SQLException sqle)
+            // Null Data
+            else
             {
-               ConnectionManager.displaySQLErrors(sqle, "TableTabPanel_PostgreSQL loadTable()");
+               tableData.setNull(i, j++);
             }
+
+            // Setup some sizing for the column in the summary
+            // table.
+            updatePreferredColumnSize(cellPlan, tableData, i, j - 1);
          }
+         j = 0;
+         i++;
       }
    }
 
@@ -0,0 +1,463 @@
+//=================================================================
+//                       BulkLoadWriter
+//=================================================================
+//
+//    This class provides the means to write a table's data in the
+// native bulk load format of its database for a SQL dump, ie.
+// PostgreSQL COPY, MySQL LOAD DATA, H2 CSVREAD, & Oracle
+// SQL*Loader.
+//
+//                   << BulkLoadWriter.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial BulkLoadWriter Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.io;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+
+import com.dandymadeproductions.ajqvue.Ajqvue;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+
+/**
+ *    The BulkLoadWriter class provides the means to write a table's
+ * data in the native bulk load format of its database for a SQL dump.
+ * PostgreSQL data is written inline as a COPY ... FROM stdin block.
+ * MySQL, MariaDB, H2, & Oracle data is written to a CSV side file
+ * next to the dump, loaded by a LOAD DATA LOCAL INFILE, CSVREAD, or
+ * SQL*Loader control file respectively. Side files are referenced by
+ * name only so are resolved relative to the dump's directory.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class BulkLoadWriter
+{
+   // Class Instances.
+   private String dataSourceType;
+   private String dataFileName;
+   private String controlFileName;
+   private FileOutputStream dataFileStream;
+   private DumpWriter rowWriter;
+   private String[] columnTypeNames;
+   private boolean[] binaryColumns;
+   private int[] columnSizes;
+   private int columnCount;
+   private String nullString;
+
+   public static final String COPY_END = "\\.";
+   public static final String SQLLOADER_MARKER = "-- SQL*Loader: sqlldr control=";
+   public static final String SQLLOADER_TIMESTAMP = "TIMESTAMP \"YYYY-MM-DD HH24:MI:SS.FF\"";
+   public static final String SQLLOADER_CHAR = "CHAR";
+   public static final int SQLLOADER_CHAR_SIZE = 4000;
+
+   //==============================================================
+   // BulkLoadWriter Constructor
+   //==============================================================
+
+   public BulkLoadWriter(String dataSourceType, String dumpFileName, String tableName)
+   {
+      this.dataSourceType = dataSourceType;
+
+      // Side files named for the dump & table.
+      if (!dataSourceType.equals(ConnectionManager.POSTGRESQL))
+      {
+         tableName = tableName.replaceAll("[^A-Za-z0-9_.-]", "_");
+
+         if (dataSourceType.equals(ConnectionManager.ORACLE))
+         {
+            dataFileName = dumpFileName + "." + tableName + ".dat";
+            controlFileName = dumpFileName + "." + tableName + ".ctl";
+            nullString = "";
+         }
+         else
+         {
+            dataFileName = dumpFileName + "." + tableName + ".csv";
+            nullString = "NULL";
+         }
+      }
+   }
+
+   //==============================================================
+   // Class method to determine if the database has a native bulk
+   // load format. SQL*Loader has no simple form for binary data so
+   // is not used for tables holding it.
+   //==============================================================
+
+   public static boolean isSupported(String dataSourceType, boolean hasBinary)
+   {
+      if (dataSourceType.equals(ConnectionManager.POSTGRESQL)
+          || dataSourceType.equals(ConnectionManager.MYSQL)
+          || dataSourceType.equals(ConnectionManager.MARIADB)
+          || dataSourceType.equals(ConnectionManager.H2))
+         return true;
+      else if (dataSourceType.equals(ConnectionManager.ORACLE))
+         return !hasBinary;
+      else
+         return false;
+   }
+
+   //==============================================================
+   // Class method to begin the bulk load of the table, writing the
+   // load statement to the dump & creating the side files. The
+   // column names are given already quoted for the export. The
+   // column sizes, characters, only size the SQL*Loader fields,
+   // zero for unknown.
+   //==============================================================
+
+   public void writeHeader(DumpWriter dumpWriter, String schemaTableName, ArrayList<String> columnNames,
+                           String[] columnTypeNames, boolean[] binaryColumns, int[] columnSizes)
+                           throws IOException
+   {
+      // Method Instances
+      StringBuilder columnNamesString;
+      StringBuilder setString;
+      String sideFileName;
+
+      this.columnTypeNames = columnTypeNames;
+      this.binaryColumns = binaryColumns;
+      this.columnSizes = columnSizes;
+      columnCount = columnNames.size();
+
+      columnNamesString = new StringBuilder();
+      for (int i = 0; i < columnCount; i++)
+      {
+         if (i > 0)
+            columnNamesString.append(", ");
+         columnNamesString.append(columnNames.get(i));
+      }
+
+      // PostgreSQL, data inline.
+      if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
+      {
+         dumpWriter.append("COPY " + schemaTableName + " (" + columnNamesString + ") FROM stdin;\n");
+         rowWriter = dumpWriter;
+         return;
+      }
+
+      dataFileStream = new FileOutputStream(dataFileName, false);
+      rowWriter = new DumpWriter(dataFileStream.getChannel(), DumpWriter.DEFAULT_BUFFER_SIZE);
+      sideFileName = sqlString(new File(dataFileName).getName());
+
+      // MySQL & MariaDB, binary data hex encoded through
+      // user variables.
+      if (dataSourceType.equals(ConnectionManager.MYSQL)
+          || dataSourceType.equals(ConnectionManager.MARIADB))
+      {
+         columnNamesString.setLength(0);
+         setString = new StringBuilder();
+
+         for (int i = 0; i < columnCount; i++)
+         {
+            if (i > 0)
+               columnNamesString.append(", ");
+
+            if (binaryColumns[i])
+            {
+               columnNamesString.append("@bulk" + i);
+               setString.append((setString.length() == 0 ? " SET " : ", ") + columnNames.get(i)
+                                + " = UNHEX(@bulk" + i + ")");
+            }
+            else
+               columnNamesString.append(columnNames.get(i));
+         }
+
+         dumpWriter.append("LOAD DATA LOCAL INFILE '" + sideFileName + "' INTO TABLE " + schemaTableName
+                           + " FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY ''"
+                           + " LINES TERMINATED BY '\\n' IGNORE 1 LINES (" + columnNamesString + ")"
+                           + setString + ";\n");
+      }
+      // H2
+      else if (dataSourceType.equals(ConnectionManager.H2))
+      {
+         dumpWriter.append("INSERT INTO " + schemaTableName + " (" + columnNamesString + ") "
+                           + "SELECT * FROM CSVREAD('" + sideFileName + "', NULL, 'null=NULL');\n");
+      }
+      // Oracle, control file for SQL*Loader.
+      else
+      {
+         writeControlFile(schemaTableName, columnNames);
+         dumpWriter.append(SQLLOADER_MARKER + new File(controlFileName).getName() + "\n");
+      }
+
+      // Column headings, unquoted.
+      for (int i = 0; i < columnCount; i++)
+      {
+         if (i > 0)
+            rowWriter.append(',');
+         appendQuoted(columnNames.get(i).replaceAll("^[\"`\\[]|[\"`\\]]$", ""));
+      }
+      rowWriter.append('\n');
+      rowWriter.commit();
+   }
+
+   //==============================================================
+   // Class method to write the SQL*Loader control file.
+   //==============================================================
+
+   private void writeControlFile(String schemaTableName, ArrayList<String> columnNames) throws IOException
+   {
+      // Method Instances
+      FileOutputStream controlFileStream;
+      DumpWriter controlWriter;
+
+      controlFileStream = new FileOutputStream(controlFileName, false);
+      controlWriter = new DumpWriter(controlFileStream.getChannel(), 1024);
+
+      try
+      {
+         controlWriter.append("OPTIONS (SKIP=1)\n");
+         controlWriter.append("LOAD DATA\n");
+         controlWriter.append("INFILE '" + new File(dataFileName).getName() + "'\n");
+         controlWriter.append("APPEND\n");
+         controlWriter.append("INTO TABLE " + schemaTableName + "\n");
+         controlWriter.append("FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"'\n");
+         controlWriter.append("TRAILING NULLCOLS\n");
+         controlWriter.append("(\n");
+
+         for (int i = 0; i < columnCount; i++)
+         {
+            controlWriter.append(columnNames.get(i) + " "
+                                 + (isTimeStamp(i) ? SQLLOADER_TIMESTAMP : getSQLLoaderChar(i))
+                                 + (i < columnCount - 1 ? ",\n" : "\n"));
+         }
+         controlWriter.append(")\n");
+      }
+      finally
+      {
+         try
+         {
+            controlWriter.close();
+         }
+         finally
+         {
+            controlFileStream.close();
+         }
+      }
+   }
+
+   //==============================================================
+   // Class method to write the current row of the result set.
+   //==============================================================
+
+   public void writeRow(ResultSet rs) throws SQLException, IOException
+   {
+      // Method Instances
+      String contentString;
+      byte[] theBytes;
+      Timestamp timeStamp;
+
+      for (int i = 0; i < columnCount; i++)
+      {
+         if (i > 0)
+            rowWriter.append(dataSourceType.equals(ConnectionManager.POSTGRESQL) ? '\t' : ',');
+
+         // Binary, hex encoded.
+         if (binaryColumns[i])
+         {
+            theBytes = rs.getBytes(i + 1);
+
+            if (theBytes == null)
+               appendNull();
+            else
+            {
+               if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
+                  rowWriter.append("\\\\x");
+               rowWriter.appendHex(theBytes);
+            }
+            continue;
+         }
+
+         // Oracle dates & timestamps in the control file mask.
+         if (dataSourceType.equals(ConnectionManager.ORACLE) && isTimeStamp(i))
+         {
+            timeStamp = rs.getTimestamp(i + 1);
+            contentString = (timeStamp == null) ? null : timeStamp.toString();
+         }
+         else
+            contentString = rs.getString(i + 1);
+
+         if (contentString == null)
+            appendNull();
+         else
+         {
+            // Fix for connectorJ returning a whole date for YEAR.
+            if (columnTypeNames[i].indexOf("YEAR") != -1 && contentString.length() > 4)
+               contentString = contentString.substring(0, 4);
+
+            if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
+               appendCopyEscaped(contentString);
+            else
+               appendQuoted(contentString);
+         }
+      }
+      rowWriter.append('\n');
+      rowWriter.commit();
+   }
+
+   //==============================================================
+   // Class method to end the bulk load of the table & close the
+   // side files.
+   //==============================================================
+
+   public void close(DumpWriter dumpWriter) throws IOException
+   {
+      if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
+      {
+         dumpWriter.append(COPY_END + "\n");
+         return;
+      }
+
+      try
+      {
+         if (rowWriter != null)
+            rowWriter.close();
+      }
+      finally
+      {
+         if (dataFileStream != null)
+            dataFileStream.close();
+      }
+   }
+
+   //==============================================================
+   // Class method to remove the side files of a canceled dump.
+   //==============================================================
+
+   public void delete()
+   {
+      deleteFile(dataFileName);
+      deleteFile(controlFileName);
+   }
+
+   private void deleteFile(String sideFileName)
+   {
+      if (sideFileName == null)
+         return;
+
+      try
+      {
+         File sideFile = new File(sideFileName);
+
+         if (sideFile.exists() && !sideFile.delete())
+            throw new SecurityException();
+      }
+      catch (SecurityException se)
+      {
+         if (Ajqvue.getDebug())
+            System.out.println("Failed to Delete: '" + sideFileName + "'. " + se.toString());
+      }
+   }
+
+   //==============================================================
+   // Class methods to append content in the bulk format.
+   //==============================================================
+
+   private void appendNull()
+   {
+      if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
+         rowWriter.append("\\N");
+      else
+         rowWriter.append(nullString);
+   }
+
+   private void appendQuoted(String content)
+   {
+      rowWriter.append('"');
+      for (int i = 0; i < content.length(); i++)
+      {
+         if (content.charAt(i) == '"')
+            rowWriter.append('"');
+         rowWriter.append(content.charAt(i));
+      }
+      rowWriter.append('"');
+   }
+
+   private void appendCopyEscaped(String content)
+   {
+      // Method Instances
+      char c;
+
+      for (int i = 0; i < content.length(); i++)
+      {
+         c = content.charAt(i);
+
+         if (c == '\\')
+            rowWriter.append("\\\\");
+         else if (c == '\t')
+            rowWriter.append("\\t");
+         else if (c == '\n')
+            rowWriter.append("\\n");
+         else if (c == '\r')
+            rowWriter.append("\\r");
+         else
+            rowWriter.append(c);
+      }
+   }
+
+   //==============================================================
+   // Class method to determine if a column is an Oracle date or
+   // timestamp, loaded through the SQL*Loader timestamp mask.
+   //==============================================================
+
+   private boolean isTimeStamp(int index)
+   {
+      return columnTypeNames[index].equals("DATE") || columnTypeNames[index].indexOf("TIMESTAMP") != -1;
+   }
+
+   //==============================================================
+   // Class method to return the SQL*Loader character field of a
+   // column sized to hold it, SQL*Loader otherwise rejecting any
+   // value over 255 characters.
+   //==============================================================
+
+   private String getSQLLoaderChar(int index)
+   {
+      if (columnSizes == null || columnSizes[index] <= 0)
+         return SQLLOADER_CHAR + "(" + SQLLOADER_CHAR_SIZE + ")";
+      else
+         return SQLLOADER_CHAR + "(" + columnSizes[index] + ")";
+   }
+
+   //==============================================================
+   // Class method to quote a file name as a SQL string literal.
+   //==============================================================
+
+   private static String sqlString(String content)
+   {
+      return content.replace("'", "''");
+   }
+}
@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.7 07/21/2018
+// Version 1.8 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -51,6 +51,14 @@
 //         1.7 07/21/2018 Method run() Processing for SQLite Date, Datetime, & Timestamp
 //                        Corrected, getDate() & getTimestamp() Always Return a View
 //                        Date Format as Defined in GeneralDBProperties.
+//         1.8 10/18/2026 Row Count Estimated Via RowCountService, Exact Count Taken in
+//                        Background, Class Instance rowCountFuture, Canceled When Dump
+//                        Finishes. Paging Terminated on Short Page. Output Stream Opened
+//                        via DumpStreams.openOutput() for Gzip Compressed Output to *.gz
+//                        Files. Rows & Bytes Written Recorded in a ThroughputMeter.
+//                        Method dumpChunkOfData() Flight Recorder DataChunkEvent.
+//                        Progress Bar a ProgressIndicator From
+//                        ProgressBar.createProgressIndicator(), Headless Safe.
 //             
 //-----------------------------------------------------------------
 //                   danap@dandymadeproductions.com
@@ -60,8 +68,8 @@ package com.dandymadeproductions.ajqvue.io;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -70,6 +78,7 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.concurrent.Future;
 
 import javax.swing.JOptionPane;
 
@@ -78,7 +87,14 @@ import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
 import com.dandymadeproductions.ajqvue.gui.panels.DBTablesPanel;
 import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_SQLite;
 import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
+import com.dandymadeproductions.ajqvue.utilities.ProgressIndicator;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
+import com.dandymadeproductions.ajqvue.utilities.db.RowCountListener;
+import com.dandymadeproductions.ajqvue.utilities.db.RowCountService;
+import com.dandymadeproductions.ajqvue.utilities.metrics.DataChunkEvent;
+import com.dandymadeproductions.ajqvue.utilities.metrics.FlightRecording;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
+import com.dandymadeproductions.ajqvue.utilities.metrics.ThroughputMeter;
 
 /**
  *    The CSVDataDumpThread class provides a thread to safely dump
@@ -86,13 +102,15 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * is provided to allow the ability to prematurely terminate the dump.
  * 
  * @author Dana M. Proctor
- * @version 1.7 07/21/2018
+ * @version 1.8 10/18/2026
  */
 
 public class CSVDataDumpThread implements Runnable
 {
    // Class Instances
    private String exportedTable, fileName;
+   private ThroughputMeter throughputMeter;
+   private Future<?> rowCountFuture;
    private boolean limits;
    
    private ArrayList<String> columnNameFields;
@@ -133,9 +151,9 @@ public class CSVDataDumpThread implements Runnable
    {
       // Class Method Instances
       Object dumpData;
-      FileOutputStream fileStream;
+      OutputStream fileStream;
       BufferedOutputStream filebuff;
-      ProgressBar dumpProgressBar;
+      final ProgressIndicator dumpProgressBar;
       
       Iterator<String> columnNamesIterator;
       StringBuffer columnNamesString;
@@ -158,6 +176,7 @@ public class CSVDataDumpThread implements Runnable
       int rowsCount;
       int currentTableIncrement;
       int currentRow;
+      int pageRows;
       int limitIncrement;
 
       String sqlStatementString;
@@ -171,7 +190,7 @@ public class CSVDataDumpThread implements Runnable
       identifierQuoteString = ConnectionManager.getIdentifierQuoteString();
       dataSourceType = ConnectionManager.getDataSourceType();
       schemaTableName = Utils.getSchemaTableName(exportedTable);
-      dumpProgressBar = new ProgressBar(exportedTable + " Dump");
+      dumpProgressBar = ProgressBar.createProgressIndicator(exportedTable + " Dump");
 
       // Get Connection to Database.
       Connection db_Connection = ConnectionManager.getConnection("CSVDataDumpThread run()");
@@ -199,8 +218,9 @@ public class CSVDataDumpThread implements Runnable
                 System.out.println("Failed to Delete: '" + fileName + "'. " + se.toString());
             }
          }
-         fileStream = new FileOutputStream(fileName, true);
+         fileStream = DumpStreams.openOutput(fileName, true);
          filebuff = new BufferedOutputStream(fileStream);
+         throughputMeter = MetricsRegistry.startThroughput(MetricsRegistry.DUMP_CSV, exportedTable);
          
          // Collect the column names.
          columnNamesString = new StringBuffer();
@@ -253,23 +273,30 @@ public class CSVDataDumpThread implements Runnable
          {
             sqlStatement = db_Connection.createStatement();
             
-            // Collect the row count of the table and setting
-            // up a progress bar for tracking/canceling.
+            // Collect the row count of the table, an estimate with the
+            // exact count following in the background, and setting up
+            // a progress bar for tracking/canceling.
             
             if (limits)
                rowsCount = DBTablesPanel.getSelectedTableTabPanel().getValidDataRowCount();
             else
-            {
-               sqlStatementString = "SELECT COUNT(*) FROM " + schemaTableName;
-               // System.out.println(sqlStatementString);
+               rowsCount = RowCountService.getEstimatedRowCount(db_Connection, dataSourceType,
+                                                                schemaTableName);
 
-               dbResultSet = sqlStatement.executeQuery(sqlStatementString);
-
-               if (dbResultSet.next())
-                  rowsCount = dbResultSet.getInt(1);
+            if (rowsCount >= 0)
+               dumpProgressBar.setTaskLength(rowsCount);
+            
+            if (!limits)
+            {
+               rowCountFuture = RowCountService.countRows(schemaTableName, new RowCountListener()
+               {
+                  public void rowCountAvailable(int rowCount)
+                  {
+                     if (!dumpProgressBar.isCanceled())
+                        dumpProgressBar.setTaskLength(rowCount);
+                  }
+               });
             }
-
-            dumpProgressBar.setTaskLength(rowsCount);
             dumpProgressBar.pack();
             dumpProgressBar.center();
             dumpProgressBar.setVisible(true);
@@ -341,10 +368,13 @@ public class CSVDataDumpThread implements Runnable
                dbResultSet = sqlStatement.executeQuery(sqlStatementString);
                
                // Actual data dump.
+               pageRows = 0;
                while (dbResultSet.next() && !dumpProgressBar.isCanceled())
                {
                   int i = 1;
                   dumpProgressBar.setCurrentValue(currentRow++);
+                  throughputMeter.addRows(1);
+                  pageRows++;
 
                   columnNamesIterator = columnNameFields.iterator();
                   
@@ -602,7 +632,8 @@ public class CSVDataDumpThread implements Runnable
                }
                currentTableIncrement += limitIncrement;
             }
-            while (!limits && currentTableIncrement < rowsCount && !dumpProgressBar.isCanceled());
+            while (!limits && pageRows == limitIncrement
+                   && !dataSourceType.equals(ConnectionManager.MSACCESS) && !dumpProgressBar.isCanceled());
             
             dumpProgressBar.dispose();
          }
@@ -613,6 +644,10 @@ public class CSVDataDumpThread implements Runnable
          }
          finally
          {
+            // Dump finished, count no longer needed.
+            if (rowCountFuture != null)
+               rowCountFuture.cancel(false);
+            
             try
             {
                if (dbResultSet != null)
@@ -670,6 +705,9 @@ public class CSVDataDumpThread implements Runnable
                   System.out.println("CSVDataDumpThread run() Failed to Close FileStream. "
                                      + ioe);
             }
+            
+            if (throughputMeter != null)
+               throughputMeter.finish();
          } 
       }
       ConnectionManager.closeConnection(db_Connection, "CSVDataDumpThread run()");
@@ -683,13 +721,29 @@ public class CSVDataDumpThread implements Runnable
    {
       // Class Method Instances
       byte[] currentBytes;
+      DataChunkEvent chunkEvent;
 
       // Dump the Chunk.
       try
       {
+         chunkEvent = null;
+         
+         if (FlightRecording.isEnabled())
+         {
+            chunkEvent = new DataChunkEvent(throughputMeter.getOperation(), throughputMeter.getName());
+            chunkEvent.begin();
+         }
+         
          currentBytes = dumpData.toString().getBytes();
          filebuff.write(currentBytes);
+         throughputMeter.addBytes(currentBytes.length);
          filebuff.flush();
+         
+         if (chunkEvent != null)
+         {
+            chunkEvent.setChunk(0, currentBytes.length);
+            chunkEvent.commit();
+         }
       }
       catch (IOException e)
       {
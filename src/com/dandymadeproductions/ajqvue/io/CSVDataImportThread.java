@@ -11,7 +11,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.9 07/04/2018
+// Version 2.0 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -49,6 +49,16 @@
 //             Error Crash.
 //         1.9 Method importCSVFile() Corrected columnSQLType Extraction From
 //             columnSQLTypeHashMap as int.
+//         2.0 Method importCSVFile() Single Pass Through CSVTokenizer, Reader Opened
+//             via DumpStreams.openInput() for Gzip Compressed Input, Progress by File
+//             Bytes Read. Data Bound to PreparedStatements in Batches From
+//             columnClassHashMap. Added Methods createColumnBindings(),
+//             createBindOrder(), getStatementKey(), createSQLStatement(), bindValue(),
+//             bindNumeric(), bindString(), closeStatements(), & executeBatch() With
+//             Flight Recorder DataChunkEvent. Removed Method separateTokens(). Rows &
+//             Bytes Read Recorded in a ThroughputMeter. Progress Bar a
+//             ProgressIndicator From ProgressBar.createProgressIndicator(), Headless
+//             Safe.
 //
 //-----------------------------------------------------------------
 //                   danap@dandymadeproductions.com
@@ -56,16 +66,22 @@
 
 package com.dandymadeproductions.ajqvue.io;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Locale;
+import java.util.LinkedHashMap;
 import java.util.StringTokenizer;
 
 import javax.swing.JOptionPane;
@@ -73,10 +89,16 @@ import javax.swing.JOptionPane;
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
 import com.dandymadeproductions.ajqvue.gui.panels.DBTablesPanel;
+import com.dandymadeproductions.ajqvue.gui.panels.GeneralPreferencesPanel;
 import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel;
 import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
+import com.dandymadeproductions.ajqvue.utilities.ProgressIndicator;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 import com.dandymadeproductions.ajqvue.utilities.db.SQLQuery;
+import com.dandymadeproductions.ajqvue.utilities.metrics.DataChunkEvent;
+import com.dandymadeproductions.ajqvue.utilities.metrics.FlightRecording;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
+import com.dandymadeproductions.ajqvue.utilities.metrics.ThroughputMeter;
 
 /**
  *    The CSVDataImportThread class provide the means to import a
@@ -85,7 +107,7 @@ import com.dandymadeproductions.ajqvue.utilities.db.SQLQuery;
  * address the ability to cancel the import.
  * 
  * @author Dana M. Proctor
- * @version 1.9 07/04/2018
+ * @version 2.0 10/18/2026
  */
 
 public class CSVDataImportThread implements Runnable
@@ -101,6 +123,22 @@ public class CSVDataImportThread implements Runnable
    private boolean validImport;
    private boolean useStatusDialog;
    private boolean temporaryDataFile;
+   
+   private int[] columnBindings;
+   private int[] columnSQLTypes;
+   private String[] columnParameters;
+   private boolean postgreSQLFallback;
+   
+   private static final int BIND_STRING = 0;
+   private static final int BIND_OTHER = 1;
+   private static final int BIND_NULL = 2;
+   private static final int BIND_NUMERIC = 3;
+   private static final int BIND_BIT = 4;
+   private static final int BIND_BOOLEAN = 5;
+   private static final int BIND_DATE = 6;
+   private static final int BIND_DATE_STRING = 7;
+   private static final int BIND_TIMESTAMP = 8;
+   private static final int BIND_TIMESTAMP_STRING = 9;
 
    //==============================================================
    // CSVDataImportThread Constructors.
@@ -196,13 +234,16 @@ public class CSVDataImportThread implements Runnable
    {
       // Class Method Instances.
       Statement sqlStatement;
-      StringBuffer sqlFieldNamesString;
-      StringBuffer sqlValuesString;
-      String sqlKeyString;
-      StringBuffer sqlStatementString;
+      PreparedStatement prepared_sqlStatement;
+      HashMap<String, PreparedStatement> preparedStatements;
+      String sqlStatementKey;
+      String lastStatementKey;
 
-      FileReader fileReader;
-      BufferedReader bufferedReader;
+      FileInputStream fileInputStream;
+      FileChannel fileChannel;
+      CSVTokenizer csvTokenizer;
+      ThroughputMeter throughputMeter;
+      long filePosition, lastFilePosition;
 
       String schemaTableName;
       ArrayList<String> primaryKeys;
@@ -214,21 +255,17 @@ public class CSVDataImportThread implements Runnable
       String catalogSeparator;
       String identifierQuoteString;
 
-      String currentLine;
-      String columnClass;
-      int columnSQLType;
-      String columnTypeName;
-      
-      int fileLineLength;
       int fieldNumber;
       int line;
-      String[] lineContent;
+      ArrayList<String> lineContent;
+      boolean[] defaultFields;
+      int[] bindOrder;
       int currentBatchRows;
       int batchSize;
       boolean batchSizeEnabled;
       boolean identityInsertEnabled;
       
-      ProgressBar csvImportProgressBar;
+      ProgressIndicator csvImportProgressBar;
       String dateFormat;
 
       // Setting up.
@@ -239,17 +276,20 @@ public class CSVDataImportThread implements Runnable
       batchSize = DBTablesPanel.getGeneralDBProperties().getBatchSize();
       batchSizeEnabled = DBTablesPanel.getGeneralDBProperties().getBatchSizeEnabled();
       
+      if (batchSize < 1)
+         batchSize = GeneralPreferencesPanel.DEFAULT_BATCH_SIZE;
+      
       if (dataSourceType.equals(ConnectionManager.MSSQL)
           && DBTablesPanel.getSelectedTableTabPanel() != null)
          identityInsertEnabled = DBTablesPanel.getDataImportProperties().getIdentityInsert();
       else
          identityInsertEnabled = false;
       
-      fileReader = null;
-      bufferedReader = null;
+      fileInputStream = null;
       sqlStatement = null;
-      csvImportProgressBar = new ProgressBar("CSV Import To: " + importTable);
-      fileLineLength = 0;
+      preparedStatements = new LinkedHashMap <String, PreparedStatement>();
+      csvImportProgressBar = ProgressBar.createProgressIndicator("CSV Import To: " + importTable);
+      throughputMeter = null;
       line = 0;
       
       // Determine database connection.
@@ -320,8 +360,8 @@ public class CSVDataImportThread implements Runnable
                                        + " ON");
 
          // Begin the processing of the input CSV file by reading
-         // each line and separating field data. Expectation
-         // being that the first line will hold the field names
+         // each record and separating field data. Expectation
+         // being that the first record will hold the field names
          // thereafter data.
          
          // Only MySQL & PostgreSQL supports.
@@ -332,36 +372,67 @@ public class CSVDataImportThread implements Runnable
 
          try
          {
-            // Setting file reader & progress bar.
-            fileReader = new FileReader(fileName);
-            bufferedReader = new BufferedReader(fileReader);
-
-            while ((currentLine = bufferedReader.readLine()) != null)
-               fileLineLength++;
-
-            csvImportProgressBar.setTaskLength(fileLineLength);
+            // Setting file reader & progress bar. The file, possibly
+            // gzip compressed, is read once with progress tracked by
+            // the kilobytes consumed.
+            fileInputStream = new FileInputStream(fileName);
+            fileChannel = fileInputStream.getChannel();
+            csvTokenizer = new CSVTokenizer(new InputStreamReader(DumpStreams.openInput(fileInputStream)),
+                                            DBTablesPanel.getDataImportProperties().getDataDelimiter());
+            throughputMeter = MetricsRegistry.startThroughput(MetricsRegistry.IMPORT_CSV, importTable);
+            lastFilePosition = 0;
+
+            csvImportProgressBar.setTaskLength((int) (fileChannel.size() >> 10) + 1);
             csvImportProgressBar.pack();
             csvImportProgressBar.center();
             csvImportProgressBar.setVisible(useStatusDialog);
             validImport = true;
 
-            // Beginning processing the input file for insertions
-            // into the database table.
-
-            bufferedReader.close();
-            fileReader = new FileReader(fileName);
-            bufferedReader = new BufferedReader(fileReader);
-
-            sqlFieldNamesString = new StringBuffer();
-            sqlValuesString = new StringBuffer();
-            sqlStatementString = new StringBuffer();
+            // Obtain the field names from the first record and
+            // setup how each column's data will be bound.
+            
+            lineContent = new ArrayList <String>();
+            
+            if (!csvTokenizer.nextRecord(lineContent))
+               validImport = false;
+            
+            fieldNumber = lineContent.size();
+            
+            for (int i = 0; i < fieldNumber; i++)
+            {
+               if (argConnection)
+                  tableFields.add(lineContent.get(i));
+               else
+                  tableFields.add(parseColumnNameField(lineContent.get(i)));
+               
+               fields.add(lineContent.get(i));
+               
+               // Check fields match selected tab.
+               if (!columnClassHashMap.containsKey(tableFields.get(i)))
+                  validImport = false;
+            }
+            
+            if (validImport)
+            {
+               createColumnBindings(tableFields, columnClassHashMap, columnSQLTypeHashMap,
+                                    columnTypeNameHashMap);
+               bindOrder = createBindOrder(fields, primaryKeys);
+            }
+            else
+               bindOrder = new int[0];
+            
+            defaultFields = new boolean[fieldNumber];
+            lastStatementKey = null;
+            prepared_sqlStatement = null;
             currentBatchRows = 0;
-            fieldNumber = 0;
             line = 1;
 
-            while ((currentLine = bufferedReader.readLine()) != null)
+            // Beginning processing the input file for insertions
+            // into the database table.
+
+            while (validImport && csvTokenizer.nextRecord(lineContent))
             {
-               // System.out.println(currentLine);
+               line++;
 
                // Check to see if user wishes to stop.
                if (csvImportProgressBar.isCanceled())
@@ -369,271 +440,91 @@ public class CSVDataImportThread implements Runnable
                   validImport = false;
                   break;
                }
-
-               // Create the required SQL insertation statement
-               // with field names or the update statement.
-               if (line == 1)
+               
+               // Skip blank lines.
+               if (lineContent.size() == 1 && lineContent.get(0).isEmpty())
+                  continue;
+               
+               if (lineContent.size() > fieldNumber)
                {
-                  // Create Intial Insert Statement
-                  if (csvOption.equals("Insert"))
-                     sqlFieldNamesString.append("INSERT INTO " + schemaTableName + " (");
-                  // Create Intial Update Statement
-                  else
-                     sqlFieldNamesString.append("UPDATE " + schemaTableName + " SET ");
-
-                  lineContent = separateTokens(currentLine, 0);
-                  fieldNumber = lineContent.length;
-
-                  // Inserting fields names or storing them for later
-                  // use with an update statement.
-                  for (int i = 0; i < fieldNumber; i++)
-                  {
-                     if (csvOption.equals("Insert"))
-                        sqlFieldNamesString.append(identifierQuoteString + lineContent[i]
-                                                   + identifierQuoteString + ", ");
-                     if (argConnection)
-                        tableFields.add(lineContent[i]);
-                     else
-                        tableFields.add(parseColumnNameField(lineContent[i]));
-                     
-                     fields.add(lineContent[i]);
-                  }
-                  if (csvOption.equals("Insert"))
-                  {
-                     sqlFieldNamesString.delete((sqlFieldNamesString.length() - 2),
-                                                sqlFieldNamesString.length());
-                     sqlFieldNamesString.append(") VALUES (");
-                  }
+                  String msg = "Line# " + csvTokenizer.getLineNumber() + " Has " + lineContent.size()
+                               + " Fields, Expected " + fieldNumber + ".";
+                  JOptionPane.showMessageDialog(null, msg, fileName, JOptionPane.ERROR_MESSAGE);
+                  validImport = false;
+                  break;
                }
-
-               // Create SQL statement data field content.
-               else
+               
+               // Missing trailing fields take the column default.
+               while (lineContent.size() < fieldNumber)
+                  lineContent.add("");
+               
+               // Determine the statement for the default fields of
+               // this record, executing the pending batch when it
+               // changes to maintain the order of the data.
+               
+               sqlStatementKey = getStatementKey(lineContent, defaultFields);
+               
+               if (!sqlStatementKey.equals(lastStatementKey))
                {
-                  // Reset strings for each line of data.
-                  sqlValuesString.delete(0, sqlValuesString.length());
-                  sqlStatementString.delete(0, sqlStatementString.length());
-                  sqlKeyString = "";
-
-                  lineContent = separateTokens(currentLine, fieldNumber);
-
-                  for (int i = 0; i < lineContent.length; i++)
-                  {
-                     // Check fields match selected tab.
-                     if (!columnClassHashMap.containsKey(tableFields.get(i)))
-                     {
-                        validImport = false;
-                        break;
-                     }
-                     
-                     columnClass = columnClassHashMap.get(tableFields.get(i));
-                     columnSQLType = columnSQLTypeHashMap.get(tableFields.get(i)).intValue();
-                     columnTypeName = columnTypeNameHashMap.get(tableFields.get(i));
-                     
-                     // System.out.println("tableField:" + tableFields.get(i) + " ColumnClass: "
-                     //                    + columnClass + " ColumnSQLType: " + columnSQLType
-                     //                    + " ColumnType: " + columnTypeName
-                     //                    + " " + lineContent[i]);
-
-                     // Make sure and catch all null default entries first.
-
-                     if (lineContent[i].toLowerCase(Locale.ENGLISH).equals("null")
-                         || lineContent[i].toLowerCase(Locale.ENGLISH).equals("default"))
-                     {
-                        // Do Nothing.
-                     }
-
-                     // Just set lineContent with no data to default.
-
-                     else if (lineContent[i].equals(""))
-                        lineContent[i] = "default";
-
-                     // All Blob/Bytea, Binary Data Exported as Text
-                     // 'Binary' in DataDumpThread for CSV.
-
-                     else if (Utils.isBlob(columnClass, columnTypeName))
-                     {
-                        lineContent[i] = "null";
-                     }
-
-                     // MySQL/MariaDB Bit Fields
-
-                     else if ((dataSourceType.equals(ConnectionManager.MYSQL)
-                               || dataSourceType.equals(ConnectionManager.MARIADB))
-                              && columnTypeName != null
-                              && columnTypeName.indexOf("BIT") != -1)
-                     {
-                        lineContent[i] = "B'" + lineContent[i] + "'";
-                     }
-
-                     // PostgreSQL Geometric Fields
-
-                     else if (dataSourceType.equals(ConnectionManager.POSTGRESQL) && columnClass != null
-                              && columnClass.indexOf("geometric") != -1)
-                     {
-                        lineContent[i] = "'" + lineContent[i] + "'::" + columnTypeName;
-                     }
-
-                     // Date, DateTime, & Timestamp Fields
-
-                     else if ((columnTypeName != null)
-                              && (columnTypeName.equals("DATE") || columnTypeName.equals("DATETIME")
-                                    || (columnTypeName.indexOf("TIMESTAMP") != -1)
-                                        && (columnClass != null && columnClass.indexOf("Array") == -1)))
-                     {
-                        if (columnTypeName.equals("DATE"))
-                        {
-                           if (dataSourceType.equals(ConnectionManager.ORACLE))
-                              lineContent[i] = "TO_DATE('"
-                                               + Utils.convertViewDateString_To_DBDateString(
-                                                  lineContent[i], dateFormat) + "', 'YYYY-MM-DD')";
-                           else if (dataSourceType.equals(ConnectionManager.MSACCESS))
-                              lineContent[i] = "#"
-                                               + Utils.convertViewDateString_To_DBDateString(
-                                                  lineContent[i], dateFormat) + "#";
-                           else
-                              lineContent[i] = "'"
-                                               + Utils.convertViewDateString_To_DBDateString(
-                                                  lineContent[i], dateFormat) + "'";
-                        }
-                        // DateTime & Timestamps.
-                        else
-                        {
-                           int firstSpace;
-                           String time;
-
-                           // Try to get the time separated before formatting
-                           // the date.
-
-                           if (lineContent[i].indexOf(" ") != -1)
-                           {
-                              firstSpace = lineContent[i].indexOf(" ");
-                              time = lineContent[i].substring(firstSpace);
-                              lineContent[i] = lineContent[i].substring(0, firstSpace);
-                           }
-                           else
-                              time = "";
-
-                           // Process accordingly.
-
-                           // Oracle Timestamps
-                           if (dataSourceType.equals(ConnectionManager.ORACLE))
-                           {
-                              if (columnTypeName.equals("TIMESTAMP"))
-                                 lineContent[i] = "TO_TIMESTAMP('"
-                                                  + Utils.convertViewDateString_To_DBDateString(
-                                                     lineContent[i], dateFormat) + time
-                                                  + "', 'YYYY-MM-DD HH24:MI:SS:FF')";
-
-                              else if (columnTypeName.equals("TIMESTAMPTZ")
-                                       || columnTypeName.equals("TIMESTAMP WITH TIME ZONE"))
-                                 lineContent[i] = "TO_TIMESTAMP_TZ('"
-                                                  + Utils.convertViewDateString_To_DBDateString(
-                                                     lineContent[i], dateFormat) + time
-                                                  + "', 'YYYY-MM-DD HH24:MI:SS TZHTZM')";
-                              // TIMESTAMPLTZ
-                              else
-                                 lineContent[i] = "TO_TIMESTAMP_TZ('"
-                                                  + Utils.convertViewDateString_To_DBDateString(
-                                                     lineContent[i], dateFormat) + time
-                                                  + "', 'YYYY-MM-DD HH24:MI:SS TZH:TZM')";
-                           }
-                           // MSAccess
-                           else if (dataSourceType.equals(ConnectionManager.MSACCESS))
-                              lineContent[i] = "#"
-                                               + Utils.convertViewDateString_To_DBDateString(
-                                                  lineContent[i], dateFormat) + time + "#";
-                           // All others
-                           else
-                              lineContent[i] = "'"
-                                               + Utils.convertViewDateString_To_DBDateString(
-                                                  lineContent[i], dateFormat) + time + "'";
-                        }
-                     }
-
-                     // Normal Fields
-
-                     else
-                     {
-                        // Don't Quote Numeric Values.
-                        if (!Utils.isNotQuoted(columnClass, columnSQLType, columnTypeName)) 
-                           lineContent[i] = "'" + lineContent[i] + "'";
-                     }
-
-                     // Now that the content data as been derived create the
-                     // appropriate Insert or Update SQL statement.
-
-                     // Insert SQL.
-                     if (csvOption.equals("Insert"))
-                        sqlValuesString.append(lineContent[i] + ", ");
-                     // Update SQL
-                     else
-                     {
-                        // Capture key data for SQL.
-                        if (primaryKeys.contains(fields.get(i)))
-                        {
-                           if (sqlKeyString.equals(""))
-                           {
-                              sqlKeyString = "WHERE " + identifierQuoteString + fields.get(i)
-                                             + identifierQuoteString + "=" + lineContent[i] + " AND ";
-                           }
-                           else
-                           {
-                              sqlKeyString += identifierQuoteString + fields.get(i) + identifierQuoteString
-                                              + "=" + lineContent[i] + " AND ";
-                           }
-                        }
-                        // Normal content.
-                        else
-                           sqlValuesString.append(identifierQuoteString + fields.get(i)
-                                                  + identifierQuoteString + "=" + lineContent[i] + ", ");
-                     }
-                  }
-                  // System.out.println(sqlValuesString);
-
-                  // Finishing the Insert or Update SQL statement.
-                  if (csvOption.equals("Insert"))
+                  if (prepared_sqlStatement != null && currentBatchRows > 0)
                   {
-                     sqlValuesString.delete((sqlValuesString.length() - 2), sqlValuesString.length());
-                     sqlValuesString.append(")");
+                     executeBatch(prepared_sqlStatement);
+                     currentBatchRows = 0;
                   }
-                  else
+                  
+                  prepared_sqlStatement = preparedStatements.get(sqlStatementKey);
+                  
+                  if (prepared_sqlStatement == null)
                   {
-                     if (sqlValuesString.length() >= 2)
-                        sqlValuesString.delete((sqlValuesString.length() - 2), sqlValuesString.length());
-                     if (sqlKeyString.length() > 5)
-                        sqlValuesString.append(" " + sqlKeyString.substring(0, sqlKeyString.length() - 5));
-                     else
-                        sqlValuesString.append(" " + sqlKeyString);
+                     prepared_sqlStatement = dbConnection.prepareStatement(
+                        createSQLStatement(schemaTableName, identifierQuoteString, fields, primaryKeys,
+                                           defaultFields));
+                     preparedStatements.put(sqlStatementKey, prepared_sqlStatement);
                   }
-
-                  sqlStatementString.append(sqlFieldNamesString.toString() + sqlValuesString.toString());
-                  // System.out.println(sqlStatementString);
-
-                  // Insert/Update current line's data.
-                  sqlStatement.addBatch(sqlStatementString.toString());
+                  lastStatementKey = sqlStatementKey;
+               }
+               
+               // Bind the current record's data.
+               
+               int parameterIndex = 1;
+               
+               for (int i = 0; i < bindOrder.length; i++)
+               {
+                  if (!defaultFields[bindOrder[i]])
+                     bindValue(prepared_sqlStatement, parameterIndex++, bindOrder[i],
+                               lineContent.get(bindOrder[i]), dateFormat);
+               }
+               prepared_sqlStatement.addBatch();
+               currentBatchRows++;
+               throughputMeter.addRows(1);
+               
+               // Execute on batch size, committing if desired.
+               if (currentBatchRows >= batchSize)
+               {
+                  executeBatch(prepared_sqlStatement);
+                  currentBatchRows = 0;
                   
-                  // Commit on Batch Size if Desired.
                   if (batchSizeEnabled)
-                  {
-                     if (currentBatchRows > batchSize)
-                     {
-                        sqlStatement.executeBatch();
-                        dbConnection.commit();
-                        currentBatchRows = 0;
-                     }
-                     else
-                        currentBatchRows++;
-                  }   
+                     dbConnection.commit();
+               }
+               
+               if ((line & 0xFF) == 0)
+               {
+                  filePosition = fileChannel.position();
+                  throughputMeter.addBytes(filePosition - lastFilePosition);
+                  lastFilePosition = filePosition;
+                  csvImportProgressBar.setCurrentValue((int) (filePosition >> 10));
                }
-               csvImportProgressBar.setCurrentValue(line++);
             }
+            throughputMeter.addBytes(fileChannel.position() - lastFilePosition);
 
             // Commiting the transactions as necessary
             // and cleaning up.
 
             if (validImport)
             {
-               sqlStatement.executeBatch();
+               if (prepared_sqlStatement != null && currentBatchRows > 0)
+                  executeBatch(prepared_sqlStatement);
                dbConnection.commit();
             }
             else
@@ -645,8 +536,8 @@ public class CSVDataImportThread implements Runnable
                                           + DBTablesPanel.getSelectedTableTabPanel().getTableName()
                                           + " OFF");
 
-            fileReader.close();
-            bufferedReader.close();
+            fileInputStream.close();
+            closeStatements(preparedStatements);
             sqlStatement.close();
             dbConnection.setAutoCommit(true);
          }
@@ -683,6 +574,9 @@ public class CSVDataImportThread implements Runnable
       {
          csvImportProgressBar.setVisible(false);
          
+         if (e instanceof BatchUpdateException && e.getNextException() != null)
+            e = e.getNextException();
+         
          ConnectionManager.displaySQLErrors(e, "line# " + line + " CSVDataImportThread importCSVLFile()");
          try
          {
@@ -701,6 +595,7 @@ public class CSVDataImportThread implements Runnable
       finally
       {
          csvImportProgressBar.dispose();
+         closeStatements(preparedStatements);
          
          try
          {
@@ -715,34 +610,429 @@ public class CSVDataImportThread implements Runnable
          {
             try
             {
-               if (bufferedReader != null)
-                  bufferedReader.close();
+               if (fileInputStream != null)
+                  fileInputStream.close();
             }
             catch (IOException ioe)
             {
                if (Ajqvue.getDebug())
-                  System.out.println("CSVDataImporthread importCSV() Failed to Close BufferedReader. "
+                  System.out.println("CSVDataImporthread importCSV() Failed to Close FileInputStream. "
                                      + ioe);
             }
-            finally
+         }
+         
+         if (throughputMeter != null)
+            throughputMeter.finish();
+         
+         if (!argConnection)
+            ConnectionManager.closeConnection(dbConnection, "CSVDataImportThread importCSVFile()");
+      }
+   }
+
+   //==============================================================
+   // Class method to execute the current batch with the Flight
+   // Recorder chunk event as enabled.
+   //==============================================================
+
+   private void executeBatch(PreparedStatement prepared_sqlStatement) throws SQLException
+   {
+      // Method Instances
+      DataChunkEvent chunkEvent;
+      
+      if (FlightRecording.isEnabled())
+      {
+         chunkEvent = new DataChunkEvent(MetricsRegistry.IMPORT_CSV, importTable);
+         chunkEvent.begin();
+         chunkEvent.setChunk(prepared_sqlStatement.executeBatch().length, 0);
+         chunkEvent.commit();
+      }
+      else
+         prepared_sqlStatement.executeBatch();
+   }
+
+   //==============================================================
+   // Class method to determine from the table's column types how
+   // each field's data will be bound to the prepared statement,
+   // along with the parameter expression used to receive it.
+   //==============================================================
+
+   private void createColumnBindings(ArrayList<String> tableFields,
+                                     HashMap<String, String> columnClassHashMap,
+                                     HashMap<String, Integer> columnSQLTypeHashMap,
+                                     HashMap<String, String> columnTypeNameHashMap)
+   {
+      // Method Instances.
+      String columnClass;
+      int columnSQLType;
+      String columnTypeName;
+      int stringBinding;
+
+      columnBindings = new int[tableFields.size()];
+      columnSQLTypes = new int[tableFields.size()];
+      columnParameters = new String[tableFields.size()];
+
+      for (int i = 0; i < tableFields.size(); i++)
+      {
+         columnClass = columnClassHashMap.get(tableFields.get(i));
+         columnSQLType = columnSQLTypeHashMap.get(tableFields.get(i)).intValue();
+         columnTypeName = columnTypeNameHashMap.get(tableFields.get(i));
+
+         if (columnClass == null)
+            columnClass = "";
+         if (columnTypeName == null)
+            columnTypeName = "";
+
+         columnSQLTypes[i] = columnSQLType;
+         columnParameters[i] = "?";
+
+         // PostgreSQL types other than character data are sent
+         // untyped for the server to convert, as literals were.
+
+         if (dataSourceType.equals(ConnectionManager.POSTGRESQL)
+             && (columnClass.indexOf("String") == -1 || columnClass.indexOf("Array") != -1))
+            stringBinding = BIND_OTHER;
+         else
+            stringBinding = BIND_STRING;
+
+         // All Blob/Bytea, Binary Data Exported as Text
+         // 'Binary' in DataDumpThread for CSV.
+
+         if (Utils.isBlob(columnClass, columnTypeName))
+            columnBindings[i] = BIND_NULL;
+
+         // MySQL/MariaDB Bit Fields
+
+         else if ((dataSourceType.equals(ConnectionManager.MYSQL)
+                   || dataSourceType.equals(ConnectionManager.MARIADB))
+                  && columnTypeName.indexOf("BIT") != -1)
+            columnBindings[i] = BIND_BIT;
+
+         // Date, DateTime, & Timestamp Fields
+
+         else if (columnTypeName.equals("DATE") || columnTypeName.equals("DATETIME")
+                  || (columnTypeName.indexOf("TIMESTAMP") != -1 && columnClass.indexOf("Array") == -1))
+         {
+            if (columnTypeName.equals("DATE"))
             {
-               try
+               if (dataSourceType.equals(ConnectionManager.ORACLE))
                {
-                  if (fileReader != null)
-                     fileReader.close();
+                  columnParameters[i] = "TO_DATE(?, 'YYYY-MM-DD')";
+                  columnBindings[i] = BIND_DATE_STRING;
                }
-               catch (IOException ioe)
+               else
+                  columnBindings[i] = BIND_DATE;
+            }
+            // Oracle Timestamps
+            else if (dataSourceType.equals(ConnectionManager.ORACLE))
+            {
+               if (columnTypeName.equals("TIMESTAMP"))
+                  columnParameters[i] = "TO_TIMESTAMP(?, 'YYYY-MM-DD HH24:MI:SS:FF')";
+               else if (columnTypeName.equals("TIMESTAMPTZ")
+                        || columnTypeName.equals("TIMESTAMP WITH TIME ZONE"))
+                  columnParameters[i] = "TO_TIMESTAMP_TZ(?, 'YYYY-MM-DD HH24:MI:SS TZHTZM')";
+               // TIMESTAMPLTZ
+               else
+                  columnParameters[i] = "TO_TIMESTAMP_TZ(?, 'YYYY-MM-DD HH24:MI:SS TZH:TZM')";
+
+               columnBindings[i] = BIND_TIMESTAMP_STRING;
+            }
+            // DateTime & Timestamps.
+            else
+               columnBindings[i] = BIND_TIMESTAMP;
+         }
+
+         // Numeric Fields
+
+         else if (Utils.isNotQuoted(columnClass, columnSQLType, columnTypeName))
+            columnBindings[i] = BIND_NUMERIC;
+
+         // Boolean Fields
+
+         else if (columnClass.indexOf("Boolean") != -1 && stringBinding == BIND_STRING)
+            columnBindings[i] = BIND_BOOLEAN;
+
+         // Normal Fields
+
+         else
+            columnBindings[i] = stringBinding;
+      }
+      postgreSQLFallback = dataSourceType.equals(ConnectionManager.POSTGRESQL);
+   }
+
+   //==============================================================
+   // Class method to determine the order fields are bound. Insert
+   // in field order, update with the key fields last for WHERE.
+   //==============================================================
+
+   private int[] createBindOrder(ArrayList<String> fields, ArrayList<String> primaryKeys)
+   {
+      // Method Instances.
+      int[] bindOrder;
+      int index;
+
+      bindOrder = new int[fields.size()];
+      index = 0;
+
+      for (int i = 0; i < fields.size(); i++)
+      {
+         if (csvOption.equals("Insert") || !primaryKeys.contains(fields.get(i)))
+            bindOrder[index++] = i;
+      }
+      for (int i = 0; i < fields.size() && index < bindOrder.length; i++)
+      {
+         if (!csvOption.equals("Insert") && primaryKeys.contains(fields.get(i)))
+            bindOrder[index++] = i;
+      }
+      return bindOrder;
+   }
+
+   //==============================================================
+   // Class method to mark the fields of a record that take the
+   // column default & return a key identifying that statement.
+   //==============================================================
+
+   private String getStatementKey(ArrayList<String> lineContent, boolean[] defaultFields)
+   {
+      // Method Instances.
+      StringBuilder statementKey;
+      String content;
+      boolean hasDefaults;
+
+      hasDefaults = false;
+
+      for (int i = 0; i < defaultFields.length; i++)
+      {
+         content = lineContent.get(i);
+         defaultFields[i] = content.isEmpty() || content.equalsIgnoreCase("default");
+         hasDefaults |= defaultFields[i];
+      }
+
+      if (!hasDefaults)
+         return "";
+
+      statementKey = new StringBuilder(defaultFields.length);
+
+      for (int i = 0; i < defaultFields.length; i++)
+         statementKey.append(defaultFields[i] ? 'D' : 'V');
+      return statementKey.toString();
+   }
+
+   //==============================================================
+   // Class method to create the Insert or Update SQL statement
+   // with parameters for the fields that are not defaults.
+   //==============================================================
+
+   private String createSQLStatement(String schemaTableName, String identifierQuoteString,
+                                     ArrayList<String> fields, ArrayList<String> primaryKeys,
+                                     boolean[] defaultFields)
+   {
+      // Method Instances.
+      StringBuilder sqlStatementString;
+      StringBuilder sqlValuesString;
+      StringBuilder sqlKeyString;
+      String parameter;
+
+      sqlStatementString = new StringBuilder();
+      sqlValuesString = new StringBuilder();
+      sqlKeyString = new StringBuilder();
+
+      for (int i = 0; i < fields.size(); i++)
+      {
+         parameter = defaultFields[i] ? "default" : columnParameters[i];
+
+         // Insert SQL.
+         if (csvOption.equals("Insert"))
+         {
+            sqlStatementString.append(identifierQuoteString + fields.get(i) + identifierQuoteString + ", ");
+            sqlValuesString.append(parameter + ", ");
+         }
+         // Update SQL, capture key data.
+         else if (primaryKeys.contains(fields.get(i)))
+            sqlKeyString.append(identifierQuoteString + fields.get(i) + identifierQuoteString + "="
+                                + parameter + " AND ");
+         // Normal content.
+         else
+            sqlValuesString.append(identifierQuoteString + fields.get(i) + identifierQuoteString + "="
+                                   + parameter + ", ");
+      }
+
+      if (sqlValuesString.length() >= 2)
+         sqlValuesString.delete((sqlValuesString.length() - 2), sqlValuesString.length());
+
+      if (csvOption.equals("Insert"))
+      {
+         sqlStatementString.delete((sqlStatementString.length() - 2), sqlStatementString.length());
+         sqlStatementString.insert(0, "INSERT INTO " + schemaTableName + " (");
+         sqlStatementString.append(") VALUES (" + sqlValuesString + ")");
+      }
+      else
+      {
+         sqlStatementString.append("UPDATE " + schemaTableName + " SET " + sqlValuesString);
+
+         if (sqlKeyString.length() > 5)
+            sqlStatementString.append(" WHERE " + sqlKeyString.substring(0, sqlKeyString.length() - 5));
+      }
+      // System.out.println(sqlStatementString);
+
+      return sqlStatementString.toString();
+   }
+
+   //==============================================================
+   // Class method to bind a field's content to its parameter.
+   // Content that does not parse as the column type is passed
+   // on as a string for the database to convert or reject.
+   //==============================================================
+
+   private void bindValue(PreparedStatement prepared_sqlStatement, int parameterIndex, int column,
+                          String content, String dateFormat) throws SQLException
+   {
+      // Method Instances.
+      String time;
+      int firstSpace;
+
+      if (content.equalsIgnoreCase("null") || columnBindings[column] == BIND_NULL)
+      {
+         prepared_sqlStatement.setNull(parameterIndex, columnSQLTypes[column]);
+         return;
+      }
+
+      try
+      {
+         switch (columnBindings[column])
+         {
+            case BIND_NUMERIC:
+               bindNumeric(prepared_sqlStatement, parameterIndex, columnSQLTypes[column], content.trim());
+               return;
+
+            case BIND_BIT:
+               prepared_sqlStatement.setLong(parameterIndex, Long.parseLong(content.trim(), 2));
+               return;
+
+            case BIND_BOOLEAN:
+               if (content.equalsIgnoreCase("true") || content.equals("1") || content.equalsIgnoreCase("t"))
+                  prepared_sqlStatement.setBoolean(parameterIndex, true);
+               else if (content.equalsIgnoreCase("false") || content.equals("0")
+                        || content.equalsIgnoreCase("f"))
+                  prepared_sqlStatement.setBoolean(parameterIndex, false);
+               else
+                  bindString(prepared_sqlStatement, parameterIndex, column, content);
+               return;
+
+            case BIND_DATE:
+               content = Utils.convertViewDateString_To_DBDateString(content, dateFormat);
+               prepared_sqlStatement.setDate(parameterIndex, java.sql.Date.valueOf(content));
+               return;
+
+            case BIND_DATE_STRING:
+               prepared_sqlStatement.setString(parameterIndex,
+                  Utils.convertViewDateString_To_DBDateString(content, dateFormat));
+               return;
+
+            case BIND_TIMESTAMP:
+            case BIND_TIMESTAMP_STRING:
+               // Try to get the time separated before formatting
+               // the date.
+
+               if ((firstSpace = content.indexOf(" ")) != -1)
                {
-                  if (Ajqvue.getDebug())
-                     System.out.println("CSVDataImporthread importCSV() Failed to Close FileReader. "
-                                        + ioe);
+                  time = content.substring(firstSpace);
+                  content = content.substring(0, firstSpace);
                }
+               else
+                  time = "";
+
+               content = Utils.convertViewDateString_To_DBDateString(content, dateFormat) + time;
+
+               if (columnBindings[column] == BIND_TIMESTAMP_STRING)
+                  prepared_sqlStatement.setString(parameterIndex, content);
+               else if (time.isEmpty())
+                  prepared_sqlStatement.setTimestamp(parameterIndex,
+                     new Timestamp(java.sql.Date.valueOf(content).getTime()));
+               else
+                  prepared_sqlStatement.setTimestamp(parameterIndex, Timestamp.valueOf(content));
+               return;
+
+            default:
+               bindString(prepared_sqlStatement, parameterIndex, column, content);
+         }
+      }
+      catch (IllegalArgumentException e)
+      {
+         // Includes NumberFormatException.
+         bindString(prepared_sqlStatement, parameterIndex, column, content);
+      }
+   }
+
+   //==============================================================
+   // Class methods to bind numeric & character content.
+   //==============================================================
+
+   private void bindNumeric(PreparedStatement prepared_sqlStatement, int parameterIndex, int columnSQLType,
+                            String content) throws SQLException
+   {
+      switch (columnSQLType)
+      {
+         case Types.TINYINT:
+         case Types.SMALLINT:
+         case Types.INTEGER:
+            try
+            {
+               prepared_sqlStatement.setInt(parameterIndex, Integer.parseInt(content));
+               return;
+            }
+            catch (NumberFormatException e)
+            {
+               break;
+            }
+         case Types.BIGINT:
+            try
+            {
+               prepared_sqlStatement.setLong(parameterIndex, Long.parseLong(content));
+               return;
             }
+            catch (NumberFormatException e)
+            {
+               break;
+            }
+         case Types.REAL:
+         case Types.FLOAT:
+         case Types.DOUBLE:
+            prepared_sqlStatement.setDouble(parameterIndex, Double.parseDouble(content));
+            return;
+         default:
+            break;
+      }
+      prepared_sqlStatement.setBigDecimal(parameterIndex, new BigDecimal(content));
+   }
+
+   private void bindString(PreparedStatement prepared_sqlStatement, int parameterIndex, int column,
+                           String content) throws SQLException
+   {
+      if (postgreSQLFallback && columnBindings[column] != BIND_STRING)
+         prepared_sqlStatement.setObject(parameterIndex, content, Types.OTHER);
+      else
+         prepared_sqlStatement.setString(parameterIndex, content);
+   }
+
+   //==============================================================
+   // Class method to close the prepared statements.
+   //==============================================================
+
+   private void closeStatements(HashMap<String, PreparedStatement> preparedStatements)
+   {
+      for (PreparedStatement prepared_sqlStatement : preparedStatements.values())
+      {
+         try
+         {
+            prepared_sqlStatement.close();
+         }
+         catch (SQLException sqle)
+         {
+            if (Ajqvue.getDebug())
+               System.out.println("CSVDataImportThread closeStatements() " + sqle.toString());
          }
-         
-         if (!argConnection)
-            ConnectionManager.closeConnection(dbConnection, "CSVDataImportThread importCSVFile()");
       }
+      preparedStatements.clear();
    }
 
    //==============================================================
@@ -808,31 +1098,6 @@ public class CSVDataImportThread implements Runnable
          return capitalizeString;
    }
 
-   //==============================================================
-   // Class method for separating tokens in the imput
-   // string.
-   //==============================================================
-
-   private String[] separateTokens(String inputLine, int limit)
-   {
-      // Class Instances
-      String delimiter = DBTablesPanel.getDataImportProperties().getDataDelimiter();
-
-      // Check characters?
-      //if (delimiter.indexOf("\"") == -1)
-      //   inputLine = inputLine.replaceAll("\"", "");
-
-      if (delimiter.indexOf("'") == -1)
-         inputLine = inputLine.replaceAll("'", "''");
-
-      if (delimiter.indexOf("`") == -1)
-         inputLine = inputLine.replaceAll("`", "''");
-
-      String[] tokens;
-      tokens = inputLine.split(delimiter, limit);
-      return tokens;
-   }
-
    //==============================================================
    // Class method to refresh table tab panel.
    //==============================================================
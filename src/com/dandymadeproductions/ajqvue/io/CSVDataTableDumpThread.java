@@ -11,7 +11,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.1 06/04/2018
+// Version 1.2 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -36,6 +36,8 @@
 //         1.1 Changed Class Instance tableColumnTypeHashMap to tableColumn
 //             TypeNameHashMap. Code Formatting for Instances. Method run()
 //             Instance currentType Renamed to currentTypeName.
+//         1.2 Progress Bar a ProgressIndicator From
+//             ProgressBar.createProgressIndicator(), Headless Safe.
 //             
 //-----------------------------------------------------------------
 //                    danap@dandymadeproductions.com
@@ -50,6 +52,7 @@ import javax.swing.JTable;
 
 import com.dandymadeproductions.ajqvue.gui.panels.DBTablesPanel;
 import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
+import com.dandymadeproductions.ajqvue.utilities.ProgressIndicator;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 
 /**
@@ -59,7 +62,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * prematurely terminate the dump.
  * 
  * @author Dana M. Proctor
- * @version 1.1 06/04/2016
+ * @version 1.2 10/18/2026
  */
 
 public class CSVDataTableDumpThread implements Runnable
@@ -92,7 +95,7 @@ public class CSVDataTableDumpThread implements Runnable
    public void run()
    {
       // Class Method Instances
-      ProgressBar dumpProgressBar;
+      ProgressIndicator dumpProgressBar;
       HashMap<String, String> summaryListTableNameTypes;
       StringBuffer currentEntry;
       String currentTableFieldName;
@@ -108,7 +111,7 @@ public class CSVDataTableDumpThread implements Runnable
 
       // Constructing progress bar.
       rowNumber = summaryListTable.getRowCount();
-      dumpProgressBar = new ProgressBar(exportedTable + " Dump");
+      dumpProgressBar = ProgressBar.createProgressIndicator(exportedTable + " Dump");
       dumpProgressBar.setTaskLength(rowNumber);
       dumpProgressBar.pack();
       dumpProgressBar.center();
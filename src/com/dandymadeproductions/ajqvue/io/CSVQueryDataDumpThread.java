@@ -10,7 +10,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.6 07/22/2018
+// Version 1.7 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -55,6 +55,11 @@
 //             Date Format as Defined in GeneralDBProperties.
 //         1.6 Method run() Processing for Datetime & Timestamp Corrected
 //             to Just Define dateTime Rather Than getTimestamp().
+//         1.7 Output Stream Opened via DumpStreams.openOutput() for Gzip
+//             Compressed Output to *.gz Files. Rows & Bytes Written Recorded
+//             in a ThroughputMeter. Method dumpChunkOfData() Flight Recorder
+//             DataChunkEvent. Progress Bar a ProgressIndicator From
+//             ProgressBar.createProgressIndicator(), Headless Safe.
 //             
 //-----------------------------------------------------------------
 //                   danap@dandymadeproductions.com
@@ -64,8 +69,8 @@ package com.dandymadeproductions.ajqvue.io;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -82,8 +87,13 @@ import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
 import com.dandymadeproductions.ajqvue.gui.panels.DBTablesPanel;
 import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_SQLite;
 import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
+import com.dandymadeproductions.ajqvue.utilities.ProgressIndicator;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 import com.dandymadeproductions.ajqvue.utilities.db.SQLQuery;
+import com.dandymadeproductions.ajqvue.utilities.metrics.DataChunkEvent;
+import com.dandymadeproductions.ajqvue.utilities.metrics.FlightRecording;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
+import com.dandymadeproductions.ajqvue.utilities.metrics.ThroughputMeter;
 
 /**
  *    The CSVQueryDumpThread class provides a thread to safely dump a
@@ -92,7 +102,7 @@ import com.dandymadeproductions.ajqvue.utilities.db.SQLQuery;
  * terminate the dump.
  * 
  * @author Dana M. Proctor
- * @version 1.6 07/22/2018
+ * @version 1.7 10/18/2026
  */
 
 public class CSVQueryDataDumpThread implements Runnable
@@ -107,6 +117,7 @@ public class CSVQueryDataDumpThread implements Runnable
    private boolean useStatusDialog;
    private boolean useLimitIncrement;
    private boolean argConnection;
+   private ThroughputMeter throughputMeter;
    
    //==============================================================
    // CSVQueryDataDumpThread Constructor.
@@ -145,9 +156,9 @@ public class CSVQueryDataDumpThread implements Runnable
    {
       // Class Method Instances
       Object dumpData;
-      FileOutputStream fileStream;
+      OutputStream fileStream;
       BufferedOutputStream filebuff;
-      ProgressBar dumpProgressBar;
+      ProgressIndicator dumpProgressBar;
       
       ArrayList<String> columnNameFields;
       Iterator<String> columnNamesIterator;
@@ -179,7 +190,7 @@ public class CSVQueryDataDumpThread implements Runnable
       dataDelimiter = DBTablesPanel.getDataExportProperties().getDataDelimiter();
       limitIncrement = DBTablesPanel.getGeneralDBProperties().getLimitIncrement();
       identifierQuoteString = ConnectionManager.getIdentifierQuoteString();
-      dumpProgressBar = new ProgressBar("SQL Query Dump");
+      dumpProgressBar = ProgressBar.createProgressIndicator("SQL Query Dump");
 
       // Get Connection to Database.
       if (db_Connection == null)
@@ -233,8 +244,9 @@ public class CSVQueryDataDumpThread implements Runnable
                 System.out.println("Failed to Delete: '" + fileName + "'. " + se.toString());
             }
          }
-         fileStream = new FileOutputStream(fileName, true);
+         fileStream = DumpStreams.openOutput(fileName, true);
          filebuff = new BufferedOutputStream(fileStream);
+         throughputMeter = MetricsRegistry.startThroughput(MetricsRegistry.DUMP_CSV, "SQL Query");
          
          // Have a connection, columns, query, & file to write to
          // so begin dumping data.
@@ -346,6 +358,7 @@ public class CSVQueryDataDumpThread implements Runnable
                {
                   int i = 1;
                   dumpProgressBar.setCurrentValue(currentRow++);
+                  throughputMeter.addRows(1);
 
                   columnNamesIterator = columnNameFields.iterator();
                   
@@ -673,6 +686,9 @@ public class CSVQueryDataDumpThread implements Runnable
                   System.out.println("CSVQueryDataDumpThread run() Failed to Close FileStream. "
                                      + ioe);
             }
+            
+            if (throughputMeter != null)
+               throughputMeter.finish();
          } 
       }
       
@@ -688,13 +704,29 @@ public class CSVQueryDataDumpThread implements Runnable
    {
       // Class Method Instances
       byte[] currentBytes;
+      DataChunkEvent chunkEvent;
 
       // Dump the Chunk.
       try
       {
+         chunkEvent = null;
+         
+         if (FlightRecording.isEnabled())
+         {
+            chunkEvent = new DataChunkEvent(throughputMeter.getOperation(), throughputMeter.getName());
+            chunkEvent.begin();
+         }
+         
          currentBytes = dumpData.toString().getBytes();
          filebuff.write(currentBytes);
+         throughputMeter.addBytes(currentBytes.length);
          filebuff.flush();
+         
+         if (chunkEvent != null)
+         {
+            chunkEvent.setChunk(0, currentBytes.length);
+            chunkEvent.commit();
+         }
       }
       catch (IOException e)
       {
@@ -0,0 +1,281 @@
+//=================================================================
+//                        CSVTokenizer
+//=================================================================
+//    This class provides a streaming RFC 4180 tokenizer for the
+// reading of delimited data files. Fields may be quoted to hold
+// the delimiter, quotes, or line breaks.
+//
+//                   << CSVTokenizer.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial CSVTokenizer Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.BitSet;
+
+/**
+ *    The CSVTokenizer class provides a streaming RFC 4180 tokenizer
+ * for the reading of delimited data files. A field that begins with
+ * a double quote may hold the delimiter, line breaks, and doubled
+ * quotes. Records may be terminated by LF, CRLF, or CR. The delimiter
+ * may be more than one character and is matched literally.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class CSVTokenizer
+{
+   // Class Instances.
+   private Reader reader;
+   private char[] buffer;
+   private int bufferPosition;
+   private int bufferLength;
+   private char[] delimiter;
+   private StringBuilder field;
+   private BitSet quotedFields;
+   private int lineNumber;
+   private boolean endOfFile;
+
+   private static final int BUFFER_SIZE = 65536;
+   private static final char QUOTE = '"';
+
+   //==============================================================
+   // CSVTokenizer Constructor
+   //==============================================================
+
+   public CSVTokenizer(Reader reader, String delimiter)
+   {
+      this.reader = reader;
+
+      if (delimiter == null || delimiter.isEmpty())
+         delimiter = ",";
+
+      this.delimiter = delimiter.toCharArray();
+      buffer = new char[BUFFER_SIZE];
+      bufferPosition = 0;
+      bufferLength = 0;
+      field = new StringBuilder();
+      quotedFields = new BitSet();
+      lineNumber = 0;
+      endOfFile = false;
+   }
+
+   //==============================================================
+   // Class method to read the next record into the given list of
+   // fields. Returns false once the input is exhausted. A blank
+   // line yields a record of one empty field.
+   //==============================================================
+
+   public boolean nextRecord(ArrayList<String> fields) throws IOException
+   {
+      // Method Instances.
+      int c;
+      boolean quoted;
+      boolean fieldStart;
+
+      fields.clear();
+      quotedFields.clear();
+
+      if (peek() == -1)
+         return false;
+
+      field.setLength(0);
+      quoted = false;
+      fieldStart = true;
+      lineNumber++;
+
+      while (true)
+      {
+         c = read();
+
+         // End of input.
+         if (c == -1)
+         {
+            fields.add(field.toString());
+            return true;
+         }
+
+         if (quoted)
+         {
+            if (c == QUOTE)
+            {
+               // Doubled quote is a literal quote.
+               if (peek() == QUOTE)
+               {
+                  read();
+                  field.append(QUOTE);
+               }
+               else
+                  quoted = false;
+            }
+            else
+            {
+               if (c == '\n')
+                  lineNumber++;
+               field.append((char) c);
+            }
+            continue;
+         }
+
+         if (c == QUOTE && fieldStart)
+         {
+            quotedFields.set(fields.size());
+            quoted = true;
+            fieldStart = false;
+            continue;
+         }
+
+         // End of record.
+         if (c == '\n' || c == '\r')
+         {
+            if (c == '\r' && peek() == '\n')
+               read();
+
+            fields.add(field.toString());
+            return true;
+         }
+
+         // Delimiter.
+         if (c == delimiter[0] && matchDelimiterRemainder())
+         {
+            fields.add(field.toString());
+            field.setLength(0);
+            fieldStart = true;
+            continue;
+         }
+
+         field.append((char) c);
+         fieldStart = false;
+      }
+   }
+
+   //==============================================================
+   // Class method to match, and consume, the rest of a multiple
+   // character delimiter after its first character.
+   //==============================================================
+
+   private boolean matchDelimiterRemainder() throws IOException
+   {
+      if (delimiter.length == 1)
+         return true;
+
+      // Make sure the whole delimiter is in the buffer.
+      if (bufferLength - bufferPosition < delimiter.length - 1)
+         compact();
+
+      if (bufferLength - bufferPosition < delimiter.length - 1)
+         return false;
+
+      for (int i = 1; i < delimiter.length; i++)
+      {
+         if (buffer[bufferPosition + i - 1] != delimiter[i])
+            return false;
+      }
+      bufferPosition += delimiter.length - 1;
+      return true;
+   }
+
+   //==============================================================
+   // Class methods to read from the character buffer.
+   //==============================================================
+
+   private int read() throws IOException
+   {
+      if (bufferPosition >= bufferLength && !fill())
+         return -1;
+      return buffer[bufferPosition++];
+   }
+
+   private int peek() throws IOException
+   {
+      if (bufferPosition >= bufferLength && !fill())
+         return -1;
+      return buffer[bufferPosition];
+   }
+
+   private boolean fill() throws IOException
+   {
+      if (endOfFile)
+         return false;
+
+      bufferPosition = 0;
+      bufferLength = 0;
+      compact();
+      return bufferLength > 0;
+   }
+
+   private void compact() throws IOException
+   {
+      // Method Instances.
+      int remaining;
+      int count;
+
+      remaining = bufferLength - bufferPosition;
+      System.arraycopy(buffer, bufferPosition, buffer, 0, remaining);
+      bufferPosition = 0;
+      bufferLength = remaining;
+
+      while (!endOfFile && bufferLength < buffer.length)
+      {
+         count = reader.read(buffer, bufferLength, buffer.length - bufferLength);
+
+         if (count == -1)
+            endOfFile = true;
+         else if (count > 0)
+         {
+            bufferLength += count;
+            break;
+         }
+      }
+   }
+
+   //==============================================================
+   // Class method to determine if a field of the last record was
+   // quoted, so an unquoted NULL marker may be told from the text.
+   //==============================================================
+
+   public boolean isQuoted(int fieldIndex)
+   {
+      return quotedFields.get(fieldIndex);
+   }
+
+   //==============================================================
+   // Class method to get the line number the last record ended.
+   //==============================================================
+
+   public int getLineNumber()
+   {
+      return lineNumber;
+   }
+}
@@ -0,0 +1,127 @@
+//=================================================================
+//                        DumpStreams
+//=================================================================
+//
+//    This class provides the means to open the file streams of
+// the IO dump & import threads, compressed or not as determined
+// by the file name.
+//
+//                    << DumpStreams.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial DumpStreams Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.io;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ *    The DumpStreams class provides the means to open the file streams
+ * of the IO dump & import threads. A file named *.gz is written gzip
+ * compressed, on a background thread, & read decompressed. An input
+ * file is also taken as compressed if it starts with the gzip magic
+ * number regardless of its name.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class DumpStreams
+{
+   // Class Instances.
+   public static final String GZIP_EXTENSION = ".gz";
+   private static final int BUFFER_SIZE = 65536;
+
+   //==============================================================
+   // Class method to determine if a file name is for compressed
+   // content.
+   //==============================================================
+
+   public static boolean isCompressed(String fileName)
+   {
+      return fileName.toLowerCase(Locale.ENGLISH).endsWith(GZIP_EXTENSION);
+   }
+
+   //==============================================================
+   // Class method to open an output stream for the given file.
+   //==============================================================
+
+   public static OutputStream openOutput(String fileName, boolean append) throws IOException
+   {
+      if (isCompressed(fileName))
+         return new GzipPipeOutputStream(new FileOutputStream(fileName, append));
+      else
+         return new FileOutputStream(fileName, append);
+   }
+
+   //==============================================================
+   // Class methods to open a buffered input stream for the given
+   // file or file stream. Reading from a file stream leaves its
+   // channel position available to track progress, compressed or
+   // not.
+   //==============================================================
+
+   public static InputStream openInput(String fileName) throws IOException
+   {
+      return openInput(new FileInputStream(fileName));
+   }
+
+   public static InputStream openInput(FileInputStream fileInputStream) throws IOException
+   {
+      // Method Instances
+      BufferedInputStream inputStream;
+      int magic;
+
+      inputStream = new BufferedInputStream(fileInputStream, BUFFER_SIZE);
+
+      try
+      {
+         inputStream.mark(2);
+         magic = inputStream.read() | (inputStream.read() << 8);
+         inputStream.reset();
+
+         if (magic == GZIPInputStream.GZIP_MAGIC)
+            return new BufferedInputStream(new GZIPInputStream(inputStream, BUFFER_SIZE), BUFFER_SIZE);
+         else
+            return inputStream;
+      }
+      catch (IOException e)
+      {
+         inputStream.close();
+         throw e;
+      }
+   }
+}
@@ -0,0 +1,332 @@
+//=================================================================
+//                         DumpWriter
+//=================================================================
+//    This class provides an appendable writer for the IO dump
+// threads that streams the generated content directly to an
+// output stream or channel using a fixed amount of buffer memory.
+//
+//                   << DumpWriter.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial DumpWriter Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.io;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import com.dandymadeproductions.ajqvue.utilities.metrics.DataChunkEvent;
+import com.dandymadeproductions.ajqvue.utilities.metrics.FlightRecording;
+import com.dandymadeproductions.ajqvue.utilities.metrics.ThroughputMeter;
+
+/**
+ *    The DumpWriter class provides an appendable writer for the IO
+ * dump threads that streams the generated content directly to an
+ * output stream or channel. Content is collected for the current
+ * statement in a pending buffer, which may be trimmed, then moved
+ * to the fixed size output buffer on commit. The bytes of the encoded
+ * content are counted as they reach the output & added to the bytes
+ * of a throughput meter if set.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class DumpWriter implements Appendable, Flushable, Closeable
+{
+   // Class Instances.
+   private Writer writer;
+   private StringBuilder pending;
+   private int bufferSize;
+   private long charsWritten;
+   private long bytesWritten;
+   private ThroughputMeter throughputMeter;
+   private DataChunkEvent chunkEvent;
+   private long chunkChars;
+
+   public static final int DEFAULT_BUFFER_SIZE = 65536;
+   private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+   //==============================================================
+   // DumpWriter Constructors
+   //==============================================================
+
+   public DumpWriter(OutputStream outputStream)
+   {
+      this(outputStream, DEFAULT_BUFFER_SIZE);
+   }
+
+   public DumpWriter(OutputStream outputStream, int bufferSize)
+   {
+      this.bufferSize = Math.max(1024, bufferSize);
+
+      writer = new BufferedWriter(new OutputStreamWriter(new ByteCountingOutputStream(outputStream)),
+                                  this.bufferSize);
+      pending = new StringBuilder(this.bufferSize / 8);
+      charsWritten = 0;
+      bytesWritten = 0;
+   }
+
+   public DumpWriter(WritableByteChannel channel, int bufferSize)
+   {
+      this(Channels.newOutputStream(channel), bufferSize);
+   }
+
+   //==============================================================
+   // Class methods to append content to the pending statement.
+   //==============================================================
+
+   public DumpWriter append(CharSequence charSequence)
+   {
+      pending.append(charSequence);
+      return this;
+   }
+
+   public DumpWriter append(CharSequence charSequence, int start, int end)
+   {
+      pending.append(charSequence, start, end);
+      return this;
+   }
+
+   public DumpWriter append(char c)
+   {
+      pending.append(c);
+      return this;
+   }
+
+   public DumpWriter append(Object object)
+   {
+      pending.append(object);
+      return this;
+   }
+
+   //==============================================================
+   // Class methods to append binary content as hexadecimal or
+   // PostgreSQL escaped octal. As binary content is never trimmed
+   // it is committed as it is encoded so large LOBs do not have to
+   // be held in memory.
+   //==============================================================
+
+   public void appendHex(byte[] bytes) throws IOException
+   {
+      for (int i = 0; i < bytes.length; i++)
+      {
+         pending.append(HEX_DIGITS[(bytes[i] >> 4) & 0x0F]);
+         pending.append(HEX_DIGITS[bytes[i] & 0x0F]);
+
+         if (pending.length() >= bufferSize)
+            commit();
+      }
+   }
+
+   public void appendOctal(byte[] bytes) throws IOException
+   {
+      int b;
+
+      for (int i = 0; i < bytes.length; i++)
+      {
+         b = bytes[i] & 0xFF;
+
+         pending.append("\\\\");
+         pending.append((char) ('0' + ((b >> 6) & 0x07)));
+         pending.append((char) ('0' + ((b >> 3) & 0x07)));
+         pending.append((char) ('0' + (b & 0x07)));
+
+         if (pending.length() >= bufferSize)
+            commit();
+      }
+   }
+
+   //==============================================================
+   // Class method to remove the given number of characters from
+   // the end of the pending statement, ie. a trailing separator.
+   //==============================================================
+
+   public void trim(int count)
+   {
+      pending.setLength(Math.max(0, pending.length() - count));
+   }
+
+   //==============================================================
+   // Class method to move the pending statement to the output
+   // buffer. The pending buffer is released if an exceptionally
+   // large statement has grown it beyond the buffer size.
+   //==============================================================
+
+   public void commit() throws IOException
+   {
+      if (pending.length() != 0)
+      {
+         if (chunkEvent == null && throughputMeter != null && FlightRecording.isEnabled())
+         {
+            chunkEvent = new DataChunkEvent(throughputMeter.getOperation(), throughputMeter.getName());
+            chunkEvent.begin();
+         }
+
+         writer.append(pending);
+         charsWritten += pending.length();
+
+         if (chunkEvent != null)
+         {
+            chunkChars += pending.length();
+
+            if (chunkChars >= bufferSize)
+               commitChunkEvent();
+         }
+      }
+
+      if (pending.capacity() > bufferSize * 2)
+         pending = new StringBuilder(bufferSize / 8);
+      else
+         pending.setLength(0);
+   }
+
+   //==============================================================
+   // Class method to discard the pending statement.
+   //==============================================================
+
+   public void reset()
+   {
+      pending.setLength(0);
+   }
+
+   //==============================================================
+   // Class methods to flush & close the output.
+   //==============================================================
+
+   public void flush() throws IOException
+   {
+      commit();
+      writer.flush();
+      commitChunkEvent();
+   }
+
+   public void close() throws IOException
+   {
+      try
+      {
+         flush();
+      }
+      finally
+      {
+         writer.close();
+      }
+   }
+
+   //==============================================================
+   // Class methods to get the pending length, characters written,
+   // & bytes of the encoded content written to the output.
+   //==============================================================
+
+   public int length()
+   {
+      return pending.length();
+   }
+
+   public long getCharsWritten()
+   {
+      return charsWritten;
+   }
+
+   public long getBytesWritten()
+   {
+      return bytesWritten;
+   }
+
+   public String toString()
+   {
+      return pending.toString();
+   }
+
+   //==============================================================
+   // Class method to set the throughput meter of the dump.
+   //==============================================================
+
+   public void setThroughputMeter(ThroughputMeter throughputMeter)
+   {
+      this.throughputMeter = throughputMeter;
+   }
+
+   //==============================================================
+   // Class method to commit the Flight Recorder event of the chunk
+   // written, about a buffer's worth of characters, if any.
+   //==============================================================
+
+   private void commitChunkEvent()
+   {
+      if (chunkEvent != null)
+      {
+         chunkEvent.setChunk(0, chunkChars);
+         chunkEvent.commit();
+         chunkEvent = null;
+         chunkChars = 0;
+      }
+   }
+
+   //==============================================================
+   // Class to count the bytes of the encoded content as they are
+   // written to the output.
+   //==============================================================
+
+   private class ByteCountingOutputStream extends FilterOutputStream
+   {
+      private ByteCountingOutputStream(OutputStream outputStream)
+      {
+         super(outputStream);
+      }
+
+      public void write(int b) throws IOException
+      {
+         out.write(b);
+         addBytesWritten(1);
+      }
+
+      public void write(byte[] b, int off, int len) throws IOException
+      {
+         out.write(b, off, len);
+         addBytesWritten(len);
+      }
+
+      private void addBytesWritten(int count)
+      {
+         bytesWritten += count;
+
+         if (throughputMeter != null)
+            throughputMeter.addBytes(count);
+      }
+   }
+}
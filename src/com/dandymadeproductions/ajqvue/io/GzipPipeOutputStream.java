@@ -0,0 +1,280 @@
+//=================================================================
+//                     GzipPipeOutputStream
+//=================================================================
+//
+//    This class provides an output stream that gzip compresses
+// its content on a background thread so that compression may
+// proceed alongside the production of the content.
+//
+//                << GzipPipeOutputStream.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial GzipPipeOutputStream Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ *    The GzipPipeOutputStream class provides an output stream that gzip
+ * compresses its content on a background thread. Content is collected
+ * in fixed size chunks that are handed over a bounded queue to the
+ * compressing thread, so the writer only blocks once the compression
+ * falls a few chunks behind. Any failure of the compression is thrown
+ * to the writer on its next write or close.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class GzipPipeOutputStream extends OutputStream
+{
+   // Class Instances.
+   private OutputStream outputStream;
+   private BlockingQueue<byte[]> chunkQueue;
+   private Thread compressorThread;
+   private volatile IOException compressorException;
+   private byte[] chunk;
+   private int chunkLength;
+   private boolean closed;
+
+   private static final int CHUNK_SIZE = 65536;
+   private static final int QUEUE_CHUNKS = 8;
+   private static final byte[] END_OF_DATA = new byte[0];
+
+   //==============================================================
+   // GzipPipeOutputStream Constructor
+   //==============================================================
+
+   public GzipPipeOutputStream(OutputStream outputStream)
+   {
+      this.outputStream = outputStream;
+
+      chunkQueue = new ArrayBlockingQueue <byte[]>(QUEUE_CHUNKS);
+      chunk = new byte[CHUNK_SIZE];
+      chunkLength = 0;
+      closed = false;
+
+      compressorThread = new Thread(new Runnable()
+      {
+         public void run()
+         {
+            compress();
+         }
+      }, "GzipPipeOutputStream Compressor");
+      compressorThread.setDaemon(true);
+      compressorThread.start();
+   }
+
+   //==============================================================
+   // Class method for the compressing thread to write the queued
+   // chunks until the end of data. On failure the queue is still
+   // drained so the writer is never left blocked.
+   //==============================================================
+
+   private void compress()
+   {
+      // Method Instances
+      GZIPOutputStream gzipStream;
+      byte[] currentChunk;
+
+      gzipStream = null;
+
+      try
+      {
+         gzipStream = new GZIPOutputStream(outputStream, CHUNK_SIZE);
+
+         while ((currentChunk = chunkQueue.take()) != END_OF_DATA)
+            gzipStream.write(currentChunk);
+
+         gzipStream.finish();
+      }
+      catch (IOException e)
+      {
+         compressorException = e;
+         drain();
+      }
+      catch (InterruptedException e)
+      {
+         compressorException = new InterruptedIOException("Compression Interrupted");
+      }
+      finally
+      {
+         try
+         {
+            if (gzipStream != null)
+               gzipStream.close();
+            else
+               outputStream.close();
+         }
+         catch (IOException e)
+         {
+            if (compressorException == null)
+               compressorException = e;
+         }
+      }
+   }
+
+   private void drain()
+   {
+      try
+      {
+         while (chunkQueue.take() != END_OF_DATA)
+            continue;
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+      }
+   }
+
+   //==============================================================
+   // Class methods to write content.
+   //==============================================================
+
+   public void write(int b) throws IOException
+   {
+      if (chunkLength == CHUNK_SIZE)
+         queueChunk();
+
+      chunk[chunkLength++] = (byte) b;
+   }
+
+   public void write(byte[] bytes, int offset, int length) throws IOException
+   {
+      // Method Instances
+      int size;
+
+      while (length > 0)
+      {
+         if (chunkLength == CHUNK_SIZE)
+            queueChunk();
+
+         size = Math.min(length, CHUNK_SIZE - chunkLength);
+         System.arraycopy(bytes, offset, chunk, chunkLength, size);
+         chunkLength += size;
+         offset += size;
+         length -= size;
+      }
+   }
+
+   //==============================================================
+   // Class method to hand the current chunk to the compressing
+   // thread.
+   //==============================================================
+
+   private void queueChunk() throws IOException
+   {
+      // Method Instances
+      byte[] queuedChunk;
+
+      if (closed)
+         throw new IOException("Stream Closed");
+
+      if (compressorException != null)
+         throw compressorException;
+
+      if (chunkLength == 0)
+         return;
+
+      if (chunkLength == CHUNK_SIZE)
+         queuedChunk = chunk;
+      else
+      {
+         queuedChunk = new byte[chunkLength];
+         System.arraycopy(chunk, 0, queuedChunk, 0, chunkLength);
+      }
+      put(queuedChunk);
+
+      chunk = new byte[CHUNK_SIZE];
+      chunkLength = 0;
+   }
+
+   private void put(byte[] queuedChunk) throws IOException
+   {
+      try
+      {
+         chunkQueue.put(queuedChunk);
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+         throw new InterruptedIOException("Compression Interrupted");
+      }
+   }
+
+   //==============================================================
+   // Class method to flush, which hands over the collected content
+   // but does not wait on its compression.
+   //==============================================================
+
+   public void flush() throws IOException
+   {
+      queueChunk();
+   }
+
+   //==============================================================
+   // Class method to close the stream, waiting on the compression
+   // of the remaining content.
+   //==============================================================
+
+   public void close() throws IOException
+   {
+      if (closed)
+         return;
+
+      try
+      {
+         queueChunk();
+      }
+      finally
+      {
+         closed = true;
+         put(END_OF_DATA);
+
+         try
+         {
+            compressorThread.join();
+         }
+         catch (InterruptedException e)
+         {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Compression Interrupted");
+         }
+      }
+
+      if (compressorException != null)
+         throw compressorException;
+   }
+}
@@ -0,0 +1,339 @@
+//=================================================================
+//                      InsertValuesParser
+//=================================================================
+//
+//    This class provides the means to parse a literal INSERT or
+// REPLACE statement into its statement shape & row values so it
+// may be executed as a prepared statement batch.
+//
+//                 << InsertValuesParser.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial InsertValuesParser Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.io;
+
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ *    The InsertValuesParser class provides the means to parse a literal
+ * INSERT or REPLACE statement, singular or plural, into the shape of a
+ * single row prepared statement & the values of each row. Only values
+ * that are plain quoted strings, numbers, or NULL are accepted, anything
+ * else, functions, typed or hex literals, a trailing clause, leaves the
+ * statement to be executed as is.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class InsertValuesParser
+{
+   // Class Instances.
+   private String statement;
+   private boolean backslashEscapes;
+   private int position;
+   private String preparedSQL;
+   private ArrayList<String[]> rows;
+
+   private static final Pattern NUMBER = Pattern.compile("[-+]?(\\d+\\.?\\d*|\\.\\d+)([eE][-+]?\\d+)?");
+
+   //==============================================================
+   // InsertValuesParser Constructor
+   //==============================================================
+
+   public InsertValuesParser(boolean backslashEscapes)
+   {
+      this.backslashEscapes = backslashEscapes;
+      rows = new ArrayList <String[]>();
+   }
+
+   //==============================================================
+   // Class method to parse the given statement. Returns false if the
+   // statement is not a literal INSERT or REPLACE.
+   //==============================================================
+
+   public boolean parse(String statement)
+   {
+      // Method Instances
+      String upperStatement;
+      ArrayList<String> values;
+      StringBuilder placeHolders;
+      int valuesIndex;
+
+      this.statement = statement;
+      preparedSQL = null;
+      rows.clear();
+
+      upperStatement = statement.substring(0, Math.min(8, statement.length())).toUpperCase(Locale.ENGLISH);
+
+      if (!upperStatement.startsWith("INSERT") && !upperStatement.startsWith("REPLACE"))
+         return false;
+
+      valuesIndex = findValuesKeyword();
+
+      if (valuesIndex == -1)
+         return false;
+
+      // Rows of values.
+      position = valuesIndex + 6;
+      values = new ArrayList <String>();
+
+      while (true)
+      {
+         skipWhitespace();
+
+         if (!parseRow(values))
+            return false;
+
+         if (!rows.isEmpty() && rows.get(0).length != values.size())
+            return false;
+
+         rows.add(values.toArray(new String[values.size()]));
+         skipWhitespace();
+
+         if (position == statement.length())
+            break;
+         else if (statement.charAt(position) == ',')
+            position++;
+         else
+            return false;
+      }
+
+      // Single row shape.
+      placeHolders = new StringBuilder();
+      for (int i = 0; i < rows.get(0).length; i++)
+         placeHolders.append(i == 0 ? "?" : ", ?");
+
+      preparedSQL = statement.substring(0, valuesIndex).trim() + " VALUES (" + placeHolders + ")";
+      return true;
+   }
+
+   //==============================================================
+   // Class method to find the VALUES keyword outside of any quotes
+   // or parentheses.
+   //==============================================================
+
+   private int findValuesKeyword()
+   {
+      // Method Instances
+      int depth;
+      char c;
+      char quote;
+
+      depth = 0;
+      quote = 0;
+
+      for (int i = 0; i < statement.length(); i++)
+      {
+         c = statement.charAt(i);
+
+         if (quote != 0)
+         {
+            if (c == quote)
+               quote = 0;
+            continue;
+         }
+
+         if (c == '\'' || c == '"' || c == '`')
+            quote = c;
+         else if (c == '(')
+            depth++;
+         else if (c == ')')
+            depth--;
+         else if (depth == 0 && (c == 'V' || c == 'v') && statement.regionMatches(true, i, "VALUES", 0, 6)
+                  && i > 0 && !isIdentifierPart(statement.charAt(i - 1))
+                  && (i + 6 == statement.length() || !isIdentifierPart(statement.charAt(i + 6))))
+            return i;
+      }
+      return -1;
+   }
+
+   //==============================================================
+   // Class method to parse a parenthesized row of values.
+   //==============================================================
+
+   private boolean parseRow(ArrayList<String> values)
+   {
+      values.clear();
+
+      if (position >= statement.length() || statement.charAt(position) != '(')
+         return false;
+      position++;
+
+      while (true)
+      {
+         skipWhitespace();
+
+         if (position >= statement.length())
+            return false;
+
+         // Quoted string.
+         if (statement.charAt(position) == '\'')
+         {
+            if (!parseString(values))
+               return false;
+         }
+         // NULL or number.
+         else if (!parseWord(values))
+            return false;
+
+         skipWhitespace();
+
+         if (position >= statement.length())
+            return false;
+         else if (statement.charAt(position) == ',')
+            position++;
+         else if (statement.charAt(position) == ')')
+         {
+            position++;
+            return true;
+         }
+         else
+            return false;
+      }
+   }
+
+   private boolean parseString(ArrayList<String> values)
+   {
+      // Method Instances
+      StringBuilder value;
+      char c;
+
+      value = new StringBuilder();
+      position++;
+
+      while (position < statement.length())
+      {
+         c = statement.charAt(position++);
+
+         if (c == '\'')
+         {
+            if (position < statement.length() && statement.charAt(position) == '\'')
+            {
+               value.append('\'');
+               position++;
+            }
+            else
+            {
+               values.add(value.toString());
+               return true;
+            }
+         }
+         else if (c == '\\' && backslashEscapes && position < statement.length())
+         {
+            c = statement.charAt(position++);
+
+            switch (c)
+            {
+               case '0':
+                  value.append('\0');
+                  break;
+               case 'b':
+                  value.append('\b');
+                  break;
+               case 'n':
+                  value.append('\n');
+                  break;
+               case 'r':
+                  value.append('\r');
+                  break;
+               case 't':
+                  value.append('\t');
+                  break;
+               case 'Z':
+                  value.append('\u001A');
+                  break;
+               case '%':
+               case '_':
+                  value.append('\\').append(c);
+                  break;
+               default:
+                  value.append(c);
+            }
+         }
+         else
+            value.append(c);
+      }
+      return false;
+   }
+
+   private boolean parseWord(ArrayList<String> values)
+   {
+      // Method Instances
+      int start;
+      String word;
+
+      start = position;
+
+      while (position < statement.length() && statement.charAt(position) != ','
+             && statement.charAt(position) != ')' && !Character.isWhitespace(statement.charAt(position)))
+         position++;
+
+      word = statement.substring(start, position);
+
+      if (word.equalsIgnoreCase("NULL"))
+         values.add(null);
+      else if (NUMBER.matcher(word).matches())
+         values.add(word);
+      else
+         return false;
+
+      return true;
+   }
+
+   private void skipWhitespace()
+   {
+      while (position < statement.length() && Character.isWhitespace(statement.charAt(position)))
+         position++;
+   }
+
+   private static boolean isIdentifierPart(char c)
+   {
+      return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+   }
+
+   //==============================================================
+   // Class methods to get the single row prepared statement & the
+   // values of the rows of the last statement parsed. A NULL value
+   // is a SQL NULL.
+   //==============================================================
+
+   public String getPreparedSQL()
+   {
+      return preparedSQL;
+   }
+
+   public ArrayList<String[]> getRows()
+   {
+      return rows;
+   }
+}
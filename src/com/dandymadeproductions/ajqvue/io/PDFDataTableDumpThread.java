@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.1 06/05/2018
+// Version 1.2 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -33,6 +33,8 @@
 // Version 1.0 Production PDFDataTableDumpThread Class.
 //         1.1 Changed Class Instance tableColumnTypeHashMap to tableColumn
 //             TypeNameHashMap.
+//         1.2 Progress Bar a ProgressIndicator From
+//             ProgressBar.createProgressIndicator(), Headless Safe.
 //
 //-----------------------------------------------------------------
 //                    danap@dandymadeproductions.com
@@ -67,6 +69,7 @@ import com.dandymadeproductions.ajqvue.gui.panels.DBTablesPanel;
 import com.dandymadeproductions.ajqvue.gui.panels.PDFExportPreferencesPanel;
 import com.dandymadeproductions.ajqvue.structures.DataExportProperties;
 import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
+import com.dandymadeproductions.ajqvue.utilities.ProgressIndicator;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 
 /**
@@ -74,7 +77,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * dump a TableTabPanel summary table data to a local pdf file.
  * 
  * @author Dana M. Proctor
- * @version 1.1 06/05/2018
+ * @version 1.2 10/18/2026
  */
 
 public class PDFDataTableDumpThread implements PdfPageEvent, Runnable
@@ -123,7 +126,7 @@ public class PDFDataTableDumpThread implements PdfPageEvent, Runnable
       int totalWidth;
       Rectangle pageSize;
 
-      ProgressBar dumpProgressBar;
+      ProgressIndicator dumpProgressBar;
       HashMap<String, String> summaryListTableNameTypes;
       String currentTableFieldName;
       String currentType, currentString;
@@ -155,7 +158,7 @@ public class PDFDataTableDumpThread implements PdfPageEvent, Runnable
       tableDataFont = pdfDataExportOptions.getFont();
 
       // Constructing progress bar.
-      dumpProgressBar = new ProgressBar(exportedTable + " Dump");
+      dumpProgressBar = ProgressBar.createProgressIndicator(exportedTable + " Dump");
       dumpProgressBar.setTaskLength(rowNumber);
       dumpProgressBar.pack();
       dumpProgressBar.center();
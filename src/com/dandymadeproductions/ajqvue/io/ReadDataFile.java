@@ -12,7 +12,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2017 Dana M. Proctor
-// Version 1.0 09/18/2016
+// Version 1.1 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -34,6 +34,9 @@
 // also be included with the original copyright author.
 //=================================================================
 // Version 1.0 09/18/2016 Production ReadDataFile Class.
+//         1.1 10/18/2026 Progress Bar a ProgressIndicator From
+//                        ProgressBar.createProgressIndicator(),
+//                        Headless Safe.
 //
 //-----------------------------------------------------------------
 //                danap@dandymadeproductions.com
@@ -49,6 +52,7 @@ import javax.swing.JOptionPane;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
+import com.dandymadeproductions.ajqvue.utilities.ProgressIndicator;
 
 /**
  *    The ReadDataFile class allows the application the means to
@@ -58,7 +62,7 @@ import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
  * data from a given input file.
  * 
  * @author Dana M. Proctor
- * @version 1.0 09/18/2016
+ * @version 1.1 10/18/2026
  */
 
 public class ReadDataFile
@@ -70,7 +74,7 @@ public class ReadDataFile
 
    FileInputStream fileStream;
    BufferedInputStream filebuff;
-   ProgressBar dumpProgressBar;
+   ProgressIndicator dumpProgressBar;
    int inSize;
    byte[] inBytes;
    boolean validRead;
@@ -102,7 +106,7 @@ public class ReadDataFile
 
          if (showDumpProgressBar)
          {
-            dumpProgressBar = new ProgressBar("Reading File: " + inputFileString);
+            dumpProgressBar = ProgressBar.createProgressIndicator("Reading File: " + inputFileString);
             dumpProgressBar.setTaskLength(inSize);
             dumpProgressBar.pack();
             dumpProgressBar.center();
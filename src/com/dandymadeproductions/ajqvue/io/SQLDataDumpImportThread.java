@@ -11,7 +11,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.3 06/07/2018
+// Version 1.4 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -36,6 +36,23 @@
 //         1.1 Correction Import of Main_JMenuBar.
 //         1.2 Correction run to Main_JMenuBar.
 //         1.3 Code Formatting Instances, One per Line.
+//         1.4 Method importSQLFile() Single Pass Read via
+//             SQLScriptReader, Opened via DumpStreams.openInput() for
+//             Gzip Compressed Input, With Progress by Bytes Read,
+//             Literal Inserts Batched as Prepared Statements via
+//             InsertValuesParser. Added Methods executeBatch(), With
+//             Flight Recorder DataChunkEvent, &
+//             closePreparedStatements(). Replay of Native Bulk Load
+//             Blocks, PostgreSQL COPY via Driver CopyManager, LOAD
+//             DATA & CSVREAD Side Files, & SQL*Loader Data via
+//             Batched Inserts, Added Methods isCopyStatement(),
+//             copyIn(), isLoadDataStatement(), loadDataInfile(),
+//             loadDataInserts(), resolveBulkLoadFile(),
+//             loadSQLLoaderData(), & Class CopyDataReader. Rows &
+//             Bytes Read Recorded in a ThroughputMeter. Alerts With
+//             Utils.displayErrorMessage(). Progress Bar a
+//             ProgressIndicator From
+//             ProgressBar.createProgressIndicator(), Headless Safe.
 //          
 //-----------------------------------------------------------------
 //             poisonerbg@users.sourceforge.net
@@ -46,14 +63,23 @@ package com.dandymadeproductions.ajqvue.io;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.channels.FileChannel;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.ArrayList;
-
-import javax.swing.JOptionPane;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
@@ -62,6 +88,12 @@ import com.dandymadeproductions.ajqvue.gui.Main_JMenuBar;
 import com.dandymadeproductions.ajqvue.gui.panels.DBTablesPanel;
 import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel;
 import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
+import com.dandymadeproductions.ajqvue.utilities.ProgressIndicator;
+import com.dandymadeproductions.ajqvue.utilities.Utils;
+import com.dandymadeproductions.ajqvue.utilities.metrics.DataChunkEvent;
+import com.dandymadeproductions.ajqvue.utilities.metrics.FlightRecording;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
+import com.dandymadeproductions.ajqvue.utilities.metrics.ThroughputMeter;
 
 /**
  *    The SQLDataDumpImportThread class provide the means to import
@@ -70,7 +102,7 @@ import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
  * to cancel the import.
  * 
  * @author Borislav Gizdov a.k.a. PoisoneR, Dana M. Proctor
- * @version 1.4 06/07/2018
+ * @version 1.4 10/18/2026
  */
 
 public class SQLDataDumpImportThread implements Runnable
@@ -80,6 +112,8 @@ public class SQLDataDumpImportThread implements Runnable
    private String dataSourceType;
    private boolean validImport;
    private boolean reloadDatabase;
+   
+   private static final int PREPARED_STATEMENT_LIMIT = 64;
 
    //==============================================================
    // SQLDataDumpImportThread Constructor.
@@ -136,12 +170,16 @@ public class SQLDataDumpImportThread implements Runnable
       else
       {
          String msg = "The file '" + fileName + "' does not exists.";
-         JOptionPane.showMessageDialog(null, msg, fileName, JOptionPane.ERROR_MESSAGE);
+         Utils.displayErrorMessage(msg, fileName);
       }
    }
 
    //==============================================================
-   // Class method for importing a sql dump file
+   // Class method for importing a sql dump file. The file is read
+   // once, statement by statement, with progress tracked by the
+   // kilobytes consumed. Literal INSERT/REPLACE statements of the
+   // same shape are executed as prepared statement batches, all
+   // others as plain statement batches, in the order given.
    //==============================================================
 
    private void importSQLFile()
@@ -149,21 +187,31 @@ public class SQLDataDumpImportThread implements Runnable
       // Class Method Instances.
       Connection dbConnection;
       Statement sqlStatement;
+      HashMap<String, PreparedStatement> preparedStatements;
+      PreparedStatement prepared_sqlStatement;
+      Statement pendingBatch;
+      InsertValuesParser insertValuesParser;
 
-      FileReader fileReader;
-      BufferedReader bufferedReader;
+      FileInputStream fileInputStream;
+      FileChannel fileChannel;
+      SQLScriptReader scriptReader;
+      ThroughputMeter throughputMeter;
+      long filePosition, lastFilePosition;
 
-      String currentLine;
-      StringBuffer queryStatement;
+      String queryStatement;
       String failedQuery;
-      int fileLineLength;
+      ArrayList<String[]> rows;
+      String[] rowValues;
       int line;
       int currentBatchRows;
       int batchSize;
       boolean batchSizeEnabled;
       boolean identityInsertEnabled;
+      boolean preparedInserts;
+      boolean mysqlSyntax;
+      boolean postgreSQL;
       
-      ProgressBar sqlImportProgressBar;
+      ProgressIndicator sqlImportProgressBar;
 
       // Obtain database connection & setting up.
 
@@ -175,9 +223,9 @@ public class SQLDataDumpImportThread implements Runnable
          return;
       }
       
-      sqlImportProgressBar = new ProgressBar("SQL Import");
+      sqlImportProgressBar = ProgressBar.createProgressIndicator("SQL Import");
+      throughputMeter = null;
       failedQuery = "";
-      fileLineLength = 0;
       line = 0;
       batchSize = DBTablesPanel.getGeneralDBProperties().getBatchSize();
       batchSizeEnabled = DBTablesPanel.getGeneralDBProperties().getBatchSizeEnabled();
@@ -188,13 +236,20 @@ public class SQLDataDumpImportThread implements Runnable
       else
          identityInsertEnabled = false;
       
+      // Derby does not convert string parameters as it does
+      // literals so its inserts are left as is.
+      
+      mysqlSyntax = dataSourceType.equals(ConnectionManager.MYSQL)
+                    || dataSourceType.equals(ConnectionManager.MARIADB);
+      postgreSQL = dataSourceType.equals(ConnectionManager.POSTGRESQL);
+      preparedInserts = !dataSourceType.equals(ConnectionManager.DERBY);
+      
       // Begin the processing of the input SQL file by reading
-      // each line and checking before insert if it is valid
-      // not a comment.
+      // each statement.
       
-      fileReader = null;
-      bufferedReader = null;
+      fileInputStream = null;
       sqlStatement = null;
+      preparedStatements = new HashMap <String, PreparedStatement>();
       
       try
       {
@@ -210,21 +265,22 @@ public class SQLDataDumpImportThread implements Runnable
                                        + " ON");
 
          // Only MySQL, MariaDB, & PostgreSQL supports.
-         if (dataSourceType.equals(ConnectionManager.MYSQL)
-             || dataSourceType.equals(ConnectionManager.MARIADB)
-             || dataSourceType.equals(ConnectionManager.POSTGRESQL))
+         if (mysqlSyntax || postgreSQL)
             sqlStatement.executeUpdate("BEGIN");
 
          try
          {
-            // Setting file reader & progress bar.
-            fileReader = new FileReader(fileName);
-            bufferedReader = new BufferedReader(fileReader);
+            // Setting script reader & progress bar.
+            fileInputStream = new FileInputStream(fileName);
+            fileChannel = fileInputStream.getChannel();
+            scriptReader = new SQLScriptReader(new InputStreamReader(DumpStreams.openInput(fileInputStream)),
+                                               mysqlSyntax, postgreSQL, BulkLoadWriter.SQLLOADER_MARKER);
+            insertValuesParser = new InsertValuesParser(mysqlSyntax);
+            throughputMeter = MetricsRegistry.startThroughput(MetricsRegistry.IMPORT_SQL,
+                                                              new File(fileName).getName());
+            lastFilePosition = 0;
 
-            while ((currentLine = bufferedReader.readLine()) != null)
-               fileLineLength++;
-
-            sqlImportProgressBar.setTaskLength(fileLineLength);
+            sqlImportProgressBar.setTaskLength((int) (fileChannel.size() >> 10) + 1);
             sqlImportProgressBar.pack();
             sqlImportProgressBar.center();
             sqlImportProgressBar.setVisible(true);
@@ -232,18 +288,13 @@ public class SQLDataDumpImportThread implements Runnable
 
             // Beginning processing the input file for insertions
             // into the database table.
-
-            bufferedReader.close();
-            fileReader = new FileReader(fileName);
-            bufferedReader = new BufferedReader(fileReader);
             
-            line = 1;
             currentBatchRows = 0;
-            queryStatement = new StringBuffer();
+            pendingBatch = null;
             
-            while ((currentLine = bufferedReader.readLine()) != null)
+            while ((queryStatement = scriptReader.nextStatement()) != null)
             {
-               // System.out.println(currentLine);
+               // System.out.println(queryStatement);
 
                // Check to see if user wishes to stop.
                if (sqlImportProgressBar.isCanceled())
@@ -252,53 +303,117 @@ public class SQLDataDumpImportThread implements Runnable
                   break;
                }
                
-               // Check for some form of valid input before
-               // processing.
+               // Save the query in case exception thrown.
+               line = scriptReader.getLineNumber();
+               
+               if (queryStatement.length() > 50)
+                  failedQuery = queryStatement.substring(0, 50);
+               else
+                  failedQuery = queryStatement;
+               
+               // Native bulk load of SQL*Loader data.
+               if (queryStatement.startsWith(BulkLoadWriter.SQLLOADER_MARKER))
+               {
+                  pendingBatch = executeBatch(pendingBatch);
+                  loadSQLLoaderData(dbConnection,
+                     queryStatement.substring(BulkLoadWriter.SQLLOADER_MARKER.length()).trim(), batchSize);
+               }
+               
+               // Native bulk load of LOAD DATA side file.
+               else if (isLoadDataStatement(queryStatement))
+               {
+                  pendingBatch = executeBatch(pendingBatch);
+                  loadDataInfile(dbConnection, sqlStatement, queryStatement, batchSize);
+               }
+               
+               // Native bulk load of COPY data, following the
+               // statement.
+               else if (isCopyStatement(queryStatement))
+               {
+                  pendingBatch = executeBatch(pendingBatch);
+                  copyIn(dbConnection, queryStatement, scriptReader);
+               }
                
-               if (!currentLine.isEmpty())
+               // Literal inserts, batched by shape.
+               else if (preparedInserts && insertValuesParser.parse(queryStatement))
                {
-                  if (currentLine.length() >= 2
-                        && (currentLine.startsWith("--") || currentLine.startsWith("/*")
-                              || currentLine.startsWith("*") || currentLine.startsWith("*/")))
+                  prepared_sqlStatement = preparedStatements.get(insertValuesParser.getPreparedSQL());
+                  
+                  if (prepared_sqlStatement == null)
                   {
-                     sqlImportProgressBar.setCurrentValue(line++);
-                     continue;
+                     // Keep a bounded number of shapes open.
+                     if (preparedStatements.size() >= PREPARED_STATEMENT_LIMIT)
+                     {
+                        pendingBatch = executeBatch(pendingBatch);
+                        closePreparedStatements(preparedStatements);
+                     }
+                     prepared_sqlStatement = dbConnection.prepareStatement(
+                        insertValuesParser.getPreparedSQL());
+                     preparedStatements.put(insertValuesParser.getPreparedSQL(), prepared_sqlStatement);
                   }
                   
-                  // Check to see if complete query obtained.
-                  if (currentLine.endsWith(";"))
+                  if (pendingBatch != prepared_sqlStatement)
+                     pendingBatch = executeBatch(pendingBatch);
+                  
+                  rows = insertValuesParser.getRows();
+                  
+                  for (int i = 0; i < rows.size(); i++)
                   {
-                     queryStatement.append(currentLine.substring(0, currentLine.length() - 1));
+                     rowValues = rows.get(i);
                      
-                     // Save the query in case exception thrown.
-                     if (queryStatement.length() > 50)
-                        failedQuery = queryStatement.substring(0, 50);
-                     else
-                        failedQuery = queryStatement.toString();
-                     
-                     // Process the query.
-                     // System.out.println("query: " + queryStatement);
-                     sqlStatement.addBatch(queryStatement.toString());
-                     
-                     queryStatement.delete(0, queryStatement.length());
-                     
-                     // Commit on Batch Size if Desired.
-                     if (batchSizeEnabled)
+                     for (int j = 0; j < rowValues.length; j++)
                      {
-                        if (currentBatchRows > batchSize)
+                        // PostgreSQL parameters left untyped, as
+                        // literals, for the server to infer.
+                        if (postgreSQL)
                         {
-                           sqlStatement.executeBatch();
-                           dbConnection.commit();
-                           currentBatchRows = 0;
+                           if (rowValues[j] == null)
+                              prepared_sqlStatement.setNull(j + 1, Types.OTHER);
+                           else
+                              prepared_sqlStatement.setObject(j + 1, rowValues[j], Types.OTHER);
                         }
                         else
-                           currentBatchRows++;
-                     }     
+                        {
+                           if (rowValues[j] == null)
+                              prepared_sqlStatement.setNull(j + 1, Types.VARCHAR);
+                           else
+                              prepared_sqlStatement.setString(j + 1, rowValues[j]);
+                        }
+                     }
+                     prepared_sqlStatement.addBatch();
                   }
-                  else
-                     queryStatement.append(currentLine);  
-               } 
-               sqlImportProgressBar.setCurrentValue(line++);
+                  pendingBatch = prepared_sqlStatement;
+                  currentBatchRows += rows.size();
+                  throughputMeter.addRows(rows.size());
+               }
+               
+               // All others.
+               else
+               {
+                  if (pendingBatch != sqlStatement)
+                     pendingBatch = executeBatch(pendingBatch);
+                  
+                  sqlStatement.addBatch(resolveBulkLoadFile(queryStatement));
+                  pendingBatch = sqlStatement;
+                  currentBatchRows++;
+                  throughputMeter.addRows(1);
+               }
+               
+               // Execute on Batch Size, Commit if Desired.
+               if (currentBatchRows > batchSize)
+               {
+                  pendingBatch = executeBatch(pendingBatch);
+                  
+                  if (batchSizeEnabled)
+                     dbConnection.commit();
+                  
+                  currentBatchRows = 0;
+               }
+               
+               filePosition = fileChannel.position();
+               throughputMeter.addBytes(filePosition - lastFilePosition);
+               lastFilePosition = filePosition;
+               sqlImportProgressBar.setCurrentValue((int) (filePosition >> 10));
             }
             sqlImportProgressBar.dispose();
 
@@ -307,7 +422,7 @@ public class SQLDataDumpImportThread implements Runnable
 
             if (validImport)
             {
-               sqlStatement.executeBatch();
+               executeBatch(pendingBatch);
                dbConnection.commit();
             }
             else
@@ -324,8 +439,7 @@ public class SQLDataDumpImportThread implements Runnable
          catch (IOException e)
          {
             sqlImportProgressBar.dispose();
-            JOptionPane.showMessageDialog(null, "Unable to Read Input File!", "Alert",
-               JOptionPane.ERROR_MESSAGE);
+            Utils.displayErrorMessage("Unable to Read Input File!", "Alert");
             try
             {
                dbConnection.rollback();
@@ -366,6 +480,8 @@ public class SQLDataDumpImportThread implements Runnable
       {
          try
          {
+            closePreparedStatements(preparedStatements);
+            
             if (sqlStatement != null)
                sqlStatement.close();
          }
@@ -377,31 +493,483 @@ public class SQLDataDumpImportThread implements Runnable
          {
             try
             {
-               if (bufferedReader != null)
-                  bufferedReader.close();
+               if (fileInputStream != null)
+                  fileInputStream.close();
             }
             catch (IOException ioe)
             {
                if (Ajqvue.getDebug())
-                  System.out.println("SQLDataImporthread importSQL() Failed to Close BufferedReader. "
+                  System.out.println("SQLDataImporthread importSQL() Failed to Close FileInputStream. "
                                      + ioe);
             }
-            finally
+         }
+         
+         if (throughputMeter != null)
+            throughputMeter.finish();
+         
+         ConnectionManager.closeConnection(dbConnection, "SQLDataDumpImportThread importSQLFile()");
+      }
+   }
+   
+   //==============================================================
+   // Class method to execute the pending batch, if any, with the
+   // Flight Recorder chunk event as enabled. Returns NULL so the
+   // batch is no longer pending.
+   //==============================================================
+
+   private Statement executeBatch(Statement pendingBatch) throws SQLException
+   {
+      // Method Instances
+      DataChunkEvent chunkEvent;
+      
+      if (pendingBatch == null)
+         return null;
+      
+      if (FlightRecording.isEnabled())
+      {
+         chunkEvent = new DataChunkEvent(MetricsRegistry.IMPORT_SQL, new File(fileName).getName());
+         chunkEvent.begin();
+         chunkEvent.setChunk(pendingBatch.executeBatch().length, 0);
+         chunkEvent.commit();
+      }
+      else
+         pendingBatch.executeBatch();
+      
+      return null;
+   }
+   
+   //==============================================================
+   // Class method to close & clear the prepared insert statements.
+   //==============================================================
+
+   private void closePreparedStatements(HashMap<String, PreparedStatement> preparedStatements)
+                                        throws SQLException
+   {
+      // Method Instances
+      Iterator<PreparedStatement> preparedStatementsIterator;
+      
+      preparedStatementsIterator = preparedStatements.values().iterator();
+      
+      try
+      {
+         while (preparedStatementsIterator.hasNext())
+            preparedStatementsIterator.next().close();
+      }
+      finally
+      {
+         preparedStatements.clear();
+      }
+   }
+   
+   //==============================================================
+   // Class method to determine if a statement is a PostgreSQL COPY
+   // with its data following inline.
+   //==============================================================
+
+   private boolean isCopyStatement(String statement)
+   {
+      // Method Instances
+      String upperStatement;
+      
+      if (!dataSourceType.equals(ConnectionManager.POSTGRESQL))
+         return false;
+      
+      upperStatement = statement.trim().toUpperCase(Locale.ENGLISH);
+      return upperStatement.startsWith("COPY ") && upperStatement.endsWith("FROM STDIN");
+   }
+   
+   //==============================================================
+   // Class method to load the inline data of a COPY statement via
+   // the PostgreSQL driver's CopyManager, streaming the lines up to
+   // the end of data marker. The driver is accessed by reflection
+   // as it is only available at runtime.
+   //==============================================================
+
+   private void copyIn(Connection dbConnection, String copyStatement, SQLScriptReader scriptReader)
+                       throws SQLException, IOException
+   {
+      // Method Instances
+      CopyDataReader copyDataReader;
+      Class<?> pgConnectionClass;
+      Object pgConnection;
+      Object copyManager;
+      
+      copyDataReader = new CopyDataReader(scriptReader);
+      
+      try
+      {
+         pgConnectionClass = Class.forName("org.postgresql.PGConnection");
+         pgConnection = dbConnection.unwrap(pgConnectionClass);
+         copyManager = pgConnectionClass.getMethod("getCopyAPI").invoke(pgConnection);
+         
+         copyManager.getClass().getMethod("copyIn", String.class, Reader.class).invoke(copyManager,
+            copyStatement, copyDataReader);
+      }
+      catch (InvocationTargetException e)
+      {
+         if (e.getCause() instanceof SQLException)
+            throw (SQLException) e.getCause();
+         else if (e.getCause() instanceof IOException)
+            throw (IOException) e.getCause();
+         else
+            throw new SQLException("COPY Failed: " + e.getCause(), e.getCause());
+      }
+      catch (ReflectiveOperationException e)
+      {
+         throw new SQLException("PostgreSQL Driver CopyManager Unavailable: " + e, e);
+      }
+   }
+   
+   //==============================================================
+   // Class method to resolve the side file of a LOAD DATA or CSVREAD
+   // bulk load statement against the directory of the dump file.
+   //==============================================================
+
+   private String resolveBulkLoadFile(String statement)
+   {
+      // Method Instances
+      String upperStatement;
+      int fileStart;
+      int fileEnd;
+      File sideFile;
+      
+      upperStatement = statement.toUpperCase(Locale.ENGLISH);
+      
+      if (upperStatement.startsWith("LOAD DATA LOCAL INFILE '"))
+         fileStart = "LOAD DATA LOCAL INFILE '".length();
+      else if (upperStatement.indexOf("FROM CSVREAD('") != -1)
+         fileStart = upperStatement.indexOf("FROM CSVREAD('") + "FROM CSVREAD('".length();
+      else
+         return statement;
+      
+      fileEnd = statement.indexOf("'", fileStart);
+      
+      if (fileEnd == -1)
+         return statement;
+      
+      sideFile = new File(statement.substring(fileStart, fileEnd));
+      
+      if (sideFile.isAbsolute())
+         return statement;
+      
+      sideFile = new File(new File(fileName).getAbsoluteFile().getParentFile(), sideFile.getPath());
+      
+      return statement.substring(0, fileStart)
+             + sideFile.getPath().replace('\\', '/').replace("'", "''")
+             + statement.substring(fileEnd);
+   }
+   
+   //==============================================================
+   // Class methods to load a LOAD DATA LOCAL INFILE side file. The
+   // statement needs local infile allowed by both the driver,
+   // allowLoadLocalInfile=true, & the server, local_infile=ON, the
+   // latter off by default with MySQL 8. When refused the side file
+   // is loaded instead via batched inserts.
+   //==============================================================
+
+   private boolean isLoadDataStatement(String statement)
+   {
+      return statement.toUpperCase(Locale.ENGLISH).startsWith("LOAD DATA LOCAL INFILE '");
+   }
+   
+   private void loadDataInfile(Connection dbConnection, Statement sqlStatement, String loadStatement,
+                               int batchSize) throws SQLException, IOException
+   {
+      // Method Instances
+      String message;
+      
+      try
+      {
+         sqlStatement.execute(resolveBulkLoadFile(loadStatement));
+      }
+      catch (SQLException e)
+      {
+         message = (e.getMessage() == null) ? "" : e.getMessage().toUpperCase(Locale.ENGLISH);
+         
+         // ER_NOT_ALLOWED_COMMAND, CR_LOAD_DATA_LOCAL_INFILE_REJECTED,
+         // & ER_CLIENT_LOCAL_FILES_DISABLED.
+         if (e.getErrorCode() == 1148 || e.getErrorCode() == 2068 || e.getErrorCode() == 3948
+             || message.indexOf("LOCAL INFILE") != -1 || message.indexOf("LOCAL DATA") != -1)
+         {
+            if (Ajqvue.getDebug())
+               System.out.println("SQLDataDumpImportThread loadDataInfile() " + e.getMessage()
+                                  + " Loading via Inserts.");
+            
+            loadDataInserts(dbConnection, loadStatement, batchSize);
+         }
+         else
+            throw e;
+      }
+   }
+   
+   private void loadDataInserts(Connection dbConnection, String loadStatement, int batchSize)
+                                throws SQLException, IOException
+   {
+      // Method Instances
+      File dataFile;
+      FileReader dataFileReader;
+      CSVTokenizer csvTokenizer;
+      PreparedStatement prepared_sqlStatement;
+      
+      String schemaTableName;
+      String[] columns;
+      String[] assignments;
+      HashMap<String, String> unhexColumns;
+      ArrayList<String> fields;
+      StringBuilder insertStatement;
+      String value;
+      int fileStart, fileEnd;
+      int columnsStart, columnsEnd;
+      int setStart;
+      int batchRows;
+      
+      // Obtain the side file, table, & columns, as written by
+      // the BulkLoadWriter. Binary columns are read to user
+      // variables then set with UNHEX().
+      
+      fileStart = "LOAD DATA LOCAL INFILE '".length();
+      fileEnd = loadStatement.indexOf("'", fileStart);
+      columnsStart = loadStatement.indexOf(" IGNORE 1 LINES (");
+      
+      if (fileEnd == -1 || columnsStart == -1 || loadStatement.indexOf(" INTO TABLE ") == -1
+          || loadStatement.indexOf(" FIELDS TERMINATED BY ") == -1)
+         throw new IOException("Invalid LOAD DATA Statement: " + loadStatement);
+      
+      dataFile = new File(loadStatement.substring(fileStart, fileEnd).replace("''", "'"));
+      
+      if (!dataFile.isAbsolute())
+         dataFile = new File(new File(fileName).getAbsoluteFile().getParentFile(), dataFile.getPath());
+      
+      schemaTableName = loadStatement.substring(loadStatement.indexOf(" INTO TABLE ") + 12,
+                                                loadStatement.indexOf(" FIELDS TERMINATED BY "));
+      
+      columnsStart += " IGNORE 1 LINES (".length();
+      setStart = loadStatement.indexOf(") SET ", columnsStart);
+      columnsEnd = (setStart == -1) ? loadStatement.lastIndexOf(")") : setStart;
+      columns = loadStatement.substring(columnsStart, columnsEnd).split(", ");
+      
+      unhexColumns = new HashMap <String, String>();
+      
+      if (setStart != -1)
+      {
+         assignments = loadStatement.substring(setStart + 6, loadStatement.lastIndexOf(")") + 1).split(", ");
+         
+         for (int i = 0; i < assignments.length; i++)
+         {
+            if (assignments[i].indexOf(" = UNHEX(") != -1)
+               unhexColumns.put(assignments[i].substring(assignments[i].indexOf("UNHEX(") + 6,
+                                                         assignments[i].length() - 1),
+                                assignments[i].substring(0, assignments[i].indexOf(" = UNHEX(")));
+         }
+      }
+      
+      insertStatement = new StringBuilder("INSERT INTO " + schemaTableName + " (");
+      for (int i = 0; i < columns.length; i++)
+      {
+         if (unhexColumns.containsKey(columns[i]))
+            insertStatement.append((i > 0 ? ", " : "") + unhexColumns.get(columns[i]));
+         else
+            insertStatement.append((i > 0 ? ", " : "") + columns[i]);
+      }
+      insertStatement.append(") VALUES (");
+      for (int i = 0; i < columns.length; i++)
+      {
+         insertStatement.append(i > 0 ? ", " : "");
+         insertStatement.append(unhexColumns.containsKey(columns[i]) ? "UNHEX(?)" : "?");
+      }
+      insertStatement.append(")");
+      
+      // Batch the data rows, skipping the headings. NULL is
+      // only the unquoted marker.
+      
+      dataFileReader = new FileReader(dataFile);
+      prepared_sqlStatement = null;
+      
+      try
+      {
+         prepared_sqlStatement = dbConnection.prepareStatement(insertStatement.toString());
+         csvTokenizer = new CSVTokenizer(dataFileReader, ",");
+         fields = new ArrayList <String>();
+         batchRows = 0;
+         
+         csvTokenizer.nextRecord(fields);
+         
+         while (csvTokenizer.nextRecord(fields))
+         {
+            for (int i = 0; i < columns.length; i++)
+            {
+               value = (i < fields.size()) ? fields.get(i) : null;
+               
+               if (value == null || (value.equals("NULL") && !csvTokenizer.isQuoted(i)))
+                  prepared_sqlStatement.setNull(i + 1, Types.VARCHAR);
+               else
+                  prepared_sqlStatement.setString(i + 1, value);
+            }
+            prepared_sqlStatement.addBatch();
+            
+            if (++batchRows >= batchSize)
+            {
+               prepared_sqlStatement.executeBatch();
+               batchRows = 0;
+            }
+         }
+         prepared_sqlStatement.executeBatch();
+      }
+      finally
+      {
+         try
+         {
+            if (prepared_sqlStatement != null)
+               prepared_sqlStatement.close();
+         }
+         finally
+         {
+            dataFileReader.close();
+         }
+      }
+   }
+   
+   //==============================================================
+   // Class method to load the data of a SQL*Loader control file,
+   // as written by the BulkLoadWriter, via batched inserts.
+   //==============================================================
+
+   private void loadSQLLoaderData(Connection dbConnection, String controlFileName, int batchSize)
+                                  throws SQLException, IOException
+   {
+      // Method Instances
+      File dumpDirectory;
+      BufferedReader controlReader;
+      FileReader dataFileReader;
+      CSVTokenizer csvTokenizer;
+      PreparedStatement prepared_sqlStatement;
+      
+      String currentLine;
+      String dataFileName;
+      String schemaTableName;
+      ArrayList<String> columnNames;
+      ArrayList<Boolean> timeStampColumns;
+      ArrayList<String> fields;
+      StringBuilder insertStatement;
+      String value;
+      boolean columnSpecification;
+      int batchRows;
+      
+      dumpDirectory = new File(fileName).getAbsoluteFile().getParentFile();
+      dataFileName = null;
+      schemaTableName = null;
+      columnNames = new ArrayList <String>();
+      timeStampColumns = new ArrayList <Boolean>();
+      columnSpecification = false;
+      
+      // Obtain the data file, table, & columns.
+      
+      controlReader = new BufferedReader(new FileReader(new File(dumpDirectory, controlFileName)));
+      
+      try
+      {
+         while ((currentLine = controlReader.readLine()) != null)
+         {
+            if (currentLine.startsWith("INFILE '"))
+               dataFileName = currentLine.substring(8, currentLine.lastIndexOf("'"));
+            else if (currentLine.startsWith("INTO TABLE "))
+               schemaTableName = currentLine.substring(11).trim();
+            else if (currentLine.equals("("))
+               columnSpecification = true;
+            else if (currentLine.equals(")"))
+               columnSpecification = false;
+            else if (columnSpecification)
             {
-               try
+               if (currentLine.endsWith(","))
+                  currentLine = currentLine.substring(0, currentLine.length() - 1);
+               
+               if (currentLine.endsWith(" " + BulkLoadWriter.SQLLOADER_TIMESTAMP))
                {
-                  if (fileReader != null)
-                     fileReader.close();
+                  columnNames.add(currentLine.substring(0, currentLine.length()
+                                  - BulkLoadWriter.SQLLOADER_TIMESTAMP.length() - 1));
+                  timeStampColumns.add(Boolean.TRUE);
                }
-               catch (IOException ioe)
+               else if (currentLine.lastIndexOf(" " + BulkLoadWriter.SQLLOADER_CHAR + "(") != -1)
                {
-                  if (Ajqvue.getDebug())
-                     System.out.println("SQLDataImporthread importSQL() Failed to Close FileReader. "
-                                        + ioe);
+                  columnNames.add(currentLine.substring(0, currentLine.lastIndexOf(
+                                  " " + BulkLoadWriter.SQLLOADER_CHAR + "(")));
+                  timeStampColumns.add(Boolean.FALSE);
                }
             }
          }
-         ConnectionManager.closeConnection(dbConnection, "SQLDataDumpImportThread importSQLFile()");
+      }
+      finally
+      {
+         controlReader.close();
+      }
+      
+      if (dataFileName == null || schemaTableName == null || columnNames.isEmpty())
+         throw new IOException("Invalid SQL*Loader Control File: " + controlFileName);
+      
+      insertStatement = new StringBuilder("INSERT INTO " + schemaTableName + " (");
+      for (int i = 0; i < columnNames.size(); i++)
+         insertStatement.append((i > 0 ? ", " : "") + columnNames.get(i));
+      insertStatement.append(") VALUES (");
+      for (int i = 0; i < columnNames.size(); i++)
+         insertStatement.append(i > 0 ? ", ?" : "?");
+      insertStatement.append(")");
+      
+      // Batch the data rows, skipping the headings.
+      
+      dataFileReader = new FileReader(new File(dumpDirectory, dataFileName));
+      prepared_sqlStatement = null;
+      
+      try
+      {
+         prepared_sqlStatement = dbConnection.prepareStatement(insertStatement.toString());
+         csvTokenizer = new CSVTokenizer(dataFileReader, ",");
+         fields = new ArrayList <String>();
+         batchRows = 0;
+         
+         csvTokenizer.nextRecord(fields);
+         
+         while (csvTokenizer.nextRecord(fields))
+         {
+            for (int i = 0; i < columnNames.size(); i++)
+            {
+               value = (i < fields.size()) ? fields.get(i) : "";
+               
+               if (timeStampColumns.get(i).booleanValue())
+               {
+                  if (value.isEmpty())
+                     prepared_sqlStatement.setNull(i + 1, Types.TIMESTAMP);
+                  else
+                     prepared_sqlStatement.setTimestamp(i + 1, Timestamp.valueOf(value));
+               }
+               else
+               {
+                  if (value.isEmpty())
+                     prepared_sqlStatement.setNull(i + 1, Types.VARCHAR);
+                  else
+                     prepared_sqlStatement.setString(i + 1, value);
+               }
+            }
+            prepared_sqlStatement.addBatch();
+            
+            if (++batchRows >= batchSize)
+            {
+               prepared_sqlStatement.executeBatch();
+               batchRows = 0;
+            }
+         }
+         prepared_sqlStatement.executeBatch();
+      }
+      finally
+      {
+         try
+         {
+            if (prepared_sqlStatement != null)
+               prepared_sqlStatement.close();
+         }
+         finally
+         {
+            dataFileReader.close();
+         }
       }
    }
    
@@ -418,4 +986,69 @@ public class SQLDataDumpImportThread implements Runnable
          currentTableTabPanel.setTableHeadings(tableFields);
       }
    }
-}
\ No newline at end of file
+   
+   //==============================================================
+   // Class to provide the inline data lines of a COPY statement,
+   // up to the end of data marker, as a Reader.
+   //==============================================================
+
+   private static class CopyDataReader extends Reader
+   {
+      private SQLScriptReader scriptReader;
+      private String currentLine;
+      private int position;
+      private boolean endOfData;
+      
+      CopyDataReader(SQLScriptReader scriptReader) throws IOException
+      {
+         this.scriptReader = scriptReader;
+         endOfData = false;
+         
+         // Remainder of the COPY statement's line.
+         scriptReader.readLine();
+      }
+      
+      public int read(char[] buffer, int offset, int length) throws IOException
+      {
+         // Method Instances
+         String nextLine;
+         int count;
+         int size;
+         
+         count = 0;
+         
+         while (count < length)
+         {
+            if (currentLine == null)
+            {
+               if (endOfData)
+                  break;
+               
+               nextLine = scriptReader.readLine();
+               
+               if (nextLine == null || nextLine.equals(BulkLoadWriter.COPY_END))
+               {
+                  endOfData = true;
+                  break;
+               }
+               currentLine = nextLine + "\n";
+               position = 0;
+            }
+            
+            size = Math.min(length - count, currentLine.length() - position);
+            currentLine.getChars(position, position + size, buffer, offset + count);
+            position += size;
+            count += size;
+            
+            if (position == currentLine.length())
+               currentLine = null;
+         }
+         return (count == 0 && endOfData) ? -1 : count;
+      }
+      
+      public void close()
+      {
+         // The dump file reader is closed by the import.
+      }
+   }
+}
@@ -10,7 +10,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 2.2 07/27/2018
+// Version 2.3 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -68,6 +68,19 @@
 //             Type Extraction From tableColumnSQLTypeHashMap as int.
 //         2.2 Methods insertReplace/explicitStatementData() Excluded Derby
 //             BIT DATA From Being Processed as Blob, Utils.isBlob().
+//         2.3 Removed Class Instance dumpData. Statements Now Collected & Streamed
+//             via SQLDump dumpWriter, DumpWriter, Over the FileStream Channel,
+//             Opened via DumpStreams.openOutput() for Gzip Compressed Output to *.gz
+//             Files. Method dumpBinaryData() Use of DumpWriter appendOctal/Hex().
+//             Row Count Estimated Via RowCountService, Exact Count Taken in
+//             Background, Class Instance rowCountFuture, Canceled When Dump
+//             Finishes. Paging Terminated on Short Page, Deferred Statement
+//             Terminators. Added Class Instance bulkDump & Methods
+//             isBulkSupported(), bulkStatementData(), & getColumnDisplaySizes() for
+//             Insert Expression Bulk, Native Bulk Load Blocks via BulkLoadWriter.
+//             Rows & Bytes Written Recorded in a ThroughputMeter. Progress Bar a
+//             ProgressIndicator From ProgressBar.createProgressIndicator(), Headless
+//             Safe.
 //
 //-----------------------------------------------------------------
 //                poisonerbg@users.sourceforge.net
@@ -76,14 +89,12 @@
 
 package com.dandymadeproductions.ajqvue.io;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
-import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
@@ -91,6 +102,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
+import java.util.concurrent.Future;
 
 import javax.swing.JOptionPane;
 
@@ -99,8 +111,13 @@ import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
 import com.dandymadeproductions.ajqvue.gui.panels.DBTablesPanel;
 import com.dandymadeproductions.ajqvue.structures.DataExportProperties;
 import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
+import com.dandymadeproductions.ajqvue.utilities.ProgressIndicator;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
+import com.dandymadeproductions.ajqvue.utilities.db.RowCountListener;
+import com.dandymadeproductions.ajqvue.utilities.db.RowCountService;
 import com.dandymadeproductions.ajqvue.utilities.db.TableDefinitionGenerator;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
+import com.dandymadeproductions.ajqvue.utilities.metrics.ThroughputMeter;
 
 /**
  *    The SQLDataDumpThread provides a thread to safely dump database
@@ -109,13 +126,12 @@ import com.dandymadeproductions.ajqvue.utilities.db.TableDefinitionGenerator;
  * the dump.
  * 
  * @author Borislav Gizdov a.k.a. PoisoneR, Dana Proctor
- * @version 2.2 07/27/2018
+ * @version 2.3 10/18/2026
  */
 
 public class SQLDataDumpThread extends SQLDump implements Runnable
 {
    // Class Instances.
-   private Object dumpData;
    private String exportedTable;
    private ArrayList<String> columnNameFields;
    private HashMap<String, String> tableColumnNames;
@@ -133,10 +149,13 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
    private boolean limits;
    private boolean insertReplaceDump;
    private boolean updateDump;
+   private boolean bulkDump;
    private int limitIncrement;
    private int pluralValueLimit;
    private DataExportProperties sqlDataExportOptions;
-   private ProgressBar dumpProgressBar;
+   private ProgressIndicator dumpProgressBar;
+   private ThroughputMeter throughputMeter;
+   private Future<?> rowCountFuture;
    
    //==============================================================
    // SQLDataDumpThread Constructor.
@@ -160,6 +179,7 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
       // Setup control instances, export options, & identifier String.
       updateDump = false;
       insertReplaceDump = false;
+      bulkDump = false;
       dataSourceType = ConnectionManager.getDataSourceType();
       dbIdentifierQuoteString = ConnectionManager.getIdentifierQuoteString();
       sqlDataExportOptions = DBTablesPanel.getDataExportProperties();
@@ -202,7 +222,7 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
    private void dumpData() throws Exception
    {
       // Class Method Instances.
-      FileOutputStream fileStream;
+      OutputStream fileStream;
       String sqlStatementString;
       Statement sqlStatement;
       ResultSet rs;
@@ -214,7 +234,7 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
          return;
       
       fileStream = null;
-      filebuff = null;
+      dumpWriter = null;
 
       // Setting up OutputStream
       try
@@ -233,24 +253,26 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                 System.out.println("Failed to Delete: '" + fileName + "'. " + se.toString());
             }
          }
-         fileStream = new FileOutputStream(fileName, true);
-         filebuff = new BufferedOutputStream(fileStream);
+         fileStream = DumpStreams.openOutput(fileName, true);
+         dumpWriter = new DumpWriter(fileStream, DumpWriter.DEFAULT_BUFFER_SIZE);
+         throughputMeter = MetricsRegistry.startThroughput(MetricsRegistry.DUMP_SQL, exportedTable);
+         dumpWriter.setThroughputMeter(throughputMeter);
 
          // Create a progress bar for giving the user a
          // visual and cancel ability.
-         dumpProgressBar = new ProgressBar(exportedTable + " SQL Data Dump");
+         dumpProgressBar = ProgressBar.createProgressIndicator(exportedTable + " SQL Data Dump");
 
          // =========================================================
          // Begin creating the data characters to be dumped into
          // the selected file.
 
          // Header info.
-         dumpData = generateHeaders();
+         dumpWriter.append(generateHeaders());
 
          // Check & see if anything is going to be exported
          if (!sqlDataExportOptions.getTableStructure() && !sqlDataExportOptions.getTableData())
          {
-            dumpChunkOfData(dumpData);
+            dumpChunkOfData();
             dumpProgressBar.dispose();
             ConnectionManager.closeConnection(dbConnection, "SQLDataDumpThread run()");
             return;
@@ -259,17 +281,16 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
          // Drop and Create Table Statements As Needed.
          if (sqlDataExportOptions.getTableStructure())
          {
-            dumpData = dumpData + genCommentSep("Table structure for table " + schemaTableName);
+            dumpWriter.append(genCommentSep("Table structure for table " + schemaTableName));
 
-            dumpData = dumpData
-                       + (new TableDefinitionGenerator(dbConnection, dbSchemaTableName)).getTableDefinition();
+            dumpWriter.append((new TableDefinitionGenerator(dbConnection, dbSchemaTableName)).getTableDefinition());
 
             // Check to see if we need to proceed with dumping
             // data. If not dump structure and clean up.
 
             if (!sqlDataExportOptions.getTableData())
             {
-               dumpChunkOfData(dumpData);
+               dumpChunkOfData();
                dumpProgressBar.dispose();
                ConnectionManager.closeConnection(dbConnection, "SQLDataDumpThread run()");
                return;
@@ -277,7 +298,7 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
          }
 
          // Comments for Table.
-         dumpData = dumpData + genCommentSep("Dumping data for table " + schemaTableName);
+         dumpWriter.append(genCommentSep("Dumping data for table " + schemaTableName));
 
          // Check to see if there is any data to actually be
          // dumped from the table and proceeding as necesary.
@@ -311,12 +332,12 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                   if (dataSourceType.equals(ConnectionManager.MYSQL)
                       || dataSourceType.equals(ConnectionManager.MARIADB))
                   {
-                     dumpData = dumpData + ("/*!40000 ALTER TABLE " 
-                                + schemaTableName + " DISABLE KEYS */;\n");
-                     dumpData = dumpData + ("LOCK TABLES " + schemaTableName + " WRITE;\n");
+                     dumpWriter.append("/*!40000 ALTER TABLE "
+                                       + schemaTableName + " DISABLE KEYS */;\n");
+                     dumpWriter.append("LOCK TABLES " + schemaTableName + " WRITE;\n");
                   }
                   else if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
-                     dumpData = dumpData + ("LOCK TABLE " + schemaTableName + ";\n");
+                     dumpWriter.append("LOCK TABLE " + schemaTableName + ";\n");
                }
 
                // Create the Appropriate Insert,Replace or Update Statements
@@ -327,6 +348,8 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                {
                   if (sqlDataExportOptions.getInsertExpression().equals("Explicit"))
                      explicitStatementData(dbConnection);
+                  else if (sqlDataExportOptions.getInsertExpression().equals("Bulk") && isBulkSupported())
+                     bulkStatementData(dbConnection);
                   else
                      insertReplaceStatementData(dbConnection);     
                }
@@ -342,7 +365,8 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                else
                   explicitStatementData(dbConnection);
                
-               dumpData = dumpData + ";\n";
+               if (!bulkDump)
+                  dumpWriter.append(";\n");
 
                // Finishing up.
                if (sqlDataExportOptions.getLock())
@@ -350,9 +374,9 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                   if (dataSourceType.equals(ConnectionManager.MYSQL)
                       || dataSourceType.equals(ConnectionManager.MARIADB))
                   {
-                     dumpData = dumpData + "UNLOCK TABLES;\n";
-                     dumpData = dumpData + "/*!40000 ALTER TABLE " + schemaTableName 
-                                + " ENABLE KEYS */;\n";
+                     dumpWriter.append("UNLOCK TABLES;\n");
+                     dumpWriter.append("/*!40000 ALTER TABLE " + schemaTableName
+                                       + " ENABLE KEYS */;\n");
                   }
                }
             }
@@ -363,6 +387,10 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
          }
          finally
          {
+            // Dump finished, count no longer needed.
+            if (rowCountFuture != null)
+               rowCountFuture.cancel(false);
+            
             try
             {
                if (rs != null)
@@ -378,8 +406,7 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                   sqlStatement.close();
             }
          }
-         dumpChunkOfData(dumpData);
-         dumpData = "";
+         dumpChunkOfData();
 
          ConnectionManager.closeConnection(dbConnection, "SQLDataDumpThread run()");
 
@@ -409,13 +436,13 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
       {
          try
          {
-            if (filebuff != null)
-               filebuff.close();
+            if (dumpWriter != null)
+               dumpWriter.close();
          }
          catch (IOException ioe)
          {
             if (Ajqvue.getDebug())
-               System.out.println("SQLDataDumpThread dumpData() Failed to Close BufferedOutputStream. "
+               System.out.println("SQLDataDumpThread dumpData() Failed to Close DumpWriter. "
                                   + ioe);
          }
          finally
@@ -431,6 +458,9 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                   System.out.println("SQLDataDumpThread dumpData() Failed to Close FileStream. "
                                      + ioe);
             }
+            
+            if (throughputMeter != null)
+               throughputMeter.finish();
          } 
       }
    }
@@ -466,10 +496,11 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
       String firstField;
       String sqlFieldValuesString;
       String expressionType;
-      int rowsCount;
       int currentTableIncrement;
       int currentRow;
       int currentPluralValueCount;
+      int pageRows;
+      boolean pendingRow;
       int columnsCount;
 
       String sqlStatementString;
@@ -625,36 +656,24 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
 
       sqlFieldValuesString = sqlFieldValuesString.substring(0, sqlFieldValuesString.length() - 2);
       sqlFieldValuesString += ") VALUES";
-      dumpData = dumpData + sqlFieldValuesString;
+      dumpWriter.append(sqlFieldValuesString);
 
-      dumpChunkOfData(dumpData);
-      dumpData = "";
-      
-      // Collect the row count of the table and setting
-      // up a progress bar for tracking/canceling.
-      
-      rowsCount = 0;
-      
-      if (limits)
-         rowsCount = DBTablesPanel.getSelectedTableTabPanel().getValidDataRowCount();
-      else
-      {
-         try
-         {
-            rowsCount = getRowsCount(dbConnection, dbSchemaTableName);
-         }
-         catch (SQLException sqle)
-         {
-            ConnectionManager.displaySQLErrors(sqle, "SQLDataDumpThread insertReplaceStatementData()");
-         }
-      }
+      dumpChunkOfData();
       
       currentPluralValueCount = 0;
       currentTableIncrement = 0;
       currentRow = 0;
+      pageRows = 0;
+      pendingRow = false;
 
-      // Start a progress bar for tracking/canceling.
-      dumpProgressBar.setTaskLength(rowsCount);
+      // Start a progress bar for tracking/canceling with the
+      // row count of the table, not waiting on an exact count.
+      
+      if (limits)
+         dumpProgressBar.setTaskLength(DBTablesPanel.getSelectedTableTabPanel().getValidDataRowCount());
+      else
+         startRowsCount(dbConnection, dbSchemaTableName);
+      
       dumpProgressBar.pack();
       dumpProgressBar.center();
       dumpProgressBar.setVisible(true);
@@ -713,17 +732,49 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
             rs = sqlStatement.executeQuery(sqlStatementString);
             
             // Begin the creation of insert statements.
+            pageRows = 0;
             while (rs.next() && !dumpProgressBar.isCanceled())
             {
                dumpProgressBar.setCurrentValue(currentRow++);
+               throughputMeter.addRows(1);
+               pageRows++;
+
+               // Close the previous row's values & setup the
+               // next statement as needed.
+               if (pendingRow)
+               {
+                  // SQL Singular Statement
+                  if (expressionType.equals("Singular"))
+                  {
+                     dumpWriter.append(";\n");
+                     dumpChunkOfData();
+                     dumpWriter.append(sqlFieldValuesString);
+                  }
+                  // SQL Plural Statement
+                  else
+                  {
+                     if (currentPluralValueCount >= pluralValueLimit)
+                     {
+                        dumpWriter.append(";\n");
+                        dumpChunkOfData();
+                        dumpWriter.append(sqlFieldValuesString);
+                        currentPluralValueCount = 0;
+                     }
+                     else
+                     {
+                        dumpWriter.append(",");
+                        dumpChunkOfData();
+                     }
+                  }
+               }
                currentPluralValueCount++;
 
                // SQL Singular Statement
                if (expressionType.equals("Singular"))
-                  dumpData = dumpData + "(";
+                  dumpWriter.append("(");
                // SQL Plural Statement
                else
-                  dumpData = dumpData + ("\n(");
+                  dumpWriter.append(("\n("));
 
                for (int i = 1; i <= columnsCount; i++)
                {
@@ -737,25 +788,25 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                      if (theBytes != null)
                      {
                         if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
-                           dumpData = dumpData + "E'";
+                           dumpWriter.append("E'");
                         else if (dataSourceType.equals(ConnectionManager.HSQL))
-                           dumpData = dumpData + "'";
+                           dumpWriter.append("'");
                         else if (dataSourceType.equals(ConnectionManager.HSQL2))
-                           dumpData = dumpData + "x'";
+                           dumpWriter.append("x'");
                         else if (dataSourceType.equals(ConnectionManager.ORACLE))
-                           dumpData = dumpData + "HEXTORAW('";
+                           dumpWriter.append("HEXTORAW('");
                         else if (dataSourceType.equals(ConnectionManager.SQLITE))
-                           dumpData = dumpData + "x'";
+                           dumpWriter.append("x'");
                         else if (dataSourceType.equals(ConnectionManager.DERBY))
-                           dumpData = dumpData + "CAST(X'";
+                           dumpWriter.append("CAST(X'");
                         else if (dataSourceType.equals(ConnectionManager.H2))
-                           dumpData = dumpData + "x'";
+                           dumpWriter.append("x'");
                         else
                         {
                            if (theBytes.length != 0)
-                              dumpData = dumpData + "0x";
+                              dumpWriter.append("0x");
                            else
-                              dumpData = dumpData + "''";
+                              dumpWriter.append("''");
                         }
 
                         // Go convert to hexadecimal/octal values
@@ -763,7 +814,7 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                         dumpBinaryData(theBytes, false);
                      }
                      else
-                        dumpData = dumpData + "NULL, ";
+                        dumpWriter.append("NULL, ");
                   }
                   // Regular Fields
                   else
@@ -778,19 +829,19 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                            tableName = (schemaTableName.substring(schemaTableName.indexOf(".") + 1)).replaceAll(
                                                                   identifierQuoteString, "");
 
-                           dumpData = dumpData + "nextval('" + schemaName + tableName + "_"
-                                      + autoIncrementFieldIndexes.get(Integer.valueOf(i)) + "_seq\"'), ";
+                           dumpWriter.append("nextval('" + schemaName + tableName + "_"
+                                             + autoIncrementFieldIndexes.get(Integer.valueOf(i)) + "_seq\"'), ");
                         }
                         else if (dataSourceType.equals(ConnectionManager.ORACLE))
                         {
-                           dumpData = dumpData + identifierQuoteString
-                                      + autoIncrementFieldIndexes.get(Integer.valueOf(i)) 
-                                      + identifierQuoteString + ".NEXTVAL, ";
+                           dumpWriter.append(identifierQuoteString
+                                             + autoIncrementFieldIndexes.get(Integer.valueOf(i))
+                                             + identifierQuoteString + ".NEXTVAL, ");
                         }
                         else if (dataSourceType.equals(ConnectionManager.DERBY))
-                           dumpData = dumpData + "DEFAULT, ";
+                           dumpWriter.append("DEFAULT, ");
                         else
-                           dumpData = dumpData + "NULL, ";
+                           dumpWriter.append("NULL, ");
                      }
                      else
                      {
@@ -799,25 +850,25 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                             && sqlDataExportOptions.getTimeStamp())
                         {
                            if (arrayIndexes.contains(Integer.valueOf(i)))
-                              dumpData = dumpData + "'{NOW()}', ";
+                              dumpWriter.append("'{NOW()}', ");
                            else
                            {
                               if (dataSourceType.equals(ConnectionManager.ORACLE))
-                                 dumpData = dumpData + "SYSTIMESTAMP, ";
+                                 dumpWriter.append("SYSTIMESTAMP, ");
                               else if (dataSourceType.equals(ConnectionManager.DERBY))
-                                 dumpData = dumpData + "CURRENT_TIMESTAMP, ";
+                                 dumpWriter.append("CURRENT_TIMESTAMP, ");
                               else if (dataSourceType.equals(ConnectionManager.SQLITE))
                               {
                                  if (sqliteStringTimeStampIndexes.contains(Integer.valueOf(i)))
-                                    dumpData = dumpData + "STRFTIME("
-                                               + "'%Y-%m-%d %H:%M:%f', 'now', 'localtime'), ";
+                                    dumpWriter.append("STRFTIME("
+                                                      + "'%Y-%m-%d %H:%M:%f', 'now', 'localtime'), ");
                                  else
-                                    dumpData = dumpData + "CAST("
-                                          + "(SELECT (julianday('now') - julianday('1970-01-01'))"
-                                          + "*24*60*60*1000) AS INTEGER)" + ", ";
+                                    dumpWriter.append("CAST("
+                                                      + "(SELECT (julianday('now') - julianday('1970-01-01'))"
+                                                      + "*24*60*60*1000) AS INTEGER)" + ", ");
                               }
                               else
-                                 dumpData = dumpData + "NOW(), ";
+                                 dumpWriter.append("NOW(), ");
                            }
                         }
 
@@ -828,10 +879,10 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                            Object currentData = rs.getTimestamp(i);
                            
                            if (currentData != null)
-                              dumpData = dumpData + "TO_TIMESTAMP('" + currentData
-                                         + "', 'YYYY-MM-DD HH24:MI:SS:FF'), ";
+                              dumpWriter.append("TO_TIMESTAMP('" + currentData
+                                                + "', 'YYYY-MM-DD HH24:MI:SS:FF'), ");
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
 
                         // Check for a Date
@@ -842,9 +893,9 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                               java.sql.Date dateValue = rs.getDate(i);
                               
                               if (dateValue != null)
-                                 dumpData = dumpData + "TO_DATE('" + dateValue + "', 'YYYY-MM-DD'), ";
+                                 dumpWriter.append("TO_DATE('" + dateValue + "', 'YYYY-MM-DD'), ");
                               else
-                                 dumpData = dumpData + "NULL, ";   
+                                 dumpWriter.append("NULL, ");
                            }
                            else
                            {
@@ -853,12 +904,12 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                               if (dateString != null)
                               {
                                  if (notQuotedIndexes.contains(Integer.valueOf(i)))
-                                    dumpData = dumpData + addEscapes(dateString) + ", ";
+                                    dumpWriter.append(addEscapes(dateString) + ", ");
                                  else
-                                    dumpData = dumpData + "'" + addEscapes(dateString) + "', ";
+                                    dumpWriter.append("'" + addEscapes(dateString) + "', ");
                               }
                               else
-                                 dumpData = dumpData + "NULL, ";    
+                                 dumpWriter.append("NULL, ");
                            }
                         }
 
@@ -875,12 +926,12 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                            if (yearValue != null)
                            {
                               if (yearValue.length() > 4)
-                                 dumpData = dumpData + "'" + addEscapes(yearValue.substring(0, 4)) + "', ";
+                                 dumpWriter.append("'" + addEscapes(yearValue.substring(0, 4)) + "', ");
                               else
-                                 dumpData = dumpData + "'" + addEscapes(yearValue) + "', ";
+                                 dumpWriter.append("'" + addEscapes(yearValue) + "', ");
                            }
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
 
                         // Check for Bit fields.
@@ -894,39 +945,38 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                                   || dataSourceType.equals(ConnectionManager.HSQL2))
                               {
                                  if (arrayIndexes.contains(Integer.valueOf(i)))
-                                    dumpData = dumpData + "'" + bitValue + "', ";
+                                    dumpWriter.append("'" + bitValue + "', ");
                                  else
-                                    dumpData = dumpData + "B'" + bitValue + "', ";
+                                    dumpWriter.append("B'" + bitValue + "', ");
                               }
                               else if (dataSourceType.equals(ConnectionManager.MYSQL)
                                        || dataSourceType.equals(ConnectionManager.MARIADB))
                               {
                                  String byteString = Byte.toString(rs.getByte(i));
-                                 dumpData = dumpData
-                                            + "B'" + Integer.toBinaryString(Integer.parseInt(byteString))
-                                            + "', ";
+                                 dumpWriter.append("B'" + Integer.toBinaryString(Integer.parseInt(byteString))
+                                                   + "', ");
                               }
                               else if (dataSourceType.equals(ConnectionManager.DERBY))
                               {
-                                 dumpData = dumpData + "X'";
+                                 dumpWriter.append("X'");
                                  dumpBinaryData(rs.getBytes(i), true);
                               }
                               else
                               {
                                  try
                                  {
-                                    dumpData = dumpData + "B'"
-                                               + Integer.toBinaryString(Integer.parseInt(bitValue))
-                                               + "', ";
+                                    dumpWriter.append("B'"
+                                                      + Integer.toBinaryString(Integer.parseInt(bitValue))
+                                                      + "', ");
                                  }
                                  catch (NumberFormatException e)
                                  {
-                                    dumpData = dumpData + "B'0', ";
+                                    dumpWriter.append("B'0', ");
                                  }
                               }
                            }
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
 
                         // All other fields
@@ -942,75 +992,30 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                               // Check for Oracle TimeStampLTZ
                               if (oracleTimeStamp_LTZIndexes.contains(Integer.valueOf(i)) &&
                                   !sqlDataExportOptions.getTimeStamp())
-                                 dumpData = dumpData + "TO_TIMESTAMP_TZ('" + contentString
-                                            + "', 'YYYY-MM-DD HH24:MI:SS TZH:TZM'), ";
+                                 dumpWriter.append("TO_TIMESTAMP_TZ('" + contentString
+                                                   + "', 'YYYY-MM-DD HH24:MI:SS TZH:TZM'), ");
                               
                               // Don't Quote Numeric Values.
                               else if (notQuotedIndexes.contains(Integer.valueOf(i))) 
-                                 dumpData = dumpData + contentString + ", ";
+                                 dumpWriter.append(contentString + ", ");
                               
                               else 
-                                 dumpData = dumpData + "'" + addEscapes(contentString) + "', ";
+                                 dumpWriter.append("'" + addEscapes(contentString) + "', ");
                            }
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
                      }
                   }
                }
-               dumpData = ((String) dumpData).substring(0, ((String) dumpData).length() - 2);
-
-               // SQL Singular Statement
-               if (expressionType.equals("Singular"))
-                  dumpData = dumpData + ");\n";
-               // SQL Plural Statement
-               else
-               {
-                  if (currentPluralValueCount >= pluralValueLimit)
-                     dumpData = dumpData + ");\n";
-                  else
-                     dumpData = dumpData + "),";
-               }
-
-               if (currentRow >= rowsCount)
-               {
-                  // SQL Singular Statement
-                  if (expressionType.equals("Singular"))
-                     dumpData = ((String) dumpData).substring(0, ((String) dumpData).length() - 2);
-                  // SQL Plural Statement
-                  else
-                  {
-                     if (currentPluralValueCount >= pluralValueLimit)
-                        dumpData = ((String) dumpData).substring(0, ((String) dumpData).length() - 2);
-                     else
-                        dumpData = ((String) dumpData).substring(0, ((String) dumpData).length() - 1);
-                  }
-                  dumpChunkOfData(dumpData);
-                  dumpData = "";
-                  currentRow = 0;
-               }
-               else
-               {
-                  dumpChunkOfData(dumpData);
-                  // SQL Singular Statement Resetup
-                  if (expressionType.equals("Singular"))
-                     dumpData = sqlFieldValuesString;
-                  // SQL Plural Statement
-                  else
-                  {
-                     if (currentPluralValueCount >= pluralValueLimit)
-                     {
-                        dumpData = sqlFieldValuesString;
-                        currentPluralValueCount = 0;
-                     }
-                     else
-                        dumpData = "";
-                  }
-               }
+               dumpWriter.trim(2);
+               dumpWriter.append(")");
+               pendingRow = true;
             }
             currentTableIncrement += limitIncrement;
          }
-         while (!limits && currentTableIncrement < rowsCount && !dumpProgressBar.isCanceled());
+         while (!limits && pageRows == limitIncrement && !dataSourceType.equals(ConnectionManager.MSACCESS)
+                && !dumpProgressBar.isCanceled());
 
          // Closing out
          rs.close();
@@ -1028,6 +1033,217 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
       }
    }
 
+   //==============================================================
+   // Class method to determine if the table's data may be dumped in
+   // the native bulk load format of the database.
+   //==============================================================
+
+   private boolean isBulkSupported()
+   {
+      // Method Instances
+      Iterator<String> columnNamesIterator;
+      String field;
+      boolean hasBinary;
+
+      hasBinary = false;
+      columnNamesIterator = columnNameFields.iterator();
+
+      while (columnNamesIterator.hasNext())
+      {
+         field = columnNamesIterator.next();
+
+         if (Utils.isBlob(tableColumnClassHashMap.get(field), tableColumnTypeNameHashMap.get(field)))
+            hasBinary = true;
+      }
+      return BulkLoadWriter.isSupported(dataSourceType, hasBinary);
+   }
+
+   //==============================================================
+   // Class method to create the bulk load block & data.
+   //==============================================================
+
+   private void bulkStatementData(Connection dbConnection) throws SQLException, IOException
+   {
+      // Class Method Instances
+      BulkLoadWriter bulkLoadWriter;
+      StringBuffer columnNamesString;
+      ArrayList<String> bulkColumnNames;
+      String[] columnTypeNames;
+      boolean[] binaryColumns;
+      int[] columnSizes;
+      Iterator<String> columnNamesIterator;
+
+      String field;
+      String columnClass;
+      String columnTypeName;
+      String firstField;
+      int currentTableIncrement;
+      int currentRow;
+      int pageRows;
+      int columnsCount;
+
+      String sqlStatementString;
+      Statement sqlStatement;
+      ResultSet rs;
+
+      // Obtain the table fields & those holding binary
+      // data, written hex encoded.
+
+      bulkDump = true;
+      columnsCount = columnNameFields.size();
+      columnNamesString = new StringBuffer();
+      bulkColumnNames = new ArrayList <String>();
+      columnTypeNames = new String[columnsCount];
+      binaryColumns = new boolean[columnsCount];
+      columnNamesIterator = columnNameFields.iterator();
+
+      while (columnNamesIterator.hasNext())
+      {
+         field = columnNamesIterator.next();
+         columnClass = tableColumnClassHashMap.get(field);
+         columnTypeName = tableColumnTypeNameHashMap.get(field);
+
+         columnTypeNames[bulkColumnNames.size()] = columnTypeName;
+         binaryColumns[bulkColumnNames.size()] = (Utils.isBlob(columnClass, columnTypeName)
+                                                  || ((dataSourceType.equals(ConnectionManager.MYSQL)
+                                                       || dataSourceType.equals(ConnectionManager.MARIADB))
+                                                      && columnTypeName.indexOf("BIT") != -1));
+
+         columnNamesString.append(dbIdentifierQuoteString + tableColumnNames.get(field)
+                                  + dbIdentifierQuoteString + ", ");
+         bulkColumnNames.add(identifierQuoteString + tableColumnNames.get(field) + identifierQuoteString);
+      }
+      columnNamesString.delete((columnNamesString.length() - 2), columnNamesString.length());
+      firstField = columnNamesString.substring(0, columnNamesString.indexOf(","));
+
+      // SQL*Loader fields sized by the columns.
+      if (dataSourceType.equals(ConnectionManager.ORACLE))
+         columnSizes = getColumnDisplaySizes(dbConnection, columnNamesString.toString(), columnsCount);
+      else
+         columnSizes = null;
+
+      bulkLoadWriter = new BulkLoadWriter(dataSourceType, fileName, exportedTable);
+      bulkLoadWriter.writeHeader(dumpWriter, schemaTableName, bulkColumnNames, columnTypeNames,
+                                 binaryColumns, columnSizes);
+      dumpChunkOfData();
+
+      currentTableIncrement = 0;
+      currentRow = 0;
+      pageRows = 0;
+
+      // Start a progress bar for tracking/canceling with the
+      // row count of the table, not waiting on an exact count.
+
+      if (limits)
+         dumpProgressBar.setTaskLength(DBTablesPanel.getSelectedTableTabPanel().getValidDataRowCount());
+      else
+         startRowsCount(dbConnection, dbSchemaTableName);
+
+      dumpProgressBar.pack();
+      dumpProgressBar.center();
+      dumpProgressBar.setVisible(true);
+
+      sqlStatement = null;
+
+      try
+      {
+         sqlStatement = dbConnection.createStatement();
+
+         do
+         {
+            // Finishing creating the Select statement to retrieve data.
+            if (limits)
+               sqlStatementString = DBTablesPanel.getSelectedTableTabPanel().getTableSQLStatement().toString();
+            else if (dataSourceType.equals(ConnectionManager.ORACLE))
+               sqlStatementString = "SELECT " + columnNamesString.toString() + " FROM "
+                                    + "(SELECT ROW_NUMBER() OVER (ORDER BY " + firstField + " ASC) "
+                                    + "AS dmprownumber, " + columnNamesString.toString() + " "
+                                    + "FROM " + dbSchemaTableName + ") " + "WHERE dmprownumber BETWEEN "
+                                    + (currentTableIncrement + 1) + " AND " + (currentTableIncrement
+                                    + limitIncrement);
+            else
+               sqlStatementString = "SELECT " + columnNamesString.toString() + " FROM "
+                                    + dbSchemaTableName + " LIMIT " + limitIncrement + " OFFSET "
+                                    + currentTableIncrement;
+            // System.out.println(sqlStatementString);
+
+            rs = sqlStatement.executeQuery(sqlStatementString);
+
+            pageRows = 0;
+            while (rs.next() && !dumpProgressBar.isCanceled())
+            {
+               dumpProgressBar.setCurrentValue(currentRow++);
+               throughputMeter.addRows(1);
+               pageRows++;
+
+               bulkLoadWriter.writeRow(rs);
+            }
+            rs.close();
+            currentTableIncrement += limitIncrement;
+         }
+         while (!limits && pageRows == limitIncrement && !dumpProgressBar.isCanceled());
+
+         dumpProgressBar.dispose();
+      }
+      catch (SQLException e)
+      {
+         dumpProgressBar.setCanceled(true);
+         ConnectionManager.displaySQLErrors(e, "SQLDataDumpThread bulkStatementData()");
+      }
+      finally
+      {
+         try
+         {
+            bulkLoadWriter.close(dumpWriter);
+         }
+         finally
+         {
+            if (dumpProgressBar.isCanceled())
+               bulkLoadWriter.delete();
+
+            if (sqlStatement != null)
+               sqlStatement.close();
+         }
+      }
+   }
+
+   //==============================================================
+   // Class method to obtain the display size, the characters needed
+   // to hold any value, of the given columns of the table.
+   //==============================================================
+
+   private int[] getColumnDisplaySizes(Connection dbConnection, String columnNamesString,
+                                       int columnsCount) throws SQLException
+   {
+      // Method Instances
+      int[] columnSizes;
+      Statement sqlStatement;
+      ResultSet rs;
+      ResultSetMetaData tableMetaData;
+
+      columnSizes = new int[columnsCount];
+      sqlStatement = null;
+
+      try
+      {
+         sqlStatement = dbConnection.createStatement();
+         rs = sqlStatement.executeQuery("SELECT " + columnNamesString + " FROM " + dbSchemaTableName
+                                        + " WHERE 1 = 0");
+         tableMetaData = rs.getMetaData();
+
+         for (int i = 0; i < columnsCount; i++)
+            columnSizes[i] = tableMetaData.getColumnDisplaySize(i + 1);
+
+         rs.close();
+      }
+      finally
+      {
+         if (sqlStatement != null)
+            sqlStatement.close();
+      }
+      return columnSizes;
+   }
+
    //==============================================================
    // Class method to create the explicit or update statement and
    // data.
@@ -1047,9 +1263,10 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
       
       ArrayList<String> keys;
       StringBuffer keyStringStatement;
-      int rowsCount;
       int currentTableIncrement;
       int currentRow;
+      int pageRows;
+      boolean pendingRow;
 
       String sqlStatementString;
       Statement sqlStatement;
@@ -1065,15 +1282,13 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
       // Setting up the initial dump data string with insert/replace/update,
       // type, and table.
       
-      dumpData = dumpData
-                 + sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(Locale.ENGLISH);
-      dumpData = dumpData
-                 + sqlDataExportOptions.getType().toUpperCase(Locale.ENGLISH);
+      dumpWriter.append(sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(Locale.ENGLISH));
+      dumpWriter.append(sqlDataExportOptions.getType().toUpperCase(Locale.ENGLISH));
 
       // Explicit
       if (sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(Locale.ENGLISH).equals("INSERT")
           || sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(Locale.ENGLISH).equals("REPLACE"))
-         dumpData = dumpData + "INTO ";
+         dumpWriter.append("INTO ");
       // Update
       else
       {
@@ -1081,7 +1296,7 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
          keys = DBTablesPanel.getSelectedTableTabPanel().getPrimaryKeys();
       }
 
-      dumpData = dumpData + schemaTableName + " SET ";
+      dumpWriter.append(schemaTableName + " SET ");
 
       // Obtain the table fields and create select statement
       // to obtain the data.
@@ -1115,33 +1330,21 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
       firstField = columnNamesString.substring(0, columnNamesString.indexOf(","));
       
       // Do an initial dump of data created so far.
-      dumpChunkOfData(dumpData);
-      dumpData = "";
+      dumpChunkOfData();
       
-      // Collect the row count of the table and setting
-      // up a progress bar for tracking/canceling.
-      
-      rowsCount = 0;
+      currentTableIncrement = 0;
+      currentRow = 0;
+      pageRows = 0;
+      pendingRow = false;
+
+      // Start a progress bar for tracking/canceling with the
+      // row count of the table, not waiting on an exact count.
       
       if (limits)
-         rowsCount = DBTablesPanel.getSelectedTableTabPanel().getValidDataRowCount();
+         dumpProgressBar.setTaskLength(DBTablesPanel.getSelectedTableTabPanel().getValidDataRowCount());
       else
-      {
-         try
-         {
-            rowsCount = getRowsCount(dbConnection, dbSchemaTableName);
-         }
-         catch (SQLException sqle)
-         {
-            ConnectionManager.displaySQLErrors(sqle, "SQLDataDumpThread explicitStatementData()");
-         }
-      }
+         startRowsCount(dbConnection, dbSchemaTableName);
       
-      currentTableIncrement = 0;
-      currentRow = 0;
-
-      // Start a progress bar for tracking/canceling.
-      dumpProgressBar.setTaskLength(rowsCount);
       dumpProgressBar.pack();
       dumpProgressBar.center();
       dumpProgressBar.setVisible(true);
@@ -1199,9 +1402,34 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
             rs = sqlStatement.executeQuery(sqlStatementString);
             
             // Begin the creation of statements.
+            pageRows = 0;
             while (rs.next() && !dumpProgressBar.isCanceled())
             {
                dumpProgressBar.setCurrentValue(currentRow++);
+               throughputMeter.addRows(1);
+               pageRows++;
+
+               // Close the previous row's statement & setup the
+               // next as needed.
+               if (pendingRow)
+               {
+                  dumpWriter.append(";\n");
+                  dumpChunkOfData();
+
+                  keyStringStatement.delete(0, keyStringStatement.length());
+                  keyStringStatement.append(" WHERE ");
+
+                  dumpWriter.append(sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(Locale.ENGLISH));
+                  dumpWriter.append(sqlDataExportOptions.getType().toUpperCase(Locale.ENGLISH));
+
+                  if (sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(
+                         Locale.ENGLISH).equals("INSERT")
+                      || sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(
+                         Locale.ENGLISH).equals("REPLACE"))
+                     dumpWriter.append("INTO ");
+
+                  dumpWriter.append(schemaTableName + " SET ");
+               }
                columnNamesIterator = columnNameFields.iterator();
 
                // Cycle through each field and set value.
@@ -1243,8 +1471,8 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                   }
                   else
                   {
-                     dumpData = dumpData + identifierQuoteString + (tableColumnNames.get(field))
-                                + identifierQuoteString + "=";
+                     dumpWriter.append(identifierQuoteString + (tableColumnNames.get(field))
+                                       + identifierQuoteString + "=");
 
                      // Blob/Bytea/Binary data adding
                      if (Utils.isBlob(columnClass, columnTypeName)
@@ -1259,25 +1487,25 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                            // to convert these to MySQL compatible dump.
 
                            if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
-                              dumpData = dumpData + "E'";
+                              dumpWriter.append("E'");
                            else if (dataSourceType.equals(ConnectionManager.HSQL))
-                              dumpData = dumpData + "'";
+                              dumpWriter.append("'");
                            else if (dataSourceType.equals(ConnectionManager.HSQL2))
-                              dumpData = dumpData + "x'";
+                              dumpWriter.append("x'");
                            else if (dataSourceType.equals(ConnectionManager.ORACLE) && updateDump)
-                              dumpData = dumpData + "HEXTORAW('";
+                              dumpWriter.append("HEXTORAW('");
                            else if (dataSourceType.equals(ConnectionManager.SQLITE) && updateDump)
-                              dumpData = dumpData + "x'";
+                              dumpWriter.append("x'");
                            else if (dataSourceType.equals(ConnectionManager.DERBY) && updateDump)
-                              dumpData = dumpData + "CAST(X'";
+                              dumpWriter.append("CAST(X'");
                            else if (dataSourceType.equals(ConnectionManager.H2))
-                              dumpData = dumpData + "x'";
+                              dumpWriter.append("x'");
                            else
                            {
                               if (theBytes.length != 0)
-                                 dumpData = dumpData + "0x";
+                                 dumpWriter.append("0x");
                               else
-                                 dumpData = dumpData + "''";
+                                 dumpWriter.append("''");
                            }
 
                            // Go convert to hexadecimal/octal values
@@ -1285,7 +1513,7 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                            dumpBinaryData(theBytes, false);
                         }
                         else
-                           dumpData = dumpData + "NULL, ";
+                           dumpWriter.append("NULL, ");
                      }
                      // Normal field
                      else
@@ -1301,45 +1529,44 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                               tableName = (schemaTableName.substring(schemaTableName.indexOf(".") + 1)).replaceAll(
                                                                      identifierQuoteString, "");
 
-                              dumpData = dumpData + "nextval('" + schemaName + tableName + "_" + field
-                                         + "_seq\"'), ";
+                              dumpWriter.append("nextval('" + schemaName + tableName + "_" + field
+                                                + "_seq\"'), ");
                            }
                            else if (dataSourceType.equals(ConnectionManager.ORACLE))
                            {
-                              dumpData = dumpData
-                                         + identifierQuoteString
-                                         + DBTablesPanel.getSelectedTableTabPanel().getAutoIncrementHashMap().get(field)
-                                         + identifierQuoteString + ".NEXTVAL, ";
+                              dumpWriter.append(identifierQuoteString
+                                                + DBTablesPanel.getSelectedTableTabPanel().getAutoIncrementHashMap().get(field)
+                                                + identifierQuoteString + ".NEXTVAL, ");
                            }
                            else if (dataSourceType.equals(ConnectionManager.DERBY))
-                              dumpData = "DEFAULT, ";
+                              dumpWriter.append("DEFAULT, ");
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
 
                         // Setting TimeStamp Fields
                         else if (columnTypeName.indexOf("TIMESTAMP") != -1 && sqlDataExportOptions.getTimeStamp())
                         {
                            if (columnTypeName.indexOf("_") != -1)
-                              dumpData = dumpData + "'{NOW()}'. ";
+                              dumpWriter.append("'{NOW()}'. ");
                            else
                            {
                               if (dataSourceType.equals(ConnectionManager.ORACLE))
-                                 dumpData = dumpData + "SYSTIMESTAMP, ";
+                                 dumpWriter.append("SYSTIMESTAMP, ");
                               else if (dataSourceType.equals(ConnectionManager.DERBY))
-                                 dumpData = dumpData + "CURRENT_TIMESTAMP, ";
+                                 dumpWriter.append("CURRENT_TIMESTAMP, ");
                               else if (dataSourceType.equals(ConnectionManager.SQLITE))
                               {
                                  if (columnSQLType == Types.VARCHAR)
-                                    dumpData = dumpData + "STRFTIME("
-                                               + "'%Y-%m-%d %H:%M:%f', 'now', 'localtime'), ";
+                                    dumpWriter.append("STRFTIME("
+                                                      + "'%Y-%m-%d %H:%M:%f', 'now', 'localtime'), ");
                                  else
-                                    dumpData = dumpData + "CAST("
-                                          + "(SELECT (julianday('now') - julianday('1970-01-01'))"
-                                          + "*24*60*60*1000) AS INTEGER)" + ", ";
+                                    dumpWriter.append("CAST("
+                                                      + "(SELECT (julianday('now') - julianday('1970-01-01'))"
+                                                      + "*24*60*60*1000) AS INTEGER)" + ", ");
                               }
                               else
-                                 dumpData = dumpData + "NOW(), ";
+                                 dumpWriter.append("NOW(), ");
                            }
                         }
 
@@ -1353,10 +1580,10 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                            Object currentData = rs.getTimestamp(tableColumnNames.get(field));
                            
                            if (currentData != null)
-                              dumpData = dumpData + "TO_TIMESTAMP('" + currentData
-                                         + "', 'YYYY-MM-DD HH24:MI:SS:FF'), ";
+                              dumpWriter.append("TO_TIMESTAMP('" + currentData
+                                                + "', 'YYYY-MM-DD HH24:MI:SS:FF'), ");
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
 
                         // Setting Date Fields
@@ -1367,9 +1594,9 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                               java.sql.Date dateValue = rs.getDate(tableColumnNames.get(field));
                               
                               if (dateValue != null)
-                                 dumpData = dumpData + "TO_DATE('" + dateValue + "', 'YYYY-MM-DD'), ";
+                                 dumpWriter.append("TO_DATE('" + dateValue + "', 'YYYY-MM-DD'), ");
                               else
-                                 dumpData = dumpData + "NULL, ";   
+                                 dumpWriter.append("NULL, ");
                            }
                            else
                            {
@@ -1378,12 +1605,12 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                               if (dateString != null)
                               {
                                  if (Utils.isNotQuoted(columnClass, columnSQLType, columnTypeName))
-                                    dumpData = dumpData + addEscapes(dateString) + ", ";
+                                    dumpWriter.append(addEscapes(dateString) + ", ");
                                  else
-                                    dumpData = dumpData + "'" + addEscapes(dateString) + "', ";
+                                    dumpWriter.append("'" + addEscapes(dateString) + "', ");
                               }
                               else
-                                 dumpData = dumpData + "NULL, ";    
+                                 dumpWriter.append("NULL, ");
                            }
                         }
 
@@ -1398,12 +1625,12 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                            if (yearValue != null)
                            {
                               if (yearValue.length() > 4)
-                                 dumpData = dumpData + "'" + addEscapes(yearValue.substring(0, 4)) + "', ";
+                                 dumpWriter.append("'" + addEscapes(yearValue.substring(0, 4)) + "', ");
                               else
-                                 dumpData = dumpData + "'" + addEscapes(yearValue) + "', ";
+                                 dumpWriter.append("'" + addEscapes(yearValue) + "', ");
                            }
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
 
                         // Setting Bit Fields
@@ -1417,43 +1644,42 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                                   || dataSourceType.equals(ConnectionManager.HSQL2))
                               {
                                  if (columnTypeName.indexOf("_") != -1)
-                                    dumpData = dumpData + "'" + bitValue + "', ";
+                                    dumpWriter.append("'" + bitValue + "', ");
                                  else
-                                    dumpData = dumpData + "B'" + bitValue + "', ";
+                                    dumpWriter.append("B'" + bitValue + "', ");
                               }
                               else if (dataSourceType.equals(ConnectionManager.MYSQL)
                                     || dataSourceType.equals(ConnectionManager.MARIADB))
                               {
                                  String byteString = Byte.toString(rs.getByte(tableColumnNames.get(field)));
-                                 dumpData = dumpData
-                                            + "B'" + Integer.toBinaryString(Integer.parseInt(byteString))
-                                            + "', ";
+                                 dumpWriter.append("B'" + Integer.toBinaryString(Integer.parseInt(byteString))
+                                                   + "', ");
                               }
                               else if (dataSourceType.equals(ConnectionManager.DERBY))
                               {
-                                 dumpData = dumpData + "X'";
+                                 dumpWriter.append("X'");
                                  dumpBinaryData(rs.getBytes(tableColumnNames.get(field)), true);
                               }
                               else if (dataSourceType.equals(ConnectionManager.MSACCESS)
                                        || dataSourceType.equals(ConnectionManager.MSSQL))
                               {
-                                 dumpData = dumpData + "'" + bitValue + "', ";
+                                 dumpWriter.append("'" + bitValue + "', ");
                               }
                               else
                               {
                                  try
                                  {
-                                    dumpData = dumpData + "B'"
-                                               + Integer.toBinaryString(Integer.parseInt(bitValue)) + "', ";
+                                    dumpWriter.append("B'"
+                                                      + Integer.toBinaryString(Integer.parseInt(bitValue)) + "', ");
                                  }
                                  catch (NumberFormatException e)
                                  {
-                                    dumpData = dumpData + "B'0', ";
+                                    dumpWriter.append("B'0', ");
                                  }
                               }
                            }
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
 
                         // All other fields
@@ -1471,71 +1697,38 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
                            {
                               if (columnTypeName.equals("TIMESTAMPLTZ") &&
                                   dataSourceType.equals(ConnectionManager.ORACLE))
-                                 dumpData = dumpData + "TO_TIMESTAMP_TZ('" + contentString
-                                            + "', 'YYYY-MM-DD HH24:MI:SS TZH:TZM'), ";
+                                 dumpWriter.append("TO_TIMESTAMP_TZ('" + contentString
+                                                   + "', 'YYYY-MM-DD HH24:MI:SS TZH:TZM'), ");
                               
                               // Don't quote numbers.
                               else if (Utils.isNotQuoted(columnClass, columnSQLType, columnTypeName))
                               {
-                                 dumpData = dumpData + contentString + ", ";
+                                 dumpWriter.append(contentString + ", ");
                               }
                               
                               else
-                                 dumpData = dumpData + "'" + addEscapes(contentString + "") + "', ";
+                                 dumpWriter.append("'" + addEscapes(contentString + "") + "', ");
                            }
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
                      }
                   }
                }
 
-               // Creating end of extended SQL statement and
-               // setting up for the next as needed.
-
-               if (currentRow < rowsCount)
-               {
-                  dumpData = ((String) dumpData).substring(0, ((String) dumpData).length() - 2);
-
-                  if (updateDump && !keys.isEmpty())
-                     dumpData = (String) dumpData
-                                + keyStringStatement.delete((keyStringStatement.length() - 5),
-                                                             keyStringStatement.length())
-                                + ";\n";
-                  else
-                     dumpData = dumpData + (";\n");
-
-                  dumpChunkOfData(dumpData);
-                  dumpData = "";
+               // Creating end of extended SQL statement.
 
-                  keyStringStatement.delete(0, keyStringStatement.length());
-                  keyStringStatement.append(" WHERE ");
-
-                  dumpData = dumpData
-                             + sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(Locale.ENGLISH);
-                  dumpData = dumpData + sqlDataExportOptions.getType().toUpperCase(Locale.ENGLISH);
-
-                  if (sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(
-                         Locale.ENGLISH).equals("INSERT")
-                      || sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(
-                         Locale.ENGLISH).equals("REPLACE"))
-                     dumpData = dumpData + "INTO ";
+               dumpWriter.trim(2);
 
-                  dumpData = dumpData + schemaTableName + " SET ";
-               }
-               else
-               {
-                  if (updateDump)
-                     dumpData = ((String) dumpData).substring(0, ((String) dumpData).length() - 2)
-                                + keyStringStatement.delete((keyStringStatement.length() - 5),
-                                                             keyStringStatement.length());
-                  else
-                     dumpData = ((String) dumpData).substring(0, ((String) dumpData).length() - 2);
-               }
+               if (updateDump && !keys.isEmpty())
+                  dumpWriter.append(keyStringStatement.delete((keyStringStatement.length() - 5),
+                                                              keyStringStatement.length()));
+               pendingRow = true;
             }
-            currentTableIncrement += limitIncrement;  
+            currentTableIncrement += limitIncrement;
          }
-         while (!limits && currentTableIncrement < rowsCount && !dumpProgressBar.isCanceled());
+         while (!limits && pageRows == limitIncrement && !dataSourceType.equals(ConnectionManager.MSACCESS)
+                && !dumpProgressBar.isCanceled());
          
          // Closing out
          rs.close();
@@ -1555,129 +1748,78 @@ public class SQLDataDumpThread extends SQLDump implements Runnable
    }
 
    //==============================================================
-   // Class method to get the table data row count
+   // Class method to set the progress bar task length to the table
+   // data row count. The estimate, if any, is set & the exact count
+   // taken in the background to update it once available.
    //==============================================================
 
-   private int getRowsCount(Connection dbConnection, String tableName) throws SQLException
+   private void startRowsCount(Connection dbConnection, String tableName)
    {
       // Method Instances
-      String sqlStatementString;
-      Statement sqlStatement;
-      ResultSet rs;
+      int rowsCount;
       
-      // Setup
-      int rowCount = 0;
-      sqlStatement = null;
-      rs = null;
+      rowsCount = RowCountService.getEstimatedRowCount(dbConnection, dataSourceType, tableName);
       
-      try
-      {
-         sqlStatement = dbConnection.createStatement();
-         sqlStatementString = "SELECT COUNT(*) FROM " + tableName;
-         // System.out.println(sqlStatementString);
-
-         rs = sqlStatement.executeQuery(sqlStatementString);
-         rs.next();
-         rowCount = rs.getInt(1);
-
-         return rowCount;
-      }
-      catch (SQLException e)
-      {
-         ConnectionManager.displaySQLErrors(e, "SQLDataDumpThread getRowsCount()");
-         return rowCount;  
-      }
-      finally
+      if (rowsCount >= 0)
+         dumpProgressBar.setTaskLength(rowsCount);
+      
+      rowCountFuture = RowCountService.countRows(tableName, new RowCountListener()
       {
-         try
-         {
-            if (rs != null)
-               rs.close();
-         }
-         catch (SQLException sqle)
+         public void rowCountAvailable(int rowCount)
          {
-            ConnectionManager.displaySQLErrors(sqle, "SQLDataDumpThread getRowsCount()");
+            if (!dumpProgressBar.isCanceled())
+               dumpProgressBar.setTaskLength(rowCount);
          }
-         finally
-         {
-            if (sqlStatement != null)
-               sqlStatement.close();
-         }
-      }
+      });
    }
 
    //==============================================================
-   // Class method to get the table data row count
+   // Class method to dump binary data as octal or hexadecimal
+   // directly into the dump writer.
    //==============================================================
 
    private void dumpBinaryData(byte[] theBytes, boolean derbyBit)
    {
-      // Class Method Instances
-      int b;
-      String hexadecimalString, octalString;
-      BufferedInputStream in;
-
-      // Otain byes in a stream and convert to
-      // hex for dumping.
+      // Obtain bytes and convert to octal/hex directly
+      // into the dump writer.
       if (theBytes != null)
       {
-         in = new BufferedInputStream(new ByteArrayInputStream(theBytes));
-
          try
          {
-            while ((b = in.read()) != -1)
-            {
-               // Dump as octal data.
-               if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
-               {
-                  octalString = Integer.toString(b, 8);
-                  if (octalString.length() == 1)
-                     octalString = "00" + octalString;
-                  if (octalString.length() > 1 && octalString.length() < 3)
-                     octalString = "0" + octalString;
-                  dumpData = dumpData + "\\\\" + octalString;
-                  dumpChunkOfData(dumpData);
-                  dumpData = "";
-               }
-               // Dump as hexadecimal data.
-               else
-               {
-                  hexadecimalString = Integer.toString(b, 16);
-                  if (hexadecimalString.length() < 2)
-                     hexadecimalString = "0" + hexadecimalString;
-                  if (hexadecimalString.length() > 2)
-                     hexadecimalString = hexadecimalString.substring(hexadecimalString.length() - 2);
-                  dumpData = dumpData + hexadecimalString;
-                  dumpChunkOfData(dumpData);
-                  dumpData = "";
-               }
-            }
+            // Dump as octal data.
+            if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
+               dumpWriter.appendOctal(theBytes);
+            // Dump as hexadecimal data.
+            else
+               dumpWriter.appendHex(theBytes);
+
             if (dataSourceType.equals(ConnectionManager.POSTGRESQL) ||
                 dataSourceType.indexOf(ConnectionManager.HSQL) != -1 ||
                 dataSourceType.equals(ConnectionManager.SQLITE) ||
                 dataSourceType.equals(ConnectionManager.H2))
-               dumpData = dumpData + "', ";
+               dumpWriter.append("', ");
             else if (dataSourceType.equals(ConnectionManager.DERBY))
             {
                if (!derbyBit)
-                  dumpData = dumpData + "' AS BLOB), ";
+                  dumpWriter.append("' AS BLOB), ");
                else
-                  dumpData = dumpData + "', ";
+                  dumpWriter.append("', ");
             }
             else if (dataSourceType.equals(ConnectionManager.ORACLE) &&
                      (updateDump || insertReplaceDump))
-               dumpData = dumpData + "'), ";
+               dumpWriter.append("'), ");
             else
-               dumpData = dumpData + ", ";
+               dumpWriter.append(", ");
          }
          catch (IOException e)
          {
-            String msg = "Unable to Create Buffered InputStream for Blob Data";
+            dumpWriter.reset();
+            String msg = "Error outputing Blob Data to: '" + fileName + "'.";
             JOptionPane.showMessageDialog(null, msg, fileName, JOptionPane.ERROR_MESSAGE);
             return;
          }
       }
       else
-         dumpData = dumpData + "NULL, ";
+         dumpWriter.append("NULL, ");
    }
 }
\ No newline at end of file
@@ -10,7 +10,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 2.2 07/27/2018
+// Version 2.3 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -68,6 +68,21 @@
 //             Type Extraction From tableColumnSQLTypeHashMap as int.
 //         2.2 Methods insertReplace/explicitStatementData() Excluded Derby
 //             BIT DATA From Being Processed as Blob, Utils.isBlob().
+//         2.3 Removed Class Instance dumpData. Statements Now Collected & Streamed via
+//             SQLDump dumpWriter, DumpWriter, Over the FileStream Channel, Opened via
+//             DumpStreams.openOutput() for Gzip Compressed Output to *.gz Files. Method
+//             dumpBinaryData() Use of DumpWriter appendOctal/Hex(). Method
+//             dumpDatabaseData() Per Table Processing Moved to New Method dumpTable(),
+//             tableCount From ConnectionManager.getTableNames(). Added Parallel Dump
+//             Mode, Methods getWorkerCount(), parallelDumpTables(), & dumpWorkerTables(),
+//             With Private Worker Constructor & Supporting Class Instances, Table
+//             Progress Reported by workerIndex. Class Instance currentTableTabPanel
+//             Replaced by tableColumnMetaData. Row Count Estimated Via RowCountService,
+//             Exact Count Taken in Background, Class Instance rowCountFuture & Method
+//             stopRowsCount(). Paging Terminated on Short Page, Deferred Statement
+//             Terminators. Rows & Bytes Written Recorded in a ThroughputMeter Shared With
+//             the Workers. Alerts With Utils.displayErrorMessage(). Class Instance
+//             databaseDumpProgressBar a SQLDatabaseDump_ProgressIndicator, Headless Safe.
 //
 //-----------------------------------------------------------------
 //                    danap@dandymadeproductions.com
@@ -75,12 +90,14 @@
 
 package com.dandymadeproductions.ajqvue.io;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
-import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -90,26 +107,24 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
-
-import javax.swing.JOptionPane;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionPool;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionProperties;
 import com.dandymadeproductions.ajqvue.gui.panels.DBTablesPanel;
-import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel;
-import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_Derby;
-import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_Generic;
-import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_HSQL;
-import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_MSAccess;
-import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_MSSQL;
-import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_MySQL;
-import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_Oracle;
-import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_PostgreSQL;
-import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_SQLite;
 import com.dandymadeproductions.ajqvue.structures.DataExportProperties;
 import com.dandymadeproductions.ajqvue.utilities.SQLDatabaseDump_ProgressBar;
+import com.dandymadeproductions.ajqvue.utilities.SQLDatabaseDump_ProgressIndicator;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
+import com.dandymadeproductions.ajqvue.utilities.db.RowCountListener;
+import com.dandymadeproductions.ajqvue.utilities.db.RowCountService;
+import com.dandymadeproductions.ajqvue.utilities.db.TableColumnMetaData;
 import com.dandymadeproductions.ajqvue.utilities.db.TableDefinitionGenerator;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
+import com.dandymadeproductions.ajqvue.utilities.metrics.ThroughputMeter;
 
 /**
  *    The SQLDatabaseDumpThread class provides a thread to safely
@@ -118,13 +133,12 @@ import com.dandymadeproductions.ajqvue.utilities.db.TableDefinitionGenerator;
  * the ability to prematurely terminate the dump.
  * 
  * @author Dana Proctor
- * @version 2.2 07/27/2018
+ * @version 2.3 10/18/2026
  */
 
 public class SQLDatabaseDumpThread extends SQLDump implements Runnable
 {
    // Class Instances.
-   private Object dumpData;
    private ArrayList<String> columnNameFields;
    private HashMap<String, String> tableColumnNames;
    private HashMap<String, String> tableColumnClassHashMap;
@@ -137,14 +151,23 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
    private String schemaTableName;
    private String dbIdentifierQuoteString;
    private String identifierQuoteString;
-   private TableTabPanel currentTableTabPanel;
+   private TableColumnMetaData tableColumnMetaData;
 
    private boolean insertReplaceDump;
    private boolean updateDump;
    private int limitIncrement;
    private int pluralValueLimit;
    private DataExportProperties sqlDataExportOptions;
-   private SQLDatabaseDump_ProgressBar databaseDumpProgressBar;
+   private SQLDatabaseDump_ProgressIndicator databaseDumpProgressBar;
+   private ThroughputMeter throughputMeter;
+   private Future<?> rowCountFuture;
+
+   private SQLDatabaseDumpThread coordinator;
+   private int workerIndex;
+   private ArrayList<String> dumpTableNames;
+   private File[] dumpSegments;
+   private AtomicInteger nextTableIndex;
+   private AtomicInteger completedTableCount;
 
    //==============================================================
    // SQLDatabaseDumpThread Constructor.
@@ -153,6 +176,29 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
    public SQLDatabaseDumpThread(String fileName)
    {
       this.fileName = fileName;
+      coordinator = null;
+      workerIndex = 0;
+   }
+
+   //==============================================================
+   // SQLDatabaseDumpThread Constructor for a parallel dump worker
+   // that shares the export options & progress of the coordinator.
+   //==============================================================
+
+   private SQLDatabaseDumpThread(SQLDatabaseDumpThread coordinator, int workerIndex)
+   {
+      this.coordinator = coordinator;
+      this.workerIndex = workerIndex;
+
+      fileName = coordinator.fileName;
+      dataSourceType = coordinator.dataSourceType;
+      dbIdentifierQuoteString = coordinator.dbIdentifierQuoteString;
+      sqlDataExportOptions = coordinator.sqlDataExportOptions;
+      identifierQuoteString = coordinator.identifierQuoteString;
+      limitIncrement = coordinator.limitIncrement;
+      pluralValueLimit = coordinator.pluralValueLimit;
+      databaseDumpProgressBar = coordinator.databaseDumpProgressBar;
+      throughputMeter = coordinator.throughputMeter;
    }
 
    //==============================================================
@@ -163,7 +209,10 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
    {
       try
       {
-         dumpDatabaseData();
+         if (coordinator == null)
+            dumpDatabaseData();
+         else
+            dumpWorkerTables();
       }
       catch (Exception e)
       {
@@ -178,15 +227,14 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
    private void dumpDatabaseData() throws Exception
    {
       // Class Method Instances.
+      ArrayList<String> tableNames;
       Iterator<String> tablesIterator;
-      String exportedTable;
-      FileOutputStream fileStream;
-      String sqlStatementString;
+      OutputStream fileStream;
       int i;
       int tableCount;
+      int workerCount;
 
       Statement sqlStatement;
-      ResultSet rs;
 
       // Get Connection to Database & Export Options.
       Connection dbConnection = ConnectionManager.getConnection("SQLDatabaseDumpThread run()");
@@ -222,24 +270,27 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                 System.out.println("Failed to Delete: '" + fileName + "'. " + se.toString());
             }
          }
-         fileStream = new FileOutputStream(fileName, true);
-         filebuff = new BufferedOutputStream(fileStream);
+         fileStream = DumpStreams.openOutput(fileName, true);
+         dumpWriter = new DumpWriter(fileStream, DumpWriter.DEFAULT_BUFFER_SIZE);
+         throughputMeter = MetricsRegistry.startThroughput(MetricsRegistry.DUMP_SQL_DATABASE,
+            ConnectionManager.getConnectionProperties().getProperty(ConnectionProperties.DB));
+         dumpWriter.setThroughputMeter(throughputMeter);
 
          // Create a progress bar for giving the user a
          // visual and cancel ability.
-         databaseDumpProgressBar = new SQLDatabaseDump_ProgressBar("SQL Database Dump");
+         databaseDumpProgressBar = SQLDatabaseDump_ProgressBar.createProgressIndicator("SQL Database Dump");
 
          // =========================================================
          // Begin creating the data characters to be dumped into
          // the selected file.
 
          // Header info.
-         dumpData = generateHeaders();
+         dumpWriter.append(generateHeaders());
 
          // Collect Database Table Count and Proceed with Dump.
-         tableCount = DBTablesPanel.getTableCount();
+         tableNames = ConnectionManager.getTableNames();
+         tableCount = tableNames.size();
          sqlStatement = null;
-         rs = null;
 
          try
          {
@@ -251,158 +302,24 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
             databaseDumpProgressBar.center();
             databaseDumpProgressBar.setVisible(true);
 
-            // Cycle Through the Tables in the Database.
-            i = 0;
-            tablesIterator = ConnectionManager.getTableNames().iterator();
+            // Cycle Through the Tables in the Database, in
+            // parallel as configured.
+            workerCount = getWorkerCount(tableNames.size());
 
-            while (tablesIterator.hasNext() && !databaseDumpProgressBar.isCanceled())
+            if (workerCount > 1)
+               parallelDumpTables(tableNames, workerCount, fileStream);
+            else
             {
-               databaseDumpProgressBar.setDatabaseDumpCurrentValue(i + 1);
-               
-               exportedTable = tablesIterator.next();
-               
-               // MySQL/MariaDB
-               if (dataSourceType.equals(ConnectionManager.MYSQL)
-                   || dataSourceType.equals(ConnectionManager.MARIADB))
-                  currentTableTabPanel = new TableTabPanel_MySQL(exportedTable, dbConnection, true);
-               // PostgreSQL
-               else if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
-                  currentTableTabPanel = new TableTabPanel_PostgreSQL(exportedTable, dbConnection, true);
-               // HSQL
-               else if (dataSourceType.indexOf(ConnectionManager.HSQL) != -1)
-                  currentTableTabPanel = new TableTabPanel_HSQL(exportedTable, dbConnection, true);
-               // Oracle
-               else if (dataSourceType.equals(ConnectionManager.ORACLE))
-                  currentTableTabPanel = new TableTabPanel_Oracle(exportedTable, dbConnection, true);
-               // SQLite
-               else if (dataSourceType.equals(ConnectionManager.SQLITE))
-                  currentTableTabPanel = new TableTabPanel_SQLite(exportedTable, dbConnection, true);
-               // MS Access
-               else if (dataSourceType.equals(ConnectionManager.MSACCESS))
-                  currentTableTabPanel = new TableTabPanel_MSAccess(exportedTable, dbConnection, true);
-               // MSSQL
-               else if (dataSourceType.equals(ConnectionManager.MSSQL))
-                  currentTableTabPanel = new TableTabPanel_MSSQL(exportedTable, dbConnection, true);
-               // Derby
-               else if (dataSourceType.equals(ConnectionManager.DERBY))
-                  currentTableTabPanel = new TableTabPanel_Derby(exportedTable, dbConnection, true);
-               // Generic
-               else
-                  currentTableTabPanel = new TableTabPanel_Generic(exportedTable, dbConnection, true);
-               
-               // Create the appropriate SQL table name qualifier for
-               // query and export qualifier.
-               
-               dbSchemaTableName = Utils.getSchemaTableName(exportedTable);
-               schemaTableName = Utils.getSchemaTableName(exportedTable, ConnectionManager.getCatalogSeparator(),
-                                                           identifierQuoteString);
-
-               columnNameFields = new ArrayList <String>();
-               columnNameFields = currentTableTabPanel.getAllTableHeadings();
-               tableColumnNames = currentTableTabPanel.getColumnNamesHashMap();
-               tableColumnClassHashMap = currentTableTabPanel.getColumnClassHashMap();
-               tableColumnSQLTypeHashMap = currentTableTabPanel.getColumnSQLTypeHashMap();
-               tableColumnTypeNameHashMap = currentTableTabPanel.getColumnTypeNameHashMap();
-
-               // Create Table Statements As Needed.
-               if (sqlDataExportOptions.getTableStructure())
-               {
-                  dumpData = dumpData + genCommentSep("Table structure for table " + schemaTableName);
-
-                  dumpData = dumpData
-                             + (new TableDefinitionGenerator(dbConnection, dbSchemaTableName))
-                                   .getTableDefinition();
-                  
-                  // Check to see if we need to proceed with dumping
-                  // data. If not dump structure and clean up.
-
-                  if (!sqlDataExportOptions.getTableData())
-                  {
-                     dumpChunkOfData(dumpData);
-                     dumpData = "";
-                     i++;
-                     continue;
-                  }
-               }
-
-               // Comments for Table.
-               dumpData = dumpData + genCommentSep("Dumping data for table " + schemaTableName);
-
-               // Check to see if there is any data to actually be
-               // dumped from the table.
-
-               if (dataSourceType.equals(ConnectionManager.ORACLE))
-                  sqlStatementString = "SELECT * FROM " + dbSchemaTableName + " WHERE ROWNUM=1";
-               else if (dataSourceType.equals(ConnectionManager.MSACCESS))
-                  sqlStatementString = "SELECT * FROM " + dbSchemaTableName + " AS t";
-               else if (dataSourceType.equals(ConnectionManager.MSSQL))
-                  sqlStatementString = "SELECT TOP 1 * FROM " + dbSchemaTableName + " AS t";
-               else if (dataSourceType.equals(ConnectionManager.DERBY))
-                  sqlStatementString = "SELECT * FROM " + schemaTableName + " AS t FETCH FIRST ROW ONLY";
-               else
-                  sqlStatementString = "SELECT * FROM " + dbSchemaTableName + " AS t LIMIT 1";
-                  
-               // System.out.println(sqlStatementString);
-               
-               rs = sqlStatement.executeQuery(sqlStatementString);
+               i = 0;
+               tablesIterator = tableNames.iterator();
 
-               if (rs.next())
+               while (tablesIterator.hasNext() && !databaseDumpProgressBar.isCanceled())
                {
-                  // Lock.
-                  if (sqlDataExportOptions.getLock())
-                  {
-                     if (dataSourceType.equals(ConnectionManager.MYSQL)
-                         || dataSourceType.equals(ConnectionManager.MARIADB))
-                     {
-                        dumpData = dumpData
-                                   + ("/*!40000 ALTER TABLE " + schemaTableName + " DISABLE KEYS */;\n");
-                        dumpData = dumpData + ("LOCK TABLES " + schemaTableName + " WRITE;\n");
-                     }
-                     else if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
-                        dumpData = dumpData + ("LOCK TABLE " + schemaTableName + ";\n");
-                  }
-
-                  // Create the Appropriate Insert,Replace or Update Statements
-                  // with data as needed.
-
-                  // Insert
-                  if (sqlDataExportOptions.getInsertReplaceUpdate().equals("Insert"))
-                  {
-                     if (sqlDataExportOptions.getInsertExpression().equals("Explicit"))
-                        explicitStatementData(dbConnection);
-                     else
-                        insertReplaceStatementData(dbConnection);     
-                  }
-                  // Replace
-                  else if (sqlDataExportOptions.getInsertReplaceUpdate().equals("Replace"))
-                  {
-                     if (sqlDataExportOptions.getReplaceExpression().equals("Explicit"))
-                        explicitStatementData(dbConnection);
-                     else
-                        insertReplaceStatementData(dbConnection);     
-                  }
-                  // Update
-                  else
-                     explicitStatementData(dbConnection);
-                  
-                  dumpData = dumpData + ";\n";
-
-                  // Finishing up.
-                  if (sqlDataExportOptions.getLock())
-                  {
-                     if (dataSourceType.equals(ConnectionManager.MYSQL)
-                         || dataSourceType.equals(ConnectionManager.MARIADB))
-                     {
-                        dumpData = dumpData + "UNLOCK TABLES;\n";
-                        dumpData = dumpData + "/*!40000 ALTER TABLE " + schemaTableName
-                                   + " ENABLE KEYS */;\n";
-                     }
-                  }
+                  databaseDumpProgressBar.setDatabaseDumpCurrentValue(i + 1);
+                  dumpTable(dbConnection, sqlStatement, tablesIterator.next());
+                  stopRowsCount();
+                  i++;
                }
-
-               dumpChunkOfData(dumpData);
-               dumpData = "";
-               i++;
             }
             if (databaseDumpProgressBar.isCanceled())
             {
@@ -439,34 +356,349 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
          }
          finally
          {
+            if (sqlStatement != null)
+               sqlStatement.close();
+         }
+      }
+      catch (IOException e)
+      {
+         String msg = "Unable to Create filestream for: '" + fileName + "'.";
+         Utils.displayErrorMessage(msg, fileName);
+         return;
+      }
+      finally
+      {
+         try
+         {
+            if (dumpWriter != null)
+               dumpWriter.close();
+         }
+         finally
+         {
+            stopRowsCount();
+            
+            if (throughputMeter != null)
+               throughputMeter.finish();
+         }
+      }
+      ConnectionManager.closeConnection(dbConnection, "SQLDatabaseDumpThread run()");
+   }
+
+   //==============================================================
+   // Class method to determine the number of parallel dump workers,
+   // bounded by the table count & leaving one pooled connection
+   // for the coordinator.
+   //==============================================================
+
+   private int getWorkerCount(int tableCount)
+   {
+      // Method Instances.
+      ConnectionPool connectionPool;
+      int workerCount;
+
+      workerCount = Math.min(DBTablesPanel.getGeneralDBProperties().getDumpWorkers(), tableCount);
+      connectionPool = ConnectionManager.getConnectionPool();
+
+      if (connectionPool != null)
+         workerCount = Math.min(workerCount, connectionPool.getMaxSize() - 1);
+
+      return workerCount;
+   }
+
+   //==============================================================
+   // Class method to dump the tables with a number of workers,
+   // each on its own connection & writing each table to its own
+   // temporary segment. The segments are then joined in the
+   // original table order to the dump file.
+   //==============================================================
+
+   private void parallelDumpTables(ArrayList<String> tableNames, int workerCount,
+                                   OutputStream fileStream) throws IOException
+   {
+      // Method Instances.
+      Thread[] workerThreads;
+      WritableByteChannel outputChannel;
+      FileChannel segmentChannel;
+      FileInputStream segmentStream;
+      long position, size;
+
+      dumpTableNames = tableNames;
+      dumpSegments = new File[tableNames.size()];
+      nextTableIndex = new AtomicInteger(0);
+      completedTableCount = new AtomicInteger(0);
+      databaseDumpProgressBar.setWorkerCount(workerCount);
+
+      // Start the workers & wait for completion.
+
+      workerThreads = new Thread[workerCount];
+
+      for (int i = 0; i < workerCount; i++)
+      {
+         workerThreads[i] = new Thread(new SQLDatabaseDumpThread(this, i),
+                                       "SQLDatabaseDumpThread Worker " + i);
+         workerThreads[i].start();
+      }
+
+      try
+      {
+         for (int i = 0; i < workerCount; i++)
+            workerThreads[i].join();
+      }
+      catch (InterruptedException e)
+      {
+         databaseDumpProgressBar.setCanceled(true);
+         Thread.currentThread().interrupt();
+      }
+
+      // Join the segments in table order.
+
+      try
+      {
+         dumpWriter.flush();
+         outputChannel = Channels.newChannel(fileStream);
+
+         for (int i = 0; i < dumpSegments.length && !databaseDumpProgressBar.isCanceled(); i++)
+         {
+            if (dumpSegments[i] == null)
+               continue;
+
+            segmentStream = new FileInputStream(dumpSegments[i]);
+
             try
             {
-               if (rs != null)
-                  rs.close();
+               segmentChannel = segmentStream.getChannel();
+               position = 0;
+               size = segmentChannel.size();
+
+               while (position < size)
+                  position += segmentChannel.transferTo(position, size - position, outputChannel);
+            }
+            finally
+            {
+               segmentStream.close();
             }
-            catch (SQLException sqle)
+         }
+      }
+      finally
+      {
+         for (int i = 0; i < dumpSegments.length; i++)
+         {
+            if (dumpSegments[i] != null && !dumpSegments[i].delete())
+            {
+               if (Ajqvue.getDebug())
+                  System.out.println("Failed to Delete: '" + dumpSegments[i] + "'.");
+            }
+         }
+      }
+   }
+
+   //==============================================================
+   // Class method for a parallel dump worker to take the next
+   // table & dump it to a temporary segment until all are done.
+   //==============================================================
+
+   private void dumpWorkerTables()
+   {
+      // Method Instances.
+      Connection dbConnection;
+      Statement sqlStatement;
+      FileOutputStream segmentStream;
+      File segmentDirectory;
+      int tableIndex;
+
+      // Get Connection to Database.
+      dbConnection = ConnectionManager.getConnection("SQLDatabaseDumpThread dumpWorkerTables()");
+
+      if (dbConnection == null)
+      {
+         databaseDumpProgressBar.setCanceled(true);
+         return;
+      }
+
+      segmentDirectory = new File(fileName).getAbsoluteFile().getParentFile();
+      sqlStatement = null;
+
+      try
+      {
+         sqlStatement = dbConnection.createStatement();
+
+         while (!databaseDumpProgressBar.isCanceled()
+                && (tableIndex = coordinator.nextTableIndex.getAndIncrement())
+                   < coordinator.dumpTableNames.size())
+         {
+            coordinator.dumpSegments[tableIndex] = File.createTempFile("ajqvue_dump", ".sql",
+                                                                      segmentDirectory);
+            segmentStream = new FileOutputStream(coordinator.dumpSegments[tableIndex]);
+            dumpWriter = new DumpWriter(segmentStream.getChannel(), DumpWriter.DEFAULT_BUFFER_SIZE);
+            dumpWriter.setThroughputMeter(throughputMeter);
+
+            try
             {
-               ConnectionManager.displaySQLErrors(sqle, "SQLDatabaseDumpThread dumbDatabaseData()");
+               dumpTable(dbConnection, sqlStatement, coordinator.dumpTableNames.get(tableIndex));
             }
             finally
             {
-               if (sqlStatement != null)
-                  sqlStatement.close();
+               stopRowsCount();
+               dumpWriter.close();
             }
+            databaseDumpProgressBar.setDatabaseDumpCurrentValue(
+               coordinator.completedTableCount.incrementAndGet());
          }
       }
+      catch (SQLException e)
+      {
+         databaseDumpProgressBar.setCanceled(true);
+         ConnectionManager.displaySQLErrors(e, "SQLDatabaseDumpThread dumpWorkerTables()");
+      }
       catch (IOException e)
       {
-         String msg = "Unable to Create filestream for: '" + fileName + "'.";
-         JOptionPane.showMessageDialog(null, msg, fileName, JOptionPane.ERROR_MESSAGE);
-         return;
+         databaseDumpProgressBar.setCanceled(true);
+         String msg = "Error outputing data to segment in: '" + segmentDirectory + "'.";
+         Utils.displayErrorMessage(msg, fileName);
       }
       finally
       {
-         if (filebuff != null)
-            filebuff.close();
+         databaseDumpProgressBar.setTableDumpTaskLength(workerIndex, 0);
+
+         try
+         {
+            if (sqlStatement != null)
+               sqlStatement.close();
+         }
+         catch (SQLException sqle)
+         {
+            ConnectionManager.displaySQLErrors(sqle, "SQLDatabaseDumpThread dumpWorkerTables()");
+         }
+         ConnectionManager.closeConnection(dbConnection, "SQLDatabaseDumpThread dumpWorkerTables()");
       }
-      ConnectionManager.closeConnection(dbConnection, "SQLDatabaseDumpThread run()");
+   }
+
+   //==============================================================
+   // Class method to dump the structure and/or data of a single
+   // table to the current dump writer.
+   //==============================================================
+
+   private void dumpTable(Connection dbConnection, Statement sqlStatement,
+                          String exportedTable) throws SQLException
+   {
+      // Method Instances.
+      String sqlStatementString;
+      ResultSet rs;
+
+      // Collect the table's column characteristics, without a
+      // panel, so the workers stay off the event dispatch thread.
+
+      tableColumnMetaData = new TableColumnMetaData(exportedTable, dataSourceType);
+      tableColumnMetaData.collectColumnMetaData(dbConnection);
+      
+      // Create the appropriate SQL table name qualifier for
+      // query and export qualifier.
+      
+      dbSchemaTableName = Utils.getSchemaTableName(exportedTable);
+      schemaTableName = Utils.getSchemaTableName(exportedTable, ConnectionManager.getCatalogSeparator(),
+                                                  identifierQuoteString);
+
+      columnNameFields = new ArrayList <String>();
+      columnNameFields = tableColumnMetaData.getColumnHeadings();
+      tableColumnNames = tableColumnMetaData.getColumnNamesHashMap();
+      tableColumnClassHashMap = tableColumnMetaData.getColumnClassHashMap();
+      tableColumnSQLTypeHashMap = tableColumnMetaData.getColumnSQLTypeHashMap();
+      tableColumnTypeNameHashMap = tableColumnMetaData.getColumnTypeNameHashMap();
+
+      // Create Table Statements As Needed.
+      if (sqlDataExportOptions.getTableStructure())
+      {
+         dumpWriter.append(genCommentSep("Table structure for table " + schemaTableName));
+
+         dumpWriter.append((new TableDefinitionGenerator(dbConnection, dbSchemaTableName))
+                           .getTableDefinition());
+         
+         // Check to see if we need to proceed with dumping
+         // data. If not dump structure and clean up.
+
+         if (!sqlDataExportOptions.getTableData())
+         {
+            dumpChunkOfData();
+            return;
+         }
+      }
+
+      // Comments for Table.
+      dumpWriter.append(genCommentSep("Dumping data for table " + schemaTableName));
+
+      // Check to see if there is any data to actually be
+      // dumped from the table.
+
+      if (dataSourceType.equals(ConnectionManager.ORACLE))
+         sqlStatementString = "SELECT * FROM " + dbSchemaTableName + " WHERE ROWNUM=1";
+      else if (dataSourceType.equals(ConnectionManager.MSACCESS))
+         sqlStatementString = "SELECT * FROM " + dbSchemaTableName + " AS t";
+      else if (dataSourceType.equals(ConnectionManager.MSSQL))
+         sqlStatementString = "SELECT TOP 1 * FROM " + dbSchemaTableName + " AS t";
+      else if (dataSourceType.equals(ConnectionManager.DERBY))
+         sqlStatementString = "SELECT * FROM " + schemaTableName + " AS t FETCH FIRST ROW ONLY";
+      else
+         sqlStatementString = "SELECT * FROM " + dbSchemaTableName + " AS t LIMIT 1";
+         
+      // System.out.println(sqlStatementString);
+      
+      rs = sqlStatement.executeQuery(sqlStatementString);
+
+      if (rs.next())
+      {
+         // Lock.
+         if (sqlDataExportOptions.getLock())
+         {
+            if (dataSourceType.equals(ConnectionManager.MYSQL)
+                || dataSourceType.equals(ConnectionManager.MARIADB))
+            {
+               dumpWriter.append("/*!40000 ALTER TABLE " + schemaTableName + " DISABLE KEYS */;\n");
+               dumpWriter.append("LOCK TABLES " + schemaTableName + " WRITE;\n");
+            }
+            else if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
+               dumpWriter.append("LOCK TABLE " + schemaTableName + ";\n");
+         }
+
+         // Create the Appropriate Insert,Replace or Update Statements
+         // with data as needed.
+
+         // Insert
+         if (sqlDataExportOptions.getInsertReplaceUpdate().equals("Insert"))
+         {
+            if (sqlDataExportOptions.getInsertExpression().equals("Explicit"))
+               explicitStatementData(dbConnection);
+            else
+               insertReplaceStatementData(dbConnection);     
+         }
+         // Replace
+         else if (sqlDataExportOptions.getInsertReplaceUpdate().equals("Replace"))
+         {
+            if (sqlDataExportOptions.getReplaceExpression().equals("Explicit"))
+               explicitStatementData(dbConnection);
+            else
+               insertReplaceStatementData(dbConnection);     
+         }
+         // Update
+         else
+            explicitStatementData(dbConnection);
+         
+         dumpWriter.append(";\n");
+
+         // Finishing up.
+         if (sqlDataExportOptions.getLock())
+         {
+            if (dataSourceType.equals(ConnectionManager.MYSQL)
+                || dataSourceType.equals(ConnectionManager.MARIADB))
+            {
+               dumpWriter.append("UNLOCK TABLES;\n");
+               dumpWriter.append("/*!40000 ALTER TABLE " + schemaTableName
+                                 + " ENABLE KEYS */;\n");
+            }
+         }
+      }
+      rs.close();
+
+      dumpChunkOfData();
    }
 
    //==============================================================
@@ -501,10 +733,11 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
       String sqlFieldValuesString;
       String expressionType;
       
-      int rowsCount;
       int currentTableIncrement;
       int currentRow;
       int currentPluralValueCount;
+      int pageRows;
+      boolean pendingRow;
       int columnsCount;
 
       String sqlStatementString;
@@ -553,11 +786,11 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
          //                    " sql type:" + columnSQLType + "type name:" + columnTypeName);
 
          // Save the index of autoIncrement entries.
-         if (currentTableTabPanel.getAutoIncrementHashMap().containsKey(field))
+         if (tableColumnMetaData.getAutoIncrementHashMap().containsKey(field))
          {
             if (dataSourceType.equals(ConnectionManager.ORACLE))
                autoIncrementFieldIndexes.put(Integer.valueOf(columnsCount + 1),
-                                             currentTableTabPanel.getAutoIncrementHashMap().get(field));
+                                             tableColumnMetaData.getAutoIncrementHashMap().get(field));
             else if (dataSourceType.equals(ConnectionManager.MSSQL)
                   && sqlDataExportOptions.getAutoIncrement())
             continue;
@@ -660,31 +893,19 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
 
       sqlFieldValuesString = sqlFieldValuesString.substring(0, sqlFieldValuesString.length() - 2);
       sqlFieldValuesString += ") VALUES";
-      dumpData = dumpData + sqlFieldValuesString;
+      dumpWriter.append(sqlFieldValuesString);
 
-      dumpChunkOfData(dumpData);
-      dumpData = "";
-      
-      // Collect the row count of the table and setting
-      // up a progress bar for tracking/canceling.
-      
-      rowsCount = 0;
-      
-      try
-      {
-         rowsCount = getRowsCount(dbConnection, dbSchemaTableName);
-      }
-      catch (SQLException sqle)
-      {
-         ConnectionManager.displaySQLErrors(sqle, "SQLDatabaseDumpThread insertReplaceStatementData()");
-      }
+      dumpChunkOfData();
       
       currentPluralValueCount = 0;
       currentTableIncrement = 0;
       currentRow = 0;
+      pageRows = 0;
+      pendingRow = false;
 
-      // Start a progress bar for tracking/canceling.
-      databaseDumpProgressBar.setTableDumpTaskLength(rowsCount);
+      // Start the progress for tracking/canceling with the row
+      // count of the table, not waiting on an exact count.
+      startRowsCount(dbConnection, dbSchemaTableName);
       
       // Ok now ready so beginning by connecting to database for
       // data and proceeding with building the dump data.
@@ -735,18 +956,51 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
             rs = sqlStatement.executeQuery(sqlStatementString);
             
             // Begin the creation of insert statements.
+            pageRows = 0;
             while (rs.next() && !databaseDumpProgressBar.isCanceled())
             {
-               databaseDumpProgressBar.setTableDumpCurrentValue(schemaTableName.replaceAll("\"", ""),
+               databaseDumpProgressBar.setTableDumpCurrentValue(workerIndex,
+                                                                schemaTableName.replaceAll("\"", ""),
                                                                 currentRow++);
+               throughputMeter.addRows(1);
+               pageRows++;
+
+               // Close the previous row's values & setup the
+               // next statement as needed.
+               if (pendingRow)
+               {
+                  // SQL Singular Statement
+                  if (expressionType.equals("Singular"))
+                  {
+                     dumpWriter.append(";\n");
+                     dumpChunkOfData();
+                     dumpWriter.append(sqlFieldValuesString);
+                  }
+                  // SQL Plural Statement
+                  else
+                  {
+                     if (currentPluralValueCount >= pluralValueLimit)
+                     {
+                        dumpWriter.append(";\n");
+                        dumpChunkOfData();
+                        dumpWriter.append(sqlFieldValuesString);
+                        currentPluralValueCount = 0;
+                     }
+                     else
+                     {
+                        dumpWriter.append(",");
+                        dumpChunkOfData();
+                     }
+                  }
+               }
                currentPluralValueCount++;
 
                // SQL Singular Statement
                if (expressionType.equals("Singular"))
-                  dumpData = dumpData + "(";
+                  dumpWriter.append("(");
                // SQL Plural Statement
                else
-                  dumpData = dumpData + ("\n(");
+                  dumpWriter.append(("\n("));
 
                for (int i = 1; i <= columnsCount; i++)
                {
@@ -760,25 +1014,25 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                      if (theBytes != null)
                      {
                         if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
-                           dumpData = dumpData + "E'";
+                           dumpWriter.append("E'");
                         else if (dataSourceType.equals(ConnectionManager.HSQL))
-                           dumpData = dumpData + "'";
+                           dumpWriter.append("'");
                         else if (dataSourceType.equals(ConnectionManager.HSQL2))
-                           dumpData = dumpData + "x'";
+                           dumpWriter.append("x'");
                         else if (dataSourceType.equals(ConnectionManager.ORACLE))
-                           dumpData = dumpData + "HEXTORAW('";
+                           dumpWriter.append("HEXTORAW('");
                         else if (dataSourceType.equals(ConnectionManager.SQLITE))
-                           dumpData = dumpData + "x'";
+                           dumpWriter.append("x'");
                         else if (dataSourceType.equals(ConnectionManager.DERBY))
-                           dumpData = dumpData + "CAST(X'";
+                           dumpWriter.append("CAST(X'");
                         else if (dataSourceType.equals(ConnectionManager.H2))
-                           dumpData = dumpData + "x'";
+                           dumpWriter.append("x'");
                         else
                         {
                            if (theBytes.length != 0)
-                              dumpData = dumpData + "0x";
+                              dumpWriter.append("0x");
                            else
-                              dumpData = dumpData + "''";
+                              dumpWriter.append("''");
                         }
 
                         // Go convert to hexadecimal/octal values
@@ -786,7 +1040,7 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                         dumpBinaryData(theBytes, false);
                      }
                      else
-                        dumpData = dumpData + "NULL, ";
+                        dumpWriter.append("NULL, ");
                   }
                   // Regular Fields
                   else
@@ -801,19 +1055,19 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                            tableName = (schemaTableName.substring(schemaTableName.indexOf(".") + 1)).replaceAll(
                                                                   identifierQuoteString, "");
 
-                           dumpData = dumpData + "nextval('" + schemaName + tableName + "_"
-                                      + autoIncrementFieldIndexes.get(Integer.valueOf(i)) + "_seq\"'), ";
+                           dumpWriter.append("nextval('" + schemaName + tableName + "_"
+                                             + autoIncrementFieldIndexes.get(Integer.valueOf(i)) + "_seq\"'), ");
                         }
                         else if (dataSourceType.equals(ConnectionManager.ORACLE))
                         {
-                           dumpData = dumpData + identifierQuoteString
-                                      + autoIncrementFieldIndexes.get(Integer.valueOf(i)) 
-                                      + identifierQuoteString + ".NEXTVAL, ";
+                           dumpWriter.append(identifierQuoteString
+                                             + autoIncrementFieldIndexes.get(Integer.valueOf(i))
+                                             + identifierQuoteString + ".NEXTVAL, ");
                         }
                         else if (dataSourceType.equals(ConnectionManager.DERBY))
-                           dumpData = dumpData + "DEFAULT, ";
+                           dumpWriter.append("DEFAULT, ");
                         else
-                           dumpData = dumpData + "NULL, ";
+                           dumpWriter.append("NULL, ");
                      }
                      else
                      {
@@ -822,25 +1076,25 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                             && sqlDataExportOptions.getTimeStamp())
                         {
                            if (arrayIndexes.contains(Integer.valueOf(i)))
-                              dumpData = dumpData + "'{NOW()}', ";
+                              dumpWriter.append("'{NOW()}', ");
                            else
                            {
                               if (dataSourceType.equals(ConnectionManager.ORACLE))
-                                 dumpData = dumpData + "SYSTIMESTAMP, ";
+                                 dumpWriter.append("SYSTIMESTAMP, ");
                               else if (dataSourceType.equals(ConnectionManager.DERBY))
-                                 dumpData = dumpData + "CURRENT_TIMESTAMP, ";
+                                 dumpWriter.append("CURRENT_TIMESTAMP, ");
                               else if (dataSourceType.equals(ConnectionManager.SQLITE))
                               {
                                  if (sqliteStringTimeStampIndexes.contains(Integer.valueOf(i)))
-                                    dumpData = dumpData + "STRFTIME("
-                                               + "'%Y-%m-%d %H:%M:%f', 'now', 'localtime'), ";
+                                    dumpWriter.append("STRFTIME("
+                                                      + "'%Y-%m-%d %H:%M:%f', 'now', 'localtime'), ");
                                  else
-                                    dumpData = dumpData + "CAST("
-                                          + "(SELECT (julianday('now') - julianday('1970-01-01'))"
-                                          + "*24*60*60*1000) AS INTEGER)" + ", ";
+                                    dumpWriter.append("CAST("
+                                                      + "(SELECT (julianday('now') - julianday('1970-01-01'))"
+                                                      + "*24*60*60*1000) AS INTEGER)" + ", ");
                               }
                               else
-                                 dumpData = dumpData + "NOW(), ";
+                                 dumpWriter.append("NOW(), ");
                            }
                         }
 
@@ -851,10 +1105,10 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                            Object currentData = rs.getTimestamp(i);
                            
                            if (currentData != null)
-                              dumpData = dumpData + "TO_TIMESTAMP('" + currentData
-                                         + "', 'YYYY-MM-DD HH24:MI:SS:FF'), ";
+                              dumpWriter.append("TO_TIMESTAMP('" + currentData
+                                                + "', 'YYYY-MM-DD HH24:MI:SS:FF'), ");
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
 
                         // Check for a Date
@@ -865,9 +1119,9 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                               java.sql.Date dateValue = rs.getDate(i);
                               
                               if (dateValue != null)
-                                 dumpData = dumpData + "TO_DATE('" + dateValue + "', 'YYYY-MM-DD'), ";
+                                 dumpWriter.append("TO_DATE('" + dateValue + "', 'YYYY-MM-DD'), ");
                               else
-                                 dumpData = dumpData + "NULL, ";   
+                                 dumpWriter.append("NULL, ");
                            }
                            else
                            {
@@ -876,12 +1130,12 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                               if (dateString != null)
                               {
                                  if (notQuotedIndexes.contains(Integer.valueOf(i)))
-                                    dumpData = dumpData + addEscapes(dateString) + ", ";
+                                    dumpWriter.append(addEscapes(dateString) + ", ");
                                  else
-                                    dumpData = dumpData + "'" + addEscapes(dateString) + "', ";
+                                    dumpWriter.append("'" + addEscapes(dateString) + "', ");
                               }
                               else
-                                 dumpData = dumpData + "NULL, ";    
+                                 dumpWriter.append("NULL, ");
                            }
                         }
 
@@ -898,12 +1152,12 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                            if (yearValue != null)
                            {
                               if (yearValue.length() > 4)
-                                 dumpData = dumpData + "'" + addEscapes(yearValue.substring(0, 4)) + "', ";
+                                 dumpWriter.append("'" + addEscapes(yearValue.substring(0, 4)) + "', ");
                               else
-                                 dumpData = dumpData + "'" + addEscapes(yearValue) + "', ";
+                                 dumpWriter.append("'" + addEscapes(yearValue) + "', ");
                            }
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
 
                         // Check for Bit fields.
@@ -917,39 +1171,38 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                                   || dataSourceType.equals(ConnectionManager.HSQL2))
                               {
                                  if (arrayIndexes.contains(Integer.valueOf(i)))
-                                    dumpData = dumpData + "'" + bitValue + "', ";
+                                    dumpWriter.append("'" + bitValue + "', ");
                                  else
-                                    dumpData = dumpData + "B'" + bitValue + "', ";
+                                    dumpWriter.append("B'" + bitValue + "', ");
                               }
                               else if (dataSourceType.equals(ConnectionManager.MYSQL)
                                        || dataSourceType.equals(ConnectionManager.MARIADB))
                               {
                                  String byteString = Byte.toString(rs.getByte(i));
-                                 dumpData = dumpData
-                                            + "B'" + Integer.toBinaryString(Integer.parseInt(byteString))
-                                            + "', ";
+                                 dumpWriter.append("B'" + Integer.toBinaryString(Integer.parseInt(byteString))
+                                                   + "', ");
                               }
                               else if (dataSourceType.equals(ConnectionManager.DERBY))
                               {
-                                 dumpData = dumpData + "X'";
+                                 dumpWriter.append("X'");
                                  dumpBinaryData(rs.getBytes(i), true);
                               }
                               else
                               {
                                  try
                                  {
-                                    dumpData = dumpData + "B'"
-                                               + Integer.toBinaryString(Integer.parseInt(bitValue))
-                                               + "', ";
+                                    dumpWriter.append("B'"
+                                                      + Integer.toBinaryString(Integer.parseInt(bitValue))
+                                                      + "', ");
                                  }
                                  catch (NumberFormatException e)
                                  {
-                                    dumpData = dumpData + "B'0', ";
+                                    dumpWriter.append("B'0', ");
                                  }
                               }
                            }
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
 
                         // All other fields
@@ -965,79 +1218,35 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                               // Check for Oracle TimeStampLTZ
                               if (oracleTimeStamp_LTZIndexes.contains(Integer.valueOf(i)) &&
                                   !sqlDataExportOptions.getTimeStamp())
-                                 dumpData = dumpData + "TO_TIMESTAMP_TZ('" + contentString
-                                            + "', 'YYYY-MM-DD HH24:MI:SS TZH:TZM'), ";
+                                 dumpWriter.append("TO_TIMESTAMP_TZ('" + contentString
+                                                   + "', 'YYYY-MM-DD HH24:MI:SS TZH:TZM'), ");
                               
                               // Don't Quote Numeric Values.
                               else if (notQuotedIndexes.contains(Integer.valueOf(i))) 
-                                 dumpData = dumpData + contentString + ", ";
+                                 dumpWriter.append(contentString + ", ");
                               
                               else
-                                 dumpData = dumpData + "'" + addEscapes(contentString) + "', ";
+                                 dumpWriter.append("'" + addEscapes(contentString) + "', ");
                            }
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
                      }
                   }
                }
-               dumpData = ((String) dumpData).substring(0, ((String) dumpData).length() - 2);
-
-               // SQL Singular Statement
-               if (expressionType.equals("Singular"))
-                  dumpData = dumpData + ");\n";
-               // SQL Plural Statement
-               else
-               {
-                  if (currentPluralValueCount >= pluralValueLimit)
-                     dumpData = dumpData + ");\n";
-                  else
-                     dumpData = dumpData + "),";
-               }
-
-               if (currentRow >= rowsCount)
-               {
-                  // SQL Singular Statement
-                  if (expressionType.equals("Singular"))
-                     dumpData = ((String) dumpData).substring(0, ((String) dumpData).length() - 2);
-                  // SQL Plural Statement
-                  else
-                  {
-                     if (currentPluralValueCount >= pluralValueLimit)
-                        dumpData = ((String) dumpData).substring(0, ((String) dumpData).length() - 2);
-                     else
-                        dumpData = ((String) dumpData).substring(0, ((String) dumpData).length() - 1);
-                  }
-                  dumpChunkOfData(dumpData);
-                  dumpData = "";
-                  currentRow = 0;
-               }
-               else
-               {
-                  dumpChunkOfData(dumpData);
-                  // SQL Singular Statement Resetup
-                  if (expressionType.equals("Singular"))
-                     dumpData = sqlFieldValuesString;
-                  // SQL Plural Statement
-                  else
-                  {
-                     if (currentPluralValueCount >= pluralValueLimit)
-                     {
-                        dumpData = sqlFieldValuesString;
-                        currentPluralValueCount = 0;
-                     }
-                     else
-                        dumpData = "";
-                  }
-               }
+               dumpWriter.trim(2);
+               dumpWriter.append(")");
+               pendingRow = true;
             }
             currentTableIncrement += limitIncrement;
          }
-         while (currentTableIncrement < rowsCount && !databaseDumpProgressBar.isCanceled());
+         while (pageRows == limitIncrement && !dataSourceType.equals(ConnectionManager.MSACCESS)
+                && !databaseDumpProgressBar.isCanceled());
 
          // Closing out
          rs.close();
-         databaseDumpProgressBar.setTableDumpCurrentValue(schemaTableName.replaceAll("\"", ""), 0);
+         databaseDumpProgressBar.setTableDumpCurrentValue(workerIndex, schemaTableName.replaceAll("\"", ""),
+                                                          0);
       }
       catch (SQLException e)
       {
@@ -1071,9 +1280,10 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
       
       ArrayList<String> keys;
       StringBuffer keyStringStatement;
-      int rowsCount;
       int currentTableIncrement;
       int currentRow;
+      int pageRows;
+      boolean pendingRow;
 
       String sqlStatementString;
       Statement sqlStatement;
@@ -1089,21 +1299,21 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
       // Setting up the initial dump data string with insert/replace/update,
       // type, and table.
       
-      dumpData = dumpData + sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(Locale.ENGLISH);
-      dumpData = dumpData + sqlDataExportOptions.getType().toUpperCase(Locale.ENGLISH);
+      dumpWriter.append(sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(Locale.ENGLISH));
+      dumpWriter.append(sqlDataExportOptions.getType().toUpperCase(Locale.ENGLISH));
 
       // Explicit
       if (sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(Locale.ENGLISH).equals("INSERT")
           || sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(Locale.ENGLISH).equals("REPLACE"))
-         dumpData = dumpData + "INTO ";
+         dumpWriter.append("INTO ");
       // Update
       else
       {
          updateDump = true;
-         keys = currentTableTabPanel.getPrimaryKeys();
+         keys = tableColumnMetaData.getPrimaryKeys();
       }
 
-      dumpData = dumpData + schemaTableName + " SET ";
+      dumpWriter.append(schemaTableName + " SET ");
 
       // Obtain the table fields and create select statement
       // to obtain the data.
@@ -1137,28 +1347,16 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
       firstField = columnNamesString.substring(0, columnNamesString.indexOf(","));
       
       // Do an initial dump of data created so far.
-      dumpChunkOfData(dumpData);
-      dumpData = "";
-      
-      // Collect the row count of the table and setting
-      // up a progress bar for tracking/canceling.
-      
-      rowsCount = 0;
-      
-      try
-      {
-         rowsCount = getRowsCount(dbConnection, dbSchemaTableName);
-      }
-      catch (SQLException sqle)
-      {
-         ConnectionManager.displaySQLErrors(sqle, "SQLDatabaseDumpThread explicitStatementData()");
-      }
+      dumpChunkOfData();
       
       currentTableIncrement = 0;
       currentRow = 0;
+      pageRows = 0;
+      pendingRow = false;
 
-      // Start a progress bar for tracking/canceling.
-      databaseDumpProgressBar.setTableDumpTaskLength(rowsCount);
+      // Start the progress for tracking/canceling with the row
+      // count of the table, not waiting on an exact count.
+      startRowsCount(dbConnection, dbSchemaTableName);
       
       // Ok now ready so beginning by connecting to database for
       // data and proceeding with building the dump data.
@@ -1209,10 +1407,36 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
             rs = sqlStatement.executeQuery(sqlStatementString);
             
             // Begin the creation of statements.
+            pageRows = 0;
             while (rs.next() && !databaseDumpProgressBar.isCanceled())
             {
-               databaseDumpProgressBar.setTableDumpCurrentValue(schemaTableName.replaceAll("\"", ""),
+               databaseDumpProgressBar.setTableDumpCurrentValue(workerIndex,
+                                                                schemaTableName.replaceAll("\"", ""),
                                                                 currentRow++);
+               throughputMeter.addRows(1);
+               pageRows++;
+
+               // Close the previous row's statement & setup the
+               // next as needed.
+               if (pendingRow)
+               {
+                  dumpWriter.append(";\n");
+                  dumpChunkOfData();
+
+                  keyStringStatement.delete(0, keyStringStatement.length());
+                  keyStringStatement.append(" WHERE ");
+
+                  dumpWriter.append(sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(Locale.ENGLISH));
+                  dumpWriter.append(sqlDataExportOptions.getType().toUpperCase(Locale.ENGLISH));
+
+                  if (sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(
+                         Locale.ENGLISH).equals("INSERT")
+                      || sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(
+                         Locale.ENGLISH).equals("REPLACE"))
+                     dumpWriter.append("INTO ");
+
+                  dumpWriter.append(schemaTableName + " SET ");
+               }
                columnNamesIterator = columnNameFields.iterator();
 
                // Cycle through each field and set value.
@@ -1254,8 +1478,8 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                   }
                   else
                   {
-                     dumpData = dumpData + identifierQuoteString + (tableColumnNames.get(field))
-                                + identifierQuoteString + "=";
+                     dumpWriter.append(identifierQuoteString + (tableColumnNames.get(field))
+                                       + identifierQuoteString + "=");
 
                      // Blob/Bytea/Binary data adding
                      if (Utils.isBlob(columnClass, columnTypeName)
@@ -1270,25 +1494,25 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                            // to convert these to MySQL compatible dump.
 
                            if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
-                              dumpData = dumpData + "E'";
+                              dumpWriter.append("E'");
                            else if (dataSourceType.equals(ConnectionManager.HSQL))
-                              dumpData = dumpData + "'";
+                              dumpWriter.append("'");
                            else if (dataSourceType.equals(ConnectionManager.HSQL2))
-                              dumpData = dumpData + "x'";
+                              dumpWriter.append("x'");
                            else if (dataSourceType.equals(ConnectionManager.ORACLE) && updateDump)
-                              dumpData = dumpData + "HEXTORAW('";
+                              dumpWriter.append("HEXTORAW('");
                            else if (dataSourceType.equals(ConnectionManager.SQLITE) && updateDump)
-                              dumpData = dumpData + "x'";
+                              dumpWriter.append("x'");
                            else if (dataSourceType.equals(ConnectionManager.DERBY) && updateDump)
-                              dumpData = dumpData + "CAST(X'";
+                              dumpWriter.append("CAST(X'");
                            else if (dataSourceType.equals(ConnectionManager.H2))
-                              dumpData = dumpData + "x'";
+                              dumpWriter.append("x'");
                            else
                            {
                               if (theBytes.length != 0)
-                                 dumpData = dumpData + "0x";
+                                 dumpWriter.append("0x");
                               else
-                                 dumpData = dumpData + "''";
+                                 dumpWriter.append("''");
                            }
 
                            // Go convert to hexadecimal/octal values
@@ -1296,13 +1520,13 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                            dumpBinaryData(theBytes, false);
                         }
                         else
-                           dumpData = dumpData + "NULL, ";
+                           dumpWriter.append("NULL, ");
                      }
                      // Normal field
                      else
                      {
                         // Setting Auto-Increment Fields
-                        if (currentTableTabPanel.getAutoIncrementHashMap()
+                        if (tableColumnMetaData.getAutoIncrementHashMap()
                               .containsKey(field)
                             && sqlDataExportOptions.getAutoIncrement())
                         {
@@ -1312,20 +1536,19 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                               tableName = (schemaTableName.substring(schemaTableName.indexOf(".") + 1)).replaceAll(
                                                                      identifierQuoteString, "");
 
-                              dumpData = dumpData + "nextval('" + schemaName + tableName + "_" + field
-                                         + "_seq\"'), ";
+                              dumpWriter.append("nextval('" + schemaName + tableName + "_" + field
+                                                + "_seq\"'), ");
                            }
                            else if (dataSourceType.equals(ConnectionManager.ORACLE))
                            {
-                              dumpData = dumpData
-                                         + identifierQuoteString
-                                         + currentTableTabPanel.getAutoIncrementHashMap().get(field)
-                                         + identifierQuoteString + ".NEXTVAL, ";
+                              dumpWriter.append(identifierQuoteString
+                                                + tableColumnMetaData.getAutoIncrementHashMap().get(field)
+                                                + identifierQuoteString + ".NEXTVAL, ");
                            }
                            else if (dataSourceType.equals(ConnectionManager.DERBY))
-                              dumpData = "DEFAULT, ";
+                              dumpWriter.append("DEFAULT, ");
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
 
                         // Setting TimeStamp Fields
@@ -1333,25 +1556,25 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                                  && sqlDataExportOptions.getTimeStamp())
                         {
                            if (columnTypeName.indexOf("_") != -1)
-                              dumpData = dumpData + "'{NOW()}'. ";
+                              dumpWriter.append("'{NOW()}'. ");
                            else
                            {
                               if (dataSourceType.equals(ConnectionManager.ORACLE))
-                                 dumpData = dumpData + "SYSTIMESTAMP, ";
+                                 dumpWriter.append("SYSTIMESTAMP, ");
                               else if (dataSourceType.equals(ConnectionManager.DERBY))
-                                 dumpData = dumpData + "CURRENT_TIMESTAMP, ";
+                                 dumpWriter.append("CURRENT_TIMESTAMP, ");
                               else if (dataSourceType.equals(ConnectionManager.SQLITE))
                               {
                                  if (columnSQLType == Types.VARCHAR)
-                                    dumpData = dumpData + "STRFTIME("
-                                               + "'%Y-%m-%d %H:%M:%f', 'now', 'localtime'), ";
+                                    dumpWriter.append("STRFTIME("
+                                                      + "'%Y-%m-%d %H:%M:%f', 'now', 'localtime'), ");
                                  else
-                                    dumpData = dumpData + "CAST("
-                                          + "(SELECT (julianday('now') - julianday('1970-01-01'))"
-                                          + "*24*60*60*1000) AS INTEGER)" + ", ";
+                                    dumpWriter.append("CAST("
+                                                      + "(SELECT (julianday('now') - julianday('1970-01-01'))"
+                                                      + "*24*60*60*1000) AS INTEGER)" + ", ");
                               }
                               else
-                                 dumpData = dumpData + "NOW(), ";
+                                 dumpWriter.append("NOW(), ");
                            }
                         }
                         
@@ -1365,10 +1588,10 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                            Object currentData = rs.getTimestamp(tableColumnNames.get(field));
                            
                            if (currentData != null)
-                              dumpData = dumpData + "TO_TIMESTAMP('" + currentData
-                                         + "', 'YYYY-MM-DD HH24:MI:SS:FF'), ";
+                              dumpWriter.append("TO_TIMESTAMP('" + currentData
+                                                + "', 'YYYY-MM-DD HH24:MI:SS:FF'), ");
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
 
                         // Setting Date Fields
@@ -1379,9 +1602,9 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                               java.sql.Date dateValue = rs.getDate(tableColumnNames.get(field));
                               
                               if (dateValue != null)
-                                 dumpData = dumpData + "TO_DATE('" + dateValue + "', 'YYYY-MM-DD'), ";
+                                 dumpWriter.append("TO_DATE('" + dateValue + "', 'YYYY-MM-DD'), ");
                               else
-                                 dumpData = dumpData + "NULL, ";   
+                                 dumpWriter.append("NULL, ");
                            }
                            else
                            {
@@ -1390,12 +1613,12 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                               if (dateString != null)
                               {
                                  if (Utils.isNotQuoted(columnClass, columnSQLType, columnTypeName))
-                                    dumpData = dumpData + addEscapes(dateString) + ", ";
+                                    dumpWriter.append(addEscapes(dateString) + ", ");
                                  else
-                                    dumpData = dumpData + "'" + addEscapes(dateString) + "', ";
+                                    dumpWriter.append("'" + addEscapes(dateString) + "', ");
                               }
                               else
-                                 dumpData = dumpData + "NULL, ";    
+                                 dumpWriter.append("NULL, ");
                            }
                         }
 
@@ -1410,12 +1633,12 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                            if (yearValue != null)
                            {
                               if (yearValue.length() > 4)
-                                 dumpData = dumpData + "'" + addEscapes(yearValue.substring(0, 4)) + "', ";
+                                 dumpWriter.append("'" + addEscapes(yearValue.substring(0, 4)) + "', ");
                               else
-                                 dumpData = dumpData + "'" + addEscapes(yearValue) + "', ";
+                                 dumpWriter.append("'" + addEscapes(yearValue) + "', ");
                            }
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
 
                         // Setting Bit Fields
@@ -1429,43 +1652,42 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                                   || dataSourceType.equals(ConnectionManager.HSQL2))
                               {
                                  if (columnTypeName.indexOf("_") != -1)
-                                    dumpData = dumpData + "'" + bitValue + "', ";
+                                    dumpWriter.append("'" + bitValue + "', ");
                                  else
-                                    dumpData = dumpData + "B'" + bitValue + "', ";
+                                    dumpWriter.append("B'" + bitValue + "', ");
                               }
                               else if (dataSourceType.equals(ConnectionManager.MYSQL)
                                     || dataSourceType.equals(ConnectionManager.MARIADB))
                               {
                                  String byteString = Byte.toString(rs.getByte(tableColumnNames.get(field)));
-                                 dumpData = dumpData
-                                            + "B'" + Integer.toBinaryString(Integer.parseInt(byteString))
-                                            + "', ";
+                                 dumpWriter.append("B'" + Integer.toBinaryString(Integer.parseInt(byteString))
+                                                   + "', ");
                               }
                               else if (dataSourceType.equals(ConnectionManager.DERBY))
                               {
-                                 dumpData = dumpData + "X'";
+                                 dumpWriter.append("X'");
                                  dumpBinaryData(rs.getBytes(tableColumnNames.get(field)), true);
                               }
                               else if (dataSourceType.equals(ConnectionManager.MSACCESS)
                                        || dataSourceType.equals(ConnectionManager.MSSQL))
                               {
-                                 dumpData = dumpData + "'" + bitValue + "', ";
+                                 dumpWriter.append("'" + bitValue + "', ");
                               }
                               else
                               {
                                  try
                                  {
-                                    dumpData = dumpData + "B'"
-                                               + Integer.toBinaryString(Integer.parseInt(bitValue)) + "', ";
+                                    dumpWriter.append("B'"
+                                                      + Integer.toBinaryString(Integer.parseInt(bitValue)) + "', ");
                                  }
                                  catch (NumberFormatException e)
                                  {
-                                    dumpData = dumpData + "B'0', ";
+                                    dumpWriter.append("B'0', ");
                                  }
                               }
                            }
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
 
                         // All other fields
@@ -1483,75 +1705,43 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
                            {
                               if (columnTypeName.equals("TIMESTAMPLTZ") &&
                                   dataSourceType.equals(ConnectionManager.ORACLE))
-                                 dumpData = dumpData + "TO_TIMESTAMP_TZ('" + contentString
-                                            + "', 'YYYY-MM-DD HH24:MI:SS TZH:TZM'), ";
+                                 dumpWriter.append("TO_TIMESTAMP_TZ('" + contentString
+                                                   + "', 'YYYY-MM-DD HH24:MI:SS TZH:TZM'), ");
                               
                               // Don't quote numbers.
                               else if (Utils.isNotQuoted(columnClass, columnSQLType, columnTypeName))
                               {
-                                 dumpData = dumpData + contentString + ", ";
+                                 dumpWriter.append(contentString + ", ");
                               }
                               
                               else
-                                 dumpData = dumpData + "'" + addEscapes(contentString + "") + "', ";
+                                 dumpWriter.append("'" + addEscapes(contentString + "") + "', ");
                            }
                            else
-                              dumpData = dumpData + "NULL, ";
+                              dumpWriter.append("NULL, ");
                         }
                      }
                   }
                }
 
-               // Creating end of extended SQL statement and
-               // setting up for the next as needed.
-
-               if (currentRow < rowsCount)
-               {
-                  dumpData = ((String) dumpData).substring(0, ((String) dumpData).length() - 2);
-
-                  if (updateDump && !keys.isEmpty())
-                     dumpData = (String) dumpData
-                                + keyStringStatement.delete((keyStringStatement.length() - 5),
-                                                             keyStringStatement.length())
-                                + ";\n";
-                  else
-                     dumpData = dumpData + (";\n");
+               // Creating end of extended SQL statement.
 
-                  dumpChunkOfData(dumpData);
-                  dumpData = "";
+               dumpWriter.trim(2);
 
-                  keyStringStatement.delete(0, keyStringStatement.length());
-                  keyStringStatement.append(" WHERE ");
-
-                  dumpData = dumpData
-                             + sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(Locale.ENGLISH);
-                  dumpData = dumpData + sqlDataExportOptions.getType().toUpperCase(Locale.ENGLISH);
-
-                  if (sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(
-                         Locale.ENGLISH).equals("INSERT")
-                      || sqlDataExportOptions.getInsertReplaceUpdate().toUpperCase(
-                         Locale.ENGLISH).equals("REPLACE"))
-                     dumpData = dumpData + "INTO ";
-
-                  dumpData = dumpData + schemaTableName + " SET ";
-               }
-               else
-               {
-                  if (updateDump)
-                     dumpData = ((String) dumpData).substring(0, ((String) dumpData).length() - 2)
-                                + keyStringStatement.delete((keyStringStatement.length() - 5),
-                                                             keyStringStatement.length());
-                  else
-                     dumpData = ((String) dumpData).substring(0, ((String) dumpData).length() - 2);
-               }
+               if (updateDump && !keys.isEmpty())
+                  dumpWriter.append(keyStringStatement.delete((keyStringStatement.length() - 5),
+                                                              keyStringStatement.length()));
+               pendingRow = true;
             }
-            currentTableIncrement += limitIncrement;  
+            currentTableIncrement += limitIncrement;
          }
-         while (currentTableIncrement < rowsCount && !databaseDumpProgressBar.isCanceled());
+         while (pageRows == limitIncrement && !dataSourceType.equals(ConnectionManager.MSACCESS)
+                && !databaseDumpProgressBar.isCanceled());
          
          // Closing out
          rs.close();
-         databaseDumpProgressBar.setTableDumpCurrentValue(schemaTableName.replaceAll("\"", ""), 0);
+         databaseDumpProgressBar.setTableDumpCurrentValue(workerIndex, schemaTableName.replaceAll("\"", ""),
+                                                          0);
       }
       catch (SQLException e)
       {
@@ -1566,129 +1756,92 @@ public class SQLDatabaseDumpThread extends SQLDump implements Runnable
    }
 
    //==============================================================
-   // Class method to get the table data row count
+   // Class method to set the worker's table progress task length
+   // to the table data row count. The estimate, if any, is set &
+   // the exact count taken in the background to update it once
+   // available, if the worker is still on the table.
    //==============================================================
 
-   private int getRowsCount(Connection dbConnection, String tableName) throws SQLException
+   private void startRowsCount(Connection dbConnection, final String tableName)
    {
       // Method Instances
-      String sqlStatementString;
-      Statement sqlStatement;
-      ResultSet rs;
+      int rowsCount;
       
-      // Setup
-      int rowCount = 0;
-      sqlStatement = null;
-      rs = null;
-
-      try
+      rowsCount = RowCountService.getEstimatedRowCount(dbConnection, dataSourceType, tableName);
+      databaseDumpProgressBar.setTableDumpTaskLength(workerIndex, Math.max(rowsCount, 0));
+      
+      stopRowsCount();
+      rowCountFuture = RowCountService.countRows(tableName, new RowCountListener()
       {
-         sqlStatement = dbConnection.createStatement();
-         sqlStatementString = "SELECT COUNT(*) FROM " + tableName;
-         // System.out.println(sqlStatementString);
+         public void rowCountAvailable(int rowCount)
+         {
+            if (tableName.equals(dbSchemaTableName) && !databaseDumpProgressBar.isCanceled())
+               databaseDumpProgressBar.setTableDumpTaskLength(workerIndex, rowCount);
+         }
+      });
+   }
 
-         rs = sqlStatement.executeQuery(sqlStatementString);
-         rs.next();
-         rowCount = rs.getInt(1);
+   //==============================================================
+   // Class method to cancel the background row count of the table,
+   // queued or running, once the table is finished.
+   //==============================================================
 
-         return rowCount;
-      }
-      catch (SQLException e)
+   private void stopRowsCount()
+   {
+      if (rowCountFuture != null)
       {
-         ConnectionManager.displaySQLErrors(e, "SQLDatabaseDumpThread getRowsCount()");
-         return rowCount;
-      }
-      finally
-      {
-         try
-         {
-            if (rs != null)
-               rs.close();
-         }
-         catch (SQLException sqle)
-         {
-            ConnectionManager.displaySQLErrors(sqle, "SQLDatabaseDumpThread getRowsCount()");
-         }
-         finally
-         {
-            if (sqlStatement != null)
-               sqlStatement.close();
-         }
+         rowCountFuture.cancel(false);
+         rowCountFuture = null;
       }
    }
 
    //==============================================================
-   // Class method to get the table data row count
+   // Class method to dump binary data as octal or hexadecimal
+   // directly into the dump writer.
    //==============================================================
 
    private void dumpBinaryData(byte[] theBytes, boolean derbyBit)
    {
-      // Class Method Instances
-      int b;
-      String hexadecimalString, octalString;
-      BufferedInputStream in;
-
-      // Otain byes in a stream and convert to
-      // hex for dumping.
+      // Obtain bytes and convert to octal/hex directly
+      // into the dump writer.
       if (theBytes != null)
       {
-         in = new BufferedInputStream(new ByteArrayInputStream(theBytes));
-
          try
          {
-            while ((b = in.read()) != -1)
-            {
-               // Dump as octal data.
-               if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
-               {
-                  octalString = Integer.toString(b, 8);
-                  if (octalString.length() == 1)
-                     octalString = "00" + octalString;
-                  if (octalString.length() > 1 && octalString.length() < 3)
-                     octalString = "0" + octalString;
-                  dumpData = dumpData + "\\\\" + octalString;
-                  dumpChunkOfData(dumpData);
-                  dumpData = "";
-               }
-               // Dump as hexadecimal data.
-               else
-               {
-                  hexadecimalString = Integer.toString(b, 16);
-                  if (hexadecimalString.length() < 2)
-                     hexadecimalString = "0" + hexadecimalString;
-                  if (hexadecimalString.length() > 2)
-                     hexadecimalString = hexadecimalString.substring(hexadecimalString.length() - 2);
-                  dumpData = dumpData + hexadecimalString;
-                  dumpChunkOfData(dumpData);
-                  dumpData = "";
-               }
-            }
+            // Dump as octal data.
+            if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
+               dumpWriter.appendOctal(theBytes);
+            // Dump as hexadecimal data.
+            else
+               dumpWriter.appendHex(theBytes);
+
             if (dataSourceType.equals(ConnectionManager.POSTGRESQL) ||
                 dataSourceType.indexOf(ConnectionManager.HSQL) != -1 ||
                 dataSourceType.equals(ConnectionManager.SQLITE) ||
                 dataSourceType.equals(ConnectionManager.H2))
-               dumpData = dumpData + "', ";
+               dumpWriter.append("', ");
             else if (dataSourceType.equals(ConnectionManager.DERBY))
             {
                if (!derbyBit)
-                  dumpData = dumpData + "' AS BLOB), ";
+                  dumpWriter.append("' AS BLOB), ");
                else
-                  dumpData = dumpData + "', ";
+                  dumpWriter.append("', ");
             }
             else if (dataSourceType.equals(ConnectionManager.ORACLE) &&
                      (updateDump || insertReplaceDump))
-               dumpData = dumpData + "'), ";
+               dumpWriter.append("'), ");
             else
-               dumpData = dumpData + ", ";
+               dumpWriter.append(", ");
          }
          catch (IOException e)
          {
-            String msg = "Unable to Create Buffered InputStream for Blob Data";
-            JOptionPane.showMessageDialog(null, msg, fileName, JOptionPane.ERROR_MESSAGE);
+            dumpWriter.reset();
+            String msg = "Error outputing Blob Data to: '" + fileName + "'.";
+            Utils.displayErrorMessage(msg, fileName);
             return;
          }
       }
       else
-         dumpData = dumpData + "NULL, ";
+         dumpWriter.append("NULL, ");
    }
 }
\ No newline at end of file
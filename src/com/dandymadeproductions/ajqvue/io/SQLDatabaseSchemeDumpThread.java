@@ -10,7 +10,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.4 06/06/2018
+// Version 1.5 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -41,6 +41,8 @@
 //         1.3 Changed/Updated Import for TableDefinitionGenerator Class.
 //         1.4 Method run() Removed Instance dbIdentifierQuoteString Since Code
 //             to Determine exportedTable Derived From Utils.getSchemaTableName().
+//         1.5 Progress Bar a ProgressIndicator From
+//             ProgressBar.createProgressIndicator(), Headless Safe.
 //                         
 //-----------------------------------------------------------------
 //                    danap@dandymadeproductions.com
@@ -54,6 +56,7 @@ import java.util.Iterator;
 
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
 import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
+import com.dandymadeproductions.ajqvue.utilities.ProgressIndicator;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 import com.dandymadeproductions.ajqvue.utilities.db.TableDefinitionGenerator;
 
@@ -64,13 +67,13 @@ import com.dandymadeproductions.ajqvue.utilities.db.TableDefinitionGenerator;
  * to prematurely terminate the dump.
  * 
  * @author Dana Proctor
- * @version 1.4 06/06/2018
+ * @version 1.5 10/18/2026
  */
 
 public class SQLDatabaseSchemeDumpThread extends SQLDump implements Runnable
 {
    // Class Instances.
-   private ProgressBar databaseDumpProgressBar;
+   private ProgressIndicator databaseDumpProgressBar;
 
    //==============================================================
    // SQLDatabaseSchemeDumpThread Constructor.
@@ -100,7 +103,7 @@ public class SQLDatabaseSchemeDumpThread extends SQLDump implements Runnable
 
       // Create a progress bar for giving the user a
       // visual and cancel ability.
-      databaseDumpProgressBar = new ProgressBar("SQL Database Scheme Dump");
+      databaseDumpProgressBar = ProgressBar.createProgressIndicator("SQL Database Scheme Dump");
 
       // Setup the dump Class and Header.
       dumpData = generateHeaders();
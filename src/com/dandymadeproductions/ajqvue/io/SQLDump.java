@@ -8,7 +8,7 @@
 //
 //=================================================================
 // Copyright (C) 2017 Dana M. Proctor
-// Version 1.3 08/25/2017
+// Version 1.4 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -35,6 +35,9 @@
 //         1.2 Method generateHeaders() Removed Semicolon, Properties for HSQL.
 //         1.3 Reverted v1.2, Multiple Databases Tag Properties on Connection
 //             URL, databaseName.
+//         1.4 Added Class Instance dumpWriter & Method dumpChunkOfData()
+//             Without Argument to Commit the Statement Collected in the
+//             DumpWriter. Alerts With Utils.displayErrorMessage().
 //                         
 //-----------------------------------------------------------------
 //                    danap@dandymadeproductions.com
@@ -47,24 +50,24 @@ import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
-import javax.swing.JOptionPane;
-
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionProperties;
+import com.dandymadeproductions.ajqvue.utilities.Utils;
 
 /**
  *    The SQLDump Class provides some common methods that are used by the
  * Ajqvue IO SQL Data Dump Threads.
  * 
  * @author Dana Proctor
- * @version 1.3 08/25/2017
+ * @version 1.4 10/18/2026
  */
 
 public class SQLDump
 {
    protected String fileName;
    protected BufferedOutputStream filebuff;
+   protected DumpWriter dumpWriter;
    
    //==============================================================
    // Class method for generating dump header info
@@ -168,7 +171,27 @@ public class SQLDump
       catch (IOException e)
       {
          String msg = "Error outputing data to: '" + fileName + "'.";
-         JOptionPane.showMessageDialog(null, msg, fileName, JOptionPane.ERROR_MESSAGE);
+         Utils.displayErrorMessage(msg, fileName);
+      }
+   }
+
+   //==============================================================
+   // Class Method to move the statement collected in the dump
+   // writer to its output buffer. Flushing is left to the writer
+   // so memory use stays fixed regardless of table size.
+   //==============================================================
+
+   protected void dumpChunkOfData()
+   {
+      try
+      {
+         dumpWriter.commit();
+      }
+      catch (IOException e)
+      {
+         dumpWriter.reset();
+         String msg = "Error outputing data to: '" + fileName + "'.";
+         Utils.displayErrorMessage(msg, fileName);
       }
    }
 }
\ No newline at end of file
@@ -0,0 +1,412 @@
+//=================================================================
+//                       SQLScriptReader
+//=================================================================
+//
+//    This class provides a streaming reader of the statements of
+// a SQL script, such as a SQL dump, that is aware of quotes,
+// comments, & dollar quoting across line breaks.
+//
+//                   << SQLScriptReader.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial SQLScriptReader Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.io;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ *    The SQLScriptReader class provides a streaming reader of the
+ * statements of a SQL script. Statements end with a semicolon that is
+ * outside of any single, double, or back quoted text, comment, or
+ * PostgreSQL dollar quoted body, so may span any number of lines.
+ * Comments are dropped, except line comments starting with the given
+ * marker which are returned as statements of their own. The raw lines
+ * following a statement, ie. the inline data of a COPY, may be read
+ * with readLine().
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class SQLScriptReader
+{
+   // Class Instances.
+   private Reader reader;
+   private char[] buffer;
+   private int bufferPosition;
+   private int bufferLength;
+   private boolean endOfFile;
+   private StringBuilder statement;
+   private StringBuilder comment;
+   private int lineNumber;
+   private boolean backslashEscapes;
+   private boolean dollarQuoting;
+   private String markerComment;
+
+   private static final int BUFFER_SIZE = 65536;
+
+   //==============================================================
+   // SQLScriptReader Constructor
+   //==============================================================
+
+   public SQLScriptReader(Reader reader, boolean backslashEscapes, boolean dollarQuoting,
+                          String markerComment)
+   {
+      this.reader = reader;
+      this.backslashEscapes = backslashEscapes;
+      this.dollarQuoting = dollarQuoting;
+      this.markerComment = markerComment;
+
+      buffer = new char[BUFFER_SIZE];
+      bufferPosition = 0;
+      bufferLength = 0;
+      endOfFile = false;
+      statement = new StringBuilder();
+      comment = new StringBuilder();
+      lineNumber = 1;
+   }
+
+   //==============================================================
+   // Class method to read the next statement, without its ending
+   // semicolon. Returns NULL once the script is exhausted.
+   //==============================================================
+
+   public String nextStatement() throws IOException
+   {
+      // Method Instances
+      int c;
+
+      statement.setLength(0);
+
+      while ((c = read()) != -1)
+      {
+         // End of statement.
+         if (c == ';')
+         {
+            if (isBlank(statement))
+            {
+               statement.setLength(0);
+               continue;
+            }
+            return statement.toString().trim();
+         }
+
+         // Quoted text & identifiers.
+         if (c == '\'')
+            readQuoted('\'', backslashEscapes || isEscapeStringPrefix());
+         else if (c == '"' || c == '`')
+            readQuoted((char) c, false);
+
+         // Line comment, dropped unless a marker.
+         else if (c == '-' && peek() == '-')
+         {
+            readLineComment();
+
+            if (markerComment != null && isBlank(statement)
+                && comment.toString().startsWith(markerComment))
+            {
+               statement.setLength(0);
+               return comment.toString().trim();
+            }
+            statement.append('\n');
+         }
+
+         // Block comment, dropped.
+         else if (c == '/' && peek() == '*')
+         {
+            read();
+            readBlockComment();
+            statement.append(' ');
+         }
+
+         // Dollar quoted body.
+         else if (c == '$' && dollarQuoting && !isIdentifierEnd())
+            readDollarQuoted();
+
+         else
+            statement.append((char) c);
+      }
+
+      // A final statement without a semicolon.
+      if (isBlank(statement))
+         return null;
+      else
+         return statement.toString().trim();
+   }
+
+   //==============================================================
+   // Class method to read the raw remainder of the current line, or
+   // the next line if the current one is finished. Returns NULL at
+   // the end of the script.
+   //==============================================================
+
+   public String readLine() throws IOException
+   {
+      // Method Instances
+      StringBuilder line;
+      int c;
+
+      if (peek() == -1)
+         return null;
+
+      line = new StringBuilder();
+
+      while ((c = read()) != -1 && c != '\n')
+         line.append((char) c);
+
+      if (line.length() > 0 && line.charAt(line.length() - 1) == '\r')
+         line.setLength(line.length() - 1);
+
+      return line.toString();
+   }
+
+   //==============================================================
+   // Class methods to read the quoted text, comments, and dollar
+   // quoted body of a statement.
+   //==============================================================
+
+   private void readQuoted(char quote, boolean escapes) throws IOException
+   {
+      // Method Instances
+      int c;
+
+      statement.append(quote);
+
+      while ((c = read()) != -1)
+      {
+         statement.append((char) c);
+
+         if (escapes && c == '\\')
+         {
+            if ((c = read()) == -1)
+               return;
+            statement.append((char) c);
+         }
+         else if (c == quote)
+         {
+            // A doubled quote is part of the text.
+            if (peek() == quote)
+               statement.append((char) read());
+            else
+               return;
+         }
+      }
+   }
+
+   private void readLineComment() throws IOException
+   {
+      // Method Instances
+      int c;
+
+      comment.setLength(0);
+      comment.append('-');
+
+      while ((c = peek()) != -1 && c != '\n')
+         comment.append((char) read());
+   }
+
+   private void readBlockComment() throws IOException
+   {
+      // Method Instances
+      int c;
+
+      while ((c = read()) != -1)
+      {
+         if (c == '*' && peek() == '/')
+         {
+            read();
+            return;
+         }
+      }
+   }
+
+   private void readDollarQuoted() throws IOException
+   {
+      // Method Instances
+      StringBuilder tag;
+      String delimiter;
+      int bodyStart;
+      int c;
+
+      // Collect the tag, $tag$ or $$. Anything else was just an
+      // ordinary dollar sign & identifier characters.
+
+      tag = new StringBuilder("$");
+
+      while ((c = peek()) != -1 && (Character.isLetterOrDigit(c) || c == '_'))
+         tag.append((char) read());
+
+      if (peek() != '$' || (tag.length() > 1 && Character.isDigit(tag.charAt(1))))
+      {
+         statement.append(tag);
+         return;
+      }
+      tag.append((char) read());
+      delimiter = tag.toString();
+      statement.append(delimiter);
+      bodyStart = statement.length();
+
+      // Body up to the closing tag.
+      while ((c = read()) != -1)
+      {
+         statement.append((char) c);
+
+         if (c == '$' && statement.length() - bodyStart >= delimiter.length()
+             && endsWith(statement, delimiter))
+            return;
+      }
+   }
+
+   private static boolean endsWith(StringBuilder content, String suffix)
+   {
+      // Method Instances
+      int offset;
+
+      offset = content.length() - suffix.length();
+
+      for (int i = 0; i < suffix.length(); i++)
+      {
+         if (content.charAt(offset + i) != suffix.charAt(i))
+            return false;
+      }
+      return true;
+   }
+
+   //==============================================================
+   // Class method to determine if the statement so far ends with an
+   // identifier character, so a dollar sign is part of the name.
+   //==============================================================
+
+   private boolean isIdentifierEnd()
+   {
+      // Method Instances
+      char c;
+
+      if (statement.length() == 0)
+         return false;
+
+      c = statement.charAt(statement.length() - 1);
+      return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+   }
+
+   //==============================================================
+   // Class method to determine if the statement so far ends with a
+   // PostgreSQL escape string prefix, E'...'.
+   //==============================================================
+
+   private boolean isEscapeStringPrefix()
+   {
+      // Method Instances
+      int length;
+      char c;
+
+      length = statement.length();
+
+      if (!dollarQuoting || length == 0
+          || (statement.charAt(length - 1) != 'E' && statement.charAt(length - 1) != 'e'))
+         return false;
+
+      if (length == 1)
+         return true;
+
+      c = statement.charAt(length - 2);
+      return !(Character.isLetterOrDigit(c) || c == '_' || c == '$');
+   }
+
+   private static boolean isBlank(StringBuilder content)
+   {
+      for (int i = 0; i < content.length(); i++)
+      {
+         if (!Character.isWhitespace(content.charAt(i)))
+            return false;
+      }
+      return true;
+   }
+
+   //==============================================================
+   // Class methods to read from the character buffer.
+   //==============================================================
+
+   private int read() throws IOException
+   {
+      // Method Instances
+      int c;
+
+      if (bufferPosition >= bufferLength && !fill())
+         return -1;
+
+      c = buffer[bufferPosition++];
+
+      if (c == '\n')
+         lineNumber++;
+
+      return c;
+   }
+
+   private int peek() throws IOException
+   {
+      if (bufferPosition >= bufferLength && !fill())
+         return -1;
+      return buffer[bufferPosition];
+   }
+
+   private boolean fill() throws IOException
+   {
+      // Method Instances
+      int count;
+
+      if (endOfFile)
+         return false;
+
+      bufferPosition = 0;
+      bufferLength = 0;
+
+      while ((count = reader.read(buffer, 0, buffer.length)) == 0)
+         continue;
+
+      if (count == -1)
+      {
+         endOfFile = true;
+         return false;
+      }
+      bufferLength = count;
+      return true;
+   }
+
+   //==============================================================
+   // Class method to get the current line number of the script.
+   //==============================================================
+
+   public int getLineNumber()
+   {
+      return lineNumber;
+   }
+}
@@ -11,7 +11,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2017 Dana M. Proctor
-// Version 1.0 09/18/2016
+// Version 1.1 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -33,6 +33,13 @@
 // also be included with the original copyright author.
 //=================================================================
 // Version 1.0 09/18/2016 Production WriteDataFile Class.
+//         1.1 10/18/2026 Class Instance fileStream Changed to
+//                        OutputStream, Opened via
+//                        DumpStreams.openOutput() for Gzip Compressed
+//                        Output to *.gz Files. Progress Bar a
+//                        ProgressIndicator From
+//                        ProgressBar.createProgressIndicator(),
+//                        Headless Safe.
 //
 //-----------------------------------------------------------------
 //                  danap@dandymadeproductions.com
@@ -41,13 +48,14 @@
 package com.dandymadeproductions.ajqvue.io;
 
 import java.io.BufferedOutputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import javax.swing.JOptionPane;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
+import com.dandymadeproductions.ajqvue.utilities.ProgressIndicator;
 
 /**
  *     The WriteDataFile class allows data in a selected database
@@ -56,7 +64,7 @@ import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
  * also provides a generic means to output byte[] data to a file.
  * 
  * @author Dana M. Proctor
- * @version 1.0 09/18/2018
+ * @version 1.1 10/18/2026
  */
 
 public class WriteDataFile
@@ -66,9 +74,9 @@ public class WriteDataFile
    // Writing of an Input File.
    // =================================================
 
-   FileOutputStream fileStream;
+   OutputStream fileStream;
    BufferedOutputStream filebuff;
-   ProgressBar dumpProgressBar;
+   ProgressIndicator dumpProgressBar;
 
    //==============================================================
    // Method for writing the file containing output data.
@@ -83,7 +91,7 @@ public class WriteDataFile
       {
          // Setting up OutputStream
          
-         fileStream = new FileOutputStream(outputFileString);
+         fileStream = DumpStreams.openOutput(outputFileString, false);
          filebuff = new BufferedOutputStream(fileStream);
 
          // Creating a dump dialog progress bar as needed
@@ -93,7 +101,7 @@ public class WriteDataFile
 
          if (showDumpProgressBar)
          {
-            dumpProgressBar = new ProgressBar("Writing to File: " + outputFileString);
+            dumpProgressBar = ProgressBar.createProgressIndicator("Writing to File: " + outputFileString);
             dumpProgressBar.setTaskLength(buf.length);
             dumpProgressBar.pack();
             dumpProgressBar.center();
@@ -151,7 +159,7 @@ public class WriteDataFile
             {
                if (Ajqvue.getDebug())
                   System.out.println("WriteDataFile writeDataFileText() \n"
-                                     + "Failed to Close FileOutputStream. " + ioe.toString());
+                                     + "Failed to Close OutputStream. " + ioe.toString());
             }     
          }
       }
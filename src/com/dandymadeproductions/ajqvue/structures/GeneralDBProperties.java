@@ -8,7 +8,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.0 09/18/2016
+// Version 1.1 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -30,6 +30,14 @@
 // also be included with the original copyright author.
 //=================================================================
 // Version 1.0 Production GeneralProperties Class.
+//         1.1 Added Class Instances poolEnabled, poolMaxSize,
+//             poolMaxIdleTime, poolMaxLifetime, poolBorrowTimeout,
+//             poolValidationTimeout, keysetPaging, dumpWorkers,
+//             transferQueueCapacity, transferWorkers, loadPartitions,
+//             loadPartitionModulus, searchWorkers, virtualScrolling,
+//             virtualCacheBlocks, schemaCache, schemaCacheTTL,
+//             tablePanelCacheLimit, tablePanelCacheSize, fetchSize, &
+//             slowQueryThreshold Along With Getters & Setters.
 //
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -46,7 +54,7 @@ import com.dandymadeproductions.ajqvue.gui.panels.GeneralPreferencesPanel;
  * application general database parameters properties storage.
  * 
  * @author Dana M. Proctor
- * @version 1.0 09/18/2016
+ * @version 1.1 10/18/2026
  */
 
 public class GeneralDBProperties
@@ -56,6 +64,27 @@ public class GeneralDBProperties
    private int limitIncrement;
    private boolean batchSizeEnabled;
    private int batchSize;
+   private boolean poolEnabled;
+   private int poolMaxSize;
+   private int poolMaxIdleTime;
+   private int poolMaxLifetime;
+   private int poolBorrowTimeout;
+   private int poolValidationTimeout;
+   private boolean keysetPaging;
+   private int dumpWorkers;
+   private int transferQueueCapacity;
+   private int transferWorkers;
+   private int loadPartitions;
+   private boolean loadPartitionModulus;
+   private int searchWorkers;
+   private boolean virtualScrolling;
+   private int virtualCacheBlocks;
+   private boolean schemaCache;
+   private int schemaCacheTTL;
+   private int tablePanelCacheLimit;
+   private int tablePanelCacheSize;
+   private int fetchSize;
+   private int slowQueryThreshold;
    
    private Preferences generalDBPreferences;
 
@@ -63,6 +92,27 @@ public class GeneralDBProperties
    public static final String LIMITINCREMENT = "LimitIncrement";
    public static final String BATCHSIZEENABLED = "BatchSizeEnabled";
    public static final String BATCHSIZE = "BatchSize";
+   public static final String POOLENABLED = "PoolEnabled";
+   public static final String POOLMAXSIZE = "PoolMaxSize";
+   public static final String POOLMAXIDLETIME = "PoolMaxIdleTime";
+   public static final String POOLMAXLIFETIME = "PoolMaxLifetime";
+   public static final String POOLBORROWTIMEOUT = "PoolBorrowTimeout";
+   public static final String POOLVALIDATIONTIMEOUT = "PoolValidationTimeout";
+   public static final String KEYSETPAGING = "KeysetPaging";
+   public static final String DUMPWORKERS = "DumpWorkers";
+   public static final String TRANSFERQUEUECAPACITY = "TransferQueueCapacity";
+   public static final String TRANSFERWORKERS = "TransferWorkers";
+   public static final String LOADPARTITIONS = "LoadPartitions";
+   public static final String LOADPARTITIONMODULUS = "LoadPartitionModulus";
+   public static final String SEARCHWORKERS = "SearchWorkers";
+   public static final String VIRTUALSCROLLING = "VirtualScrolling";
+   public static final String VIRTUALCACHEBLOCKS = "VirtualCacheBlocks";
+   public static final String SCHEMACACHE = "SchemaCache";
+   public static final String SCHEMACACHETTL = "SchemaCacheTTL";
+   public static final String TABLEPANELCACHELIMIT = "TablePanelCacheLimit";
+   public static final String TABLEPANELCACHESIZE = "TablePanelCacheSize";
+   public static final String FETCHSIZE = "FetchSize";
+   public static final String SLOWQUERYTHRESHOLD = "SlowQueryThreshold";
    
    //==============================================================
    // GeneralDBProperties Constructor
@@ -76,6 +126,27 @@ public class GeneralDBProperties
       limitIncrement = GeneralPreferencesPanel.DEFAULT_LIMIT_INCREMENT;
       batchSizeEnabled = GeneralPreferencesPanel.DEFAULT_BATCH_SIZE_ENABLED;
       batchSize = GeneralPreferencesPanel.DEFAULT_BATCH_SIZE;
+      poolEnabled = GeneralPreferencesPanel.DEFAULT_POOL_ENABLED;
+      poolMaxSize = GeneralPreferencesPanel.DEFAULT_POOL_MAX_SIZE;
+      poolMaxIdleTime = GeneralPreferencesPanel.DEFAULT_POOL_MAX_IDLE_TIME;
+      poolMaxLifetime = GeneralPreferencesPanel.DEFAULT_POOL_MAX_LIFETIME;
+      poolBorrowTimeout = GeneralPreferencesPanel.DEFAULT_POOL_BORROW_TIMEOUT;
+      poolValidationTimeout = GeneralPreferencesPanel.DEFAULT_POOL_VALIDATION_TIMEOUT;
+      keysetPaging = GeneralPreferencesPanel.DEFAULT_KEYSET_PAGING;
+      dumpWorkers = GeneralPreferencesPanel.DEFAULT_DUMP_WORKERS;
+      transferQueueCapacity = GeneralPreferencesPanel.DEFAULT_TRANSFER_QUEUE_CAPACITY;
+      transferWorkers = GeneralPreferencesPanel.DEFAULT_TRANSFER_WORKERS;
+      loadPartitions = GeneralPreferencesPanel.DEFAULT_LOAD_PARTITIONS;
+      loadPartitionModulus = GeneralPreferencesPanel.DEFAULT_LOAD_PARTITION_MODULUS;
+      searchWorkers = GeneralPreferencesPanel.DEFAULT_SEARCH_WORKERS;
+      virtualScrolling = GeneralPreferencesPanel.DEFAULT_VIRTUAL_SCROLLING;
+      virtualCacheBlocks = GeneralPreferencesPanel.DEFAULT_VIRTUAL_CACHE_BLOCKS;
+      schemaCache = GeneralPreferencesPanel.DEFAULT_SCHEMA_CACHE;
+      schemaCacheTTL = GeneralPreferencesPanel.DEFAULT_SCHEMA_CACHE_TTL;
+      tablePanelCacheLimit = GeneralPreferencesPanel.DEFAULT_TABLE_PANEL_CACHE_LIMIT;
+      tablePanelCacheSize = GeneralPreferencesPanel.DEFAULT_TABLE_PANEL_CACHE_SIZE;
+      fetchSize = GeneralPreferencesPanel.DEFAULT_FETCH_SIZE;
+      slowQueryThreshold = GeneralPreferencesPanel.DEFAULT_SLOW_QUERY_THRESHOLD;
       
       // Try to retrieve state from Preferences.
       try
@@ -90,6 +161,28 @@ public class GeneralDBProperties
          limitIncrement = generalDBPreferences.getInt(LIMITINCREMENT, limitIncrement);
          batchSizeEnabled = generalDBPreferences.getBoolean(BATCHSIZEENABLED, batchSizeEnabled);
          batchSize = generalDBPreferences.getInt(BATCHSIZE, batchSize);
+         poolEnabled = generalDBPreferences.getBoolean(POOLENABLED, poolEnabled);
+         poolMaxSize = generalDBPreferences.getInt(POOLMAXSIZE, poolMaxSize);
+         poolMaxIdleTime = generalDBPreferences.getInt(POOLMAXIDLETIME, poolMaxIdleTime);
+         poolMaxLifetime = generalDBPreferences.getInt(POOLMAXLIFETIME, poolMaxLifetime);
+         poolBorrowTimeout = generalDBPreferences.getInt(POOLBORROWTIMEOUT, poolBorrowTimeout);
+         poolValidationTimeout = generalDBPreferences.getInt(POOLVALIDATIONTIMEOUT,
+                                                             poolValidationTimeout);
+         keysetPaging = generalDBPreferences.getBoolean(KEYSETPAGING, keysetPaging);
+         dumpWorkers = generalDBPreferences.getInt(DUMPWORKERS, dumpWorkers);
+         transferQueueCapacity = generalDBPreferences.getInt(TRANSFERQUEUECAPACITY, transferQueueCapacity);
+         transferWorkers = generalDBPreferences.getInt(TRANSFERWORKERS, transferWorkers);
+         loadPartitions = generalDBPreferences.getInt(LOADPARTITIONS, loadPartitions);
+         loadPartitionModulus = generalDBPreferences.getBoolean(LOADPARTITIONMODULUS, loadPartitionModulus);
+         searchWorkers = generalDBPreferences.getInt(SEARCHWORKERS, searchWorkers);
+         virtualScrolling = generalDBPreferences.getBoolean(VIRTUALSCROLLING, virtualScrolling);
+         virtualCacheBlocks = generalDBPreferences.getInt(VIRTUALCACHEBLOCKS, virtualCacheBlocks);
+         schemaCache = generalDBPreferences.getBoolean(SCHEMACACHE, schemaCache);
+         schemaCacheTTL = generalDBPreferences.getInt(SCHEMACACHETTL, schemaCacheTTL);
+         tablePanelCacheLimit = generalDBPreferences.getInt(TABLEPANELCACHELIMIT, tablePanelCacheLimit);
+         tablePanelCacheSize = generalDBPreferences.getInt(TABLEPANELCACHESIZE, tablePanelCacheSize);
+         fetchSize = generalDBPreferences.getInt(FETCHSIZE, fetchSize);
+         slowQueryThreshold = generalDBPreferences.getInt(SLOWQUERYTHRESHOLD, slowQueryThreshold);
       }
       catch (NullPointerException npe){}
       catch (IllegalStateException ise){}
@@ -120,6 +213,111 @@ public class GeneralDBProperties
       return batchSize;
    }
    
+   public boolean getPoolEnabled()
+   {
+      return poolEnabled;
+   }
+   
+   public int getPoolMaxSize()
+   {
+      return poolMaxSize;
+   }
+   
+   public int getPoolMaxIdleTime()
+   {
+      return poolMaxIdleTime;
+   }
+   
+   public int getPoolMaxLifetime()
+   {
+      return poolMaxLifetime;
+   }
+   
+   public int getPoolBorrowTimeout()
+   {
+      return poolBorrowTimeout;
+   }
+   
+   public int getPoolValidationTimeout()
+   {
+      return poolValidationTimeout;
+   }
+   
+   public boolean getKeysetPaging()
+   {
+      return keysetPaging;
+   }
+   
+   public int getDumpWorkers()
+   {
+      return dumpWorkers;
+   }
+   
+   public int getTransferQueueCapacity()
+   {
+      return transferQueueCapacity;
+   }
+   
+   public int getTransferWorkers()
+   {
+      return transferWorkers;
+   }
+   
+   public int getLoadPartitions()
+   {
+      return loadPartitions;
+   }
+   
+   public boolean getLoadPartitionModulus()
+   {
+      return loadPartitionModulus;
+   }
+   
+   public int getSearchWorkers()
+   {
+      return searchWorkers;
+   }
+   
+   public boolean getVirtualScrolling()
+   {
+      return virtualScrolling;
+   }
+   
+   public int getVirtualCacheBlocks()
+   {
+      return virtualCacheBlocks;
+   }
+   
+   public boolean getSchemaCache()
+   {
+      return schemaCache;
+   }
+   
+   public int getSchemaCacheTTL()
+   {
+      return schemaCacheTTL;
+   }
+   
+   public int getTablePanelCacheLimit()
+   {
+      return tablePanelCacheLimit;
+   }
+   
+   public int getTablePanelCacheSize()
+   {
+      return tablePanelCacheSize;
+   }
+   
+   public int getFetchSize()
+   {
+      return fetchSize;
+   }
+   
+   public int getSlowQueryThreshold()
+   {
+      return slowQueryThreshold;
+   }
+   
    //==============================================================
    // Class methods to allow classes to set the data export
    // object components.
@@ -149,6 +347,132 @@ public class GeneralDBProperties
       savePreference(BATCHSIZE, value);
    }
    
+   public void setPoolEnabled(boolean value)
+   {
+      poolEnabled = value;
+      savePreference(POOLENABLED, value);
+   }
+   
+   public void setPoolMaxSize(int value)
+   {
+      poolMaxSize = value;
+      savePreference(POOLMAXSIZE, value);
+   }
+   
+   public void setPoolMaxIdleTime(int value)
+   {
+      poolMaxIdleTime = value;
+      savePreference(POOLMAXIDLETIME, value);
+   }
+   
+   public void setPoolMaxLifetime(int value)
+   {
+      poolMaxLifetime = value;
+      savePreference(POOLMAXLIFETIME, value);
+   }
+   
+   public void setPoolBorrowTimeout(int value)
+   {
+      poolBorrowTimeout = value;
+      savePreference(POOLBORROWTIMEOUT, value);
+   }
+   
+   public void setPoolValidationTimeout(int value)
+   {
+      poolValidationTimeout = value;
+      savePreference(POOLVALIDATIONTIMEOUT, value);
+   }
+   
+   public void setKeysetPaging(boolean value)
+   {
+      keysetPaging = value;
+      savePreference(KEYSETPAGING, value);
+   }
+   
+   public void setDumpWorkers(int value)
+   {
+      dumpWorkers = value;
+      savePreference(DUMPWORKERS, value);
+   }
+   
+   public void setTransferQueueCapacity(int value)
+   {
+      transferQueueCapacity = value;
+      savePreference(TRANSFERQUEUECAPACITY, value);
+   }
+   
+   public void setTransferWorkers(int value)
+   {
+      transferWorkers = value;
+      savePreference(TRANSFERWORKERS, value);
+   }
+   
+   public void setLoadPartitions(int value)
+   {
+      loadPartitions = value;
+      savePreference(LOADPARTITIONS, value);
+   }
+   
+   public void setLoadPartitionModulus(boolean value)
+   {
+      loadPartitionModulus = value;
+      savePreference(LOADPARTITIONMODULUS, value);
+   }
+   
+   public void setSearchWorkers(int value)
+   {
+      searchWorkers = value;
+      savePreference(SEARCHWORKERS, value);
+   }
+   
+   public void setVirtualScrolling(boolean value)
+   {
+      virtualScrolling = value;
+      savePreference(VIRTUALSCROLLING, value);
+   }
+   
+   public void setVirtualCacheBlocks(int value)
+   {
+      virtualCacheBlocks = value;
+      savePreference(VIRTUALCACHEBLOCKS, value);
+   }
+   
+   public void setSchemaCache(boolean value)
+   {
+      schemaCache = value;
+      savePreference(SCHEMACACHE, value);
+   }
+   
+   public void setSchemaCacheTTL(int value)
+   {
+      schemaCacheTTL = value;
+      savePreference(SCHEMACACHETTL, value);
+   }
+   
+   public void setTablePanelCacheLimit(int value)
+   {
+      tablePanelCacheLimit = value;
+      savePreference(TABLEPANELCACHELIMIT, value);
+   }
+   
+   public void setTablePanelCacheSize(int value)
+   {
+      tablePanelCacheSize = value;
+      savePreference(TABLEPANELCACHESIZE, value);
+   }
+   
+   public void setFetchSize(int value)
+   {
+      fetchSize = value;
+      savePreference(FETCHSIZE, value);
+   }
+   
+   public void setSlowQueryThreshold(int value)
+   {
+      slowQueryThreshold = value;
+      savePreference(SLOWQUERYTHRESHOLD, value);
+   }
+   
    //==============================================================
    // Class methods to try and save the preferences state. 
    //==============================================================
@@ -198,6 +522,27 @@ public class GeneralDBProperties
       parameters.append("[viewDataFormat = " + viewDateFormat + "]");
       parameters.append("[limitIncrement = " + limitIncrement + "]");
       parameters.append("[batchSize = " + batchSize + "]");
+      parameters.append("[poolEnabled = " + poolEnabled + "]");
+      parameters.append("[poolMaxSize = " + poolMaxSize + "]");
+      parameters.append("[poolMaxIdleTime = " + poolMaxIdleTime + "]");
+      parameters.append("[poolMaxLifetime = " + poolMaxLifetime + "]");
+      parameters.append("[poolBorrowTimeout = " + poolBorrowTimeout + "]");
+      parameters.append("[poolValidationTimeout = " + poolValidationTimeout + "]");
+      parameters.append("[keysetPaging = " + keysetPaging + "]");
+      parameters.append("[dumpWorkers = " + dumpWorkers + "]");
+      parameters.append("[transferQueueCapacity = " + transferQueueCapacity + "]");
+      parameters.append("[transferWorkers = " + transferWorkers + "]");
+      parameters.append("[loadPartitions = " + loadPartitions + "]");
+      parameters.append("[loadPartitionModulus = " + loadPartitionModulus + "]");
+      parameters.append("[searchWorkers = " + searchWorkers + "]");
+      parameters.append("[virtualScrolling = " + virtualScrolling + "]");
+      parameters.append("[virtualCacheBlocks = " + virtualCacheBlocks + "]");
+      parameters.append("[schemaCache = " + schemaCache + "]");
+      parameters.append("[schemaCacheTTL = " + schemaCacheTTL + "]");
+      parameters.append("[tablePanelCacheLimit = " + tablePanelCacheLimit + "]");
+      parameters.append("[tablePanelCacheSize = " + tablePanelCacheSize + "]");
+      parameters.append("[fetchSize = " + fetchSize + "]");
+      parameters.append("[slowQueryThreshold = " + slowQueryThreshold + "]");
 
       return parameters.toString();
    }
@@ -0,0 +1,429 @@
+//=================================================================
+//                        Columnar Page
+//=================================================================
+//
+//    This class provides a growable, column oriented store of the
+// rows of a summary table that keeps numeric and temporal values
+// in primitive arrays, formatting them only as they are viewed.
+//
+//                    << ColumnarPage.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial ColumnarPage Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+/**
+ *    The ColumnarPage class provides a growable, column oriented store
+ * of the rows of a summary table. LONG columns are held in a long[],
+ * DOUBLE & FLOAT columns in a double[], and TEMPORAL columns as epoch
+ * milliseconds in a long[] that are formatted with the column's
+ * formatter only when the value is obtained. OBJECT columns hold the
+ * values as given. SQL NULLs are kept in a bitmap per column. Rows
+ * are added by a single writer, then a page may be appended to
+ * another.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class ColumnarPage
+{
+   // Class Instances.
+   private int[] columnTypes;
+   private DateTimeFormatter[] formatters;
+   private long[][] longColumns;
+   private double[][] doubleColumns;
+   private Object[][] objectColumns;
+   private long[][] nullBits;
+   private int[] temporalLengths;
+   private int rowCount;
+   private int capacity;
+
+   public static final int OBJECT = 0;
+   public static final int LONG = 1;
+   public static final int DOUBLE = 2;
+   public static final int FLOAT = 3;
+   public static final int TEMPORAL = 4;
+
+   private static final int MINIMUM_CAPACITY = 16;
+
+   //==============================================================
+   // ColumnarPage Constructors
+   //==============================================================
+
+   public ColumnarPage(int columnCount)
+   {
+      this(new int[columnCount], new DateTimeFormatter[columnCount], MINIMUM_CAPACITY);
+   }
+
+   public ColumnarPage(int[] columnTypes, DateTimeFormatter[] formatters, int initialCapacity)
+   {
+      this.columnTypes = columnTypes.clone();
+      this.formatters = formatters.clone();
+
+      capacity = Math.max(MINIMUM_CAPACITY, initialCapacity);
+      rowCount = 0;
+
+      longColumns = new long[columnTypes.length][];
+      doubleColumns = new double[columnTypes.length][];
+      objectColumns = new Object[columnTypes.length][];
+      nullBits = new long[columnTypes.length][];
+      temporalLengths = new int[columnTypes.length];
+
+      for (int i = 0; i < columnTypes.length; i++)
+      {
+         if (columnTypes[i] == LONG || columnTypes[i] == TEMPORAL)
+            longColumns[i] = new long[capacity];
+         else if (columnTypes[i] == DOUBLE || columnTypes[i] == FLOAT)
+            doubleColumns[i] = new double[capacity];
+         else
+            objectColumns[i] = new Object[capacity];
+
+         nullBits[i] = new long[(capacity + 63) >> 6];
+         temporalLengths[i] = -1;
+      }
+   }
+
+   //==============================================================
+   // Class method to add an empty row, returning its index. The
+   // row's values are then set by column.
+   //==============================================================
+
+   public int addRow()
+   {
+      ensureCapacity(rowCount + 1);
+      return rowCount++;
+   }
+
+   //==============================================================
+   // Class methods to set the values of a row.
+   //==============================================================
+
+   public void setNull(int row, int column)
+   {
+      nullBits[column][row >> 6] |= 1L << row;
+
+      if (objectColumns[column] != null)
+         objectColumns[column][row] = null;
+   }
+
+   public void setLong(int row, int column, long value)
+   {
+      longColumns[column][row] = value;
+      nullBits[column][row >> 6] &= ~(1L << row);
+   }
+
+   public void setDouble(int row, int column, double value)
+   {
+      doubleColumns[column][row] = value;
+      nullBits[column][row >> 6] &= ~(1L << row);
+   }
+
+   public void setObject(int row, int column, Object value)
+   {
+      if (value == null)
+         setNull(row, column);
+      else
+      {
+         objectColumns[column][row] = value;
+         nullBits[column][row >> 6] &= ~(1L << row);
+      }
+   }
+
+   //==============================================================
+   // Class method to append the rows of another page with the same
+   // columns.
+   //==============================================================
+
+   public void append(ColumnarPage page)
+   {
+      // Method Instances
+      int start;
+
+      if (!Arrays.equals(page.columnTypes, columnTypes))
+         throw new IllegalArgumentException("Page Columns Do Not Match");
+
+      start = rowCount;
+      ensureCapacity(rowCount + page.rowCount);
+
+      for (int i = 0; i < columnTypes.length; i++)
+      {
+         if (longColumns[i] != null)
+            System.arraycopy(page.longColumns[i], 0, longColumns[i], start, page.rowCount);
+         else if (doubleColumns[i] != null)
+            System.arraycopy(page.doubleColumns[i], 0, doubleColumns[i], start, page.rowCount);
+         else
+            System.arraycopy(page.objectColumns[i], 0, objectColumns[i], start, page.rowCount);
+
+         for (int row = 0; row < page.rowCount; row++)
+         {
+            if (page.isNull(row, i))
+               nullBits[i][(start + row) >> 6] |= 1L << (start + row);
+         }
+      }
+      rowCount += page.rowCount;
+   }
+
+   //==============================================================
+   // Class method to grow the columns to hold the given number of
+   // rows.
+   //==============================================================
+
+   private void ensureCapacity(int rows)
+   {
+      // Method Instances
+      long[] longColumn;
+      double[] doubleColumn;
+      Object[] objectColumn;
+      long[] bits;
+
+      if (rows <= capacity)
+         return;
+
+      capacity = Math.max(rows, capacity + (capacity >> 1));
+
+      for (int i = 0; i < columnTypes.length; i++)
+      {
+         if (longColumns[i] != null)
+         {
+            longColumn = new long[capacity];
+            System.arraycopy(longColumns[i], 0, longColumn, 0, rowCount);
+            longColumns[i] = longColumn;
+         }
+         else if (doubleColumns[i] != null)
+         {
+            doubleColumn = new double[capacity];
+            System.arraycopy(doubleColumns[i], 0, doubleColumn, 0, rowCount);
+            doubleColumns[i] = doubleColumn;
+         }
+         else
+         {
+            objectColumn = new Object[capacity];
+            System.arraycopy(objectColumns[i], 0, objectColumn, 0, rowCount);
+            objectColumns[i] = objectColumn;
+         }
+
+         bits = new long[(capacity + 63) >> 6];
+         System.arraycopy(nullBits[i], 0, bits, 0, nullBits[i].length);
+         nullBits[i] = bits;
+      }
+   }
+
+   //==============================================================
+   // Class method to clear the rows, keeping the capacity.
+   //==============================================================
+
+   public void clear()
+   {
+      for (int i = 0; i < columnTypes.length; i++)
+      {
+         if (objectColumns[i] != null)
+            Arrays.fill(objectColumns[i], 0, rowCount, null);
+         Arrays.fill(nullBits[i], 0L);
+      }
+      rowCount = 0;
+   }
+
+   //==============================================================
+   // Class methods to obtain the page's size & column types.
+   //==============================================================
+
+   public int getRowCount()
+   {
+      return rowCount;
+   }
+
+   public int getColumnCount()
+   {
+      return columnTypes.length;
+   }
+
+   public int getColumnType(int column)
+   {
+      return columnTypes[column];
+   }
+
+   //==============================================================
+   // Class method to determine if a value is a SQL NULL.
+   //==============================================================
+
+   public boolean isNull(int row, int column)
+   {
+      return (nullBits[column][row >> 6] & (1L << row)) != 0;
+   }
+
+   //==============================================================
+   // Class method to obtain a value, boxed or formatted for viewing.
+   // A SQL NULL is returned as NULL.
+   //==============================================================
+
+   public Object getValueAt(int row, int column)
+   {
+      if (isNull(row, column))
+         return null;
+
+      switch (columnTypes[column])
+      {
+         case LONG:
+            return Long.valueOf(longColumns[column][row]);
+         case DOUBLE:
+            return Double.valueOf(doubleColumns[column][row]);
+         case FLOAT:
+            return Float.valueOf((float) doubleColumns[column][row]);
+         case TEMPORAL:
+            return formatters[column].format(Instant.ofEpochMilli(longColumns[column][row])
+                                                    .atZone(ZoneId.systemDefault()));
+         default:
+            return objectColumns[column][row];
+      }
+   }
+
+   //==============================================================
+   // Class method to obtain the viewed length of a value without
+   // keeping it. Temporal values of a column share one length.
+   //==============================================================
+
+   public int getDisplayLength(int row, int column)
+   {
+      // Method Instances
+      long value;
+      int length;
+
+      if (isNull(row, column))
+         return 0;
+
+      switch (columnTypes[column])
+      {
+         case LONG:
+            value = longColumns[column][row];
+            length = (value < 0) ? 2 : 1;
+
+            while ((value /= 10) != 0)
+               length++;
+            return length;
+         case TEMPORAL:
+            if (temporalLengths[column] == -1)
+               temporalLengths[column] = getValueAt(row, column).toString().length();
+            return temporalLengths[column];
+         default:
+            return String.valueOf(getValueAt(row, column)).length();
+      }
+   }
+
+   //==============================================================
+   // Class methods to compare the values of two rows in a column,
+   // the second row may be of another page with the same columns.
+   // NULLs are less than everything, numeric & temporal values are
+   // compared by value and all others as the TableSorter would,
+   // Comparables of the same class naturally, otherwise lexically.
+   //==============================================================
+
+   public int compare(int column, int row1, int row2)
+   {
+      return compare(column, row1, this, row2);
+   }
+
+   @SuppressWarnings("unchecked")
+   public int compare(int column, int row1, ColumnarPage page, int row2)
+   {
+      // Method Instances
+      boolean null1, null2;
+      Object value1, value2;
+
+      null1 = isNull(row1, column);
+      null2 = page.isNull(row2, column);
+
+      if (null1 || null2)
+         return (null1 == null2) ? 0 : (null1 ? -1 : 1);
+
+      if (columnTypes[column] != page.columnTypes[column])
+         return getValueAt(row1, column).toString().compareTo(page.getValueAt(row2, column).toString());
+
+      switch (columnTypes[column])
+      {
+         case LONG:
+         case TEMPORAL:
+            return Long.compare(longColumns[column][row1], page.longColumns[column][row2]);
+         case DOUBLE:
+         case FLOAT:
+            return Double.compare(doubleColumns[column][row1], page.doubleColumns[column][row2]);
+         default:
+            value1 = objectColumns[column][row1];
+            value2 = page.objectColumns[column][row2];
+
+            if (value1 instanceof Comparable && value1.getClass() == value2.getClass())
+               return ((Comparable<Object>) value1).compareTo(value2);
+            else
+               return value1.toString().compareTo(value2.toString());
+      }
+   }
+
+   //==============================================================
+   // Class method to obtain the approximate size, bytes, of the
+   // memory held by the page.
+   //==============================================================
+
+   public long getApproximateSize()
+   {
+      // Method Instances
+      long size;
+      Object value;
+
+      size = 64;
+
+      for (int i = 0; i < columnTypes.length; i++)
+      {
+         size += 16 + (8L * nullBits[i].length);
+
+         if (objectColumns[i] == null)
+            size += 16 + (8L * capacity);
+         else
+         {
+            size += 16 + (8L * capacity);
+
+            for (int row = 0; row < rowCount; row++)
+            {
+               value = objectColumns[i][row];
+
+               if (value instanceof String)
+                  size += 40 + (2L * ((String) value).length());
+               else if (value != null)
+                  size += 24;
+            }
+         }
+      }
+      return size;
+   }
+}
@@ -0,0 +1,241 @@
+//=================================================================
+//                     Columnar Table Model
+//=================================================================
+//
+//    This class provides a table model whose rows are held in a
+// ColumnarPage so numeric and temporal values are kept primitive
+// and only boxed or formatted as the cells are viewed.
+//
+//                 << ColumnarTableModel.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial ColumnarTableModel Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ *    The ColumnarTableModel class provides a table model whose rows are
+ * held in a ColumnarPage. SQL NULLs of the page are presented as the
+ * given null value. A page may be padded with blank rows to a row
+ * limit. The TableSorter compares the rows of the model directly from
+ * the page, by value, rather than through the cells.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class ColumnarTableModel extends AbstractTableModel
+{
+   // Class Instances.
+   private static final long serialVersionUID = 3378502915506470187L;
+   
+   private Object[] headers;
+   private transient ColumnarPage page;
+   private Object nullValue;
+   private int rowLimit;
+
+   //==============================================================
+   // ColumnarTableModel Constructors
+   //==============================================================
+
+   public ColumnarTableModel(Object nullValue)
+   {
+      this.nullValue = nullValue;
+      
+      headers = new Object[0];
+      page = new ColumnarPage(0);
+   }
+   
+   public ColumnarTableModel(ArrayList<String> headings, ColumnarPage tablePage, Object nullValue)
+   {
+      this.nullValue = nullValue;
+      
+      headers = headings.toArray();
+      page = (tablePage == null) ? new ColumnarPage(0) : tablePage;
+   }
+   
+   public ColumnarTableModel(ArrayList<String> headings, ColumnarPage tablePage, Object nullValue,
+                             int rowLimit)
+   {
+      this(headings, tablePage, nullValue);
+      
+      this.rowLimit = rowLimit;
+   }
+   
+   //==============================================================
+   // Class method to set the columns, headers & their storage, of
+   // the model. Any rows are cleared.
+   //==============================================================
+
+   public void setColumns(Object[] columnNames, int[] columnTypes, DateTimeFormatter[] formatters)
+   {
+      headers = columnNames.clone();
+      page = new ColumnarPage(columnTypes, formatters, 0);
+      fireTableStructureChanged();
+   }
+   
+   //==============================================================
+   // Class method to append the rows of a page, with the same
+   // columns, to the model.
+   //==============================================================
+
+   public void addPage(ColumnarPage rowsPage)
+   {
+      // Method Instances
+      int firstRow;
+      
+      if (rowsPage.getRowCount() == 0)
+         return;
+      
+      firstRow = page.getRowCount();
+      page.append(rowsPage);
+      fireTableRowsInserted(firstRow, page.getRowCount() - 1);
+   }
+   
+   //==============================================================
+   // Class method to replace the rows of the model with those of
+   // the given page, the model's columns unchanged.
+   //==============================================================
+
+   public void setValues(ColumnarPage tablePage)
+   {
+      page = (tablePage == null) ? new ColumnarPage(0) : tablePage;
+      fireTableDataChanged();
+   }
+   
+   //==============================================================
+   // Class method to clear the rows of the model.
+   //==============================================================
+
+   public void clear()
+   {
+      page.clear();
+      fireTableDataChanged();
+   }
+   
+   //==============================================================
+   // Required default method implementations.
+   //==============================================================
+
+   public String getColumnName(int column)
+   {
+      return headers[column].toString();
+   }
+   
+   public int getColumnCount()
+   {
+      return headers.length;
+   }
+   
+   public int getRowCount()
+   {
+      return Math.max(page.getRowCount(), rowLimit);
+   }
+   
+   public Object getValueAt(int row, int column)
+   {
+      // Method Instances
+      Object value;
+      
+      if (row >= page.getRowCount() || column >= page.getColumnCount())
+         return null;
+      
+      value = page.getValueAt(row, column);
+      
+      if (value == null)
+         return nullValue;
+      else
+         return value;
+   }
+   
+   //==============================================================
+   // Class method to return the class of a column, that of its
+   // first row's value. Numbers held primitive are displayed as
+   // text, as their content.
+   //==============================================================
+   
+   public Class<?> getColumnClass(int column)
+   {
+      // Method Instances
+      Object value;
+      
+      value = getValueAt(0, column);
+      
+      if (value == null || getColumnType(column) != ColumnarPage.OBJECT)
+         return String.class;
+      else
+         return value.getClass();
+   }
+   
+   //==============================================================
+   // Class method to return the storage type of a column's cells.
+   //==============================================================
+   
+   protected int getColumnType(int column)
+   {
+      if (column >= page.getColumnCount())
+         return ColumnarPage.OBJECT;
+      else
+         return page.getColumnType(column);
+   }
+   
+   //==============================================================
+   // Class method to compare the values of two rows in a column,
+   // the blank rows of a page less than those loaded.
+   //==============================================================
+
+   public int compare(int column, int row1, int row2)
+   {
+      // Method Instances
+      boolean blank1, blank2;
+      
+      blank1 = row1 >= page.getRowCount();
+      blank2 = row2 >= page.getRowCount();
+      
+      if (blank1 || blank2)
+         return (blank1 == blank2) ? 0 : (blank1 ? -1 : 1);
+      
+      return page.compare(column, row1, row2);
+   }
+   
+   //==============================================================
+   // Class method to obtain the approximate size, bytes, of the
+   // memory held by the model's rows.
+   //==============================================================
+
+   public long getApproximateSize()
+   {
+      return page.getApproximateSize();
+   }
+}
@@ -0,0 +1,144 @@
+//=================================================================
+//                      HeadlessProgressBar
+//=================================================================
+//
+//    This class provides the indication of the progress of a task
+// when there is no display for a ProgressBar frame, headless,
+// through a ProgressReporter.
+//
+//                  << HeadlessProgressBar.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial HeadlessProgressBar Class.
+//
+//-----------------------------------------------------------------
+//                danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities;
+
+/**
+ *    The HeadlessProgressBar class provides the indication of the
+ * progress of a task when there is no display for a ProgressBar
+ * frame, headless. Once made visible the progress is reported by
+ * a ProgressReporter, until disposed.
+ * 
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class HeadlessProgressBar implements ProgressIndicator
+{
+   // Class Instances
+   private String progressTitle;
+   private ProgressReporter progressReporter;
+   private int taskLength;
+   private volatile boolean taskCanceled;
+
+   //==============================================================
+   // HeadlessProgressBar Constructor.
+   //==============================================================
+
+   public HeadlessProgressBar(String progressTitle)
+   {
+      this.progressTitle = progressTitle;
+      taskCanceled = false;
+   }
+
+   //==============================================================
+   // Class Method to set the taskCanceled instance.
+   //==============================================================
+
+   public void setCanceled(boolean value)
+   {
+      taskCanceled = value;
+   }
+
+   //==============================================================
+   // Class Method to return the indication of the task being
+   // canceled.
+   //==============================================================
+
+   public boolean isCanceled()
+   {
+      return taskCanceled;
+   }
+
+   //==============================================================
+   // Class Method to set the current value of the task.
+   //==============================================================
+
+   public synchronized void setCurrentValue(int value)
+   {
+      if (progressReporter != null)
+         progressReporter.setCurrentValue(value);
+   }
+
+   //==============================================================
+   // Class Method to set the maximum value of the task.
+   //==============================================================
+
+   public synchronized void setTaskLength(int value)
+   {
+      taskLength = value;
+      
+      if (progressReporter != null)
+         progressReporter.setTaskLength(taskLength);
+   }
+
+   //==============================================================
+   // Class Methods of the frame, no operation.
+   //==============================================================
+
+   public void pack()
+   {
+      // No frame.
+   }
+   
+   public void center()
+   {
+      // No frame.
+   }
+
+   //==============================================================
+   // Class Methods to start reporting when made visible & report
+   // the end of the task when disposed.
+   //==============================================================
+
+   public synchronized void setVisible(boolean value)
+   {
+      if (value && progressReporter == null)
+      {
+         progressReporter = new ProgressReporter(progressTitle);
+         progressReporter.setTaskLength(taskLength);
+      }
+   }
+   
+   public synchronized void dispose()
+   {
+      if (progressReporter != null)
+         progressReporter.finish();
+   }
+}
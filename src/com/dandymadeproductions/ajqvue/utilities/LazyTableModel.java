@@ -0,0 +1,486 @@
+//=================================================================
+//                      Lazy Table Model
+//=================================================================
+//
+//    This class provides a windowed model for the TableTabPanels
+// summary table that presents all the rows of the current sort/
+// search, loading them in fixed size blocks in the background as
+// they are approached and keeping only a bounded number of the
+// blocks in memory.
+//
+//                   << LazyTableModel.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial LazyTableModel Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import com.dandymadeproductions.ajqvue.Ajqvue;
+
+/**
+ *    The LazyTableModel class provides a windowed model for the
+ * TableTabPanels summary table. The full row count of the current
+ * sort/search is presented to the table while rows are loaded by a
+ * TableBlockLoader in fixed size ColumnarPage blocks, on a background
+ * thread, as the rows being viewed approach them. Only the most
+ * recently used blocks are kept. Unloaded rows are returned as NULL,
+ * SQL NULLs as the given null value. When the row count is not known
+ * the model grows a block at a time until a short block marks the
+ * end of the data.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class LazyTableModel extends ColumnarTableModel
+{
+   // Class Instances.
+   private static final long serialVersionUID = 2640185591470863617L;
+
+   private transient TableBlockLoader blockLoader;
+   private transient ThreadPoolExecutor loadExecutor;
+   private LinkedHashMap<Integer, ColumnarPage> blocks;
+   private LinkedList<Integer> requestedBlocks;
+   private HashSet<Integer> pendingBlocks;
+   private Object nullValue;
+
+   private int blockSize;
+   private int maxBlocks;
+   private int rowCount;
+   private boolean rowCountKnown;
+   private int generation;
+
+   private static final int LOAD_THREAD_KEEP_ALIVE = 30;
+
+   //==============================================================
+   // LazyTableModel Constructor.
+   //==============================================================
+
+   public LazyTableModel(ArrayList<String> headings, ColumnarPage firstBlock, Object nullValue,
+                         int blockSize, int maxBlocks, TableBlockLoader blockLoader)
+   {
+      super(headings, null, nullValue);
+
+      this.nullValue = nullValue;
+      this.blockSize = Math.max(1, blockSize);
+      this.maxBlocks = Math.max(2, maxBlocks);
+      this.blockLoader = blockLoader;
+
+      blocks = new LinkedHashMap <Integer, ColumnarPage>(16, 0.75f, true)
+      {
+         private static final long serialVersionUID = -3402553981317458960L;
+
+         protected boolean removeEldestEntry(Map.Entry<Integer, ColumnarPage> eldest)
+         {
+            return size() > LazyTableModel.this.maxBlocks;
+         }
+      };
+      requestedBlocks = new LinkedList <Integer>();
+      pendingBlocks = new HashSet <Integer>();
+
+      // Single loader, idle thread released.
+      loadExecutor = new ThreadPoolExecutor(0, 1, LOAD_THREAD_KEEP_ALIVE, TimeUnit.SECONDS,
+                                            new LinkedBlockingQueue<Runnable>(), new ThreadFactory()
+      {
+         public Thread newThread(Runnable runnable)
+         {
+            Thread loadThread = new Thread(runnable, "LazyTableModel");
+            loadThread.setDaemon(true);
+            return loadThread;
+         }
+      });
+
+      generation = 0;
+      reset(firstBlock);
+   }
+
+   //==============================================================
+   // Class methods to return the row count & a cell value. A row
+   // not loaded is requested along with its neighboring block as
+   // the row nears the edge of its own block.
+   //==============================================================
+
+   public synchronized int getRowCount()
+   {
+      return rowCount;
+   }
+
+   public synchronized Object getValueAt(int row, int column)
+   {
+      // Method Instances
+      ColumnarPage block;
+      Object value;
+      int blockIndex;
+      int blockRow;
+
+      if (row < 0 || row >= rowCount)
+         return null;
+
+      blockIndex = row / blockSize;
+      blockRow = row % blockSize;
+      block = blocks.get(Integer.valueOf(blockIndex));
+
+      if (blockRow < blockSize / 4 && blockIndex > 0)
+         requestBlock(blockIndex - 1);
+      else if (blockRow >= blockSize - (blockSize / 4))
+         requestBlock(blockIndex + 1);
+
+      if (block == null)
+      {
+         requestBlock(blockIndex);
+         return null;
+      }
+
+      if (blockRow >= block.getRowCount() || column >= block.getColumnCount())
+         return null;
+
+      value = block.getValueAt(blockRow, column);
+
+      if (value == null)
+         return nullValue;
+      else
+         return value;
+   }
+
+   //==============================================================
+   // Class method to compare the values of two rows in a column,
+   // rows not loaded being less than those that are.
+   //==============================================================
+
+   public synchronized int compare(int column, int row1, int row2)
+   {
+      // Method Instances
+      ColumnarPage block1, block2;
+
+      block1 = getLoadedBlock(row1, column);
+      block2 = getLoadedBlock(row2, column);
+
+      if (block1 == null || block2 == null)
+         return (block1 == block2) ? 0 : ((block1 == null) ? -1 : 1);
+
+      return block1.compare(column, row1 % blockSize, block2, row2 % blockSize);
+   }
+
+   private ColumnarPage getLoadedBlock(int row, int column)
+   {
+      // Method Instances
+      ColumnarPage block;
+
+      block = blocks.get(Integer.valueOf(row / blockSize));
+
+      if (block == null || (row % blockSize) >= block.getRowCount() || column >= block.getColumnCount())
+         return null;
+      else
+         return block;
+   }
+
+   //==============================================================
+   // Class method to return the storage type of a column's cells,
+   // that of the first block.
+   //==============================================================
+
+   protected synchronized int getColumnType(int column)
+   {
+      // Method Instances
+      ColumnarPage block;
+
+      block = blocks.get(Integer.valueOf(0));
+
+      if (block == null || column >= block.getColumnCount())
+         return ColumnarPage.OBJECT;
+      else
+         return block.getColumnType(column);
+   }
+
+   //==============================================================
+   // Class method to update the entire table. The given data is
+   // taken as the first block of a new sort/search, all other
+   // blocks being discarded.
+   //==============================================================
+
+   public void setValues(ColumnarPage tablePage)
+   {
+      reset(tablePage);
+      fireTableDataChanged();
+   }
+
+   //==============================================================
+   // Class method to discard all blocks, with any loads in flight,
+   // & begin again from the given first block.
+   //==============================================================
+
+   private void reset(ColumnarPage firstBlock)
+   {
+      // Method Instances
+      final int resetGeneration;
+      ColumnarPage block;
+
+      block = (firstBlock == null) ? new ColumnarPage(0) : firstBlock;
+
+      synchronized (this)
+      {
+         generation++;
+         resetGeneration = generation;
+
+         blocks.clear();
+         requestedBlocks.clear();
+         pendingBlocks.clear();
+         blocks.put(Integer.valueOf(0), block);
+
+         // A short first block is all the data.
+         rowCountKnown = (block.getRowCount() < blockSize);
+         rowCount = rowCountKnown ? block.getRowCount() : (2 * blockSize);
+      }
+
+      if (rowCountKnown)
+         return;
+
+      // Counted separately so not to hold up the block loads.
+      Thread rowCountThread = new Thread(new Runnable()
+      {
+         public void run()
+         {
+            final int count = blockLoader.loadRowCount();
+
+            if (count < 0)
+               return;
+
+            SwingUtilities.invokeLater(new Runnable()
+            {
+               public void run()
+               {
+                  setRowCount(resetGeneration, count, true);
+               }
+            });
+         }
+      }, "LazyTableModel.rowCountThread");
+      rowCountThread.setDaemon(true);
+      rowCountThread.start();
+   }
+
+   //==============================================================
+   // Class method to queue the load of a block. The most recent
+   // requests are loaded first & those no longer near the rows
+   // being viewed are dropped once more than the number of blocks
+   // kept are waiting.
+   //==============================================================
+
+   private void requestBlock(int blockIndex)
+   {
+      // Method Instances
+      Integer block;
+
+      if (blockIndex < 0 || (blockIndex * blockSize) >= rowCount)
+         return;
+
+      block = Integer.valueOf(blockIndex);
+
+      if (blocks.containsKey(block) || pendingBlocks.contains(block))
+         return;
+
+      pendingBlocks.add(block);
+      requestedBlocks.addFirst(block);
+
+      if (requestedBlocks.size() > maxBlocks)
+         pendingBlocks.remove(requestedBlocks.removeLast());
+
+      loadExecutor.execute(new BlockLoad(generation));
+   }
+
+   //==============================================================
+   // Class method to store a loaded block, adjusting the row count
+   // when the block marks the end of the data.
+   //==============================================================
+
+   private void blockLoaded(int loadGeneration, int blockIndex, ColumnarPage block)
+   {
+      // Method Instances
+      int endRow;
+
+      synchronized (this)
+      {
+         if (loadGeneration != generation)
+            return;
+
+         pendingBlocks.remove(Integer.valueOf(blockIndex));
+
+         if (block == null)
+            return;
+
+         blocks.put(Integer.valueOf(blockIndex), block);
+      }
+
+      endRow = (blockIndex * blockSize) + block.getRowCount();
+
+      if (block.getRowCount() < blockSize)
+         setRowCount(loadGeneration, endRow, true);
+      else if (!rowCountKnown)
+         setRowCount(loadGeneration, endRow + blockSize, false);
+
+      endRow = Math.min(endRow, getRowCount());
+
+      if (endRow > blockIndex * blockSize)
+         fireTableRowsUpdated(blockIndex * blockSize, endRow - 1);
+   }
+
+   //==============================================================
+   // Class method to change the row count, only growing it while
+   // the count is being estimated.
+   //==============================================================
+
+   private void setRowCount(int countGeneration, int count, boolean known)
+   {
+      // Method Instances
+      int oldRowCount;
+
+      synchronized (this)
+      {
+         if (countGeneration != generation || (rowCountKnown && !known)
+             || (!known && count <= rowCount))
+            return;
+
+         oldRowCount = rowCount;
+         rowCount = count;
+         rowCountKnown = rowCountKnown || known;
+      }
+
+      if (count > oldRowCount)
+         fireTableRowsInserted(oldRowCount, count - 1);
+      else if (count < oldRowCount)
+         fireTableRowsDeleted(count, oldRowCount - 1);
+   }
+
+   //==============================================================
+   // Class method to obtain the block size & whether the row count
+   // is known rather than estimated.
+   //==============================================================
+
+   public int getBlockSize()
+   {
+      return blockSize;
+   }
+
+   public synchronized boolean isRowCountKnown()
+   {
+      return rowCountKnown;
+   }
+
+   //==============================================================
+   // Class method to obtain the approximate size, bytes, of the
+   // memory held by the loaded blocks.
+   //==============================================================
+
+   public synchronized long getApproximateSize()
+   {
+      // Method Instances
+      long size;
+
+      size = 0;
+      for (ColumnarPage block : blocks.values())
+         size += block.getApproximateSize();
+
+      return size;
+   }
+
+   //==============================================================
+   // Class method to stop any further loading when the model is
+   // no longer used.
+   //==============================================================
+
+   public void close()
+   {
+      synchronized (this)
+      {
+         generation++;
+         requestedBlocks.clear();
+         pendingBlocks.clear();
+      }
+      loadExecutor.shutdownNow();
+   }
+
+   //==============================================================
+   // Inner class to load the most recently requested block.
+   //==============================================================
+
+   private class BlockLoad implements Runnable
+   {
+      private int loadGeneration;
+
+      BlockLoad(int loadGeneration)
+      {
+         this.loadGeneration = loadGeneration;
+      }
+
+      public void run()
+      {
+         // Method Instances
+         final Integer blockIndex;
+         final ColumnarPage block;
+
+         synchronized (LazyTableModel.this)
+         {
+            if (loadGeneration != generation)
+               return;
+
+            blockIndex = requestedBlocks.pollFirst();
+         }
+
+         // Dropped request.
+         if (blockIndex == null)
+            return;
+
+         if (Ajqvue.getDebug())
+            System.out.println("LazyTableModel loading block " + blockIndex + " rows "
+                               + (blockIndex.intValue() * blockSize) + " - "
+                               + ((blockIndex.intValue() + 1) * blockSize - 1));
+
+         block = blockLoader.loadBlock(blockIndex.intValue() * blockSize, blockSize);
+
+         SwingUtilities.invokeLater(new Runnable()
+         {
+            public void run()
+            {
+               blockLoaded(loadGeneration, blockIndex.intValue(), block);
+            }
+         });
+      }
+   }
+}
@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.0 09/17/2016
+// Version 1.1 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -31,6 +31,9 @@
 // also be included with the original copyright author.
 //=================================================================
 // Version 1.0 Production ProgressBar Class.
+//         1.1 Implements ProgressIndicator. Class Instance
+//             taskCanceled volatile. Added Static Method
+//             createProgressIndicator().
 //
 //-----------------------------------------------------------------
 //                danap@dandymadeproductions.com
@@ -40,6 +43,7 @@ package com.dandymadeproductions.ajqvue.utilities;
 
 import java.awt.BorderLayout;
 import java.awt.Dimension;
+import java.awt.GraphicsEnvironment;
 import java.awt.Toolkit;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -59,10 +63,10 @@ import com.dandymadeproductions.ajqvue.Ajqvue;
  * create a basic independent progress bar with a cancel button.
  * 
  * @author Dana M. Proctor
- * @version 1.0 09/17/2016
+ * @version 1.1 10/18/2026
  */
 
-public class ProgressBar extends JFrame implements ActionListener
+public class ProgressBar extends JFrame implements ActionListener, ProgressIndicator
 {
    // Class Instances
    private static final long serialVersionUID = -3850262903856481389L;
@@ -71,7 +75,7 @@ public class ProgressBar extends JFrame implements ActionListener
    private JProgressBar progressBar;
    private JButton cancelButton;
    private int taskLength;
-   private boolean taskCanceled;
+   private volatile boolean taskCanceled;
 
    //==============================================================
    // ProgressBar Constructor.
@@ -119,6 +123,19 @@ public class ProgressBar extends JFrame implements ActionListener
       taskCanceled = false;
    }
 
+   //==============================================================
+   // Class Method to create the progress indicator for a task, a
+   // ProgressBar frame, or headless a HeadlessProgressBar.
+   //==============================================================
+
+   public static ProgressIndicator createProgressIndicator(String progressTitle)
+   {
+      if (GraphicsEnvironment.isHeadless())
+         return new HeadlessProgressBar(progressTitle);
+      else
+         return new ProgressBar(progressTitle);
+   }
+
    //==============================================================
    // ActionEvent Listener method for detecting the inputs
    // from the panel and taking the appropriate action.
@@ -0,0 +1,69 @@
+//=================================================================
+//                       ProgressIndicator
+//=================================================================
+//
+//    This class provides the interface for indicating the progress
+// of a task, with a display by a ProgressBar frame, or headless by
+// a HeadlessProgressBar.
+//
+//                   << ProgressIndicator.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial ProgressIndicator Interface.
+//
+//-----------------------------------------------------------------
+//                danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities;
+
+/**
+ *    The ProgressIndicator interface provides the methods for
+ * indicating the progress of a task, with a display by a ProgressBar
+ * frame, or headless by a HeadlessProgressBar. Instances are created
+ * by ProgressBar.createProgressIndicator().
+ * 
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public interface ProgressIndicator
+{
+   void setCanceled(boolean value);
+   
+   boolean isCanceled();
+   
+   void setCurrentValue(int value);
+   
+   void setTaskLength(int value);
+   
+   void pack();
+   
+   void center();
+   
+   void setVisible(boolean value);
+   
+   void dispose();
+}
@@ -0,0 +1,200 @@
+//=================================================================
+//                       ProgressReporter
+//=================================================================
+//
+//    This class provides the reporting of the progress of a task,
+// to the console or a logger, when there is no display for the
+// progress bar frames, headless.
+//
+//                   << ProgressReporter.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial ProgressReporter Class.
+//
+//-----------------------------------------------------------------
+//                danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ *    The ProgressReporter class provides the reporting of the progress
+ * of a task, to the console or a logger, when there is no display for
+ * the progress bar frames, headless. Reports are limited to one each
+ * report interval, along with the start & end of the task.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class ProgressReporter
+{
+   // Class Instances
+   private String taskTitle;
+   private String itemName;
+   private int taskLength;
+   private int currentValue;
+   private long startTime;
+   private long lastReportTime;
+   private boolean finished;
+
+   public static final String CONSOLE = "console";
+   public static final String LOG = "log";
+   public static final String NONE = "none";
+
+   private static volatile String reportMode = CONSOLE;
+   private static volatile long reportInterval = 5000;
+   private static final Logger progressLogger = Logger.getLogger("com.dandymadeproductions.ajqvue");
+
+   //==============================================================
+   // ProgressReporter Constructor.
+   //==============================================================
+
+   public ProgressReporter(String taskTitle)
+   {
+      this.taskTitle = taskTitle;
+
+      itemName = "";
+      taskLength = 0;
+      currentValue = 0;
+      startTime = System.currentTimeMillis();
+      lastReportTime = startTime;
+      finished = false;
+
+      report(taskTitle + ": Started");
+   }
+
+   //==============================================================
+   // Class Method to set the maximum value of the task.
+   //==============================================================
+
+   public synchronized void setTaskLength(int value)
+   {
+      taskLength = value;
+   }
+
+   //==============================================================
+   // Class Methods to set the current value of the task, & item,
+   // reporting when the interval has passed.
+   //==============================================================
+
+   public void setCurrentValue(int value)
+   {
+      setCurrentValue(itemName, value);
+   }
+
+   public synchronized void setCurrentValue(String itemName, int value)
+   {
+      // Method Instances
+      long currentTime;
+
+      this.itemName = itemName;
+      currentValue = value;
+
+      currentTime = System.currentTimeMillis();
+
+      if (currentTime - lastReportTime >= reportInterval)
+      {
+         lastReportTime = currentTime;
+         report(taskTitle + ": " + getProgressString());
+      }
+   }
+
+   //==============================================================
+   // Class Method to report the end of the task, once.
+   //==============================================================
+
+   public synchronized void finish()
+   {
+      if (finished)
+         return;
+
+      finished = true;
+      report(taskTitle + ": Finished " + getProgressString()
+             + " in " + ((System.currentTimeMillis() - startTime) / 1000.0) + "s");
+   }
+
+   //==============================================================
+   // Class Method to create the progress, value of length, item.
+   //==============================================================
+
+   private String getProgressString()
+   {
+      // Method Instances
+      StringBuilder progressString;
+
+      progressString = new StringBuilder();
+      progressString.append(currentValue);
+
+      if (taskLength > 0)
+      {
+         progressString.append("/" + taskLength);
+         progressString.append(" (" + (int) (100L * currentValue / taskLength) + "%)");
+      }
+
+      if (itemName != null && !itemName.isEmpty())
+         progressString.append(" " + itemName);
+
+      return progressString.toString();
+   }
+
+   //==============================================================
+   // Class Method to output a report as the mode selected.
+   //==============================================================
+
+   private static void report(String message)
+   {
+      if (reportMode.equals(CONSOLE))
+         System.out.println(message);
+      else if (reportMode.equals(LOG))
+         progressLogger.log(Level.INFO, message);
+   }
+
+   //==============================================================
+   // Class Methods to get/set the report mode, console, log, or
+   // none, & the interval between reports in milliseconds.
+   //==============================================================
+
+   public static String getReportMode()
+   {
+      return reportMode;
+   }
+
+   public static void setReportMode(String mode)
+   {
+      if (mode.equals(LOG) || mode.equals(NONE))
+         reportMode = mode;
+      else
+         reportMode = CONSOLE;
+   }
+
+   public static void setReportInterval(long milliseconds)
+   {
+      reportInterval = Math.max(0, milliseconds);
+   }
+}
@@ -0,0 +1,203 @@
+//=================================================================
+//             SQLDatabaseDump_HeadlessProgressBar
+//=================================================================
+//
+//    This class provides the indication of the progress of a SQL
+// database dump when there is no display for a SQLDatabaseDump_
+// ProgressBar frame, headless, through a ProgressReporter.
+//
+//         << SQLDatabaseDump_HeadlessProgressBar.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial SQLDatabaseDump_HeadlessProgressBar Class.
+//
+//-----------------------------------------------------------------
+//                danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities;
+
+/**
+ *    The SQLDatabaseDump_HeadlessProgressBar class provides the
+ * indication of the progress of a SQL database dump when there is no
+ * display for a SQLDatabaseDump_ProgressBar frame, headless. Once made
+ * visible the tables dumped, & table being dumped, are reported by a
+ * ProgressReporter, until disposed.
+ * 
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class SQLDatabaseDump_HeadlessProgressBar implements SQLDatabaseDump_ProgressIndicator
+{
+   // Class Instances
+   private String progressTitle;
+   private ProgressReporter progressReporter;
+   
+   private int databaseTaskLength;
+   private int databaseCurrentValue;
+   private int[] workerTaskLengths;
+   private volatile boolean taskCanceled;
+
+   //==============================================================
+   // SQLDatabaseDump_HeadlessProgressBar Constructor.
+   //==============================================================
+
+   public SQLDatabaseDump_HeadlessProgressBar(String progressTitle)
+   {
+      this.progressTitle = progressTitle;
+      
+      workerTaskLengths = new int[1];
+      taskCanceled = false;
+   }
+
+   //==============================================================
+   // Class Method to set the taskCanceled instance.
+   //==============================================================
+
+   public void setCanceled(boolean value)
+   {
+      taskCanceled = value;
+   }
+
+   //==============================================================
+   // Class Method to return the indication of the dump being
+   // canceled.
+   //==============================================================
+
+   public boolean isCanceled()
+   {
+      return taskCanceled;
+   }
+
+   //==============================================================
+   // Class Method to set the database dump current value.
+   //==============================================================
+
+   public synchronized void setDatabaseDumpCurrentValue(int value)
+   {
+      databaseCurrentValue = value;
+      
+      if (progressReporter != null)
+         progressReporter.setCurrentValue(value);
+   }
+   
+   //==============================================================
+   // Class Method to set the table dump current value, reported
+   // only as the table being dumped.
+   //==============================================================
+
+   public synchronized void setTableDumpCurrentValue(String tableName, int value)
+   {
+      if (progressReporter != null)
+         progressReporter.setCurrentValue(tableName, databaseCurrentValue);
+   }
+
+   //==============================================================
+   // Class Methods to set the maximum value of the database &
+   // table dumps.
+   //==============================================================
+
+   public synchronized void setDatabaseDumpTaskLength(int value)
+   {
+      databaseTaskLength = value;
+      
+      if (progressReporter != null)
+         progressReporter.setTaskLength(databaseTaskLength);
+   }
+   
+   public void setTableDumpTaskLength(int value)
+   {
+      // Not reported.
+   }
+
+   //==============================================================
+   // Class Methods to set the number of workers & a worker's table
+   // dump task length & current value, the table being dumped
+   // reported with the active workers.
+   //==============================================================
+
+   public synchronized void setWorkerCount(int value)
+   {
+      workerTaskLengths = new int[Math.max(1, value)];
+   }
+
+   public synchronized void setTableDumpTaskLength(int worker, int value)
+   {
+      workerTaskLengths[worker] = value;
+   }
+
+   public synchronized void setTableDumpCurrentValue(int worker, String tableName, int value)
+   {
+      if (workerTaskLengths.length > 1)
+         tableName = tableName + " (" + activeWorkers() + "/" + workerTaskLengths.length + ")";
+
+      setTableDumpCurrentValue(tableName, value);
+   }
+
+   private int activeWorkers()
+   {
+      int active = 0;
+
+      for (int i = 0; i < workerTaskLengths.length; i++)
+         if (workerTaskLengths[i] > 0)
+            active++;
+      return active;
+   }
+
+   //==============================================================
+   // Class Methods of the frame, no operation.
+   //==============================================================
+
+   public void pack()
+   {
+      // No frame.
+   }
+   
+   public void center()
+   {
+      // No frame.
+   }
+
+   //==============================================================
+   // Class Methods to start reporting when made visible & report
+   // the end of the dump when disposed.
+   //==============================================================
+
+   public synchronized void setVisible(boolean value)
+   {
+      if (value && progressReporter == null)
+      {
+         progressReporter = new ProgressReporter(progressTitle);
+         progressReporter.setTaskLength(databaseTaskLength);
+      }
+   }
+   
+   public synchronized void dispose()
+   {
+      if (progressReporter != null)
+         progressReporter.finish();
+   }
+}
@@ -10,7 +10,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.0 09/17/2016
+// Version 1.1 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -32,6 +32,14 @@
 // also be included with the original copyright author.
 //=================================================================
 // Version 1.0 Production SQLDatabaseDump_ProgressBar Class.
+//         1.1 Added Class Instances workerTaskLengths &
+//             workerCurrentValues, Methods setWorkerCount(),
+//             setTableDumpTaskLength/CurrentValue() With Worker
+//             Argument, sum(), & activeWorkers() for Combined
+//             Parallel Table Dump Progress. Class Instance
+//             taskCanceled volatile. Implements
+//             SQLDatabaseDump_ProgressIndicator. Added Static Method
+//             createProgressIndicator().
 //
 //-----------------------------------------------------------------
 //                danap@dandymadeproductions.com
@@ -41,6 +49,7 @@ package com.dandymadeproductions.ajqvue.utilities;
 
 import java.awt.BorderLayout;
 import java.awt.Dimension;
+import java.awt.GraphicsEnvironment;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Toolkit;
@@ -63,10 +72,11 @@ import com.dandymadeproductions.ajqvue.Ajqvue;
  * during a SQL database dump.
  * 
  * @author Dana M. Proctor
- * @version 1.0 09/17/2016
+ * @version 1.1 10/18/2026
  */
 
-public class SQLDatabaseDump_ProgressBar extends JFrame implements ActionListener
+public class SQLDatabaseDump_ProgressBar extends JFrame
+                                         implements ActionListener, SQLDatabaseDump_ProgressIndicator
 {
    // Class Instances
    private static final long serialVersionUID = -7079123716177930494L;
@@ -80,7 +90,9 @@ public class SQLDatabaseDump_ProgressBar extends JFrame implements ActionListene
    
    private int databaseTaskLength;
    private int tableTaskLength;
-   private boolean taskCanceled;
+   private int[] workerTaskLengths;
+   private int[] workerCurrentValues;
+   private volatile boolean taskCanceled;
 
    //==============================================================
    // SQLDatabaseDump_ProgressBar Constructor.
@@ -178,9 +190,25 @@ public class SQLDatabaseDump_ProgressBar extends JFrame implements ActionListene
       
       this.getContentPane().add(mainPanel);
 
+      workerTaskLengths = new int[1];
+      workerCurrentValues = new int[1];
       taskCanceled = false;
    }
 
+   //==============================================================
+   // Class Method to create the progress indicator for a database
+   // dump, a SQLDatabaseDump_ProgressBar frame, or headless a
+   // SQLDatabaseDump_HeadlessProgressBar.
+   //==============================================================
+
+   public static SQLDatabaseDump_ProgressIndicator createProgressIndicator(String progressTitle)
+   {
+      if (GraphicsEnvironment.isHeadless())
+         return new SQLDatabaseDump_HeadlessProgressBar(progressTitle);
+      else
+         return new SQLDatabaseDump_ProgressBar(progressTitle);
+   }
+
    //==============================================================
    // ActionEvent Listener method for detecting the inputs
    // from the panel and taking the appropriate action.
@@ -257,6 +285,60 @@ public class SQLDatabaseDump_ProgressBar extends JFrame implements ActionListene
       tableDumpProgressBar.setMaximum(tableTaskLength);
    }
 
+   //==============================================================
+   // Class Method to set the number of workers that will be
+   // reporting table dump progress. The table dump status bar
+   // then shows the combined progress of all the workers.
+   //==============================================================
+
+   public synchronized void setWorkerCount(int value)
+   {
+      workerTaskLengths = new int[Math.max(1, value)];
+      workerCurrentValues = new int[Math.max(1, value)];
+   }
+
+   //==============================================================
+   // Class Methods to set a worker's table dump task length &
+   // current value into the combined table dump status bar.
+   //==============================================================
+
+   public synchronized void setTableDumpTaskLength(int worker, int value)
+   {
+      workerTaskLengths[worker] = value;
+      workerCurrentValues[worker] = 0;
+      setTableDumpTaskLength(sum(workerTaskLengths));
+      tableDumpProgressBar.setValue(sum(workerCurrentValues));
+   }
+
+   public synchronized void setTableDumpCurrentValue(int worker, String tableName, int value)
+   {
+      workerCurrentValues[worker] = value;
+
+      if (workerTaskLengths.length > 1)
+         tableName = tableName + " (" + activeWorkers() + "/" + workerTaskLengths.length + ")";
+
+      setTableDumpCurrentValue(tableName, sum(workerCurrentValues));
+   }
+
+   private int sum(int[] values)
+   {
+      int total = 0;
+
+      for (int i = 0; i < values.length; i++)
+         total += values[i];
+      return total;
+   }
+
+   private int activeWorkers()
+   {
+      int active = 0;
+
+      for (int i = 0; i < workerTaskLengths.length; i++)
+         if (workerTaskLengths[i] > 0)
+            active++;
+      return active;
+   }
+
    //==============================================================
    // Class Method to return the indication of the button cancel
    // being pressed.
@@ -0,0 +1,68 @@
+//=================================================================
+//                      TableBlockLoader
+//=================================================================
+//
+//    This class provides the interface that a source of summary
+// table data must implement to supply a LazyTableModel with its
+// rows a block at a time.
+//
+//                  << TableBlockLoader.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial TableBlockLoader Interface.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities;
+
+/**
+ *    The TableBlockLoader interface provides the requirements that a
+ * source of summary table data must implement to supply a LazyTableModel
+ * with its rows a block at a time. Both methods are called from the
+ * model's background loading thread.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public interface TableBlockLoader
+{
+   //==============================================================
+   // Method to load the rows starting at the given row, at most
+   // rowCount of them. A block shorter than requested marks the
+   // end of the data. Returns NULL if the load failed.
+   //==============================================================
+
+   ColumnarPage loadBlock(int rowStart, int rowCount);
+
+   //==============================================================
+   // Method to obtain the total number of rows in the data, -1 if
+   // not known.
+   //==============================================================
+
+   int loadRowCount();
+}
@@ -12,7 +12,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.2 06/14/2017
+// Version 1.3 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -38,6 +38,8 @@
 //         1.2 06/14/2017 Method getValueAt() Conditional Check on Caller
 //                        [row][column] Within Bounds, Prevents Null Pointer
 //                        Exception.
+//         1.3 10/18/2026 Added Class Instance SIZE_SAMPLE_ROWS & Method
+//                        getApproximateSize().
 //                        
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -57,7 +59,7 @@ import javax.swing.table.AbstractTableModel;
  * generated.
  * 
  * @author Dana M. Proctor
- * @version 1.2 06/14/2017
+ * @version 1.3 10/18/2026
  */
 
 public class TableModel extends AbstractTableModel
@@ -69,6 +71,8 @@ public class TableModel extends AbstractTableModel
    private Object[][] data;
    private boolean[] editableColumns;
 
+   private static final int SIZE_SAMPLE_ROWS = 64;
+
    //==============================================================
    // TableModel Constructor.
    //==============================================================
@@ -182,4 +186,68 @@ public class TableModel extends AbstractTableModel
       data = tableData.clone();
       fireTableDataChanged();
    }
+
+   //==============================================================
+   // Class method to obtain the approximate size, bytes, of the
+   // memory held by the table's data.
+   //==============================================================
+
+   public long getApproximateSize()
+   {
+      return getApproximateSize(data);
+   }
+
+   //==============================================================
+   // Class method to estimate the memory, bytes, held by a table's
+   // data. Tables beyond SIZE_SAMPLE_ROWS are estimated from that
+   // many rows spread through the table.
+   //==============================================================
+
+   public static long getApproximateSize(Object[][] tableData)
+   {
+      // Method Instances
+      Object[] row;
+      long sampleSize;
+      int sampleRows, rowStep;
+
+      if (tableData == null)
+         return 0;
+
+      sampleSize = 0;
+      sampleRows = 0;
+      rowStep = Math.max(1, tableData.length / SIZE_SAMPLE_ROWS);
+
+      for (int i = 0; i < tableData.length; i += rowStep)
+      {
+         row = tableData[i];
+         sampleRows++;
+
+         if (row == null)
+            continue;
+
+         sampleSize += 16 + (8 * row.length);
+
+         for (int j = 0; j < row.length; j++)
+            sampleSize += getApproximateSize(row[j]);
+      }
+
+      if (sampleRows == 0)
+         return 16;
+      else
+         return 16 + (8L * tableData.length) + (sampleSize * tableData.length / sampleRows);
+   }
+
+   private static long getApproximateSize(Object value)
+   {
+      if (value == null)
+         return 0;
+      else if (value instanceof String)
+         return 40 + (2L * ((String) value).length());
+      else if (value instanceof byte[])
+         return 16 + ((byte[]) value).length;
+      else if (value instanceof Number || value instanceof Boolean)
+         return 24;
+      else
+         return 48;
+   }
 }
@@ -43,7 +43,7 @@
  * @author Dan van Enckevort
  * @author Parwinder Sekhon
  * @author Dana M. Proctor
- * @version 2.6 09/17/2016
+ * @version 2.7 10/18/2026
  * 
  * <ul>
  * <li>
@@ -63,16 +63,20 @@
  * Organized So That All Class Instances at Begining of Code Along With Constructors.
  * 2.6 09/17/2017 Changed Package Name for Ajqvue to com.dandymadeproductions.
  * ajqvue.utilities.
+ * 2.7 10/18/2026 Class Instance viewToModel Changed to int[] Sorted by Added
+ * Method mergeSort(). Inner Class Row Replaced by RowOrder, Resolving Column
+ * Comparators, Held in a Typed ArrayList, & Values Once per Sort. Keys of
+ * Integral & Floating Point Columns Extracted to long[] & double[], Compared
+ * Without Boxing, ColumnarTableModel Rows via Its compare().
  * </ul>
  * 
  * @author Dana M. Proctor
- * @version 2.6 09/17/2016
+ * @version 2.7 10/18/2026
  */
 
 package com.dandymadeproductions.ajqvue.utilities;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -84,7 +88,6 @@ import java.awt.Graphics;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
-import java.io.Serializable;
 
 import javax.swing.Icon;
 import javax.swing.JLabel;
@@ -106,8 +109,9 @@ public class TableSorter extends AbstractTableModel
    public static final int NOT_SORTED = 0;
    public static final int ASCENDING = 1;
    private static Directive EMPTY_DIRECTIVE = new Directive(-1, NOT_SORTED);
+   private static final int INSERTION_SORT_THRESHOLD = 7;
    
-   private Row[] viewToModel;
+   private int[] viewToModel;
    private int[] modelToView;
    private JTableHeader tableHeader;
    private transient MouseListener mouseListener;
@@ -326,31 +330,77 @@ public class TableSorter extends AbstractTableModel
       return LEXICAL_COMPARATOR;
    }
 
-   private Row[] getViewToModel()
+   private int[] getViewToModel()
    {
       if (viewToModel == null)
       {
          int tableModelRowCount = tableModel.getRowCount();
-
-         viewToModel = new Row[tableModelRowCount];
+         int[] sortedViewToModel = new int[tableModelRowCount];
 
          for (int row = 0; row < tableModelRowCount; row++)
          {
-            viewToModel[row] = new Row(row);
+            sortedViewToModel[row] = row;
          }
 
          if (isSorting())
          {
-            Arrays.sort(viewToModel);
+            mergeSort(sortedViewToModel.clone(), sortedViewToModel, 0, tableModelRowCount,
+                      new RowOrder(tableModelRowCount));
          }
+         viewToModel = sortedViewToModel;
       }
 
       return viewToModel;
    }
 
+   // Stable merge sort of the model row indexes, src & dest hold the
+   // same indexes on entry, the sorted result is left in dest.
+   private void mergeSort(int[] src, int[] dest, int low, int high, RowOrder order)
+   {
+      int length = high - low;
+
+      if (length < INSERTION_SORT_THRESHOLD)
+      {
+         for (int i = low + 1; i < high; i++)
+         {
+            for (int j = i; j > low && order.compare(dest[j - 1], dest[j]) > 0; j--)
+            {
+               int swap = dest[j];
+               dest[j] = dest[j - 1];
+               dest[j - 1] = swap;
+            }
+         }
+         return;
+      }
+
+      int middle = (low + high) >>> 1;
+
+      mergeSort(dest, src, low, middle, order);
+      mergeSort(dest, src, middle, high, order);
+
+      // Already in order, just copy.
+      if (order.compare(src[middle - 1], src[middle]) <= 0)
+      {
+         System.arraycopy(src, low, dest, low, length);
+         return;
+      }
+
+      for (int i = low, p = low, q = middle; i < high; i++)
+      {
+         if (q >= high || (p < middle && order.compare(src[p], src[q]) <= 0))
+         {
+            dest[i] = src[p++];
+         }
+         else
+         {
+            dest[i] = src[q++];
+         }
+      }
+   }
+
    public int modelIndex(int viewIndex)
    {
-      return getViewToModel()[viewIndex].modelIndex;
+      return getViewToModel()[viewIndex];
    }
 
    private int[] getModelToView()
@@ -407,50 +457,194 @@ public class TableSorter extends AbstractTableModel
    }
 
    // Helper classes
-   private class Row implements Serializable, Comparable<Object>
-   {
-      private static final long serialVersionUID = 487077012483672607L;
-      private int modelIndex;
 
-      public Row(int index)
+   // The order of the model's rows by the sorting columns. Comparators
+   // are resolved once per column and the column's values, or their
+   // strings for a lexical comparison, obtained once per row. Integral
+   // and floating point values are held as primitives.
+   private class RowOrder
+   {
+      private int[] columns;
+      private boolean[] descending;
+      private Object[][] keys;
+      private long[][] longKeys;
+      private double[][] doubleKeys;
+      private boolean[][] nullKeys;
+      private ArrayList<Comparator<Object>> comparators;
+      private ColumnarTableModel columnarModel;
+
+      public RowOrder(int rowCount)
       {
-         this.modelIndex = index;
+         int sortingCount = sortingColumns.size();
+
+         columns = new int[sortingCount];
+         descending = new boolean[sortingCount];
+         keys = new Object[sortingCount][];
+         longKeys = new long[sortingCount][];
+         doubleKeys = new double[sortingCount][];
+         nullKeys = new boolean[sortingCount][];
+         comparators = new ArrayList <Comparator<Object>>(sortingCount);
+
+         // Columnar models compare by value, without boxing
+         // or formatting the cells.
+         if (tableModel instanceof ColumnarTableModel)
+         {
+            columnarModel = (ColumnarTableModel) tableModel;
+         }
+
+         for (int i = 0; i < sortingCount; i++)
+         {
+            Directive directive = sortingColumns.get(i);
+            Comparator<Object> comparator;
+
+            columns[i] = directive.column;
+            descending[i] = directive.direction == DESCENDING;
+
+            if (columnarModel != null)
+            {
+               comparators.add(null);
+               continue;
+            }
+
+            comparator = getComparator(directive.column);
+            keys[i] = new Object[rowCount];
+
+            for (int row = 0; row < rowCount; row++)
+            {
+               Object value = tableModel.getValueAt(row, directive.column);
+
+               if (value != null && comparator == LEXICAL_COMPARATOR)
+               {
+                  value = value.toString();
+               }
+               keys[i][row] = value;
+            }
+
+            if (comparator == LEXICAL_COMPARATOR)
+            {
+               comparator = COMPARABLE_COMPARATOR;
+            }
+            else if (comparator == COMPARABLE_COMPARATOR)
+            {
+               extractNumericKeys(i, rowCount);
+            }
+            comparators.add(comparator);
+         }
       }
 
-      public int compareTo(Object o)
+      // Replaces the column's keys with long[] or double[] keys when
+      // all its values are integral, or all floating point, numbers.
+      private void extractNumericKeys(int i, int rowCount)
       {
-         int row1 = modelIndex;
-         int row2 = ((Row) o).modelIndex;
+         boolean integral = true;
+         boolean floating = true;
+
+         for (int row = 0; row < rowCount && (integral || floating); row++)
+         {
+            Object value = keys[i][row];
+
+            if (value == null)
+            {
+               continue;
+            }
+
+            integral &= (value instanceof Integer || value instanceof Long
+                         || value instanceof Short || value instanceof Byte);
+            floating &= (value instanceof Double || value instanceof Float);
+         }
+
+         if (!integral && !floating)
+         {
+            return;
+         }
 
-         for (Iterator<Directive> it = sortingColumns.iterator(); it.hasNext();)
+         nullKeys[i] = new boolean[rowCount];
+
+         if (integral)
+         {
+            longKeys[i] = new long[rowCount];
+         }
+         else
+         {
+            doubleKeys[i] = new double[rowCount];
+         }
+
+         for (int row = 0; row < rowCount; row++)
          {
-            Directive directive = it.next();
-            int column = directive.column;
-            Object o1 = tableModel.getValueAt(row1, column);
-            Object o2 = tableModel.getValueAt(row2, column);
-            int comparison = 0;
-
-            // Define null less than everything, except null.
-            if (o1 == null && o2 == null)
+            Number value = (Number) keys[i][row];
+
+            if (value == null)
+            {
+               nullKeys[i][row] = true;
+            }
+            else if (integral)
             {
-               comparison = 0;
+               longKeys[i][row] = value.longValue();
             }
-            else if (o1 == null)
+            else
+            {
+               doubleKeys[i][row] = value.doubleValue();
+            }
+         }
+         keys[i] = null;
+      }
+
+      public int compare(int row1, int row2)
+      {
+         for (int i = 0; i < columns.length; i++)
+         {
+            int comparison;
+
+            if (columnarModel != null)
             {
-               comparison = -1;
+               comparison = columnarModel.compare(columns[i], row1, row2);
             }
-            else if (o2 == null)
+            else if (nullKeys[i] != null)
             {
-               comparison = 1;
+               boolean null1 = nullKeys[i][row1];
+               boolean null2 = nullKeys[i][row2];
+
+               // Define null less than everything, except null.
+               if (null1 || null2)
+               {
+                  comparison = (null1 == null2) ? 0 : (null1 ? -1 : 1);
+               }
+               else if (longKeys[i] != null)
+               {
+                  comparison = Long.compare(longKeys[i][row1], longKeys[i][row2]);
+               }
+               else
+               {
+                  comparison = Double.compare(doubleKeys[i][row1], doubleKeys[i][row2]);
+               }
             }
             else
             {
-               comparison = getComparator(column).compare(o1, o2);
+               Object o1 = keys[i][row1];
+               Object o2 = keys[i][row2];
+
+               // Define null less than everything, except null.
+               if (o1 == null && o2 == null)
+               {
+                  comparison = 0;
+               }
+               else if (o1 == null)
+               {
+                  comparison = -1;
+               }
+               else if (o2 == null)
+               {
+                  comparison = 1;
+               }
+               else
+               {
+                  comparison = comparators.get(i).compare(o1, o2);
+               }
             }
 
             if (comparison != 0)
             {
-               return directive.direction == DESCENDING ? -comparison : comparison;
+               return descending[i] ? -comparison : comparison;
             }
          }
 
@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 2.7 07/27/2018
+// Version 2.8 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -57,6 +57,8 @@
 //             Method isNumeric() Comment Changes & Explicit Equals for INT, Po(int),
 //             FLOAT, DOUBLE, FLOAT, NUMERIC, Exclusion of Boolean & Arrays.
 //         2.7 Method isBlob() Added Comment With Regard to Derby BIT DATA.
+//         2.8 Added Methods displayErrorMessage() & getErrorMessageCount(), Class
+//             Instance errorMessageCount.
 //       
 //-----------------------------------------------------------------
 //                danap@dandymadeproductions.com
@@ -67,6 +69,7 @@ package com.dandymadeproductions.ajqvue.utilities;
 import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Font;
+import java.awt.GraphicsEnvironment;
 import java.awt.GridBagConstraints;
 import java.awt.Image;
 import java.awt.Window;
@@ -88,6 +91,7 @@ import java.util.Iterator;
 import java.util.Locale;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
@@ -132,7 +136,7 @@ import com.dandymadeproductions.ajqvue.io.WriteDataFile;
  * Ajqvue application.
  * 
  * @author Dana M. Proctor
- * @version 2.7 07/27/2018
+ * @version 2.8 10/18/2026
  */
 
 public class Utils extends Ajqvue
@@ -154,6 +158,8 @@ public class Utils extends Ajqvue
                                                      ddMMyyyy_DASH, ddMMyyyy_SLASH, ddMMMyyyy_DASH,
                                                      yyyyMMdd_DASH, yyyyMMdd_SLASH, yyyyMMMdd_DASH};
    
+   private static final AtomicInteger errorMessageCount = new AtomicInteger(0);
+   
    //==============================================================
    // Protected class Method for helping the parameters in gridbag.
    // Most GUI panels call this class method.
@@ -735,6 +741,21 @@ public class Utils extends Ajqvue
       return menuItem;
    }
    
+   //==============================================================
+   // Class method to alert the user of an error by a dialog, or
+   // when headless by the standard error output.
+   //==============================================================
+
+   public static void displayErrorMessage(String message, String title)
+   {
+      errorMessageCount.incrementAndGet();
+      
+      if (GraphicsEnvironment.isHeadless())
+         System.err.println(title + ": " + message.replace('\n', ' '));
+      else
+         JOptionPane.showMessageDialog(null, message, title, JOptionPane.ERROR_MESSAGE);
+   }
+   
    //==============================================================
    // Class method to load a provided sound file into a audio clip.
    // A check of the returned clip should be made to insure it was
@@ -962,6 +983,16 @@ public class Utils extends Ajqvue
       return dateFormatOptionsCopy;
    }
    
+   //==============================================================
+   // Class method to get the number of error messages displayed,
+   // the batch mode's indication of failure.
+   //==============================================================
+
+   public static int getErrorMessageCount()
+   {
+      return errorMessageCount.get();
+   }
+   
    //==============================================================
    // Class method to return a standardized frame icon.
    //==============================================================
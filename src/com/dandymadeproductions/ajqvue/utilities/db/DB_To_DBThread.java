@@ -8,7 +8,7 @@
 //
 //=================================================================
 // Copyright (C) 2013-2018 Dana M. Proctor
-// Version 1.0 05/28/2018
+// Version 1.1 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -30,6 +30,25 @@
 // also be included with the original copyright author.
 //=================================================================
 // Version 1.0 05/28/2018 Initial DB_To_DBThread Class.
+//         1.1 10/18/2026 Added Class Instances queueCapacity,
+//                        workerCount, loadPartitions, &
+//                        loadPartitionModulus From
+//                        GeneralDBProperties Along With Setters &
+//                        getWorkerCount(). Method
+//                        executeDB_To_DB_Transfer() Fans Out to
+//                        Multiple SQLInsertPrepareThreads With Own
+//                        Sink Connections, Joined to a Transfer
+//                        Group, All or Nothing Commit, Inserting to
+//                        sinkDBTableNameString, & Passes the Load
+//                        Partitions to SQLLoadThread, queryRowCount
+//                        Set From SQLLoadThread.getLoadedRows().
+//                        Transfer ThroughputMeter & Queue Depth Gauge
+//                        Registered With MetricsRegistry. Added
+//                        Constructor With Sink & createSinkTable &
+//                        Method executeSinkDBQueries() to Setup the
+//                        Source & Sink Queries When Not Creating the
+//                        Sink Table. Method executeSinkDBCreation()
+//                        No Longer Takes an Exact Row Count.
 //             
 //-----------------------------------------------------------------
 //                   danap@dandymadeproductions.com
@@ -44,21 +63,28 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Locale;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.dandymadeproductions.ajqvue.datasource.ConnectionInstance;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionPool;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionProperties;
+import com.dandymadeproductions.ajqvue.structures.GeneralDBProperties;
 import com.dandymadeproductions.ajqvue.utilities.db.DDLGenerator;
 import com.dandymadeproductions.ajqvue.utilities.db.SQLQuery;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsGauge;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
+import com.dandymadeproductions.ajqvue.utilities.metrics.ThroughputMeter;
 
 /**
  * The DB_To_DBThread class provides a thread to perform the DB
  * to DB transfer in an independent dissassociated manner.
  * 
  * @author Dana M. Proctor
- * @version 1.0 05/28/2018
+ * @version 1.1 10/18/2026
  */
 
 public class DB_To_DBThread implements Runnable
@@ -82,6 +108,10 @@ public class DB_To_DBThread implements Runnable
    private boolean createSinkTable;
 
    private int queryRowCount;
+   private int queueCapacity;
+   private int workerCount;
+   private int loadPartitions;
+   private boolean loadPartitionModulus;
 
    public static final String SINK_DB_TABLE_NAME = "aqjvueSinkDBTable";
    public static final int VARCHAR_LIMIT = 65535;
@@ -107,6 +137,15 @@ public class DB_To_DBThread implements Runnable
       this(connectionInstanceSource, null, sqlQueryString, sinkDBTableNameString, true, false);
    }
    
+   // Specify Sink DB & Table Name, Creating or Appending to the Table.
+   public DB_To_DBThread(ConnectionInstance connectionInstanceSource,
+                         ConnectionInstance connectionInstanceSink, String sqlQueryString,
+                         String sinkDBTableNameString, boolean createSinkTable)
+   {
+      this(connectionInstanceSource, connectionInstanceSink, sqlQueryString, sinkDBTableNameString,
+           createSinkTable, false);
+   }
+   
    // WARNING!
    // The use of useSQLiteCast, true, will result in most cases
    // the SQLite fields stored with setString().
@@ -119,6 +158,13 @@ public class DB_To_DBThread implements Runnable
       this.connectionInstanceSink = connectionInstanceSink;
       this.sqlQueryString = sqlQueryString;
       this.sinkDBTableNameString = sinkDBTableNameString;
+      
+      // Transfer pipeline tuning.
+      GeneralDBProperties generalDBProperties = new GeneralDBProperties();
+      queueCapacity = generalDBProperties.getTransferQueueCapacity();
+      workerCount = generalDBProperties.getTransferWorkers();
+      loadPartitions = generalDBProperties.getLoadPartitions();
+      loadPartitionModulus = generalDBProperties.getLoadPartitionModulus();
 
       // Determine Sink DB Properties.
 
@@ -198,6 +244,13 @@ public class DB_To_DBThread implements Runnable
          log(Level.INFO, "DB_To_DBThread", "run()", "Done executeSinkDBCreation(), Error:"
                                                               + processError + "\n");
       }
+      else
+      {
+         log(Level.INFO, "\nDB_To_DBThread", "run()", "Entering executeSinkDBQueries()");
+         processError = executeSinkDBQueries(dbConnectionSink);
+         log(Level.INFO, "DB_To_DBThread", "run()", "Done executeSinkDBQueries(), Error:"
+                                                              + processError + "\n");
+      }
 
       // Run DB to File/Memory DB Insertions.
 
@@ -298,11 +351,6 @@ public class DB_To_DBThread implements Runnable
          if (error)
             return error;
 
-         queryRowCount = sqlQuerySource.getRowCount(connectionInstanceSource);
-
-         log(Level.FINE, "DB_To_DBThread", "executeSinkDBCreation()", "Query Row Count: "
-                                                                                + queryRowCount);
-
          // ***********************************
          // Create a default DDL generator using defined DB sink.
 
@@ -359,6 +407,43 @@ public class DB_To_DBThread implements Runnable
       return error;
    }
 
+   // ==============================================================
+   // Class Method to setup the source & sink queries for a transfer
+   // into an existing sink table. Returns true on error.
+   // ==============================================================
+
+   private boolean executeSinkDBQueries(Connection dbConnectionSink)
+   {
+      // Setup Instances.
+      String sqlStatementString;
+
+      log(Level.INFO, "DB_To_DBThread", "executeSinkDBQueries()", "Setting Up SQLQuery");
+
+      sqlQuerySource = new SQLQuery(sqlQueryString);
+
+      if (sqlQuerySource.executeSQL(connectionInstanceSource) == -1)
+         return true;
+
+      sqlStatementString = "SELECT * FROM "
+                           + Utils.getSchemaTableName(sinkDBTableNameString,
+                              connectionInstanceSink.getCatalogSeparator(),
+                              connectionInstanceSink.getIdentifierQuoteString());
+
+      log(Level.FINE, "DB_To_DBThread", "executeSinkDBQueries()", sqlStatementString);
+
+      sqlQuerySink = new SQLQuery(sqlStatementString, 1);
+
+      try
+      {
+         return sqlQuerySink.executeSQL(dbConnectionSink) == 1 ? false : true;
+      }
+      catch (SQLException e)
+      {
+         ConnectionInstance.displaySQLErrors(e, "DB_To_DBThread executeSinkDBQueries()", true);
+         return true;
+      }
+   }
+
    // ==============================================================
    // Class Method to execute the transfer of the DB to DB transfer,
    // insertion of data for the new sink db.
@@ -371,13 +456,23 @@ public class DB_To_DBThread implements Runnable
       Thread loadThread;
       SQLLoadThread sqlLoadThread;
 
-      Thread insertThread;
-      SQLInsertPrepareThread sqlInsertPrepareThread;
+      Thread[] insertThreads;
+      SQLInsertPrepareThread[] sqlInsertPrepareThreads;
+      Connection[] workerConnections;
+      CountDownLatch finishedWorkers;
+      AtomicBoolean transferFailed;
+      int workers;
+      long totalRows;
+      long totalTime;
 
-      ArrayBlockingQueue<TableRowElements> arrayBlockingQueue;
+      final ArrayBlockingQueue<TableRowElements> arrayBlockingQueue;
+      ThroughputMeter throughputMeter;
+      MetricsGauge queueDepthGauge;
 
       // Seting up the ArrayBlockingQueue and threads to perform
-      // the database to database transfer.
+      // the database to database transfer. One load thread feeds
+      // one or more insert threads, each with its own sink
+      // connection & commits.
       //
       // To speed up performance the load thread's priority is
       // increase. An option to control limits for multiple load
@@ -385,36 +480,91 @@ public class DB_To_DBThread implements Runnable
 
       log(Level.INFO, "DB_To_DBThread", "executeDB_To_DB_Transfer()", "Setting up Threads");
 
-      arrayBlockingQueue = new ArrayBlockingQueue<TableRowElements>(50, true);
+      workers = getWorkerCount(localConnectionInstance);
+
+      arrayBlockingQueue = new ArrayBlockingQueue<TableRowElements>(Math.max(queueCapacity, workers), true);
       sqlLoadThread = new SQLLoadThread(connectionInstanceSource, sqlQuerySource, arrayBlockingQueue, false,
                                         1000, true, true);
+      sqlLoadThread.setConsumerCount(workers);
+      sqlLoadThread.setPartitionCount(loadPartitions);
+      sqlLoadThread.setPartitionModulus(loadPartitionModulus);
+      
       if (threadLogger != null)
          sqlLoadThread.setLogger(threadLogger);
 
       loadThread = new Thread(sqlLoadThread, "sqlLoadThread");
       loadThread.setPriority(loadThread.getPriority() + 1);
 
-      log(Level.FINE, "DB_To_DBThread", "executeDB_To_DB_Transfer()", "loadThread : " + loadThread);
+      log(Level.FINE, "DB_To_DBThread", "executeDB_To_DB_Transfer()", "loadThread : " + loadThread
+                                                                       + " Queue Capacity: "
+                                                                       + arrayBlockingQueue.remainingCapacity());
 
-      sqlInsertPrepareThread = new SQLInsertPrepareThread(sqlLoadThread, localConnectionInstance,
-                                                          localConnection, sqlQuerySink, arrayBlockingQueue,
-                                                          SINK_DB_TABLE_NAME, false, 50);
+      // Metrics for the transfer, rows & queue depth.
+      
+      throughputMeter = MetricsRegistry.startThroughput(MetricsRegistry.TRANSFER, sinkDBTableNameString);
+      queueDepthGauge = new MetricsGauge()
+      {
+         public long getValue()
+         {
+            return arrayBlockingQueue.size();
+         }
+      };
+      MetricsRegistry.registerGauge(MetricsRegistry.TRANSFER_QUEUE_DEPTH + "." + sinkDBTableNameString,
+                                    queueDepthGauge);
+
+      // Workers beyond the first use their own sink connection.
+      
+      insertThreads = new Thread[workers];
+      sqlInsertPrepareThreads = new SQLInsertPrepareThread[workers];
+      workerConnections = new Connection[workers];
+      workerConnections[0] = localConnection;
+      
+      for (int i = 1; i < workers; i++)
+      {
+         workerConnections[i] = localConnectionInstance.getConnection("DB_To_DBThread insertThread" + i);
+         
+         if (workerConnections[i] == null)
+         {
+            workers = i;
+            sqlLoadThread.setConsumerCount(workers);
+            break;
+         }
+      }
+      
+      // The workers commit together, only if all succeed.
+      
+      finishedWorkers = new CountDownLatch(workers);
+      transferFailed = new AtomicBoolean(false);
+      
+      for (int i = 0; i < workers; i++)
+      {
+         sqlInsertPrepareThreads[i] = new SQLInsertPrepareThread(sqlLoadThread, localConnectionInstance,
+                                                                 workerConnections[i], sqlQuerySink,
+                                                                 arrayBlockingQueue, sinkDBTableNameString,
+                                                                 false, 50);
 
-      if (threadLogger != null)
-         sqlInsertPrepareThread.setLogger(threadLogger);
+         if (threadLogger != null)
+            sqlInsertPrepareThreads[i].setLogger(threadLogger);
+         
+         sqlInsertPrepareThreads[i].setThroughputMeter(throughputMeter);
+         sqlInsertPrepareThreads[i].setTransferGroup(finishedWorkers, transferFailed);
 
-      insertThread = new Thread(sqlInsertPrepareThread, "insertThread");
+         insertThreads[i] = new Thread(sqlInsertPrepareThreads[i], "insertThread" + (i == 0 ? "" : i));
 
-      log(Level.FINE, "DB_To_DBThread", "executeDB_To_DB_Transfer()", "insertThread : "
-                                                                                + insertThread);
+         log(Level.FINE, "DB_To_DBThread", "executeDB_To_DB_Transfer()", "insertThread : "
+                                                                                   + insertThreads[i]);
+      }
 
       // ***********************************
       // Transfer data.
 
-      log(Level.INFO, "DB_To_DBThread", "executeDB_To_DB_Transfer()", "Starting Transfer\n");
+      log(Level.INFO, "DB_To_DBThread", "executeDB_To_DB_Transfer()", "Starting Transfer, Workers: "
+                                                                                + workers + "\n");
 
       loadThread.start();
-      insertThread.start();
+      
+      for (int i = 0; i < workers; i++)
+         insertThreads[i].start();
 
       // ***********************************
       // Wait for processing to complete.
@@ -422,12 +572,80 @@ public class DB_To_DBThread implements Runnable
       try
       {
          loadThread.join();
-         insertThread.join();
+         
+         for (int i = 0; i < workers; i++)
+            insertThreads[i].join();
       }
       catch (InterruptedException ie)
       {
          log(Level.WARNING, "DB_To_DBThread", "executeDB_To_DB_Transfer()", ie.toString());
       }
+      finally
+      {
+         for (int i = 1; i < workers; i++)
+            localConnectionInstance.closeConnection(workerConnections[i],
+               "DB_To_DBThread insertThread" + i);
+         
+         throughputMeter.finish();
+         MetricsRegistry.unregisterGauge(MetricsRegistry.TRANSFER_QUEUE_DEPTH + "."
+                                         + sinkDBTableNameString, queueDepthGauge);
+      }
+      
+      // ***********************************
+      // Record the rate of each worker.
+      
+      totalRows = 0;
+      totalTime = 0;
+      
+      for (int i = 0; i < workers; i++)
+      {
+         log(Level.INFO, "DB_To_DBThread", "executeDB_To_DB_Transfer()", insertThreads[i].getName()
+             + " Rows: " + sqlInsertPrepareThreads[i].getRowsInserted() + " Rows/s: "
+             + sqlInsertPrepareThreads[i].getRowsPerSecond());
+         
+         totalRows += sqlInsertPrepareThreads[i].getRowsInserted();
+         totalTime = Math.max(totalTime, sqlInsertPrepareThreads[i].getElapsedTime());
+      }
+      log(Level.INFO, "DB_To_DBThread", "executeDB_To_DB_Transfer()", "Total Rows: " + totalRows
+          + " Rows/s: " + (totalTime > 0 ? (totalRows * 1000 / totalTime) : totalRows));
+      
+      if (transferFailed.get())
+         log(Level.WARNING, "DB_To_DBThread", "executeDB_To_DB_Transfer()", "Transfer Failed, "
+             + "Rows Committed: " + totalRows);
+      
+      // The source rows read, to check against the sink, rather
+      // than an exact count of the query before the transfer.
+      
+      queryRowCount = sqlLoadThread.getLoadedRows();
+      
+      log(Level.FINE, "DB_To_DBThread", "executeDB_To_DB_Transfer()", "Query Row Count: "
+                                                                                + queryRowCount);
+   }
+
+   // ==============================================================
+   // Class Method to determine the number of insert threads. Memory
+   // sinks share a single connection & SQLite permits only one
+   // writer, so those use one. Others are limited by the sink's
+   // connection pool.
+   // ==============================================================
+
+   private int getWorkerCount(ConnectionInstance localConnectionInstance)
+   {
+      // Method Instances.
+      ConnectionPool connectionPool;
+      int workers;
+
+      workers = Math.max(1, workerCount);
+
+      if (dbTypeMemory || dbSinkTypeString.indexOf(ConnectionInstance.SQLITE) != -1)
+         return 1;
+
+      connectionPool = localConnectionInstance.getConnectionPool();
+
+      if (connectionPool != null)
+         workers = Math.min(workers, connectionPool.getMaxSize());
+
+      return workers;
    }
 
    // ==============================================================
@@ -646,6 +864,37 @@ public class DB_To_DBThread implements Runnable
          return false;
    }
 
+   // ==============================================================
+   // Class Methods to set the transfer queue capacity & number of
+   // insert threads, overriding the general preferences.
+   // ==============================================================
+
+   public void setQueueCapacity(int capacity)
+   {
+      queueCapacity = Math.max(1, capacity);
+   }
+
+   public void setWorkerCount(int count)
+   {
+      workerCount = Math.max(1, count);
+   }
+
+   // ==============================================================
+   // Class Methods to set the number of concurrent source reads,
+   // partitions, & whether these are by modulus, rather than range,
+   // of the key.
+   // ==============================================================
+
+   public void setLoadPartitions(int count)
+   {
+      loadPartitions = Math.max(1, count);
+   }
+
+   public void setLoadPartitionModulus(boolean value)
+   {
+      loadPartitionModulus = value;
+   }
+
    // ==============================================================
    // Class Method to allow a logger to be assigned to the thread.
    // ==============================================================
@@ -10,7 +10,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 2.1 08/04/2018
+// Version 2.2 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -65,6 +65,7 @@
 //                        But Numeric & Decimal. REAL Insured Oracle Binary Float & Double
 //                        Not Included. Aded Virtual Type DATE, YEAR, TIME, DATETIME,
 //                        & TIMESTAMP.
+//         2.2 10/18/2026 Method getDDL() Index Named by Table & Column.
 //
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -91,7 +92,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * a given database query to an alternate database table. 
  * 
  * @author Dana M. Proctor
- * @version 2.1 08/04/2018
+ * @version 2.2 10/18/2026
  */
 
 public class DDLGenerator
@@ -295,12 +296,14 @@ public class DDLGenerator
       tableDefinition.delete(tableDefinition.length() - 6, tableDefinition.length());
       tableDefinition.append("\n);\n");
       
-      // Add Index(s) if defined.
+      // Add Index(s) if defined, named by table as index
+      // names are unique to the schema for most databases.
       
       if (!indexList.isEmpty())
       {
-         tableDefinition.append("CREATE INDEX "
-                                + identifierQuoteString + indexList.get(0) + identifierQuoteString
+         tableDefinition.append("CREATE INDEX " + identifierQuoteString
+                                + tableName.substring(tableName.lastIndexOf(catalogSeparator) + 1)
+                                + "_" + indexList.get(0) + identifierQuoteString
                                 + " ON " + schemaTableName + "(");
          Iterator<String> indexListIterator = indexList.iterator();
          
@@ -0,0 +1,59 @@
+//=================================================================
+//                      RowCountListener
+//=================================================================
+//
+//    This class provides the interface that must be implemented to
+// receive the exact row count of a table taken in the background
+// by the RowCountService.
+//
+//                  << RowCountListener.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial RowCountListener Interface.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities.db;
+
+/**
+ *    The RowCountListener interface provides the requirement that
+ * must be implemented to receive the exact row count of a table
+ * taken in the background by the RowCountService.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public interface RowCountListener
+{
+   //==============================================================
+   // Method called, from the counting thread, with the exact row
+   // count once it is available.
+   //==============================================================
+
+   void rowCountAvailable(int rowCount);
+}
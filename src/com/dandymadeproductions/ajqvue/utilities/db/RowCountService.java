@@ -0,0 +1,390 @@
+//=================================================================
+//                      RowCountService
+//=================================================================
+//
+//    This class provides the means to obtain the row count of a
+// table, either as a fast estimate from the database's catalog
+// statistics or as an exact count taken in the background.
+//
+//                  << RowCountService.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial RowCountService Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.dandymadeproductions.ajqvue.Ajqvue;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionInstance;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+
+/**
+ *    The RowCountService class provides the means to obtain the row
+ * count of a table. The estimate is taken from the catalog statistics
+ * of the database, pg_class.reltuples, information_schema TABLE_ROWS,
+ * ALL_TABLES.NUM_ROWS, etc., and so may be stale or unavailable. The
+ * exact count, a SELECT COUNT(*), may be taken in the background on a
+ * small bounded executor with the result handed to a RowCountListener.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class RowCountService
+{
+   // Class Instances
+   private static final int COUNT_THREADS = 2;
+   private static final int COUNT_QUEUE_SIZE = 16;
+
+   private static final ThreadPoolExecutor countExecutor = createExecutor();
+
+   //==============================================================
+   // Class method to obtain the estimated row count of a table from
+   // the database's catalog statistics. Returns -1 if the database
+   // keeps no statistics or they are not yet collected for the table.
+   //==============================================================
+
+   public static int getEstimatedRowCount(Connection dbConnection, String dataSourceType,
+                                          String schemaTableName)
+   {
+      // Method Instances
+      String identifierQuoteString;
+      String schemaName, tableName;
+      String sqlStatementString;
+      PreparedStatement sqlStatement;
+      ResultSet rs;
+      double rowCount;
+
+      if (dbConnection == null || dataSourceType == null || schemaTableName == null)
+         return -1;
+
+      // Separate & unquote the schema & table names.
+      identifierQuoteString = ConnectionManager.getIdentifierQuoteString();
+
+      if (schemaTableName.indexOf(".") != -1)
+      {
+         schemaName = schemaTableName.substring(0, schemaTableName.indexOf("."));
+         tableName = schemaTableName.substring(schemaTableName.indexOf(".") + 1);
+      }
+      else
+      {
+         schemaName = "";
+         tableName = schemaTableName;
+      }
+
+      if (identifierQuoteString != null && !identifierQuoteString.trim().isEmpty())
+      {
+         schemaName = schemaName.replace(identifierQuoteString, "");
+         tableName = tableName.replace(identifierQuoteString, "");
+      }
+
+      // PostgreSQL
+      if (dataSourceType.equals(ConnectionManager.POSTGRESQL))
+         sqlStatementString = "SELECT c.reltuples, c.relpages FROM pg_class c JOIN pg_namespace n "
+                              + "ON n.oid = c.relnamespace WHERE c.relname = ? AND "
+                              + (schemaName.isEmpty() ? "pg_table_is_visible(c.oid)" : "n.nspname = ?");
+      // MySQL & MariaDB
+      else if (dataSourceType.equals(ConnectionManager.MYSQL)
+               || dataSourceType.equals(ConnectionManager.MARIADB))
+         sqlStatementString = "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_NAME = ? "
+                              + "AND TABLE_SCHEMA = " + (schemaName.isEmpty() ? "DATABASE()" : "?");
+      // Oracle
+      else if (dataSourceType.equals(ConnectionManager.ORACLE))
+         sqlStatementString = schemaName.isEmpty()
+                              ? "SELECT NUM_ROWS FROM USER_TABLES WHERE TABLE_NAME = ?"
+                              : "SELECT NUM_ROWS FROM ALL_TABLES WHERE TABLE_NAME = ? AND OWNER = ?";
+      // MSSQL
+      else if (dataSourceType.equals(ConnectionManager.MSSQL))
+      {
+         sqlStatementString = "SELECT SUM(p.rows) FROM sys.partitions p "
+                              + "WHERE p.object_id = OBJECT_ID(?) AND p.index_id IN (0, 1)";
+         tableName = schemaName.isEmpty() ? tableName : (schemaName + "." + tableName);
+         schemaName = "";
+      }
+      // HSQL
+      else if (dataSourceType.indexOf(ConnectionManager.HSQL) != -1)
+         sqlStatementString = "SELECT CARDINALITY FROM INFORMATION_SCHEMA.SYSTEM_TABLESTATS "
+                              + "WHERE TABLE_NAME = ? AND TABLE_SCHEMA = "
+                              + (schemaName.isEmpty() ? "CURRENT_SCHEMA" : "?");
+      // H2
+      else if (dataSourceType.equals(ConnectionManager.H2))
+         sqlStatementString = "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES "
+                              + "WHERE TABLE_NAME = ? AND TABLE_SCHEMA = "
+                              + (schemaName.isEmpty() ? "SCHEMA()" : "?");
+      // No statistics.
+      else
+         return -1;
+
+      sqlStatement = null;
+      rs = null;
+
+      try
+      {
+         sqlStatement = dbConnection.prepareStatement(sqlStatementString);
+         sqlStatement.setString(1, tableName);
+
+         if (!schemaName.isEmpty())
+            sqlStatement.setString(2, schemaName);
+
+         rs = sqlStatement.executeQuery();
+
+         if (!rs.next())
+            return -1;
+
+         rowCount = rs.getDouble(1);
+
+         if (rs.wasNull() || rowCount < 0)
+            return -1;
+
+         // PostgreSQL, never analyzed yet has pages.
+         if (dataSourceType.equals(ConnectionManager.POSTGRESQL) && rowCount == 0 && rs.getInt(2) > 0)
+            return -1;
+
+         return (int) Math.min(Math.round(rowCount), Integer.MAX_VALUE);
+      }
+      catch (SQLException e)
+      {
+         // No access to the catalog is not an error, just no estimate.
+         if (Ajqvue.getDebug())
+            System.out.println("RowCountService getEstimatedRowCount() " + e.toString());
+         return -1;
+      }
+      finally
+      {
+         try
+         {
+            if (rs != null)
+               rs.close();
+            if (sqlStatement != null)
+               sqlStatement.close();
+         }
+         catch (SQLException sqle)
+         {
+            if (Ajqvue.getDebug())
+               System.out.println("RowCountService getEstimatedRowCount() " + sqle.toString());
+         }
+      }
+   }
+
+   //==============================================================
+   // Class method to take the exact row count of a table in the
+   // background, on the service's bounded executor. The count is
+   // skipped if no connection is free. The listener is only called
+   // if the count succeeds. The returned Future may be canceled
+   // once the count is no longer wanted.
+   //==============================================================
+
+   public static Future<?> countRows(String schemaTableName, RowCountListener listener)
+   {
+      return submit(new RowCountTask(null, "SELECT COUNT(*) FROM " + schemaTableName, listener));
+   }
+
+   //==============================================================
+   // Class method to take the exact row count of the given query
+   // in the background with a connection from the instance.
+   //==============================================================
+
+   public static Future<?> countRows(ConnectionInstance connectionInstance, SQLQuery sqlQuery,
+                                     RowCountListener listener)
+   {
+      // Method Instances
+      String countSQL;
+
+      countSQL = sqlQuery.getRowCountSQL(connectionInstance.getDataSourceType());
+
+      if (countSQL == null)
+         return null;
+
+      return submit(new RowCountTask(connectionInstance, countSQL, listener));
+   }
+
+   //==============================================================
+   // Class method to queue a count task, its Future canceling the
+   // statement of a count already running.
+   //==============================================================
+
+   private static Future<?> submit(final RowCountTask rowCountTask)
+   {
+      // Method Instances
+      FutureTask<Object> futureTask;
+
+      futureTask = new FutureTask<Object>(rowCountTask, null)
+      {
+         public boolean cancel(boolean mayInterruptIfRunning)
+         {
+            rowCountTask.cancel();
+            return super.cancel(mayInterruptIfRunning);
+         }
+      };
+      countExecutor.execute(futureTask);
+
+      return futureTask;
+   }
+
+   //==============================================================
+   // Class method to create the executor, a few daemon threads
+   // with a short queue, the oldest waiting count discarded.
+   //==============================================================
+
+   private static ThreadPoolExecutor createExecutor()
+   {
+      // Method Instances
+      ThreadPoolExecutor executor;
+
+      executor = new ThreadPoolExecutor(COUNT_THREADS, COUNT_THREADS, 30L, TimeUnit.SECONDS,
+                                        new ArrayBlockingQueue<Runnable>(COUNT_QUEUE_SIZE),
+                                        new ThreadFactory()
+      {
+         public Thread newThread(Runnable runnable)
+         {
+            Thread countThread = new Thread(runnable, "RowCountService.countRows");
+            countThread.setDaemon(true);
+            return countThread;
+         }
+      }, new ThreadPoolExecutor.DiscardOldestPolicy());
+      executor.allowCoreThreadTimeOut(true);
+
+      return executor;
+   }
+
+   //==============================================================
+   // Inner class to take a single count, on a connection obtained
+   // for background work so an exhausted pool skips the count &
+   // errors are not displayed.
+   //==============================================================
+
+   private static class RowCountTask implements Runnable
+   {
+      private ConnectionInstance connectionInstance;
+      private String countSQL;
+      private RowCountListener listener;
+      private volatile Statement sqlStatement;
+      private volatile boolean canceled;
+
+      RowCountTask(ConnectionInstance connectionInstance, String countSQL, RowCountListener listener)
+      {
+         this.connectionInstance = connectionInstance;
+         this.countSQL = countSQL;
+         this.listener = listener;
+      }
+
+      public void run()
+      {
+         // Method Instances
+         Connection work_dbConnection;
+         ResultSet rs;
+         int rowCount;
+
+         if (canceled)
+            return;
+
+         if (connectionInstance != null)
+            work_dbConnection = connectionInstance.getConnection("RowCountService countRows()", true);
+         else
+            work_dbConnection = ConnectionManager.getConnection("RowCountService countRows()", true);
+
+         if (work_dbConnection == null)
+            return;
+
+         rs = null;
+
+         try
+         {
+            sqlStatement = work_dbConnection.createStatement();
+
+            if (canceled)
+               return;
+
+            rs = sqlStatement.executeQuery(countSQL);
+            rowCount = rs.next() ? rs.getInt(1) : 0;
+
+            if (!canceled)
+               listener.rowCountAvailable(rowCount);
+         }
+         catch (SQLException e)
+         {
+            if (Ajqvue.getDebug() && !canceled)
+               System.out.println("RowCountService countRows() " + e.toString());
+         }
+         finally
+         {
+            try
+            {
+               if (rs != null)
+                  rs.close();
+               if (sqlStatement != null)
+                  sqlStatement.close();
+            }
+            catch (SQLException sqle)
+            {
+               if (Ajqvue.getDebug())
+                  System.out.println("RowCountService countRows() " + sqle.toString());
+            }
+
+            if (connectionInstance != null)
+               connectionInstance.closeConnection(work_dbConnection, "RowCountService countRows()");
+            else
+               ConnectionManager.closeConnection(work_dbConnection, "RowCountService countRows()");
+         }
+      }
+
+      void cancel()
+      {
+         // Method Instances
+         Statement runningStatement;
+
+         canceled = true;
+         runningStatement = sqlStatement;
+
+         if (runningStatement != null)
+         {
+            try
+            {
+               runningStatement.cancel();
+            }
+            catch (SQLException e)
+            {
+               if (Ajqvue.getDebug())
+                  System.out.println("RowCountService cancel() " + e.toString());
+            }
+         }
+      }
+   }
+}
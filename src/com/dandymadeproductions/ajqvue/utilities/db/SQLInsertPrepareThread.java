@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2005-2018 Dana M. Proctor
-// Version 2.3 05/29/2018
+// Version 2.4 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -66,6 +66,15 @@
 //         2.3 05/29/2018 Moved From DB_To_FileMemoryDB Project to Ajqvue, Changed Package to
 //                        utilities.db in Ajqvue. Changed References to DB_To_FileMemoryDBThread
 //                        to DB_To_DBThread.
+//         2.4 10/18/2026 Added Class Instances lastElementTaken, rowsInserted, elapsedTime,
+//                        pendingRows, finishedWorkers, transferFailed, & throughputMeter Along With
+//                        Methods drainQueue(), getRowsInserted(), getElapsedTime(),
+//                        getRowsPerSecond(), setThroughputMeter(), executeBatch(), commit(),
+//                        finishTransaction(), failTransfer(), isTransferFailed(), &
+//                        setTransferGroup(). Method run() Cancels Load on Exception, Drains Queue
+//                        to its LAST_ELEMENT When Stopped Early, & Logs Rows/s. Workers of a
+//                        Transfer Commit Only Once All Succeed, Otherwise All Roll Back. Flight
+//                        Recorder InsertBatchEvents for executeBatch & commit.
 //             
 //-----------------------------------------------------------------
 //                danap@dandymadeproductions.com
@@ -83,6 +92,8 @@ import java.text.SimpleDateFormat;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -91,13 +102,17 @@ import javax.sql.rowset.serial.SerialBlob;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionInstance;
 import com.dandymadeproductions.ajqvue.gui.panels.DBTablesPanel;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
+import com.dandymadeproductions.ajqvue.utilities.metrics.FlightRecording;
+import com.dandymadeproductions.ajqvue.utilities.metrics.InsertBatchEvent;
+import com.dandymadeproductions.ajqvue.utilities.metrics.MetricsRegistry;
+import com.dandymadeproductions.ajqvue.utilities.metrics.ThroughputMeter;
 
 /**
  *    The SQLInsertPrepare class provides a means to create the required
  * INSERT for a PrepareStatement in use with a database to H2, HSQL, Derby,
  * or SQLite Memory/File database transfer.
  * 
- * @version 2.3 05/29/2018
+ * @version 2.4 10/18/2026
  */
 
 public class SQLInsertPrepareThread implements Runnable
@@ -118,8 +133,17 @@ public class SQLInsertPrepareThread implements Runnable
    
    private int columnIndex, batchSize;
    private boolean batchSizeEnabled;
+   private boolean lastElementTaken;
+   private long pendingRows;
+   
+   private volatile long rowsInserted;
+   private volatile long elapsedTime;
+   
+   private CountDownLatch finishedWorkers;
+   private AtomicBoolean transferFailed;
    
    private Logger threadLogger;
+   private ThroughputMeter throughputMeter;
 
    //==============================================================
    // SQLInsertPrepareThread Constructors.
@@ -169,6 +193,7 @@ public class SQLInsertPrepareThread implements Runnable
       
       int currentBatchRows;
       boolean validImport;
+      boolean workerFailed;
       
       // Check if can process and if so setup.
       
@@ -183,6 +208,11 @@ public class SQLInsertPrepareThread implements Runnable
       
       currentBatchRows = 0;
       validImport = false;
+      workerFailed = false;
+      lastElementTaken = false;
+      pendingRows = 0;
+      rowsInserted = 0;
+      elapsedTime = System.currentTimeMillis();
       
       try
       { 
@@ -194,21 +224,37 @@ public class SQLInsertPrepareThread implements Runnable
          prepared_sqlStatement = db_Connection.prepareStatement(sqlStatementString);
                   
          for (rowElementsData = tableRowDataQueue.take();
-              !rowElementsData.getMessage().equals(TableRowElements.LAST_ELEMENT);
+              !(lastElementTaken = rowElementsData.getMessage().equals(TableRowElements.LAST_ELEMENT));
                rowElementsData = tableRowDataQueue.take())
          {  
+            // Another worker failed, stop & roll back.
+            if (isTransferFailed())
+               break;
+            
             columnIndex = 0;
             validImport = addTableEntry(sqlStatement, prepared_sqlStatement);
             
             if (validImport)
             {
+               pendingRows++;
+               
+               // Metrics, rows & a sample of the queue depth.
+               if (throughputMeter != null)
+               {
+                  throughputMeter.addRows(1);
+                  
+                  if ((pendingRows & 0x3F) == 0)
+                     MetricsRegistry.recordValue(MetricsRegistry.TRANSFER_QUEUE_DEPTH,
+                                                 tableRowDataQueue.size());
+               }
+               
                // Commit on Batch Size if Desired.
                if (batchSizeEnabled)
                {
                   if (currentBatchRows > batchSize)
                   {
-                     prepared_sqlStatement.executeBatch();
-                     db_Connection.commit();
+                     executeBatch(prepared_sqlStatement);
+                     commit();
                      currentBatchRows = 0;
                   }
                   else
@@ -221,37 +267,45 @@ public class SQLInsertPrepareThread implements Runnable
                // Tell the producer to stop and quit transfer.
                
                log(Level.WARNING, "SQLInsertPrepareThread", "run()", "validImport: " + validImport);
+               workerFailed = true;
+               failTransfer();
                sqlLoadThread.cancelLoad("SQLInsertPrepareThread run()");
                break;
             }
          }
          
-         // Commiting the transactions as necessary
-         // and cleaning up.
+         // Execute the remaining inserts, the commit waiting
+         // on the other workers.
 
-         if (validImport)
-         {
-            prepared_sqlStatement.executeBatch();
-            db_Connection.commit();
-         }
-         else
-            db_Connection.rollback();
+         if (!workerFailed && !isTransferFailed())
+            executeBatch(prepared_sqlStatement);
       }
       catch (Exception e)
       {
          log(Level.WARNING, "SQLInsertPrepareThread", "run()", e.toString());
-         
-         try
-         {
-            db_Connection.rollback();
-         }
-         catch (SQLException error)
-         {
-            ConnectionInstance.displaySQLErrors(error, "SQLInsertPrepare run() rollback failed", true);
-         }
+         workerFailed = true;
+         failTransfer();
+         sqlLoadThread.cancelLoad("SQLInsertPrepareThread run()");
       }
       finally
       {
+         // Take this consumer's LAST_ELEMENT so the producer and
+         // any other consumers are not left blocked on the queue.
+         
+         if (!lastElementTaken)
+            drainQueue();
+         
+         // Commiting the transactions, if all workers succeeded,
+         // otherwise rolling back.
+         
+         finishTransaction(workerFailed);
+         
+         elapsedTime = System.currentTimeMillis() - elapsedTime;
+         
+         log(Level.INFO, "SQLInsertPrepareThread", "run()", Thread.currentThread().getName()
+             + " Rows: " + rowsInserted + " Time: " + elapsedTime + "ms Rows/s: "
+             + getRowsPerSecond());
+         
          try
          {
             if (prepared_sqlStatement != null)
@@ -287,6 +341,142 @@ public class SQLInsertPrepareThread implements Runnable
       }
    }
    
+   //==============================================================
+   // Class methods to execute the pending batch of inserts & to
+   // commit them, with the Flight Recorder events as enabled. The
+   // rows committed are then counted as inserted.
+   //==============================================================
+
+   private void executeBatch(PreparedStatement prepared_sqlStatement) throws SQLException
+   {
+      // Method Instances
+      InsertBatchEvent batchEvent;
+      
+      if (!FlightRecording.isEnabled())
+      {
+         prepared_sqlStatement.executeBatch();
+         return;
+      }
+      
+      batchEvent = new InsertBatchEvent(InsertBatchEvent.EXECUTE_BATCH, sqlTable);
+      batchEvent.begin();
+      batchEvent.setRows(prepared_sqlStatement.executeBatch().length);
+      batchEvent.commit();
+   }
+   
+   private void commit() throws SQLException
+   {
+      // Method Instances
+      InsertBatchEvent batchEvent;
+      
+      if (!FlightRecording.isEnabled())
+         db_Connection.commit();
+      else
+      {
+         batchEvent = new InsertBatchEvent(InsertBatchEvent.COMMIT, sqlTable);
+         batchEvent.begin();
+         db_Connection.commit();
+         batchEvent.commit();
+      }
+      
+      rowsInserted += pendingRows;
+      pendingRows = 0;
+   }
+   
+   //==============================================================
+   // Class method to end the worker's transaction. With others in
+   // the transfer, the worker waits for all to finish so that the
+   // rows are committed only if every worker succeeded, otherwise
+   // all roll back. Batches already committed, batch size enabled,
+   // remain.
+   //==============================================================
+   
+   private void finishTransaction(boolean workerFailed)
+   {
+      // Method Instances
+      boolean commit;
+      
+      commit = !workerFailed;
+      
+      if (finishedWorkers != null)
+      {
+         finishedWorkers.countDown();
+         
+         try
+         {
+            finishedWorkers.await();
+         }
+         catch (InterruptedException ie)
+         {
+            log(Level.WARNING, "SQLInsertPrepareThread", "finishTransaction()", ie.toString());
+            failTransfer();
+         }
+         commit = commit && !isTransferFailed();
+      }
+      
+      try
+      {
+         if (commit)
+            commit();
+         else
+         {
+            db_Connection.rollback();
+            pendingRows = 0;
+         }
+      }
+      catch (SQLException e)
+      {
+         ConnectionInstance.displaySQLErrors(e, "SQLInsertPrepare finishTransaction() "
+                                                + (commit ? "commit" : "rollback") + " failed", true);
+         
+         try
+         {
+            if (commit)
+               db_Connection.rollback();
+         }
+         catch (SQLException error)
+         {
+            ConnectionInstance.displaySQLErrors(error, "SQLInsertPrepare finishTransaction() "
+                                                       + "rollback failed", true);
+         }
+         pendingRows = 0;
+      }
+   }
+   
+   //==============================================================
+   // Class Methods to mark the transfer failed, so the other workers
+   // stop & roll back, & to determine if another worker has failed.
+   //==============================================================
+   
+   private void failTransfer()
+   {
+      if (transferFailed != null)
+         transferFailed.set(true);
+   }
+   
+   private boolean isTransferFailed()
+   {
+      return transferFailed != null && transferFailed.get();
+   }
+   
+   //==============================================================
+   // Class Method to discard queued rows up to & including this
+   // consumer's LAST_ELEMENT after the transfer has been stopped.
+   //==============================================================
+   
+   private void drainQueue()
+   {
+      try
+      {
+         while (!tableRowDataQueue.take().getMessage().equals(TableRowElements.LAST_ELEMENT));
+         lastElementTaken = true;
+      }
+      catch (InterruptedException ie)
+      {
+         log(Level.WARNING, "SQLInsertPrepareThread", "drainQueue()", ie.toString());
+      }
+   }
+   
    //==============================================================
    // 
    //==============================================================
@@ -802,6 +992,38 @@ public class SQLInsertPrepareThread implements Runnable
       return className.toString();   
    }
    
+   //==============================================================
+   // Class Methods to get the rows committed, & elapsed time in
+   // milliseconds, by this thread once it has finished.
+   //==============================================================
+
+   public long getRowsInserted()
+   {
+      return rowsInserted;
+   }
+   
+   public long getElapsedTime()
+   {
+      return elapsedTime;
+   }
+   
+   public long getRowsPerSecond()
+   {
+      return (elapsedTime > 0) ? (rowsInserted * 1000 / elapsedTime) : rowsInserted;
+   }
+   
+   //==============================================================
+   // Class Method to join the thread to the group of workers of a
+   // transfer. The latch counts the workers, each committing only
+   // once all have finished without a failure.
+   //==============================================================
+
+   public void setTransferGroup(CountDownLatch finishedWorkers, AtomicBoolean transferFailed)
+   {
+      this.finishedWorkers = finishedWorkers;
+      this.transferFailed = transferFailed;
+   }
+   
    //==============================================================
    // Class Method to allow a logger to be assigned to the thread.
    //==============================================================
@@ -810,4 +1032,14 @@ public class SQLInsertPrepareThread implements Runnable
    {
       threadLogger = logger;
    }
+   
+   //==============================================================
+   // Class Method to assign a throughput meter to the thread, for
+   // the rows inserted & queue depth metrics.
+   //==============================================================
+
+   public void setThroughputMeter(ThroughputMeter throughputMeter)
+   {
+      this.throughputMeter = throughputMeter;
+   }
 }
\ No newline at end of file
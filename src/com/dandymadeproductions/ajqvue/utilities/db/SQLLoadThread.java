@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2013-2018 Dana M. Proctor
-// Version 3.1 08/03/2018
+// Version 3.2 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -86,6 +86,18 @@
 //                        RowElements Set Accordingly.
 //         3.1 08/03/2018 Method loadData() Moved Processing for Datetime, to be the Same as
 //                        Timestamp.
+//         3.2 10/18/2026 Added Class Instance consumerCount Along With Method setConsumerCount().
+//                        Method loadData() Places a LAST_ELEMENT in tableRowDataQueue for Each
+//                        Consumer, Row Collection Moved to New Method loadRowElements() & Final
+//                        Elements to putFinalElements(). Added Partitioned Load, Class Instances
+//                        partitionCount, partitionColumn, partitionModulus, & loadedRows, Methods
+//                        loadPartitionedData(), createPartitionQueries(), getPartitionColumn(),
+//                        isIntegral(), isNumeric(), getLoadedRows(), & Setters Along With Inner
+//                        Class PartitionReader. Row Count Taken in Background by startRowsCount()
+//                        via RowCountService.countRows(), Class Instance rowCountFuture & Method
+//                        stopRowsCount(). Paging Terminated on Short Page. Progress Bar a
+//                        ProgressIndicator From ProgressBar.createProgressIndicator(), Headless
+//                        Safe.
 //             
 //-----------------------------------------------------------------
 //                danap@dandymadeproductions.com
@@ -93,19 +105,29 @@
 
 package com.dandymadeproductions.ajqvue.utilities.db;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.Locale;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.dandymadeproductions.ajqvue.datasource.ConnectionInstance;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionPool;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionProperties;
 import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
+import com.dandymadeproductions.ajqvue.utilities.ProgressIndicator;
 
 /**
  *    The SQLLoadThread provides a means to load the required
@@ -113,7 +135,7 @@ import com.dandymadeproductions.ajqvue.utilities.ProgressBar;
  * Memory/File database transfer.
  * 
  * @author Dana M. Proctor
- * @version 3.1 08/03/2018
+ * @version 3.2 10/18/2026
  */
 
 public class SQLLoadThread implements Runnable
@@ -123,11 +145,17 @@ public class SQLLoadThread implements Runnable
    private SQLQuery sqlQuery;
    private ArrayBlockingQueue<TableRowElements> tableRowDataQueue;
    
-   private ProgressBar loadProgressBar;
+   private ProgressIndicator loadProgressBar;
    private int limitIncrement;
    private boolean useLimits;
    private boolean showProgressBar;
    private boolean debug;
+   private int consumerCount;
+   private int partitionCount;
+   private String partitionColumn;
+   private boolean partitionModulus;
+   private AtomicInteger loadedRows;
+   private Future<?> rowCountFuture;
    
    private Logger threadLogger;
    
@@ -156,6 +184,12 @@ public class SQLLoadThread implements Runnable
       this.limitIncrement = limitIncrement;
       this.showProgressBar = showProgressBar;
       this.debug = debug;
+      
+      consumerCount = 1;
+      loadedRows = new AtomicInteger(0);
+      partitionCount = 1;
+      partitionColumn = null;
+      partitionModulus = false;
    }
 
    //==============================================================
@@ -165,6 +199,7 @@ public class SQLLoadThread implements Runnable
    public void run()
    {
       Connection dbConnection = null;
+      ArrayList<String> partitionQueries;
       
       try
       {
@@ -176,9 +211,21 @@ public class SQLLoadThread implements Runnable
          if (dbConnection == null)
             return;
          
-         log(Level.INFO, "SQLLoadThread", "run()", "Entering loadData()");
-         loadData(dbConnection);
-         log(Level.INFO, "SQLLoadThread", "run()", "Done loadData()\n");
+         partitionQueries = createPartitionQueries(dbConnection);
+         
+         if (partitionQueries != null)
+         {
+            log(Level.INFO, "SQLLoadThread", "run()", "Entering loadPartitionedData(), Partitions: "
+                                                      + partitionQueries.size());
+            loadPartitionedData(dbConnection, partitionQueries);
+            log(Level.INFO, "SQLLoadThread", "run()", "Done loadPartitionedData()\n");
+         }
+         else
+         {
+            log(Level.INFO, "SQLLoadThread", "run()", "Entering loadData()");
+            loadData(dbConnection);
+            log(Level.INFO, "SQLLoadThread", "run()", "Done loadData()\n");
+         }
       }
       catch (SQLException sqle)
       {
@@ -201,19 +248,11 @@ public class SQLLoadThread implements Runnable
       //StringBuffer columnNamesString;
       //StringBuffer oracleColumnNamesString;
       String firstField;
-
-      Iterator<String> columnNamesIterator;
       
-      String columnName;
-      String columnClass;
-      int columnSQLType;
-      String columnTypeName;
-      int columnSize;     
-      int rowsCount;
       int currentTableIncrement;
       int currentRow;
+      int pageRows;
 
-      Object currentContentData;
       TableRowElements tableRowElements;
 
       String sqlStatementString;
@@ -229,18 +268,16 @@ public class SQLLoadThread implements Runnable
       // Setup a progress bar for tracking/canceling,
       // rowsCount and fields.
       
-      loadProgressBar = new ProgressBar("SQL Load Data");
-      
-      rowsCount = sqlQuery.getRowCount(connectionInstance);
-      log(Level.FINE, "SQLLoadThread", "loadData()", "rowsCount: " + rowsCount);
+      loadProgressBar = ProgressBar.createProgressIndicator("SQL Load Data");
       
       if (showProgressBar)
       {
-         loadProgressBar.setTaskLength(rowsCount);
          loadProgressBar.pack();
-         loadProgressBar.center();   
+         loadProgressBar.center();
+         startRowsCount("loadData()");
       }
       loadProgressBar.setVisible(showProgressBar);
+      pageRows = 0;
       
       // Ok now ready so beginning by connecting to database for
       // data and proceeding with building the data to load.
@@ -307,253 +344,24 @@ public class SQLLoadThread implements Runnable
 
             // Begin loading the data into the queue.
             
+            pageRows = 0;
             while (db_resultSet.next() && !loadProgressBar.isCanceled())
             {
                loadProgressBar.setCurrentValue(currentRow++);
+               loadedRows.incrementAndGet();
+               pageRows++;
 
                // Cycling through the item fields for storage
                // into an TableRowElement.
 
-               tableRowElements = new TableRowElements(sqlQuery.getColumnNames().size());
-               columnNamesIterator = sqlQuery.getColumnNames().iterator();
-
-               while (columnNamesIterator.hasNext())
-               {
-                  columnName = columnNamesIterator.next();
-                  columnClass = sqlQuery.getColumnClassHashMap().get(columnName);
-                  columnSQLType = (sqlQuery.getColumnSQLTypeHashMap().get(columnName)).intValue();
-                  columnTypeName = sqlQuery.getColumnTypeNameHashMap().get(columnName);
-                  columnSize = sqlQuery.getColumnSizeHashMap().get(columnName).intValue();
-
-                  // System.out.print("SLT: " + columnName + " " + columnClass + " " + columnSQLType
-                  //                   + " " + columnTypeName + " " + columnSize + " ");
-
-                  // DATE Type Field
-                  if (columnTypeName.equals("DATE"))
-                  {
-                     if (connectionInstance.getDataSourceType().equals(ConnectionInstance.SQLITE)
-                         && columnSQLType == Types.VARCHAR)
-                        currentContentData = db_resultSet.getString(columnName);
-                     else
-                        currentContentData = db_resultSet.getDate(columnName);
-                     
-                     if (currentContentData == null)
-                        tableRowElements.setRowElement(null);
-                     else
-                        tableRowElements.setRowElement(currentContentData + "");
-                  }
-
-                  // TIME Type Field
-                  else if (columnTypeName.equals("TIME"))
-                  {
-                     if (connectionInstance.getDataSourceType().equals(ConnectionInstance.SQLITE)
-                           && columnSQLType == Types.VARCHAR)
-                        currentContentData = db_resultSet.getString(columnName);
-                     else
-                        currentContentData = db_resultSet.getTime(columnName);
-                     
-                     if (currentContentData == null)
-                        tableRowElements.setRowElement(null);
-                     else
-                     {
-                        if (connectionInstance.getDataSourceType().equals(ConnectionInstance.SQLITE)
-                            && columnSQLType == Types.VARCHAR)
-                           tableRowElements.setRowElement(currentContentData);
-                        else
-                           tableRowElements.setRowElement(
-                              (new SimpleDateFormat("HH:mm:ss").format(currentContentData)));
-                     }
-                  }
-                  
-                  // TIME WITH TIME ZONE
-                  else if (columnTypeName.equals("TIMETZ") || columnTypeName.equals("TIME WITH TIME ZONE"))
-                  {
-                     currentContentData = db_resultSet.getString(columnName);
-                     
-                     if (currentContentData == null)
-                        tableRowElements.setRowElement(null);
-                     else
-                     {
-                        String timeString = (String) currentContentData;
-                        
-                        // PostgreSQL
-                        if (columnTypeName.equals("TIMETZ"))
-                        {
-                           // Put in long format compatible
-                           // with for possible HSQL sink.
-                           
-                           timeString = timeString.substring(0, 8) + ".0" + timeString.substring(
-                              8, timeString.length()) + ":00";
-                           tableRowElements.setRowElement(timeString);
-                        }
-                        else
-                        {
-                           // Insure format conforms to HH:mm:ss
-                           if (timeString.indexOf(":") == 1)
-                              timeString = "0" + timeString;
-                           
-                           tableRowElements.setRowElement(timeString);
-                        }
-                     }    
-                  }
-
-                  // TIMESTAMP Type Field
-                  else if (columnTypeName.equals("TIMESTAMP")
-                           || columnTypeName.equalsIgnoreCase("DATETIME"))
-                  {
-                     if (connectionInstance.getDataSourceType().equals(ConnectionInstance.SQLITE)
-                           && columnSQLType == Types.VARCHAR)
-                        currentContentData = db_resultSet.getString(columnName);
-                     else
-                        currentContentData = db_resultSet.getTimestamp(columnName);
-                     
-                     if (currentContentData == null)
-                        tableRowElements.setRowElement(null);
-                     else
-                     {
-                        if (connectionInstance.getDataSourceType().equals(ConnectionInstance.SQLITE)
-                              && columnSQLType == Types.VARCHAR)
-                           tableRowElements.setRowElement(currentContentData);
-                        else
-                           tableRowElements.setRowElement(
-                              (new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(currentContentData)));
-                     }
-                  }
-
-                  else if (columnTypeName.equals("TIMESTAMPTZ")
-                           || columnTypeName.equals("TIMESTAMP WITH TIME ZONE")
-                           || columnTypeName.equals("TIMESTAMP WITH LOCAL TIME ZONE"))
-                  {
-                     if (connectionInstance.getDataSourceType().equals(ConnectionInstance.SQLITE)
-                           && columnSQLType == Types.VARCHAR)
-                        currentContentData = db_resultSet.getString(columnName);
-                     else
-                        currentContentData = db_resultSet.getTimestamp(columnName);
-                     
-                     if (currentContentData == null)
-                        tableRowElements.setRowElement(null);
-                     else
-                     {
-                        if (connectionInstance.getDataSourceType().equals(ConnectionInstance.SQLITE)
-                              && columnSQLType == Types.VARCHAR)
-                           tableRowElements.setRowElement(currentContentData);
-                        else
-                           tableRowElements.setRowElement(
-                              (new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z").format(currentContentData)));
-                     }
-                  }
-
-                  // TIMESTAMPS WITH LOCAL TIME ZONE Type Field
-                  else if (columnTypeName.equals("TIMESTAMPLTZ"))
-                  {
-                     currentContentData = db_resultSet.getString(columnName);
-                     
-                     if (currentContentData == null)
-                        tableRowElements.setRowElement(null);
-                     else
-                        tableRowElements.setRowElement(currentContentData);
-                  }
-
-                  // YEAR Type Field
-                  else if (columnTypeName.equals("YEAR"))
-                  {
-                     currentContentData = db_resultSet.getString(columnName);
-                     
-                     if (currentContentData == null)
-                        tableRowElements.setRowElement(null);
-                     else
-                     {
-                        String displayYear = (String) currentContentData;
-                        displayYear = displayYear.trim();
-
-                        if (columnSize == 2)
-                        {
-                           if (displayYear.length() >= 4)
-                              displayYear = displayYear.substring(2, 4);
-                        }
-                        else
-                           displayYear = displayYear.substring(0, 4);
-
-                        tableRowElements.setRowElement(displayYear);
-                     } 
-                  }
-
-                  // BlOB, BYTEA, BINARY Type Fields
-                  else if (DB_To_DBThread.isBlob(columnClass, columnTypeName))
-                  {
-                     currentContentData = db_resultSet.getBytes(columnName);
-                     
-                     if (currentContentData == null)
-                        tableRowElements.setRowElement(null);
-                     else
-                        tableRowElements.setRowElement(currentContentData);
-                  }
-
-                  // BIT Type Field
-                  else if (columnClass.indexOf("Boolean") == -1 && columnTypeName.equals("BIT"))
-                  {
-                     if (connectionInstance.getDataSourceType().equals(ConnectionInstance.MYSQL)
-                         || connectionInstance.getDataSourceType().equals(ConnectionInstance.MARIADB))
-                     {
-                        currentContentData = db_resultSet.getByte(columnName);
-                        
-                        if (currentContentData == null)
-                           tableRowElements.setRowElement(null);
-                        else
-                        {
-                           String byteString = Byte.toString((byte) currentContentData);
-                           tableRowElements.setRowElement(Integer.toBinaryString(Integer.parseInt(byteString)));
-                        }
-                     }
-                     else
-                     {
-                        currentContentData = db_resultSet.getString(columnName);
-                        
-                        if (currentContentData == null)
-                           tableRowElements.setRowElement(null);
-                        else
-                           tableRowElements.setRowElement(currentContentData);
-                     }
-                  }
-
-                  // TEXT, & CLOB Type Fields
-                  
-                  // Note: Some databases, MySQL, MariaDB, HSQL translate TEXT,
-                  //       LONGVARCHAR to VARCHAR. Derby in particular limits
-                  //       size for that type to much less than these required.
-                  //       TypesInfoCache, will not convert to a more appropriate
-                  //       Clob type.
-                  
-                  else if (DB_To_DBThread.isText(columnClass, columnTypeName, columnSize,
-                           DB_To_DBThread.VARCHAR_LIMIT))
-                  {
-                     currentContentData = db_resultSet.getString(columnName);
-                     
-                     if (currentContentData == null)
-                        tableRowElements.setRowElement(null);
-                     else
-                        tableRowElements.setRowElement(currentContentData);
-                  }
-                  
-                  // Default Content. A normal table entry should
-                  // fall through here to collect content as STRING.
-                  else
-                  {
-                     currentContentData = db_resultSet.getString(columnName);
-                     
-                     if (currentContentData == null)
-                        tableRowElements.setRowElement(null);
-                     else
-                        tableRowElements.setRowElement(currentContentData);
-                  }
-                  // System.out.print("SLT currentContentData: ");
-                  // System.out.print(currentContentData + "\n");
-               }
+               tableRowElements = loadRowElements(db_resultSet);
                tableRowDataQueue.put(tableRowElements);
             }
             currentTableIncrement += limitIncrement;
          }
-         while (useLimits && currentTableIncrement < rowsCount && !loadProgressBar.isCanceled());
+         while (useLimits && pageRows == limitIncrement
+                && !connectionInstance.getDataSourceType().equals(ConnectionInstance.MSACCESS)
+                && !loadProgressBar.isCanceled());
       }
       catch (SQLException sqle)
       {  
@@ -567,23 +375,13 @@ public class SQLLoadThread implements Runnable
       }
       finally
       { 
+         stopRowsCount();
          loadProgressBar.setCanceled(true);
          loadProgressBar.dispose();
          
          try
          {
-            TableRowElements finalElement = new TableRowElements();
-            
-            log(Level.INFO, "SQLLoadThread", "loadData()", "Loading Final: "
-                + TableRowElements.LAST_ELEMENT + "\n");
-            
-            finalElement.setMessage(TableRowElements.LAST_ELEMENT);
-            tableRowDataQueue.put(finalElement);
-         }
-         catch (InterruptedException ie)
-         {
-            if (debug)
-               log(Level.WARNING, "SQLLoadThread", "loadData()", ie.toString());     
+            putFinalElements();
          }
          finally
          {
@@ -605,6 +403,628 @@ public class SQLLoadThread implements Runnable
       }
    }
    
+   //==============================================================
+   // Class method to take the row count of the query in the
+   // background, setting the progress bar's task length once
+   // available so loading need not wait on the count.
+   //==============================================================
+
+   private void startRowsCount(final String methodName)
+   {
+      rowCountFuture = RowCountService.countRows(connectionInstance, sqlQuery, new RowCountListener()
+      {
+         public void rowCountAvailable(int rowsCount)
+         {
+            log(Level.FINE, "SQLLoadThread", methodName, "rowsCount: " + rowsCount);
+            
+            if (!loadProgressBar.isCanceled())
+               loadProgressBar.setTaskLength(rowsCount);
+         }
+      });
+   }
+   
+   //==============================================================
+   // Class method to cancel the background row count, queued or
+   // running, once loading is finished.
+   //==============================================================
+
+   private void stopRowsCount()
+   {
+      if (rowCountFuture != null)
+      {
+         rowCountFuture.cancel(false);
+         rowCountFuture = null;
+      }
+   }
+   
+   //==============================================================
+   // Class method to load the data with each of the given partition
+   // queries read concurrently, on separate connections, into the
+   // queue.
+   //==============================================================
+
+   private void loadPartitionedData(Connection dbConnection, ArrayList<String> partitionQueries)
+   {
+      // Method Instances
+      Thread[] partitionThreads;
+      
+      // Setup a progress bar for tracking/canceling.
+      
+      loadProgressBar = ProgressBar.createProgressIndicator("SQL Load Data");
+      
+      if (showProgressBar)
+      {
+         loadProgressBar.pack();
+         loadProgressBar.center();
+         startRowsCount("loadPartitionedData()");
+      }
+      loadProgressBar.setVisible(showProgressBar);
+      
+      // Start a reader for each partition, the first using
+      // this thread's connection.
+      
+      partitionThreads = new Thread[partitionQueries.size()];
+      loadedRows.set(0);
+      
+      try
+      {
+         for (int i = 0; i < partitionThreads.length; i++)
+         {
+            partitionThreads[i] = new Thread(new PartitionReader(partitionQueries.get(i),
+                                                                 (i == 0) ? dbConnection : null),
+                                             "sqlLoadThread" + i);
+            partitionThreads[i].start();
+         }
+         
+         for (int i = 0; i < partitionThreads.length; i++)
+            partitionThreads[i].join();
+      }
+      catch (InterruptedException ie)
+      {
+         log(Level.WARNING, "SQLLoadThread", "loadPartitionedData()", ie.toString());
+         loadProgressBar.setCanceled(true);
+      }
+      finally
+      { 
+         stopRowsCount();
+         loadProgressBar.setCanceled(true);
+         loadProgressBar.dispose();
+         
+         putFinalElements();
+      }
+   }
+   
+   //==============================================================
+   // Class method to create the queries that split the source
+   // query into partitions of a numeric key column, by ranges of
+   // the column's minimum/maximum or a modulus on it. Returns null
+   // if the query should be loaded sequentially.
+   //==============================================================
+
+   private ArrayList<String> createPartitionQueries(Connection dbConnection)
+   {
+      // Method Instances
+      ArrayList<String> partitionQueries;
+      ConnectionPool connectionPool;
+      String dataSourceType;
+      String db;
+      String column;
+      String keyField;
+      String partitionString;
+      String sqlStatementString;
+      Statement sqlStatement;
+      ResultSet db_resultSet;
+      
+      BigDecimal minimum;
+      BigDecimal maximum;
+      BigDecimal[] boundaries;
+      int partitions;
+      boolean integral;
+      
+      partitions = partitionCount;
+      
+      if (partitions <= 1)
+         return null;
+      
+      // Memory databases share a single connection.
+      
+      dataSourceType = connectionInstance.getDataSourceType();
+      db = connectionInstance.getConnectionProperties().getProperty(ConnectionProperties.DB);
+      db = (db == null) ? "" : db.toLowerCase(Locale.ENGLISH);
+      
+      if (db.indexOf("mem:") != -1 || db.indexOf("memory:") != -1
+          || dataSourceType.equals(ConnectionInstance.MSACCESS))
+         return null;
+      
+      column = getPartitionColumn();
+      
+      if (column == null)
+      {
+         log(Level.INFO, "SQLLoadThread", "createPartitionQueries()", "No Numeric Key Column");
+         return null;
+      }
+      integral = isIntegral(column);
+      
+      // Each partition requires a connection.
+      
+      connectionPool = connectionInstance.getConnectionPool();
+      
+      if (connectionPool != null)
+         partitions = Math.min(partitions, connectionPool.getMaxSize());
+      
+      if (partitions <= 1)
+         return null;
+      
+      keyField = connectionInstance.getIdentifierQuoteString() + column
+                 + connectionInstance.getIdentifierQuoteString();
+      
+      if (dataSourceType.equals(ConnectionInstance.ORACLE))
+         partitionString = "SELECT * FROM (" + sqlQuery.getSQLQuery() + ") t1 WHERE ";
+      else
+         partitionString = "SELECT * FROM (" + sqlQuery.getSQLQuery() + ") AS t1 WHERE ";
+      
+      partitionQueries = new ArrayList <String>();
+      
+      // Modulus on the key.
+      
+      if (partitionModulus && integral)
+      {
+         for (int i = 0; i < partitions; i++)
+         {
+            if (dataSourceType.equals(ConnectionInstance.MSSQL)
+                || dataSourceType.equals(ConnectionInstance.SQLITE))
+               sqlStatementString = partitionString + "ABS(" + keyField + " % " + partitions + ") = " + i;
+            else
+               sqlStatementString = partitionString + "ABS(MOD(" + keyField + ", " + partitions + ")) = " + i;
+            
+            if (i == 0)
+               sqlStatementString += " OR " + keyField + " IS NULL";
+            
+            partitionQueries.add(sqlStatementString);
+         }
+         return partitionQueries;
+      }
+      
+      // Ranges of the key.
+      
+      sqlStatement = null;
+      db_resultSet = null;
+      
+      try
+      {
+         sqlStatement = dbConnection.createStatement();
+         
+         if (dataSourceType.equals(ConnectionInstance.ORACLE))
+            sqlStatementString = "SELECT MIN(" + keyField + "), MAX(" + keyField + ") FROM ("
+                                 + sqlQuery.getSQLQuery() + ") t1";
+         else
+            sqlStatementString = "SELECT MIN(" + keyField + "), MAX(" + keyField + ") FROM ("
+                                 + sqlQuery.getSQLQuery() + ") AS t1";
+         
+         log(Level.FINE, "SQLLoadThread", "createPartitionQueries()", sqlStatementString);
+         
+         db_resultSet = sqlStatement.executeQuery(sqlStatementString);
+         
+         if (!db_resultSet.next())
+            return null;
+         
+         minimum = db_resultSet.getBigDecimal(1);
+         maximum = db_resultSet.getBigDecimal(2);
+      }
+      catch (SQLException sqle)
+      {
+         log(Level.WARNING, "SQLLoadThread", "createPartitionQueries()", sqle.toString());
+         return null;
+      }
+      finally
+      {
+         try
+         {
+            if (db_resultSet != null)
+               db_resultSet.close();
+            if (sqlStatement != null)
+               sqlStatement.close();
+         }
+         catch (SQLException sqle)
+         {
+            ConnectionInstance.displaySQLErrors(sqle, "SQLLoadThread createPartitionQueries()", debug);
+         }
+      }
+      
+      if (minimum == null || maximum == null || minimum.compareTo(maximum) >= 0)
+         return null;
+      
+      // Boundaries between partitions, the first & last
+      // being open so all rows are covered.
+      
+      boundaries = new BigDecimal[partitions];
+      
+      for (int i = 1; i < partitions; i++)
+      {
+         boundaries[i] = minimum.add(maximum.subtract(minimum).multiply(BigDecimal.valueOf(i))
+                                        .divide(BigDecimal.valueOf(partitions), MathContext.DECIMAL128));
+         
+         if (integral)
+            boundaries[i] = boundaries[i].setScale(0, RoundingMode.FLOOR);
+      }
+      
+      for (int i = 0; i < partitions; i++)
+      {
+         if (i == 0)
+            sqlStatementString = partitionString + keyField + " < " + boundaries[1].toPlainString();
+         else if (i == partitions - 1)
+            sqlStatementString = partitionString + keyField + " >= " + boundaries[i].toPlainString()
+                                 + " OR " + keyField + " IS NULL";
+         else
+            sqlStatementString = partitionString + keyField + " >= " + boundaries[i].toPlainString()
+                                 + " AND " + keyField + " < " + boundaries[i + 1].toPlainString();
+         
+         partitionQueries.add(sqlStatementString);
+      }
+      return partitionQueries;
+   }
+   
+   //==============================================================
+   // Class methods to determine the numeric column to partition
+   // on. A column set by setPartitionColumn() may be of any numeric
+   // type, otherwise the first integral column is used.
+   //==============================================================
+
+   private String getPartitionColumn()
+   {
+      // Method Instances
+      Iterator<String> columnNamesIterator;
+      String columnName;
+      
+      if (partitionColumn != null)
+      {
+         if (sqlQuery.getColumnNames().contains(partitionColumn) && isNumeric(partitionColumn))
+            return partitionColumn;
+         else
+            return null;
+      }
+      
+      columnNamesIterator = sqlQuery.getColumnNames().iterator();
+      
+      while (columnNamesIterator.hasNext())
+      {
+         columnName = columnNamesIterator.next();
+         
+         if (isIntegral(columnName))
+            return columnName;
+      }
+      return null;
+   }
+   
+   private boolean isIntegral(String columnName)
+   {
+      // Method Instances
+      Integer columnScale;
+      
+      switch (sqlQuery.getColumnSQLTypeHashMap().get(columnName).intValue())
+      {
+         case Types.TINYINT:
+         case Types.SMALLINT:
+         case Types.INTEGER:
+         case Types.BIGINT:
+            return true;
+         case Types.NUMERIC:
+         case Types.DECIMAL:
+            columnScale = sqlQuery.getColumnScaleHashMap().get(columnName);
+            return (columnScale != null && columnScale.intValue() == 0);
+         default:
+            return false;
+      }
+   }
+   
+   private boolean isNumeric(String columnName)
+   {
+      switch (sqlQuery.getColumnSQLTypeHashMap().get(columnName).intValue())
+      {
+         case Types.NUMERIC:
+         case Types.DECIMAL:
+         case Types.REAL:
+         case Types.FLOAT:
+         case Types.DOUBLE:
+            return true;
+         default:
+            return isIntegral(columnName);
+      }
+   }
+   
+   //==============================================================
+   // Class method to place a final element in the queue for each
+   // of the consumers.
+   //==============================================================
+
+   private void putFinalElements()
+   {
+      try
+      {
+         TableRowElements finalElement = new TableRowElements();
+         
+         log(Level.INFO, "SQLLoadThread", "putFinalElements()", "Loading Final: "
+             + TableRowElements.LAST_ELEMENT + " x " + consumerCount + "\n");
+         
+         finalElement.setMessage(TableRowElements.LAST_ELEMENT);
+         
+         for (int i = 0; i < consumerCount; i++)
+            tableRowDataQueue.put(finalElement);
+      }
+      catch (InterruptedException ie)
+      {
+         if (debug)
+            log(Level.WARNING, "SQLLoadThread", "putFinalElements()", ie.toString());     
+      }
+   }
+   
+   //==============================================================
+   // Class method to collect the current row of the result set
+   // into a TableRowElements.
+   //==============================================================
+
+   private TableRowElements loadRowElements(ResultSet db_resultSet) throws SQLException
+   {
+      // Method Instances
+      Iterator<String> columnNamesIterator;
+      
+      String columnName;
+      String columnClass;
+      int columnSQLType;
+      String columnTypeName;
+      int columnSize;
+      
+      Object currentContentData;
+      TableRowElements tableRowElements;
+      
+      tableRowElements = new TableRowElements(sqlQuery.getColumnNames().size());
+      columnNamesIterator = sqlQuery.getColumnNames().iterator();
+
+      while (columnNamesIterator.hasNext())
+      {
+         columnName = columnNamesIterator.next();
+         columnClass = sqlQuery.getColumnClassHashMap().get(columnName);
+         columnSQLType = (sqlQuery.getColumnSQLTypeHashMap().get(columnName)).intValue();
+         columnTypeName = sqlQuery.getColumnTypeNameHashMap().get(columnName);
+         columnSize = sqlQuery.getColumnSizeHashMap().get(columnName).intValue();
+
+         // System.out.print("SLT: " + columnName + " " + columnClass + " " + columnSQLType
+         //                   + " " + columnTypeName + " " + columnSize + " ");
+
+         // DATE Type Field
+         if (columnTypeName.equals("DATE"))
+         {
+            if (connectionInstance.getDataSourceType().equals(ConnectionInstance.SQLITE)
+                && columnSQLType == Types.VARCHAR)
+               currentContentData = db_resultSet.getString(columnName);
+            else
+               currentContentData = db_resultSet.getDate(columnName);
+            
+            if (currentContentData == null)
+               tableRowElements.setRowElement(null);
+            else
+               tableRowElements.setRowElement(currentContentData + "");
+         }
+
+         // TIME Type Field
+         else if (columnTypeName.equals("TIME"))
+         {
+            if (connectionInstance.getDataSourceType().equals(ConnectionInstance.SQLITE)
+                  && columnSQLType == Types.VARCHAR)
+               currentContentData = db_resultSet.getString(columnName);
+            else
+               currentContentData = db_resultSet.getTime(columnName);
+            
+            if (currentContentData == null)
+               tableRowElements.setRowElement(null);
+            else
+            {
+               if (connectionInstance.getDataSourceType().equals(ConnectionInstance.SQLITE)
+                   && columnSQLType == Types.VARCHAR)
+                  tableRowElements.setRowElement(currentContentData);
+               else
+                  tableRowElements.setRowElement(
+                     (new SimpleDateFormat("HH:mm:ss").format(currentContentData)));
+            }
+         }
+         
+         // TIME WITH TIME ZONE
+         else if (columnTypeName.equals("TIMETZ") || columnTypeName.equals("TIME WITH TIME ZONE"))
+         {
+            currentContentData = db_resultSet.getString(columnName);
+            
+            if (currentContentData == null)
+               tableRowElements.setRowElement(null);
+            else
+            {
+               String timeString = (String) currentContentData;
+               
+               // PostgreSQL
+               if (columnTypeName.equals("TIMETZ"))
+               {
+                  // Put in long format compatible
+                  // with for possible HSQL sink.
+                  
+                  timeString = timeString.substring(0, 8) + ".0" + timeString.substring(
+                     8, timeString.length()) + ":00";
+                  tableRowElements.setRowElement(timeString);
+               }
+               else
+               {
+                  // Insure format conforms to HH:mm:ss
+                  if (timeString.indexOf(":") == 1)
+                     timeString = "0" + timeString;
+                  
+                  tableRowElements.setRowElement(timeString);
+               }
+            }    
+         }
+
+         // TIMESTAMP Type Field
+         else if (columnTypeName.equals("TIMESTAMP")
+                  || columnTypeName.equalsIgnoreCase("DATETIME"))
+         {
+            if (connectionInstance.getDataSourceType().equals(ConnectionInstance.SQLITE)
+                  && columnSQLType == Types.VARCHAR)
+               currentContentData = db_resultSet.getString(columnName);
+            else
+               currentContentData = db_resultSet.getTimestamp(columnName);
+            
+            if (currentContentData == null)
+               tableRowElements.setRowElement(null);
+            else
+            {
+               if (connectionInstance.getDataSourceType().equals(ConnectionInstance.SQLITE)
+                     && columnSQLType == Types.VARCHAR)
+                  tableRowElements.setRowElement(currentContentData);
+               else
+                  tableRowElements.setRowElement(
+                     (new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(currentContentData)));
+            }
+         }
+
+         else if (columnTypeName.equals("TIMESTAMPTZ")
+                  || columnTypeName.equals("TIMESTAMP WITH TIME ZONE")
+                  || columnTypeName.equals("TIMESTAMP WITH LOCAL TIME ZONE"))
+         {
+            if (connectionInstance.getDataSourceType().equals(ConnectionInstance.SQLITE)
+                  && columnSQLType == Types.VARCHAR)
+               currentContentData = db_resultSet.getString(columnName);
+            else
+               currentContentData = db_resultSet.getTimestamp(columnName);
+            
+            if (currentContentData == null)
+               tableRowElements.setRowElement(null);
+            else
+            {
+               if (connectionInstance.getDataSourceType().equals(ConnectionInstance.SQLITE)
+                     && columnSQLType == Types.VARCHAR)
+                  tableRowElements.setRowElement(currentContentData);
+               else
+                  tableRowElements.setRowElement(
+                     (new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z").format(currentContentData)));
+            }
+         }
+
+         // TIMESTAMPS WITH LOCAL TIME ZONE Type Field
+         else if (columnTypeName.equals("TIMESTAMPLTZ"))
+         {
+            currentContentData = db_resultSet.getString(columnName);
+            
+            if (currentContentData == null)
+               tableRowElements.setRowElement(null);
+            else
+               tableRowElements.setRowElement(currentContentData);
+         }
+
+         // YEAR Type Field
+         else if (columnTypeName.equals("YEAR"))
+         {
+            currentContentData = db_resultSet.getString(columnName);
+            
+            if (currentContentData == null)
+               tableRowElements.setRowElement(null);
+            else
+            {
+               String displayYear = (String) currentContentData;
+               displayYear = displayYear.trim();
+
+               if (columnSize == 2)
+               {
+                  if (displayYear.length() >= 4)
+                     displayYear = displayYear.substring(2, 4);
+               }
+               else
+                  displayYear = displayYear.substring(0, 4);
+
+               tableRowElements.setRowElement(displayYear);
+            } 
+         }
+
+         // BlOB, BYTEA, BINARY Type Fields
+         else if (DB_To_DBThread.isBlob(columnClass, columnTypeName))
+         {
+            currentContentData = db_resultSet.getBytes(columnName);
+            
+            if (currentContentData == null)
+               tableRowElements.setRowElement(null);
+            else
+               tableRowElements.setRowElement(currentContentData);
+         }
+
+         // BIT Type Field
+         else if (columnClass.indexOf("Boolean") == -1 && columnTypeName.equals("BIT"))
+         {
+            if (connectionInstance.getDataSourceType().equals(ConnectionInstance.MYSQL)
+                || connectionInstance.getDataSourceType().equals(ConnectionInstance.MARIADB))
+            {
+               currentContentData = db_resultSet.getByte(columnName);
+               
+               if (currentContentData == null)
+                  tableRowElements.setRowElement(null);
+               else
+               {
+                  String byteString = Byte.toString((byte) currentContentData);
+                  tableRowElements.setRowElement(Integer.toBinaryString(Integer.parseInt(byteString)));
+               }
+            }
+            else
+            {
+               currentContentData = db_resultSet.getString(columnName);
+               
+               if (currentContentData == null)
+                  tableRowElements.setRowElement(null);
+               else
+                  tableRowElements.setRowElement(currentContentData);
+            }
+         }
+
+         // TEXT, & CLOB Type Fields
+         
+         // Note: Some databases, MySQL, MariaDB, HSQL translate TEXT,
+         //       LONGVARCHAR to VARCHAR. Derby in particular limits
+         //       size for that type to much less than these required.
+         //       TypesInfoCache, will not convert to a more appropriate
+         //       Clob type.
+         
+         else if (DB_To_DBThread.isText(columnClass, columnTypeName, columnSize,
+                  DB_To_DBThread.VARCHAR_LIMIT))
+         {
+            currentContentData = db_resultSet.getString(columnName);
+            
+            if (currentContentData == null)
+               tableRowElements.setRowElement(null);
+            else
+               tableRowElements.setRowElement(currentContentData);
+         }
+         
+         // Default Content. A normal table entry should
+         // fall through here to collect content as STRING.
+         else
+         {
+            currentContentData = db_resultSet.getString(columnName);
+            
+            if (currentContentData == null)
+               tableRowElements.setRowElement(null);
+            else
+               tableRowElements.setRowElement(currentContentData);
+         }
+         // System.out.print("SLT currentContentData: ");
+         // System.out.print(currentContentData + "\n");
+      }
+      return tableRowElements;
+   }
+   
+   //==============================================================
+   // Class Method to obtain the number of rows read from the source
+   // & placed in the queue.
+   //==============================================================
+
+   public int getLoadedRows()
+   {
+      return loadedRows.get();
+   }
+   
    //==============================================================
    // Class Method to allow a logger to be assigned to the thread.
    //==============================================================
@@ -628,6 +1048,38 @@ public class SQLLoadThread implements Runnable
          threadLogger.logp(level, sourceClass, sourceMethod, msg);
    }
    
+   //==============================================================
+   // Class Method to set the number of consumers draining the
+   // queue, each receiving a final LAST_ELEMENT.
+   //==============================================================
+
+   public void setConsumerCount(int count)
+   {
+      consumerCount = Math.max(1, count);
+   }
+   
+   //==============================================================
+   // Class Methods to set up a partitioned load. With a count
+   // greater than one the query is split on a numeric key column,
+   // by ranges or modulus, with each partition read concurrently.
+   // The column defaults to the first integral column.
+   //==============================================================
+
+   public void setPartitionCount(int count)
+   {
+      partitionCount = Math.max(1, count);
+   }
+   
+   public void setPartitionColumn(String columnName)
+   {
+      partitionColumn = columnName;
+   }
+   
+   public void setPartitionModulus(boolean value)
+   {
+      partitionModulus = value;
+   }
+   
    //==============================================================
    // Class Method to allow a logger to be assigned to the thread.
    //==============================================================
@@ -636,4 +1088,81 @@ public class SQLLoadThread implements Runnable
    {
       threadLogger = logger;
    }
+   
+   //==============================================================
+   // Inner class to read a single partition into the queue.
+   //==============================================================
+
+   private class PartitionReader implements Runnable
+   {
+      private String sqlStatementString;
+      private Connection dbConnection;
+      
+      PartitionReader(String sqlStatementString, Connection dbConnection)
+      {
+         this.sqlStatementString = sqlStatementString;
+         this.dbConnection = dbConnection;
+      }
+      
+      public void run()
+      {
+         // Method Instances
+         Connection partitionConnection;
+         Statement sqlStatement;
+         ResultSet db_resultSet;
+         
+         sqlStatement = null;
+         db_resultSet = null;
+         
+         if (dbConnection != null)
+            partitionConnection = dbConnection;
+         else
+            partitionConnection = connectionInstance.getConnection("SQLLoadThread PartitionReader");
+         
+         try
+         {
+            if (partitionConnection == null)
+               throw new SQLException("Partition Connection Failed");
+            
+            log(Level.FINE, "SQLLoadThread", "PartitionReader run()", sqlStatementString);
+            
+            sqlStatement = partitionConnection.createStatement();
+            db_resultSet = sqlStatement.executeQuery(sqlStatementString);
+            
+            while (db_resultSet.next() && !loadProgressBar.isCanceled())
+            {
+               loadProgressBar.setCurrentValue(loadedRows.incrementAndGet());
+               tableRowDataQueue.put(loadRowElements(db_resultSet));
+            }
+         }
+         catch (SQLException sqle)
+         {
+            // Incomplete data, stop all partitions.
+            loadProgressBar.setCanceled(true);
+            ConnectionInstance.displaySQLErrors(sqle, "SQLLoadThread PartitionReader run()", debug);
+         }
+         catch (InterruptedException ie)
+         {
+            loadProgressBar.setCanceled(true);
+            log(Level.WARNING, "SQLLoadThread", "PartitionReader run()", ie.toString());
+         }
+         finally
+         {
+            try
+            {
+               if (db_resultSet != null)
+                  db_resultSet.close();
+               if (sqlStatement != null)
+                  sqlStatement.close();
+            }
+            catch (SQLException sqle)
+            {
+               ConnectionInstance.displaySQLErrors(sqle, "SQLLoadThread PartitionReader run()", debug);
+            }
+            
+            if (dbConnection == null && partitionConnection != null)
+               connectionInstance.closeConnection(partitionConnection, "SQLLoadThread PartitionReader");
+         }
+      }
+   }
 }
\ No newline at end of file
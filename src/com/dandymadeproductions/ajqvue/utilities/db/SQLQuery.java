@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.7 07/11/2018
+// Version 1.8 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -51,6 +51,9 @@
 //             of columnSQLType, Maintained Logic.
 //         1.7 Added SQLite Temporal Getters, getDate(), getTime/TZ(), &
 //             getTimestamp().
+//         1.8 Main executeSQL() Flight Recorder QueryEvent. Added Method
+//             getRowCountSQL(), Used by getRowCount() & RowCountService for
+//             Background Counts.
 //             
 //-----------------------------------------------------------------
 //                 danap@dandymadeproductions.com
@@ -71,13 +74,15 @@ import java.util.Locale;
 
 import com.dandymadeproductions.ajqvue.datasource.ConnectionInstance;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.utilities.metrics.FlightRecording;
+import com.dandymadeproductions.ajqvue.utilities.metrics.QueryEvent;
 
 /**
  *    The SQLQuery class provides the means to collect in a generic manner
  * the characteristics of a SQL query.   
  * 
  * @author Dana M. Proctor
- * @version 1.7 07/11/2018
+ * @version 1.8 10/18/2026
  */
 
 public class SQLQuery
@@ -208,6 +213,7 @@ public class SQLQuery
       
       ResultSet db_resultSet;
       ResultSetMetaData tableMetaData;
+      QueryEvent queryEvent;
 
       // Checking to see if anything in the input to
       // execute or valid connection.
@@ -229,6 +235,14 @@ public class SQLQuery
       else
          isOracleDB = false;
       
+      queryEvent = null;
+      
+      if (FlightRecording.isEnabled())
+      {
+         queryEvent = new QueryEvent(sqlString);
+         queryEvent.begin();
+      }
+      
       try
       {
          sqlStatement = dbConnection.createStatement();
@@ -397,6 +411,12 @@ public class SQLQuery
       }
       finally
       {
+         if (queryEvent != null)
+         {
+            queryEvent.setResult(validQuery, columnNames.size());
+            queryEvent.commit();
+         }
+         
          try
          {
             if (db_resultSet != null) 
@@ -751,16 +771,7 @@ public class SQLQuery
       try
       {
          sqlStatement = dbConnection.createStatement();
-         sqlStatementString = "SELECT COUNT(*) AS row_count FROM (" + sqlString;
-         
-         if (dataSourceType.equals(ConnectionManager.MYSQL)
-             || dataSourceType.equals(ConnectionManager.MARIADB)
-             || dataSourceType.equals(ConnectionManager.POSTGRESQL)
-             || dataSourceType.equals(ConnectionManager.DERBY)
-             || dataSourceType.equals(ConnectionManager.MSSQL))
-              sqlStatementString += ") AS AS1";
-           else
-              sqlStatementString += ")";
+         sqlStatementString = getRowCountSQL(dataSourceType);
          // System.out.println("SQLQuery getRowCount() " + sqlStatementString);
          
          rs = sqlStatement.executeQuery(sqlStatementString);
@@ -800,6 +811,34 @@ public class SQLQuery
       return rowCount;
    }
    
+   //==============================================================
+   // Class method to allow classes to obtain the statement that
+   // counts the rows of the defined query, NULL if not a valid
+   // query, so the count may be taken in the background.
+   //==============================================================
+   
+   public String getRowCountSQL(String dataSourceType)
+   {
+      // Method Instances
+      String sqlStatementString;
+      
+      if (validQuery != 1)
+         return null;
+      
+      sqlStatementString = "SELECT COUNT(*) AS row_count FROM (" + sqlString;
+      
+      if (dataSourceType.equals(ConnectionManager.MYSQL)
+          || dataSourceType.equals(ConnectionManager.MARIADB)
+          || dataSourceType.equals(ConnectionManager.POSTGRESQL)
+          || dataSourceType.equals(ConnectionManager.DERBY)
+          || dataSourceType.equals(ConnectionManager.MSSQL))
+         sqlStatementString += ") AS AS1";
+      else
+         sqlStatementString += ")";
+      
+      return sqlStatementString;
+   }
+   
    //==============================================================
    // Class method to allow classes to obtain the query used for
    // the object.
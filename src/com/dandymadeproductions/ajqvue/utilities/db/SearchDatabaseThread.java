@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.2 07/20/2018
+// Version 1.3 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -34,6 +34,11 @@
 //         1.1 Moved to utilities.db Package. Updated Import for Utils.
 //         1.2 Rebuilt Method createColumnsSQLQuery() to Use SQLQuery
 //             & Handle SQLite, Affinity.
+//         1.3 Rewrite to Search Tables on a Bounded Pool of
+//             SearchWorkers, Each With Its Own Pooled Connection.
+//             Added Streaming of Table Results via pollTableResult() &
+//             searchResultButton, Per Table Search Times, Statement
+//             Cancel in cancel().
 //         
 //-----------------------------------------------------------------
 //                  danap@dandymadeproductions.com
@@ -46,12 +51,25 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.swing.JButton;
 import javax.swing.JProgressBar;
+import javax.swing.SwingUtilities;
 
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionPool;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionProperties;
+import com.dandymadeproductions.ajqvue.gui.panels.DBTablesPanel;
 import com.dandymadeproductions.ajqvue.gui.panels.TableTabPanel_SQLite;
 import com.dandymadeproductions.ajqvue.utilities.Utils;
 
@@ -60,7 +78,7 @@ import com.dandymadeproductions.ajqvue.utilities.Utils;
  * through all the database tables for a given input string.
  * 
  * @author Dana Proctor
- * @version 1.2 07/20/2018
+ * @version 1.3 10/18/2026
  */
 
 public class SearchDatabaseThread implements Runnable
@@ -71,51 +89,64 @@ public class SearchDatabaseThread implements Runnable
    private String searchQueryString;
    private JProgressBar searchProgressBar;
    private JButton searchCompleteButton;
+   private JButton searchResultButton;
    
    private int[] tableSearchResultCounts;
-   private int resultsCount;
+   private long[] tableSearchTimes;
    private Object[][] resultData;
-   private boolean cancelSearch;
+   private volatile boolean cancelSearch;
+   
+   private AtomicInteger nextTableIndex;
+   private AtomicInteger searchedTableCount;
+   private ConcurrentLinkedQueue<Integer> completedTables;
+   private Set<Statement> activeStatements;
 
    //==============================================================
-   // SearchDatabaseThread Constructor
+   // SearchDatabaseThread Constructors
    //==============================================================
 
    public SearchDatabaseThread(ArrayList<String> databaseTables, boolean[] selectedTables, String searchString,
                                JProgressBar progressBar, JButton searchCompleteButton)
+   {
+      this(databaseTables, selectedTables, searchString, progressBar, searchCompleteButton, null);
+   }
+   
+   public SearchDatabaseThread(ArrayList<String> databaseTables, boolean[] selectedTables, String searchString,
+                               JProgressBar progressBar, JButton searchCompleteButton,
+                               JButton searchResultButton)
    {
       this.databaseTables = databaseTables;
       this.selectedTables = selectedTables.clone();
       this.searchQueryString = searchString;
       this.searchProgressBar = progressBar;
       this.searchCompleteButton = searchCompleteButton;
+      this.searchResultButton = searchResultButton;
 
       cancelSearch = false;
+      completedTables = new ConcurrentLinkedQueue <Integer>();
+      activeStatements = Collections.newSetFromMap(new ConcurrentHashMap <Statement, Boolean>());
    }
    
    //==============================================================
-   // Class method for normal start of the thread
+   // Class method for normal start of the thread. The selected
+   // tables are searched by a bounded number of workers, each
+   // with its own connection. Table results are announced through
+   // the searchResultButton as each completes.
    //==============================================================
 
    public void run()
    {
       // Method Instances
-      final Connection dbConnection;
-
-      Thread[] tableSearchThreads;
-      String columnsSQLQuery, sqlTable;
-      String identifierQuoteString, schemaTableName;
-
-      dbConnection = ConnectionManager.getConnection("SearchDatabaseThread queryDatabase()");
-      
-      if (dbConnection == null)
-         return;
+      ExecutorService searchExecutor;
+      int workerCount;
+      int resultsCount;
 
       // Setting up various instances needed.
       
-      identifierQuoteString = ConnectionManager.getIdentifierQuoteString();
-      tableSearchThreads = new Thread[databaseTables.size()];
       tableSearchResultCounts = new int[databaseTables.size()];
+      tableSearchTimes = new long[databaseTables.size()];
+      nextTableIndex = new AtomicInteger(0);
+      searchedTableCount = new AtomicInteger(0);
 
       // Fill search count results array with -1 so we know when
       // there is problem with the query for the table.
@@ -124,45 +155,137 @@ public class SearchDatabaseThread implements Runnable
          tableSearchResultCounts[i] = -1;
 
       // =====================================================
-      // Begin cycling through the tables, creating the search
-      // query and executing each as a separate thread.
+      // Begin the workers which cycle through the tables,
+      // creating the search query and executing each.
+      
+      workerCount = getWorkerCount();
+      searchExecutor = Executors.newFixedThreadPool(workerCount);
+      
+      for (int i = 0; i < workerCount; i++)
+         searchExecutor.execute(new SearchWorker());
+      
+      searchExecutor.shutdown();
 
-      resultsCount = 0;
-      int i = 0;
+      // ===============================================
+      // Wait for all to complete.
       
-      do
+      try
       {
-         final int index = i;
-         final String searchQuery;
-         
-         // Optimize by not bothering with excluded
-         // tables.
-         
-         if (selectedTables[i] == false)
-         {
-            resultsCount++;
-            i++;
-            continue;
-         }
+         while (!searchExecutor.awaitTermination(1, TimeUnit.SECONDS));
+      }
+      catch (InterruptedException e)
+      {
+         if (Ajqvue.getDebug())
+            System.out.println("SearchDatabaseThread run() " + e.toString());
          
-         // Properly format the string used in the query
-         // for the table.
-
-         sqlTable = databaseTables.get(index);
-         schemaTableName = Utils.getSchemaTableName(sqlTable);
+         cancel();
+      }
 
-         // Create the search query.
-         columnsSQLQuery = "";
-         
-         try
+      // =================================
+      // Create data object with results.
+      
+      resultsCount = 0;
+      
+      for (int j = 0; j < tableSearchResultCounts.length; j++)
+      {
+         if (tableSearchResultCounts[j] != 0)
+            resultsCount++;
+      }
+      
+      resultData = new Object[resultsCount][4];
+      
+      int j = 0;
+      int k = 0;
+      
+      while (j < databaseTables.size() && k < resultsCount)
+      {
+         if (tableSearchResultCounts[j] != 0)
          {
-            columnsSQLQuery = createColumnsSQLQuery(dbConnection, schemaTableName,
-                                                    searchQueryString);
+            resultData[k][0] = Boolean.valueOf(selectedTables[j]);
+            resultData[k][1] = databaseTables.get(j);
+            resultData[k][2] = Integer.valueOf(tableSearchResultCounts[j]);
+            resultData[k++][3] = Long.valueOf(tableSearchTimes[j]);
          }
-         catch (SQLException e)
+         j++;
+      }
+      
+      SwingUtilities.invokeLater(new Runnable()
+      {
+         public void run()
          {
-            ConnectionManager.displaySQLErrors(e, "SearchDatabaseThread run()");
+            searchCompleteButton.doClick();
          }
+      });
+   }
+   
+   //==============================================================
+   // Class Method to determine the number of search workers. The
+   // shared memory connection is not divided & one pooled
+   // connection is left for other activity.
+   //==============================================================
+   
+   private int getWorkerCount()
+   {
+      // Method Instances
+      ConnectionPool connectionPool;
+      String db;
+      int selectedCount;
+      int workerCount;
+      
+      selectedCount = 0;
+      
+      for (int i = 0; i < selectedTables.length; i++)
+      {
+         if (selectedTables[i])
+            selectedCount++;
+      }
+      
+      workerCount = Math.min(DBTablesPanel.getGeneralDBProperties().getSearchWorkers(), selectedCount);
+      
+      db = ConnectionManager.getConnectionProperties().getProperty(ConnectionProperties.DB);
+      db = (db == null) ? "" : db.toLowerCase(Locale.ENGLISH);
+      
+      if (db.indexOf("mem:") != -1 || db.indexOf("memory:") != -1)
+         workerCount = 1;
+      
+      connectionPool = ConnectionManager.getConnectionPool();
+      
+      if (connectionPool != null)
+         workerCount = Math.min(workerCount, connectionPool.getMaxSize() - 1);
+      
+      return Math.max(1, workerCount);
+   }
+   
+   //==============================================================
+   // Class Method to search a single table, recording the count of
+   // rows matching & the time taken.
+   //==============================================================
+
+   private void searchTable(Connection dbConnection, int index)
+   {
+      // Method Instances
+      String columnsSQLQuery;
+      String schemaTableName;
+      String identifierQuoteString;
+      String searchQuery;
+      Statement sqlStatement;
+      ResultSet rs;
+      long startTime;
+      
+      startTime = System.nanoTime();
+      sqlStatement = null;
+      rs = null;
+      
+      // Properly format the string used in the query
+      // for the table.
+
+      identifierQuoteString = ConnectionManager.getIdentifierQuoteString();
+      schemaTableName = Utils.getSchemaTableName(databaseTables.get(index));
+
+      try
+      {
+         // Create the search query.
+         columnsSQLQuery = createColumnsSQLQuery(dbConnection, schemaTableName, searchQueryString);
 
          // Problems creating the search, columns, query will be 
          // return as a empty string or table to be not searched
@@ -170,116 +293,82 @@ public class SearchDatabaseThread implements Runnable
          // to be displayed, Will be invalid -1.
          
          if (columnsSQLQuery.equals(""))
-         {
-            resultsCount++;
-            i++;
-            continue;
-         }
+            return;
 
          // Actual complete search query.
          searchQuery = "SELECT COUNT(*) AS " + identifierQuoteString + "Count"
                        + identifierQuoteString + " FROM " + schemaTableName
                        + " WHERE " + columnsSQLQuery;
          // System.out.println(searchQuery);
-         searchProgressBar.setValue(index + 1);
-
-         // Inner class to execute the query as a new thread.
-         tableSearchThreads[i] = new Thread(new Runnable()
-         {
-            public void run()
-            {
-               Statement sqlStatement = null;
-               ResultSet rs = null;
-               
-               try
-               {
-                  sqlStatement = dbConnection.createStatement();
-                  rs = sqlStatement.executeQuery(searchQuery);
-                  while (rs.next())
-                  {
-                     int resultCount = rs.getInt(1);
-                     tableSearchResultCounts[index] = resultCount;
-                     if (resultCount > 0)
-                        resultsCount++;
-                  }
-               }
-               catch (SQLException e)
-               {
-                  if (Ajqvue.getDebug())
-                     System.out.println("SearchDatabaseThread run() " + e.toString());
-                  
-                  resultsCount++;
-               }
-               finally
-               {
-                  try
-                  {
-                     if (rs != null)
-                        rs.close();
-                  }
-                  catch (SQLException sqle)
-                  {
-                     ConnectionManager.displaySQLErrors(sqle, "SearchDatabaseThread run()");
-                  }
-                  finally
-                  {
-                     try
-                     {
-                        if (sqlStatement != null)
-                           sqlStatement.close();
-                     }
-                     catch (SQLException sqle)
-                     {
-                        ConnectionManager.displaySQLErrors(sqle, "SearchDatabaseThread run()");
-                     }
-                  }
-               }
-            }
-         });
-         tableSearchThreads[i].start();
-         i++;
+         
+         sqlStatement = dbConnection.createStatement();
+         activeStatements.add(sqlStatement);
+         
+         if (cancelSearch)
+            return;
+         
+         rs = sqlStatement.executeQuery(searchQuery);
+         
+         if (rs.next())
+            tableSearchResultCounts[index] = rs.getInt(1);
       }
-      while (i < databaseTables.size() && !cancelSearch);
-
-      // ===============================================
-      // Queries now execute via a new thread for each,
-      // so wait for all to complete.
-      
-      for (int j = 0; j < databaseTables.size(); j++)
+      catch (SQLException e)
+      {
+         if (Ajqvue.getDebug())
+            System.out.println("SearchDatabaseThread searchTable() " + e.toString());
+      }
+      finally
       {
+         tableSearchTimes[index] = (System.nanoTime() - startTime) / 1000000L;
+         
          try
          {
-            if (tableSearchThreads[j] != null)
-               tableSearchThreads[j].join();
+            if (rs != null)
+               rs.close();
          }
-         catch (InterruptedException e)
+         catch (SQLException sqle)
          {
-            if (Ajqvue.getDebug())
-               System.out.println("SearchDatabaseThread run() " + e.toString());
+            ConnectionManager.displaySQLErrors(sqle, "SearchDatabaseThread searchTable()");
+         }
+         finally
+         {
+            try
+            {
+               if (sqlStatement != null)
+               {
+                  activeStatements.remove(sqlStatement);
+                  sqlStatement.close();
+               }
+            }
+            catch (SQLException sqle)
+            {
+               ConnectionManager.displaySQLErrors(sqle, "SearchDatabaseThread searchTable()");
+            }
          }
       }
-
-      // =================================
-      // Create data object with results.
-      
-      resultData = new Object[resultsCount][3];
+   }
+   
+   //==============================================================
+   // Class Method to announce a table's search has completed.
+   //==============================================================
+   
+   private void tableSearchCompleted(int index)
+   {
+      final int searchedCount;
       
-      int j = 0;
-      int k = 0;
+      completedTables.add(Integer.valueOf(index));
+      searchedCount = searchedTableCount.incrementAndGet();
       
-      while (j < databaseTables.size() && k < resultsCount)
+      SwingUtilities.invokeLater(new Runnable()
       {
-         if (tableSearchResultCounts[j] != 0)
+         public void run()
          {
-            resultData[k][0] = Boolean.valueOf(selectedTables[j]);
-            resultData[k][1] = databaseTables.get(j);
-            resultData[k++][2] = Integer.valueOf(tableSearchResultCounts[j]);
+            searchProgressBar.setValue(searchedCount);
+            
+            if (searchResultButton != null)
+               searchResultButton.doClick();
          }
-         j++;
-      }
-      
-      searchCompleteButton.doClick();
-      ConnectionManager.closeConnection(dbConnection, "SearchDatabaseThread queryDatabase()");
+      });
    }
    
    //==============================================================
@@ -452,7 +541,44 @@ public class SearchDatabaseThread implements Runnable
    
    public void cancel()
    {
-      cancelSearch = true;;
+      cancelSearch = true;
+      
+      // Stop the in-flight table searches.
+      
+      for (Statement sqlStatement : activeStatements)
+      {
+         try
+         {
+            sqlStatement.cancel();
+         }
+         catch (SQLException e)
+         {
+            if (Ajqvue.getDebug())
+               System.out.println("SearchDatabaseThread cancel() " + e.toString());
+         }
+      }
+   }
+   
+   //==============================================================
+   // Class Method to obtain the result of the next table searched,
+   // include, table, count, & time in milliseconds, since the last
+   // call. Returns NULL when there are no more at present.
+   //==============================================================
+   
+   public Object[] pollTableResult()
+   {
+      // Method Instances
+      Integer index;
+      
+      index = completedTables.poll();
+      
+      if (index == null)
+         return null;
+      
+      return new Object[] {Boolean.valueOf(selectedTables[index.intValue()]),
+                           databaseTables.get(index.intValue()),
+                           Integer.valueOf(tableSearchResultCounts[index.intValue()]),
+                           Long.valueOf(tableSearchTimes[index.intValue()])};
    }
    
    //==============================================================
@@ -468,4 +594,43 @@ public class SearchDatabaseThread implements Runnable
       else
          return null;
    }
-}
\ No newline at end of file
+   
+   //==============================================================
+   // Inner class to search the selected tables, taking the next
+   // available, on its own connection.
+   //==============================================================
+   
+   private class SearchWorker implements Runnable
+   {
+      public void run()
+      {
+         // Method Instances
+         Connection dbConnection;
+         int index;
+         
+         dbConnection = ConnectionManager.getConnection("SearchDatabaseThread SearchWorker");
+         
+         if (dbConnection == null)
+            return;
+         
+         try
+         {
+            while (!cancelSearch && (index = nextTableIndex.getAndIncrement()) < databaseTables.size())
+            {
+               // Optimize by not bothering with excluded
+               // tables.
+               
+               if (!selectedTables[index])
+                  continue;
+               
+               searchTable(dbConnection, index);
+               tableSearchCompleted(index);
+            }
+         }
+         finally
+         {
+            ConnectionManager.closeConnection(dbConnection, "SearchDatabaseThread SearchWorker");
+         }
+      }
+   }
+}
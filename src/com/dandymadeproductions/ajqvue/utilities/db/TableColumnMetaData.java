@@ -0,0 +1,544 @@
+//=================================================================
+//                    TableColumnMetaData
+//=================================================================
+//
+//    This class provides the means to collect the column names,
+// types, keys, & auto increment fields of a database table without
+// the need of creating a TableTabPanel.
+//
+//                  << TableColumnMetaData.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial TableColumnMetaData Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities.db;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.StringTokenizer;
+
+import com.dandymadeproductions.ajqvue.Ajqvue;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
+import com.dandymadeproductions.ajqvue.datasource.ConnectionProperties;
+import com.dandymadeproductions.ajqvue.datasource.SchemaMetadataCache;
+import com.dandymadeproductions.ajqvue.utilities.Utils;
+
+/**
+ *    The TableColumnMetaData class provides the means to collect the
+ * column names, types, keys, & auto increment fields of a database table
+ * without the need of creating a TableTabPanel. The characteristics are
+ * obtained as the data source's TableTabPanel would, through the same probe
+ * queries of the SchemaMetadataCache, so may be used by background threads.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class TableColumnMetaData
+{
+   // Class Instances.
+   private String sqlTable;
+   private String dataSourceType;
+   private String schemaTableName;
+   private String identifierQuoteString;
+
+   private ArrayList<String> columnHeadings;
+   private ArrayList<String> primaryKeys;
+   private HashMap<String, String> columnNamesHashMap;
+   private HashMap<String, String> columnClassHashMap;
+   private HashMap<String, Integer> columnSQLTypeHashMap;
+   private HashMap<String, String> columnTypeNameHashMap;
+   private HashMap<String, String> autoIncrementHashMap;
+
+   //==============================================================
+   // TableColumnMetaData Constructor
+   //==============================================================
+
+   public TableColumnMetaData(String table, String dataSourceType)
+   {
+      sqlTable = table;
+      this.dataSourceType = dataSourceType;
+
+      schemaTableName = Utils.getSchemaTableName(sqlTable);
+      identifierQuoteString = ConnectionManager.getIdentifierQuoteString();
+
+      columnHeadings = new ArrayList <String>();
+      primaryKeys = new ArrayList <String>();
+      columnNamesHashMap = new HashMap <String, String>();
+      columnClassHashMap = new HashMap <String, String>();
+      columnSQLTypeHashMap = new HashMap <String, Integer>();
+      columnTypeNameHashMap = new HashMap <String, String>();
+      autoIncrementHashMap = new HashMap <String, String>();
+   }
+
+   //==============================================================
+   // Class method to collect the table's column characteristics.
+   // The data source's differences are those handled in each of
+   // the TableTabPanels' getColumnNames().
+   //==============================================================
+
+   public void collectColumnMetaData(Connection dbConnection) throws SQLException
+   {
+      // Method Instances
+      Statement sqlStatement;
+      ResultSet rs;
+      DatabaseMetaData dbMetaData;
+      ResultSetMetaData tableMetaData;
+      SchemaMetadataCache schemaMetadataCache;
+
+      String schemaName;
+      String tableName;
+      String catalogArgument;
+      String schemaArgument;
+      String tableArgument;
+
+      String colNameString;
+      String headingString;
+      String columnClass;
+      Integer columnSQLType;
+      String columnTypeName;
+
+      sqlStatement = null;
+      rs = null;
+
+      try
+      {
+         schemaMetadataCache = ConnectionManager.getSchemaMetadataCache();
+         sqlStatement = dbConnection.createStatement();
+         dbMetaData = dbConnection.getMetaData();
+
+         if (sqlTable.indexOf(".") != -1)
+         {
+            schemaName = sqlTable.substring(0, sqlTable.indexOf("."));
+            tableName = sqlTable.substring(sqlTable.indexOf(".") + 1);
+         }
+         else
+         {
+            schemaName = "";
+            tableName = sqlTable;
+         }
+
+         tableMetaData = schemaMetadataCache.getTableMetaData(sqlTable, sqlStatement,
+                                                              getProbeSQL());
+
+         // Key lookup arguments.
+
+         if (dataSourceType.equals(ConnectionManager.ORACLE)
+             || dataSourceType.equals(ConnectionManager.MSSQL))
+         {
+            catalogArgument = ConnectionManager.getConnectionProperties().getProperty(
+               ConnectionProperties.DB);
+            if (dataSourceType.equals(ConnectionManager.MSSQL) && catalogArgument.indexOf(";") != -1)
+               catalogArgument = catalogArgument.substring(0, catalogArgument.indexOf(";"));
+
+            schemaArgument = schemaName;
+            tableArgument = tableName;
+         }
+         else
+         {
+            catalogArgument = tableMetaData.getCatalogName(1);
+            schemaArgument = tableMetaData.getSchemaName(1);
+            tableArgument = tableMetaData.getTableName(1);
+
+            if ((dataSourceType.indexOf(ConnectionManager.HSQL) != -1
+                 || dataSourceType.equals(ConnectionManager.MSACCESS))
+                && catalogArgument != null && catalogArgument.equals(""))
+               catalogArgument = null;
+
+            if (dataSourceType.equals(ConnectionManager.MSACCESS)
+                && schemaArgument != null && schemaArgument.equals(""))
+               schemaArgument = null;
+         }
+
+         // Primary Key(s) & Additional Indexes.
+
+         if (dataSourceType.equals(ConnectionManager.MYSQL)
+             || dataSourceType.equals(ConnectionManager.MARIADB))
+         {
+            rs = schemaMetadataCache.executeQuery(sqlTable, sqlStatement,
+                                                  "DESCRIBE " + schemaTableName);
+            while (rs.next())
+            {
+               colNameString = rs.getString("Field");
+
+               if (rs.getString("Key").indexOf("PRI") != -1)
+                  primaryKeys.add(colNameString);
+
+               if (rs.getString("Extra").indexOf("auto_increment") != -1)
+                  autoIncrementHashMap.put(parseColumnNameField(colNameString), colNameString);
+            }
+            rs.close();
+
+            rs = schemaMetadataCache.executeQuery(sqlTable, sqlStatement,
+                                                  "SHOW INDEX FROM " + schemaTableName);
+            while (rs.next())
+            {
+               colNameString = rs.getString("Column_name");
+
+               if (!primaryKeys.contains(colNameString))
+                  primaryKeys.add(colNameString);
+            }
+            rs.close();
+         }
+         else
+         {
+            // Access 97 Does not support.
+            if (!dataSourceType.equals(ConnectionManager.MSACCESS))
+            {
+               rs = schemaMetadataCache.getPrimaryKeys(sqlTable, dbMetaData, catalogArgument,
+                                                       schemaArgument, tableArgument);
+               while (rs.next())
+               {
+                  if (rs.getString("COLUMN_NAME").indexOf("chunk") == -1
+                      && rs.getString("TABLE_NAME").equals(tableName))
+                     primaryKeys.add(rs.getString("COLUMN_NAME"));
+               }
+               rs.close();
+            }
+
+            if (dataSourceType.equals(ConnectionManager.ORACLE))
+               rs = getOracleIndexInfo(schemaMetadataCache, dbMetaData, catalogArgument,
+                                       schemaName, tableName);
+            else
+               rs = schemaMetadataCache.getIndexInfo(sqlTable, dbMetaData, catalogArgument,
+                                                     schemaArgument, tableArgument, false, false);
+
+            if (rs != null)
+            {
+               while (rs.next())
+               {
+                  if (rs.getString("COLUMN_NAME") != null && rs.getString("TABLE_NAME").equals(tableName)
+                      && !primaryKeys.contains(rs.getString("COLUMN_NAME")))
+                     primaryKeys.add(rs.getString("COLUMN_NAME"));
+               }
+               rs.close();
+            }
+         }
+
+         // Column Names, Types, & Auto Increment Fields.
+
+         for (int i = 1; i < tableMetaData.getColumnCount() + 1; i++)
+         {
+            colNameString = tableMetaData.getColumnName(i);
+            headingString = parseColumnNameField(colNameString);
+            columnClass = tableMetaData.getColumnClassName(i);
+            columnSQLType = Integer.valueOf(tableMetaData.getColumnType(i));
+            columnTypeName = tableMetaData.getColumnTypeName(i);
+
+            // These going to be a problem so skip these columns.
+
+            if (columnClass == null && columnTypeName == null)
+               continue;
+
+            if (dataSourceType.equals(ConnectionManager.MSSQL)
+                && columnTypeName.toUpperCase(Locale.ENGLISH).equals("TIMESTAMP"))
+               continue;
+
+            if (columnClass == null)
+            {
+               if (dataSourceType.equals(ConnectionManager.ORACLE)
+                   && columnTypeName.toUpperCase(Locale.ENGLISH).equals("BINARY_FLOAT"))
+               {
+                  columnClass = "java.lang.Float";
+                  columnTypeName = "FLOAT";
+               }
+               else if (dataSourceType.equals(ConnectionManager.ORACLE)
+                        && columnTypeName.toUpperCase(Locale.ENGLISH).equals("BINARY_DOUBLE"))
+               {
+                  columnClass = "java.lang.Double";
+                  columnTypeName = "DOUBLE";
+               }
+               else
+                  columnClass = columnTypeName;
+            }
+
+            if (dataSourceType.equals(ConnectionManager.MSACCESS)
+                && columnTypeName.toUpperCase(Locale.ENGLISH).equals("COUNTER"))
+               columnTypeName = "INTEGER";
+
+            if (dataSourceType.equals(ConnectionManager.SQLITE)
+                && (columnTypeName.toUpperCase(Locale.ENGLISH).equals("DATE")
+                    || columnTypeName.toUpperCase(Locale.ENGLISH).equals("TIME")
+                    || columnTypeName.toUpperCase(Locale.ENGLISH).indexOf("DATETIME") != -1
+                    || columnTypeName.toUpperCase(Locale.ENGLISH).equals("TIMESTAMP")))
+            {
+               if (columnTypeName.toUpperCase(Locale.ENGLISH).equals("DATE"))
+                  columnClass = "java.sql.Date";
+               else if (columnTypeName.toUpperCase(Locale.ENGLISH).equals("TIME"))
+                  columnClass = "java.sql.Time";
+               else
+                  columnClass = "java.sql.Timestamp";
+
+               columnSQLType = Integer.valueOf(SQLQuery.getTypeof(dbConnection,
+                  "SELECT " + colNameString + " FROM " + schemaTableName + " LIMIT 1", colNameString));
+            }
+
+            columnHeadings.add(headingString);
+            columnNamesHashMap.put(headingString, colNameString);
+            columnClassHashMap.put(headingString, columnClass);
+            columnSQLTypeHashMap.put(headingString, columnSQLType);
+
+            // PostgreSQL defined types keep their case.
+            if (dataSourceType.equals(ConnectionManager.POSTGRESQL)
+                && columnClass.indexOf("Object") != -1
+                && !(columnTypeName.toUpperCase(Locale.ENGLISH).equals("CIDR")
+                     || columnTypeName.toUpperCase(Locale.ENGLISH).equals("INET")
+                     || columnTypeName.toUpperCase(Locale.ENGLISH).equals("MACADDR")
+                     || columnTypeName.toUpperCase(Locale.ENGLISH).equals("VARBIT")))
+               columnTypeNameHashMap.put(headingString, columnTypeName);
+            else
+               columnTypeNameHashMap.put(headingString, columnTypeName.toUpperCase(Locale.ENGLISH));
+
+            if (!dataSourceType.equals(ConnectionManager.MYSQL)
+                && !dataSourceType.equals(ConnectionManager.MARIADB)
+                && !dataSourceType.equals(ConnectionManager.ORACLE)
+                && tableMetaData.isAutoIncrement(i))
+               autoIncrementHashMap.put(headingString, colNameString);
+         }
+
+         // Foreign keys.
+
+         if (!dataSourceType.equals(ConnectionManager.MYSQL)
+             && !dataSourceType.equals(ConnectionManager.MARIADB))
+         {
+            rs = schemaMetadataCache.getImportedKeys(sqlTable, dbMetaData, catalogArgument,
+                                                     schemaArgument, tableArgument);
+            while (rs.next())
+            {
+               if (rs.getString("FKCOLUMN_NAME") != null
+                   && columnNamesHashMap.containsValue(rs.getString("FKCOLUMN_NAME"))
+                   && !primaryKeys.contains(rs.getString("FKCOLUMN_NAME")))
+                  primaryKeys.add(rs.getString("FKCOLUMN_NAME"));
+            }
+            rs.close();
+         }
+
+         // Oracle sequence, autoIncrement, fields.
+
+         if (dataSourceType.equals(ConnectionManager.ORACLE))
+         {
+            for (int i = 1; i < tableMetaData.getColumnCount() + 1; i++)
+            {
+               colNameString = tableMetaData.getColumnName(i);
+
+               rs = schemaMetadataCache.executeQuery(sqlTable, sqlStatement,
+                  "SELECT USER_IND_COLUMNS.INDEX_NAME FROM USER_IND_COLUMNS, "
+                  + "ALL_SEQUENCES WHERE USER_IND_COLUMNS.INDEX_NAME="
+                  + "ALL_SEQUENCES.SEQUENCE_NAME AND USER_IND_COLUMNS.TABLE_NAME='"
+                  + tableName + "' AND USER_IND_COLUMNS.COLUMN_NAME='" + colNameString + "'");
+
+               if (rs.next())
+                  autoIncrementHashMap.put(parseColumnNameField(colNameString), rs.getString("INDEX_NAME"));
+               rs.close();
+            }
+         }
+         rs = null;
+
+         // Keys must be columns of the table.
+         for (int i = primaryKeys.size() - 1; i >= 0; i--)
+         {
+            if (!columnNamesHashMap.containsValue(primaryKeys.get(i)))
+               primaryKeys.remove(i);
+         }
+      }
+      finally
+      {
+         try
+         {
+            if (rs != null)
+               rs.close();
+         }
+         finally
+         {
+            if (sqlStatement != null)
+               sqlStatement.close();
+         }
+      }
+   }
+
+   //==============================================================
+   // Class method to obtain the probe query of the table used by
+   // the data source's TableTabPanel for the column metadata.
+   //==============================================================
+
+   private String getProbeSQL()
+   {
+      if (dataSourceType.indexOf(ConnectionManager.HSQL) != -1)
+         return "SELECT LIMIT 0 1 * FROM " + schemaTableName;
+      else if (dataSourceType.equals(ConnectionManager.ORACLE))
+         return "SELECT * FROM " + schemaTableName + " WHERE ROWNUM=1";
+      else if (dataSourceType.equals(ConnectionManager.MSACCESS))
+         return "SELECT * FROM " + schemaTableName;
+      else if (dataSourceType.equals(ConnectionManager.MSSQL))
+         return "SELECT TOP 1 * FROM " + schemaTableName;
+      else if (dataSourceType.equals(ConnectionManager.DERBY))
+         return "SELECT * FROM " + schemaTableName + " FETCH FIRST ROW ONLY";
+      else
+         return "SELECT * FROM " + schemaTableName + " LIMIT 1";
+   }
+
+   //==============================================================
+   // Class method to obtain the index information of an Oracle
+   // table. Views have none.
+   //==============================================================
+
+   private ResultSet getOracleIndexInfo(SchemaMetadataCache schemaMetadataCache,
+                                        DatabaseMetaData dbMetaData, String databaseName,
+                                        String schemaName, String tableName) throws SQLException
+   {
+      // Method Instances
+      ResultSet rs;
+      boolean isView;
+
+      rs = dbMetaData.getTables(databaseName, schemaName, tableName, null);
+
+      try
+      {
+         isView = !rs.next() || rs.getString("TABLE_TYPE").equals("VIEW");
+      }
+      finally
+      {
+         rs.close();
+      }
+
+      if (isView)
+         return null;
+
+      return schemaMetadataCache.getIndexInfo(sqlTable, dbMetaData, databaseName,
+                                              (identifierQuoteString + schemaName + identifierQuoteString),
+                                              (identifierQuoteString + tableName + identifierQuoteString),
+                                              false, false);
+   }
+
+   //==============================================================
+   // Class method to parse the table's column name fields, as in
+   // TableTabPanel, into the column headings.
+   //==============================================================
+
+   private String parseColumnNameField(String columnString)
+   {
+      // Method Instances.
+      StringTokenizer field;
+      StringBuffer columnName;
+
+      columnName = new StringBuffer();
+
+      // Multiple word name.
+      if (columnString.indexOf('_') != -1)
+      {
+         field = new StringTokenizer(columnString, "_");
+
+         while (field.hasMoreTokens())
+         {
+            if (field.countTokens() > 1)
+               columnName.append(firstLetterToUpperCase(field.nextToken()) + " ");
+            else
+               columnName.append(firstLetterToUpperCase(field.nextToken()));
+         }
+         columnString = columnName.toString();
+      }
+
+      // Single word name.
+      else
+         columnString = firstLetterToUpperCase(columnString);
+
+      return columnString;
+   }
+
+   //==============================================================
+   // Class method to convert the first letter of the input string
+   // to uppercase.
+   //==============================================================
+
+   private String firstLetterToUpperCase(String capitalizeString)
+   {
+      if (capitalizeString.length() != 0)
+         return capitalizeString.substring(0, 1).toUpperCase(Ajqvue.getLocale())
+                + capitalizeString.substring(1);
+      else
+         return capitalizeString;
+   }
+
+   //==============================================================
+   // Class methods to allow classes to obtain the column headings,
+   // in table order, & the characteristics keyed by heading.
+   //==============================================================
+
+   public ArrayList<String> getColumnHeadings()
+   {
+      return columnHeadings;
+   }
+
+   public HashMap<String, String> getColumnNamesHashMap()
+   {
+      return columnNamesHashMap;
+   }
+
+   public HashMap<String, String> getColumnClassHashMap()
+   {
+      return columnClassHashMap;
+   }
+
+   public HashMap<String, Integer> getColumnSQLTypeHashMap()
+   {
+      return columnSQLTypeHashMap;
+   }
+
+   public HashMap<String, String> getColumnTypeNameHashMap()
+   {
+      return columnTypeNameHashMap;
+   }
+
+   //==============================================================
+   // Class method to allow classes to obtain the auto increment
+   // fields, column names or Oracle sequences, keyed by heading.
+   //==============================================================
+
+   public HashMap<String, String> getAutoIncrementHashMap()
+   {
+      return autoIncrementHashMap;
+   }
+
+   //==============================================================
+   // Class method to allow classes to obtain the key columns, the
+   // primary keys, indexes, & foreign keys, as in TableTabPanel.
+   //==============================================================
+
+   public ArrayList<String> getPrimaryKeys()
+   {
+      return primaryKeys;
+   }
+}
@@ -9,7 +9,7 @@
 //
 //=================================================================
 // Copyright (C) 2016-2018 Dana M. Proctor
-// Version 1.8 05/29/2018
+// Version 1.9 10/18/2026
 //
 // This program is free software; you can redistribute it and/or
 // modify it under the terms of the GNU General Public License
@@ -45,6 +45,8 @@
 //         1.7 Method createHSQLTableDefinition() Added, Corrected, BIT Field
 //             Definition to Include columnSize.
 //         1.8 Moved to utilities.db Package.
+//         1.9 Added Class Instance schemaMetadataCache. Table Probe &
+//             DatabaseMetaData Calls Through SchemaMetadataCache.
 //             
 //-----------------------------------------------------------------
 //                    danap@dandymadeproductions.com
@@ -67,6 +69,7 @@ import java.util.Set;
 import com.dandymadeproductions.ajqvue.Ajqvue;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionManager;
 import com.dandymadeproductions.ajqvue.datasource.ConnectionProperties;
+import com.dandymadeproductions.ajqvue.datasource.SchemaMetadataCache;
 import com.dandymadeproductions.ajqvue.gui.panels.DBTablesPanel;
 import com.dandymadeproductions.ajqvue.structures.DataExportProperties;
 
@@ -76,7 +79,7 @@ import com.dandymadeproductions.ajqvue.structures.DataExportProperties;
  * structures that output via the SQL data export feature.
  * 
  * @author Dana Proctor
- * @version 1.8 05/29/2018
+ * @version 1.9 10/18/2026
  */
 
 public class TableDefinitionGenerator
@@ -87,6 +90,7 @@ public class TableDefinitionGenerator
    private String dbIdentifierQuoteString;
    private String identifierQuoteString;
    private DataExportProperties sqlDataExportOptions;
+   private SchemaMetadataCache schemaMetadataCache;
    private StringBuffer tableDefinition;
 
    //==============================================================
@@ -110,6 +114,7 @@ public class TableDefinitionGenerator
       dbIdentifierQuoteString = ConnectionManager.getIdentifierQuoteString();
       sqlDataExportOptions = DBTablesPanel.getDataExportProperties();
       identifierQuoteString = sqlDataExportOptions.getIdentifierQuoteString();
+      schemaMetadataCache = ConnectionManager.getSchemaMetadataCache();
       
       if (schemaTableName.indexOf(".") != -1)
       {
@@ -748,8 +753,8 @@ public class TableDefinitionGenerator
          // System.out.println(sqlStatementString);
 
          resultSet.close();
-         resultSet = sqlStatement.executeQuery(sqlStatementString);
-         tableMetaData = resultSet.getMetaData();
+         tableMetaData = schemaMetadataCache.getTableMetaData(schemaTableName, sqlStatement,
+                                                              sqlStatementString);
          
          // Fix for HSQLDB 2.x
          catalogName = tableMetaData.getCatalogName(1);
@@ -759,9 +764,9 @@ public class TableDefinitionGenerator
                catalogName = null;
 
          resultSet.close();
-         resultSet = dbMetaData.getColumns(catalogName,
-                                           tableMetaData.getSchemaName(1),
-                                           tableMetaData.getTableName(1), "%");
+         resultSet = schemaMetadataCache.getColumns(schemaTableName, dbMetaData, catalogName,
+                                                    tableMetaData.getSchemaName(1),
+                                                    tableMetaData.getTableName(1), "%");
 
          // Obtain IDENTITY column if there is one and at
          // the same time precision information for TIME &
@@ -993,9 +998,9 @@ public class TableDefinitionGenerator
 
          // Primary Keys
          resultSet.close();
-         resultSet = dbMetaData.getPrimaryKeys(catalogName,
-                                               tableMetaData.getSchemaName(1),
-                                               tableMetaData.getTableName(1));
+         resultSet = schemaMetadataCache.getPrimaryKeys(schemaTableName, dbMetaData, catalogName,
+                                                        tableMetaData.getSchemaName(1),
+                                                        tableMetaData.getTableName(1));
          while (resultSet.next())
          {
             columnName = resultSet.getString("COLUMN_NAME");
@@ -1006,9 +1011,9 @@ public class TableDefinitionGenerator
 
          // Unique Keys
          resultSet.close();
-         resultSet = dbMetaData.getIndexInfo(catalogName,
-                                             tableMetaData.getSchemaName(1),
-                                             tableMetaData.getTableName(1), true, false);
+         resultSet = schemaMetadataCache.getIndexInfo(schemaTableName, dbMetaData, catalogName,
+                                                      tableMetaData.getSchemaName(1),
+                                                      tableMetaData.getTableName(1), true, false);
          while (resultSet.next())
          {
             columnName = resultSet.getString("COLUMN_NAME");
@@ -1031,9 +1036,9 @@ public class TableDefinitionGenerator
 
          // Foreign Keys
          resultSet.close();
-         resultSet = dbMetaData.getImportedKeys(catalogName,
-                                                tableMetaData.getSchemaName(1),
-                                                tableMetaData.getTableName(1));
+         resultSet = schemaMetadataCache.getImportedKeys(schemaTableName, dbMetaData, catalogName,
+                                                         tableMetaData.getSchemaName(1),
+                                                         tableMetaData.getTableName(1));
          while (resultSet.next())
          {
             columnName = resultSet.getString("FKCOLUMN_NAME");
@@ -1183,8 +1188,8 @@ public class TableDefinitionGenerator
          sqlStatementString = "SELECT * FROM " + schemaTableName + " WHERE ROWNUM=1";
          // System.out.println(sqlStatementString);
          
-         resultSet = sqlStatement.executeQuery(sqlStatementString);
-         tableMetaData = resultSet.getMetaData();
+         tableMetaData = schemaMetadataCache.getTableMetaData(schemaTableName, sqlStatement,
+                                                              sqlStatementString);
 
          sequenceKeyPresent = "";
          autoIncrementColumnNameHashMap = new HashMap <String, String>();
@@ -1226,7 +1231,8 @@ public class TableDefinitionGenerator
          // Column name, data type, default, and isNullable.
 
          resultSet.close();
-         resultSet = dbMetaData.getColumns(databaseName, schemaName, tableName, "%");
+         resultSet = schemaMetadataCache.getColumns(schemaTableName, dbMetaData, databaseName,
+                                                    schemaName, tableName, "%");
          
          // System.out.println("Collecting Column Field Definitions");
 
@@ -1376,7 +1382,8 @@ public class TableDefinitionGenerator
 
          // Primary Keys
          resultSet.close();
-         resultSet = dbMetaData.getPrimaryKeys(databaseName, schemaName, tableName);
+         resultSet = schemaMetadataCache.getPrimaryKeys(schemaTableName, dbMetaData, databaseName,
+                                                        schemaName, tableName);
          
          // System.out.println("Collecting Primary Keys Definitions");
 
@@ -1392,10 +1399,11 @@ public class TableDefinitionGenerator
          // Unique Keys
          // Clueless why needs quotes?
          resultSet.close();
-         resultSet = dbMetaData.getIndexInfo(databaseName, dbIdentifierQuoteString
-                                             + schemaName + dbIdentifierQuoteString,
-                                             dbIdentifierQuoteString + tableName
-                                             + dbIdentifierQuoteString, false, false);
+         resultSet = schemaMetadataCache.getIndexInfo(schemaTableName, dbMetaData, databaseName,
+                                                      dbIdentifierQuoteString + schemaName
+                                                      + dbIdentifierQuoteString,
+                                                      dbIdentifierQuoteString + tableName
+                                                      + dbIdentifierQuoteString, false, false);
          
          // System.out.println("Collecting Unique Keys Definitions");
 
@@ -1428,7 +1436,8 @@ public class TableDefinitionGenerator
          // The Oracle database is having considerable delay right here
          // with collecting the imported keys.
          resultSet.close();
-         resultSet = dbMetaData.getImportedKeys(databaseName, schemaName, tableName);
+         resultSet = schemaMetadataCache.getImportedKeys(schemaTableName, dbMetaData, databaseName,
+                                                         schemaName, tableName);
          
          // System.out.println("Collecting Unique Keys Definitions");
          
@@ -1439,7 +1448,8 @@ public class TableDefinitionGenerator
          while (resultSet.next())
             foreignKeysCount++;
          
-         resultSet = dbMetaData.getImportedKeys(databaseName, schemaName, tableName);
+         resultSet = schemaMetadataCache.getImportedKeys(schemaTableName, dbMetaData, databaseName,
+                                                         schemaName, tableName);
         
          int i = 0;
          while (resultSet.next())
@@ -1813,10 +1823,11 @@ public class TableDefinitionGenerator
          sqlStatementString = "SELECT TOP 1 * FROM " + schemaTableName;
 
          resultSet.close();
-         resultSet = sqlStatement.executeQuery(sqlStatementString);
-         tableMetaData = resultSet.getMetaData();
+         tableMetaData = schemaMetadataCache.getTableMetaData(schemaTableName, sqlStatement,
+                                                              sqlStatementString);
          
-         resultSet = dbMetaData.getColumns(databaseName, schemaName, tableName, "%");
+         resultSet = schemaMetadataCache.getColumns(schemaTableName, dbMetaData, databaseName,
+                                                    schemaName, tableName, "%");
          
          // Obtain IDENTITY column if there is one.
          
@@ -1983,7 +1994,8 @@ public class TableDefinitionGenerator
 
          // Primary Keys
          resultSet.close();
-         resultSet = dbMetaData.getPrimaryKeys(databaseName, schemaName, tableName);
+         resultSet = schemaMetadataCache.getPrimaryKeys(schemaTableName, dbMetaData, databaseName,
+                                                        schemaName, tableName);
          
          while (resultSet.next())
          {
@@ -1993,7 +2005,8 @@ public class TableDefinitionGenerator
 
          // Unique Keys
          resultSet.close();
-         resultSet = dbMetaData.getIndexInfo(databaseName, schemaName, tableName, true, false);
+         resultSet = schemaMetadataCache.getIndexInfo(schemaTableName, dbMetaData, databaseName,
+                                                      schemaName, tableName, true, false);
          
          while (resultSet.next())
          {
@@ -2020,7 +2033,8 @@ public class TableDefinitionGenerator
          
          // Foreign Keys
          resultSet.close();
-         resultSet = dbMetaData.getImportedKeys(databaseName, schemaName, tableName);
+         resultSet = schemaMetadataCache.getImportedKeys(schemaTableName, dbMetaData, databaseName,
+                                                         schemaName, tableName);
          
          while (resultSet.next())
          {
@@ -2201,12 +2215,14 @@ public class TableDefinitionGenerator
          // System.out.println(sqlStatementString);
 
          resultSet.close();
-         resultSet = sqlStatement.executeQuery(sqlStatementString);
-         tableMetaData = resultSet.getMetaData();
+         tableMetaData = schemaMetadataCache.getTableMetaData(schemaTableName, sqlStatement,
+                                                              sqlStatementString);
          resultSet.close();
          
-         resultSet = dbMetaData.getColumns(tableMetaData.getCatalogName(1), tableMetaData.getSchemaName(1),
-                                           tableMetaData.getTableName(1), "%");
+         resultSet = schemaMetadataCache.getColumns(schemaTableName, dbMetaData,
+                                                    tableMetaData.getCatalogName(1),
+                                                    tableMetaData.getSchemaName(1),
+                                                    tableMetaData.getTableName(1), "%");
 
          // Obtain IDENTITY column if there is one and at
          // the same time increment and precision information.
@@ -2369,9 +2385,10 @@ public class TableDefinitionGenerator
          onDeleteRule = "";
 
          // Primary Keys
-         resultSet = dbMetaData.getPrimaryKeys(tableMetaData.getCatalogName(1),
-                                               tableMetaData.getSchemaName(1),
-                                               tableMetaData.getTableName(1));
+         resultSet = schemaMetadataCache.getPrimaryKeys(schemaTableName, dbMetaData,
+                                                        tableMetaData.getCatalogName(1),
+                                                        tableMetaData.getSchemaName(1),
+                                                        tableMetaData.getTableName(1));
          while (resultSet.next())
          {
             columnName = resultSet.getString("COLUMN_NAME");
@@ -2380,9 +2397,10 @@ public class TableDefinitionGenerator
          resultSet.close();
 
          // Unique Keys
-         resultSet = dbMetaData.getIndexInfo(tableMetaData.getCatalogName(1),
-                                             tableMetaData.getSchemaName(1),
-                                             tableMetaData.getTableName(1), true, false);
+         resultSet = schemaMetadataCache.getIndexInfo(schemaTableName, dbMetaData,
+                                                      tableMetaData.getCatalogName(1),
+                                                      tableMetaData.getSchemaName(1),
+                                                      tableMetaData.getTableName(1), true, false);
          while (resultSet.next())
          {
             columnName = resultSet.getString("COLUMN_NAME");
@@ -2405,9 +2423,10 @@ public class TableDefinitionGenerator
 
          // Foreign Keys
          resultSet.close();
-         resultSet = dbMetaData.getImportedKeys(tableMetaData.getCatalogName(1),
-                                                tableMetaData.getSchemaName(1),
-                                                tableMetaData.getTableName(1));
+         resultSet = schemaMetadataCache.getImportedKeys(schemaTableName, dbMetaData,
+                                                         tableMetaData.getCatalogName(1),
+                                                         tableMetaData.getSchemaName(1),
+                                                         tableMetaData.getTableName(1));
          
          while (resultSet.next())
          {
@@ -2559,12 +2578,13 @@ public class TableDefinitionGenerator
          // System.out.println(sqlStatementString);
 
          resultSet.close();
-         resultSet = sqlStatement.executeQuery(sqlStatementString);
-         tableMetaData = resultSet.getMetaData();
+         tableMetaData = schemaMetadataCache.getTableMetaData(schemaTableName, sqlStatement,
+                                                              sqlStatementString);
          
-         resultSet = dbMetaData.getColumns(tableMetaData.getCatalogName(1),
-                                           tableMetaData.getSchemaName(1),
-                                           tableMetaData.getTableName(1), "%");
+         resultSet = schemaMetadataCache.getColumns(schemaTableName, dbMetaData,
+                                                    tableMetaData.getCatalogName(1),
+                                                    tableMetaData.getSchemaName(1),
+                                                    tableMetaData.getTableName(1), "%");
 
          // Obtain IDENTITY column if there is one.
          
@@ -2696,9 +2716,10 @@ public class TableDefinitionGenerator
 
          // Primary Keys
          resultSet.close();
-         resultSet = dbMetaData.getPrimaryKeys(tableMetaData.getCatalogName(1),
-                                               tableMetaData.getSchemaName(1),
-                                               tableMetaData.getTableName(1));
+         resultSet = schemaMetadataCache.getPrimaryKeys(schemaTableName, dbMetaData,
+                                                        tableMetaData.getCatalogName(1),
+                                                        tableMetaData.getSchemaName(1),
+                                                        tableMetaData.getTableName(1));
          while (resultSet.next())
          {
             columnName = resultSet.getString("COLUMN_NAME");
@@ -2707,9 +2728,10 @@ public class TableDefinitionGenerator
 
          // Unique Keys
          resultSet.close();
-         resultSet = dbMetaData.getIndexInfo(tableMetaData.getCatalogName(1),
-                                             tableMetaData.getSchemaName(1),
-                                             tableMetaData.getTableName(1), true, false);
+         resultSet = schemaMetadataCache.getIndexInfo(schemaTableName, dbMetaData,
+                                                      tableMetaData.getCatalogName(1),
+                                                      tableMetaData.getSchemaName(1),
+                                                      tableMetaData.getTableName(1), true, false);
          while (resultSet.next())
          {
             columnName = resultSet.getString("COLUMN_NAME");
@@ -2732,9 +2754,10 @@ public class TableDefinitionGenerator
 
          // Foreign Keys
          resultSet.close();
-         resultSet = dbMetaData.getImportedKeys(tableMetaData.getCatalogName(1),
-                                                tableMetaData.getSchemaName(1),
-                                                tableMetaData.getTableName(1));
+         resultSet = schemaMetadataCache.getImportedKeys(schemaTableName, dbMetaData,
+                                                         tableMetaData.getCatalogName(1),
+                                                         tableMetaData.getSchemaName(1),
+                                                         tableMetaData.getTableName(1));
          while (resultSet.next())
          {
             columnName = resultSet.getString("FKCOLUMN_NAME");
@@ -0,0 +1,100 @@
+//=================================================================
+//                       ConnectionEvent
+//=================================================================
+//
+//    This class provides the Flight Recorder event for the getting
+// & closing of a database connection.
+//
+//                 << ConnectionEvent.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial ConnectionEvent Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ *    The ConnectionEvent class provides the Flight Recorder event for the
+ * getting & closing of a database connection by the ConnectionManager,
+ * or a ConnectionInstance, its duration the wait for the pool or the
+ * driver.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+@Name("ajqvue.Connection")
+@Label("Connection")
+@Category({FlightRecording.CATEGORY, "Database"})
+@Description("Get or close of a database connection")
+@StackTrace(false)
+public class ConnectionEvent extends Event
+{
+   // Class Instances.
+   @Label("Operation")
+   private String operation;
+
+   @Label("Description")
+   private String description;
+
+   @Label("Database")
+   private String database;
+
+   @Label("Pooled")
+   private boolean pooled;
+
+   public static final String GET = "get";
+   public static final String CLOSE = "close";
+
+   //==============================================================
+   // ConnectionEvent Constructor
+   //==============================================================
+
+   public ConnectionEvent(String operation, String description, String database)
+   {
+      this.operation = operation;
+      this.description = description;
+      this.database = database;
+   }
+
+   //==============================================================
+   // Class method to set whether the connection was from a pool.
+   //==============================================================
+
+   public void setPooled(boolean pooled)
+   {
+      this.pooled = pooled;
+   }
+}
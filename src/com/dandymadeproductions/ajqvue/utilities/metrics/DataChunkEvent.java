@@ -0,0 +1,100 @@
+//=================================================================
+//                       DataChunkEvent
+//=================================================================
+//
+//    This class provides the Flight Recorder event for the writing
+// or reading of a chunk of data by a dump or import thread.
+//
+//                  << DataChunkEvent.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial DataChunkEvent Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ *    The DataChunkEvent class provides the Flight Recorder event for a
+ * chunk of data of a dump or import thread, the write of a dump's
+ * buffered content or the execution of an import's batch. The operation
+ * is that of the thread's ThroughputMeter, the rows & bytes as known to
+ * the chunk.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+@Name("ajqvue.DataChunk")
+@Label("Data Chunk")
+@Category({FlightRecording.CATEGORY, "IO"})
+@Description("Write of a dump chunk or execution of an import batch")
+@StackTrace(false)
+public class DataChunkEvent extends Event
+{
+   // Class Instances.
+   @Label("Operation")
+   private String operation;
+
+   @Label("Name")
+   private String name;
+
+   @Label("Rows")
+   private long rows;
+
+   @Label("Bytes")
+   @DataAmount(DataAmount.BYTES)
+   private long bytes;
+
+   //==============================================================
+   // DataChunkEvent Constructor
+   //==============================================================
+
+   public DataChunkEvent(String operation, String name)
+   {
+      this.operation = operation;
+      this.name = name;
+   }
+
+   //==============================================================
+   // Class method to set the rows & bytes of the chunk.
+   //==============================================================
+
+   public void setChunk(long rows, long bytes)
+   {
+      this.rows = rows;
+      this.bytes = bytes;
+   }
+}
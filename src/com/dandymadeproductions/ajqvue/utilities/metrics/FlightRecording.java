@@ -0,0 +1,170 @@
+//=================================================================
+//                       FlightRecording
+//=================================================================
+//
+//    This class provides the switch for the application's Java
+// Flight Recorder events & the optional starting of a recording
+// that is written to a file on exit.
+//
+//                   << FlightRecording.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial FlightRecording Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities.metrics;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.text.ParseException;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+/**
+ *    The FlightRecording class provides the switch for the application's
+ * Java Flight Recorder events, connections, table loads, queries, dump &
+ * import chunks, & transfer batches. The events are only created once
+ * enabled, by the -jfr startup argument, so the classes are never loaded
+ * on a runtime without the jdk.jfr module. The events are recorded by
+ * any recording, -XX:StartFlightRecording or jcmd JFR.start, or one may
+ * be started here with its file written on exit.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class FlightRecording
+{
+   // Class Instances.
+   private static volatile boolean enabled = false;
+   private static Recording recording;
+
+   public static final String CATEGORY = "Ajqvue";
+   public static final String DEFAULT_SETTINGS = "default";
+
+   //==============================================================
+   // FlightRecording Constructor
+   //==============================================================
+
+   private FlightRecording()
+   {
+      // Just a utility class, all methods static.
+   }
+
+   //==============================================================
+   // Class method to set the creation of the events, returning
+   // false if the Flight Recorder is not available.
+   //==============================================================
+
+   public static boolean setEnabled(boolean state)
+   {
+      if (state && !isAvailable())
+      {
+         System.err.println("FlightRecording setEnabled() Flight Recorder Not Available.");
+         enabled = false;
+      }
+      else
+         enabled = state;
+
+      return enabled;
+   }
+
+   //==============================================================
+   // Class method to return whether the events are to be created.
+   //==============================================================
+
+   public static boolean isEnabled()
+   {
+      return enabled;
+   }
+
+   //==============================================================
+   // Class method to determine if the runtime provides the Flight
+   // Recorder, the jdk.jfr module.
+   //==============================================================
+
+   public static boolean isAvailable()
+   {
+      try
+      {
+         Class.forName("jdk.jfr.FlightRecorder");
+         return FlightRecorder.isAvailable();
+      }
+      catch (ClassNotFoundException e)
+      {
+         return false;
+      }
+      catch (LinkageError e)
+      {
+         return false;
+      }
+   }
+
+   //==============================================================
+   // Class method to start a recording, with the given settings,
+   // of the events that is written to the given file on exit.
+   //==============================================================
+
+   public static synchronized boolean startRecording(String fileName, String settings)
+   {
+      if (!enabled || recording != null)
+         return false;
+
+      try
+      {
+         recording = new Recording(Configuration.getConfiguration(settings));
+         recording.setName("Ajqvue");
+         recording.setToDisk(true);
+         recording.setDumpOnExit(true);
+         recording.setDestination(Paths.get(fileName));
+         recording.start();
+         return true;
+      }
+      catch (IOException e)
+      {
+         System.err.println("FlightRecording startRecording() " + e.getMessage());
+      }
+      catch (ParseException e)
+      {
+         System.err.println("FlightRecording startRecording() " + e.getMessage());
+      }
+      catch (IllegalStateException e)
+      {
+         System.err.println("FlightRecording startRecording() " + e.getMessage());
+      }
+
+      if (recording != null)
+      {
+         recording.close();
+         recording = null;
+      }
+      return false;
+   }
+}
@@ -0,0 +1,95 @@
+//=================================================================
+//                      InsertBatchEvent
+//=================================================================
+//
+//    This class provides the Flight Recorder event for the execution
+// & commit of a batch of inserts by a transfer's insert thread.
+//
+//                 << InsertBatchEvent.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial InsertBatchEvent Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ *    The InsertBatchEvent class provides the Flight Recorder event for the
+ * execution or commit of a batch of inserts into a sink table by the
+ * SQLInsertPrepareThread of a database to database transfer.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+@Name("ajqvue.InsertBatch")
+@Label("Insert Batch")
+@Category({FlightRecording.CATEGORY, "Database"})
+@Description("Execution or commit of a transfer's insert batch")
+@StackTrace(false)
+public class InsertBatchEvent extends Event
+{
+   // Class Instances.
+   @Label("Operation")
+   private String operation;
+
+   @Label("Table")
+   private String table;
+
+   @Label("Rows")
+   private int rows;
+
+   public static final String EXECUTE_BATCH = "executeBatch";
+   public static final String COMMIT = "commit";
+
+   //==============================================================
+   // InsertBatchEvent Constructor
+   //==============================================================
+
+   public InsertBatchEvent(String operation, String table)
+   {
+      this.operation = operation;
+      this.table = table;
+   }
+
+   //==============================================================
+   // Class method to set the rows of the batch.
+   //==============================================================
+
+   public void setRows(int rows)
+   {
+      this.rows = rows;
+   }
+}
@@ -0,0 +1,239 @@
+//=================================================================
+//                       MetricsHistogram
+//=================================================================
+//
+//    This class provides a lock free histogram of recorded values,
+// latencies or sizes, with log-linear buckets in the manner of a
+// HdrHistogram so percentiles may be reported in fixed memory.
+//
+//                  << MetricsHistogram.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial MetricsHistogram Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *    The MetricsHistogram class provides a lock free histogram of
+ * recorded values, latencies or sizes, with log-linear buckets in the
+ * manner of a HdrHistogram. Each power of two range is divided into
+ * 32 sub-buckets so a reported percentile is within about 3% of the
+ * recorded value, in fixed memory whatever the number of recordings.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class MetricsHistogram
+{
+   // Class Instances.
+   private String unit;
+   private AtomicLongArray buckets;
+   private LongAdder count;
+   private LongAdder sum;
+   private AtomicLong max;
+
+   public static final String TIME = "ms";
+   public static final String COUNT = "count";
+
+   private static final int SUB_BUCKET_BITS = 5;
+   private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+   private static final int MAX_EXPONENT = 43;
+   private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+   //==============================================================
+   // MetricsHistogram Constructor. The unit TIME records values in
+   // nanoseconds that are reported as milliseconds.
+   //==============================================================
+
+   public MetricsHistogram(String unit)
+   {
+      this.unit = unit;
+
+      buckets = new AtomicLongArray((MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT);
+      count = new LongAdder();
+      sum = new LongAdder();
+      max = new AtomicLong(0);
+   }
+
+   //==============================================================
+   // Class method to record a value, clamped to the range of the
+   // histogram.
+   //==============================================================
+
+   public void record(long value)
+   {
+      // Method Instances
+      long currentMax;
+
+      if (value < 0)
+         value = 0;
+      else if (value > MAX_VALUE)
+         value = MAX_VALUE;
+
+      buckets.incrementAndGet(getBucketIndex(value));
+      count.increment();
+      sum.add(value);
+
+      while (value > (currentMax = max.get()))
+      {
+         if (max.compareAndSet(currentMax, value))
+            break;
+      }
+   }
+
+   //==============================================================
+   // Class methods to map a value to its bucket & a bucket to the
+   // highest value it holds. Values below the sub-bucket count
+   // have a bucket each, above the top bits select the bucket.
+   //==============================================================
+
+   private static int getBucketIndex(long value)
+   {
+      // Method Instances
+      int exponent;
+
+      if (value < SUB_BUCKET_COUNT)
+         return (int) value;
+
+      exponent = 63 - Long.numberOfLeadingZeros(value);
+
+      return ((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT)
+             + (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+   }
+
+   private static long getBucketValue(int index)
+   {
+      // Method Instances
+      int shift;
+
+      if (index < SUB_BUCKET_COUNT)
+         return index;
+
+      shift = (index / SUB_BUCKET_COUNT) - 1;
+
+      return ((SUB_BUCKET_COUNT + (index % SUB_BUCKET_COUNT) + 1L) << shift) - 1;
+   }
+
+   //==============================================================
+   // Class method to return the value at the given percentile,
+   // 0 - 100, the highest value of its bucket limited to the
+   // maximum recorded.
+   //==============================================================
+
+   public long getPercentile(double percentile)
+   {
+      // Method Instances
+      long[] counts;
+      long total, target, accumulated;
+
+      counts = new long[buckets.length()];
+      total = 0;
+
+      for (int i = 0; i < counts.length; i++)
+      {
+         counts[i] = buckets.get(i);
+         total += counts[i];
+      }
+
+      if (total == 0)
+         return 0;
+
+      target = Math.max(1, (long) Math.ceil((Math.min(100.0, Math.max(0.0, percentile)) / 100.0) * total));
+      accumulated = 0;
+
+      for (int i = 0; i < counts.length; i++)
+      {
+         accumulated += counts[i];
+
+         if (accumulated >= target)
+            return Math.min(getBucketValue(i), max.get());
+      }
+      return max.get();
+   }
+
+   //==============================================================
+   // Class method to clear the histogram.
+   //==============================================================
+
+   public void reset()
+   {
+      for (int i = 0; i < buckets.length(); i++)
+         buckets.set(i, 0);
+
+      count.reset();
+      sum.reset();
+      max.set(0);
+   }
+
+   //==============================================================
+   // Class method to convert a recorded value to the reported unit.
+   //==============================================================
+
+   public double scale(double value)
+   {
+      if (unit.equals(TIME))
+         return value / 1000000.0;
+      else
+         return value;
+   }
+
+   //==============================================================
+   // Class methods to get the recorded summary values.
+   //==============================================================
+
+   public String getUnit()
+   {
+      return unit;
+   }
+
+   public long getCount()
+   {
+      return count.sum();
+   }
+
+   public double getMean()
+   {
+      // Method Instances
+      long currentCount;
+
+      currentCount = count.sum();
+
+      return (currentCount == 0) ? 0 : ((double) sum.sum() / currentCount);
+   }
+
+   public long getMax()
+   {
+      return max.get();
+   }
+}
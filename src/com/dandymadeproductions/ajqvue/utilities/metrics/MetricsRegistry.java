@@ -0,0 +1,480 @@
+//=================================================================
+//                       MetricsRegistry
+//=================================================================
+//
+//    This class provides the collection point for the operational
+// metrics of the application, counters, gauges, histograms, and
+// throughput meters, that are viewed in the PerformancePanel and
+// may be exported as JSON or CSV.
+//
+//                   << MetricsRegistry.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial MetricsRegistry Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities.metrics;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *    The MetricsRegistry class provides the collection point for the
+ * operational metrics of the application. Counters are LongAdders and
+ * histograms are lock free, so recording from the data paths does not
+ * contend, gauges are read only as the metrics are collected. The
+ * recent throughput meters of the dump, import, & transfer threads are
+ * retained for their rates.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class MetricsRegistry
+{
+   // Class Instances.
+   private static final ConcurrentHashMap<String, LongAdder> counters =
+                        new ConcurrentHashMap <String, LongAdder>();
+   private static final ConcurrentHashMap<String, MetricsHistogram> histograms =
+                        new ConcurrentHashMap <String, MetricsHistogram>();
+   private static final ConcurrentHashMap<String, MetricsGauge> gauges =
+                        new ConcurrentHashMap <String, MetricsGauge>();
+   private static final ConcurrentLinkedDeque<ThroughputMeter> throughputMeters =
+                        new ConcurrentLinkedDeque <ThroughputMeter>();
+   private static volatile long resetTime = System.currentTimeMillis();
+
+   public static final String CONNECTION_ACQUIRE = "connection.acquire";
+   public static final String CONNECTION_CREATED = "connection.created";
+   public static final String CONNECTION_REUSED = "connection.reused";
+   public static final String CONNECTION_TIMEOUT = "connection.timeout";
+   public static final String CONNECTION_POOL = "connection.pool.";
+   public static final String QUERY_TABLE = "query.table.";
+   public static final String QUERY_PANEL = "query.panel.";
+   public static final String TRANSFER_QUEUE_DEPTH = "transfer.queue.depth";
+
+   public static final String DUMP_SQL = "dump.sql";
+   public static final String DUMP_SQL_DATABASE = "dump.sql.database";
+   public static final String DUMP_CSV = "dump.csv";
+   public static final String IMPORT_SQL = "import.sql";
+   public static final String IMPORT_CSV = "import.csv";
+   public static final String TRANSFER = "transfer";
+
+   public static final String[] HEADINGS = {"Type", "Name", "Unit", "Count", "Value", "Mean", "P50",
+                                            "P90", "P99", "Max", "Rows/s", "Bytes/s", "Time (ms)"};
+
+   private static final int THROUGHPUT_HISTORY = 100;
+
+   //==============================================================
+   // Class methods to get, creating as needed, the named counter
+   // & histogram.
+   //==============================================================
+
+   public static LongAdder getCounter(String name)
+   {
+      // Method Instances
+      LongAdder counter;
+      LongAdder existing;
+
+      counter = counters.get(name);
+
+      if (counter == null)
+      {
+         counter = new LongAdder();
+         existing = counters.putIfAbsent(name, counter);
+
+         if (existing != null)
+            counter = existing;
+      }
+      return counter;
+   }
+
+   public static MetricsHistogram getHistogram(String name, String unit)
+   {
+      // Method Instances
+      MetricsHistogram histogram;
+      MetricsHistogram existing;
+
+      histogram = histograms.get(name);
+
+      if (histogram == null)
+      {
+         histogram = new MetricsHistogram(unit);
+         existing = histograms.putIfAbsent(name, histogram);
+
+         if (existing != null)
+            histogram = existing;
+      }
+      return histogram;
+   }
+
+   //==============================================================
+   // Class methods to record a time in nanoseconds, or a value,
+   // to the named histogram.
+   //==============================================================
+
+   public static void recordTime(String name, long nanoseconds)
+   {
+      getHistogram(name, MetricsHistogram.TIME).record(nanoseconds);
+   }
+
+   public static void recordValue(String name, long value)
+   {
+      getHistogram(name, MetricsHistogram.COUNT).record(value);
+   }
+
+   //==============================================================
+   // Class methods to register & unregister a gauge. A gauge is
+   // only removed by the owner that registered it.
+   //==============================================================
+
+   public static void registerGauge(String name, MetricsGauge gauge)
+   {
+      gauges.put(name, gauge);
+   }
+
+   public static void unregisterGauge(String name, MetricsGauge gauge)
+   {
+      gauges.remove(name, gauge);
+   }
+
+   //==============================================================
+   // Class method to start a throughput meter for a run of the
+   // given operation. The oldest finished meters are dropped
+   // beyond the retained history.
+   //==============================================================
+
+   public static ThroughputMeter startThroughput(String operation, String name)
+   {
+      // Method Instances
+      ThroughputMeter throughputMeter;
+      Iterator<ThroughputMeter> metersIterator;
+
+      throughputMeter = new ThroughputMeter(operation, name, getCounter(operation + ".rows"),
+                                            getCounter(operation + ".bytes"));
+      throughputMeters.addLast(throughputMeter);
+
+      if (throughputMeters.size() > THROUGHPUT_HISTORY)
+      {
+         metersIterator = throughputMeters.iterator();
+
+         while (metersIterator.hasNext() && throughputMeters.size() > THROUGHPUT_HISTORY)
+         {
+            if (!metersIterator.next().isActive())
+               metersIterator.remove();
+         }
+      }
+      return throughputMeter;
+   }
+
+   //==============================================================
+   // Class method to clear the counters, histograms, & finished
+   // throughput meters. Gauges are current values so are kept.
+   //==============================================================
+
+   public static void reset()
+   {
+      // Method Instances
+      Iterator<ThroughputMeter> metersIterator;
+
+      for (LongAdder counter : counters.values())
+         counter.reset();
+
+      for (MetricsHistogram histogram : histograms.values())
+         histogram.reset();
+
+      metersIterator = throughputMeters.iterator();
+
+      while (metersIterator.hasNext())
+      {
+         if (!metersIterator.next().isActive())
+            metersIterator.remove();
+      }
+      resetTime = System.currentTimeMillis();
+   }
+
+   //==============================================================
+   // Class method to collect the current metrics as rows of the
+   // HEADINGS columns, ordered by type & name.
+   //==============================================================
+
+   public static ArrayList<String[]> getSnapshot()
+   {
+      // Method Instances
+      ArrayList<String[]> snapshot;
+      MetricsHistogram histogram;
+      String[] row;
+
+      snapshot = new ArrayList <String[]>();
+
+      for (Map.Entry<String, LongAdder> entry : new TreeMap <String, LongAdder>(counters).entrySet())
+      {
+         row = createRow("Counter", entry.getKey());
+         row[3] = Long.toString(entry.getValue().sum());
+         snapshot.add(row);
+      }
+
+      for (Map.Entry<String, MetricsGauge> entry : new TreeMap <String, MetricsGauge>(gauges).entrySet())
+      {
+         row = createRow("Gauge", entry.getKey());
+         row[4] = Long.toString(entry.getValue().getValue());
+         snapshot.add(row);
+      }
+
+      for (Map.Entry<String, MetricsHistogram> entry :
+              new TreeMap <String, MetricsHistogram>(histograms).entrySet())
+      {
+         histogram = entry.getValue();
+         row = createRow("Histogram", entry.getKey());
+         row[2] = histogram.getUnit();
+         row[3] = Long.toString(histogram.getCount());
+         row[5] = format(histogram.scale(histogram.getMean()), 3);
+         row[6] = format(histogram.scale(histogram.getPercentile(50)), 3);
+         row[7] = format(histogram.scale(histogram.getPercentile(90)), 3);
+         row[8] = format(histogram.scale(histogram.getPercentile(99)), 3);
+         row[9] = format(histogram.scale(histogram.getMax()), 3);
+         snapshot.add(row);
+      }
+
+      for (ThroughputMeter throughputMeter : throughputMeters)
+      {
+         row = createRow("Throughput", throughputMeter.getOperation() + " " + throughputMeter.getName());
+         row[2] = throughputMeter.isActive() ? "active" : "";
+         row[3] = Long.toString(throughputMeter.getRows());
+         row[4] = Long.toString(throughputMeter.getBytes());
+         row[10] = format(throughputMeter.getRowsPerSecond(), 1);
+         row[11] = format(throughputMeter.getBytesPerSecond(), 1);
+         row[12] = Long.toString(throughputMeter.getElapsedTime());
+         snapshot.add(row);
+      }
+      return snapshot;
+   }
+
+   private static String[] createRow(String type, String name)
+   {
+      // Method Instances
+      String[] row;
+
+      row = new String[HEADINGS.length];
+
+      for (int i = 0; i < row.length; i++)
+         row[i] = "";
+
+      row[0] = type;
+      row[1] = name;
+      return row;
+   }
+
+   private static String format(double value, int decimals)
+   {
+      return String.format(Locale.ENGLISH, "%." + decimals + "f", Double.valueOf(value));
+   }
+
+   //==============================================================
+   // Class method to export the current metrics to the given file,
+   // JSON for a .json extension, otherwise CSV.
+   //==============================================================
+
+   public static void export(File file) throws IOException
+   {
+      // Method Instances
+      Writer writer;
+
+      writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+
+      try
+      {
+         if (file.getName().toLowerCase(Locale.ENGLISH).endsWith(".json"))
+            exportJSON(writer);
+         else
+            exportCSV(writer);
+      }
+      finally
+      {
+         writer.close();
+      }
+   }
+
+   //==============================================================
+   // Class method to write the current metrics as CSV, the snapshot
+   // rows under the HEADINGS.
+   //==============================================================
+
+   public static void exportCSV(Writer writer) throws IOException
+   {
+      // Method Instances
+      ArrayList<String[]> snapshot;
+      String[] row;
+
+      writeCSVRow(writer, HEADINGS);
+      snapshot = getSnapshot();
+
+      for (int i = 0; i < snapshot.size(); i++)
+      {
+         row = snapshot.get(i);
+         writeCSVRow(writer, row);
+      }
+      writer.flush();
+   }
+
+   private static void writeCSVRow(Writer writer, String[] row) throws IOException
+   {
+      for (int i = 0; i < row.length; i++)
+      {
+         if (i != 0)
+            writer.write(',');
+
+         if (row[i].indexOf(',') != -1 || row[i].indexOf('"') != -1 || row[i].indexOf('\n') != -1)
+            writer.write("\"" + row[i].replace("\"", "\"\"") + "\"");
+         else
+            writer.write(row[i]);
+      }
+      writer.write("\n");
+   }
+
+   //==============================================================
+   // Class method to write the current metrics as a JSON object of
+   // counters, gauges, histograms, & throughput, times in ms.
+   //==============================================================
+
+   public static void exportJSON(Writer writer) throws IOException
+   {
+      // Method Instances
+      SimpleDateFormat dateFormat;
+      MetricsHistogram histogram;
+      String separator;
+
+      dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ", Locale.ENGLISH);
+
+      writer.write("{\n");
+      writer.write("  \"time\": " + jsonString(dateFormat.format(new Date())) + ",\n");
+      writer.write("  \"since\": " + jsonString(dateFormat.format(new Date(resetTime))) + ",\n");
+
+      // Counters & Gauges
+      writer.write("  \"counters\": {");
+      separator = "\n";
+
+      for (Map.Entry<String, LongAdder> entry : new TreeMap <String, LongAdder>(counters).entrySet())
+      {
+         writer.write(separator + "    " + jsonString(entry.getKey()) + ": " + entry.getValue().sum());
+         separator = ",\n";
+      }
+      writer.write("\n  },\n");
+
+      writer.write("  \"gauges\": {");
+      separator = "\n";
+
+      for (Map.Entry<String, MetricsGauge> entry : new TreeMap <String, MetricsGauge>(gauges).entrySet())
+      {
+         writer.write(separator + "    " + jsonString(entry.getKey()) + ": " + entry.getValue().getValue());
+         separator = ",\n";
+      }
+      writer.write("\n  },\n");
+
+      // Histograms
+      writer.write("  \"histograms\": {");
+      separator = "\n";
+
+      for (Map.Entry<String, MetricsHistogram> entry :
+              new TreeMap <String, MetricsHistogram>(histograms).entrySet())
+      {
+         histogram = entry.getValue();
+
+         writer.write(separator + "    " + jsonString(entry.getKey()) + ": {"
+                      + "\"unit\": " + jsonString(histogram.getUnit())
+                      + ", \"count\": " + histogram.getCount()
+                      + ", \"mean\": " + format(histogram.scale(histogram.getMean()), 3)
+                      + ", \"p50\": " + format(histogram.scale(histogram.getPercentile(50)), 3)
+                      + ", \"p90\": " + format(histogram.scale(histogram.getPercentile(90)), 3)
+                      + ", \"p99\": " + format(histogram.scale(histogram.getPercentile(99)), 3)
+                      + ", \"p999\": " + format(histogram.scale(histogram.getPercentile(99.9)), 3)
+                      + ", \"max\": " + format(histogram.scale(histogram.getMax()), 3) + "}");
+         separator = ",\n";
+      }
+      writer.write("\n  },\n");
+
+      // Throughput
+      writer.write("  \"throughput\": [");
+      separator = "\n";
+
+      for (ThroughputMeter throughputMeter : throughputMeters)
+      {
+         writer.write(separator + "    {\"operation\": " + jsonString(throughputMeter.getOperation())
+                      + ", \"name\": " + jsonString(throughputMeter.getName())
+                      + ", \"active\": " + throughputMeter.isActive()
+                      + ", \"rows\": " + throughputMeter.getRows()
+                      + ", \"bytes\": " + throughputMeter.getBytes()
+                      + ", \"time\": " + throughputMeter.getElapsedTime()
+                      + ", \"rowsPerSecond\": " + format(throughputMeter.getRowsPerSecond(), 1)
+                      + ", \"bytesPerSecond\": " + format(throughputMeter.getBytesPerSecond(), 1) + "}");
+         separator = ",\n";
+      }
+      writer.write("\n  ]\n");
+      writer.write("}\n");
+      writer.flush();
+   }
+
+   private static String jsonString(String value)
+   {
+      // Method Instances
+      StringBuilder jsonString;
+      char c;
+
+      if (value == null)
+         return "null";
+
+      jsonString = new StringBuilder(value.length() + 2);
+      jsonString.append('"');
+
+      for (int i = 0; i < value.length(); i++)
+      {
+         c = value.charAt(i);
+
+         if (c == '"' || c == '\\')
+            jsonString.append('\\').append(c);
+         else if (c < 0x20)
+            jsonString.append(String.format(Locale.ENGLISH, "\\u%04x", Integer.valueOf(c)));
+         else
+            jsonString.append(c);
+      }
+      return jsonString.append('"').toString();
+   }
+}
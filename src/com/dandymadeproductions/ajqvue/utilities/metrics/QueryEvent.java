@@ -0,0 +1,93 @@
+//=================================================================
+//                         QueryEvent
+//=================================================================
+//
+//    This class provides the Flight Recorder event for the execution
+// of a query by the SQLQuery class.
+//
+//                    << QueryEvent.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial QueryEvent Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ *    The QueryEvent class provides the Flight Recorder event for the
+ * execution of a query by the SQLQuery class, its statement & result,
+ * -1 invalid, 0 update or no results, 1 results, with the number of
+ * result columns.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+@Name("ajqvue.Query")
+@Label("Query")
+@Category({FlightRecording.CATEGORY, "Database"})
+@Description("Execution of a SQL query")
+@StackTrace(false)
+public class QueryEvent extends Event
+{
+   // Class Instances.
+   @Label("SQL")
+   private String sql;
+
+   @Label("Result")
+   private int result;
+
+   @Label("Columns")
+   private int columns;
+
+   //==============================================================
+   // QueryEvent Constructor
+   //==============================================================
+
+   public QueryEvent(String sql)
+   {
+      this.sql = sql;
+   }
+
+   //==============================================================
+   // Class method to set the query's result & columns.
+   //==============================================================
+
+   public void setResult(int result, int columns)
+   {
+      this.result = result;
+      this.columns = columns;
+   }
+}
@@ -0,0 +1,98 @@
+//=================================================================
+//                       TableLoadEvent
+//=================================================================
+//
+//    This class provides the Flight Recorder event for the loading
+// of a page of a table's data into a TableTabPanel.
+//
+//                  << TableLoadEvent.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial TableLoadEvent Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ *    The TableLoadEvent class provides the Flight Recorder event for the
+ * loading of a page of a table's data into a TableTabPanel, the query &
+ * the conversion of the rows for the summary table.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+@Name("ajqvue.TableLoad")
+@Label("Table Load")
+@Category({FlightRecording.CATEGORY, "Database"})
+@Description("Load of a page of a table into its panel")
+@StackTrace(false)
+public class TableLoadEvent extends Event
+{
+   // Class Instances.
+   @Label("Table")
+   private String table;
+
+   @Label("Panel")
+   private String panel;
+
+   @Label("Rows")
+   private int rows;
+
+   @Label("Bytes")
+   @DataAmount(DataAmount.BYTES)
+   private long bytes;
+
+   //==============================================================
+   // TableLoadEvent Constructor
+   //==============================================================
+
+   public TableLoadEvent(String table, String panel)
+   {
+      this.table = table;
+      this.panel = panel;
+   }
+
+   //==============================================================
+   // Class method to set the rows loaded & their approximate size.
+   //==============================================================
+
+   public void setLoaded(int rows, long bytes)
+   {
+      this.rows = rows;
+      this.bytes = bytes;
+   }
+}
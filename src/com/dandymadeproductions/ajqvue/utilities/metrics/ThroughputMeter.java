@@ -0,0 +1,173 @@
+//=================================================================
+//                       ThroughputMeter
+//=================================================================
+//
+//    This class provides the tracking of the rows & bytes processed
+// by a single run of a dump, import, or transfer thread so its
+// rates may be reported while active & once finished.
+//
+//                   << ThroughputMeter.java >>
+//
+//=================================================================
+// Copyright (C) 2016-2018 Dana M. Proctor
+// Version 1.0 10/18/2026
+//
+// This program is free software; you can redistribute it and/or
+// modify it under the terms of the GNU General Public License
+// as published by the Free Software Foundation; either version
+// 2 of the License, or (at your option) any later version. This
+// program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty
+// of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See
+// the GNU General Public License for more details. You should
+// have received a copy of the GNU General Public License along
+// with this program; if not, write to the Free Software Foundation,
+// Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+// (http://opensource.org)
+//
+//=================================================================
+// Revision History
+// Changes to the code should be documented here and reflected
+// in the present version number. Author information should
+// also be included with the original copyright author.
+//=================================================================
+// Version 1.0 10/18/2026 Initial ThroughputMeter Class.
+//
+//-----------------------------------------------------------------
+//                 danap@dandymadeproductions.com
+//=================================================================
+
+package com.dandymadeproductions.ajqvue.utilities.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *    The ThroughputMeter class provides the tracking of the rows and
+ * bytes processed by a single run of a dump, import, or transfer thread.
+ * Meters are obtained from the MetricsRegistry, which also totals the
+ * rows & bytes of each operation, and may be shared by the workers of
+ * a run.
+ *
+ * @author Dana M. Proctor
+ * @version 1.0 10/18/2026
+ */
+
+public class ThroughputMeter
+{
+   // Class Instances.
+   private String operation;
+   private String name;
+   private LongAdder rows;
+   private LongAdder bytes;
+   private LongAdder totalRows;
+   private LongAdder totalBytes;
+   private long startTime;
+   private volatile long endTime;
+
+   //==============================================================
+   // ThroughputMeter Constructor.
+   //==============================================================
+
+   protected ThroughputMeter(String operation, String name, LongAdder totalRows, LongAdder totalBytes)
+   {
+      this.operation = operation;
+      this.name = name;
+      this.totalRows = totalRows;
+      this.totalBytes = totalBytes;
+
+      rows = new LongAdder();
+      bytes = new LongAdder();
+      startTime = System.nanoTime();
+      endTime = 0;
+   }
+
+   //==============================================================
+   // Class methods to add the rows & bytes processed.
+   //==============================================================
+
+   public void addRows(long count)
+   {
+      rows.add(count);
+      totalRows.add(count);
+   }
+
+   public void addBytes(long count)
+   {
+      bytes.add(count);
+      totalBytes.add(count);
+   }
+
+   //==============================================================
+   // Class method to mark the run complete, only the first call
+   // taking effect.
+   //==============================================================
+
+   public synchronized void finish()
+   {
+      if (endTime == 0)
+         endTime = System.nanoTime();
+   }
+
+   //==============================================================
+   // Class methods to get the meter's values, rates per second
+   // taken over the elapsed time to now while active.
+   //==============================================================
+
+   public String getOperation()
+   {
+      return operation;
+   }
+
+   public String getName()
+   {
+      return name;
+   }
+
+   public long getRows()
+   {
+      return rows.sum();
+   }
+
+   public long getBytes()
+   {
+      return bytes.sum();
+   }
+
+   public boolean isActive()
+   {
+      return endTime == 0;
+   }
+
+   public long getElapsedTime()
+   {
+      // Method Instances
+      long currentEndTime;
+
+      currentEndTime = endTime;
+
+      if (currentEndTime == 0)
+         currentEndTime = System.nanoTime();
+
+      return (currentEndTime - startTime) / 1000000;
+   }
+
+   public double getRowsPerSecond()
+   {
+      return perSecond(rows.sum());
+   }
+
+   public double getBytesPerSecond()
+   {
+      return perSecond(bytes.sum());
+   }
+
+   private double perSecond(long count)
+   {
+      // Method Instances
+      long elapsedTime;
+
+      elapsedTime = getElapsedTime();
+
+      return (elapsedTime > 0) ? (count * 1000.0 / elapsedTime) : count;
+   }
+}